@@ -0,0 +1,8 @@
+#!/bin/bash
+# Sandbox-only build helper (not part of the repo).
+export JAVA_HOME=/root/.sdkman/candidates/java/8.0.392-tem PATH=/root/.sdkman/candidates/java/8.0.392-tem/bin:$PATH
+cd /root/project
+ant -f ant-out/build-nokt.xml "${@:-compile}" > /tmp/ant.log 2>&1
+echo "ant exit $?"
+grep "ERROR in" /tmp/ant.log | sed 's/.*ERROR in \([^ ]*\).*/\1/' | sort | uniq -c
+grep -n "BUILD" /tmp/ant.log
@@ -0,0 +1,808 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.core.description.arg.BuildRuleArg;
+import com.facebook.buck.core.description.arg.ConstructorArg;
+import com.facebook.buck.core.description.arg.HasDeclaredDeps;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AndroidInstrumentationApkDescriptionArg.builder()}.
+ */
+@Generated(from = "AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class AndroidInstrumentationApkDescriptionArg
+    implements AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg {
+  private final @Nullable SourcePath manifest;
+  private final @Nullable SourcePath manifestSkeleton;
+  private final BuildTarget apk;
+  private final AaptMode aaptMode;
+  private final boolean includesVectorDrawables;
+  private final String dexTool;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+  private final ImmutableList<UnconfiguredBuildTarget> compatibleWith;
+  private final String name;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private AndroidInstrumentationApkDescriptionArg(AndroidInstrumentationApkDescriptionArg.Builder builder) {
+    this.manifest = builder.manifest;
+    this.manifestSkeleton = builder.manifestSkeleton;
+    this.apk = builder.apk;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.defaultTargetPlatform = builder.defaultTargetPlatform;
+    this.compatibleWith = builder.compatibleWith.build();
+    this.name = builder.name;
+    this.deps = builder.deps.build();
+    if (builder.aaptMode != null) {
+      initShim.setAaptMode(builder.aaptMode);
+    }
+    if (builder.includesVectorDrawablesIsSet()) {
+      initShim.setIncludesVectorDrawables(builder.includesVectorDrawables);
+    }
+    if (builder.dexTool != null) {
+      initShim.setDexTool(builder.dexTool);
+    }
+    this.aaptMode = initShim.getAaptMode();
+    this.includesVectorDrawables = initShim.getIncludesVectorDrawables();
+    this.dexTool = initShim.getDexTool();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg", generator = "Immutables")
+  private final class InitShim {
+    private byte aaptModeBuildStage = STAGE_UNINITIALIZED;
+    private AaptMode aaptMode;
+
+    AaptMode getAaptMode() {
+      if (aaptModeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (aaptModeBuildStage == STAGE_UNINITIALIZED) {
+        aaptModeBuildStage = STAGE_INITIALIZING;
+        this.aaptMode = Objects.requireNonNull(getAaptModeInitialize(), "aaptMode");
+        aaptModeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.aaptMode;
+    }
+
+    void setAaptMode(AaptMode aaptMode) {
+      this.aaptMode = aaptMode;
+      aaptModeBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte includesVectorDrawablesBuildStage = STAGE_UNINITIALIZED;
+    private boolean includesVectorDrawables;
+
+    boolean getIncludesVectorDrawables() {
+      if (includesVectorDrawablesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (includesVectorDrawablesBuildStage == STAGE_UNINITIALIZED) {
+        includesVectorDrawablesBuildStage = STAGE_INITIALIZING;
+        this.includesVectorDrawables = getIncludesVectorDrawablesInitialize();
+        includesVectorDrawablesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.includesVectorDrawables;
+    }
+
+    void setIncludesVectorDrawables(boolean includesVectorDrawables) {
+      this.includesVectorDrawables = includesVectorDrawables;
+      includesVectorDrawablesBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte dexToolBuildStage = STAGE_UNINITIALIZED;
+    private String dexTool;
+
+    String getDexTool() {
+      if (dexToolBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (dexToolBuildStage == STAGE_UNINITIALIZED) {
+        dexToolBuildStage = STAGE_INITIALIZING;
+        this.dexTool = Objects.requireNonNull(getDexToolInitialize(), "dexTool");
+        dexToolBuildStage = STAGE_INITIALIZED;
+      }
+      return this.dexTool;
+    }
+
+    void setDexTool(String dexTool) {
+      this.dexTool = dexTool;
+      dexToolBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (aaptModeBuildStage == STAGE_INITIALIZING) attributes.add("aaptMode");
+      if (includesVectorDrawablesBuildStage == STAGE_INITIALIZING) attributes.add("includesVectorDrawables");
+      if (dexToolBuildStage == STAGE_INITIALIZING) attributes.add("dexTool");
+      return "Cannot build AndroidInstrumentationApkDescriptionArg, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  private AaptMode getAaptModeInitialize() {
+    return AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg.super.getAaptMode();
+  }
+
+  private boolean getIncludesVectorDrawablesInitialize() {
+    return AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg.super.getIncludesVectorDrawables();
+  }
+
+  private String getDexToolInitialize() {
+    return AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg.super.getDexTool();
+  }
+
+  /**
+   * @return The value of the {@code manifest} attribute
+   */
+  @Override
+  public Optional<SourcePath> getManifest() {
+    return Optional.ofNullable(manifest);
+  }
+
+  /**
+   * @return The value of the {@code manifestSkeleton} attribute
+   */
+  @Override
+  public Optional<SourcePath> getManifestSkeleton() {
+    return Optional.ofNullable(manifestSkeleton);
+  }
+
+  /**
+   * @return The value of the {@code apk} attribute
+   */
+  @Override
+  public BuildTarget getApk() {
+    return apk;
+  }
+
+  /**
+   * @return The value of the {@code aaptMode} attribute
+   */
+  @Override
+  public AaptMode getAaptMode() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getAaptMode()
+        : this.aaptMode;
+  }
+
+  /**
+   * @return The value of the {@code includesVectorDrawables} attribute
+   */
+  @Override
+  public boolean getIncludesVectorDrawables() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getIncludesVectorDrawables()
+        : this.includesVectorDrawables;
+  }
+
+  /**
+   * @return The value of the {@code dexTool} attribute
+   */
+  @Override
+  public String getDexTool() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getDexTool()
+        : this.dexTool;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * The name of build target default "new" platform: it is used when a platform is not specified
+   * either globally or in a target which used this target as a dependency.
+   * <p>The value is a build target, but we specify it as string, because this function is not
+   * actually called, but the attr is fetched by name from the raw (unconfigured) target node.
+   */
+  @Override
+  public Optional<UnconfiguredBuildTarget> getDefaultTargetPlatform() {
+    return Optional.ofNullable(defaultTargetPlatform);
+  }
+
+  /**
+   *A list of {@code config_setting} a target is compatible with. 
+   */
+  @Override
+  public ImmutableList<UnconfiguredBuildTarget> getCompatibleWith() {
+    return compatibleWith;
+  }
+
+  /**
+   *Each rule has a name 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidInstrumentationApkDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidInstrumentationApkDescriptionArg
+        && equalTo((AndroidInstrumentationApkDescriptionArg) another);
+  }
+
+  private boolean equalTo(AndroidInstrumentationApkDescriptionArg another) {
+    return Objects.equals(manifest, another.manifest)
+        && Objects.equals(manifestSkeleton, another.manifestSkeleton)
+        && apk.equals(another.apk)
+        && aaptMode.equals(another.aaptMode)
+        && includesVectorDrawables == another.includesVectorDrawables
+        && dexTool.equals(another.dexTool)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && Objects.equals(defaultTargetPlatform, another.defaultTargetPlatform)
+        && compatibleWith.equals(another.compatibleWith)
+        && name.equals(another.name)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code manifest}, {@code manifestSkeleton}, {@code apk}, {@code aaptMode}, {@code includesVectorDrawables}, {@code dexTool}, {@code licenses}, {@code labels}, {@code defaultTargetPlatform}, {@code compatibleWith}, {@code name}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(manifest);
+    h += (h << 5) + Objects.hashCode(manifestSkeleton);
+    h += (h << 5) + apk.hashCode();
+    h += (h << 5) + aaptMode.hashCode();
+    h += (h << 5) + Booleans.hashCode(includesVectorDrawables);
+    h += (h << 5) + dexTool.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultTargetPlatform);
+    h += (h << 5) + compatibleWith.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidInstrumentationApkDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidInstrumentationApkDescriptionArg")
+        .omitNullValues()
+        .add("manifest", manifest)
+        .add("manifestSkeleton", manifestSkeleton)
+        .add("apk", apk)
+        .add("aaptMode", aaptMode)
+        .add("includesVectorDrawables", includesVectorDrawables)
+        .add("dexTool", dexTool)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("defaultTargetPlatform", defaultTargetPlatform)
+        .add("compatibleWith", compatibleWith)
+        .add("name", name)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidInstrumentationApkDescriptionArg AndroidInstrumentationApkDescriptionArg}.
+   * @return A new AndroidInstrumentationApkDescriptionArg builder
+   */
+  public static AndroidInstrumentationApkDescriptionArg.Builder builder() {
+    return new AndroidInstrumentationApkDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidInstrumentationApkDescriptionArg AndroidInstrumentationApkDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_APK = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private static final long OPT_BIT_INCLUDES_VECTOR_DRAWABLES = 0x1L;
+    private long initBits = 0x3L;
+    private long optBits;
+
+    private @Nullable SourcePath manifest;
+    private @Nullable SourcePath manifestSkeleton;
+    private @Nullable BuildTarget apk;
+    private @Nullable AaptMode aaptMode;
+    private boolean includesVectorDrawables;
+    private @Nullable String dexTool;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+    private ImmutableList.Builder<UnconfiguredBuildTarget> compatibleWith = ImmutableList.builder();
+    private @Nullable String name;
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.BuildRuleArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuildRuleArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidInstrumentationApkDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AndroidInstrumentationApkDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidInstrumentationApkDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.ConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+      if (object instanceof BuildRuleArg) {
+        BuildRuleArg instance = (BuildRuleArg) object;
+        addAllLicenses(instance.getLicenses());
+        addAllCompatibleWith(instance.getCompatibleWith());
+        addAllLabels(instance.getLabels());
+        Optional<UnconfiguredBuildTarget> defaultTargetPlatformOptional = instance.getDefaultTargetPlatform();
+        if (defaultTargetPlatformOptional.isPresent()) {
+          setDefaultTargetPlatform(defaultTargetPlatformOptional);
+        }
+      }
+      if (object instanceof AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg) {
+        AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg instance = (AndroidInstrumentationApkDescription.AbstractAndroidInstrumentationApkDescriptionArg) object;
+        setIncludesVectorDrawables(instance.getIncludesVectorDrawables());
+        setAaptMode(instance.getAaptMode());
+        setDexTool(instance.getDexTool());
+        setApk(instance.getApk());
+        Optional<SourcePath> manifestOptional = instance.getManifest();
+        if (manifestOptional.isPresent()) {
+          setManifest(manifestOptional);
+        }
+        Optional<SourcePath> manifestSkeletonOptional = instance.getManifestSkeleton();
+        if (manifestSkeletonOptional.isPresent()) {
+          setManifestSkeleton(manifestSkeletonOptional);
+        }
+      }
+      if (object instanceof ConstructorArg) {
+        ConstructorArg instance = (ConstructorArg) object;
+        setName(instance.getName());
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationApkDescriptionArg#getManifest() manifest} to manifest.
+     * @param manifest The value for manifest
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifest(SourcePath manifest) {
+      this.manifest = Objects.requireNonNull(manifest, "manifest");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationApkDescriptionArg#getManifest() manifest} to manifest.
+     * @param manifest The value for manifest
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifest(Optional<? extends SourcePath> manifest) {
+      this.manifest = manifest.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationApkDescriptionArg#getManifestSkeleton() manifestSkeleton} to manifestSkeleton.
+     * @param manifestSkeleton The value for manifestSkeleton
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifestSkeleton(SourcePath manifestSkeleton) {
+      this.manifestSkeleton = Objects.requireNonNull(manifestSkeleton, "manifestSkeleton");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationApkDescriptionArg#getManifestSkeleton() manifestSkeleton} to manifestSkeleton.
+     * @param manifestSkeleton The value for manifestSkeleton
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifestSkeleton(Optional<? extends SourcePath> manifestSkeleton) {
+      this.manifestSkeleton = manifestSkeleton.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationApkDescriptionArg#getApk() apk} attribute.
+     * @param apk The value for apk 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApk(BuildTarget apk) {
+      this.apk = Objects.requireNonNull(apk, "apk");
+      initBits &= ~INIT_BIT_APK;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationApkDescriptionArg#getAaptMode() aaptMode} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidInstrumentationApkDescriptionArg#getAaptMode() aaptMode}.</em>
+     * @param aaptMode The value for aaptMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAaptMode(AaptMode aaptMode) {
+      this.aaptMode = Objects.requireNonNull(aaptMode, "aaptMode");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationApkDescriptionArg#getIncludesVectorDrawables() includesVectorDrawables} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidInstrumentationApkDescriptionArg#getIncludesVectorDrawables() includesVectorDrawables}.</em>
+     * @param includesVectorDrawables The value for includesVectorDrawables 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIncludesVectorDrawables(boolean includesVectorDrawables) {
+      this.includesVectorDrawables = includesVectorDrawables;
+      optBits |= OPT_BIT_INCLUDES_VECTOR_DRAWABLES;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationApkDescriptionArg#getDexTool() dexTool} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidInstrumentationApkDescriptionArg#getDexTool() dexTool}.</em>
+     * @param dexTool The value for dexTool 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDexTool(String dexTool) {
+      this.dexTool = Objects.requireNonNull(dexTool, "dexTool");
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidInstrumentationApkDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidInstrumentationApkDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidInstrumentationApkDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidInstrumentationApkDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidInstrumentationApkDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidInstrumentationApkDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidInstrumentationApkDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidInstrumentationApkDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationApkDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(UnconfiguredBuildTarget defaultTargetPlatform) {
+      this.defaultTargetPlatform = Objects.requireNonNull(defaultTargetPlatform, "defaultTargetPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationApkDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(Optional<? extends UnconfiguredBuildTarget> defaultTargetPlatform) {
+      this.defaultTargetPlatform = defaultTargetPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidInstrumentationApkDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param element A compatibleWith element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget element) {
+      this.compatibleWith.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidInstrumentationApkDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An array of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget... elements) {
+      this.compatibleWith.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidInstrumentationApkDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith = ImmutableList.builder();
+      return addAllCompatibleWith(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidInstrumentationApkDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationApkDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidInstrumentationApkDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidInstrumentationApkDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidInstrumentationApkDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidInstrumentationApkDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidInstrumentationApkDescriptionArg AndroidInstrumentationApkDescriptionArg}.
+     * @return An immutable instance of AndroidInstrumentationApkDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidInstrumentationApkDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AndroidInstrumentationApkDescriptionArg(this);
+    }
+
+    private boolean includesVectorDrawablesIsSet() {
+      return (optBits & OPT_BIT_INCLUDES_VECTOR_DRAWABLES) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_APK) != 0) attributes.add("apk");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build AndroidInstrumentationApkDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,257 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.android.apkmodule.APKModule;
+import com.facebook.buck.android.apkmodule.APKModuleGraph;
+import com.facebook.buck.android.packageable.AndroidPackageableCollection;
+import com.facebook.buck.core.rules.BuildRule;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AndroidAppModularityGraphEnhancementResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ImmutableAndroidAppModularityGraphEnhancementResult.builder()}.
+ */
+@Generated(from = "AndroidAppModularityGraphEnhancementResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAndroidAppModularityGraphEnhancementResult
+    extends AndroidAppModularityGraphEnhancementResult {
+  private final AndroidPackageableCollection packageableCollection;
+  private final @Nullable ImmutableMultimap<APKModule, String> modulesToSharedLibraries;
+  private final ImmutableSortedSet<BuildRule> finalDeps;
+  private final APKModuleGraph aPKModuleGraph;
+
+  private ImmutableAndroidAppModularityGraphEnhancementResult(ImmutableAndroidAppModularityGraphEnhancementResult.Builder builder) {
+    this.packageableCollection = builder.packageableCollection;
+    this.modulesToSharedLibraries = builder.modulesToSharedLibraries;
+    this.finalDeps = builder.finalDeps;
+    this.aPKModuleGraph = builder.aPKModuleGraph;
+  }
+
+  /**
+   * @return The value of the {@code packageableCollection} attribute
+   */
+  @Override
+  public AndroidPackageableCollection getPackageableCollection() {
+    return packageableCollection;
+  }
+
+  /**
+   * @return The value of the {@code modulesToSharedLibraries} attribute
+   */
+  @Override
+  public Optional<ImmutableMultimap<APKModule, String>> getModulesToSharedLibraries() {
+    return Optional.ofNullable(modulesToSharedLibraries);
+  }
+
+  /**
+   * @return The value of the {@code finalDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getFinalDeps() {
+    return finalDeps;
+  }
+
+  /**
+   * @return The value of the {@code aPKModuleGraph} attribute
+   */
+  @Override
+  public APKModuleGraph getAPKModuleGraph() {
+    return aPKModuleGraph;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAndroidAppModularityGraphEnhancementResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAndroidAppModularityGraphEnhancementResult
+        && equalTo((ImmutableAndroidAppModularityGraphEnhancementResult) another);
+  }
+
+  private boolean equalTo(ImmutableAndroidAppModularityGraphEnhancementResult another) {
+    return packageableCollection.equals(another.packageableCollection)
+        && Objects.equals(modulesToSharedLibraries, another.modulesToSharedLibraries)
+        && finalDeps.equals(another.finalDeps)
+        && aPKModuleGraph.equals(another.aPKModuleGraph);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code packageableCollection}, {@code modulesToSharedLibraries}, {@code finalDeps}, {@code aPKModuleGraph}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + packageableCollection.hashCode();
+    h += (h << 5) + Objects.hashCode(modulesToSharedLibraries);
+    h += (h << 5) + finalDeps.hashCode();
+    h += (h << 5) + aPKModuleGraph.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidAppModularityGraphEnhancementResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidAppModularityGraphEnhancementResult")
+        .omitNullValues()
+        .add("packageableCollection", packageableCollection)
+        .add("modulesToSharedLibraries", modulesToSharedLibraries)
+        .add("finalDeps", finalDeps)
+        .add("aPKModuleGraph", aPKModuleGraph)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidAppModularityGraphEnhancementResult AndroidAppModularityGraphEnhancementResult}.
+   * @return A new AndroidAppModularityGraphEnhancementResult builder
+   */
+  public static ImmutableAndroidAppModularityGraphEnhancementResult.Builder builder() {
+    return new ImmutableAndroidAppModularityGraphEnhancementResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidAppModularityGraphEnhancementResult AndroidAppModularityGraphEnhancementResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AndroidAppModularityGraphEnhancementResult", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PACKAGEABLE_COLLECTION = 0x1L;
+    private static final long INIT_BIT_FINAL_DEPS = 0x2L;
+    private static final long INIT_BIT_A_P_K_MODULE_GRAPH = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable AndroidPackageableCollection packageableCollection;
+    private @Nullable ImmutableMultimap<APKModule, String> modulesToSharedLibraries;
+    private @Nullable ImmutableSortedSet<BuildRule> finalDeps;
+    private @Nullable APKModuleGraph aPKModuleGraph;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidAppModularityGraphEnhancementResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AndroidAppModularityGraphEnhancementResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      setPackageableCollection(instance.getPackageableCollection());
+      Optional<ImmutableMultimap<APKModule, String>> modulesToSharedLibrariesOptional = instance.getModulesToSharedLibraries();
+      if (modulesToSharedLibrariesOptional.isPresent()) {
+        setModulesToSharedLibraries(modulesToSharedLibrariesOptional);
+      }
+      setFinalDeps(instance.getFinalDeps());
+      setAPKModuleGraph(instance.getAPKModuleGraph());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidAppModularityGraphEnhancementResult#getPackageableCollection() packageableCollection} attribute.
+     * @param packageableCollection The value for packageableCollection 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPackageableCollection(AndroidPackageableCollection packageableCollection) {
+      this.packageableCollection = Objects.requireNonNull(packageableCollection, "packageableCollection");
+      initBits &= ~INIT_BIT_PACKAGEABLE_COLLECTION;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAppModularityGraphEnhancementResult#getModulesToSharedLibraries() modulesToSharedLibraries} to modulesToSharedLibraries.
+     * @param modulesToSharedLibraries The value for modulesToSharedLibraries
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setModulesToSharedLibraries(ImmutableMultimap<APKModule, String> modulesToSharedLibraries) {
+      this.modulesToSharedLibraries = Objects.requireNonNull(modulesToSharedLibraries, "modulesToSharedLibraries");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAppModularityGraphEnhancementResult#getModulesToSharedLibraries() modulesToSharedLibraries} to modulesToSharedLibraries.
+     * @param modulesToSharedLibraries The value for modulesToSharedLibraries
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setModulesToSharedLibraries(Optional<? extends ImmutableMultimap<APKModule, String>> modulesToSharedLibraries) {
+      this.modulesToSharedLibraries = modulesToSharedLibraries.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidAppModularityGraphEnhancementResult#getFinalDeps() finalDeps} attribute.
+     * @param finalDeps The value for finalDeps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFinalDeps(ImmutableSortedSet<BuildRule> finalDeps) {
+      this.finalDeps = Objects.requireNonNull(finalDeps, "finalDeps");
+      initBits &= ~INIT_BIT_FINAL_DEPS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidAppModularityGraphEnhancementResult#getAPKModuleGraph() aPKModuleGraph} attribute.
+     * @param aPKModuleGraph The value for aPKModuleGraph 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAPKModuleGraph(APKModuleGraph aPKModuleGraph) {
+      this.aPKModuleGraph = Objects.requireNonNull(aPKModuleGraph, "aPKModuleGraph");
+      initBits &= ~INIT_BIT_A_P_K_MODULE_GRAPH;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidAppModularityGraphEnhancementResult AndroidAppModularityGraphEnhancementResult}.
+     * @return An immutable instance of AndroidAppModularityGraphEnhancementResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidAppModularityGraphEnhancementResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableAndroidAppModularityGraphEnhancementResult(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_PACKAGEABLE_COLLECTION) != 0) attributes.add("packageableCollection");
+      if ((initBits & INIT_BIT_FINAL_DEPS) != 0) attributes.add("finalDeps");
+      if ((initBits & INIT_BIT_A_P_K_MODULE_GRAPH) != 0) attributes.add("aPKModuleGraph");
+      return "Cannot build AndroidAppModularityGraphEnhancementResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.android.apkmodule.APKModule;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AndroidNativeLibsPackageableGraphEnhancer.AndroidNativeLibsGraphEnhancementResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableAndroidNativeLibsGraphEnhancementResult.of()}.
+ */
+@Generated(from = "AndroidNativeLibsPackageableGraphEnhancer.AndroidNativeLibsGraphEnhancementResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAndroidNativeLibsGraphEnhancementResult
+    implements AndroidNativeLibsPackageableGraphEnhancer.AndroidNativeLibsGraphEnhancementResult {
+  private final @Nullable ImmutableMap<APKModule, CopyNativeLibraries> copyNativeLibraries;
+  private final @Nullable ImmutableSortedSet<SourcePath> unstrippedLibraries;
+  private final @Nullable ImmutableSortedMap<String, String> sonameMergeMap;
+  private final @Nullable ImmutableSortedMap<String, ImmutableSortedSet<String>> sharedObjectTargets;
+  private final @Nullable CopyNativeLibraries copyNativeLibrariesForSystemLibraryLoader;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableAndroidNativeLibsGraphEnhancementResult(
+      Optional<? extends ImmutableMap<APKModule, CopyNativeLibraries>> copyNativeLibraries,
+      Optional<? extends ImmutableSortedSet<SourcePath>> unstrippedLibraries,
+      Optional<? extends ImmutableSortedMap<String, String>> sonameMergeMap,
+      Optional<? extends ImmutableSortedMap<String, ImmutableSortedSet<String>>> sharedObjectTargets,
+      Optional<? extends CopyNativeLibraries> copyNativeLibrariesForSystemLibraryLoader) {
+    this.copyNativeLibraries = copyNativeLibraries.orElse(null);
+    this.unstrippedLibraries = unstrippedLibraries.orElse(null);
+    this.sonameMergeMap = sonameMergeMap.orElse(null);
+    this.sharedObjectTargets = sharedObjectTargets.orElse(null);
+    this.copyNativeLibrariesForSystemLibraryLoader = copyNativeLibrariesForSystemLibraryLoader.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code copyNativeLibraries} attribute
+   */
+  @Override
+  public Optional<ImmutableMap<APKModule, CopyNativeLibraries>> getCopyNativeLibraries() {
+    return Optional.ofNullable(copyNativeLibraries);
+  }
+
+  /**
+   * @return The value of the {@code unstrippedLibraries} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedSet<SourcePath>> getUnstrippedLibraries() {
+    return Optional.ofNullable(unstrippedLibraries);
+  }
+
+  /**
+   * @return The value of the {@code sonameMergeMap} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedMap<String, String>> getSonameMergeMap() {
+    return Optional.ofNullable(sonameMergeMap);
+  }
+
+  /**
+   * @return The value of the {@code sharedObjectTargets} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedMap<String, ImmutableSortedSet<String>>> getSharedObjectTargets() {
+    return Optional.ofNullable(sharedObjectTargets);
+  }
+
+  /**
+   * @return The value of the {@code copyNativeLibrariesForSystemLibraryLoader} attribute
+   */
+  @Override
+  public Optional<CopyNativeLibraries> getCopyNativeLibrariesForSystemLibraryLoader() {
+    return Optional.ofNullable(copyNativeLibrariesForSystemLibraryLoader);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAndroidNativeLibsGraphEnhancementResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAndroidNativeLibsGraphEnhancementResult
+        && equalTo((ImmutableAndroidNativeLibsGraphEnhancementResult) another);
+  }
+
+  private boolean equalTo(ImmutableAndroidNativeLibsGraphEnhancementResult another) {
+    return Objects.equals(copyNativeLibraries, another.copyNativeLibraries)
+        && Objects.equals(unstrippedLibraries, another.unstrippedLibraries)
+        && Objects.equals(sonameMergeMap, another.sonameMergeMap)
+        && Objects.equals(sharedObjectTargets, another.sharedObjectTargets)
+        && Objects.equals(copyNativeLibrariesForSystemLibraryLoader, another.copyNativeLibrariesForSystemLibraryLoader);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code copyNativeLibraries}, {@code unstrippedLibraries}, {@code sonameMergeMap}, {@code sharedObjectTargets}, {@code copyNativeLibrariesForSystemLibraryLoader}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(copyNativeLibraries);
+    h += (h << 5) + Objects.hashCode(unstrippedLibraries);
+    h += (h << 5) + Objects.hashCode(sonameMergeMap);
+    h += (h << 5) + Objects.hashCode(sharedObjectTargets);
+    h += (h << 5) + Objects.hashCode(copyNativeLibrariesForSystemLibraryLoader);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidNativeLibsGraphEnhancementResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidNativeLibsGraphEnhancementResult")
+        .omitNullValues()
+        .add("copyNativeLibraries", copyNativeLibraries)
+        .add("unstrippedLibraries", unstrippedLibraries)
+        .add("sonameMergeMap", sonameMergeMap)
+        .add("sharedObjectTargets", sharedObjectTargets)
+        .add("copyNativeLibrariesForSystemLibraryLoader", copyNativeLibrariesForSystemLibraryLoader)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AndroidNativeLibsGraphEnhancementResult} instance.
+   * @param copyNativeLibraries The value for the {@code copyNativeLibraries} attribute
+   * @param unstrippedLibraries The value for the {@code unstrippedLibraries} attribute
+   * @param sonameMergeMap The value for the {@code sonameMergeMap} attribute
+   * @param sharedObjectTargets The value for the {@code sharedObjectTargets} attribute
+   * @param copyNativeLibrariesForSystemLibraryLoader The value for the {@code copyNativeLibrariesForSystemLibraryLoader} attribute
+   * @return An immutable AndroidNativeLibsGraphEnhancementResult instance
+   */
+  public static ImmutableAndroidNativeLibsGraphEnhancementResult of(Optional<? extends ImmutableMap<APKModule, CopyNativeLibraries>> copyNativeLibraries, Optional<? extends ImmutableSortedSet<SourcePath>> unstrippedLibraries, Optional<? extends ImmutableSortedMap<String, String>> sonameMergeMap, Optional<? extends ImmutableSortedMap<String, ImmutableSortedSet<String>>> sharedObjectTargets, Optional<? extends CopyNativeLibraries> copyNativeLibrariesForSystemLibraryLoader) {
+    return new ImmutableAndroidNativeLibsGraphEnhancementResult(copyNativeLibraries, unstrippedLibraries, sonameMergeMap, sharedObjectTargets, copyNativeLibrariesForSystemLibraryLoader);
+  }
+}
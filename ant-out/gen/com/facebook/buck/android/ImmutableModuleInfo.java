@@ -0,0 +1,534 @@
+package com.facebook.buck.android;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ModuleInfo}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ImmutableModuleInfo.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableModuleInfo.of()}.
+ */
+@Generated(from = "ModuleInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableModuleInfo extends ModuleInfo {
+  private final String moduleName;
+  private final @Nullable Path resourceApk;
+  private final ImmutableSet<Path> dexFile;
+  private final ImmutableMap<Path, String> assetDirectories;
+  private final ImmutableSet<Path> nativeLibraryDirectories;
+  private final ImmutableSet<Path> zipFiles;
+  private final ImmutableSet<Path> jarFilesThatMayContainResources;
+
+  private ImmutableModuleInfo(
+      String moduleName,
+      @Nullable Path resourceApk,
+      Iterable<? extends Path> dexFile,
+      Map<? extends Path, ? extends String> assetDirectories,
+      Iterable<? extends Path> nativeLibraryDirectories,
+      Iterable<? extends Path> zipFiles,
+      Iterable<? extends Path> jarFilesThatMayContainResources) {
+    this.moduleName = Objects.requireNonNull(moduleName, "moduleName");
+    this.resourceApk = resourceApk;
+    this.dexFile = ImmutableSet.copyOf(dexFile);
+    this.assetDirectories = ImmutableMap.copyOf(assetDirectories);
+    this.nativeLibraryDirectories = ImmutableSet.copyOf(nativeLibraryDirectories);
+    this.zipFiles = ImmutableSet.copyOf(zipFiles);
+    this.jarFilesThatMayContainResources = ImmutableSet.copyOf(jarFilesThatMayContainResources);
+  }
+
+  private ImmutableModuleInfo(ImmutableModuleInfo.Builder builder) {
+    this.moduleName = builder.moduleName;
+    this.resourceApk = builder.resourceApk;
+    this.dexFile = builder.dexFile.build();
+    this.assetDirectories = builder.assetDirectories.build();
+    this.nativeLibraryDirectories = builder.nativeLibraryDirectories.build();
+    this.zipFiles = builder.zipFiles.build();
+    this.jarFilesThatMayContainResources = builder.jarFilesThatMayContainResources.build();
+  }
+
+  /**
+   * @return The value of the {@code moduleName} attribute
+   */
+  @Override
+  public String getModuleName() {
+    return moduleName;
+  }
+
+  /**
+   * @return The value of the {@code resourceApk} attribute
+   */
+  @Override
+  public @Nullable Path getResourceApk() {
+    return resourceApk;
+  }
+
+  /**
+   * @return The value of the {@code dexFile} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getDexFile() {
+    return dexFile;
+  }
+
+  /**
+   * @return The value of the {@code assetDirectories} attribute
+   */
+  @Override
+  public ImmutableMap<Path, String> getAssetDirectories() {
+    return assetDirectories;
+  }
+
+  /**
+   * @return The value of the {@code nativeLibraryDirectories} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getNativeLibraryDirectories() {
+    return nativeLibraryDirectories;
+  }
+
+  /**
+   * @return The value of the {@code zipFiles} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getZipFiles() {
+    return zipFiles;
+  }
+
+  /**
+   * @return The value of the {@code jarFilesThatMayContainResources} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getJarFilesThatMayContainResources() {
+    return jarFilesThatMayContainResources;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableModuleInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableModuleInfo
+        && equalTo((ImmutableModuleInfo) another);
+  }
+
+  private boolean equalTo(ImmutableModuleInfo another) {
+    return moduleName.equals(another.moduleName)
+        && Objects.equals(resourceApk, another.resourceApk)
+        && dexFile.equals(another.dexFile)
+        && assetDirectories.equals(another.assetDirectories)
+        && nativeLibraryDirectories.equals(another.nativeLibraryDirectories)
+        && zipFiles.equals(another.zipFiles)
+        && jarFilesThatMayContainResources.equals(another.jarFilesThatMayContainResources);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code moduleName}, {@code resourceApk}, {@code dexFile}, {@code assetDirectories}, {@code nativeLibraryDirectories}, {@code zipFiles}, {@code jarFilesThatMayContainResources}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + moduleName.hashCode();
+    h += (h << 5) + Objects.hashCode(resourceApk);
+    h += (h << 5) + dexFile.hashCode();
+    h += (h << 5) + assetDirectories.hashCode();
+    h += (h << 5) + nativeLibraryDirectories.hashCode();
+    h += (h << 5) + zipFiles.hashCode();
+    h += (h << 5) + jarFilesThatMayContainResources.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ModuleInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ModuleInfo")
+        .omitNullValues()
+        .add("moduleName", moduleName)
+        .add("resourceApk", resourceApk)
+        .add("dexFile", dexFile)
+        .add("assetDirectories", assetDirectories)
+        .add("nativeLibraryDirectories", nativeLibraryDirectories)
+        .add("zipFiles", zipFiles)
+        .add("jarFilesThatMayContainResources", jarFilesThatMayContainResources)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ModuleInfo} instance.
+   * @param moduleName The value for the {@code moduleName} attribute
+   * @param resourceApk The value for the {@code resourceApk} attribute
+   * @param dexFile The value for the {@code dexFile} attribute
+   * @param assetDirectories The value for the {@code assetDirectories} attribute
+   * @param nativeLibraryDirectories The value for the {@code nativeLibraryDirectories} attribute
+   * @param zipFiles The value for the {@code zipFiles} attribute
+   * @param jarFilesThatMayContainResources The value for the {@code jarFilesThatMayContainResources} attribute
+   * @return An immutable ModuleInfo instance
+   */
+  public static ModuleInfo of(String moduleName, @Nullable Path resourceApk, ImmutableSet<Path> dexFile, ImmutableMap<Path, String> assetDirectories, ImmutableSet<Path> nativeLibraryDirectories, ImmutableSet<Path> zipFiles, ImmutableSet<Path> jarFilesThatMayContainResources) {
+    return of(moduleName, resourceApk, (Iterable<? extends Path>) dexFile, assetDirectories, (Iterable<? extends Path>) nativeLibraryDirectories, (Iterable<? extends Path>) zipFiles, (Iterable<? extends Path>) jarFilesThatMayContainResources);
+  }
+
+  /**
+   * Construct a new immutable {@code ModuleInfo} instance.
+   * @param moduleName The value for the {@code moduleName} attribute
+   * @param resourceApk The value for the {@code resourceApk} attribute
+   * @param dexFile The value for the {@code dexFile} attribute
+   * @param assetDirectories The value for the {@code assetDirectories} attribute
+   * @param nativeLibraryDirectories The value for the {@code nativeLibraryDirectories} attribute
+   * @param zipFiles The value for the {@code zipFiles} attribute
+   * @param jarFilesThatMayContainResources The value for the {@code jarFilesThatMayContainResources} attribute
+   * @return An immutable ModuleInfo instance
+   */
+  public static ModuleInfo of(String moduleName, @Nullable Path resourceApk, Iterable<? extends Path> dexFile, Map<? extends Path, ? extends String> assetDirectories, Iterable<? extends Path> nativeLibraryDirectories, Iterable<? extends Path> zipFiles, Iterable<? extends Path> jarFilesThatMayContainResources) {
+    return new ImmutableModuleInfo(moduleName, resourceApk, dexFile, assetDirectories, nativeLibraryDirectories, zipFiles, jarFilesThatMayContainResources);
+  }
+
+  /**
+   * Creates a builder for {@link ModuleInfo ModuleInfo}.
+   * @return A new ModuleInfo builder
+   */
+  public static ImmutableModuleInfo.Builder builder() {
+    return new ImmutableModuleInfo.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ModuleInfo ModuleInfo}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "ModuleInfo", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_MODULE_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String moduleName;
+    private @Nullable Path resourceApk;
+    private ImmutableSet.Builder<Path> dexFile = ImmutableSet.builder();
+    private ImmutableMap.Builder<Path, String> assetDirectories = ImmutableMap.builder();
+    private ImmutableSet.Builder<Path> nativeLibraryDirectories = ImmutableSet.builder();
+    private ImmutableSet.Builder<Path> zipFiles = ImmutableSet.builder();
+    private ImmutableSet.Builder<Path> jarFilesThatMayContainResources = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ModuleInfo} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ModuleInfo instance) {
+      Objects.requireNonNull(instance, "instance");
+      setModuleName(instance.getModuleName());
+      @Nullable Path resourceApkValue = instance.getResourceApk();
+      if (resourceApkValue != null) {
+        setResourceApk(resourceApkValue);
+      }
+      addAllDexFile(instance.getDexFile());
+      putAllAssetDirectories(instance.getAssetDirectories());
+      addAllNativeLibraryDirectories(instance.getNativeLibraryDirectories());
+      addAllZipFiles(instance.getZipFiles());
+      addAllJarFilesThatMayContainResources(instance.getJarFilesThatMayContainResources());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ModuleInfo#getModuleName() moduleName} attribute.
+     * @param moduleName The value for moduleName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setModuleName(String moduleName) {
+      this.moduleName = Objects.requireNonNull(moduleName, "moduleName");
+      initBits &= ~INIT_BIT_MODULE_NAME;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ModuleInfo#getResourceApk() resourceApk} attribute.
+     * @param resourceApk The value for resourceApk (can be {@code null})
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourceApk(@Nullable Path resourceApk) {
+      this.resourceApk = resourceApk;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ModuleInfo#getDexFile() dexFile} set.
+     * @param element A dexFile element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDexFile(Path element) {
+      this.dexFile.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ModuleInfo#getDexFile() dexFile} set.
+     * @param elements An array of dexFile elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDexFile(Path... elements) {
+      this.dexFile.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ModuleInfo#getDexFile() dexFile} set.
+     * @param elements An iterable of dexFile elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDexFile(Iterable<? extends Path> elements) {
+      this.dexFile = ImmutableSet.builder();
+      return addAllDexFile(elements);
+    }
+
+    /**
+     * Adds elements to {@link ModuleInfo#getDexFile() dexFile} set.
+     * @param elements An iterable of dexFile elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDexFile(Iterable<? extends Path> elements) {
+      this.dexFile.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ModuleInfo#getAssetDirectories() assetDirectories} map.
+     * @param key The key in the assetDirectories map
+     * @param value The associated value in the assetDirectories map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAssetDirectories(Path key, String value) {
+      this.assetDirectories.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ModuleInfo#getAssetDirectories() assetDirectories} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAssetDirectories(Map.Entry<? extends Path, ? extends String> entry) {
+      this.assetDirectories.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link ModuleInfo#getAssetDirectories() assetDirectories} map. Nulls are not permitted
+     * @param entries The entries that will be added to the assetDirectories map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAssetDirectories(Map<? extends Path, ? extends String> entries) {
+      this.assetDirectories = ImmutableMap.builder();
+      return putAllAssetDirectories(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link ModuleInfo#getAssetDirectories() assetDirectories} map. Nulls are not permitted
+     * @param entries The entries that will be added to the assetDirectories map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllAssetDirectories(Map<? extends Path, ? extends String> entries) {
+      this.assetDirectories.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ModuleInfo#getNativeLibraryDirectories() nativeLibraryDirectories} set.
+     * @param element A nativeLibraryDirectories element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addNativeLibraryDirectories(Path element) {
+      this.nativeLibraryDirectories.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ModuleInfo#getNativeLibraryDirectories() nativeLibraryDirectories} set.
+     * @param elements An array of nativeLibraryDirectories elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addNativeLibraryDirectories(Path... elements) {
+      this.nativeLibraryDirectories.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ModuleInfo#getNativeLibraryDirectories() nativeLibraryDirectories} set.
+     * @param elements An iterable of nativeLibraryDirectories elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNativeLibraryDirectories(Iterable<? extends Path> elements) {
+      this.nativeLibraryDirectories = ImmutableSet.builder();
+      return addAllNativeLibraryDirectories(elements);
+    }
+
+    /**
+     * Adds elements to {@link ModuleInfo#getNativeLibraryDirectories() nativeLibraryDirectories} set.
+     * @param elements An iterable of nativeLibraryDirectories elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllNativeLibraryDirectories(Iterable<? extends Path> elements) {
+      this.nativeLibraryDirectories.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ModuleInfo#getZipFiles() zipFiles} set.
+     * @param element A zipFiles element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addZipFiles(Path element) {
+      this.zipFiles.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ModuleInfo#getZipFiles() zipFiles} set.
+     * @param elements An array of zipFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addZipFiles(Path... elements) {
+      this.zipFiles.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ModuleInfo#getZipFiles() zipFiles} set.
+     * @param elements An iterable of zipFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setZipFiles(Iterable<? extends Path> elements) {
+      this.zipFiles = ImmutableSet.builder();
+      return addAllZipFiles(elements);
+    }
+
+    /**
+     * Adds elements to {@link ModuleInfo#getZipFiles() zipFiles} set.
+     * @param elements An iterable of zipFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllZipFiles(Iterable<? extends Path> elements) {
+      this.zipFiles.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ModuleInfo#getJarFilesThatMayContainResources() jarFilesThatMayContainResources} set.
+     * @param element A jarFilesThatMayContainResources element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addJarFilesThatMayContainResources(Path element) {
+      this.jarFilesThatMayContainResources.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ModuleInfo#getJarFilesThatMayContainResources() jarFilesThatMayContainResources} set.
+     * @param elements An array of jarFilesThatMayContainResources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addJarFilesThatMayContainResources(Path... elements) {
+      this.jarFilesThatMayContainResources.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ModuleInfo#getJarFilesThatMayContainResources() jarFilesThatMayContainResources} set.
+     * @param elements An iterable of jarFilesThatMayContainResources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJarFilesThatMayContainResources(Iterable<? extends Path> elements) {
+      this.jarFilesThatMayContainResources = ImmutableSet.builder();
+      return addAllJarFilesThatMayContainResources(elements);
+    }
+
+    /**
+     * Adds elements to {@link ModuleInfo#getJarFilesThatMayContainResources() jarFilesThatMayContainResources} set.
+     * @param elements An iterable of jarFilesThatMayContainResources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllJarFilesThatMayContainResources(Iterable<? extends Path> elements) {
+      this.jarFilesThatMayContainResources.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ModuleInfo ModuleInfo}.
+     * @return An immutable instance of ModuleInfo
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ModuleInfo build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableModuleInfo(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_MODULE_NAME) != 0) attributes.add("moduleName");
+      return "Cannot build ModuleInfo, some of required attributes are not set " + attributes;
+    }
+  }
+}
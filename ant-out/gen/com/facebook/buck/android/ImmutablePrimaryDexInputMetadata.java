@@ -0,0 +1,149 @@
+package com.facebook.buck.android;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link PreDexedFilesSorter.PrimaryDexInputMetadata}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutablePrimaryDexInputMetadata.of()}.
+ */
+@Generated(from = "PreDexedFilesSorter.PrimaryDexInputMetadata", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutablePrimaryDexInputMetadata
+    extends PreDexedFilesSorter.PrimaryDexInputMetadata {
+  private final int weight;
+  private final ImmutableMap<String, PreDexedFilesSorter.DexMetadata> metadata;
+
+  private ImmutablePrimaryDexInputMetadata(
+      int weight,
+      Map<String, ? extends PreDexedFilesSorter.DexMetadata> metadata) {
+    this.weight = weight;
+    this.metadata = ImmutableMap.copyOf(metadata);
+  }
+
+  /**
+   * @return The value of the {@code weight} attribute
+   */
+  @JsonProperty
+  @Override
+  public int getWeight() {
+    return weight;
+  }
+
+  /**
+   * @return The value of the {@code metadata} attribute
+   */
+  @JsonProperty
+  @Override
+  public ImmutableMap<String, PreDexedFilesSorter.DexMetadata> getMetadata() {
+    return metadata;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutablePrimaryDexInputMetadata} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutablePrimaryDexInputMetadata
+        && equalTo((ImmutablePrimaryDexInputMetadata) another);
+  }
+
+  private boolean equalTo(ImmutablePrimaryDexInputMetadata another) {
+    return weight == another.weight
+        && metadata.equals(another.metadata);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code weight}, {@code metadata}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + weight;
+    h += (h << 5) + metadata.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PrimaryDexInputMetadata} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PrimaryDexInputMetadata")
+        .omitNullValues()
+        .add("weight", weight)
+        .add("metadata", metadata)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "PreDexedFilesSorter.PrimaryDexInputMetadata", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends PreDexedFilesSorter.PrimaryDexInputMetadata {
+    int weight;
+    boolean weightIsSet;
+    @Nullable ImmutableMap<String, PreDexedFilesSorter.DexMetadata> metadata = ImmutableMap.of();
+    @JsonProperty
+    public void setWeight(int weight) {
+      this.weight = weight;
+      this.weightIsSet = true;
+    }
+    @JsonProperty
+    public void setMetadata(ImmutableMap<String, PreDexedFilesSorter.DexMetadata> metadata) {
+      this.metadata = metadata;
+    }
+    @Override
+    public int getWeight() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableMap<String, PreDexedFilesSorter.DexMetadata> getMetadata() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutablePrimaryDexInputMetadata fromJson(Json json) {
+    ImmutablePrimaryDexInputMetadata instance = ImmutablePrimaryDexInputMetadata.of(json.weight, json.metadata);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code PrimaryDexInputMetadata} instance.
+   * @param weight The value for the {@code weight} attribute
+   * @param metadata The value for the {@code metadata} attribute
+   * @return An immutable PrimaryDexInputMetadata instance
+   */
+  public static ImmutablePrimaryDexInputMetadata of(int weight, Map<String, ? extends PreDexedFilesSorter.DexMetadata> metadata) {
+    return new ImmutablePrimaryDexInputMetadata(weight, metadata);
+  }
+}
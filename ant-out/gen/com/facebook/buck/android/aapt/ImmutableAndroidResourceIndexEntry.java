@@ -0,0 +1,148 @@
+package com.facebook.buck.android.aapt;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AndroidResourceIndexEntry}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableAndroidResourceIndexEntry.of()}.
+ */
+@Generated(from = "AndroidResourceIndexEntry", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAndroidResourceIndexEntry
+    extends AndroidResourceIndexEntry {
+  private final RDotTxtEntry.RType type;
+  private final String name;
+  private final Integer lineNumber;
+  private final Integer columnNumber;
+  private final Path resourceFilePath;
+
+  private ImmutableAndroidResourceIndexEntry(
+      RDotTxtEntry.RType type,
+      String name,
+      Integer lineNumber,
+      Integer columnNumber,
+      Path resourceFilePath) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.name = Objects.requireNonNull(name, "name");
+    this.lineNumber = Objects.requireNonNull(lineNumber, "lineNumber");
+    this.columnNumber = Objects.requireNonNull(columnNumber, "columnNumber");
+    this.resourceFilePath = Objects.requireNonNull(resourceFilePath, "resourceFilePath");
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public RDotTxtEntry.RType getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code lineNumber} attribute
+   */
+  @Override
+  public Integer getLineNumber() {
+    return lineNumber;
+  }
+
+  /**
+   * @return The value of the {@code columnNumber} attribute
+   */
+  @Override
+  public Integer getColumnNumber() {
+    return columnNumber;
+  }
+
+  /**
+   * @return The value of the {@code resourceFilePath} attribute
+   */
+  @Override
+  public Path getResourceFilePath() {
+    return resourceFilePath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAndroidResourceIndexEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAndroidResourceIndexEntry
+        && equalTo((ImmutableAndroidResourceIndexEntry) another);
+  }
+
+  private boolean equalTo(ImmutableAndroidResourceIndexEntry another) {
+    return type.equals(another.type)
+        && name.equals(another.name)
+        && lineNumber.equals(another.lineNumber)
+        && columnNumber.equals(another.columnNumber)
+        && resourceFilePath.equals(another.resourceFilePath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code name}, {@code lineNumber}, {@code columnNumber}, {@code resourceFilePath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + lineNumber.hashCode();
+    h += (h << 5) + columnNumber.hashCode();
+    h += (h << 5) + resourceFilePath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidResourceIndexEntry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidResourceIndexEntry")
+        .omitNullValues()
+        .add("type", type)
+        .add("name", name)
+        .add("lineNumber", lineNumber)
+        .add("columnNumber", columnNumber)
+        .add("resourceFilePath", resourceFilePath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AndroidResourceIndexEntry} instance.
+   * @param type The value for the {@code type} attribute
+   * @param name The value for the {@code name} attribute
+   * @param lineNumber The value for the {@code lineNumber} attribute
+   * @param columnNumber The value for the {@code columnNumber} attribute
+   * @param resourceFilePath The value for the {@code resourceFilePath} attribute
+   * @return An immutable AndroidResourceIndexEntry instance
+   */
+  public static ImmutableAndroidResourceIndexEntry of(RDotTxtEntry.RType type, String name, Integer lineNumber, Integer columnNumber, Path resourceFilePath) {
+    return new ImmutableAndroidResourceIndexEntry(type, name, lineNumber, columnNumber, resourceFilePath);
+  }
+}
@@ -0,0 +1,136 @@
+package com.facebook.buck.android.aapt;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link MergeAndroidResourceSourcesStep}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableMergeAndroidResourceSourcesStep.of()}.
+ */
+@Generated(from = "MergeAndroidResourceSourcesStep", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableMergeAndroidResourceSourcesStep
+    extends MergeAndroidResourceSourcesStep {
+  private final ImmutableList<Path> resPaths;
+  private final Path outFolderPath;
+  private final Path tmpFolderPath;
+
+  private ImmutableMergeAndroidResourceSourcesStep(
+      Iterable<? extends Path> resPaths,
+      Path outFolderPath,
+      Path tmpFolderPath) {
+    this.resPaths = ImmutableList.copyOf(resPaths);
+    this.outFolderPath = Objects.requireNonNull(outFolderPath, "outFolderPath");
+    this.tmpFolderPath = Objects.requireNonNull(tmpFolderPath, "tmpFolderPath");
+  }
+
+  /**
+   * @return The value of the {@code resPaths} attribute
+   */
+  @Override
+  protected ImmutableList<Path> getResPaths() {
+    return resPaths;
+  }
+
+  /**
+   * @return The value of the {@code outFolderPath} attribute
+   */
+  @Override
+  protected Path getOutFolderPath() {
+    return outFolderPath;
+  }
+
+  /**
+   * @return The value of the {@code tmpFolderPath} attribute
+   */
+  @Override
+  protected Path getTmpFolderPath() {
+    return tmpFolderPath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableMergeAndroidResourceSourcesStep} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableMergeAndroidResourceSourcesStep
+        && equalTo((ImmutableMergeAndroidResourceSourcesStep) another);
+  }
+
+  private boolean equalTo(ImmutableMergeAndroidResourceSourcesStep another) {
+    return resPaths.equals(another.resPaths)
+        && outFolderPath.equals(another.outFolderPath)
+        && tmpFolderPath.equals(another.tmpFolderPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code resPaths}, {@code outFolderPath}, {@code tmpFolderPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + resPaths.hashCode();
+    h += (h << 5) + outFolderPath.hashCode();
+    h += (h << 5) + tmpFolderPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code MergeAndroidResourceSourcesStep} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MergeAndroidResourceSourcesStep")
+        .omitNullValues()
+        .add("resPaths", resPaths)
+        .add("outFolderPath", outFolderPath)
+        .add("tmpFolderPath", tmpFolderPath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code MergeAndroidResourceSourcesStep} instance.
+   * @param resPaths The value for the {@code resPaths} attribute
+   * @param outFolderPath The value for the {@code outFolderPath} attribute
+   * @param tmpFolderPath The value for the {@code tmpFolderPath} attribute
+   * @return An immutable MergeAndroidResourceSourcesStep instance
+   */
+  public static ImmutableMergeAndroidResourceSourcesStep of(ImmutableList<Path> resPaths, Path outFolderPath, Path tmpFolderPath) {
+    return of((Iterable<? extends Path>) resPaths, outFolderPath, tmpFolderPath);
+  }
+
+  /**
+   * Construct a new immutable {@code MergeAndroidResourceSourcesStep} instance.
+   * @param resPaths The value for the {@code resPaths} attribute
+   * @param outFolderPath The value for the {@code outFolderPath} attribute
+   * @param tmpFolderPath The value for the {@code tmpFolderPath} attribute
+   * @return An immutable MergeAndroidResourceSourcesStep instance
+   */
+  public static ImmutableMergeAndroidResourceSourcesStep of(Iterable<? extends Path> resPaths, Path outFolderPath, Path tmpFolderPath) {
+    return validate(new ImmutableMergeAndroidResourceSourcesStep(resPaths, outFolderPath, tmpFolderPath));
+  }
+
+
+  private static ImmutableMergeAndroidResourceSourcesStep validate(ImmutableMergeAndroidResourceSourcesStep instance) {
+    instance.check();
+    return instance;
+  }
+}
@@ -0,0 +1,177 @@
+package com.facebook.buck.android.apkmodule;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link APKModule}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableAPKModule.of()}.
+ */
+@Generated(from = "APKModule", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAPKModule extends APKModule {
+  private final String name;
+  private final boolean hasResources;
+  private transient final boolean rootModule;
+  private transient final String canaryClassName;
+
+  private ImmutableAPKModule(String name, boolean hasResources) {
+    this.name = Objects.requireNonNull(name, "name");
+    this.hasResources = hasResources;
+    this.rootModule = initShim.isRootModule();
+    this.canaryClassName = initShim.getCanaryClassName();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "APKModule", generator = "Immutables")
+  private final class InitShim {
+    private byte rootModuleBuildStage = STAGE_UNINITIALIZED;
+    private boolean rootModule;
+
+    boolean isRootModule() {
+      if (rootModuleBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (rootModuleBuildStage == STAGE_UNINITIALIZED) {
+        rootModuleBuildStage = STAGE_INITIALIZING;
+        this.rootModule = ImmutableAPKModule.super.isRootModule();
+        rootModuleBuildStage = STAGE_INITIALIZED;
+      }
+      return this.rootModule;
+    }
+
+    private byte canaryClassNameBuildStage = STAGE_UNINITIALIZED;
+    private String canaryClassName;
+
+    String getCanaryClassName() {
+      if (canaryClassNameBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (canaryClassNameBuildStage == STAGE_UNINITIALIZED) {
+        canaryClassNameBuildStage = STAGE_INITIALIZING;
+        this.canaryClassName = Objects.requireNonNull(ImmutableAPKModule.super.getCanaryClassName(), "canaryClassName");
+        canaryClassNameBuildStage = STAGE_INITIALIZED;
+      }
+      return this.canaryClassName;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (rootModuleBuildStage == STAGE_INITIALIZING) attributes.add("rootModule");
+      if (canaryClassNameBuildStage == STAGE_INITIALIZING) attributes.add("canaryClassName");
+      return "Cannot build APKModule, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code hasResources} attribute
+   */
+  @Override
+  public boolean hasResources() {
+    return hasResources;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code rootModule} attribute
+   */
+  @Override
+  public boolean isRootModule() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isRootModule()
+        : this.rootModule;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code canaryClassName} attribute
+   */
+  @Override
+  public String getCanaryClassName() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCanaryClassName()
+        : this.canaryClassName;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAPKModule} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAPKModule
+        && equalTo((ImmutableAPKModule) another);
+  }
+
+  private boolean equalTo(ImmutableAPKModule another) {
+    return name.equals(another.name)
+        && hasResources == another.hasResources
+        && rootModule == another.rootModule
+        && canaryClassName.equals(another.canaryClassName);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code hasResources}, {@code rootModule}, {@code canaryClassName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + Booleans.hashCode(hasResources);
+    h += (h << 5) + Booleans.hashCode(rootModule);
+    h += (h << 5) + canaryClassName.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code APKModule} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("APKModule")
+        .omitNullValues()
+        .add("name", name)
+        .add("hasResources", hasResources)
+        .add("rootModule", rootModule)
+        .add("canaryClassName", canaryClassName)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code APKModule} instance.
+   * @param name The value for the {@code name} attribute
+   * @param hasResources The value for the {@code hasResources} attribute
+   * @return An immutable APKModule instance
+   */
+  public static ImmutableAPKModule of(String name, boolean hasResources) {
+    return new ImmutableAPKModule(name, hasResources);
+  }
+}
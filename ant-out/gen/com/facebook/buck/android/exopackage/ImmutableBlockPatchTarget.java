@@ -0,0 +1,114 @@
+package com.facebook.buck.android.exopackage;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BlockPatchTarget}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBlockPatchTarget.of()}.
+ */
+@Generated(from = "BlockPatchTarget", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBlockPatchTarget implements BlockPatchTarget {
+  private final Path basisPath;
+  private final Path patchPath;
+  private final Path outputPath;
+
+  private ImmutableBlockPatchTarget(Path basisPath, Path patchPath, Path outputPath) {
+    this.basisPath = Objects.requireNonNull(basisPath, "basisPath");
+    this.patchPath = Objects.requireNonNull(patchPath, "patchPath");
+    this.outputPath = Objects.requireNonNull(outputPath, "outputPath");
+  }
+
+  /**
+   * @return The value of the {@code basisPath} attribute
+   */
+  @Override
+  public Path getBasisPath() {
+    return basisPath;
+  }
+
+  /**
+   * @return The value of the {@code patchPath} attribute
+   */
+  @Override
+  public Path getPatchPath() {
+    return patchPath;
+  }
+
+  /**
+   * @return The value of the {@code outputPath} attribute
+   */
+  @Override
+  public Path getOutputPath() {
+    return outputPath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBlockPatchTarget} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBlockPatchTarget
+        && equalTo((ImmutableBlockPatchTarget) another);
+  }
+
+  private boolean equalTo(ImmutableBlockPatchTarget another) {
+    return basisPath.equals(another.basisPath)
+        && patchPath.equals(another.patchPath)
+        && outputPath.equals(another.outputPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code basisPath}, {@code patchPath}, {@code outputPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + basisPath.hashCode();
+    h += (h << 5) + patchPath.hashCode();
+    h += (h << 5) + outputPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BlockPatchTarget} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BlockPatchTarget")
+        .omitNullValues()
+        .add("basisPath", basisPath)
+        .add("patchPath", patchPath)
+        .add("outputPath", outputPath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BlockPatchTarget} instance.
+   * @param basisPath The value for the {@code basisPath} attribute
+   * @param patchPath The value for the {@code patchPath} attribute
+   * @param outputPath The value for the {@code outputPath} attribute
+   * @return An immutable BlockPatchTarget instance
+   */
+  public static ImmutableBlockPatchTarget of(Path basisPath, Path patchPath, Path outputPath) {
+    return new ImmutableBlockPatchTarget(basisPath, patchPath, outputPath);
+  }
+}
@@ -0,0 +1,105 @@
+package com.facebook.buck.android.packageable;
+
+import com.facebook.buck.android.apkmodule.APKModule;
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkable;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.Multimap;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link NativeLinkableEnhancementResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableNativeLinkableEnhancementResult.of()}.
+ */
+@Generated(from = "NativeLinkableEnhancementResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableNativeLinkableEnhancementResult
+    implements NativeLinkableEnhancementResult {
+  private final ImmutableMultimap<APKModule, NativeLinkable> nativeLinkables;
+  private final ImmutableMultimap<APKModule, NativeLinkable> nativeLinkableAssets;
+
+  private ImmutableNativeLinkableEnhancementResult(
+      Multimap<? extends APKModule, ? extends NativeLinkable> nativeLinkables,
+      Multimap<? extends APKModule, ? extends NativeLinkable> nativeLinkableAssets) {
+    this.nativeLinkables = ImmutableMultimap.copyOf(nativeLinkables);
+    this.nativeLinkableAssets = ImmutableMultimap.copyOf(nativeLinkableAssets);
+  }
+
+  /**
+   * @return The value of the {@code nativeLinkables} attribute
+   */
+  @Override
+  public ImmutableMultimap<APKModule, NativeLinkable> getNativeLinkables() {
+    return nativeLinkables;
+  }
+
+  /**
+   * @return The value of the {@code nativeLinkableAssets} attribute
+   */
+  @Override
+  public ImmutableMultimap<APKModule, NativeLinkable> getNativeLinkableAssets() {
+    return nativeLinkableAssets;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableNativeLinkableEnhancementResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableNativeLinkableEnhancementResult
+        && equalTo((ImmutableNativeLinkableEnhancementResult) another);
+  }
+
+  private boolean equalTo(ImmutableNativeLinkableEnhancementResult another) {
+    return nativeLinkables.equals(another.nativeLinkables)
+        && nativeLinkableAssets.equals(another.nativeLinkableAssets);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code nativeLinkables}, {@code nativeLinkableAssets}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + nativeLinkables.hashCode();
+    h += (h << 5) + nativeLinkableAssets.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NativeLinkableEnhancementResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NativeLinkableEnhancementResult")
+        .omitNullValues()
+        .add("nativeLinkables", nativeLinkables)
+        .add("nativeLinkableAssets", nativeLinkableAssets)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code NativeLinkableEnhancementResult} instance.
+   * @param nativeLinkables The value for the {@code nativeLinkables} attribute
+   * @param nativeLinkableAssets The value for the {@code nativeLinkableAssets} attribute
+   * @return An immutable NativeLinkableEnhancementResult instance
+   */
+  public static ImmutableNativeLinkableEnhancementResult of(Multimap<? extends APKModule, ? extends NativeLinkable> nativeLinkables, Multimap<? extends APKModule, ? extends NativeLinkable> nativeLinkableAssets) {
+    return new ImmutableNativeLinkableEnhancementResult(nativeLinkables, nativeLinkableAssets);
+  }
+}
@@ -0,0 +1,133 @@
+package com.facebook.buck.android.redex;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.core.toolchain.tool.Tool;
+import com.facebook.buck.rules.args.Arg;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link RedexOptions}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableRedexOptions.of()}.
+ */
+@Generated(from = "RedexOptions", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableRedexOptions extends RedexOptions {
+  private final Tool redex;
+  private final @Nullable SourcePath redexConfig;
+  private final ImmutableList<Arg> redexExtraArgs;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableRedexOptions(
+      Tool redex,
+      Optional<? extends SourcePath> redexConfig,
+      Iterable<? extends Arg> redexExtraArgs) {
+    this.redex = Objects.requireNonNull(redex, "redex");
+    this.redexConfig = redexConfig.orElse(null);
+    this.redexExtraArgs = ImmutableList.copyOf(redexExtraArgs);
+  }
+
+  /**
+   * @return The value of the {@code redex} attribute
+   */
+  @Override
+  public Tool getRedex() {
+    return redex;
+  }
+
+  /**
+   * @return The value of the {@code redexConfig} attribute
+   */
+  @Override
+  public Optional<SourcePath> getRedexConfig() {
+    return Optional.ofNullable(redexConfig);
+  }
+
+  /**
+   * @return The value of the {@code redexExtraArgs} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getRedexExtraArgs() {
+    return redexExtraArgs;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRedexOptions} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRedexOptions
+        && equalTo((ImmutableRedexOptions) another);
+  }
+
+  private boolean equalTo(ImmutableRedexOptions another) {
+    return redex.equals(another.redex)
+        && Objects.equals(redexConfig, another.redexConfig)
+        && redexExtraArgs.equals(another.redexExtraArgs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code redex}, {@code redexConfig}, {@code redexExtraArgs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + redex.hashCode();
+    h += (h << 5) + Objects.hashCode(redexConfig);
+    h += (h << 5) + redexExtraArgs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RedexOptions} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RedexOptions")
+        .omitNullValues()
+        .add("redex", redex)
+        .add("redexConfig", redexConfig)
+        .add("redexExtraArgs", redexExtraArgs)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RedexOptions} instance.
+   * @param redex The value for the {@code redex} attribute
+   * @param redexConfig The value for the {@code redexConfig} attribute
+   * @param redexExtraArgs The value for the {@code redexExtraArgs} attribute
+   * @return An immutable RedexOptions instance
+   */
+  public static ImmutableRedexOptions of(Tool redex, Optional<SourcePath> redexConfig, ImmutableList<Arg> redexExtraArgs) {
+    return of(redex, redexConfig, (Iterable<? extends Arg>) redexExtraArgs);
+  }
+
+  /**
+   * Construct a new immutable {@code RedexOptions} instance.
+   * @param redex The value for the {@code redex} attribute
+   * @param redexConfig The value for the {@code redexConfig} attribute
+   * @param redexExtraArgs The value for the {@code redexExtraArgs} attribute
+   * @return An immutable RedexOptions instance
+   */
+  public static ImmutableRedexOptions of(Tool redex, Optional<? extends SourcePath> redexConfig, Iterable<? extends Arg> redexExtraArgs) {
+    return new ImmutableRedexOptions(redex, redexConfig, redexExtraArgs);
+  }
+}
@@ -0,0 +1,86 @@
+package com.facebook.buck.android.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AdbToolchain}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableAdbToolchain.of()}.
+ */
+@Generated(from = "AdbToolchain", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAdbToolchain implements AdbToolchain {
+  private final Path adbPath;
+
+  private ImmutableAdbToolchain(Path adbPath) {
+    this.adbPath = Objects.requireNonNull(adbPath, "adbPath");
+  }
+
+  /**
+   * @return The value of the {@code adbPath} attribute
+   */
+  @Override
+  public Path getAdbPath() {
+    return adbPath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAdbToolchain} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAdbToolchain
+        && equalTo((ImmutableAdbToolchain) another);
+  }
+
+  private boolean equalTo(ImmutableAdbToolchain another) {
+    return adbPath.equals(another.adbPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code adbPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + adbPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AdbToolchain} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AdbToolchain")
+        .omitNullValues()
+        .add("adbPath", adbPath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AdbToolchain} instance.
+   * @param adbPath The value for the {@code adbPath} attribute
+   * @return An immutable AdbToolchain instance
+   */
+  public static ImmutableAdbToolchain of(Path adbPath) {
+    return new ImmutableAdbToolchain(adbPath);
+  }
+}
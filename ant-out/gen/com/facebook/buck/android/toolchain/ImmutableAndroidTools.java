@@ -0,0 +1,119 @@
+package com.facebook.buck.android.toolchain;
+
+import com.facebook.buck.android.toolchain.ndk.AndroidNdk;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AndroidTools}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableAndroidTools.of()}.
+ */
+@Generated(from = "AndroidTools", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAndroidTools implements AndroidTools {
+  private final AndroidPlatformTarget androidPlatformTarget;
+  private final AndroidSdkLocation androidSdkLocation;
+  private final @Nullable AndroidNdk androidNdk;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableAndroidTools(
+      AndroidPlatformTarget androidPlatformTarget,
+      AndroidSdkLocation androidSdkLocation,
+      Optional<? extends AndroidNdk> androidNdk) {
+    this.androidPlatformTarget = Objects.requireNonNull(androidPlatformTarget, "androidPlatformTarget");
+    this.androidSdkLocation = Objects.requireNonNull(androidSdkLocation, "androidSdkLocation");
+    this.androidNdk = androidNdk.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code androidPlatformTarget} attribute
+   */
+  @Override
+  public AndroidPlatformTarget getAndroidPlatformTarget() {
+    return androidPlatformTarget;
+  }
+
+  /**
+   * @return The value of the {@code androidSdkLocation} attribute
+   */
+  @Override
+  public AndroidSdkLocation getAndroidSdkLocation() {
+    return androidSdkLocation;
+  }
+
+  /**
+   * @return The value of the {@code androidNdk} attribute
+   */
+  @Override
+  public Optional<AndroidNdk> getAndroidNdk() {
+    return Optional.ofNullable(androidNdk);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAndroidTools} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAndroidTools
+        && equalTo((ImmutableAndroidTools) another);
+  }
+
+  private boolean equalTo(ImmutableAndroidTools another) {
+    return androidPlatformTarget.equals(another.androidPlatformTarget)
+        && androidSdkLocation.equals(another.androidSdkLocation)
+        && Objects.equals(androidNdk, another.androidNdk);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code androidPlatformTarget}, {@code androidSdkLocation}, {@code androidNdk}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + androidPlatformTarget.hashCode();
+    h += (h << 5) + androidSdkLocation.hashCode();
+    h += (h << 5) + Objects.hashCode(androidNdk);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidTools} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidTools")
+        .omitNullValues()
+        .add("androidPlatformTarget", androidPlatformTarget)
+        .add("androidSdkLocation", androidSdkLocation)
+        .add("androidNdk", androidNdk)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AndroidTools} instance.
+   * @param androidPlatformTarget The value for the {@code androidPlatformTarget} attribute
+   * @param androidSdkLocation The value for the {@code androidSdkLocation} attribute
+   * @param androidNdk The value for the {@code androidNdk} attribute
+   * @return An immutable AndroidTools instance
+   */
+  public static ImmutableAndroidTools of(AndroidPlatformTarget androidPlatformTarget, AndroidSdkLocation androidSdkLocation, Optional<? extends AndroidNdk> androidNdk) {
+    return new ImmutableAndroidTools(androidPlatformTarget, androidSdkLocation, androidNdk);
+  }
+}
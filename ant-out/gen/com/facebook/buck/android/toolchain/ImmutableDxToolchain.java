@@ -0,0 +1,86 @@
+package com.facebook.buck.android.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DxToolchain}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableDxToolchain.of()}.
+ */
+@Generated(from = "DxToolchain", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableDxToolchain implements DxToolchain {
+  private final ListeningExecutorService dxExecutorService;
+
+  private ImmutableDxToolchain(ListeningExecutorService dxExecutorService) {
+    this.dxExecutorService = Objects.requireNonNull(dxExecutorService, "dxExecutorService");
+  }
+
+  /**
+   * @return The value of the {@code dxExecutorService} attribute
+   */
+  @Override
+  public ListeningExecutorService getDxExecutorService() {
+    return dxExecutorService;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDxToolchain} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDxToolchain
+        && equalTo((ImmutableDxToolchain) another);
+  }
+
+  private boolean equalTo(ImmutableDxToolchain another) {
+    return dxExecutorService.equals(another.dxExecutorService);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code dxExecutorService}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + dxExecutorService.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DxToolchain} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DxToolchain")
+        .omitNullValues()
+        .add("dxExecutorService", dxExecutorService)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DxToolchain} instance.
+   * @param dxExecutorService The value for the {@code dxExecutorService} attribute
+   * @return An immutable DxToolchain instance
+   */
+  public static ImmutableDxToolchain of(ListeningExecutorService dxExecutorService) {
+    return new ImmutableDxToolchain(dxExecutorService);
+  }
+}
@@ -0,0 +1,284 @@
+package com.facebook.buck.android.toolchain.ndk;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link NdkCxxPlatformTargetConfiguration}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableNdkCxxPlatformTargetConfiguration.of()}.
+ */
+@Generated(from = "NdkCxxPlatformTargetConfiguration", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableNdkCxxPlatformTargetConfiguration
+    extends NdkCxxPlatformTargetConfiguration {
+  private final TargetCpuType targetCpuType;
+  private final String targetAppPlatform;
+  private transient final int targetAppPlatformLevel;
+  private final NdkCxxPlatformCompiler compiler;
+  private transient final NdkToolchain toolchain;
+  private transient final NdkToolchainTarget toolchainTarget;
+  private transient final NdkTargetArch targetArch;
+  private transient final NdkTargetArchAbi targetArchAbi;
+
+  private ImmutableNdkCxxPlatformTargetConfiguration(
+      TargetCpuType targetCpuType,
+      String targetAppPlatform,
+      NdkCxxPlatformCompiler compiler) {
+    this.targetCpuType = Objects.requireNonNull(targetCpuType, "targetCpuType");
+    this.targetAppPlatform = Objects.requireNonNull(targetAppPlatform, "targetAppPlatform");
+    this.compiler = Objects.requireNonNull(compiler, "compiler");
+    this.targetAppPlatformLevel = initShim.getTargetAppPlatformLevel();
+    this.toolchain = initShim.getToolchain();
+    this.toolchainTarget = initShim.getToolchainTarget();
+    this.targetArch = initShim.getTargetArch();
+    this.targetArchAbi = initShim.getTargetArchAbi();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "NdkCxxPlatformTargetConfiguration", generator = "Immutables")
+  private final class InitShim {
+    private byte targetAppPlatformLevelBuildStage = STAGE_UNINITIALIZED;
+    private int targetAppPlatformLevel;
+
+    int getTargetAppPlatformLevel() {
+      if (targetAppPlatformLevelBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (targetAppPlatformLevelBuildStage == STAGE_UNINITIALIZED) {
+        targetAppPlatformLevelBuildStage = STAGE_INITIALIZING;
+        this.targetAppPlatformLevel = ImmutableNdkCxxPlatformTargetConfiguration.super.getTargetAppPlatformLevel();
+        targetAppPlatformLevelBuildStage = STAGE_INITIALIZED;
+      }
+      return this.targetAppPlatformLevel;
+    }
+
+    private byte toolchainBuildStage = STAGE_UNINITIALIZED;
+    private NdkToolchain toolchain;
+
+    NdkToolchain getToolchain() {
+      if (toolchainBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (toolchainBuildStage == STAGE_UNINITIALIZED) {
+        toolchainBuildStage = STAGE_INITIALIZING;
+        this.toolchain = Objects.requireNonNull(ImmutableNdkCxxPlatformTargetConfiguration.super.getToolchain(), "toolchain");
+        toolchainBuildStage = STAGE_INITIALIZED;
+      }
+      return this.toolchain;
+    }
+
+    private byte toolchainTargetBuildStage = STAGE_UNINITIALIZED;
+    private NdkToolchainTarget toolchainTarget;
+
+    NdkToolchainTarget getToolchainTarget() {
+      if (toolchainTargetBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (toolchainTargetBuildStage == STAGE_UNINITIALIZED) {
+        toolchainTargetBuildStage = STAGE_INITIALIZING;
+        this.toolchainTarget = Objects.requireNonNull(ImmutableNdkCxxPlatformTargetConfiguration.super.getToolchainTarget(), "toolchainTarget");
+        toolchainTargetBuildStage = STAGE_INITIALIZED;
+      }
+      return this.toolchainTarget;
+    }
+
+    private byte targetArchBuildStage = STAGE_UNINITIALIZED;
+    private NdkTargetArch targetArch;
+
+    NdkTargetArch getTargetArch() {
+      if (targetArchBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (targetArchBuildStage == STAGE_UNINITIALIZED) {
+        targetArchBuildStage = STAGE_INITIALIZING;
+        this.targetArch = Objects.requireNonNull(ImmutableNdkCxxPlatformTargetConfiguration.super.getTargetArch(), "targetArch");
+        targetArchBuildStage = STAGE_INITIALIZED;
+      }
+      return this.targetArch;
+    }
+
+    private byte targetArchAbiBuildStage = STAGE_UNINITIALIZED;
+    private NdkTargetArchAbi targetArchAbi;
+
+    NdkTargetArchAbi getTargetArchAbi() {
+      if (targetArchAbiBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (targetArchAbiBuildStage == STAGE_UNINITIALIZED) {
+        targetArchAbiBuildStage = STAGE_INITIALIZING;
+        this.targetArchAbi = Objects.requireNonNull(ImmutableNdkCxxPlatformTargetConfiguration.super.getTargetArchAbi(), "targetArchAbi");
+        targetArchAbiBuildStage = STAGE_INITIALIZED;
+      }
+      return this.targetArchAbi;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (targetAppPlatformLevelBuildStage == STAGE_INITIALIZING) attributes.add("targetAppPlatformLevel");
+      if (toolchainBuildStage == STAGE_INITIALIZING) attributes.add("toolchain");
+      if (toolchainTargetBuildStage == STAGE_INITIALIZING) attributes.add("toolchainTarget");
+      if (targetArchBuildStage == STAGE_INITIALIZING) attributes.add("targetArch");
+      if (targetArchAbiBuildStage == STAGE_INITIALIZING) attributes.add("targetArchAbi");
+      return "Cannot build NdkCxxPlatformTargetConfiguration, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code targetCpuType} attribute
+   */
+  @Override
+  public TargetCpuType getTargetCpuType() {
+    return targetCpuType;
+  }
+
+  /**
+   * @return The value of the {@code targetAppPlatform} attribute
+   */
+  @Override
+  public String getTargetAppPlatform() {
+    return targetAppPlatform;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code targetAppPlatformLevel} attribute
+   */
+  @Override
+  public int getTargetAppPlatformLevel() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getTargetAppPlatformLevel()
+        : this.targetAppPlatformLevel;
+  }
+
+  /**
+   * @return The value of the {@code compiler} attribute
+   */
+  @Override
+  public NdkCxxPlatformCompiler getCompiler() {
+    return compiler;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code toolchain} attribute
+   */
+  @Override
+  public NdkToolchain getToolchain() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getToolchain()
+        : this.toolchain;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code toolchainTarget} attribute
+   */
+  @Override
+  public NdkToolchainTarget getToolchainTarget() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getToolchainTarget()
+        : this.toolchainTarget;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code targetArch} attribute
+   */
+  @Override
+  public NdkTargetArch getTargetArch() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getTargetArch()
+        : this.targetArch;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code targetArchAbi} attribute
+   */
+  @Override
+  public NdkTargetArchAbi getTargetArchAbi() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getTargetArchAbi()
+        : this.targetArchAbi;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableNdkCxxPlatformTargetConfiguration} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableNdkCxxPlatformTargetConfiguration
+        && equalTo((ImmutableNdkCxxPlatformTargetConfiguration) another);
+  }
+
+  private boolean equalTo(ImmutableNdkCxxPlatformTargetConfiguration another) {
+    return targetCpuType.equals(another.targetCpuType)
+        && targetAppPlatform.equals(another.targetAppPlatform)
+        && targetAppPlatformLevel == another.targetAppPlatformLevel
+        && compiler.equals(another.compiler)
+        && toolchain.equals(another.toolchain)
+        && toolchainTarget.equals(another.toolchainTarget)
+        && targetArch.equals(another.targetArch)
+        && targetArchAbi.equals(another.targetArchAbi);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code targetCpuType}, {@code targetAppPlatform}, {@code targetAppPlatformLevel}, {@code compiler}, {@code toolchain}, {@code toolchainTarget}, {@code targetArch}, {@code targetArchAbi}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + targetCpuType.hashCode();
+    h += (h << 5) + targetAppPlatform.hashCode();
+    h += (h << 5) + targetAppPlatformLevel;
+    h += (h << 5) + compiler.hashCode();
+    h += (h << 5) + toolchain.hashCode();
+    h += (h << 5) + toolchainTarget.hashCode();
+    h += (h << 5) + targetArch.hashCode();
+    h += (h << 5) + targetArchAbi.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NdkCxxPlatformTargetConfiguration} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NdkCxxPlatformTargetConfiguration")
+        .omitNullValues()
+        .add("targetCpuType", targetCpuType)
+        .add("targetAppPlatform", targetAppPlatform)
+        .add("targetAppPlatformLevel", targetAppPlatformLevel)
+        .add("compiler", compiler)
+        .add("toolchain", toolchain)
+        .add("toolchainTarget", toolchainTarget)
+        .add("targetArch", targetArch)
+        .add("targetArchAbi", targetArchAbi)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code NdkCxxPlatformTargetConfiguration} instance.
+   * @param targetCpuType The value for the {@code targetCpuType} attribute
+   * @param targetAppPlatform The value for the {@code targetAppPlatform} attribute
+   * @param compiler The value for the {@code compiler} attribute
+   * @return An immutable NdkCxxPlatformTargetConfiguration instance
+   */
+  public static ImmutableNdkCxxPlatformTargetConfiguration of(TargetCpuType targetCpuType, String targetAppPlatform, NdkCxxPlatformCompiler compiler) {
+    return new ImmutableNdkCxxPlatformTargetConfiguration(targetCpuType, targetAppPlatform, compiler);
+  }
+}
@@ -0,0 +1,1370 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.core.description.arg.BuildRuleArg;
+import com.facebook.buck.core.description.arg.ConstructorArg;
+import com.facebook.buck.core.description.arg.HasContacts;
+import com.facebook.buck.core.description.arg.HasDeclaredDeps;
+import com.facebook.buck.core.description.arg.HasDefaultPlatform;
+import com.facebook.buck.core.description.arg.HasTests;
+import com.facebook.buck.core.linkgroup.CxxLinkGroupMapping;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.Flavor;
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.rules.coercer.PatternMatchedCollection;
+import com.facebook.buck.util.types.Either;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AppleBundleDescriptionArg.builder()}.
+ */
+@Generated(from = "AppleBundleDescription.AbstractAppleBundleDescriptionArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class AppleBundleDescriptionArg
+    implements AppleBundleDescription.AbstractAppleBundleDescriptionArg {
+  private final @Nullable BuildTarget binary;
+  private final @Nullable PatternMatchedCollection<BuildTarget> platformBinary;
+  private final @Nullable Boolean ibtoolModuleFlag;
+  private final @Nullable ImmutableList<String> ibtoolFlags;
+  private final @Nullable ImmutableList<CxxLinkGroupMapping> resourceGroupMap;
+  private final @Nullable String resourceGroup;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+  private final ImmutableList<UnconfiguredBuildTarget> compatibleWith;
+  private final String name;
+  private final Either<AppleBundleExtension, String> extension;
+  private final SourcePath infoPlist;
+  private final @Nullable String productName;
+  private final @Nullable String xcodeProductType;
+  private final @Nullable Boolean isAppClip;
+  private final ImmutableMap<String, String> infoPlistSubstitutions;
+  private final AppleAssetCatalogsCompilationOptions assetCatalogsCompilationOptions;
+  private final ImmutableList<String> codesignFlags;
+  private final @Nullable String codesignIdentity;
+  private final ImmutableSortedSet<String> contacts;
+  private final @Nullable Flavor defaultPlatform;
+  private final ImmutableSortedSet<BuildTarget> tests;
+
+  private AppleBundleDescriptionArg(AppleBundleDescriptionArg.Builder builder) {
+    this.binary = builder.binary;
+    this.platformBinary = builder.platformBinary;
+    this.ibtoolModuleFlag = builder.ibtoolModuleFlag;
+    this.ibtoolFlags = builder.ibtoolFlags;
+    this.resourceGroupMap = builder.resourceGroupMap;
+    this.resourceGroup = builder.resourceGroup;
+    this.deps = builder.deps.build();
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.defaultTargetPlatform = builder.defaultTargetPlatform;
+    this.compatibleWith = builder.compatibleWith.build();
+    this.name = builder.name;
+    this.extension = builder.extension;
+    this.infoPlist = builder.infoPlist;
+    this.productName = builder.productName;
+    this.xcodeProductType = builder.xcodeProductType;
+    this.isAppClip = builder.isAppClip;
+    this.infoPlistSubstitutions = builder.infoPlistSubstitutions.build();
+    this.codesignFlags = builder.codesignFlags.build();
+    this.codesignIdentity = builder.codesignIdentity;
+    this.contacts = builder.contacts.build();
+    this.defaultPlatform = builder.defaultPlatform;
+    this.tests = builder.tests.build();
+    this.assetCatalogsCompilationOptions = builder.assetCatalogsCompilationOptions != null
+        ? builder.assetCatalogsCompilationOptions
+        : Objects.requireNonNull(AppleBundleDescription.AbstractAppleBundleDescriptionArg.super.getAssetCatalogsCompilationOptions(), "assetCatalogsCompilationOptions");
+  }
+
+  /**
+   * @return The value of the {@code binary} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getBinary() {
+    return Optional.ofNullable(binary);
+  }
+
+  /**
+   * @return The value of the {@code platformBinary} attribute
+   */
+  @Override
+  public Optional<PatternMatchedCollection<BuildTarget>> getPlatformBinary() {
+    return Optional.ofNullable(platformBinary);
+  }
+
+  /**
+   * @return The value of the {@code ibtoolModuleFlag} attribute
+   */
+  @Override
+  public Optional<Boolean> getIbtoolModuleFlag() {
+    return Optional.ofNullable(ibtoolModuleFlag);
+  }
+
+  /**
+   * @return The value of the {@code ibtoolFlags} attribute
+   */
+  @Override
+  public Optional<ImmutableList<String>> getIbtoolFlags() {
+    return Optional.ofNullable(ibtoolFlags);
+  }
+
+  /**
+   * @return The value of the {@code resourceGroupMap} attribute
+   */
+  @Override
+  public Optional<ImmutableList<CxxLinkGroupMapping>> getResourceGroupMap() {
+    return Optional.ofNullable(resourceGroupMap);
+  }
+
+  /**
+   * @return The value of the {@code resourceGroup} attribute
+   */
+  @Override
+  public Optional<String> getResourceGroup() {
+    return Optional.ofNullable(resourceGroup);
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * The name of build target default "new" platform: it is used when a platform is not specified
+   * either globally or in a target which used this target as a dependency.
+   * <p>The value is a build target, but we specify it as string, because this function is not
+   * actually called, but the attr is fetched by name from the raw (unconfigured) target node.
+   */
+  @Override
+  public Optional<UnconfiguredBuildTarget> getDefaultTargetPlatform() {
+    return Optional.ofNullable(defaultTargetPlatform);
+  }
+
+  /**
+   *A list of {@code config_setting} a target is compatible with. 
+   */
+  @Override
+  public ImmutableList<UnconfiguredBuildTarget> getCompatibleWith() {
+    return compatibleWith;
+  }
+
+  /**
+   *Each rule has a name 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code extension} attribute
+   */
+  @Override
+  public Either<AppleBundleExtension, String> getExtension() {
+    return extension;
+  }
+
+  /**
+   * @return The value of the {@code infoPlist} attribute
+   */
+  @Override
+  public SourcePath getInfoPlist() {
+    return infoPlist;
+  }
+
+  /**
+   * @return The value of the {@code productName} attribute
+   */
+  @Override
+  public Optional<String> getProductName() {
+    return Optional.ofNullable(productName);
+  }
+
+  /**
+   * @return The value of the {@code xcodeProductType} attribute
+   */
+  @Override
+  public Optional<String> getXcodeProductType() {
+    return Optional.ofNullable(xcodeProductType);
+  }
+
+  /**
+   * @return The value of the {@code isAppClip} attribute
+   */
+  @Override
+  public Optional<Boolean> getIsAppClip() {
+    return Optional.ofNullable(isAppClip);
+  }
+
+  /**
+   * @return The value of the {@code infoPlistSubstitutions} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getInfoPlistSubstitutions() {
+    return infoPlistSubstitutions;
+  }
+
+  /**
+   * @return The value of the {@code assetCatalogsCompilationOptions} attribute
+   */
+  @Override
+  public AppleAssetCatalogsCompilationOptions getAssetCatalogsCompilationOptions() {
+    return assetCatalogsCompilationOptions;
+  }
+
+  /**
+   * @return Additional flags passed to the underlying codesign tool. For example, this can be used
+   *     to sign deep macOS frameworks using "--deep".
+   */
+  @Override
+  public ImmutableList<String> getCodesignFlags() {
+    return codesignFlags;
+  }
+
+  /**
+   * @return A codesign identity that will be used for adhoc signing (i.e., on platforms like macOS
+   *     and simulators). This field can be used to sign with Developer ID on macOS.
+   */
+  @Override
+  public Optional<String> getCodesignIdentity() {
+    return Optional.ofNullable(codesignIdentity);
+  }
+
+  /**
+   * @return The value of the {@code contacts} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getContacts() {
+    return contacts;
+  }
+
+  /**
+   * @return If present, the default platform with which to build this target if none are provided
+   *     on the command line.
+   */
+  @Override
+  public Optional<Flavor> getDefaultPlatform() {
+    return Optional.ofNullable(defaultPlatform);
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AppleBundleDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AppleBundleDescriptionArg
+        && equalTo((AppleBundleDescriptionArg) another);
+  }
+
+  private boolean equalTo(AppleBundleDescriptionArg another) {
+    return Objects.equals(binary, another.binary)
+        && Objects.equals(platformBinary, another.platformBinary)
+        && Objects.equals(ibtoolModuleFlag, another.ibtoolModuleFlag)
+        && Objects.equals(ibtoolFlags, another.ibtoolFlags)
+        && Objects.equals(resourceGroupMap, another.resourceGroupMap)
+        && Objects.equals(resourceGroup, another.resourceGroup)
+        && deps.equals(another.deps)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && Objects.equals(defaultTargetPlatform, another.defaultTargetPlatform)
+        && compatibleWith.equals(another.compatibleWith)
+        && name.equals(another.name)
+        && extension.equals(another.extension)
+        && infoPlist.equals(another.infoPlist)
+        && Objects.equals(productName, another.productName)
+        && Objects.equals(xcodeProductType, another.xcodeProductType)
+        && Objects.equals(isAppClip, another.isAppClip)
+        && infoPlistSubstitutions.equals(another.infoPlistSubstitutions)
+        && assetCatalogsCompilationOptions.equals(another.assetCatalogsCompilationOptions)
+        && codesignFlags.equals(another.codesignFlags)
+        && Objects.equals(codesignIdentity, another.codesignIdentity)
+        && contacts.equals(another.contacts)
+        && Objects.equals(defaultPlatform, another.defaultPlatform)
+        && tests.equals(another.tests);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code binary}, {@code platformBinary}, {@code ibtoolModuleFlag}, {@code ibtoolFlags}, {@code resourceGroupMap}, {@code resourceGroup}, {@code deps}, {@code licenses}, {@code labels}, {@code defaultTargetPlatform}, {@code compatibleWith}, {@code name}, {@code extension}, {@code infoPlist}, {@code productName}, {@code xcodeProductType}, {@code isAppClip}, {@code infoPlistSubstitutions}, {@code assetCatalogsCompilationOptions}, {@code codesignFlags}, {@code codesignIdentity}, {@code contacts}, {@code defaultPlatform}, {@code tests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(binary);
+    h += (h << 5) + Objects.hashCode(platformBinary);
+    h += (h << 5) + Objects.hashCode(ibtoolModuleFlag);
+    h += (h << 5) + Objects.hashCode(ibtoolFlags);
+    h += (h << 5) + Objects.hashCode(resourceGroupMap);
+    h += (h << 5) + Objects.hashCode(resourceGroup);
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultTargetPlatform);
+    h += (h << 5) + compatibleWith.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + extension.hashCode();
+    h += (h << 5) + infoPlist.hashCode();
+    h += (h << 5) + Objects.hashCode(productName);
+    h += (h << 5) + Objects.hashCode(xcodeProductType);
+    h += (h << 5) + Objects.hashCode(isAppClip);
+    h += (h << 5) + infoPlistSubstitutions.hashCode();
+    h += (h << 5) + assetCatalogsCompilationOptions.hashCode();
+    h += (h << 5) + codesignFlags.hashCode();
+    h += (h << 5) + Objects.hashCode(codesignIdentity);
+    h += (h << 5) + contacts.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultPlatform);
+    h += (h << 5) + tests.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleBundleDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleBundleDescriptionArg")
+        .omitNullValues()
+        .add("binary", binary)
+        .add("platformBinary", platformBinary)
+        .add("ibtoolModuleFlag", ibtoolModuleFlag)
+        .add("ibtoolFlags", ibtoolFlags)
+        .add("resourceGroupMap", resourceGroupMap)
+        .add("resourceGroup", resourceGroup)
+        .add("deps", deps)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("defaultTargetPlatform", defaultTargetPlatform)
+        .add("compatibleWith", compatibleWith)
+        .add("name", name)
+        .add("extension", extension)
+        .add("infoPlist", infoPlist)
+        .add("productName", productName)
+        .add("xcodeProductType", xcodeProductType)
+        .add("isAppClip", isAppClip)
+        .add("infoPlistSubstitutions", infoPlistSubstitutions)
+        .add("assetCatalogsCompilationOptions", assetCatalogsCompilationOptions)
+        .add("codesignFlags", codesignFlags)
+        .add("codesignIdentity", codesignIdentity)
+        .add("contacts", contacts)
+        .add("defaultPlatform", defaultPlatform)
+        .add("tests", tests)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AppleBundleDescriptionArg AppleBundleDescriptionArg}.
+   * @return A new AppleBundleDescriptionArg builder
+   */
+  public static AppleBundleDescriptionArg.Builder builder() {
+    return new AppleBundleDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AppleBundleDescriptionArg AppleBundleDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AppleBundleDescription.AbstractAppleBundleDescriptionArg", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long INIT_BIT_EXTENSION = 0x2L;
+    private static final long INIT_BIT_INFO_PLIST = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable BuildTarget binary;
+    private @Nullable PatternMatchedCollection<BuildTarget> platformBinary;
+    private @Nullable Boolean ibtoolModuleFlag;
+    private @Nullable ImmutableList<String> ibtoolFlags;
+    private @Nullable ImmutableList<CxxLinkGroupMapping> resourceGroupMap;
+    private @Nullable String resourceGroup;
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+    private ImmutableList.Builder<UnconfiguredBuildTarget> compatibleWith = ImmutableList.builder();
+    private @Nullable String name;
+    private @Nullable Either<AppleBundleExtension, String> extension;
+    private @Nullable SourcePath infoPlist;
+    private @Nullable String productName;
+    private @Nullable String xcodeProductType;
+    private @Nullable Boolean isAppClip;
+    private ImmutableMap.Builder<String, String> infoPlistSubstitutions = ImmutableMap.builder();
+    private @Nullable AppleAssetCatalogsCompilationOptions assetCatalogsCompilationOptions;
+    private ImmutableList.Builder<String> codesignFlags = ImmutableList.builder();
+    private @Nullable String codesignIdentity;
+    private ImmutableSortedSet.Builder<String> contacts = ImmutableSortedSet.naturalOrder();
+    private @Nullable Flavor defaultPlatform;
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.apple.HasAppleBundleFields} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasAppleBundleFields instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AppleBundleDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AppleBundleDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAppleBundleDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AppleBundleDescription.AbstractAppleBundleDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasDefaultPlatform} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasDefaultPlatform instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.apple.HasAppleCodesignFields} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasAppleCodesignFields instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.BuildRuleArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuildRuleArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasContacts} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasContacts instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.ConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      @Var long bits = 0;
+      if (object instanceof HasAppleBundleFields) {
+        HasAppleBundleFields instance = (HasAppleBundleFields) object;
+        Optional<Boolean> isAppClipOptional = instance.getIsAppClip();
+        if (isAppClipOptional.isPresent()) {
+          setIsAppClip(isAppClipOptional);
+        }
+        setExtension(instance.getExtension());
+        putAllInfoPlistSubstitutions(instance.getInfoPlistSubstitutions());
+        setInfoPlist(instance.getInfoPlist());
+        setAssetCatalogsCompilationOptions(instance.getAssetCatalogsCompilationOptions());
+        Optional<String> productNameOptional = instance.getProductName();
+        if (productNameOptional.isPresent()) {
+          setProductName(productNameOptional);
+        }
+        Optional<String> xcodeProductTypeOptional = instance.getXcodeProductType();
+        if (xcodeProductTypeOptional.isPresent()) {
+          setXcodeProductType(xcodeProductTypeOptional);
+        }
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        if ((bits & 0x1L) == 0) {
+          addAllDeps(instance.getDeps());
+          bits |= 0x1L;
+        }
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof AppleBundleDescription.AbstractAppleBundleDescriptionArg) {
+        AppleBundleDescription.AbstractAppleBundleDescriptionArg instance = (AppleBundleDescription.AbstractAppleBundleDescriptionArg) object;
+        Optional<String> resourceGroupOptional = instance.getResourceGroup();
+        if (resourceGroupOptional.isPresent()) {
+          setResourceGroup(resourceGroupOptional);
+        }
+        Optional<PatternMatchedCollection<BuildTarget>> platformBinaryOptional = instance.getPlatformBinary();
+        if (platformBinaryOptional.isPresent()) {
+          setPlatformBinary(platformBinaryOptional);
+        }
+        Optional<ImmutableList<CxxLinkGroupMapping>> resourceGroupMapOptional = instance.getResourceGroupMap();
+        if (resourceGroupMapOptional.isPresent()) {
+          setResourceGroupMap(resourceGroupMapOptional);
+        }
+        Optional<BuildTarget> binaryOptional = instance.getBinary();
+        if (binaryOptional.isPresent()) {
+          setBinary(binaryOptional);
+        }
+        Optional<Boolean> ibtoolModuleFlagOptional = instance.getIbtoolModuleFlag();
+        if (ibtoolModuleFlagOptional.isPresent()) {
+          setIbtoolModuleFlag(ibtoolModuleFlagOptional);
+        }
+        if ((bits & 0x1L) == 0) {
+          addAllDeps(instance.getDeps());
+          bits |= 0x1L;
+        }
+        Optional<ImmutableList<String>> ibtoolFlagsOptional = instance.getIbtoolFlags();
+        if (ibtoolFlagsOptional.isPresent()) {
+          setIbtoolFlags(ibtoolFlagsOptional);
+        }
+      }
+      if (object instanceof HasDefaultPlatform) {
+        HasDefaultPlatform instance = (HasDefaultPlatform) object;
+        Optional<Flavor> defaultPlatformOptional = instance.getDefaultPlatform();
+        if (defaultPlatformOptional.isPresent()) {
+          setDefaultPlatform(defaultPlatformOptional);
+        }
+      }
+      if (object instanceof HasAppleCodesignFields) {
+        HasAppleCodesignFields instance = (HasAppleCodesignFields) object;
+        Optional<String> codesignIdentityOptional = instance.getCodesignIdentity();
+        if (codesignIdentityOptional.isPresent()) {
+          setCodesignIdentity(codesignIdentityOptional);
+        }
+        addAllCodesignFlags(instance.getCodesignFlags());
+      }
+      if (object instanceof BuildRuleArg) {
+        BuildRuleArg instance = (BuildRuleArg) object;
+        addAllLicenses(instance.getLicenses());
+        addAllCompatibleWith(instance.getCompatibleWith());
+        addAllLabels(instance.getLabels());
+        Optional<UnconfiguredBuildTarget> defaultTargetPlatformOptional = instance.getDefaultTargetPlatform();
+        if (defaultTargetPlatformOptional.isPresent()) {
+          setDefaultTargetPlatform(defaultTargetPlatformOptional);
+        }
+      }
+      if (object instanceof HasContacts) {
+        HasContacts instance = (HasContacts) object;
+        addAllContacts(instance.getContacts());
+      }
+      if (object instanceof ConstructorArg) {
+        ConstructorArg instance = (ConstructorArg) object;
+        setName(instance.getName());
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getBinary() binary} to binary.
+     * @param binary The value for binary
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBinary(BuildTarget binary) {
+      this.binary = Objects.requireNonNull(binary, "binary");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getBinary() binary} to binary.
+     * @param binary The value for binary
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBinary(Optional<? extends BuildTarget> binary) {
+      this.binary = binary.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getPlatformBinary() platformBinary} to platformBinary.
+     * @param platformBinary The value for platformBinary
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformBinary(PatternMatchedCollection<BuildTarget> platformBinary) {
+      this.platformBinary = Objects.requireNonNull(platformBinary, "platformBinary");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getPlatformBinary() platformBinary} to platformBinary.
+     * @param platformBinary The value for platformBinary
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformBinary(Optional<? extends PatternMatchedCollection<BuildTarget>> platformBinary) {
+      this.platformBinary = platformBinary.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getIbtoolModuleFlag() ibtoolModuleFlag} to ibtoolModuleFlag.
+     * @param ibtoolModuleFlag The value for ibtoolModuleFlag
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIbtoolModuleFlag(boolean ibtoolModuleFlag) {
+      this.ibtoolModuleFlag = ibtoolModuleFlag;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getIbtoolModuleFlag() ibtoolModuleFlag} to ibtoolModuleFlag.
+     * @param ibtoolModuleFlag The value for ibtoolModuleFlag
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIbtoolModuleFlag(Optional<Boolean> ibtoolModuleFlag) {
+      this.ibtoolModuleFlag = ibtoolModuleFlag.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getIbtoolFlags() ibtoolFlags} to ibtoolFlags.
+     * @param ibtoolFlags The value for ibtoolFlags
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIbtoolFlags(ImmutableList<String> ibtoolFlags) {
+      this.ibtoolFlags = Objects.requireNonNull(ibtoolFlags, "ibtoolFlags");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getIbtoolFlags() ibtoolFlags} to ibtoolFlags.
+     * @param ibtoolFlags The value for ibtoolFlags
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIbtoolFlags(Optional<? extends ImmutableList<String>> ibtoolFlags) {
+      this.ibtoolFlags = ibtoolFlags.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getResourceGroupMap() resourceGroupMap} to resourceGroupMap.
+     * @param resourceGroupMap The value for resourceGroupMap
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourceGroupMap(ImmutableList<CxxLinkGroupMapping> resourceGroupMap) {
+      this.resourceGroupMap = Objects.requireNonNull(resourceGroupMap, "resourceGroupMap");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getResourceGroupMap() resourceGroupMap} to resourceGroupMap.
+     * @param resourceGroupMap The value for resourceGroupMap
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourceGroupMap(Optional<? extends ImmutableList<CxxLinkGroupMapping>> resourceGroupMap) {
+      this.resourceGroupMap = resourceGroupMap.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getResourceGroup() resourceGroup} to resourceGroup.
+     * @param resourceGroup The value for resourceGroup
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourceGroup(String resourceGroup) {
+      this.resourceGroup = Objects.requireNonNull(resourceGroup, "resourceGroup");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getResourceGroup() resourceGroup} to resourceGroup.
+     * @param resourceGroup The value for resourceGroup
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourceGroup(Optional<String> resourceGroup) {
+      this.resourceGroup = resourceGroup.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBundleDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBundleDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBundleDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBundleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBundleDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBundleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(UnconfiguredBuildTarget defaultTargetPlatform) {
+      this.defaultTargetPlatform = Objects.requireNonNull(defaultTargetPlatform, "defaultTargetPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(Optional<? extends UnconfiguredBuildTarget> defaultTargetPlatform) {
+      this.defaultTargetPlatform = defaultTargetPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBundleDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param element A compatibleWith element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget element) {
+      this.compatibleWith.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An array of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget... elements) {
+      this.compatibleWith.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBundleDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith = ImmutableList.builder();
+      return addAllCompatibleWith(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleBundleDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleBundleDescriptionArg#getExtension() extension} attribute.
+     * @param extension The value for extension 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExtension(Either<AppleBundleExtension, String> extension) {
+      this.extension = Objects.requireNonNull(extension, "extension");
+      initBits &= ~INIT_BIT_EXTENSION;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleBundleDescriptionArg#getInfoPlist() infoPlist} attribute.
+     * @param infoPlist The value for infoPlist 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setInfoPlist(SourcePath infoPlist) {
+      this.infoPlist = Objects.requireNonNull(infoPlist, "infoPlist");
+      initBits &= ~INIT_BIT_INFO_PLIST;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getProductName() productName} to productName.
+     * @param productName The value for productName
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProductName(String productName) {
+      this.productName = Objects.requireNonNull(productName, "productName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getProductName() productName} to productName.
+     * @param productName The value for productName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProductName(Optional<String> productName) {
+      this.productName = productName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getXcodeProductType() xcodeProductType} to xcodeProductType.
+     * @param xcodeProductType The value for xcodeProductType
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setXcodeProductType(String xcodeProductType) {
+      this.xcodeProductType = Objects.requireNonNull(xcodeProductType, "xcodeProductType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getXcodeProductType() xcodeProductType} to xcodeProductType.
+     * @param xcodeProductType The value for xcodeProductType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setXcodeProductType(Optional<String> xcodeProductType) {
+      this.xcodeProductType = xcodeProductType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getIsAppClip() isAppClip} to isAppClip.
+     * @param isAppClip The value for isAppClip
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIsAppClip(boolean isAppClip) {
+      this.isAppClip = isAppClip;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getIsAppClip() isAppClip} to isAppClip.
+     * @param isAppClip The value for isAppClip
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIsAppClip(Optional<Boolean> isAppClip) {
+      this.isAppClip = isAppClip.orElse(null);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleBundleDescriptionArg#getInfoPlistSubstitutions() infoPlistSubstitutions} map.
+     * @param key The key in the infoPlistSubstitutions map
+     * @param value The associated value in the infoPlistSubstitutions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putInfoPlistSubstitutions(String key, String value) {
+      this.infoPlistSubstitutions.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleBundleDescriptionArg#getInfoPlistSubstitutions() infoPlistSubstitutions} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putInfoPlistSubstitutions(Map.Entry<String, ? extends String> entry) {
+      this.infoPlistSubstitutions.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AppleBundleDescriptionArg#getInfoPlistSubstitutions() infoPlistSubstitutions} map. Nulls are not permitted
+     * @param entries The entries that will be added to the infoPlistSubstitutions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setInfoPlistSubstitutions(Map<String, ? extends String> entries) {
+      this.infoPlistSubstitutions = ImmutableMap.builder();
+      return putAllInfoPlistSubstitutions(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AppleBundleDescriptionArg#getInfoPlistSubstitutions() infoPlistSubstitutions} map. Nulls are not permitted
+     * @param entries The entries that will be added to the infoPlistSubstitutions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllInfoPlistSubstitutions(Map<String, ? extends String> entries) {
+      this.infoPlistSubstitutions.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleBundleDescriptionArg#getAssetCatalogsCompilationOptions() assetCatalogsCompilationOptions} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleBundleDescriptionArg#getAssetCatalogsCompilationOptions() assetCatalogsCompilationOptions}.</em>
+     * @param assetCatalogsCompilationOptions The value for assetCatalogsCompilationOptions 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAssetCatalogsCompilationOptions(AppleAssetCatalogsCompilationOptions assetCatalogsCompilationOptions) {
+      this.assetCatalogsCompilationOptions = Objects.requireNonNull(assetCatalogsCompilationOptions, "assetCatalogsCompilationOptions");
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBundleDescriptionArg#getCodesignFlags() codesignFlags} list.
+     * @param element A codesignFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCodesignFlags(String element) {
+      this.codesignFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescriptionArg#getCodesignFlags() codesignFlags} list.
+     * @param elements An array of codesignFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCodesignFlags(String... elements) {
+      this.codesignFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBundleDescriptionArg#getCodesignFlags() codesignFlags} list.
+     * @param elements An iterable of codesignFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCodesignFlags(Iterable<String> elements) {
+      this.codesignFlags = ImmutableList.builder();
+      return addAllCodesignFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescriptionArg#getCodesignFlags() codesignFlags} list.
+     * @param elements An iterable of codesignFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCodesignFlags(Iterable<String> elements) {
+      this.codesignFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getCodesignIdentity() codesignIdentity} to codesignIdentity.
+     * @param codesignIdentity The value for codesignIdentity
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCodesignIdentity(String codesignIdentity) {
+      this.codesignIdentity = Objects.requireNonNull(codesignIdentity, "codesignIdentity");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getCodesignIdentity() codesignIdentity} to codesignIdentity.
+     * @param codesignIdentity The value for codesignIdentity
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCodesignIdentity(Optional<String> codesignIdentity) {
+      this.codesignIdentity = codesignIdentity.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBundleDescriptionArg#getContacts() contacts} sortedSet.
+     * @param element A contacts element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addContacts(String element) {
+      this.contacts.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An array of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addContacts(String... elements) {
+      this.contacts.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBundleDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setContacts(Iterable<String> elements) {
+      this.contacts = ImmutableSortedSet.naturalOrder();
+      return addAllContacts(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllContacts(Iterable<String> elements) {
+      this.contacts.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getDefaultPlatform() defaultPlatform} to defaultPlatform.
+     * @param defaultPlatform The value for defaultPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultPlatform(Flavor defaultPlatform) {
+      this.defaultPlatform = Objects.requireNonNull(defaultPlatform, "defaultPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescriptionArg#getDefaultPlatform() defaultPlatform} to defaultPlatform.
+     * @param defaultPlatform The value for defaultPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultPlatform(Optional<? extends Flavor> defaultPlatform) {
+      this.defaultPlatform = defaultPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBundleDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBundleDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AppleBundleDescriptionArg AppleBundleDescriptionArg}.
+     * @return An immutable instance of AppleBundleDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AppleBundleDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AppleBundleDescriptionArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      if ((initBits & INIT_BIT_EXTENSION) != 0) attributes.add("extension");
+      if ((initBits & INIT_BIT_INFO_PLIST) != 0) attributes.add("infoPlist");
+      return "Cannot build AppleBundleDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,749 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.core.description.arg.BuildRuleArg;
+import com.facebook.buck.core.description.arg.ConstructorArg;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AppleResourceDescription.AbstractAppleResourceDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AppleResourceDescriptionArg.builder()}.
+ */
+@Generated(from = "AppleResourceDescription.AbstractAppleResourceDescriptionArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class AppleResourceDescriptionArg
+    implements AppleResourceDescription.AbstractAppleResourceDescriptionArg {
+  private final ImmutableSet<SourcePath> dirs;
+  private final ImmutableSet<SourcePath> files;
+  private final ImmutableSet<SourcePath> variants;
+  private final ImmutableSet<BuildTarget> resourcesFromDeps;
+  private final @Nullable AppleBundleDestination destination;
+  private final boolean codesignOnCopy;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+  private final ImmutableList<UnconfiguredBuildTarget> compatibleWith;
+  private final String name;
+
+  private AppleResourceDescriptionArg(AppleResourceDescriptionArg.Builder builder) {
+    this.dirs = builder.dirs.build();
+    this.files = builder.files.build();
+    this.variants = builder.variants.build();
+    this.resourcesFromDeps = builder.resourcesFromDeps.build();
+    this.destination = builder.destination;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.defaultTargetPlatform = builder.defaultTargetPlatform;
+    this.compatibleWith = builder.compatibleWith.build();
+    this.name = builder.name;
+    this.codesignOnCopy = builder.codesignOnCopyIsSet()
+        ? builder.codesignOnCopy
+        : AppleResourceDescription.AbstractAppleResourceDescriptionArg.super.getCodesignOnCopy();
+  }
+
+  /**
+   * @return The value of the {@code dirs} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getDirs() {
+    return dirs;
+  }
+
+  /**
+   * @return The value of the {@code files} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getFiles() {
+    return files;
+  }
+
+  /**
+   * @return The value of the {@code variants} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getVariants() {
+    return variants;
+  }
+
+  /**
+   * @return The value of the {@code resourcesFromDeps} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getResourcesFromDeps() {
+    return resourcesFromDeps;
+  }
+
+  /**
+   * @return The value of the {@code destination} attribute
+   */
+  @Override
+  public Optional<AppleBundleDestination> getDestination() {
+    return Optional.ofNullable(destination);
+  }
+
+  /**
+   * @return The value of the {@code codesignOnCopy} attribute
+   */
+  @Override
+  public boolean getCodesignOnCopy() {
+    return codesignOnCopy;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * The name of build target default "new" platform: it is used when a platform is not specified
+   * either globally or in a target which used this target as a dependency.
+   * <p>The value is a build target, but we specify it as string, because this function is not
+   * actually called, but the attr is fetched by name from the raw (unconfigured) target node.
+   */
+  @Override
+  public Optional<UnconfiguredBuildTarget> getDefaultTargetPlatform() {
+    return Optional.ofNullable(defaultTargetPlatform);
+  }
+
+  /**
+   *A list of {@code config_setting} a target is compatible with. 
+   */
+  @Override
+  public ImmutableList<UnconfiguredBuildTarget> getCompatibleWith() {
+    return compatibleWith;
+  }
+
+  /**
+   *Each rule has a name 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AppleResourceDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AppleResourceDescriptionArg
+        && equalTo((AppleResourceDescriptionArg) another);
+  }
+
+  private boolean equalTo(AppleResourceDescriptionArg another) {
+    return dirs.equals(another.dirs)
+        && files.equals(another.files)
+        && variants.equals(another.variants)
+        && resourcesFromDeps.equals(another.resourcesFromDeps)
+        && Objects.equals(destination, another.destination)
+        && codesignOnCopy == another.codesignOnCopy
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && Objects.equals(defaultTargetPlatform, another.defaultTargetPlatform)
+        && compatibleWith.equals(another.compatibleWith)
+        && name.equals(another.name);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code dirs}, {@code files}, {@code variants}, {@code resourcesFromDeps}, {@code destination}, {@code codesignOnCopy}, {@code licenses}, {@code labels}, {@code defaultTargetPlatform}, {@code compatibleWith}, {@code name}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + dirs.hashCode();
+    h += (h << 5) + files.hashCode();
+    h += (h << 5) + variants.hashCode();
+    h += (h << 5) + resourcesFromDeps.hashCode();
+    h += (h << 5) + Objects.hashCode(destination);
+    h += (h << 5) + Booleans.hashCode(codesignOnCopy);
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultTargetPlatform);
+    h += (h << 5) + compatibleWith.hashCode();
+    h += (h << 5) + name.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleResourceDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleResourceDescriptionArg")
+        .omitNullValues()
+        .add("dirs", dirs)
+        .add("files", files)
+        .add("variants", variants)
+        .add("resourcesFromDeps", resourcesFromDeps)
+        .add("destination", destination)
+        .add("codesignOnCopy", codesignOnCopy)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("defaultTargetPlatform", defaultTargetPlatform)
+        .add("compatibleWith", compatibleWith)
+        .add("name", name)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AppleResourceDescriptionArg AppleResourceDescriptionArg}.
+   * @return A new AppleResourceDescriptionArg builder
+   */
+  public static AppleResourceDescriptionArg.Builder builder() {
+    return new AppleResourceDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AppleResourceDescriptionArg AppleResourceDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AppleResourceDescription.AbstractAppleResourceDescriptionArg", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_CODESIGN_ON_COPY = 0x1L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private ImmutableSet.Builder<SourcePath> dirs = ImmutableSet.builder();
+    private ImmutableSet.Builder<SourcePath> files = ImmutableSet.builder();
+    private ImmutableSet.Builder<SourcePath> variants = ImmutableSet.builder();
+    private ImmutableSet.Builder<BuildTarget> resourcesFromDeps = ImmutableSet.builder();
+    private @Nullable AppleBundleDestination destination;
+    private boolean codesignOnCopy;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+    private ImmutableList.Builder<UnconfiguredBuildTarget> compatibleWith = ImmutableList.builder();
+    private @Nullable String name;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AppleResourceDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AppleResourceDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAppleResourceDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AppleResourceDescription.AbstractAppleResourceDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.BuildRuleArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuildRuleArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.ConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof AppleResourceDescription.AbstractAppleResourceDescriptionArg) {
+        AppleResourceDescription.AbstractAppleResourceDescriptionArg instance = (AppleResourceDescription.AbstractAppleResourceDescriptionArg) object;
+        Optional<AppleBundleDestination> destinationOptional = instance.getDestination();
+        if (destinationOptional.isPresent()) {
+          setDestination(destinationOptional);
+        }
+        setCodesignOnCopy(instance.getCodesignOnCopy());
+        addAllDirs(instance.getDirs());
+        addAllFiles(instance.getFiles());
+        addAllVariants(instance.getVariants());
+        addAllResourcesFromDeps(instance.getResourcesFromDeps());
+      }
+      if (object instanceof BuildRuleArg) {
+        BuildRuleArg instance = (BuildRuleArg) object;
+        addAllLicenses(instance.getLicenses());
+        addAllCompatibleWith(instance.getCompatibleWith());
+        addAllLabels(instance.getLabels());
+        Optional<UnconfiguredBuildTarget> defaultTargetPlatformOptional = instance.getDefaultTargetPlatform();
+        if (defaultTargetPlatformOptional.isPresent()) {
+          setDefaultTargetPlatform(defaultTargetPlatformOptional);
+        }
+      }
+      if (object instanceof ConstructorArg) {
+        ConstructorArg instance = (ConstructorArg) object;
+        setName(instance.getName());
+      }
+    }
+
+    /**
+     * Adds one element to {@link AppleResourceDescriptionArg#getDirs() dirs} set.
+     * @param element A dirs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDirs(SourcePath element) {
+      this.dirs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleResourceDescriptionArg#getDirs() dirs} set.
+     * @param elements An array of dirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDirs(SourcePath... elements) {
+      this.dirs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleResourceDescriptionArg#getDirs() dirs} set.
+     * @param elements An iterable of dirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDirs(Iterable<? extends SourcePath> elements) {
+      this.dirs = ImmutableSet.builder();
+      return addAllDirs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleResourceDescriptionArg#getDirs() dirs} set.
+     * @param elements An iterable of dirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDirs(Iterable<? extends SourcePath> elements) {
+      this.dirs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleResourceDescriptionArg#getFiles() files} set.
+     * @param element A files element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addFiles(SourcePath element) {
+      this.files.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleResourceDescriptionArg#getFiles() files} set.
+     * @param elements An array of files elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addFiles(SourcePath... elements) {
+      this.files.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleResourceDescriptionArg#getFiles() files} set.
+     * @param elements An iterable of files elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFiles(Iterable<? extends SourcePath> elements) {
+      this.files = ImmutableSet.builder();
+      return addAllFiles(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleResourceDescriptionArg#getFiles() files} set.
+     * @param elements An iterable of files elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllFiles(Iterable<? extends SourcePath> elements) {
+      this.files.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleResourceDescriptionArg#getVariants() variants} set.
+     * @param element A variants element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addVariants(SourcePath element) {
+      this.variants.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleResourceDescriptionArg#getVariants() variants} set.
+     * @param elements An array of variants elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addVariants(SourcePath... elements) {
+      this.variants.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleResourceDescriptionArg#getVariants() variants} set.
+     * @param elements An iterable of variants elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVariants(Iterable<? extends SourcePath> elements) {
+      this.variants = ImmutableSet.builder();
+      return addAllVariants(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleResourceDescriptionArg#getVariants() variants} set.
+     * @param elements An iterable of variants elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllVariants(Iterable<? extends SourcePath> elements) {
+      this.variants.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleResourceDescriptionArg#getResourcesFromDeps() resourcesFromDeps} set.
+     * @param element A resourcesFromDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addResourcesFromDeps(BuildTarget element) {
+      this.resourcesFromDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleResourceDescriptionArg#getResourcesFromDeps() resourcesFromDeps} set.
+     * @param elements An array of resourcesFromDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addResourcesFromDeps(BuildTarget... elements) {
+      this.resourcesFromDeps.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleResourceDescriptionArg#getResourcesFromDeps() resourcesFromDeps} set.
+     * @param elements An iterable of resourcesFromDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourcesFromDeps(Iterable<? extends BuildTarget> elements) {
+      this.resourcesFromDeps = ImmutableSet.builder();
+      return addAllResourcesFromDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleResourceDescriptionArg#getResourcesFromDeps() resourcesFromDeps} set.
+     * @param elements An iterable of resourcesFromDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllResourcesFromDeps(Iterable<? extends BuildTarget> elements) {
+      this.resourcesFromDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleResourceDescriptionArg#getDestination() destination} to destination.
+     * @param destination The value for destination
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDestination(AppleBundleDestination destination) {
+      this.destination = Objects.requireNonNull(destination, "destination");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleResourceDescriptionArg#getDestination() destination} to destination.
+     * @param destination The value for destination
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDestination(Optional<? extends AppleBundleDestination> destination) {
+      this.destination = destination.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleResourceDescriptionArg#getCodesignOnCopy() codesignOnCopy} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleResourceDescriptionArg#getCodesignOnCopy() codesignOnCopy}.</em>
+     * @param codesignOnCopy The value for codesignOnCopy 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCodesignOnCopy(boolean codesignOnCopy) {
+      this.codesignOnCopy = codesignOnCopy;
+      optBits |= OPT_BIT_CODESIGN_ON_COPY;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleResourceDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleResourceDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleResourceDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleResourceDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleResourceDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleResourceDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleResourceDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleResourceDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleResourceDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(UnconfiguredBuildTarget defaultTargetPlatform) {
+      this.defaultTargetPlatform = Objects.requireNonNull(defaultTargetPlatform, "defaultTargetPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleResourceDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(Optional<? extends UnconfiguredBuildTarget> defaultTargetPlatform) {
+      this.defaultTargetPlatform = defaultTargetPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleResourceDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param element A compatibleWith element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget element) {
+      this.compatibleWith.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleResourceDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An array of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget... elements) {
+      this.compatibleWith.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleResourceDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith = ImmutableList.builder();
+      return addAllCompatibleWith(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleResourceDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleResourceDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AppleResourceDescriptionArg AppleResourceDescriptionArg}.
+     * @return An immutable instance of AppleResourceDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AppleResourceDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AppleResourceDescriptionArg(this);
+    }
+
+    private boolean codesignOnCopyIsSet() {
+      return (optBits & OPT_BIT_CODESIGN_ON_COPY) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build AppleResourceDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,1181 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.core.description.arg.BuildRuleArg;
+import com.facebook.buck.core.description.arg.ConstructorArg;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * apple_toolchain defines tools, cxx and swift toolchains and other properties to define
+ * AppleCxxPlatform.
+ */
+@Generated(from = "AppleToolchainDescription.AbstractAppleToolchainDescriptionArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class AppleToolchainDescriptionArg
+    implements AppleToolchainDescription.AbstractAppleToolchainDescriptionArg {
+  private final String sdkName;
+  private final String architecture;
+  private final SourcePath platformPath;
+  private final SourcePath sdkPath;
+  private final String version;
+  private final @Nullable String buildVersion;
+  private final String minVersion;
+  private final SourcePath actool;
+  private final SourcePath dsymutil;
+  private final SourcePath ibtool;
+  private final SourcePath libtool;
+  private final SourcePath lipo;
+  private final SourcePath lldb;
+  private final SourcePath momc;
+  private final SourcePath xctest;
+  private final @Nullable SourcePath copySceneKitAssets;
+  private final SourcePath codesign;
+  private final SourcePath codesignAllocate;
+  private final BuildTarget cxxToolchain;
+  private final @Nullable BuildTarget swiftToolchain;
+  private final @Nullable SourcePath developerPath;
+  private final String xcodeVersion;
+  private final String xcodeBuildVersion;
+  private final @Nullable Boolean workAroundDsymutilLtoStackOverflowBug;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+  private final ImmutableList<UnconfiguredBuildTarget> compatibleWith;
+  private final String name;
+
+  private AppleToolchainDescriptionArg(AppleToolchainDescriptionArg.Builder builder) {
+    this.sdkName = builder.sdkName;
+    this.architecture = builder.architecture;
+    this.platformPath = builder.platformPath;
+    this.sdkPath = builder.sdkPath;
+    this.version = builder.version;
+    this.buildVersion = builder.buildVersion;
+    this.minVersion = builder.minVersion;
+    this.actool = builder.actool;
+    this.dsymutil = builder.dsymutil;
+    this.ibtool = builder.ibtool;
+    this.libtool = builder.libtool;
+    this.lipo = builder.lipo;
+    this.lldb = builder.lldb;
+    this.momc = builder.momc;
+    this.xctest = builder.xctest;
+    this.copySceneKitAssets = builder.copySceneKitAssets;
+    this.codesign = builder.codesign;
+    this.codesignAllocate = builder.codesignAllocate;
+    this.cxxToolchain = builder.cxxToolchain;
+    this.swiftToolchain = builder.swiftToolchain;
+    this.developerPath = builder.developerPath;
+    this.xcodeVersion = builder.xcodeVersion;
+    this.xcodeBuildVersion = builder.xcodeBuildVersion;
+    this.workAroundDsymutilLtoStackOverflowBug = builder.workAroundDsymutilLtoStackOverflowBug;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.defaultTargetPlatform = builder.defaultTargetPlatform;
+    this.compatibleWith = builder.compatibleWith.build();
+    this.name = builder.name;
+  }
+
+  /**
+   *Name of SDK which should be used. 
+   */
+  @Override
+  public String getSdkName() {
+    return sdkName;
+  }
+
+  /**
+   *Target architecture. 
+   */
+  @Override
+  public String getArchitecture() {
+    return architecture;
+  }
+
+  /**
+   *Path to Apple platform 
+   */
+  @Override
+  public SourcePath getPlatformPath() {
+    return platformPath;
+  }
+
+  /**
+   *Path to Apple SDK. 
+   */
+  @Override
+  public SourcePath getSdkPath() {
+    return sdkPath;
+  }
+
+  /**
+   *Version of SDK. 
+   */
+  @Override
+  public String getVersion() {
+    return version;
+  }
+
+  /**
+   *Build version. Can be found in ProductBuildVersion in platform version.plist 
+   */
+  @Override
+  public Optional<String> getBuildVersion() {
+    return Optional.ofNullable(buildVersion);
+  }
+
+  /**
+   *Target SDK version. 
+   */
+  @Override
+  public String getMinVersion() {
+    return minVersion;
+  }
+
+  /**
+   *actool binary. 
+   */
+  @Override
+  public SourcePath getActool() {
+    return actool;
+  }
+
+  /**
+   *dsymutil binary. 
+   */
+  @Override
+  public SourcePath getDsymutil() {
+    return dsymutil;
+  }
+
+  /**
+   *ibtool binary. 
+   */
+  @Override
+  public SourcePath getIbtool() {
+    return ibtool;
+  }
+
+  /**
+   *libtool binary. 
+   */
+  @Override
+  public SourcePath getLibtool() {
+    return libtool;
+  }
+
+  /**
+   *lipo binary. 
+   */
+  @Override
+  public SourcePath getLipo() {
+    return lipo;
+  }
+
+  /**
+   *lldb binary. 
+   */
+  @Override
+  public SourcePath getLldb() {
+    return lldb;
+  }
+
+  /**
+   *momc binary. 
+   */
+  @Override
+  public SourcePath getMomc() {
+    return momc;
+  }
+
+  /**
+   *xctest binary. 
+   */
+  @Override
+  public SourcePath getXctest() {
+    return xctest;
+  }
+
+  /**
+   *copySceneKitAssets binary. 
+   */
+  @Override
+  public Optional<SourcePath> getCopySceneKitAssets() {
+    return Optional.ofNullable(copySceneKitAssets);
+  }
+
+  /**
+   *codesign binary. 
+   */
+  @Override
+  public SourcePath getCodesign() {
+    return codesign;
+  }
+
+  /**
+   *codesign_allocate binary. 
+   */
+  @Override
+  public SourcePath getCodesignAllocate() {
+    return codesignAllocate;
+  }
+
+  /**
+   *Target for the cxx toolchain which should be used for this SDK. 
+   */
+  @Override
+  public BuildTarget getCxxToolchain() {
+    return cxxToolchain;
+  }
+
+  /**
+   *Target for the swift toolchain which should be used for this SDK. 
+   */
+  @Override
+  public Optional<BuildTarget> getSwiftToolchain() {
+    return Optional.ofNullable(swiftToolchain);
+  }
+
+  /**
+   *Developer directory of the toolchain 
+   */
+  @Override
+  public Optional<SourcePath> getDeveloperPath() {
+    return Optional.ofNullable(developerPath);
+  }
+
+  /**
+   *XCode version which can be found in DTXcode in XCode plist 
+   */
+  @Override
+  public String getXcodeVersion() {
+    return xcodeVersion;
+  }
+
+  /**
+   *XCode build version from from 'xcodebuild -version' 
+   */
+  @Override
+  public String getXcodeBuildVersion() {
+    return xcodeBuildVersion;
+  }
+
+  /**
+   *If work around for dsymutil should be used. 
+   */
+  @Override
+  public Optional<Boolean> getWorkAroundDsymutilLtoStackOverflowBug() {
+    return Optional.ofNullable(workAroundDsymutilLtoStackOverflowBug);
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * The name of build target default "new" platform: it is used when a platform is not specified
+   * either globally or in a target which used this target as a dependency.
+   * <p>The value is a build target, but we specify it as string, because this function is not
+   * actually called, but the attr is fetched by name from the raw (unconfigured) target node.
+   */
+  @Override
+  public Optional<UnconfiguredBuildTarget> getDefaultTargetPlatform() {
+    return Optional.ofNullable(defaultTargetPlatform);
+  }
+
+  /**
+   *A list of {@code config_setting} a target is compatible with. 
+   */
+  @Override
+  public ImmutableList<UnconfiguredBuildTarget> getCompatibleWith() {
+    return compatibleWith;
+  }
+
+  /**
+   *Each rule has a name 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AppleToolchainDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AppleToolchainDescriptionArg
+        && equalTo((AppleToolchainDescriptionArg) another);
+  }
+
+  private boolean equalTo(AppleToolchainDescriptionArg another) {
+    return sdkName.equals(another.sdkName)
+        && architecture.equals(another.architecture)
+        && platformPath.equals(another.platformPath)
+        && sdkPath.equals(another.sdkPath)
+        && version.equals(another.version)
+        && Objects.equals(buildVersion, another.buildVersion)
+        && minVersion.equals(another.minVersion)
+        && actool.equals(another.actool)
+        && dsymutil.equals(another.dsymutil)
+        && ibtool.equals(another.ibtool)
+        && libtool.equals(another.libtool)
+        && lipo.equals(another.lipo)
+        && lldb.equals(another.lldb)
+        && momc.equals(another.momc)
+        && xctest.equals(another.xctest)
+        && Objects.equals(copySceneKitAssets, another.copySceneKitAssets)
+        && codesign.equals(another.codesign)
+        && codesignAllocate.equals(another.codesignAllocate)
+        && cxxToolchain.equals(another.cxxToolchain)
+        && Objects.equals(swiftToolchain, another.swiftToolchain)
+        && Objects.equals(developerPath, another.developerPath)
+        && xcodeVersion.equals(another.xcodeVersion)
+        && xcodeBuildVersion.equals(another.xcodeBuildVersion)
+        && Objects.equals(workAroundDsymutilLtoStackOverflowBug, another.workAroundDsymutilLtoStackOverflowBug)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && Objects.equals(defaultTargetPlatform, another.defaultTargetPlatform)
+        && compatibleWith.equals(another.compatibleWith)
+        && name.equals(another.name);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code sdkName}, {@code architecture}, {@code platformPath}, {@code sdkPath}, {@code version}, {@code buildVersion}, {@code minVersion}, {@code actool}, {@code dsymutil}, {@code ibtool}, {@code libtool}, {@code lipo}, {@code lldb}, {@code momc}, {@code xctest}, {@code copySceneKitAssets}, {@code codesign}, {@code codesignAllocate}, {@code cxxToolchain}, {@code swiftToolchain}, {@code developerPath}, {@code xcodeVersion}, {@code xcodeBuildVersion}, {@code workAroundDsymutilLtoStackOverflowBug}, {@code licenses}, {@code labels}, {@code defaultTargetPlatform}, {@code compatibleWith}, {@code name}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + sdkName.hashCode();
+    h += (h << 5) + architecture.hashCode();
+    h += (h << 5) + platformPath.hashCode();
+    h += (h << 5) + sdkPath.hashCode();
+    h += (h << 5) + version.hashCode();
+    h += (h << 5) + Objects.hashCode(buildVersion);
+    h += (h << 5) + minVersion.hashCode();
+    h += (h << 5) + actool.hashCode();
+    h += (h << 5) + dsymutil.hashCode();
+    h += (h << 5) + ibtool.hashCode();
+    h += (h << 5) + libtool.hashCode();
+    h += (h << 5) + lipo.hashCode();
+    h += (h << 5) + lldb.hashCode();
+    h += (h << 5) + momc.hashCode();
+    h += (h << 5) + xctest.hashCode();
+    h += (h << 5) + Objects.hashCode(copySceneKitAssets);
+    h += (h << 5) + codesign.hashCode();
+    h += (h << 5) + codesignAllocate.hashCode();
+    h += (h << 5) + cxxToolchain.hashCode();
+    h += (h << 5) + Objects.hashCode(swiftToolchain);
+    h += (h << 5) + Objects.hashCode(developerPath);
+    h += (h << 5) + xcodeVersion.hashCode();
+    h += (h << 5) + xcodeBuildVersion.hashCode();
+    h += (h << 5) + Objects.hashCode(workAroundDsymutilLtoStackOverflowBug);
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultTargetPlatform);
+    h += (h << 5) + compatibleWith.hashCode();
+    h += (h << 5) + name.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleToolchainDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleToolchainDescriptionArg")
+        .omitNullValues()
+        .add("sdkName", sdkName)
+        .add("architecture", architecture)
+        .add("platformPath", platformPath)
+        .add("sdkPath", sdkPath)
+        .add("version", version)
+        .add("buildVersion", buildVersion)
+        .add("minVersion", minVersion)
+        .add("actool", actool)
+        .add("dsymutil", dsymutil)
+        .add("ibtool", ibtool)
+        .add("libtool", libtool)
+        .add("lipo", lipo)
+        .add("lldb", lldb)
+        .add("momc", momc)
+        .add("xctest", xctest)
+        .add("copySceneKitAssets", copySceneKitAssets)
+        .add("codesign", codesign)
+        .add("codesignAllocate", codesignAllocate)
+        .add("cxxToolchain", cxxToolchain)
+        .add("swiftToolchain", swiftToolchain)
+        .add("developerPath", developerPath)
+        .add("xcodeVersion", xcodeVersion)
+        .add("xcodeBuildVersion", xcodeBuildVersion)
+        .add("workAroundDsymutilLtoStackOverflowBug", workAroundDsymutilLtoStackOverflowBug)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("defaultTargetPlatform", defaultTargetPlatform)
+        .add("compatibleWith", compatibleWith)
+        .add("name", name)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AppleToolchainDescriptionArg AppleToolchainDescriptionArg}.
+   * @return A new AppleToolchainDescriptionArg builder
+   */
+  public static AppleToolchainDescriptionArg.Builder builder() {
+    return new AppleToolchainDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AppleToolchainDescriptionArg AppleToolchainDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AppleToolchainDescription.AbstractAppleToolchainDescriptionArg", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SDK_NAME = 0x1L;
+    private static final long INIT_BIT_ARCHITECTURE = 0x2L;
+    private static final long INIT_BIT_PLATFORM_PATH = 0x4L;
+    private static final long INIT_BIT_SDK_PATH = 0x8L;
+    private static final long INIT_BIT_VERSION = 0x10L;
+    private static final long INIT_BIT_MIN_VERSION = 0x20L;
+    private static final long INIT_BIT_ACTOOL = 0x40L;
+    private static final long INIT_BIT_DSYMUTIL = 0x80L;
+    private static final long INIT_BIT_IBTOOL = 0x100L;
+    private static final long INIT_BIT_LIBTOOL = 0x200L;
+    private static final long INIT_BIT_LIPO = 0x400L;
+    private static final long INIT_BIT_LLDB = 0x800L;
+    private static final long INIT_BIT_MOMC = 0x1000L;
+    private static final long INIT_BIT_XCTEST = 0x2000L;
+    private static final long INIT_BIT_CODESIGN = 0x4000L;
+    private static final long INIT_BIT_CODESIGN_ALLOCATE = 0x8000L;
+    private static final long INIT_BIT_CXX_TOOLCHAIN = 0x10000L;
+    private static final long INIT_BIT_XCODE_VERSION = 0x20000L;
+    private static final long INIT_BIT_XCODE_BUILD_VERSION = 0x40000L;
+    private static final long INIT_BIT_NAME = 0x80000L;
+    private long initBits = 0xfffffL;
+
+    private @Nullable String sdkName;
+    private @Nullable String architecture;
+    private @Nullable SourcePath platformPath;
+    private @Nullable SourcePath sdkPath;
+    private @Nullable String version;
+    private @Nullable String buildVersion;
+    private @Nullable String minVersion;
+    private @Nullable SourcePath actool;
+    private @Nullable SourcePath dsymutil;
+    private @Nullable SourcePath ibtool;
+    private @Nullable SourcePath libtool;
+    private @Nullable SourcePath lipo;
+    private @Nullable SourcePath lldb;
+    private @Nullable SourcePath momc;
+    private @Nullable SourcePath xctest;
+    private @Nullable SourcePath copySceneKitAssets;
+    private @Nullable SourcePath codesign;
+    private @Nullable SourcePath codesignAllocate;
+    private @Nullable BuildTarget cxxToolchain;
+    private @Nullable BuildTarget swiftToolchain;
+    private @Nullable SourcePath developerPath;
+    private @Nullable String xcodeVersion;
+    private @Nullable String xcodeBuildVersion;
+    private @Nullable Boolean workAroundDsymutilLtoStackOverflowBug;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+    private ImmutableList.Builder<UnconfiguredBuildTarget> compatibleWith = ImmutableList.builder();
+    private @Nullable String name;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AppleToolchainDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AppleToolchainDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAppleToolchainDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AppleToolchainDescription.AbstractAppleToolchainDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.BuildRuleArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuildRuleArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.ConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof AppleToolchainDescription.AbstractAppleToolchainDescriptionArg) {
+        AppleToolchainDescription.AbstractAppleToolchainDescriptionArg instance = (AppleToolchainDescription.AbstractAppleToolchainDescriptionArg) object;
+        Optional<Boolean> workAroundDsymutilLtoStackOverflowBugOptional = instance.getWorkAroundDsymutilLtoStackOverflowBug();
+        if (workAroundDsymutilLtoStackOverflowBugOptional.isPresent()) {
+          setWorkAroundDsymutilLtoStackOverflowBug(workAroundDsymutilLtoStackOverflowBugOptional);
+        }
+        Optional<String> buildVersionOptional = instance.getBuildVersion();
+        if (buildVersionOptional.isPresent()) {
+          setBuildVersion(buildVersionOptional);
+        }
+        setMinVersion(instance.getMinVersion());
+        setSdkPath(instance.getSdkPath());
+        Optional<SourcePath> developerPathOptional = instance.getDeveloperPath();
+        if (developerPathOptional.isPresent()) {
+          setDeveloperPath(developerPathOptional);
+        }
+        setMomc(instance.getMomc());
+        setCxxToolchain(instance.getCxxToolchain());
+        setLldb(instance.getLldb());
+        setVersion(instance.getVersion());
+        setLipo(instance.getLipo());
+        Optional<BuildTarget> swiftToolchainOptional = instance.getSwiftToolchain();
+        if (swiftToolchainOptional.isPresent()) {
+          setSwiftToolchain(swiftToolchainOptional);
+        }
+        Optional<SourcePath> copySceneKitAssetsOptional = instance.getCopySceneKitAssets();
+        if (copySceneKitAssetsOptional.isPresent()) {
+          setCopySceneKitAssets(copySceneKitAssetsOptional);
+        }
+        setXctest(instance.getXctest());
+        setLibtool(instance.getLibtool());
+        setActool(instance.getActool());
+        setCodesignAllocate(instance.getCodesignAllocate());
+        setDsymutil(instance.getDsymutil());
+        setIbtool(instance.getIbtool());
+        setPlatformPath(instance.getPlatformPath());
+        setCodesign(instance.getCodesign());
+        setXcodeBuildVersion(instance.getXcodeBuildVersion());
+        setSdkName(instance.getSdkName());
+        setXcodeVersion(instance.getXcodeVersion());
+        setArchitecture(instance.getArchitecture());
+      }
+      if (object instanceof BuildRuleArg) {
+        BuildRuleArg instance = (BuildRuleArg) object;
+        addAllLicenses(instance.getLicenses());
+        addAllCompatibleWith(instance.getCompatibleWith());
+        addAllLabels(instance.getLabels());
+        Optional<UnconfiguredBuildTarget> defaultTargetPlatformOptional = instance.getDefaultTargetPlatform();
+        if (defaultTargetPlatformOptional.isPresent()) {
+          setDefaultTargetPlatform(defaultTargetPlatformOptional);
+        }
+      }
+      if (object instanceof ConstructorArg) {
+        ConstructorArg instance = (ConstructorArg) object;
+        setName(instance.getName());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AppleToolchainDescriptionArg#getSdkName() sdkName} attribute.
+     * @param sdkName The value for sdkName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSdkName(String sdkName) {
+      this.sdkName = Objects.requireNonNull(sdkName, "sdkName");
+      initBits &= ~INIT_BIT_SDK_NAME;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleToolchainDescriptionArg#getArchitecture() architecture} attribute.
+     * @param architecture The value for architecture 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArchitecture(String architecture) {
+      this.architecture = Objects.requireNonNull(architecture, "architecture");
+      initBits &= ~INIT_BIT_ARCHITECTURE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleToolchainDescriptionArg#getPlatformPath() platformPath} attribute.
+     * @param platformPath The value for platformPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformPath(SourcePath platformPath) {
+      this.platformPath = Objects.requireNonNull(platformPath, "platformPath");
+      initBits &= ~INIT_BIT_PLATFORM_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleToolchainDescriptionArg#getSdkPath() sdkPath} attribute.
+     * @param sdkPath The value for sdkPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSdkPath(SourcePath sdkPath) {
+      this.sdkPath = Objects.requireNonNull(sdkPath, "sdkPath");
+      initBits &= ~INIT_BIT_SDK_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleToolchainDescriptionArg#getVersion() version} attribute.
+     * @param version The value for version 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersion(String version) {
+      this.version = Objects.requireNonNull(version, "version");
+      initBits &= ~INIT_BIT_VERSION;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleToolchainDescriptionArg#getBuildVersion() buildVersion} to buildVersion.
+     * @param buildVersion The value for buildVersion
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildVersion(String buildVersion) {
+      this.buildVersion = Objects.requireNonNull(buildVersion, "buildVersion");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleToolchainDescriptionArg#getBuildVersion() buildVersion} to buildVersion.
+     * @param buildVersion The value for buildVersion
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildVersion(Optional<String> buildVersion) {
+      this.buildVersion = buildVersion.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleToolchainDescriptionArg#getMinVersion() minVersion} attribute.
+     * @param minVersion The value for minVersion 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMinVersion(String minVersion) {
+      this.minVersion = Objects.requireNonNull(minVersion, "minVersion");
+      initBits &= ~INIT_BIT_MIN_VERSION;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleToolchainDescriptionArg#getActool() actool} attribute.
+     * @param actool The value for actool 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setActool(SourcePath actool) {
+      this.actool = Objects.requireNonNull(actool, "actool");
+      initBits &= ~INIT_BIT_ACTOOL;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleToolchainDescriptionArg#getDsymutil() dsymutil} attribute.
+     * @param dsymutil The value for dsymutil 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDsymutil(SourcePath dsymutil) {
+      this.dsymutil = Objects.requireNonNull(dsymutil, "dsymutil");
+      initBits &= ~INIT_BIT_DSYMUTIL;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleToolchainDescriptionArg#getIbtool() ibtool} attribute.
+     * @param ibtool The value for ibtool 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIbtool(SourcePath ibtool) {
+      this.ibtool = Objects.requireNonNull(ibtool, "ibtool");
+      initBits &= ~INIT_BIT_IBTOOL;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleToolchainDescriptionArg#getLibtool() libtool} attribute.
+     * @param libtool The value for libtool 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLibtool(SourcePath libtool) {
+      this.libtool = Objects.requireNonNull(libtool, "libtool");
+      initBits &= ~INIT_BIT_LIBTOOL;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleToolchainDescriptionArg#getLipo() lipo} attribute.
+     * @param lipo The value for lipo 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLipo(SourcePath lipo) {
+      this.lipo = Objects.requireNonNull(lipo, "lipo");
+      initBits &= ~INIT_BIT_LIPO;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleToolchainDescriptionArg#getLldb() lldb} attribute.
+     * @param lldb The value for lldb 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLldb(SourcePath lldb) {
+      this.lldb = Objects.requireNonNull(lldb, "lldb");
+      initBits &= ~INIT_BIT_LLDB;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleToolchainDescriptionArg#getMomc() momc} attribute.
+     * @param momc The value for momc 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMomc(SourcePath momc) {
+      this.momc = Objects.requireNonNull(momc, "momc");
+      initBits &= ~INIT_BIT_MOMC;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleToolchainDescriptionArg#getXctest() xctest} attribute.
+     * @param xctest The value for xctest 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setXctest(SourcePath xctest) {
+      this.xctest = Objects.requireNonNull(xctest, "xctest");
+      initBits &= ~INIT_BIT_XCTEST;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleToolchainDescriptionArg#getCopySceneKitAssets() copySceneKitAssets} to copySceneKitAssets.
+     * @param copySceneKitAssets The value for copySceneKitAssets
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCopySceneKitAssets(SourcePath copySceneKitAssets) {
+      this.copySceneKitAssets = Objects.requireNonNull(copySceneKitAssets, "copySceneKitAssets");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleToolchainDescriptionArg#getCopySceneKitAssets() copySceneKitAssets} to copySceneKitAssets.
+     * @param copySceneKitAssets The value for copySceneKitAssets
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCopySceneKitAssets(Optional<? extends SourcePath> copySceneKitAssets) {
+      this.copySceneKitAssets = copySceneKitAssets.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleToolchainDescriptionArg#getCodesign() codesign} attribute.
+     * @param codesign The value for codesign 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCodesign(SourcePath codesign) {
+      this.codesign = Objects.requireNonNull(codesign, "codesign");
+      initBits &= ~INIT_BIT_CODESIGN;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleToolchainDescriptionArg#getCodesignAllocate() codesignAllocate} attribute.
+     * @param codesignAllocate The value for codesignAllocate 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCodesignAllocate(SourcePath codesignAllocate) {
+      this.codesignAllocate = Objects.requireNonNull(codesignAllocate, "codesignAllocate");
+      initBits &= ~INIT_BIT_CODESIGN_ALLOCATE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleToolchainDescriptionArg#getCxxToolchain() cxxToolchain} attribute.
+     * @param cxxToolchain The value for cxxToolchain 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCxxToolchain(BuildTarget cxxToolchain) {
+      this.cxxToolchain = Objects.requireNonNull(cxxToolchain, "cxxToolchain");
+      initBits &= ~INIT_BIT_CXX_TOOLCHAIN;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleToolchainDescriptionArg#getSwiftToolchain() swiftToolchain} to swiftToolchain.
+     * @param swiftToolchain The value for swiftToolchain
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSwiftToolchain(BuildTarget swiftToolchain) {
+      this.swiftToolchain = Objects.requireNonNull(swiftToolchain, "swiftToolchain");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleToolchainDescriptionArg#getSwiftToolchain() swiftToolchain} to swiftToolchain.
+     * @param swiftToolchain The value for swiftToolchain
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSwiftToolchain(Optional<? extends BuildTarget> swiftToolchain) {
+      this.swiftToolchain = swiftToolchain.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleToolchainDescriptionArg#getDeveloperPath() developerPath} to developerPath.
+     * @param developerPath The value for developerPath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeveloperPath(SourcePath developerPath) {
+      this.developerPath = Objects.requireNonNull(developerPath, "developerPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleToolchainDescriptionArg#getDeveloperPath() developerPath} to developerPath.
+     * @param developerPath The value for developerPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeveloperPath(Optional<? extends SourcePath> developerPath) {
+      this.developerPath = developerPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleToolchainDescriptionArg#getXcodeVersion() xcodeVersion} attribute.
+     * @param xcodeVersion The value for xcodeVersion 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setXcodeVersion(String xcodeVersion) {
+      this.xcodeVersion = Objects.requireNonNull(xcodeVersion, "xcodeVersion");
+      initBits &= ~INIT_BIT_XCODE_VERSION;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleToolchainDescriptionArg#getXcodeBuildVersion() xcodeBuildVersion} attribute.
+     * @param xcodeBuildVersion The value for xcodeBuildVersion 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setXcodeBuildVersion(String xcodeBuildVersion) {
+      this.xcodeBuildVersion = Objects.requireNonNull(xcodeBuildVersion, "xcodeBuildVersion");
+      initBits &= ~INIT_BIT_XCODE_BUILD_VERSION;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleToolchainDescriptionArg#getWorkAroundDsymutilLtoStackOverflowBug() workAroundDsymutilLtoStackOverflowBug} to workAroundDsymutilLtoStackOverflowBug.
+     * @param workAroundDsymutilLtoStackOverflowBug The value for workAroundDsymutilLtoStackOverflowBug
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWorkAroundDsymutilLtoStackOverflowBug(boolean workAroundDsymutilLtoStackOverflowBug) {
+      this.workAroundDsymutilLtoStackOverflowBug = workAroundDsymutilLtoStackOverflowBug;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleToolchainDescriptionArg#getWorkAroundDsymutilLtoStackOverflowBug() workAroundDsymutilLtoStackOverflowBug} to workAroundDsymutilLtoStackOverflowBug.
+     * @param workAroundDsymutilLtoStackOverflowBug The value for workAroundDsymutilLtoStackOverflowBug
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWorkAroundDsymutilLtoStackOverflowBug(Optional<Boolean> workAroundDsymutilLtoStackOverflowBug) {
+      this.workAroundDsymutilLtoStackOverflowBug = workAroundDsymutilLtoStackOverflowBug.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleToolchainDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleToolchainDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleToolchainDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleToolchainDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleToolchainDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleToolchainDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleToolchainDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleToolchainDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleToolchainDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(UnconfiguredBuildTarget defaultTargetPlatform) {
+      this.defaultTargetPlatform = Objects.requireNonNull(defaultTargetPlatform, "defaultTargetPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleToolchainDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(Optional<? extends UnconfiguredBuildTarget> defaultTargetPlatform) {
+      this.defaultTargetPlatform = defaultTargetPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleToolchainDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param element A compatibleWith element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget element) {
+      this.compatibleWith.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleToolchainDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An array of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget... elements) {
+      this.compatibleWith.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleToolchainDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith = ImmutableList.builder();
+      return addAllCompatibleWith(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleToolchainDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleToolchainDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AppleToolchainDescriptionArg AppleToolchainDescriptionArg}.
+     * @return An immutable instance of AppleToolchainDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AppleToolchainDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AppleToolchainDescriptionArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_SDK_NAME) != 0) attributes.add("sdkName");
+      if ((initBits & INIT_BIT_ARCHITECTURE) != 0) attributes.add("architecture");
+      if ((initBits & INIT_BIT_PLATFORM_PATH) != 0) attributes.add("platformPath");
+      if ((initBits & INIT_BIT_SDK_PATH) != 0) attributes.add("sdkPath");
+      if ((initBits & INIT_BIT_VERSION) != 0) attributes.add("version");
+      if ((initBits & INIT_BIT_MIN_VERSION) != 0) attributes.add("minVersion");
+      if ((initBits & INIT_BIT_ACTOOL) != 0) attributes.add("actool");
+      if ((initBits & INIT_BIT_DSYMUTIL) != 0) attributes.add("dsymutil");
+      if ((initBits & INIT_BIT_IBTOOL) != 0) attributes.add("ibtool");
+      if ((initBits & INIT_BIT_LIBTOOL) != 0) attributes.add("libtool");
+      if ((initBits & INIT_BIT_LIPO) != 0) attributes.add("lipo");
+      if ((initBits & INIT_BIT_LLDB) != 0) attributes.add("lldb");
+      if ((initBits & INIT_BIT_MOMC) != 0) attributes.add("momc");
+      if ((initBits & INIT_BIT_XCTEST) != 0) attributes.add("xctest");
+      if ((initBits & INIT_BIT_CODESIGN) != 0) attributes.add("codesign");
+      if ((initBits & INIT_BIT_CODESIGN_ALLOCATE) != 0) attributes.add("codesignAllocate");
+      if ((initBits & INIT_BIT_CXX_TOOLCHAIN) != 0) attributes.add("cxxToolchain");
+      if ((initBits & INIT_BIT_XCODE_VERSION) != 0) attributes.add("xcodeVersion");
+      if ((initBits & INIT_BIT_XCODE_BUILD_VERSION) != 0) attributes.add("xcodeBuildVersion");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build AppleToolchainDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
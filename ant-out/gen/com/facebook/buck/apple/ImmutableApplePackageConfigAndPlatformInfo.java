@@ -0,0 +1,237 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.apple.toolchain.AppleCxxPlatform;
+import com.facebook.buck.rules.args.Arg;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ExternallyBuiltApplePackage.ApplePackageConfigAndPlatformInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableApplePackageConfigAndPlatformInfo.of()}.
+ */
+@Generated(from = "ExternallyBuiltApplePackage.ApplePackageConfigAndPlatformInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableApplePackageConfigAndPlatformInfo
+    extends ExternallyBuiltApplePackage.ApplePackageConfigAndPlatformInfo {
+  private final AppleConfig.ApplePackageConfig config;
+  private final AppleCxxPlatform platform;
+  private transient final String sdkVersion;
+  private transient final Optional<String> platformBuildVersion;
+  private transient final Path sdkPath;
+  private transient final Arg expandedArg;
+
+  private ImmutableApplePackageConfigAndPlatformInfo(
+      AppleConfig.ApplePackageConfig config,
+      AppleCxxPlatform platform) {
+    this.config = Objects.requireNonNull(config, "config");
+    this.platform = Objects.requireNonNull(platform, "platform");
+    this.sdkVersion = initShim.getSdkVersion();
+    this.platformBuildVersion = initShim.getPlatformBuildVersion();
+    this.sdkPath = initShim.getSdkPath();
+    this.expandedArg = initShim.getExpandedArg();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "ExternallyBuiltApplePackage.ApplePackageConfigAndPlatformInfo", generator = "Immutables")
+  private final class InitShim {
+    private byte sdkVersionBuildStage = STAGE_UNINITIALIZED;
+    private String sdkVersion;
+
+    String getSdkVersion() {
+      if (sdkVersionBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (sdkVersionBuildStage == STAGE_UNINITIALIZED) {
+        sdkVersionBuildStage = STAGE_INITIALIZING;
+        this.sdkVersion = Objects.requireNonNull(ImmutableApplePackageConfigAndPlatformInfo.super.getSdkVersion(), "sdkVersion");
+        sdkVersionBuildStage = STAGE_INITIALIZED;
+      }
+      return this.sdkVersion;
+    }
+
+    private byte platformBuildVersionBuildStage = STAGE_UNINITIALIZED;
+    private Optional<String> platformBuildVersion;
+
+    Optional<String> getPlatformBuildVersion() {
+      if (platformBuildVersionBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformBuildVersionBuildStage == STAGE_UNINITIALIZED) {
+        platformBuildVersionBuildStage = STAGE_INITIALIZING;
+        this.platformBuildVersion = Objects.requireNonNull(ImmutableApplePackageConfigAndPlatformInfo.super.getPlatformBuildVersion(), "platformBuildVersion");
+        platformBuildVersionBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformBuildVersion;
+    }
+
+    private byte sdkPathBuildStage = STAGE_UNINITIALIZED;
+    private Path sdkPath;
+
+    Path getSdkPath() {
+      if (sdkPathBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (sdkPathBuildStage == STAGE_UNINITIALIZED) {
+        sdkPathBuildStage = STAGE_INITIALIZING;
+        this.sdkPath = Objects.requireNonNull(ImmutableApplePackageConfigAndPlatformInfo.super.getSdkPath(), "sdkPath");
+        sdkPathBuildStage = STAGE_INITIALIZED;
+      }
+      return this.sdkPath;
+    }
+
+    private byte expandedArgBuildStage = STAGE_UNINITIALIZED;
+    private Arg expandedArg;
+
+    Arg getExpandedArg() {
+      if (expandedArgBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (expandedArgBuildStage == STAGE_UNINITIALIZED) {
+        expandedArgBuildStage = STAGE_INITIALIZING;
+        this.expandedArg = Objects.requireNonNull(ImmutableApplePackageConfigAndPlatformInfo.super.getExpandedArg(), "expandedArg");
+        expandedArgBuildStage = STAGE_INITIALIZED;
+      }
+      return this.expandedArg;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (sdkVersionBuildStage == STAGE_INITIALIZING) attributes.add("sdkVersion");
+      if (platformBuildVersionBuildStage == STAGE_INITIALIZING) attributes.add("platformBuildVersion");
+      if (sdkPathBuildStage == STAGE_INITIALIZING) attributes.add("sdkPath");
+      if (expandedArgBuildStage == STAGE_INITIALIZING) attributes.add("expandedArg");
+      return "Cannot build ApplePackageConfigAndPlatformInfo, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code config} attribute
+   */
+  @Override
+  public AppleConfig.ApplePackageConfig getConfig() {
+    return config;
+  }
+
+  /**
+   * @return The value of the {@code platform} attribute
+   */
+  @Override
+  protected AppleCxxPlatform getPlatform() {
+    return platform;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code sdkVersion} attribute
+   */
+  @Override
+  public String getSdkVersion() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getSdkVersion()
+        : this.sdkVersion;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code platformBuildVersion} attribute
+   */
+  @Override
+  public Optional<String> getPlatformBuildVersion() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformBuildVersion()
+        : this.platformBuildVersion;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code sdkPath} attribute
+   */
+  @Override
+  public Path getSdkPath() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getSdkPath()
+        : this.sdkPath;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code expandedArg} attribute
+   */
+  @Override
+  public Arg getExpandedArg() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExpandedArg()
+        : this.expandedArg;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableApplePackageConfigAndPlatformInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableApplePackageConfigAndPlatformInfo
+        && equalTo((ImmutableApplePackageConfigAndPlatformInfo) another);
+  }
+
+  private boolean equalTo(ImmutableApplePackageConfigAndPlatformInfo another) {
+    return config.equals(another.config)
+        && sdkVersion.equals(another.sdkVersion)
+        && platformBuildVersion.equals(another.platformBuildVersion)
+        && sdkPath.equals(another.sdkPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code config}, {@code sdkVersion}, {@code platformBuildVersion}, {@code sdkPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + config.hashCode();
+    h += (h << 5) + sdkVersion.hashCode();
+    h += (h << 5) + platformBuildVersion.hashCode();
+    h += (h << 5) + sdkPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ApplePackageConfigAndPlatformInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ApplePackageConfigAndPlatformInfo")
+        .omitNullValues()
+        .add("config", config)
+        .add("sdkVersion", sdkVersion)
+        .add("platformBuildVersion", platformBuildVersion)
+        .add("sdkPath", sdkPath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ApplePackageConfigAndPlatformInfo} instance.
+   * @param config The value for the {@code config} attribute
+   * @param platform The value for the {@code platform} attribute
+   * @return An immutable ApplePackageConfigAndPlatformInfo instance
+   */
+  public static ImmutableApplePackageConfigAndPlatformInfo of(AppleConfig.ApplePackageConfig config, AppleCxxPlatform platform) {
+    return new ImmutableApplePackageConfigAndPlatformInfo(config, platform);
+  }
+}
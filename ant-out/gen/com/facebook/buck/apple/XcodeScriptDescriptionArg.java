@@ -0,0 +1,776 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.core.description.arg.BuildRuleArg;
+import com.facebook.buck.core.description.arg.ConstructorArg;
+import com.facebook.buck.core.description.arg.HasSrcs;
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractXcodeScriptDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code XcodeScriptDescriptionArg.builder()}.
+ */
+@Generated(from = "AbstractXcodeScriptDescriptionArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class XcodeScriptDescriptionArg
+    implements AbstractXcodeScriptDescriptionArg {
+  private final ImmutableSortedSet<String> inputs;
+  private final ImmutableSortedSet<String> inputFileLists;
+  private final ImmutableSortedSet<String> outputs;
+  private final ImmutableSortedSet<String> outputFileLists;
+  private final String cmd;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+  private final ImmutableList<UnconfiguredBuildTarget> compatibleWith;
+  private final String name;
+  private final ImmutableSortedSet<SourcePath> srcs;
+
+  private XcodeScriptDescriptionArg(XcodeScriptDescriptionArg.Builder builder) {
+    this.inputs = builder.inputs.build();
+    this.inputFileLists = builder.inputFileLists.build();
+    this.outputs = builder.outputs.build();
+    this.outputFileLists = builder.outputFileLists.build();
+    this.cmd = builder.cmd;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.defaultTargetPlatform = builder.defaultTargetPlatform;
+    this.compatibleWith = builder.compatibleWith.build();
+    this.name = builder.name;
+    this.srcs = builder.srcs.build();
+  }
+
+  /**
+   * @return The value of the {@code inputs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getInputs() {
+    return inputs;
+  }
+
+  /**
+   * @return The value of the {@code inputFileLists} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getInputFileLists() {
+    return inputFileLists;
+  }
+
+  /**
+   * @return The value of the {@code outputs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getOutputs() {
+    return outputs;
+  }
+
+  /**
+   * @return The value of the {@code outputFileLists} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getOutputFileLists() {
+    return outputFileLists;
+  }
+
+  /**
+   * @return The value of the {@code cmd} attribute
+   */
+  @Override
+  public String getCmd() {
+    return cmd;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * The name of build target default "new" platform: it is used when a platform is not specified
+   * either globally or in a target which used this target as a dependency.
+   * <p>The value is a build target, but we specify it as string, because this function is not
+   * actually called, but the attr is fetched by name from the raw (unconfigured) target node.
+   */
+  @Override
+  public Optional<UnconfiguredBuildTarget> getDefaultTargetPlatform() {
+    return Optional.ofNullable(defaultTargetPlatform);
+  }
+
+  /**
+   *A list of {@code config_setting} a target is compatible with. 
+   */
+  @Override
+  public ImmutableList<UnconfiguredBuildTarget> getCompatibleWith() {
+    return compatibleWith;
+  }
+
+  /**
+   *Each rule has a name 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code XcodeScriptDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof XcodeScriptDescriptionArg
+        && equalTo((XcodeScriptDescriptionArg) another);
+  }
+
+  private boolean equalTo(XcodeScriptDescriptionArg another) {
+    return inputs.equals(another.inputs)
+        && inputFileLists.equals(another.inputFileLists)
+        && outputs.equals(another.outputs)
+        && outputFileLists.equals(another.outputFileLists)
+        && cmd.equals(another.cmd)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && Objects.equals(defaultTargetPlatform, another.defaultTargetPlatform)
+        && compatibleWith.equals(another.compatibleWith)
+        && name.equals(another.name)
+        && srcs.equals(another.srcs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code inputs}, {@code inputFileLists}, {@code outputs}, {@code outputFileLists}, {@code cmd}, {@code licenses}, {@code labels}, {@code defaultTargetPlatform}, {@code compatibleWith}, {@code name}, {@code srcs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + inputs.hashCode();
+    h += (h << 5) + inputFileLists.hashCode();
+    h += (h << 5) + outputs.hashCode();
+    h += (h << 5) + outputFileLists.hashCode();
+    h += (h << 5) + cmd.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultTargetPlatform);
+    h += (h << 5) + compatibleWith.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + srcs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code XcodeScriptDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("XcodeScriptDescriptionArg")
+        .omitNullValues()
+        .add("inputs", inputs)
+        .add("inputFileLists", inputFileLists)
+        .add("outputs", outputs)
+        .add("outputFileLists", outputFileLists)
+        .add("cmd", cmd)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("defaultTargetPlatform", defaultTargetPlatform)
+        .add("compatibleWith", compatibleWith)
+        .add("name", name)
+        .add("srcs", srcs)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link XcodeScriptDescriptionArg XcodeScriptDescriptionArg}.
+   * @return A new XcodeScriptDescriptionArg builder
+   */
+  public static XcodeScriptDescriptionArg.Builder builder() {
+    return new XcodeScriptDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link XcodeScriptDescriptionArg XcodeScriptDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractXcodeScriptDescriptionArg", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CMD = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private long initBits = 0x3L;
+
+    private ImmutableSortedSet.Builder<String> inputs = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<String> inputFileLists = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<String> outputs = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<String> outputFileLists = ImmutableSortedSet.naturalOrder();
+    private @Nullable String cmd;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+    private ImmutableList.Builder<UnconfiguredBuildTarget> compatibleWith = ImmutableList.builder();
+    private @Nullable String name;
+    private ImmutableSortedSet.Builder<SourcePath> srcs = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code XcodeScriptDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(XcodeScriptDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractXcodeScriptDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AbstractXcodeScriptDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.BuildRuleArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuildRuleArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasSrcs} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasSrcs instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.ConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof AbstractXcodeScriptDescriptionArg) {
+        AbstractXcodeScriptDescriptionArg instance = (AbstractXcodeScriptDescriptionArg) object;
+        addAllOutputs(instance.getOutputs());
+        addAllInputFileLists(instance.getInputFileLists());
+        addAllOutputFileLists(instance.getOutputFileLists());
+        setCmd(instance.getCmd());
+        addAllInputs(instance.getInputs());
+      }
+      if (object instanceof BuildRuleArg) {
+        BuildRuleArg instance = (BuildRuleArg) object;
+        addAllLicenses(instance.getLicenses());
+        addAllCompatibleWith(instance.getCompatibleWith());
+        addAllLabels(instance.getLabels());
+        Optional<UnconfiguredBuildTarget> defaultTargetPlatformOptional = instance.getDefaultTargetPlatform();
+        if (defaultTargetPlatformOptional.isPresent()) {
+          setDefaultTargetPlatform(defaultTargetPlatformOptional);
+        }
+      }
+      if (object instanceof HasSrcs) {
+        HasSrcs instance = (HasSrcs) object;
+        addAllSrcs(instance.getSrcs());
+      }
+      if (object instanceof ConstructorArg) {
+        ConstructorArg instance = (ConstructorArg) object;
+        setName(instance.getName());
+      }
+    }
+
+    /**
+     * Adds one element to {@link XcodeScriptDescriptionArg#getInputs() inputs} sortedSet.
+     * @param element A inputs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addInputs(String element) {
+      this.inputs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link XcodeScriptDescriptionArg#getInputs() inputs} sortedSet.
+     * @param elements An array of inputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addInputs(String... elements) {
+      this.inputs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link XcodeScriptDescriptionArg#getInputs() inputs} sortedSet.
+     * @param elements An iterable of inputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setInputs(Iterable<String> elements) {
+      this.inputs = ImmutableSortedSet.naturalOrder();
+      return addAllInputs(elements);
+    }
+
+    /**
+     * Adds elements to {@link XcodeScriptDescriptionArg#getInputs() inputs} sortedSet.
+     * @param elements An iterable of inputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllInputs(Iterable<String> elements) {
+      this.inputs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link XcodeScriptDescriptionArg#getInputFileLists() inputFileLists} sortedSet.
+     * @param element A inputFileLists element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addInputFileLists(String element) {
+      this.inputFileLists.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link XcodeScriptDescriptionArg#getInputFileLists() inputFileLists} sortedSet.
+     * @param elements An array of inputFileLists elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addInputFileLists(String... elements) {
+      this.inputFileLists.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link XcodeScriptDescriptionArg#getInputFileLists() inputFileLists} sortedSet.
+     * @param elements An iterable of inputFileLists elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setInputFileLists(Iterable<String> elements) {
+      this.inputFileLists = ImmutableSortedSet.naturalOrder();
+      return addAllInputFileLists(elements);
+    }
+
+    /**
+     * Adds elements to {@link XcodeScriptDescriptionArg#getInputFileLists() inputFileLists} sortedSet.
+     * @param elements An iterable of inputFileLists elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllInputFileLists(Iterable<String> elements) {
+      this.inputFileLists.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link XcodeScriptDescriptionArg#getOutputs() outputs} sortedSet.
+     * @param element A outputs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addOutputs(String element) {
+      this.outputs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link XcodeScriptDescriptionArg#getOutputs() outputs} sortedSet.
+     * @param elements An array of outputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addOutputs(String... elements) {
+      this.outputs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link XcodeScriptDescriptionArg#getOutputs() outputs} sortedSet.
+     * @param elements An iterable of outputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOutputs(Iterable<String> elements) {
+      this.outputs = ImmutableSortedSet.naturalOrder();
+      return addAllOutputs(elements);
+    }
+
+    /**
+     * Adds elements to {@link XcodeScriptDescriptionArg#getOutputs() outputs} sortedSet.
+     * @param elements An iterable of outputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllOutputs(Iterable<String> elements) {
+      this.outputs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link XcodeScriptDescriptionArg#getOutputFileLists() outputFileLists} sortedSet.
+     * @param element A outputFileLists element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addOutputFileLists(String element) {
+      this.outputFileLists.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link XcodeScriptDescriptionArg#getOutputFileLists() outputFileLists} sortedSet.
+     * @param elements An array of outputFileLists elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addOutputFileLists(String... elements) {
+      this.outputFileLists.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link XcodeScriptDescriptionArg#getOutputFileLists() outputFileLists} sortedSet.
+     * @param elements An iterable of outputFileLists elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOutputFileLists(Iterable<String> elements) {
+      this.outputFileLists = ImmutableSortedSet.naturalOrder();
+      return addAllOutputFileLists(elements);
+    }
+
+    /**
+     * Adds elements to {@link XcodeScriptDescriptionArg#getOutputFileLists() outputFileLists} sortedSet.
+     * @param elements An iterable of outputFileLists elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllOutputFileLists(Iterable<String> elements) {
+      this.outputFileLists.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link XcodeScriptDescriptionArg#getCmd() cmd} attribute.
+     * @param cmd The value for cmd 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCmd(String cmd) {
+      this.cmd = Objects.requireNonNull(cmd, "cmd");
+      initBits &= ~INIT_BIT_CMD;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link XcodeScriptDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link XcodeScriptDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link XcodeScriptDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link XcodeScriptDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link XcodeScriptDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link XcodeScriptDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link XcodeScriptDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link XcodeScriptDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link XcodeScriptDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(UnconfiguredBuildTarget defaultTargetPlatform) {
+      this.defaultTargetPlatform = Objects.requireNonNull(defaultTargetPlatform, "defaultTargetPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link XcodeScriptDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(Optional<? extends UnconfiguredBuildTarget> defaultTargetPlatform) {
+      this.defaultTargetPlatform = defaultTargetPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link XcodeScriptDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param element A compatibleWith element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget element) {
+      this.compatibleWith.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link XcodeScriptDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An array of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget... elements) {
+      this.compatibleWith.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link XcodeScriptDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith = ImmutableList.builder();
+      return addAllCompatibleWith(elements);
+    }
+
+    /**
+     * Adds elements to {@link XcodeScriptDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link XcodeScriptDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link XcodeScriptDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSrcs(SourcePath element) {
+      this.srcs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link XcodeScriptDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSrcs(SourcePath... elements) {
+      this.srcs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link XcodeScriptDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs = ImmutableSortedSet.naturalOrder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link XcodeScriptDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link XcodeScriptDescriptionArg XcodeScriptDescriptionArg}.
+     * @return An immutable instance of XcodeScriptDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public XcodeScriptDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new XcodeScriptDescriptionArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_CMD) != 0) attributes.add("cmd");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build XcodeScriptDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
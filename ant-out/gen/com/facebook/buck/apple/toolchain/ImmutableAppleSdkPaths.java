@@ -0,0 +1,282 @@
+package com.facebook.buck.apple.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AppleSdkPaths}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new AppleSdkPaths.Builder()}.
+ */
+@Generated(from = "AppleSdkPaths", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAppleSdkPaths extends AppleSdkPaths {
+  private final @Nullable Path developerPath;
+  private final ImmutableSet<Path> toolchainPaths;
+  private final Path platformPath;
+  private final Path sdkPath;
+
+  private ImmutableAppleSdkPaths(ImmutableAppleSdkPaths.Builder builder) {
+    this.developerPath = builder.developerPath;
+    this.toolchainPaths = builder.toolchainPaths.build();
+    this.platformPath = builder.platformPath;
+    this.sdkPath = builder.sdkPath;
+  }
+
+  /**
+   * @return The value of the {@code developerPath} attribute
+   */
+  @Override
+  public Optional<Path> getDeveloperPath() {
+    return Optional.ofNullable(developerPath);
+  }
+
+  /**
+   * @return The value of the {@code toolchainPaths} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getToolchainPaths() {
+    return toolchainPaths;
+  }
+
+  /**
+   * @return The value of the {@code platformPath} attribute
+   */
+  @Override
+  public Path getPlatformPath() {
+    return platformPath;
+  }
+
+  /**
+   * @return The value of the {@code sdkPath} attribute
+   */
+  @Override
+  public Path getSdkPath() {
+    return sdkPath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAppleSdkPaths} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAppleSdkPaths
+        && equalTo((ImmutableAppleSdkPaths) another);
+  }
+
+  private boolean equalTo(ImmutableAppleSdkPaths another) {
+    return Objects.equals(developerPath, another.developerPath)
+        && toolchainPaths.equals(another.toolchainPaths)
+        && platformPath.equals(another.platformPath)
+        && sdkPath.equals(another.sdkPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code developerPath}, {@code toolchainPaths}, {@code platformPath}, {@code sdkPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(developerPath);
+    h += (h << 5) + toolchainPaths.hashCode();
+    h += (h << 5) + platformPath.hashCode();
+    h += (h << 5) + sdkPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleSdkPaths} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleSdkPaths")
+        .omitNullValues()
+        .add("developerPath", developerPath)
+        .add("toolchainPaths", toolchainPaths)
+        .add("platformPath", platformPath)
+        .add("sdkPath", sdkPath)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link AppleSdkPaths AppleSdkPaths}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AppleSdkPaths", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_PLATFORM_PATH = 0x1L;
+    private static final long INIT_BIT_SDK_PATH = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable Path developerPath;
+    private ImmutableSet.Builder<Path> toolchainPaths = ImmutableSet.builder();
+    private @Nullable Path platformPath;
+    private @Nullable Path sdkPath;
+
+    /**
+     * Creates a builder for {@link AppleSdkPaths AppleSdkPaths} instances.
+     */
+    public Builder() {
+      if (!(this instanceof AppleSdkPaths.Builder)) {
+        throw new UnsupportedOperationException("Use: new AppleSdkPaths.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AppleSdkPaths} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleSdkPaths.Builder from(AppleSdkPaths instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<Path> developerPathOptional = instance.getDeveloperPath();
+      if (developerPathOptional.isPresent()) {
+        setDeveloperPath(developerPathOptional);
+      }
+      addAllToolchainPaths(instance.getToolchainPaths());
+      setPlatformPath(instance.getPlatformPath());
+      setSdkPath(instance.getSdkPath());
+      return (AppleSdkPaths.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleSdkPaths#getDeveloperPath() developerPath} to developerPath.
+     * @param developerPath The value for developerPath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleSdkPaths.Builder setDeveloperPath(Path developerPath) {
+      this.developerPath = Objects.requireNonNull(developerPath, "developerPath");
+      return (AppleSdkPaths.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleSdkPaths#getDeveloperPath() developerPath} to developerPath.
+     * @param developerPath The value for developerPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleSdkPaths.Builder setDeveloperPath(Optional<? extends Path> developerPath) {
+      this.developerPath = developerPath.orElse(null);
+      return (AppleSdkPaths.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link AppleSdkPaths#getToolchainPaths() toolchainPaths} set.
+     * @param element A toolchainPaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleSdkPaths.Builder addToolchainPaths(Path element) {
+      this.toolchainPaths.add(element);
+      return (AppleSdkPaths.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link AppleSdkPaths#getToolchainPaths() toolchainPaths} set.
+     * @param elements An array of toolchainPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleSdkPaths.Builder addToolchainPaths(Path... elements) {
+      this.toolchainPaths.add(elements);
+      return (AppleSdkPaths.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleSdkPaths#getToolchainPaths() toolchainPaths} set.
+     * @param elements An iterable of toolchainPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleSdkPaths.Builder setToolchainPaths(Iterable<? extends Path> elements) {
+      this.toolchainPaths = ImmutableSet.builder();
+      return addAllToolchainPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleSdkPaths#getToolchainPaths() toolchainPaths} set.
+     * @param elements An iterable of toolchainPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleSdkPaths.Builder addAllToolchainPaths(Iterable<? extends Path> elements) {
+      this.toolchainPaths.addAll(elements);
+      return (AppleSdkPaths.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleSdkPaths#getPlatformPath() platformPath} attribute.
+     * @param platformPath The value for platformPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleSdkPaths.Builder setPlatformPath(Path platformPath) {
+      this.platformPath = Objects.requireNonNull(platformPath, "platformPath");
+      initBits &= ~INIT_BIT_PLATFORM_PATH;
+      return (AppleSdkPaths.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleSdkPaths#getSdkPath() sdkPath} attribute.
+     * @param sdkPath The value for sdkPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleSdkPaths.Builder setSdkPath(Path sdkPath) {
+      this.sdkPath = Objects.requireNonNull(sdkPath, "sdkPath");
+      initBits &= ~INIT_BIT_SDK_PATH;
+      return (AppleSdkPaths.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link AppleSdkPaths AppleSdkPaths}.
+     * @return An immutable instance of AppleSdkPaths
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AppleSdkPaths build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableAppleSdkPaths(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_PLATFORM_PATH) != 0) attributes.add("platformPath");
+      if ((initBits & INIT_BIT_SDK_PATH) != 0) attributes.add("sdkPath");
+      return "Cannot build AppleSdkPaths, some of required attributes are not set " + attributes;
+    }
+  }
+}
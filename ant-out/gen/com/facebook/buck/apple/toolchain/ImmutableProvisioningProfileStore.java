@@ -0,0 +1,89 @@
+package com.facebook.buck.apple.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.function.Supplier;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ProvisioningProfileStore}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableProvisioningProfileStore.of()}.
+ */
+@Generated(from = "ProvisioningProfileStore", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableProvisioningProfileStore
+    extends ProvisioningProfileStore {
+  private final Supplier<ImmutableList<ProvisioningProfileMetadata>> provisioningProfilesSupplier;
+
+  private ImmutableProvisioningProfileStore(
+      Supplier<ImmutableList<ProvisioningProfileMetadata>> provisioningProfilesSupplier) {
+    this.provisioningProfilesSupplier = Objects.requireNonNull(provisioningProfilesSupplier, "provisioningProfilesSupplier");
+  }
+
+  /**
+   * @return The value of the {@code provisioningProfilesSupplier} attribute
+   */
+  @Override
+  public Supplier<ImmutableList<ProvisioningProfileMetadata>> getProvisioningProfilesSupplier() {
+    return provisioningProfilesSupplier;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableProvisioningProfileStore} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableProvisioningProfileStore
+        && equalTo((ImmutableProvisioningProfileStore) another);
+  }
+
+  private boolean equalTo(ImmutableProvisioningProfileStore another) {
+    return provisioningProfilesSupplier.equals(another.provisioningProfilesSupplier);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code provisioningProfilesSupplier}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + provisioningProfilesSupplier.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ProvisioningProfileStore} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ProvisioningProfileStore")
+        .omitNullValues()
+        .add("provisioningProfilesSupplier", provisioningProfilesSupplier)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ProvisioningProfileStore} instance.
+   * @param provisioningProfilesSupplier The value for the {@code provisioningProfilesSupplier} attribute
+   * @return An immutable ProvisioningProfileStore instance
+   */
+  public static ImmutableProvisioningProfileStore of(Supplier<ImmutableList<ProvisioningProfileMetadata>> provisioningProfilesSupplier) {
+    return new ImmutableProvisioningProfileStore(provisioningProfilesSupplier);
+  }
+}
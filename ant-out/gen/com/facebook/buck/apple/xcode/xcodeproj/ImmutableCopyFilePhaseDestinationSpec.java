@@ -0,0 +1,103 @@
+package com.facebook.buck.apple.xcode.xcodeproj;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CopyFilePhaseDestinationSpec}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCopyFilePhaseDestinationSpec.of()}.
+ */
+@Generated(from = "CopyFilePhaseDestinationSpec", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCopyFilePhaseDestinationSpec
+    implements CopyFilePhaseDestinationSpec {
+  private final PBXCopyFilesBuildPhase.Destination destination;
+  private final @Nullable String path;
+
+  private ImmutableCopyFilePhaseDestinationSpec(
+      PBXCopyFilesBuildPhase.Destination destination,
+      Optional<String> path) {
+    this.destination = Objects.requireNonNull(destination, "destination");
+    this.path = path.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code destination} attribute
+   */
+  @Override
+  public PBXCopyFilesBuildPhase.Destination getDestination() {
+    return destination;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public Optional<String> getPath() {
+    return Optional.ofNullable(path);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCopyFilePhaseDestinationSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCopyFilePhaseDestinationSpec
+        && equalTo((ImmutableCopyFilePhaseDestinationSpec) another);
+  }
+
+  private boolean equalTo(ImmutableCopyFilePhaseDestinationSpec another) {
+    return destination.equals(another.destination)
+        && Objects.equals(path, another.path);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code destination}, {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + destination.hashCode();
+    h += (h << 5) + Objects.hashCode(path);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CopyFilePhaseDestinationSpec} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CopyFilePhaseDestinationSpec")
+        .omitNullValues()
+        .add("destination", destination)
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CopyFilePhaseDestinationSpec} instance.
+   * @param destination The value for the {@code destination} attribute
+   * @param path The value for the {@code path} attribute
+   * @return An immutable CopyFilePhaseDestinationSpec instance
+   */
+  public static ImmutableCopyFilePhaseDestinationSpec of(PBXCopyFilesBuildPhase.Destination destination, Optional<String> path) {
+    return new ImmutableCopyFilePhaseDestinationSpec(destination, path);
+  }
+}
@@ -0,0 +1,395 @@
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.artifact_cache.config.ArtifactCacheMode;
+import com.facebook.buck.log.views.JsonViews;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CacheCountersSummary}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCacheCountersSummary.of()}.
+ */
+@Generated(from = "CacheCountersSummary", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCacheCountersSummary extends CacheCountersSummary {
+  private final ImmutableMap<ArtifactCacheMode, AtomicInteger> cacheHitsPerMode;
+  private final ImmutableMap<ArtifactCacheMode, AtomicInteger> cacheErrorsPerMode;
+  private final ImmutableMap<ArtifactCacheMode, AtomicLong> cacheBytesPerMode;
+  private final int totalCacheHits;
+  private final int totalCacheErrors;
+  private final int totalCacheMisses;
+  private final int totalCacheIgnores;
+  private final long totalCacheBytes;
+  private final int totalCacheLocalKeyUnchangedHits;
+  private final AtomicInteger successUploadCount;
+  private final AtomicInteger failureUploadCount;
+
+  private ImmutableCacheCountersSummary(
+      Map<ArtifactCacheMode, ? extends AtomicInteger> cacheHitsPerMode,
+      Map<ArtifactCacheMode, ? extends AtomicInteger> cacheErrorsPerMode,
+      Map<ArtifactCacheMode, ? extends AtomicLong> cacheBytesPerMode,
+      int totalCacheHits,
+      int totalCacheErrors,
+      int totalCacheMisses,
+      int totalCacheIgnores,
+      long totalCacheBytes,
+      int totalCacheLocalKeyUnchangedHits,
+      AtomicInteger successUploadCount,
+      AtomicInteger failureUploadCount) {
+    this.cacheHitsPerMode = Maps.immutableEnumMap(cacheHitsPerMode);
+    this.cacheErrorsPerMode = Maps.immutableEnumMap(cacheErrorsPerMode);
+    this.cacheBytesPerMode = Maps.immutableEnumMap(cacheBytesPerMode);
+    this.totalCacheHits = totalCacheHits;
+    this.totalCacheErrors = totalCacheErrors;
+    this.totalCacheMisses = totalCacheMisses;
+    this.totalCacheIgnores = totalCacheIgnores;
+    this.totalCacheBytes = totalCacheBytes;
+    this.totalCacheLocalKeyUnchangedHits = totalCacheLocalKeyUnchangedHits;
+    this.successUploadCount = Objects.requireNonNull(successUploadCount, "successUploadCount");
+    this.failureUploadCount = Objects.requireNonNull(failureUploadCount, "failureUploadCount");
+  }
+
+  /**
+   * @return The value of the {@code cacheHitsPerMode} attribute
+   */
+  @JsonProperty
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Override
+  public ImmutableMap<ArtifactCacheMode, AtomicInteger> getCacheHitsPerMode() {
+    return cacheHitsPerMode;
+  }
+
+  /**
+   * @return The value of the {@code cacheErrorsPerMode} attribute
+   */
+  @JsonProperty
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Override
+  public ImmutableMap<ArtifactCacheMode, AtomicInteger> getCacheErrorsPerMode() {
+    return cacheErrorsPerMode;
+  }
+
+  /**
+   * @return The value of the {@code cacheBytesPerMode} attribute
+   */
+  @JsonProperty
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Override
+  public ImmutableMap<ArtifactCacheMode, AtomicLong> getCacheBytesPerMode() {
+    return cacheBytesPerMode;
+  }
+
+  /**
+   * @return The value of the {@code totalCacheHits} attribute
+   */
+  @JsonProperty
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Override
+  public int getTotalCacheHits() {
+    return totalCacheHits;
+  }
+
+  /**
+   * @return The value of the {@code totalCacheErrors} attribute
+   */
+  @JsonProperty
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Override
+  public int getTotalCacheErrors() {
+    return totalCacheErrors;
+  }
+
+  /**
+   * @return The value of the {@code totalCacheMisses} attribute
+   */
+  @JsonProperty
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Override
+  public int getTotalCacheMisses() {
+    return totalCacheMisses;
+  }
+
+  /**
+   * @return The value of the {@code totalCacheIgnores} attribute
+   */
+  @JsonProperty
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Override
+  public int getTotalCacheIgnores() {
+    return totalCacheIgnores;
+  }
+
+  /**
+   * @return The value of the {@code totalCacheBytes} attribute
+   */
+  @JsonProperty
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Override
+  public long getTotalCacheBytes() {
+    return totalCacheBytes;
+  }
+
+  /**
+   * @return The value of the {@code totalCacheLocalKeyUnchangedHits} attribute
+   */
+  @JsonProperty
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Override
+  public int getTotalCacheLocalKeyUnchangedHits() {
+    return totalCacheLocalKeyUnchangedHits;
+  }
+
+  /**
+   * @return The value of the {@code successUploadCount} attribute
+   */
+  @JsonProperty
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Override
+  public AtomicInteger getSuccessUploadCount() {
+    return successUploadCount;
+  }
+
+  /**
+   * @return The value of the {@code failureUploadCount} attribute
+   */
+  @JsonProperty
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Override
+  public AtomicInteger getFailureUploadCount() {
+    return failureUploadCount;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCacheCountersSummary} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCacheCountersSummary
+        && equalTo((ImmutableCacheCountersSummary) another);
+  }
+
+  private boolean equalTo(ImmutableCacheCountersSummary another) {
+    return cacheHitsPerMode.equals(another.cacheHitsPerMode)
+        && cacheErrorsPerMode.equals(another.cacheErrorsPerMode)
+        && cacheBytesPerMode.equals(another.cacheBytesPerMode)
+        && totalCacheHits == another.totalCacheHits
+        && totalCacheErrors == another.totalCacheErrors
+        && totalCacheMisses == another.totalCacheMisses
+        && totalCacheIgnores == another.totalCacheIgnores
+        && totalCacheBytes == another.totalCacheBytes
+        && totalCacheLocalKeyUnchangedHits == another.totalCacheLocalKeyUnchangedHits
+        && successUploadCount.equals(another.successUploadCount)
+        && failureUploadCount.equals(another.failureUploadCount);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cacheHitsPerMode}, {@code cacheErrorsPerMode}, {@code cacheBytesPerMode}, {@code totalCacheHits}, {@code totalCacheErrors}, {@code totalCacheMisses}, {@code totalCacheIgnores}, {@code totalCacheBytes}, {@code totalCacheLocalKeyUnchangedHits}, {@code successUploadCount}, {@code failureUploadCount}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + cacheHitsPerMode.hashCode();
+    h += (h << 5) + cacheErrorsPerMode.hashCode();
+    h += (h << 5) + cacheBytesPerMode.hashCode();
+    h += (h << 5) + totalCacheHits;
+    h += (h << 5) + totalCacheErrors;
+    h += (h << 5) + totalCacheMisses;
+    h += (h << 5) + totalCacheIgnores;
+    h += (h << 5) + Longs.hashCode(totalCacheBytes);
+    h += (h << 5) + totalCacheLocalKeyUnchangedHits;
+    h += (h << 5) + successUploadCount.hashCode();
+    h += (h << 5) + failureUploadCount.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CacheCountersSummary} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CacheCountersSummary")
+        .omitNullValues()
+        .add("cacheHitsPerMode", cacheHitsPerMode)
+        .add("cacheErrorsPerMode", cacheErrorsPerMode)
+        .add("cacheBytesPerMode", cacheBytesPerMode)
+        .add("totalCacheHits", totalCacheHits)
+        .add("totalCacheErrors", totalCacheErrors)
+        .add("totalCacheMisses", totalCacheMisses)
+        .add("totalCacheIgnores", totalCacheIgnores)
+        .add("totalCacheBytes", totalCacheBytes)
+        .add("totalCacheLocalKeyUnchangedHits", totalCacheLocalKeyUnchangedHits)
+        .add("successUploadCount", successUploadCount)
+        .add("failureUploadCount", failureUploadCount)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "CacheCountersSummary", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends CacheCountersSummary {
+    @Nullable ImmutableMap<ArtifactCacheMode, AtomicInteger> cacheHitsPerMode = ImmutableMap.of();
+    @Nullable ImmutableMap<ArtifactCacheMode, AtomicInteger> cacheErrorsPerMode = ImmutableMap.of();
+    @Nullable ImmutableMap<ArtifactCacheMode, AtomicLong> cacheBytesPerMode = ImmutableMap.of();
+    int totalCacheHits;
+    boolean totalCacheHitsIsSet;
+    int totalCacheErrors;
+    boolean totalCacheErrorsIsSet;
+    int totalCacheMisses;
+    boolean totalCacheMissesIsSet;
+    int totalCacheIgnores;
+    boolean totalCacheIgnoresIsSet;
+    long totalCacheBytes;
+    boolean totalCacheBytesIsSet;
+    int totalCacheLocalKeyUnchangedHits;
+    boolean totalCacheLocalKeyUnchangedHitsIsSet;
+    @Nullable AtomicInteger successUploadCount;
+    @Nullable AtomicInteger failureUploadCount;
+    @JsonProperty
+    @JsonView(JsonViews.MachineReadableLog.class)
+    public void setCacheHitsPerMode(ImmutableMap<ArtifactCacheMode, AtomicInteger> cacheHitsPerMode) {
+      this.cacheHitsPerMode = cacheHitsPerMode;
+    }
+    @JsonProperty
+    @JsonView(JsonViews.MachineReadableLog.class)
+    public void setCacheErrorsPerMode(ImmutableMap<ArtifactCacheMode, AtomicInteger> cacheErrorsPerMode) {
+      this.cacheErrorsPerMode = cacheErrorsPerMode;
+    }
+    @JsonProperty
+    @JsonView(JsonViews.MachineReadableLog.class)
+    public void setCacheBytesPerMode(ImmutableMap<ArtifactCacheMode, AtomicLong> cacheBytesPerMode) {
+      this.cacheBytesPerMode = cacheBytesPerMode;
+    }
+    @JsonProperty
+    @JsonView(JsonViews.MachineReadableLog.class)
+    public void setTotalCacheHits(int totalCacheHits) {
+      this.totalCacheHits = totalCacheHits;
+      this.totalCacheHitsIsSet = true;
+    }
+    @JsonProperty
+    @JsonView(JsonViews.MachineReadableLog.class)
+    public void setTotalCacheErrors(int totalCacheErrors) {
+      this.totalCacheErrors = totalCacheErrors;
+      this.totalCacheErrorsIsSet = true;
+    }
+    @JsonProperty
+    @JsonView(JsonViews.MachineReadableLog.class)
+    public void setTotalCacheMisses(int totalCacheMisses) {
+      this.totalCacheMisses = totalCacheMisses;
+      this.totalCacheMissesIsSet = true;
+    }
+    @JsonProperty
+    @JsonView(JsonViews.MachineReadableLog.class)
+    public void setTotalCacheIgnores(int totalCacheIgnores) {
+      this.totalCacheIgnores = totalCacheIgnores;
+      this.totalCacheIgnoresIsSet = true;
+    }
+    @JsonProperty
+    @JsonView(JsonViews.MachineReadableLog.class)
+    public void setTotalCacheBytes(long totalCacheBytes) {
+      this.totalCacheBytes = totalCacheBytes;
+      this.totalCacheBytesIsSet = true;
+    }
+    @JsonProperty
+    @JsonView(JsonViews.MachineReadableLog.class)
+    public void setTotalCacheLocalKeyUnchangedHits(int totalCacheLocalKeyUnchangedHits) {
+      this.totalCacheLocalKeyUnchangedHits = totalCacheLocalKeyUnchangedHits;
+      this.totalCacheLocalKeyUnchangedHitsIsSet = true;
+    }
+    @JsonProperty
+    @JsonView(JsonViews.MachineReadableLog.class)
+    public void setSuccessUploadCount(AtomicInteger successUploadCount) {
+      this.successUploadCount = successUploadCount;
+    }
+    @JsonProperty
+    @JsonView(JsonViews.MachineReadableLog.class)
+    public void setFailureUploadCount(AtomicInteger failureUploadCount) {
+      this.failureUploadCount = failureUploadCount;
+    }
+    @Override
+    public ImmutableMap<ArtifactCacheMode, AtomicInteger> getCacheHitsPerMode() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableMap<ArtifactCacheMode, AtomicInteger> getCacheErrorsPerMode() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableMap<ArtifactCacheMode, AtomicLong> getCacheBytesPerMode() { throw new UnsupportedOperationException(); }
+    @Override
+    public int getTotalCacheHits() { throw new UnsupportedOperationException(); }
+    @Override
+    public int getTotalCacheErrors() { throw new UnsupportedOperationException(); }
+    @Override
+    public int getTotalCacheMisses() { throw new UnsupportedOperationException(); }
+    @Override
+    public int getTotalCacheIgnores() { throw new UnsupportedOperationException(); }
+    @Override
+    public long getTotalCacheBytes() { throw new UnsupportedOperationException(); }
+    @Override
+    public int getTotalCacheLocalKeyUnchangedHits() { throw new UnsupportedOperationException(); }
+    @Override
+    public AtomicInteger getSuccessUploadCount() { throw new UnsupportedOperationException(); }
+    @Override
+    public AtomicInteger getFailureUploadCount() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableCacheCountersSummary fromJson(Json json) {
+    ImmutableCacheCountersSummary instance = ImmutableCacheCountersSummary.of(json.cacheHitsPerMode, json.cacheErrorsPerMode, json.cacheBytesPerMode, json.totalCacheHits, json.totalCacheErrors, json.totalCacheMisses, json.totalCacheIgnores, json.totalCacheBytes, json.totalCacheLocalKeyUnchangedHits, json.successUploadCount, json.failureUploadCount);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code CacheCountersSummary} instance.
+   * @param cacheHitsPerMode The value for the {@code cacheHitsPerMode} attribute
+   * @param cacheErrorsPerMode The value for the {@code cacheErrorsPerMode} attribute
+   * @param cacheBytesPerMode The value for the {@code cacheBytesPerMode} attribute
+   * @param totalCacheHits The value for the {@code totalCacheHits} attribute
+   * @param totalCacheErrors The value for the {@code totalCacheErrors} attribute
+   * @param totalCacheMisses The value for the {@code totalCacheMisses} attribute
+   * @param totalCacheIgnores The value for the {@code totalCacheIgnores} attribute
+   * @param totalCacheBytes The value for the {@code totalCacheBytes} attribute
+   * @param totalCacheLocalKeyUnchangedHits The value for the {@code totalCacheLocalKeyUnchangedHits} attribute
+   * @param successUploadCount The value for the {@code successUploadCount} attribute
+   * @param failureUploadCount The value for the {@code failureUploadCount} attribute
+   * @return An immutable CacheCountersSummary instance
+   */
+  public static ImmutableCacheCountersSummary of(Map<ArtifactCacheMode, ? extends AtomicInteger> cacheHitsPerMode, Map<ArtifactCacheMode, ? extends AtomicInteger> cacheErrorsPerMode, Map<ArtifactCacheMode, ? extends AtomicLong> cacheBytesPerMode, int totalCacheHits, int totalCacheErrors, int totalCacheMisses, int totalCacheIgnores, long totalCacheBytes, int totalCacheLocalKeyUnchangedHits, AtomicInteger successUploadCount, AtomicInteger failureUploadCount) {
+    return new ImmutableCacheCountersSummary(cacheHitsPerMode, cacheErrorsPerMode, cacheBytesPerMode, totalCacheHits, totalCacheErrors, totalCacheMisses, totalCacheIgnores, totalCacheBytes, totalCacheLocalKeyUnchangedHits, successUploadCount, failureUploadCount);
+  }
+}
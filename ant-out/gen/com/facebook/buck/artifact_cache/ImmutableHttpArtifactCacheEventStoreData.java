@@ -0,0 +1,414 @@
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder()}.
+ */
+@Generated(from = "HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableHttpArtifactCacheEventStoreData
+    implements HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData {
+  private final @Nullable Long requestSizeBytes;
+  private final @Nullable Boolean wasStoreSuccessful;
+  private final ImmutableSet<RuleKey> ruleKeys;
+  private final @Nullable String artifactContentHash;
+  private final @Nullable Long artifactSizeBytes;
+  private final @Nullable String errorMessage;
+  private final ArtifactCacheEvent.StoreType storeType;
+
+  private ImmutableHttpArtifactCacheEventStoreData(ImmutableHttpArtifactCacheEventStoreData.Builder builder) {
+    this.requestSizeBytes = builder.requestSizeBytes;
+    this.wasStoreSuccessful = builder.wasStoreSuccessful;
+    this.ruleKeys = builder.ruleKeys.build();
+    this.artifactContentHash = builder.artifactContentHash;
+    this.artifactSizeBytes = builder.artifactSizeBytes;
+    this.errorMessage = builder.errorMessage;
+    this.storeType = builder.storeType;
+  }
+
+  /**
+   * @return The value of the {@code requestSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getRequestSizeBytes() {
+    return Optional.ofNullable(requestSizeBytes);
+  }
+
+  /**
+   * @return The value of the {@code wasStoreSuccessful} attribute
+   */
+  @Override
+  public Optional<Boolean> wasStoreSuccessful() {
+    return Optional.ofNullable(wasStoreSuccessful);
+  }
+
+  /**
+   * @return The value of the {@code ruleKeys} attribute
+   */
+  @Override
+  public ImmutableSet<RuleKey> getRuleKeys() {
+    return ruleKeys;
+  }
+
+  /**
+   * @return The value of the {@code artifactContentHash} attribute
+   */
+  @Override
+  public Optional<String> getArtifactContentHash() {
+    return Optional.ofNullable(artifactContentHash);
+  }
+
+  /**
+   * @return The value of the {@code artifactSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getArtifactSizeBytes() {
+    return Optional.ofNullable(artifactSizeBytes);
+  }
+
+  /**
+   * @return The value of the {@code errorMessage} attribute
+   */
+  @Override
+  public Optional<String> getErrorMessage() {
+    return Optional.ofNullable(errorMessage);
+  }
+
+  /**
+   * @return The value of the {@code storeType} attribute
+   */
+  @Override
+  public ArtifactCacheEvent.StoreType getStoreType() {
+    return storeType;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableHttpArtifactCacheEventStoreData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableHttpArtifactCacheEventStoreData
+        && equalTo((ImmutableHttpArtifactCacheEventStoreData) another);
+  }
+
+  private boolean equalTo(ImmutableHttpArtifactCacheEventStoreData another) {
+    return Objects.equals(requestSizeBytes, another.requestSizeBytes)
+        && Objects.equals(wasStoreSuccessful, another.wasStoreSuccessful)
+        && ruleKeys.equals(another.ruleKeys)
+        && Objects.equals(artifactContentHash, another.artifactContentHash)
+        && Objects.equals(artifactSizeBytes, another.artifactSizeBytes)
+        && Objects.equals(errorMessage, another.errorMessage)
+        && storeType.equals(another.storeType);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code requestSizeBytes}, {@code wasStoreSuccessful}, {@code ruleKeys}, {@code artifactContentHash}, {@code artifactSizeBytes}, {@code errorMessage}, {@code storeType}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(requestSizeBytes);
+    h += (h << 5) + Objects.hashCode(wasStoreSuccessful);
+    h += (h << 5) + ruleKeys.hashCode();
+    h += (h << 5) + Objects.hashCode(artifactContentHash);
+    h += (h << 5) + Objects.hashCode(artifactSizeBytes);
+    h += (h << 5) + Objects.hashCode(errorMessage);
+    h += (h << 5) + storeType.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code HttpArtifactCacheEventStoreData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HttpArtifactCacheEventStoreData")
+        .omitNullValues()
+        .add("requestSizeBytes", requestSizeBytes)
+        .add("wasStoreSuccessful", wasStoreSuccessful)
+        .add("ruleKeys", ruleKeys)
+        .add("artifactContentHash", artifactContentHash)
+        .add("artifactSizeBytes", artifactSizeBytes)
+        .add("errorMessage", errorMessage)
+        .add("storeType", storeType)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData HttpArtifactCacheEventStoreData}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_STORE_TYPE = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable Long requestSizeBytes;
+    private @Nullable Boolean wasStoreSuccessful;
+    private ImmutableSet.Builder<RuleKey> ruleKeys = ImmutableSet.builder();
+    private @Nullable String artifactContentHash;
+    private @Nullable Long artifactSizeBytes;
+    private @Nullable String errorMessage;
+    private @Nullable ArtifactCacheEvent.StoreType storeType;
+
+    /**
+     * Creates a builder for {@link HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData HttpArtifactCacheEventStoreData} instances.
+     */
+    public Builder() {
+      if (!(this instanceof HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder)) {
+        throw new UnsupportedOperationException("Use: new HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code HttpArtifactCacheEventStoreData} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder from(HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<Long> requestSizeBytesOptional = instance.getRequestSizeBytes();
+      if (requestSizeBytesOptional.isPresent()) {
+        setRequestSizeBytes(requestSizeBytesOptional);
+      }
+      Optional<Boolean> wasStoreSuccessfulOptional = instance.wasStoreSuccessful();
+      if (wasStoreSuccessfulOptional.isPresent()) {
+        setWasStoreSuccessful(wasStoreSuccessfulOptional);
+      }
+      addAllRuleKeys(instance.getRuleKeys());
+      Optional<String> artifactContentHashOptional = instance.getArtifactContentHash();
+      if (artifactContentHashOptional.isPresent()) {
+        setArtifactContentHash(artifactContentHashOptional);
+      }
+      Optional<Long> artifactSizeBytesOptional = instance.getArtifactSizeBytes();
+      if (artifactSizeBytesOptional.isPresent()) {
+        setArtifactSizeBytes(artifactSizeBytesOptional);
+      }
+      Optional<String> errorMessageOptional = instance.getErrorMessage();
+      if (errorMessageOptional.isPresent()) {
+        setErrorMessage(errorMessageOptional);
+      }
+      setStoreType(instance.getStoreType());
+      return (HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData#getRequestSizeBytes() requestSizeBytes} to requestSizeBytes.
+     * @param requestSizeBytes The value for requestSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder setRequestSizeBytes(long requestSizeBytes) {
+      this.requestSizeBytes = requestSizeBytes;
+      return (HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData#getRequestSizeBytes() requestSizeBytes} to requestSizeBytes.
+     * @param requestSizeBytes The value for requestSizeBytes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder setRequestSizeBytes(Optional<Long> requestSizeBytes) {
+      this.requestSizeBytes = requestSizeBytes.orElse(null);
+      return (HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData#wasStoreSuccessful() wasStoreSuccessful} to wasStoreSuccessful.
+     * @param wasStoreSuccessful The value for wasStoreSuccessful
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder setWasStoreSuccessful(boolean wasStoreSuccessful) {
+      this.wasStoreSuccessful = wasStoreSuccessful;
+      return (HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData#wasStoreSuccessful() wasStoreSuccessful} to wasStoreSuccessful.
+     * @param wasStoreSuccessful The value for wasStoreSuccessful
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder setWasStoreSuccessful(Optional<Boolean> wasStoreSuccessful) {
+      this.wasStoreSuccessful = wasStoreSuccessful.orElse(null);
+      return (HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData#getRuleKeys() ruleKeys} set.
+     * @param element A ruleKeys element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder addRuleKeys(RuleKey element) {
+      this.ruleKeys.add(element);
+      return (HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData#getRuleKeys() ruleKeys} set.
+     * @param elements An array of ruleKeys elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder addRuleKeys(RuleKey... elements) {
+      this.ruleKeys.add(elements);
+      return (HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData#getRuleKeys() ruleKeys} set.
+     * @param elements An iterable of ruleKeys elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder setRuleKeys(Iterable<? extends RuleKey> elements) {
+      this.ruleKeys = ImmutableSet.builder();
+      return addAllRuleKeys(elements);
+    }
+
+    /**
+     * Adds elements to {@link HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData#getRuleKeys() ruleKeys} set.
+     * @param elements An iterable of ruleKeys elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder addAllRuleKeys(Iterable<? extends RuleKey> elements) {
+      this.ruleKeys.addAll(elements);
+      return (HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData#getArtifactContentHash() artifactContentHash} to artifactContentHash.
+     * @param artifactContentHash The value for artifactContentHash
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder setArtifactContentHash(String artifactContentHash) {
+      this.artifactContentHash = Objects.requireNonNull(artifactContentHash, "artifactContentHash");
+      return (HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData#getArtifactContentHash() artifactContentHash} to artifactContentHash.
+     * @param artifactContentHash The value for artifactContentHash
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder setArtifactContentHash(Optional<String> artifactContentHash) {
+      this.artifactContentHash = artifactContentHash.orElse(null);
+      return (HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData#getArtifactSizeBytes() artifactSizeBytes} to artifactSizeBytes.
+     * @param artifactSizeBytes The value for artifactSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder setArtifactSizeBytes(long artifactSizeBytes) {
+      this.artifactSizeBytes = artifactSizeBytes;
+      return (HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData#getArtifactSizeBytes() artifactSizeBytes} to artifactSizeBytes.
+     * @param artifactSizeBytes The value for artifactSizeBytes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder setArtifactSizeBytes(Optional<Long> artifactSizeBytes) {
+      this.artifactSizeBytes = artifactSizeBytes.orElse(null);
+      return (HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData#getErrorMessage() errorMessage} to errorMessage.
+     * @param errorMessage The value for errorMessage
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder setErrorMessage(String errorMessage) {
+      this.errorMessage = Objects.requireNonNull(errorMessage, "errorMessage");
+      return (HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData#getErrorMessage() errorMessage} to errorMessage.
+     * @param errorMessage The value for errorMessage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder setErrorMessage(Optional<String> errorMessage) {
+      this.errorMessage = errorMessage.orElse(null);
+      return (HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData#getStoreType() storeType} attribute.
+     * @param storeType The value for storeType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder setStoreType(ArtifactCacheEvent.StoreType storeType) {
+      this.storeType = Objects.requireNonNull(storeType, "storeType");
+      initBits &= ~INIT_BIT_STORE_TYPE;
+      return (HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData HttpArtifactCacheEventStoreData}.
+     * @return An immutable instance of HttpArtifactCacheEventStoreData
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public HttpArtifactCacheEvent.HttpArtifactCacheEventStoreData build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableHttpArtifactCacheEventStoreData(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_STORE_TYPE) != 0) attributes.add("storeType");
+      return "Cannot build HttpArtifactCacheEventStoreData, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.hash.HashCode;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link HttpArtifactCacheBinaryProtocol.StoreWriteResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ImmutableStoreWriteResult.builder()}.
+ */
+@Generated(from = "HttpArtifactCacheBinaryProtocol.StoreWriteResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableStoreWriteResult
+    extends HttpArtifactCacheBinaryProtocol.StoreWriteResult {
+  private final HashCode artifactContentHashCode;
+  private final long artifactSizeBytes;
+
+  private ImmutableStoreWriteResult(ImmutableStoreWriteResult.Builder builder) {
+    this.artifactContentHashCode = builder.artifactContentHashCode;
+    this.artifactSizeBytes = builder.artifactSizeBytes;
+  }
+
+  /**
+   * @return The value of the {@code artifactContentHashCode} attribute
+   */
+  @Override
+  public HashCode getArtifactContentHashCode() {
+    return artifactContentHashCode;
+  }
+
+  /**
+   * @return The value of the {@code artifactSizeBytes} attribute
+   */
+  @Override
+  public long getArtifactSizeBytes() {
+    return artifactSizeBytes;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableStoreWriteResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableStoreWriteResult
+        && equalTo((ImmutableStoreWriteResult) another);
+  }
+
+  private boolean equalTo(ImmutableStoreWriteResult another) {
+    return artifactContentHashCode.equals(another.artifactContentHashCode)
+        && artifactSizeBytes == another.artifactSizeBytes;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code artifactContentHashCode}, {@code artifactSizeBytes}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + artifactContentHashCode.hashCode();
+    h += (h << 5) + Longs.hashCode(artifactSizeBytes);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code StoreWriteResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("StoreWriteResult")
+        .omitNullValues()
+        .add("artifactContentHashCode", artifactContentHashCode)
+        .add("artifactSizeBytes", artifactSizeBytes)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link HttpArtifactCacheBinaryProtocol.StoreWriteResult StoreWriteResult}.
+   * @return A new StoreWriteResult builder
+   */
+  public static ImmutableStoreWriteResult.Builder builder() {
+    return new ImmutableStoreWriteResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link HttpArtifactCacheBinaryProtocol.StoreWriteResult StoreWriteResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "HttpArtifactCacheBinaryProtocol.StoreWriteResult", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_ARTIFACT_CONTENT_HASH_CODE = 0x1L;
+    private static final long INIT_BIT_ARTIFACT_SIZE_BYTES = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable HashCode artifactContentHashCode;
+    private long artifactSizeBytes;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code StoreWriteResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HttpArtifactCacheBinaryProtocol.StoreWriteResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      setArtifactContentHashCode(instance.getArtifactContentHashCode());
+      setArtifactSizeBytes(instance.getArtifactSizeBytes());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HttpArtifactCacheBinaryProtocol.StoreWriteResult#getArtifactContentHashCode() artifactContentHashCode} attribute.
+     * @param artifactContentHashCode The value for artifactContentHashCode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactContentHashCode(HashCode artifactContentHashCode) {
+      this.artifactContentHashCode = Objects.requireNonNull(artifactContentHashCode, "artifactContentHashCode");
+      initBits &= ~INIT_BIT_ARTIFACT_CONTENT_HASH_CODE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HttpArtifactCacheBinaryProtocol.StoreWriteResult#getArtifactSizeBytes() artifactSizeBytes} attribute.
+     * @param artifactSizeBytes The value for artifactSizeBytes 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactSizeBytes(long artifactSizeBytes) {
+      this.artifactSizeBytes = artifactSizeBytes;
+      initBits &= ~INIT_BIT_ARTIFACT_SIZE_BYTES;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link HttpArtifactCacheBinaryProtocol.StoreWriteResult StoreWriteResult}.
+     * @return An immutable instance of StoreWriteResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public HttpArtifactCacheBinaryProtocol.StoreWriteResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableStoreWriteResult(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_ARTIFACT_CONTENT_HASH_CODE) != 0) attributes.add("artifactContentHashCode");
+      if ((initBits & INIT_BIT_ARTIFACT_SIZE_BYTES) != 0) attributes.add("artifactSizeBytes");
+      return "Cannot build StoreWriteResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
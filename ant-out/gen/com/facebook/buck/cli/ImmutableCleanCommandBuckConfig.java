@@ -0,0 +1,140 @@
+package com.facebook.buck.cli;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CleanCommandBuckConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCleanCommandBuckConfig.of()}.
+ */
+@Generated(from = "CleanCommandBuckConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCleanCommandBuckConfig extends CleanCommandBuckConfig {
+  private final BuckConfig delegate;
+
+  private ImmutableCleanCommandBuckConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCleanCommandBuckConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCleanCommandBuckConfig
+        && equalTo((ImmutableCleanCommandBuckConfig) another);
+  }
+
+  private boolean equalTo(ImmutableCleanCommandBuckConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CleanCommandBuckConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CleanCommandBuckConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long CLEAN_ADDITIONAL_PATHS_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableList<String> cleanAdditionalPaths;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link CleanCommandBuckConfig#getCleanAdditionalPaths() cleanAdditionalPaths} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code cleanAdditionalPaths} attribute
+   */
+  @Override
+  public ImmutableList<String> getCleanAdditionalPaths() {
+    if ((lazyInitBitmap & CLEAN_ADDITIONAL_PATHS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & CLEAN_ADDITIONAL_PATHS_LAZY_INIT_BIT) == 0) {
+          this.cleanAdditionalPaths = Objects.requireNonNull(super.getCleanAdditionalPaths(), "cleanAdditionalPaths");
+          lazyInitBitmap |= CLEAN_ADDITIONAL_PATHS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return cleanAdditionalPaths;
+  }
+
+  private static final long CLEAN_EXCLUDED_CACHES_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableList<String> cleanExcludedCaches;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link CleanCommandBuckConfig#getCleanExcludedCaches() cleanExcludedCaches} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code cleanExcludedCaches} attribute
+   */
+  @Override
+  public ImmutableList<String> getCleanExcludedCaches() {
+    if ((lazyInitBitmap & CLEAN_EXCLUDED_CACHES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & CLEAN_EXCLUDED_CACHES_LAZY_INIT_BIT) == 0) {
+          this.cleanExcludedCaches = Objects.requireNonNull(super.getCleanExcludedCaches(), "cleanExcludedCaches");
+          lazyInitBitmap |= CLEAN_EXCLUDED_CACHES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return cleanExcludedCaches;
+  }
+
+  /**
+   * Construct a new immutable {@code CleanCommandBuckConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable CleanCommandBuckConfig instance
+   */
+  public static ImmutableCleanCommandBuckConfig of(BuckConfig delegate) {
+    return new ImmutableCleanCommandBuckConfig(delegate);
+  }
+}
@@ -0,0 +1,235 @@
+package com.facebook.buck.command;
+
+import com.facebook.buck.artifact_cache.ArtifactCacheFactory;
+import com.facebook.buck.core.build.engine.cache.manager.BuildInfoStoreManager;
+import com.facebook.buck.core.cell.Cells;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.io.filesystem.ProjectFilesystemFactory;
+import com.facebook.buck.rules.keys.config.RuleKeyConfiguration;
+import com.facebook.buck.util.Console;
+import com.facebook.buck.util.concurrent.ExecutorPool;
+import com.facebook.buck.util.environment.Platform;
+import com.facebook.buck.util.timing.Clock;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildExecutorArgs}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildExecutorArgs.of()}.
+ */
+@Generated(from = "BuildExecutorArgs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildExecutorArgs extends BuildExecutorArgs {
+  private final Console console;
+  private final BuckEventBus buckEventBus;
+  private final Platform platform;
+  private final Clock clock;
+  private final Cells cells;
+  private final ImmutableMap<ExecutorPool, ListeningExecutorService> executors;
+  private final ProjectFilesystemFactory projectFilesystemFactory;
+  private final BuildInfoStoreManager buildInfoStoreManager;
+  private final ArtifactCacheFactory artifactCacheFactory;
+  private final RuleKeyConfiguration ruleKeyConfiguration;
+
+  private ImmutableBuildExecutorArgs(
+      Console console,
+      BuckEventBus buckEventBus,
+      Platform platform,
+      Clock clock,
+      Cells cells,
+      Map<ExecutorPool, ? extends ListeningExecutorService> executors,
+      ProjectFilesystemFactory projectFilesystemFactory,
+      BuildInfoStoreManager buildInfoStoreManager,
+      ArtifactCacheFactory artifactCacheFactory,
+      RuleKeyConfiguration ruleKeyConfiguration) {
+    this.console = Objects.requireNonNull(console, "console");
+    this.buckEventBus = Objects.requireNonNull(buckEventBus, "buckEventBus");
+    this.platform = Objects.requireNonNull(platform, "platform");
+    this.clock = Objects.requireNonNull(clock, "clock");
+    this.cells = Objects.requireNonNull(cells, "cells");
+    this.executors = Maps.immutableEnumMap(executors);
+    this.projectFilesystemFactory = Objects.requireNonNull(projectFilesystemFactory, "projectFilesystemFactory");
+    this.buildInfoStoreManager = Objects.requireNonNull(buildInfoStoreManager, "buildInfoStoreManager");
+    this.artifactCacheFactory = Objects.requireNonNull(artifactCacheFactory, "artifactCacheFactory");
+    this.ruleKeyConfiguration = Objects.requireNonNull(ruleKeyConfiguration, "ruleKeyConfiguration");
+  }
+
+  /**
+   * @return The value of the {@code console} attribute
+   */
+  @Override
+  public Console getConsole() {
+    return console;
+  }
+
+  /**
+   * @return The value of the {@code buckEventBus} attribute
+   */
+  @Override
+  public BuckEventBus getBuckEventBus() {
+    return buckEventBus;
+  }
+
+  /**
+   * @return The value of the {@code platform} attribute
+   */
+  @Override
+  public Platform getPlatform() {
+    return platform;
+  }
+
+  /**
+   * @return The value of the {@code clock} attribute
+   */
+  @Override
+  public Clock getClock() {
+    return clock;
+  }
+
+  /**
+   * @return The value of the {@code cells} attribute
+   */
+  @Override
+  public Cells getCells() {
+    return cells;
+  }
+
+  /**
+   * @return The value of the {@code executors} attribute
+   */
+  @Override
+  public ImmutableMap<ExecutorPool, ListeningExecutorService> getExecutors() {
+    return executors;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystemFactory} attribute
+   */
+  @Override
+  public ProjectFilesystemFactory getProjectFilesystemFactory() {
+    return projectFilesystemFactory;
+  }
+
+  /**
+   * @return The value of the {@code buildInfoStoreManager} attribute
+   */
+  @Override
+  public BuildInfoStoreManager getBuildInfoStoreManager() {
+    return buildInfoStoreManager;
+  }
+
+  /**
+   * @return The value of the {@code artifactCacheFactory} attribute
+   */
+  @Override
+  public ArtifactCacheFactory getArtifactCacheFactory() {
+    return artifactCacheFactory;
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyConfiguration} attribute
+   */
+  @Override
+  public RuleKeyConfiguration getRuleKeyConfiguration() {
+    return ruleKeyConfiguration;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildExecutorArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildExecutorArgs
+        && equalTo((ImmutableBuildExecutorArgs) another);
+  }
+
+  private boolean equalTo(ImmutableBuildExecutorArgs another) {
+    return console.equals(another.console)
+        && buckEventBus.equals(another.buckEventBus)
+        && platform.equals(another.platform)
+        && clock.equals(another.clock)
+        && cells.equals(another.cells)
+        && executors.equals(another.executors)
+        && projectFilesystemFactory.equals(another.projectFilesystemFactory)
+        && buildInfoStoreManager.equals(another.buildInfoStoreManager)
+        && artifactCacheFactory.equals(another.artifactCacheFactory)
+        && ruleKeyConfiguration.equals(another.ruleKeyConfiguration);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code console}, {@code buckEventBus}, {@code platform}, {@code clock}, {@code cells}, {@code executors}, {@code projectFilesystemFactory}, {@code buildInfoStoreManager}, {@code artifactCacheFactory}, {@code ruleKeyConfiguration}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + console.hashCode();
+    h += (h << 5) + buckEventBus.hashCode();
+    h += (h << 5) + platform.hashCode();
+    h += (h << 5) + clock.hashCode();
+    h += (h << 5) + cells.hashCode();
+    h += (h << 5) + executors.hashCode();
+    h += (h << 5) + projectFilesystemFactory.hashCode();
+    h += (h << 5) + buildInfoStoreManager.hashCode();
+    h += (h << 5) + artifactCacheFactory.hashCode();
+    h += (h << 5) + ruleKeyConfiguration.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildExecutorArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildExecutorArgs")
+        .omitNullValues()
+        .add("console", console)
+        .add("buckEventBus", buckEventBus)
+        .add("platform", platform)
+        .add("clock", clock)
+        .add("cells", cells)
+        .add("executors", executors)
+        .add("projectFilesystemFactory", projectFilesystemFactory)
+        .add("buildInfoStoreManager", buildInfoStoreManager)
+        .add("artifactCacheFactory", artifactCacheFactory)
+        .add("ruleKeyConfiguration", ruleKeyConfiguration)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildExecutorArgs} instance.
+   * @param console The value for the {@code console} attribute
+   * @param buckEventBus The value for the {@code buckEventBus} attribute
+   * @param platform The value for the {@code platform} attribute
+   * @param clock The value for the {@code clock} attribute
+   * @param cells The value for the {@code cells} attribute
+   * @param executors The value for the {@code executors} attribute
+   * @param projectFilesystemFactory The value for the {@code projectFilesystemFactory} attribute
+   * @param buildInfoStoreManager The value for the {@code buildInfoStoreManager} attribute
+   * @param artifactCacheFactory The value for the {@code artifactCacheFactory} attribute
+   * @param ruleKeyConfiguration The value for the {@code ruleKeyConfiguration} attribute
+   * @return An immutable BuildExecutorArgs instance
+   */
+  public static ImmutableBuildExecutorArgs of(Console console, BuckEventBus buckEventBus, Platform platform, Clock clock, Cells cells, Map<ExecutorPool, ? extends ListeningExecutorService> executors, ProjectFilesystemFactory projectFilesystemFactory, BuildInfoStoreManager buildInfoStoreManager, ArtifactCacheFactory artifactCacheFactory, RuleKeyConfiguration ruleKeyConfiguration) {
+    return new ImmutableBuildExecutorArgs(console, buckEventBus, platform, clock, cells, executors, projectFilesystemFactory, buildInfoStoreManager, artifactCacheFactory, ruleKeyConfiguration);
+  }
+}
@@ -0,0 +1,72 @@
+package com.facebook.buck.core.artifact;
+
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link OutputArtifact}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableOutputArtifact.of()}.
+ */
+@Generated(from = "OutputArtifact", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableOutputArtifact extends OutputArtifact {
+  private final ArtifactImpl impl;
+
+  private ImmutableOutputArtifact(ArtifactImpl impl) {
+    this.impl = Objects.requireNonNull(impl, "impl");
+  }
+
+  /**
+   * @return The value of the {@code impl} attribute
+   */
+  @Override
+  ArtifactImpl getImpl() {
+    return impl;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableOutputArtifact} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableOutputArtifact
+        && equalTo((ImmutableOutputArtifact) another);
+  }
+
+  private boolean equalTo(ImmutableOutputArtifact another) {
+    return impl.equals(another.impl);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code impl}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + impl.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code OutputArtifact} instance.
+   * @param impl The value for the {@code impl} attribute
+   * @return An immutable OutputArtifact instance
+   */
+  public static ImmutableOutputArtifact of(ArtifactImpl impl) {
+    return new ImmutableOutputArtifact(impl);
+  }
+}
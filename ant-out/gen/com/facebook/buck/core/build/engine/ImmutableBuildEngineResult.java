@@ -0,0 +1,88 @@
+package com.facebook.buck.core.build.engine;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildEngine.BuildEngineResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildEngineResult.of()}.
+ */
+@Generated(from = "BuildEngine.BuildEngineResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildEngineResult
+    extends BuildEngine.BuildEngineResult {
+  private final ListenableFuture<BuildResult> result;
+
+  private ImmutableBuildEngineResult(
+      ListenableFuture<BuildResult> result) {
+    this.result = Objects.requireNonNull(result, "result");
+  }
+
+  /**
+   * @return The value of the {@code result} attribute
+   */
+  @Override
+  public ListenableFuture<BuildResult> getResult() {
+    return result;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildEngineResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildEngineResult
+        && equalTo((ImmutableBuildEngineResult) another);
+  }
+
+  private boolean equalTo(ImmutableBuildEngineResult another) {
+    return result.equals(another.result);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code result}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + result.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildEngineResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildEngineResult")
+        .omitNullValues()
+        .add("result", result)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildEngineResult} instance.
+   * @param result The value for the {@code result} attribute
+   * @return An immutable BuildEngineResult instance
+   */
+  public static ImmutableBuildEngineResult of(ListenableFuture<BuildResult> result) {
+    return new ImmutableBuildEngineResult(result);
+  }
+}
@@ -0,0 +1,110 @@
+package com.facebook.buck.core.build.engine.manifest;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ManifestLoadResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableManifestLoadResult.of()}.
+ */
+@Generated(from = "ManifestLoadResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableManifestLoadResult
+    extends ManifestLoadResult {
+  private final @Nullable Manifest manifest;
+  private final @Nullable String error;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableManifestLoadResult(
+      Optional<? extends Manifest> manifest,
+      Optional<String> error) {
+    this.manifest = manifest.orElse(null);
+    this.error = error.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code manifest} attribute
+   */
+  @Override
+  public Optional<Manifest> getManifest() {
+    return Optional.ofNullable(manifest);
+  }
+
+  /**
+   * @return The value of the {@code error} attribute
+   */
+  @Override
+  public Optional<String> getError() {
+    return Optional.ofNullable(error);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableManifestLoadResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableManifestLoadResult
+        && equalTo((ImmutableManifestLoadResult) another);
+  }
+
+  private boolean equalTo(ImmutableManifestLoadResult another) {
+    return Objects.equals(manifest, another.manifest)
+        && Objects.equals(error, another.error);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code manifest}, {@code error}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(manifest);
+    h += (h << 5) + Objects.hashCode(error);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ManifestLoadResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ManifestLoadResult")
+        .omitNullValues()
+        .add("manifest", manifest)
+        .add("error", error)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ManifestLoadResult} instance.
+   * @param manifest The value for the {@code manifest} attribute
+   * @param error The value for the {@code error} attribute
+   * @return An immutable ManifestLoadResult instance
+   */
+  public static ImmutableManifestLoadResult of(Optional<? extends Manifest> manifest, Optional<String> error) {
+    return validate(new ImmutableManifestLoadResult(manifest, error));
+  }
+
+
+  private static ImmutableManifestLoadResult validate(ImmutableManifestLoadResult instance) {
+    instance.check();
+    return instance;
+  }
+}
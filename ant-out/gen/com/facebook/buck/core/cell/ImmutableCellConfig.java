@@ -0,0 +1,88 @@
+package com.facebook.buck.core.cell;
+
+import com.facebook.buck.util.config.RawConfig;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CellConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCellConfig.of()}.
+ */
+@Generated(from = "CellConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCellConfig extends CellConfig {
+  private final ImmutableMap<CellName, RawConfig> values;
+
+  private ImmutableCellConfig(
+      Map<? extends CellName, ? extends RawConfig> values) {
+    this.values = ImmutableMap.copyOf(values);
+  }
+
+  /**
+   * @return The value of the {@code values} attribute
+   */
+  @Override
+  public ImmutableMap<CellName, RawConfig> getValues() {
+    return values;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCellConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCellConfig
+        && equalTo((ImmutableCellConfig) another);
+  }
+
+  private boolean equalTo(ImmutableCellConfig another) {
+    return values.equals(another.values);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code values}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + values.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CellConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CellConfig")
+        .omitNullValues()
+        .add("values", values)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CellConfig} instance.
+   * @param values The value for the {@code values} attribute
+   * @return An immutable CellConfig instance
+   */
+  public static ImmutableCellConfig of(Map<? extends CellName, ? extends RawConfig> values) {
+    return new ImmutableCellConfig(values);
+  }
+}
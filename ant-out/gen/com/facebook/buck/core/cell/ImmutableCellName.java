@@ -0,0 +1,85 @@
+package com.facebook.buck.core.cell;
+
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CellName}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCellName.of()}.
+ */
+@Generated(from = "CellName", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCellName extends CellName {
+  private final String name;
+  private transient final int hashCode;
+
+  private ImmutableCellName(String name) {
+    this.name = Objects.requireNonNull(name, "name");
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCellName} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCellName
+        && equalTo((ImmutableCellName) another);
+  }
+
+  private boolean equalTo(ImmutableCellName another) {
+    if (hashCode != another.hashCode) return false;
+    return name.equals(another.name);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code name}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + name.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code CellName} instance.
+   * @param name The value for the {@code name} attribute
+   * @return An immutable CellName instance
+   */
+  public static ImmutableCellName of(String name) {
+    return validate(new ImmutableCellName(name));
+  }
+
+
+  private static ImmutableCellName validate(ImmutableCellName instance) {
+    instance.checkComponents();
+    return instance;
+  }
+}
@@ -0,0 +1,105 @@
+package com.facebook.buck.core.cell;
+
+import com.facebook.buck.core.cell.name.CanonicalCellName;
+import com.facebook.buck.core.filesystems.AbsPath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DefaultNewCellPathResolver}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableDefaultNewCellPathResolver.of()}.
+ */
+@Generated(from = "DefaultNewCellPathResolver", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableDefaultNewCellPathResolver
+    extends DefaultNewCellPathResolver {
+  private final ImmutableMap<AbsPath, CanonicalCellName> pathToNameMap;
+  private transient final ImmutableSortedMap<CanonicalCellName, AbsPath> cellToPathMap;
+
+  private ImmutableDefaultNewCellPathResolver(
+      Map<? extends AbsPath, ? extends CanonicalCellName> pathToNameMap) {
+    this.pathToNameMap = ImmutableMap.copyOf(pathToNameMap);
+    this.cellToPathMap = Objects.requireNonNull(super.getCellToPathMap(), "cellToPathMap");
+  }
+
+  /**
+   * @return The value of the {@code pathToNameMap} attribute
+   */
+  @Override
+  ImmutableMap<AbsPath, CanonicalCellName> getPathToNameMap() {
+    return pathToNameMap;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code cellToPathMap} attribute
+   */
+  @Override
+  ImmutableSortedMap<CanonicalCellName, AbsPath> getCellToPathMap() {
+    return cellToPathMap;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDefaultNewCellPathResolver} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDefaultNewCellPathResolver
+        && equalTo((ImmutableDefaultNewCellPathResolver) another);
+  }
+
+  private boolean equalTo(ImmutableDefaultNewCellPathResolver another) {
+    return pathToNameMap.equals(another.pathToNameMap)
+        && cellToPathMap.equals(another.cellToPathMap);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code pathToNameMap}, {@code cellToPathMap}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + pathToNameMap.hashCode();
+    h += (h << 5) + cellToPathMap.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DefaultNewCellPathResolver} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DefaultNewCellPathResolver")
+        .omitNullValues()
+        .add("pathToNameMap", pathToNameMap)
+        .add("cellToPathMap", cellToPathMap)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DefaultNewCellPathResolver} instance.
+   * @param pathToNameMap The value for the {@code pathToNameMap} attribute
+   * @return An immutable DefaultNewCellPathResolver instance
+   */
+  public static ImmutableDefaultNewCellPathResolver of(Map<? extends AbsPath, ? extends CanonicalCellName> pathToNameMap) {
+    return new ImmutableDefaultNewCellPathResolver(pathToNameMap);
+  }
+}
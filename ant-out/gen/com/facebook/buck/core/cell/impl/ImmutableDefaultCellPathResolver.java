@@ -0,0 +1,218 @@
+package com.facebook.buck.core.cell.impl;
+
+import com.facebook.buck.core.cell.CellName;
+import com.facebook.buck.core.cell.NewCellPathResolver;
+import com.facebook.buck.core.cell.nameresolver.CellNameResolver;
+import com.facebook.buck.core.filesystems.AbsPath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DefaultCellPathResolver}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableDefaultCellPathResolver.of()}.
+ */
+@Generated(from = "DefaultCellPathResolver", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableDefaultCellPathResolver
+    extends DefaultCellPathResolver {
+  private final AbsPath root;
+  private final ImmutableMap<String, AbsPath> cellPathsByRootCellExternalName;
+  private final CellNameResolver cellNameResolver;
+  private final NewCellPathResolver newCellPathResolver;
+
+  private ImmutableDefaultCellPathResolver(
+      AbsPath root,
+      Map<String, ? extends AbsPath> cellPathsByRootCellExternalName,
+      CellNameResolver cellNameResolver,
+      NewCellPathResolver newCellPathResolver) {
+    this.root = Objects.requireNonNull(root, "root");
+    this.cellPathsByRootCellExternalName = ImmutableMap.copyOf(cellPathsByRootCellExternalName);
+    this.cellNameResolver = Objects.requireNonNull(cellNameResolver, "cellNameResolver");
+    this.newCellPathResolver = Objects.requireNonNull(newCellPathResolver, "newCellPathResolver");
+  }
+
+  /**
+   * @return The value of the {@code root} attribute
+   */
+  @Override
+  public AbsPath getRoot() {
+    return root;
+  }
+
+  /**
+   * @return The value of the {@code cellPathsByRootCellExternalName} attribute
+   */
+  @Override
+  public ImmutableMap<String, AbsPath> getCellPathsByRootCellExternalName() {
+    return cellPathsByRootCellExternalName;
+  }
+
+  /**
+   * @return The value of the {@code cellNameResolver} attribute
+   */
+  @Override
+  public CellNameResolver getCellNameResolver() {
+    return cellNameResolver;
+  }
+
+  /**
+   * @return The value of the {@code newCellPathResolver} attribute
+   */
+  @Override
+  public NewCellPathResolver getNewCellPathResolver() {
+    return newCellPathResolver;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDefaultCellPathResolver} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDefaultCellPathResolver
+        && equalTo((ImmutableDefaultCellPathResolver) another);
+  }
+
+  private boolean equalTo(ImmutableDefaultCellPathResolver another) {
+    return root.equals(another.root)
+        && cellPathsByRootCellExternalName.equals(another.cellPathsByRootCellExternalName)
+        && cellNameResolver.equals(another.cellNameResolver)
+        && newCellPathResolver.equals(another.newCellPathResolver);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code root}, {@code cellPathsByRootCellExternalName}, {@code cellNameResolver}, {@code newCellPathResolver}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + root.hashCode();
+    h += (h << 5) + cellPathsByRootCellExternalName.hashCode();
+    h += (h << 5) + cellNameResolver.hashCode();
+    h += (h << 5) + newCellPathResolver.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DefaultCellPathResolver} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DefaultCellPathResolver")
+        .omitNullValues()
+        .add("root", root)
+        .add("cellPathsByRootCellExternalName", cellPathsByRootCellExternalName)
+        .add("cellNameResolver", cellNameResolver)
+        .add("newCellPathResolver", newCellPathResolver)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long EXTERNAL_NAMES_IN_ROOT_CELL_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableMap<Path, String> externalNamesInRootCell;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultCellPathResolver#getExternalNamesInRootCell() externalNamesInRootCell} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code externalNamesInRootCell} attribute
+   */
+  @Override
+  public ImmutableMap<Path, String> getExternalNamesInRootCell() {
+    if ((lazyInitBitmap & EXTERNAL_NAMES_IN_ROOT_CELL_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & EXTERNAL_NAMES_IN_ROOT_CELL_LAZY_INIT_BIT) == 0) {
+          this.externalNamesInRootCell = Objects.requireNonNull(super.getExternalNamesInRootCell(), "externalNamesInRootCell");
+          lazyInitBitmap |= EXTERNAL_NAMES_IN_ROOT_CELL_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return externalNamesInRootCell;
+  }
+
+  private static final long PATH_MAPPING_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableMap<CellName, AbsPath> pathMapping;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultCellPathResolver#getPathMapping() pathMapping} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code pathMapping} attribute
+   */
+  @Override
+  public ImmutableMap<CellName, AbsPath> getPathMapping() {
+    if ((lazyInitBitmap & PATH_MAPPING_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PATH_MAPPING_LAZY_INIT_BIT) == 0) {
+          this.pathMapping = Objects.requireNonNull(super.getPathMapping(), "pathMapping");
+          lazyInitBitmap |= PATH_MAPPING_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return pathMapping;
+  }
+
+  private static final long KNOWN_ROOTS_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableSortedSet<AbsPath> knownRoots;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultCellPathResolver#getKnownRoots() knownRoots} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code knownRoots} attribute
+   */
+  @Override
+  public ImmutableSortedSet<AbsPath> getKnownRoots() {
+    if ((lazyInitBitmap & KNOWN_ROOTS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & KNOWN_ROOTS_LAZY_INIT_BIT) == 0) {
+          this.knownRoots = Objects.requireNonNull(super.getKnownRoots(), "knownRoots");
+          lazyInitBitmap |= KNOWN_ROOTS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return knownRoots;
+  }
+
+  /**
+   * Construct a new immutable {@code DefaultCellPathResolver} instance.
+   * @param root The value for the {@code root} attribute
+   * @param cellPathsByRootCellExternalName The value for the {@code cellPathsByRootCellExternalName} attribute
+   * @param cellNameResolver The value for the {@code cellNameResolver} attribute
+   * @param newCellPathResolver The value for the {@code newCellPathResolver} attribute
+   * @return An immutable DefaultCellPathResolver instance
+   */
+  public static ImmutableDefaultCellPathResolver of(AbsPath root, Map<String, ? extends AbsPath> cellPathsByRootCellExternalName, CellNameResolver cellNameResolver, NewCellPathResolver newCellPathResolver) {
+    return new ImmutableDefaultCellPathResolver(root, cellPathsByRootCellExternalName, cellNameResolver, newCellPathResolver);
+  }
+}
@@ -0,0 +1,144 @@
+package com.facebook.buck.core.cell.name;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CanonicalCellName}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCanonicalCellName.of()}.
+ */
+@Generated(from = "CanonicalCellName", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCanonicalCellName extends CanonicalCellName {
+  private final @Nullable String legacyName;
+  private transient final int hashCode;
+
+  private ImmutableCanonicalCellName(Optional<String> legacyName) {
+    this.legacyName = legacyName.orElse(null);
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code legacyName} attribute
+   */
+  @JsonProperty("name")
+  @Override
+  public Optional<String> getLegacyName() {
+    return Optional.ofNullable(legacyName);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCanonicalCellName} that have equal attribute values.
+   * As instances of the {@code ImmutableCanonicalCellName} class are interned, the {@code equals} method is implemented
+   * as an efficient reference equality check.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another;
+  }
+
+  private boolean equalTo(ImmutableCanonicalCellName another) {
+    if (hashCode != another.hashCode) return false;
+    return Objects.equals(legacyName, another.legacyName);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code legacyName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(legacyName);
+    return h;
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "CanonicalCellName", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends CanonicalCellName {
+    @Nullable Optional<String> legacyName = Optional.empty();
+    @JsonProperty("name")
+    public void setLegacyName(Optional<String> legacyName) {
+      this.legacyName = legacyName;
+    }
+    @Override
+    public Optional<String> getLegacyName() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableCanonicalCellName fromJson(Json json) {
+    ImmutableCanonicalCellName instance = ImmutableCanonicalCellName.of(json.legacyName);
+    return instance;
+  }
+
+  @Generated(from = "CanonicalCellName", generator = "Immutables")
+  private static class InternProxy {
+    final ImmutableCanonicalCellName instance;
+
+    InternProxy(ImmutableCanonicalCellName instance) {
+      this.instance = instance;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object another) {
+      return another != null && instance.equalTo(((InternProxy) another).instance);
+    }
+
+    @Override
+    public int hashCode() {
+      return instance.hashCode();
+    }
+  }
+
+  private static final Interner<InternProxy> INTERNER = Interners.newStrongInterner();
+
+  /**
+   * Construct a new immutable {@code CanonicalCellName} instance.
+   * @param legacyName The value for the {@code legacyName} attribute
+   * @return An immutable CanonicalCellName instance
+   */
+  public static ImmutableCanonicalCellName of(Optional<String> legacyName) {
+    return validate(new ImmutableCanonicalCellName(legacyName));
+  }
+
+
+  private static ImmutableCanonicalCellName validate(ImmutableCanonicalCellName instance) {
+    return INTERNER.intern(new InternProxy(instance)).instance;
+  }
+}
@@ -0,0 +1,119 @@
+package com.facebook.buck.core.files;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link FileTree}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableFileTree.of()}.
+ */
+@Generated(from = "FileTree", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableFileTree extends FileTree {
+  private final Path path;
+  private final DirectoryList directoryList;
+  private final ImmutableMap<Path, FileTree> children;
+
+  private ImmutableFileTree(
+      Path path,
+      DirectoryList directoryList,
+      Map<? extends Path, ? extends FileTree> children) {
+    this.path = Objects.requireNonNull(path, "path");
+    this.directoryList = Objects.requireNonNull(directoryList, "directoryList");
+    this.children = ImmutableMap.copyOf(children);
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * @return The value of the {@code directoryList} attribute
+   */
+  @Override
+  public DirectoryList getDirectoryList() {
+    return directoryList;
+  }
+
+  /**
+   * @return The value of the {@code children} attribute
+   */
+  @Override
+  public ImmutableMap<Path, FileTree> getChildren() {
+    return children;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableFileTree} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableFileTree
+        && equalTo((ImmutableFileTree) another);
+  }
+
+  private boolean equalTo(ImmutableFileTree another) {
+    return path.equals(another.path)
+        && directoryList.equals(another.directoryList)
+        && children.equals(another.children);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code path}, {@code directoryList}, {@code children}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + path.hashCode();
+    h += (h << 5) + directoryList.hashCode();
+    h += (h << 5) + children.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FileTree} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FileTree")
+        .omitNullValues()
+        .add("path", path)
+        .add("directoryList", directoryList)
+        .add("children", children)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code FileTree} instance.
+   * @param path The value for the {@code path} attribute
+   * @param directoryList The value for the {@code directoryList} attribute
+   * @param children The value for the {@code children} attribute
+   * @return An immutable FileTree instance
+   */
+  public static ImmutableFileTree of(Path path, DirectoryList directoryList, Map<? extends Path, ? extends FileTree> children) {
+    return new ImmutableFileTree(path, directoryList, children);
+  }
+}
@@ -0,0 +1,126 @@
+package com.facebook.buck.core.graph.transformation.model;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ComposedKey}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableComposedKey.<KeyType1, ResultType2>of()}.
+ */
+@Generated(from = "ComposedKey", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableComposedKey<KeyType1 extends ComputeKey<?>, ResultType2 extends ComputeResult>
+    extends ComposedKey<KeyType1, ResultType2> {
+  private final KeyType1 originKey;
+  private final Class<ResultType2> targetResultClass;
+  private transient final ComputationIdentifier<ComposedResult<ComputeKey<ResultType2>, ResultType2>> identifier;
+  private transient final int hashCode;
+
+  private ImmutableComposedKey(KeyType1 originKey, Class<ResultType2> targetResultClass) {
+    this.originKey = Objects.requireNonNull(originKey, "originKey");
+    this.targetResultClass = Objects.requireNonNull(targetResultClass, "targetResultClass");
+    this.identifier = Objects.requireNonNull(super.getIdentifier(), "identifier");
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code originKey} attribute
+   */
+  @Override
+  public KeyType1 getOriginKey() {
+    return originKey;
+  }
+
+  /**
+   * @return The value of the {@code targetResultClass} attribute
+   */
+  @Override
+  public Class<ResultType2> getTargetResultClass() {
+    return targetResultClass;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code identifier} attribute
+   */
+  @Override
+  public ComputationIdentifier<ComposedResult<ComputeKey<ResultType2>, ResultType2>> getIdentifier() {
+    return identifier;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableComposedKey} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableComposedKey<?, ?>
+        && equalTo((ImmutableComposedKey<?, ?>) another);
+  }
+
+  private boolean equalTo(ImmutableComposedKey<?, ?> another) {
+    if (hashCode != another.hashCode) return false;
+    return originKey.equals(another.originKey)
+        && targetResultClass.equals(another.targetResultClass)
+        && identifier.equals(another.identifier);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code originKey}, {@code targetResultClass}, {@code identifier}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + originKey.hashCode();
+    h += (h << 5) + targetResultClass.hashCode();
+    h += (h << 5) + identifier.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ComposedKey} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ComposedKey")
+        .omitNullValues()
+        .add("originKey", originKey)
+        .add("targetResultClass", targetResultClass)
+        .add("identifier", identifier)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ComposedKey} instance.
+   * @param originKey The value for the {@code originKey} attribute
+   * @param targetResultClass The value for the {@code targetResultClass} attribute
+   * @return An immutable ComposedKey instance
+   */
+  public static <KeyType1 extends ComputeKey<?>, ResultType2 extends ComputeResult> ImmutableComposedKey<KeyType1, ResultType2> of(KeyType1 originKey, Class<ResultType2> targetResultClass) {
+    return validate(new ImmutableComposedKey<>(originKey, targetResultClass));
+  }
+
+
+  private static <KeyType1 extends ComputeKey<?>, ResultType2 extends ComputeResult> ImmutableComposedKey<KeyType1, ResultType2> validate(ImmutableComposedKey<KeyType1, ResultType2> instance) {
+    instance.check();
+    return instance;
+  }
+}
@@ -0,0 +1,112 @@
+package com.facebook.buck.core.linkgroup;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CxxLinkGroupMapping}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCxxLinkGroupMapping.of()}.
+ */
+@Generated(from = "CxxLinkGroupMapping", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCxxLinkGroupMapping extends CxxLinkGroupMapping {
+  private final String linkGroup;
+  private final ImmutableList<CxxLinkGroupMappingTarget> mappingTargets;
+
+  private ImmutableCxxLinkGroupMapping(
+      String linkGroup,
+      Iterable<? extends CxxLinkGroupMappingTarget> mappingTargets) {
+    this.linkGroup = Objects.requireNonNull(linkGroup, "linkGroup");
+    this.mappingTargets = ImmutableList.copyOf(mappingTargets);
+  }
+
+  /**
+   * @return The value of the {@code linkGroup} attribute
+   */
+  @Override
+  public String getLinkGroup() {
+    return linkGroup;
+  }
+
+  /**
+   * @return The value of the {@code mappingTargets} attribute
+   */
+  @Override
+  public ImmutableList<CxxLinkGroupMappingTarget> getMappingTargets() {
+    return mappingTargets;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCxxLinkGroupMapping} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCxxLinkGroupMapping
+        && equalTo((ImmutableCxxLinkGroupMapping) another);
+  }
+
+  private boolean equalTo(ImmutableCxxLinkGroupMapping another) {
+    return linkGroup.equals(another.linkGroup)
+        && mappingTargets.equals(another.mappingTargets);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code linkGroup}, {@code mappingTargets}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + linkGroup.hashCode();
+    h += (h << 5) + mappingTargets.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxLinkGroupMapping} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxLinkGroupMapping")
+        .omitNullValues()
+        .add("linkGroup", linkGroup)
+        .add("mappingTargets", mappingTargets)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxLinkGroupMapping} instance.
+   * @param linkGroup The value for the {@code linkGroup} attribute
+   * @param mappingTargets The value for the {@code mappingTargets} attribute
+   * @return An immutable CxxLinkGroupMapping instance
+   */
+  public static ImmutableCxxLinkGroupMapping of(String linkGroup, ImmutableList<CxxLinkGroupMappingTarget> mappingTargets) {
+    return of(linkGroup, (Iterable<? extends CxxLinkGroupMappingTarget>) mappingTargets);
+  }
+
+  /**
+   * Construct a new immutable {@code CxxLinkGroupMapping} instance.
+   * @param linkGroup The value for the {@code linkGroup} attribute
+   * @param mappingTargets The value for the {@code mappingTargets} attribute
+   * @return An immutable CxxLinkGroupMapping instance
+   */
+  public static ImmutableCxxLinkGroupMapping of(String linkGroup, Iterable<? extends CxxLinkGroupMappingTarget> mappingTargets) {
+    return new ImmutableCxxLinkGroupMapping(linkGroup, mappingTargets);
+  }
+}
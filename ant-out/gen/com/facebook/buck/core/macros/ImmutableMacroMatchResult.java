@@ -0,0 +1,301 @@
+package com.facebook.buck.core.macros;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link MacroMatchResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ImmutableMacroMatchResult.builder()}.
+ */
+@Generated(from = "MacroMatchResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableMacroMatchResult implements MacroMatchResult {
+  private final String macroType;
+  private final ImmutableList<String> macroInput;
+  private final int startIndex;
+  private final int endIndex;
+  private final boolean escaped;
+
+  private ImmutableMacroMatchResult(ImmutableMacroMatchResult.Builder builder) {
+    this.macroType = builder.macroType;
+    this.macroInput = builder.macroInput.build();
+    this.startIndex = builder.startIndex;
+    this.endIndex = builder.endIndex;
+    this.escaped = builder.escaped;
+  }
+
+  /**
+   * @return The value of the {@code macroType} attribute
+   */
+  @Override
+  public String getMacroType() {
+    return macroType;
+  }
+
+  /**
+   * @return The value of the {@code macroInput} attribute
+   */
+  @Override
+  public ImmutableList<String> getMacroInput() {
+    return macroInput;
+  }
+
+  /**
+   * @return The value of the {@code startIndex} attribute
+   */
+  @Override
+  public int getStartIndex() {
+    return startIndex;
+  }
+
+  /**
+   * @return The value of the {@code endIndex} attribute
+   */
+  @Override
+  public int getEndIndex() {
+    return endIndex;
+  }
+
+  /**
+   * @return The value of the {@code escaped} attribute
+   */
+  @Override
+  public boolean isEscaped() {
+    return escaped;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableMacroMatchResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableMacroMatchResult
+        && equalTo((ImmutableMacroMatchResult) another);
+  }
+
+  private boolean equalTo(ImmutableMacroMatchResult another) {
+    return macroType.equals(another.macroType)
+        && macroInput.equals(another.macroInput)
+        && startIndex == another.startIndex
+        && endIndex == another.endIndex
+        && escaped == another.escaped;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code macroType}, {@code macroInput}, {@code startIndex}, {@code endIndex}, {@code escaped}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + macroType.hashCode();
+    h += (h << 5) + macroInput.hashCode();
+    h += (h << 5) + startIndex;
+    h += (h << 5) + endIndex;
+    h += (h << 5) + Booleans.hashCode(escaped);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code MacroMatchResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MacroMatchResult")
+        .omitNullValues()
+        .add("macroType", macroType)
+        .add("macroInput", macroInput)
+        .add("startIndex", startIndex)
+        .add("endIndex", endIndex)
+        .add("escaped", escaped)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link MacroMatchResult MacroMatchResult}.
+   * @return A new MacroMatchResult builder
+   */
+  public static ImmutableMacroMatchResult.Builder builder() {
+    return new ImmutableMacroMatchResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link MacroMatchResult MacroMatchResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "MacroMatchResult", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_MACRO_TYPE = 0x1L;
+    private static final long INIT_BIT_START_INDEX = 0x2L;
+    private static final long INIT_BIT_END_INDEX = 0x4L;
+    private static final long INIT_BIT_ESCAPED = 0x8L;
+    private long initBits = 0xfL;
+
+    private @Nullable String macroType;
+    private ImmutableList.Builder<String> macroInput = ImmutableList.builder();
+    private int startIndex;
+    private int endIndex;
+    private boolean escaped;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code MacroMatchResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(MacroMatchResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      setMacroType(instance.getMacroType());
+      addAllMacroInput(instance.getMacroInput());
+      setStartIndex(instance.getStartIndex());
+      setEndIndex(instance.getEndIndex());
+      setEscaped(instance.isEscaped());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link MacroMatchResult#getMacroType() macroType} attribute.
+     * @param macroType The value for macroType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMacroType(String macroType) {
+      this.macroType = Objects.requireNonNull(macroType, "macroType");
+      initBits &= ~INIT_BIT_MACRO_TYPE;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link MacroMatchResult#getMacroInput() macroInput} list.
+     * @param element A macroInput element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addMacroInput(String element) {
+      this.macroInput.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link MacroMatchResult#getMacroInput() macroInput} list.
+     * @param elements An array of macroInput elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addMacroInput(String... elements) {
+      this.macroInput.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link MacroMatchResult#getMacroInput() macroInput} list.
+     * @param elements An iterable of macroInput elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMacroInput(Iterable<String> elements) {
+      this.macroInput = ImmutableList.builder();
+      return addAllMacroInput(elements);
+    }
+
+    /**
+     * Adds elements to {@link MacroMatchResult#getMacroInput() macroInput} list.
+     * @param elements An iterable of macroInput elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllMacroInput(Iterable<String> elements) {
+      this.macroInput.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link MacroMatchResult#getStartIndex() startIndex} attribute.
+     * @param startIndex The value for startIndex 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStartIndex(int startIndex) {
+      this.startIndex = startIndex;
+      initBits &= ~INIT_BIT_START_INDEX;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link MacroMatchResult#getEndIndex() endIndex} attribute.
+     * @param endIndex The value for endIndex 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEndIndex(int endIndex) {
+      this.endIndex = endIndex;
+      initBits &= ~INIT_BIT_END_INDEX;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link MacroMatchResult#isEscaped() escaped} attribute.
+     * @param escaped The value for escaped 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEscaped(boolean escaped) {
+      this.escaped = escaped;
+      initBits &= ~INIT_BIT_ESCAPED;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link MacroMatchResult MacroMatchResult}.
+     * @return An immutable instance of MacroMatchResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public MacroMatchResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableMacroMatchResult(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_MACRO_TYPE) != 0) attributes.add("macroType");
+      if ((initBits & INIT_BIT_START_INDEX) != 0) attributes.add("startIndex");
+      if ((initBits & INIT_BIT_END_INDEX) != 0) attributes.add("endIndex");
+      if ((initBits & INIT_BIT_ESCAPED) != 0) attributes.add("escaped");
+      return "Cannot build MacroMatchResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,117 @@
+package com.facebook.buck.core.model;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link UserFlavor}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableUserFlavor.of()}.
+ */
+@Generated(from = "UserFlavor", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableUserFlavor extends UserFlavor {
+  private final String name;
+  private final String description;
+  private transient final int hashCode;
+
+  private ImmutableUserFlavor(String name, String description) {
+    this.name = Objects.requireNonNull(name, "name");
+    this.description = Objects.requireNonNull(description, "description");
+    this.hashCode = super.hashCode();
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @JsonProperty("name")
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code description} attribute
+   */
+  @JsonProperty("description")
+  @Override
+  public String getDescription() {
+    return description;
+  }
+
+  /**
+   * Returns the precomputed-on-construction hash code from the supertype implementation of {@code super.hashCode()}.
+   * @return The hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "UserFlavor", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends UserFlavor {
+    @Nullable String name;
+    @Nullable String description;
+    @JsonProperty("name")
+    public void setName(String name) {
+      this.name = name;
+    }
+    @JsonProperty("description")
+    public void setDescription(String description) {
+      this.description = description;
+    }
+    @Override
+    public String getName() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getDescription() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableUserFlavor fromJson(Json json) {
+    ImmutableUserFlavor instance = ImmutableUserFlavor.of(json.name, json.description);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code UserFlavor} instance.
+   * @param name The value for the {@code name} attribute
+   * @param description The value for the {@code description} attribute
+   * @return An immutable UserFlavor instance
+   */
+  public static ImmutableUserFlavor of(String name, String description) {
+    return validate(new ImmutableUserFlavor(name, description));
+  }
+
+
+  private static ImmutableUserFlavor validate(ImmutableUserFlavor instance) {
+    instance.check();
+    return instance;
+  }
+}
@@ -0,0 +1,316 @@
+package com.facebook.buck.core.model.targetgraph.impl;
+
+import com.facebook.buck.core.description.BaseDescription;
+import com.facebook.buck.core.description.arg.ConstructorArg;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.targetgraph.NodeCopier;
+import com.facebook.buck.core.path.ForwardRelativePath;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.rules.visibility.VisibilityChecker;
+import com.facebook.buck.rules.visibility.VisibilityPattern;
+import com.facebook.buck.versions.Version;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link TargetNodeImpl}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableTargetNodeImpl.<T>of()}.
+ */
+@Generated(from = "TargetNodeImpl", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableTargetNodeImpl<T extends ConstructorArg>
+    extends TargetNodeImpl<T> {
+  private final BuildTarget buildTarget;
+  private final NodeCopier nodeCopier;
+  private final BaseDescription<T> description;
+  private final T constructorArg;
+  private final ProjectFilesystem filesystem;
+  private final ImmutableSet<ForwardRelativePath> inputs;
+  private final ImmutableSet<BuildTarget> declaredDeps;
+  private final ImmutableSortedSet<BuildTarget> extraDeps;
+  private final ImmutableSortedSet<BuildTarget> targetGraphOnlyDeps;
+  private final ImmutableSortedSet<BuildTarget> configurationDeps;
+  private final ImmutableSet<VisibilityPattern> visibilityPatterns;
+  private final ImmutableSet<VisibilityPattern> withinViewPatterns;
+  private final @Nullable ImmutableMap<BuildTarget, Version> selectedVersions;
+  private transient final int hashCode;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableTargetNodeImpl(
+      BuildTarget buildTarget,
+      NodeCopier nodeCopier,
+      BaseDescription<T> description,
+      T constructorArg,
+      ProjectFilesystem filesystem,
+      Iterable<? extends ForwardRelativePath> inputs,
+      Iterable<? extends BuildTarget> declaredDeps,
+      ImmutableSortedSet<BuildTarget> extraDeps,
+      ImmutableSortedSet<BuildTarget> targetGraphOnlyDeps,
+      ImmutableSortedSet<BuildTarget> configurationDeps,
+      Iterable<? extends VisibilityPattern> visibilityPatterns,
+      Iterable<? extends VisibilityPattern> withinViewPatterns,
+      Optional<? extends ImmutableMap<BuildTarget, Version>> selectedVersions) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.nodeCopier = Objects.requireNonNull(nodeCopier, "nodeCopier");
+    this.description = Objects.requireNonNull(description, "description");
+    this.constructorArg = Objects.requireNonNull(constructorArg, "constructorArg");
+    this.filesystem = Objects.requireNonNull(filesystem, "filesystem");
+    this.inputs = ImmutableSet.copyOf(inputs);
+    this.declaredDeps = ImmutableSet.copyOf(declaredDeps);
+    this.extraDeps = Objects.requireNonNull(extraDeps, "extraDeps");
+    this.targetGraphOnlyDeps = Objects.requireNonNull(targetGraphOnlyDeps, "targetGraphOnlyDeps");
+    this.configurationDeps = Objects.requireNonNull(configurationDeps, "configurationDeps");
+    this.visibilityPatterns = ImmutableSet.copyOf(visibilityPatterns);
+    this.withinViewPatterns = ImmutableSet.copyOf(withinViewPatterns);
+    this.selectedVersions = selectedVersions.orElse(null);
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code nodeCopier} attribute
+   */
+  @Override
+  public NodeCopier getNodeCopier() {
+    return nodeCopier;
+  }
+
+  /**
+   * @return The value of the {@code description} attribute
+   */
+  @Override
+  public BaseDescription<T> getDescription() {
+    return description;
+  }
+
+  /**
+   * @return The value of the {@code constructorArg} attribute
+   */
+  @Override
+  public T getConstructorArg() {
+    return constructorArg;
+  }
+
+  /**
+   * @return The value of the {@code filesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getFilesystem() {
+    return filesystem;
+  }
+
+  /**
+   * @return The value of the {@code inputs} attribute
+   */
+  @Override
+  public ImmutableSet<ForwardRelativePath> getInputs() {
+    return inputs;
+  }
+
+  /**
+   * @return The value of the {@code declaredDeps} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getDeclaredDeps() {
+    return declaredDeps;
+  }
+
+  /**
+   * @return The value of the {@code extraDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getExtraDeps() {
+    return extraDeps;
+  }
+
+  /**
+   * @return The value of the {@code targetGraphOnlyDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTargetGraphOnlyDeps() {
+    return targetGraphOnlyDeps;
+  }
+
+  /**
+   * @return The value of the {@code configurationDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getConfigurationDeps() {
+    return configurationDeps;
+  }
+
+  /**
+   * @return The value of the {@code visibilityPatterns} attribute
+   */
+  @Override
+  public ImmutableSet<VisibilityPattern> getVisibilityPatterns() {
+    return visibilityPatterns;
+  }
+
+  /**
+   * @return The value of the {@code withinViewPatterns} attribute
+   */
+  @Override
+  public ImmutableSet<VisibilityPattern> getWithinViewPatterns() {
+    return withinViewPatterns;
+  }
+
+  /**
+   * @return The value of the {@code selectedVersions} attribute
+   */
+  @Override
+  public Optional<ImmutableMap<BuildTarget, Version>> getSelectedVersions() {
+    return Optional.ofNullable(selectedVersions);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableTargetNodeImpl} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableTargetNodeImpl<?>
+        && equalTo((ImmutableTargetNodeImpl<?>) another);
+  }
+
+  private boolean equalTo(ImmutableTargetNodeImpl<?> another) {
+    if (hashCode != another.hashCode) return false;
+    return buildTarget.equals(another.buildTarget)
+        && nodeCopier.equals(another.nodeCopier)
+        && constructorArg.equals(another.constructorArg)
+        && filesystem.equals(another.filesystem)
+        && inputs.equals(another.inputs)
+        && declaredDeps.equals(another.declaredDeps)
+        && extraDeps.equals(another.extraDeps)
+        && targetGraphOnlyDeps.equals(another.targetGraphOnlyDeps)
+        && configurationDeps.equals(another.configurationDeps)
+        && visibilityPatterns.equals(another.visibilityPatterns)
+        && withinViewPatterns.equals(another.withinViewPatterns)
+        && Objects.equals(selectedVersions, another.selectedVersions);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code buildTarget}, {@code nodeCopier}, {@code constructorArg}, {@code filesystem}, {@code inputs}, {@code declaredDeps}, {@code extraDeps}, {@code targetGraphOnlyDeps}, {@code configurationDeps}, {@code visibilityPatterns}, {@code withinViewPatterns}, {@code selectedVersions}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + nodeCopier.hashCode();
+    h += (h << 5) + constructorArg.hashCode();
+    h += (h << 5) + filesystem.hashCode();
+    h += (h << 5) + inputs.hashCode();
+    h += (h << 5) + declaredDeps.hashCode();
+    h += (h << 5) + extraDeps.hashCode();
+    h += (h << 5) + targetGraphOnlyDeps.hashCode();
+    h += (h << 5) + configurationDeps.hashCode();
+    h += (h << 5) + visibilityPatterns.hashCode();
+    h += (h << 5) + withinViewPatterns.hashCode();
+    h += (h << 5) + Objects.hashCode(selectedVersions);
+    return h;
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long VISIBILITY_CHECKER_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient VisibilityChecker visibilityChecker;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link TargetNodeImpl#getVisibilityChecker() visibilityChecker} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code visibilityChecker} attribute
+   */
+  @Override
+  public VisibilityChecker getVisibilityChecker() {
+    if ((lazyInitBitmap & VISIBILITY_CHECKER_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & VISIBILITY_CHECKER_LAZY_INIT_BIT) == 0) {
+          this.visibilityChecker = Objects.requireNonNull(super.getVisibilityChecker(), "visibilityChecker");
+          lazyInitBitmap |= VISIBILITY_CHECKER_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return visibilityChecker;
+  }
+
+  /**
+   * Construct a new immutable {@code TargetNodeImpl} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param nodeCopier The value for the {@code nodeCopier} attribute
+   * @param description The value for the {@code description} attribute
+   * @param constructorArg The value for the {@code constructorArg} attribute
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param inputs The value for the {@code inputs} attribute
+   * @param declaredDeps The value for the {@code declaredDeps} attribute
+   * @param extraDeps The value for the {@code extraDeps} attribute
+   * @param targetGraphOnlyDeps The value for the {@code targetGraphOnlyDeps} attribute
+   * @param configurationDeps The value for the {@code configurationDeps} attribute
+   * @param visibilityPatterns The value for the {@code visibilityPatterns} attribute
+   * @param withinViewPatterns The value for the {@code withinViewPatterns} attribute
+   * @param selectedVersions The value for the {@code selectedVersions} attribute
+   * @return An immutable TargetNodeImpl instance
+   */
+  public static <T extends ConstructorArg> ImmutableTargetNodeImpl<T> of(BuildTarget buildTarget, NodeCopier nodeCopier, BaseDescription<T> description, T constructorArg, ProjectFilesystem filesystem, ImmutableSet<ForwardRelativePath> inputs, ImmutableSet<BuildTarget> declaredDeps, ImmutableSortedSet<BuildTarget> extraDeps, ImmutableSortedSet<BuildTarget> targetGraphOnlyDeps, ImmutableSortedSet<BuildTarget> configurationDeps, ImmutableSet<VisibilityPattern> visibilityPatterns, ImmutableSet<VisibilityPattern> withinViewPatterns, Optional<ImmutableMap<BuildTarget, Version>> selectedVersions) {
+    return of(buildTarget, nodeCopier, description, constructorArg, filesystem, (Iterable<? extends ForwardRelativePath>) inputs, (Iterable<? extends BuildTarget>) declaredDeps, extraDeps, targetGraphOnlyDeps, configurationDeps, (Iterable<? extends VisibilityPattern>) visibilityPatterns, (Iterable<? extends VisibilityPattern>) withinViewPatterns, selectedVersions);
+  }
+
+  /**
+   * Construct a new immutable {@code TargetNodeImpl} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param nodeCopier The value for the {@code nodeCopier} attribute
+   * @param description The value for the {@code description} attribute
+   * @param constructorArg The value for the {@code constructorArg} attribute
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param inputs The value for the {@code inputs} attribute
+   * @param declaredDeps The value for the {@code declaredDeps} attribute
+   * @param extraDeps The value for the {@code extraDeps} attribute
+   * @param targetGraphOnlyDeps The value for the {@code targetGraphOnlyDeps} attribute
+   * @param configurationDeps The value for the {@code configurationDeps} attribute
+   * @param visibilityPatterns The value for the {@code visibilityPatterns} attribute
+   * @param withinViewPatterns The value for the {@code withinViewPatterns} attribute
+   * @param selectedVersions The value for the {@code selectedVersions} attribute
+   * @return An immutable TargetNodeImpl instance
+   */
+  public static <T extends ConstructorArg> ImmutableTargetNodeImpl<T> of(BuildTarget buildTarget, NodeCopier nodeCopier, BaseDescription<T> description, T constructorArg, ProjectFilesystem filesystem, Iterable<? extends ForwardRelativePath> inputs, Iterable<? extends BuildTarget> declaredDeps, ImmutableSortedSet<BuildTarget> extraDeps, ImmutableSortedSet<BuildTarget> targetGraphOnlyDeps, ImmutableSortedSet<BuildTarget> configurationDeps, Iterable<? extends VisibilityPattern> visibilityPatterns, Iterable<? extends VisibilityPattern> withinViewPatterns, Optional<? extends ImmutableMap<BuildTarget, Version>> selectedVersions) {
+    return validate(new ImmutableTargetNodeImpl<>(buildTarget, nodeCopier, description, constructorArg, filesystem, inputs, declaredDeps, extraDeps, targetGraphOnlyDeps, configurationDeps, visibilityPatterns, withinViewPatterns, selectedVersions));
+  }
+
+
+  private static <T extends ConstructorArg> ImmutableTargetNodeImpl<T> validate(ImmutableTargetNodeImpl<T> instance) {
+    instance.check();
+    return instance;
+  }
+}
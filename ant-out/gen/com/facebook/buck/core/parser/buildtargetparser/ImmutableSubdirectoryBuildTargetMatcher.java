@@ -0,0 +1,74 @@
+package com.facebook.buck.core.parser.buildtargetparser;
+
+import com.facebook.buck.core.model.CellRelativePath;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link SubdirectoryBuildTargetMatcher}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableSubdirectoryBuildTargetMatcher.of()}.
+ */
+@Generated(from = "SubdirectoryBuildTargetMatcher", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableSubdirectoryBuildTargetMatcher
+    extends SubdirectoryBuildTargetMatcher {
+  private final CellRelativePath pathWithinCell;
+
+  private ImmutableSubdirectoryBuildTargetMatcher(CellRelativePath pathWithinCell) {
+    this.pathWithinCell = Objects.requireNonNull(pathWithinCell, "pathWithinCell");
+  }
+
+  /**
+   * @return The value of the {@code pathWithinCell} attribute
+   */
+  @Override
+  protected CellRelativePath getPathWithinCell() {
+    return pathWithinCell;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableSubdirectoryBuildTargetMatcher} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableSubdirectoryBuildTargetMatcher
+        && equalTo((ImmutableSubdirectoryBuildTargetMatcher) another);
+  }
+
+  private boolean equalTo(ImmutableSubdirectoryBuildTargetMatcher another) {
+    return pathWithinCell.equals(another.pathWithinCell);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code pathWithinCell}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + pathWithinCell.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code SubdirectoryBuildTargetMatcher} instance.
+   * @param pathWithinCell The value for the {@code pathWithinCell} attribute
+   * @return An immutable SubdirectoryBuildTargetMatcher instance
+   */
+  public static ImmutableSubdirectoryBuildTargetMatcher of(CellRelativePath pathWithinCell) {
+    return new ImmutableSubdirectoryBuildTargetMatcher(pathWithinCell);
+  }
+}
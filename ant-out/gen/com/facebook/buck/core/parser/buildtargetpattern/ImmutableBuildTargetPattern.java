@@ -0,0 +1,116 @@
+package com.facebook.buck.core.parser.buildtargetpattern;
+
+import com.facebook.buck.core.model.CellRelativePath;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildTargetPattern}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildTargetPattern.of()}.
+ */
+@Generated(from = "BuildTargetPattern", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildTargetPattern
+    extends BuildTargetPattern {
+  private final CellRelativePath cellRelativeBasePath;
+  private final BuildTargetPattern.Kind kind;
+  private final String localNameAndFlavors;
+  private transient final int hashCode;
+
+  private ImmutableBuildTargetPattern(
+      CellRelativePath cellRelativeBasePath,
+      BuildTargetPattern.Kind kind,
+      String localNameAndFlavors) {
+    this.cellRelativeBasePath = Objects.requireNonNull(cellRelativeBasePath, "cellRelativeBasePath");
+    this.kind = Objects.requireNonNull(kind, "kind");
+    this.localNameAndFlavors = Objects.requireNonNull(localNameAndFlavors, "localNameAndFlavors");
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code cellRelativeBasePath} attribute
+   */
+  @Override
+  public CellRelativePath getCellRelativeBasePath() {
+    return cellRelativeBasePath;
+  }
+
+  /**
+   * @return The value of the {@code kind} attribute
+   */
+  @Override
+  public BuildTargetPattern.Kind getKind() {
+    return kind;
+  }
+
+  /**
+   * @return The value of the {@code localNameAndFlavors} attribute
+   */
+  @Override
+  public String getLocalNameAndFlavors() {
+    return localNameAndFlavors;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildTargetPattern} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildTargetPattern
+        && equalTo((ImmutableBuildTargetPattern) another);
+  }
+
+  private boolean equalTo(ImmutableBuildTargetPattern another) {
+    if (hashCode != another.hashCode) return false;
+    return cellRelativeBasePath.equals(another.cellRelativeBasePath)
+        && kind.equals(another.kind)
+        && localNameAndFlavors.equals(another.localNameAndFlavors);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code cellRelativeBasePath}, {@code kind}, {@code localNameAndFlavors}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + cellRelativeBasePath.hashCode();
+    h += (h << 5) + kind.hashCode();
+    h += (h << 5) + localNameAndFlavors.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code BuildTargetPattern} instance.
+   * @param cellRelativeBasePath The value for the {@code cellRelativeBasePath} attribute
+   * @param kind The value for the {@code kind} attribute
+   * @param localNameAndFlavors The value for the {@code localNameAndFlavors} attribute
+   * @return An immutable BuildTargetPattern instance
+   */
+  public static ImmutableBuildTargetPattern of(CellRelativePath cellRelativeBasePath, BuildTargetPattern.Kind kind, String localNameAndFlavors) {
+    return validate(new ImmutableBuildTargetPattern(cellRelativeBasePath, kind, localNameAndFlavors));
+  }
+
+
+  private static ImmutableBuildTargetPattern validate(ImmutableBuildTargetPattern instance) {
+    instance.check();
+    return instance;
+  }
+}
@@ -0,0 +1,133 @@
+package com.facebook.buck.core.rulekey;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildRuleKeys}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildRuleKeys.of()}.
+ */
+@Generated(from = "BuildRuleKeys", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildRuleKeys implements BuildRuleKeys {
+  private final RuleKey ruleKey;
+  private final @Nullable RuleKey inputRuleKey;
+  private final @Nullable RuleKey depFileRuleKey;
+  private final @Nullable RuleKey manifestRuleKey;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableBuildRuleKeys(
+      RuleKey ruleKey,
+      Optional<? extends RuleKey> inputRuleKey,
+      Optional<? extends RuleKey> depFileRuleKey,
+      Optional<? extends RuleKey> manifestRuleKey) {
+    this.ruleKey = Objects.requireNonNull(ruleKey, "ruleKey");
+    this.inputRuleKey = inputRuleKey.orElse(null);
+    this.depFileRuleKey = depFileRuleKey.orElse(null);
+    this.manifestRuleKey = manifestRuleKey.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code ruleKey} attribute
+   */
+  @Override
+  public RuleKey getRuleKey() {
+    return ruleKey;
+  }
+
+  /**
+   * @return The value of the {@code inputRuleKey} attribute
+   */
+  @Override
+  public Optional<RuleKey> getInputRuleKey() {
+    return Optional.ofNullable(inputRuleKey);
+  }
+
+  /**
+   * @return The value of the {@code depFileRuleKey} attribute
+   */
+  @Override
+  public Optional<RuleKey> getDepFileRuleKey() {
+    return Optional.ofNullable(depFileRuleKey);
+  }
+
+  /**
+   * @return The value of the {@code manifestRuleKey} attribute
+   */
+  @Override
+  public Optional<RuleKey> getManifestRuleKey() {
+    return Optional.ofNullable(manifestRuleKey);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildRuleKeys} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildRuleKeys
+        && equalTo((ImmutableBuildRuleKeys) another);
+  }
+
+  private boolean equalTo(ImmutableBuildRuleKeys another) {
+    return ruleKey.equals(another.ruleKey)
+        && Objects.equals(inputRuleKey, another.inputRuleKey)
+        && Objects.equals(depFileRuleKey, another.depFileRuleKey)
+        && Objects.equals(manifestRuleKey, another.manifestRuleKey);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ruleKey}, {@code inputRuleKey}, {@code depFileRuleKey}, {@code manifestRuleKey}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + ruleKey.hashCode();
+    h += (h << 5) + Objects.hashCode(inputRuleKey);
+    h += (h << 5) + Objects.hashCode(depFileRuleKey);
+    h += (h << 5) + Objects.hashCode(manifestRuleKey);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildRuleKeys} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildRuleKeys")
+        .omitNullValues()
+        .add("ruleKey", ruleKey)
+        .add("inputRuleKey", inputRuleKey)
+        .add("depFileRuleKey", depFileRuleKey)
+        .add("manifestRuleKey", manifestRuleKey)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildRuleKeys} instance.
+   * @param ruleKey The value for the {@code ruleKey} attribute
+   * @param inputRuleKey The value for the {@code inputRuleKey} attribute
+   * @param depFileRuleKey The value for the {@code depFileRuleKey} attribute
+   * @param manifestRuleKey The value for the {@code manifestRuleKey} attribute
+   * @return An immutable BuildRuleKeys instance
+   */
+  public static ImmutableBuildRuleKeys of(RuleKey ruleKey, Optional<? extends RuleKey> inputRuleKey, Optional<? extends RuleKey> depFileRuleKey, Optional<? extends RuleKey> manifestRuleKey) {
+    return new ImmutableBuildRuleKeys(ruleKey, inputRuleKey, depFileRuleKey, manifestRuleKey);
+  }
+}
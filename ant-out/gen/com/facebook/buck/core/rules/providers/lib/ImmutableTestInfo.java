@@ -0,0 +1,202 @@
+package com.facebook.buck.core.rules.providers.lib;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link TestInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code new ImmutableTestInfo()}.
+ */
+@Generated(from = "TestInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ImmutableTestInfo extends TestInfo {
+  private final String testName;
+  private final String testCaseName;
+  private final ImmutableSet<String> labels;
+  private final ImmutableSet<String> contacts;
+  private final Object timeoutMs;
+  private final boolean runTestsSeparately;
+  private final String type;
+
+  /**
+   * Construct a new immutable {@code TestInfo} instance.
+   * @param testName The value for the {@code testName} attribute
+   * @param testCaseName The value for the {@code testCaseName} attribute
+   * @param labels The value for the {@code labels} attribute
+   * @param contacts The value for the {@code contacts} attribute
+   * @param timeoutMs The value for the {@code timeoutMs} attribute
+   * @param runTestsSeparately The value for the {@code runTestsSeparately} attribute
+   * @param type The value for the {@code type} attribute
+   */
+  public ImmutableTestInfo(
+      String testName,
+      String testCaseName,
+      Iterable<String> labels,
+      Iterable<String> contacts,
+      Object timeoutMs,
+      boolean runTestsSeparately,
+      String type) {
+    this.testName = Objects.requireNonNull(testName, "testName");
+    this.testCaseName = Objects.requireNonNull(testCaseName, "testCaseName");
+    this.labels = ImmutableSet.copyOf(labels);
+    this.contacts = ImmutableSet.copyOf(contacts);
+    this.timeoutMs = Objects.requireNonNull(timeoutMs, "timeoutMs");
+    this.runTestsSeparately = runTestsSeparately;
+    this.type = Objects.requireNonNull(type, "type");
+  }
+
+  /**
+   *@return the type of test. This should generally be the rule name 
+   */
+  @Override
+  public String testName() {
+    return testName;
+  }
+
+  /**
+   *@return the name of the test case 
+   */
+  @Override
+  public String testCaseName() {
+    return testCaseName;
+  }
+
+  /**
+   *@returns arbitrary string labels for this rule 
+   */
+  @Override
+  public ImmutableSet<String> labels() {
+    return labels;
+  }
+
+  /**
+   *@returns a list of contacts that are responsible for this test 
+   */
+  @Override
+  public ImmutableSet<String> contacts() {
+    return contacts;
+  }
+
+  /**
+   *@returns the timeout in milliseconds for this test, or `None` for default limits 
+   */
+  @Override
+  public Object timeoutMs() {
+    return timeoutMs;
+  }
+
+  /**
+   *@returns whether this test should be run separately from every other test 
+   */
+  @Override
+  public boolean runTestsSeparately() {
+    return runTestsSeparately;
+  }
+
+  /**
+   *@return the 'type' to pass to the external test runner 
+   */
+  @Override
+  public String type() {
+    return type;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableTestInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableTestInfo
+        && equalTo((ImmutableTestInfo) another);
+  }
+
+  private boolean equalTo(ImmutableTestInfo another) {
+    return testName.equals(another.testName)
+        && testCaseName.equals(another.testCaseName)
+        && labels.equals(another.labels)
+        && contacts.equals(another.contacts)
+        && timeoutMs.equals(another.timeoutMs)
+        && runTestsSeparately == another.runTestsSeparately
+        && type.equals(another.type);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code testName}, {@code testCaseName}, {@code labels}, {@code contacts}, {@code timeoutMs}, {@code runTestsSeparately}, {@code type}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + testName.hashCode();
+    h += (h << 5) + testCaseName.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + contacts.hashCode();
+    h += (h << 5) + timeoutMs.hashCode();
+    h += (h << 5) + Booleans.hashCode(runTestsSeparately);
+    h += (h << 5) + type.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TestInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TestInfo")
+        .omitNullValues()
+        .add("testName", testName)
+        .add("testCaseName", testCaseName)
+        .add("labels", labels)
+        .add("contacts", contacts)
+        .add("timeoutMs", timeoutMs)
+        .add("runTestsSeparately", runTestsSeparately)
+        .add("type", type)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long TYPED_TIMEOUT_MS_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient Optional<Long> typedTimeoutMs;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link TestInfo#typedTimeoutMs() typedTimeoutMs} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code typedTimeoutMs} attribute
+   */
+  @Override
+  public Optional<Long> typedTimeoutMs() {
+    if ((lazyInitBitmap & TYPED_TIMEOUT_MS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & TYPED_TIMEOUT_MS_LAZY_INIT_BIT) == 0) {
+          this.typedTimeoutMs = Objects.requireNonNull(super.typedTimeoutMs(), "typedTimeoutMs");
+          lazyInitBitmap |= TYPED_TIMEOUT_MS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return typedTimeoutMs;
+  }
+}
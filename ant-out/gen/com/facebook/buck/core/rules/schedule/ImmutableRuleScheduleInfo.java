@@ -0,0 +1,84 @@
+package com.facebook.buck.core.rules.schedule;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link RuleScheduleInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableRuleScheduleInfo.of()}.
+ */
+@Generated(from = "RuleScheduleInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableRuleScheduleInfo extends RuleScheduleInfo {
+  private final int jobsMultiplier;
+
+  private ImmutableRuleScheduleInfo(int jobsMultiplier) {
+    this.jobsMultiplier = jobsMultiplier;
+  }
+
+  /**
+   * @return The value of the {@code jobsMultiplier} attribute
+   */
+  @Override
+  public int getJobsMultiplier() {
+    return jobsMultiplier;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRuleScheduleInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRuleScheduleInfo
+        && equalTo((ImmutableRuleScheduleInfo) another);
+  }
+
+  private boolean equalTo(ImmutableRuleScheduleInfo another) {
+    return jobsMultiplier == another.jobsMultiplier;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code jobsMultiplier}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + jobsMultiplier;
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RuleScheduleInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RuleScheduleInfo")
+        .omitNullValues()
+        .add("jobsMultiplier", jobsMultiplier)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RuleScheduleInfo} instance.
+   * @param jobsMultiplier The value for the {@code jobsMultiplier} attribute
+   * @return An immutable RuleScheduleInfo instance
+   */
+  public static ImmutableRuleScheduleInfo of(int jobsMultiplier) {
+    return new ImmutableRuleScheduleInfo(jobsMultiplier);
+  }
+}
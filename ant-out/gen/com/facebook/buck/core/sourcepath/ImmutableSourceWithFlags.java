@@ -0,0 +1,110 @@
+package com.facebook.buck.core.sourcepath;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link SourceWithFlags}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableSourceWithFlags.of()}.
+ */
+@Generated(from = "SourceWithFlags", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableSourceWithFlags extends SourceWithFlags {
+  private final SourcePath sourcePath;
+  private final ImmutableList<String> flags;
+
+  private ImmutableSourceWithFlags(SourcePath sourcePath, Iterable<String> flags) {
+    this.sourcePath = Objects.requireNonNull(sourcePath, "sourcePath");
+    this.flags = ImmutableList.copyOf(flags);
+  }
+
+  /**
+   * @return The value of the {@code sourcePath} attribute
+   */
+  @Override
+  public SourcePath getSourcePath() {
+    return sourcePath;
+  }
+
+  /**
+   * @return The value of the {@code flags} attribute
+   */
+  @Override
+  public ImmutableList<String> getFlags() {
+    return flags;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableSourceWithFlags} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableSourceWithFlags
+        && equalTo((ImmutableSourceWithFlags) another);
+  }
+
+  private boolean equalTo(ImmutableSourceWithFlags another) {
+    return sourcePath.equals(another.sourcePath)
+        && flags.equals(another.flags);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code sourcePath}, {@code flags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + sourcePath.hashCode();
+    h += (h << 5) + flags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SourceWithFlags} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SourceWithFlags")
+        .omitNullValues()
+        .add("sourcePath", sourcePath)
+        .add("flags", flags)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SourceWithFlags} instance.
+   * @param sourcePath The value for the {@code sourcePath} attribute
+   * @param flags The value for the {@code flags} attribute
+   * @return An immutable SourceWithFlags instance
+   */
+  public static ImmutableSourceWithFlags of(SourcePath sourcePath, ImmutableList<String> flags) {
+    return of(sourcePath, (Iterable<String>) flags);
+  }
+
+  /**
+   * Construct a new immutable {@code SourceWithFlags} instance.
+   * @param sourcePath The value for the {@code sourcePath} attribute
+   * @param flags The value for the {@code flags} attribute
+   * @return An immutable SourceWithFlags instance
+   */
+  public static ImmutableSourceWithFlags of(SourcePath sourcePath, Iterable<String> flags) {
+    return new ImmutableSourceWithFlags(sourcePath, flags);
+  }
+}
@@ -0,0 +1,192 @@
+package com.facebook.buck.core.starlark.rule.attr.impl;
+
+import com.facebook.buck.core.rules.providers.Provider;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.lang.reflect.Type;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DepListAttribute}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableDepListAttribute.of()}.
+ */
+@Generated(from = "DepListAttribute", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableDepListAttribute
+    extends DepListAttribute {
+  private final ImmutableList<String> preCoercionDefaultValue;
+  private final String doc;
+  private final boolean mandatory;
+  private final boolean allowEmpty;
+  private final ImmutableList<Provider<?>> providers;
+
+  private ImmutableDepListAttribute(
+      Iterable<String> preCoercionDefaultValue,
+      String doc,
+      boolean mandatory,
+      boolean allowEmpty,
+      Iterable<? extends Provider<?>> providers) {
+    this.preCoercionDefaultValue = ImmutableList.copyOf(preCoercionDefaultValue);
+    this.doc = Objects.requireNonNull(doc, "doc");
+    this.mandatory = mandatory;
+    this.allowEmpty = allowEmpty;
+    this.providers = ImmutableList.copyOf(providers);
+  }
+
+  /**
+   * @return The value of the {@code preCoercionDefaultValue} attribute
+   */
+  @Override
+  public ImmutableList<String> getPreCoercionDefaultValue() {
+    return preCoercionDefaultValue;
+  }
+
+  /**
+   * @return The value of the {@code doc} attribute
+   */
+  @Override
+  public String getDoc() {
+    return doc;
+  }
+
+  /**
+   * @return The value of the {@code mandatory} attribute
+   */
+  @Override
+  public boolean getMandatory() {
+    return mandatory;
+  }
+
+  /**
+   * @return The value of the {@code allowEmpty} attribute
+   */
+  @Override
+  public boolean getAllowEmpty() {
+    return allowEmpty;
+  }
+
+  /**
+   * @return The value of the {@code providers} attribute
+   */
+  @Override
+  public ImmutableList<Provider<?>> getProviders() {
+    return providers;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDepListAttribute} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDepListAttribute
+        && equalTo((ImmutableDepListAttribute) another);
+  }
+
+  private boolean equalTo(ImmutableDepListAttribute another) {
+    return preCoercionDefaultValue.equals(another.preCoercionDefaultValue)
+        && doc.equals(another.doc)
+        && mandatory == another.mandatory
+        && allowEmpty == another.allowEmpty
+        && providers.equals(another.providers);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code preCoercionDefaultValue}, {@code doc}, {@code mandatory}, {@code allowEmpty}, {@code providers}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + preCoercionDefaultValue.hashCode();
+    h += (h << 5) + doc.hashCode();
+    h += (h << 5) + Booleans.hashCode(mandatory);
+    h += (h << 5) + Booleans.hashCode(allowEmpty);
+    h += (h << 5) + providers.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DepListAttribute} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DepListAttribute")
+        .omitNullValues()
+        .add("preCoercionDefaultValue", preCoercionDefaultValue)
+        .add("doc", doc)
+        .add("mandatory", mandatory)
+        .add("allowEmpty", allowEmpty)
+        .add("providers", providers)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long GENERIC_TYPE_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient Type genericType;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DepListAttribute#getGenericType() genericType} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code genericType} attribute
+   */
+  @Override
+  public Type getGenericType() {
+    if ((lazyInitBitmap & GENERIC_TYPE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & GENERIC_TYPE_LAZY_INIT_BIT) == 0) {
+          this.genericType = Objects.requireNonNull(super.getGenericType(), "genericType");
+          lazyInitBitmap |= GENERIC_TYPE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return genericType;
+  }
+
+  /**
+   * Construct a new immutable {@code DepListAttribute} instance.
+   * @param preCoercionDefaultValue The value for the {@code preCoercionDefaultValue} attribute
+   * @param doc The value for the {@code doc} attribute
+   * @param mandatory The value for the {@code mandatory} attribute
+   * @param allowEmpty The value for the {@code allowEmpty} attribute
+   * @param providers The value for the {@code providers} attribute
+   * @return An immutable DepListAttribute instance
+   */
+  public static ImmutableDepListAttribute of(ImmutableList<String> preCoercionDefaultValue, String doc, boolean mandatory, boolean allowEmpty, ImmutableList<Provider<?>> providers) {
+    return of((Iterable<String>) preCoercionDefaultValue, doc, mandatory, allowEmpty, (Iterable<? extends Provider<?>>) providers);
+  }
+
+  /**
+   * Construct a new immutable {@code DepListAttribute} instance.
+   * @param preCoercionDefaultValue The value for the {@code preCoercionDefaultValue} attribute
+   * @param doc The value for the {@code doc} attribute
+   * @param mandatory The value for the {@code mandatory} attribute
+   * @param allowEmpty The value for the {@code allowEmpty} attribute
+   * @param providers The value for the {@code providers} attribute
+   * @return An immutable DepListAttribute instance
+   */
+  public static ImmutableDepListAttribute of(Iterable<String> preCoercionDefaultValue, String doc, boolean mandatory, boolean allowEmpty, Iterable<? extends Provider<?>> providers) {
+    return new ImmutableDepListAttribute(preCoercionDefaultValue, doc, mandatory, allowEmpty, providers);
+  }
+}
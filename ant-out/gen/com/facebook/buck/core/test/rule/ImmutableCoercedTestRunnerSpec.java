@@ -0,0 +1,92 @@
+package com.facebook.buck.core.test.rule;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CoercedTestRunnerSpec}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCoercedTestRunnerSpec.of()}.
+ */
+@Generated(from = "CoercedTestRunnerSpec", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCoercedTestRunnerSpec
+    extends CoercedTestRunnerSpec {
+  private final Object data;
+
+  private ImmutableCoercedTestRunnerSpec(Object data) {
+    this.data = Objects.requireNonNull(data, "data");
+  }
+
+  /**
+   * @return The value of the {@code data} attribute
+   */
+  @Override
+  protected Object getData() {
+    return data;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCoercedTestRunnerSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCoercedTestRunnerSpec
+        && equalTo((ImmutableCoercedTestRunnerSpec) another);
+  }
+
+  private boolean equalTo(ImmutableCoercedTestRunnerSpec another) {
+    return data.equals(another.data);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code data}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + data.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CoercedTestRunnerSpec} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CoercedTestRunnerSpec")
+        .omitNullValues()
+        .add("data", data)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CoercedTestRunnerSpec} instance.
+   * @param data The value for the {@code data} attribute
+   * @return An immutable CoercedTestRunnerSpec instance
+   */
+  public static ImmutableCoercedTestRunnerSpec of(Object data) {
+    return validate(new ImmutableCoercedTestRunnerSpec(data));
+  }
+
+
+  private static ImmutableCoercedTestRunnerSpec validate(ImmutableCoercedTestRunnerSpec instance) {
+    instance.check();
+    return instance;
+  }
+}
@@ -0,0 +1,169 @@
+package com.facebook.buck.core.toolchain;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.facebook.buck.io.ExecutableFinder;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.rules.keys.config.RuleKeyConfiguration;
+import com.facebook.buck.util.ProcessExecutor;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ToolchainCreationContext}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableToolchainCreationContext.of()}.
+ */
+@Generated(from = "ToolchainCreationContext", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableToolchainCreationContext
+    implements ToolchainCreationContext {
+  private final ImmutableMap<String, String> environment;
+  private final BuckConfig buckConfig;
+  private final ProjectFilesystem filesystem;
+  private final ProcessExecutor processExecutor;
+  private final ExecutableFinder executableFinder;
+  private final RuleKeyConfiguration ruleKeyConfiguration;
+
+  private ImmutableToolchainCreationContext(
+      Map<String, ? extends String> environment,
+      BuckConfig buckConfig,
+      ProjectFilesystem filesystem,
+      ProcessExecutor processExecutor,
+      ExecutableFinder executableFinder,
+      RuleKeyConfiguration ruleKeyConfiguration) {
+    this.environment = ImmutableMap.copyOf(environment);
+    this.buckConfig = Objects.requireNonNull(buckConfig, "buckConfig");
+    this.filesystem = Objects.requireNonNull(filesystem, "filesystem");
+    this.processExecutor = Objects.requireNonNull(processExecutor, "processExecutor");
+    this.executableFinder = Objects.requireNonNull(executableFinder, "executableFinder");
+    this.ruleKeyConfiguration = Objects.requireNonNull(ruleKeyConfiguration, "ruleKeyConfiguration");
+  }
+
+  /**
+   * @return The value of the {@code environment} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * @return The value of the {@code buckConfig} attribute
+   */
+  @Override
+  public BuckConfig getBuckConfig() {
+    return buckConfig;
+  }
+
+  /**
+   * @return The value of the {@code filesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getFilesystem() {
+    return filesystem;
+  }
+
+  /**
+   * @return The value of the {@code processExecutor} attribute
+   */
+  @Override
+  public ProcessExecutor getProcessExecutor() {
+    return processExecutor;
+  }
+
+  /**
+   * @return The value of the {@code executableFinder} attribute
+   */
+  @Override
+  public ExecutableFinder getExecutableFinder() {
+    return executableFinder;
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyConfiguration} attribute
+   */
+  @Override
+  public RuleKeyConfiguration getRuleKeyConfiguration() {
+    return ruleKeyConfiguration;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableToolchainCreationContext} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableToolchainCreationContext
+        && equalTo((ImmutableToolchainCreationContext) another);
+  }
+
+  private boolean equalTo(ImmutableToolchainCreationContext another) {
+    return environment.equals(another.environment)
+        && buckConfig.equals(another.buckConfig)
+        && filesystem.equals(another.filesystem)
+        && processExecutor.equals(another.processExecutor)
+        && executableFinder.equals(another.executableFinder)
+        && ruleKeyConfiguration.equals(another.ruleKeyConfiguration);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code environment}, {@code buckConfig}, {@code filesystem}, {@code processExecutor}, {@code executableFinder}, {@code ruleKeyConfiguration}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + environment.hashCode();
+    h += (h << 5) + buckConfig.hashCode();
+    h += (h << 5) + filesystem.hashCode();
+    h += (h << 5) + processExecutor.hashCode();
+    h += (h << 5) + executableFinder.hashCode();
+    h += (h << 5) + ruleKeyConfiguration.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ToolchainCreationContext} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ToolchainCreationContext")
+        .omitNullValues()
+        .add("environment", environment)
+        .add("buckConfig", buckConfig)
+        .add("filesystem", filesystem)
+        .add("processExecutor", processExecutor)
+        .add("executableFinder", executableFinder)
+        .add("ruleKeyConfiguration", ruleKeyConfiguration)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ToolchainCreationContext} instance.
+   * @param environment The value for the {@code environment} attribute
+   * @param buckConfig The value for the {@code buckConfig} attribute
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param processExecutor The value for the {@code processExecutor} attribute
+   * @param executableFinder The value for the {@code executableFinder} attribute
+   * @param ruleKeyConfiguration The value for the {@code ruleKeyConfiguration} attribute
+   * @return An immutable ToolchainCreationContext instance
+   */
+  public static ImmutableToolchainCreationContext of(Map<String, ? extends String> environment, BuckConfig buckConfig, ProjectFilesystem filesystem, ProcessExecutor processExecutor, ExecutableFinder executableFinder, RuleKeyConfiguration ruleKeyConfiguration) {
+    return new ImmutableToolchainCreationContext(environment, buckConfig, filesystem, processExecutor, executableFinder, ruleKeyConfiguration);
+  }
+}
@@ -0,0 +1,118 @@
+package com.facebook.buck.counters;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link Counter.CounterInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCounterInfo.of()}.
+ */
+@Generated(from = "Counter.CounterInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCounterInfo implements Counter.CounterInfo {
+  private final String category;
+  private final String name;
+  private final ImmutableMap<String, String> tags;
+
+  private ImmutableCounterInfo(
+      String category,
+      String name,
+      Map<String, ? extends String> tags) {
+    this.category = Objects.requireNonNull(category, "category");
+    this.name = Objects.requireNonNull(name, "name");
+    this.tags = ImmutableMap.copyOf(tags);
+  }
+
+  /**
+   * @return The value of the {@code category} attribute
+   */
+  @Override
+  public String getCategory() {
+    return category;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code tags} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getTags() {
+    return tags;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCounterInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCounterInfo
+        && equalTo((ImmutableCounterInfo) another);
+  }
+
+  private boolean equalTo(ImmutableCounterInfo another) {
+    return category.equals(another.category)
+        && name.equals(another.name)
+        && tags.equals(another.tags);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code category}, {@code name}, {@code tags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + category.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + tags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CounterInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CounterInfo")
+        .omitNullValues()
+        .add("category", category)
+        .add("name", name)
+        .add("tags", tags)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CounterInfo} instance.
+   * @param category The value for the {@code category} attribute
+   * @param name The value for the {@code name} attribute
+   * @param tags The value for the {@code tags} attribute
+   * @return An immutable CounterInfo instance
+   */
+  public static ImmutableCounterInfo of(String category, String name, Map<String, ? extends String> tags) {
+    return new ImmutableCounterInfo(category, name, tags);
+  }
+}
@@ -0,0 +1,129 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CxxSource}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCxxSource.of()}.
+ */
+@Generated(from = "CxxSource", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCxxSource extends CxxSource {
+  private final CxxSource.Type type;
+  private final SourcePath path;
+  private final ImmutableList<String> flags;
+
+  private ImmutableCxxSource(
+      CxxSource.Type type,
+      SourcePath path,
+      Iterable<String> flags) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.path = Objects.requireNonNull(path, "path");
+    this.flags = ImmutableList.copyOf(flags);
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public CxxSource.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public SourcePath getPath() {
+    return path;
+  }
+
+  /**
+   * @return The value of the {@code flags} attribute
+   */
+  @Override
+  public ImmutableList<String> getFlags() {
+    return flags;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCxxSource} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCxxSource
+        && equalTo((ImmutableCxxSource) another);
+  }
+
+  private boolean equalTo(ImmutableCxxSource another) {
+    return type.equals(another.type)
+        && path.equals(another.path)
+        && flags.equals(another.flags);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code path}, {@code flags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + path.hashCode();
+    h += (h << 5) + flags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxSource} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxSource")
+        .omitNullValues()
+        .add("type", type)
+        .add("path", path)
+        .add("flags", flags)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxSource} instance.
+   * @param type The value for the {@code type} attribute
+   * @param path The value for the {@code path} attribute
+   * @param flags The value for the {@code flags} attribute
+   * @return An immutable CxxSource instance
+   */
+  public static ImmutableCxxSource of(CxxSource.Type type, SourcePath path, ImmutableList<String> flags) {
+    return of(type, path, (Iterable<String>) flags);
+  }
+
+  /**
+   * Construct a new immutable {@code CxxSource} instance.
+   * @param type The value for the {@code type} attribute
+   * @param path The value for the {@code path} attribute
+   * @param flags The value for the {@code flags} attribute
+   * @return An immutable CxxSource instance
+   */
+  public static ImmutableCxxSource of(CxxSource.Type type, SourcePath path, Iterable<String> flags) {
+    return new ImmutableCxxSource(type, path, flags);
+  }
+}
@@ -0,0 +1,381 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.rules.ActionGraphBuilder;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
+import com.facebook.buck.cxx.config.CxxBuckConfig;
+import com.facebook.buck.cxx.toolchain.CxxPlatform;
+import com.facebook.buck.cxx.toolchain.PicType;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.rules.args.Arg;
+import com.facebook.buck.rules.coercer.FrameworkPath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Multimap;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CxxSourceRuleFactory}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCxxSourceRuleFactory.of()}.
+ */
+@Generated(from = "CxxSourceRuleFactory", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCxxSourceRuleFactory extends CxxSourceRuleFactory {
+  private final ProjectFilesystem projectFilesystem;
+  private final BuildTarget baseBuildTarget;
+  private final ActionGraphBuilder actionGraphBuilder;
+  private final SourcePathResolverAdapter pathResolver;
+  private final CxxBuckConfig cxxBuckConfig;
+  private final CxxPlatform cxxPlatform;
+  private final ImmutableList<CxxPreprocessorInput> cxxPreprocessorInput;
+  private final ImmutableMultimap<CxxSource.Type, Arg> compilerFlags;
+  private final @Nullable SourcePath prefixHeader;
+  private final @Nullable SourcePath precompiledHeader;
+  private final PicType picType;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableCxxSourceRuleFactory(
+      ProjectFilesystem projectFilesystem,
+      BuildTarget baseBuildTarget,
+      ActionGraphBuilder actionGraphBuilder,
+      SourcePathResolverAdapter pathResolver,
+      CxxBuckConfig cxxBuckConfig,
+      CxxPlatform cxxPlatform,
+      Iterable<? extends CxxPreprocessorInput> cxxPreprocessorInput,
+      Multimap<? extends CxxSource.Type, ? extends Arg> compilerFlags,
+      Optional<? extends SourcePath> prefixHeader,
+      Optional<? extends SourcePath> precompiledHeader,
+      PicType picType) {
+    this.projectFilesystem = Objects.requireNonNull(projectFilesystem, "projectFilesystem");
+    this.baseBuildTarget = Objects.requireNonNull(baseBuildTarget, "baseBuildTarget");
+    this.actionGraphBuilder = Objects.requireNonNull(actionGraphBuilder, "actionGraphBuilder");
+    this.pathResolver = Objects.requireNonNull(pathResolver, "pathResolver");
+    this.cxxBuckConfig = Objects.requireNonNull(cxxBuckConfig, "cxxBuckConfig");
+    this.cxxPlatform = Objects.requireNonNull(cxxPlatform, "cxxPlatform");
+    this.cxxPreprocessorInput = ImmutableList.copyOf(cxxPreprocessorInput);
+    this.compilerFlags = ImmutableMultimap.copyOf(compilerFlags);
+    this.prefixHeader = prefixHeader.orElse(null);
+    this.precompiledHeader = precompiledHeader.orElse(null);
+    this.picType = Objects.requireNonNull(picType, "picType");
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystem} attribute
+   */
+  @Override
+  protected ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * @return The value of the {@code baseBuildTarget} attribute
+   */
+  @Override
+  protected BuildTarget getBaseBuildTarget() {
+    return baseBuildTarget;
+  }
+
+  /**
+   * @return The value of the {@code actionGraphBuilder} attribute
+   */
+  @Override
+  protected ActionGraphBuilder getActionGraphBuilder() {
+    return actionGraphBuilder;
+  }
+
+  /**
+   * @return The value of the {@code pathResolver} attribute
+   */
+  @Override
+  protected SourcePathResolverAdapter getPathResolver() {
+    return pathResolver;
+  }
+
+  /**
+   * @return The value of the {@code cxxBuckConfig} attribute
+   */
+  @Override
+  protected CxxBuckConfig getCxxBuckConfig() {
+    return cxxBuckConfig;
+  }
+
+  /**
+   * @return The value of the {@code cxxPlatform} attribute
+   */
+  @Override
+  protected CxxPlatform getCxxPlatform() {
+    return cxxPlatform;
+  }
+
+  /**
+   * @return The value of the {@code cxxPreprocessorInput} attribute
+   */
+  @Override
+  protected ImmutableList<CxxPreprocessorInput> getCxxPreprocessorInput() {
+    return cxxPreprocessorInput;
+  }
+
+  /**
+   * @return The value of the {@code compilerFlags} attribute
+   */
+  @Override
+  protected ImmutableMultimap<CxxSource.Type, Arg> getCompilerFlags() {
+    return compilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code prefixHeader} attribute
+   */
+  @Override
+  protected Optional<SourcePath> getPrefixHeader() {
+    return Optional.ofNullable(prefixHeader);
+  }
+
+  /**
+   * @return The value of the {@code precompiledHeader} attribute
+   */
+  @Override
+  protected Optional<SourcePath> getPrecompiledHeader() {
+    return Optional.ofNullable(precompiledHeader);
+  }
+
+  /**
+   * @return The value of the {@code picType} attribute
+   */
+  @Override
+  protected PicType getPicType() {
+    return picType;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCxxSourceRuleFactory} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCxxSourceRuleFactory
+        && equalTo((ImmutableCxxSourceRuleFactory) another);
+  }
+
+  private boolean equalTo(ImmutableCxxSourceRuleFactory another) {
+    return projectFilesystem.equals(another.projectFilesystem)
+        && baseBuildTarget.equals(another.baseBuildTarget)
+        && actionGraphBuilder.equals(another.actionGraphBuilder)
+        && pathResolver.equals(another.pathResolver)
+        && cxxBuckConfig.equals(another.cxxBuckConfig)
+        && cxxPlatform.equals(another.cxxPlatform)
+        && cxxPreprocessorInput.equals(another.cxxPreprocessorInput)
+        && compilerFlags.equals(another.compilerFlags)
+        && Objects.equals(prefixHeader, another.prefixHeader)
+        && Objects.equals(precompiledHeader, another.precompiledHeader)
+        && picType.equals(another.picType);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code projectFilesystem}, {@code baseBuildTarget}, {@code actionGraphBuilder}, {@code pathResolver}, {@code cxxBuckConfig}, {@code cxxPlatform}, {@code cxxPreprocessorInput}, {@code compilerFlags}, {@code prefixHeader}, {@code precompiledHeader}, {@code picType}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + projectFilesystem.hashCode();
+    h += (h << 5) + baseBuildTarget.hashCode();
+    h += (h << 5) + actionGraphBuilder.hashCode();
+    h += (h << 5) + pathResolver.hashCode();
+    h += (h << 5) + cxxBuckConfig.hashCode();
+    h += (h << 5) + cxxPlatform.hashCode();
+    h += (h << 5) + cxxPreprocessorInput.hashCode();
+    h += (h << 5) + compilerFlags.hashCode();
+    h += (h << 5) + Objects.hashCode(prefixHeader);
+    h += (h << 5) + Objects.hashCode(precompiledHeader);
+    h += (h << 5) + picType.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxSourceRuleFactory} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxSourceRuleFactory")
+        .omitNullValues()
+        .add("projectFilesystem", projectFilesystem)
+        .add("baseBuildTarget", baseBuildTarget)
+        .add("actionGraphBuilder", actionGraphBuilder)
+        .add("pathResolver", pathResolver)
+        .add("cxxBuckConfig", cxxBuckConfig)
+        .add("cxxPlatform", cxxPlatform)
+        .add("cxxPreprocessorInput", cxxPreprocessorInput)
+        .add("compilerFlags", compilerFlags)
+        .add("prefixHeader", prefixHeader)
+        .add("precompiledHeader", precompiledHeader)
+        .add("picType", picType)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long PRE_INCLUDE_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient Optional<PreInclude> preInclude;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link CxxSourceRuleFactory#getPreInclude() preInclude} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code preInclude} attribute
+   */
+  @Override
+  public Optional<PreInclude> getPreInclude() {
+    if ((lazyInitBitmap & PRE_INCLUDE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PRE_INCLUDE_LAZY_INIT_BIT) == 0) {
+          this.preInclude = Objects.requireNonNull(super.getPreInclude(), "preInclude");
+          lazyInitBitmap |= PRE_INCLUDE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return preInclude;
+  }
+
+  private static final long FRAMEWORKS_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableSet<FrameworkPath> frameworks;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link CxxSourceRuleFactory#getFrameworks() frameworks} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code frameworks} attribute
+   */
+  @Override
+  public ImmutableSet<FrameworkPath> getFrameworks() {
+    if ((lazyInitBitmap & FRAMEWORKS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & FRAMEWORKS_LAZY_INIT_BIT) == 0) {
+          this.frameworks = Objects.requireNonNull(super.getFrameworks(), "frameworks");
+          lazyInitBitmap |= FRAMEWORKS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return frameworks;
+  }
+
+  private static final long INCLUDES_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableList<CxxHeaders> includes;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link CxxSourceRuleFactory#getIncludes() includes} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code includes} attribute
+   */
+  @Override
+  public ImmutableList<CxxHeaders> getIncludes() {
+    if ((lazyInitBitmap & INCLUDES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & INCLUDES_LAZY_INIT_BIT) == 0) {
+          this.includes = Objects.requireNonNull(super.getIncludes(), "includes");
+          lazyInitBitmap |= INCLUDES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return includes;
+  }
+
+  private static final long SANITIZE_FUNCTION_LAZY_INIT_BIT = 0x8L;
+
+  @SuppressWarnings("Immutable")
+  private transient Function<String, String> sanitizeFunction;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link CxxSourceRuleFactory#getSanitizeFunction() sanitizeFunction} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code sanitizeFunction} attribute
+   */
+  @Override
+  public Function<String, String> getSanitizeFunction() {
+    if ((lazyInitBitmap & SANITIZE_FUNCTION_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & SANITIZE_FUNCTION_LAZY_INIT_BIT) == 0) {
+          this.sanitizeFunction = Objects.requireNonNull(super.getSanitizeFunction(), "sanitizeFunction");
+          lazyInitBitmap |= SANITIZE_FUNCTION_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return sanitizeFunction;
+  }
+
+  /**
+   * Construct a new immutable {@code CxxSourceRuleFactory} instance.
+   * @param projectFilesystem The value for the {@code projectFilesystem} attribute
+   * @param baseBuildTarget The value for the {@code baseBuildTarget} attribute
+   * @param actionGraphBuilder The value for the {@code actionGraphBuilder} attribute
+   * @param pathResolver The value for the {@code pathResolver} attribute
+   * @param cxxBuckConfig The value for the {@code cxxBuckConfig} attribute
+   * @param cxxPlatform The value for the {@code cxxPlatform} attribute
+   * @param cxxPreprocessorInput The value for the {@code cxxPreprocessorInput} attribute
+   * @param compilerFlags The value for the {@code compilerFlags} attribute
+   * @param prefixHeader The value for the {@code prefixHeader} attribute
+   * @param precompiledHeader The value for the {@code precompiledHeader} attribute
+   * @param picType The value for the {@code picType} attribute
+   * @return An immutable CxxSourceRuleFactory instance
+   */
+  public static ImmutableCxxSourceRuleFactory of(ProjectFilesystem projectFilesystem, BuildTarget baseBuildTarget, ActionGraphBuilder actionGraphBuilder, SourcePathResolverAdapter pathResolver, CxxBuckConfig cxxBuckConfig, CxxPlatform cxxPlatform, ImmutableList<CxxPreprocessorInput> cxxPreprocessorInput, ImmutableMultimap<CxxSource.Type, Arg> compilerFlags, Optional<SourcePath> prefixHeader, Optional<SourcePath> precompiledHeader, PicType picType) {
+    return of(projectFilesystem, baseBuildTarget, actionGraphBuilder, pathResolver, cxxBuckConfig, cxxPlatform, (Iterable<? extends CxxPreprocessorInput>) cxxPreprocessorInput, compilerFlags, prefixHeader, precompiledHeader, picType);
+  }
+
+  /**
+   * Construct a new immutable {@code CxxSourceRuleFactory} instance.
+   * @param projectFilesystem The value for the {@code projectFilesystem} attribute
+   * @param baseBuildTarget The value for the {@code baseBuildTarget} attribute
+   * @param actionGraphBuilder The value for the {@code actionGraphBuilder} attribute
+   * @param pathResolver The value for the {@code pathResolver} attribute
+   * @param cxxBuckConfig The value for the {@code cxxBuckConfig} attribute
+   * @param cxxPlatform The value for the {@code cxxPlatform} attribute
+   * @param cxxPreprocessorInput The value for the {@code cxxPreprocessorInput} attribute
+   * @param compilerFlags The value for the {@code compilerFlags} attribute
+   * @param prefixHeader The value for the {@code prefixHeader} attribute
+   * @param precompiledHeader The value for the {@code precompiledHeader} attribute
+   * @param picType The value for the {@code picType} attribute
+   * @return An immutable CxxSourceRuleFactory instance
+   */
+  public static ImmutableCxxSourceRuleFactory of(ProjectFilesystem projectFilesystem, BuildTarget baseBuildTarget, ActionGraphBuilder actionGraphBuilder, SourcePathResolverAdapter pathResolver, CxxBuckConfig cxxBuckConfig, CxxPlatform cxxPlatform, Iterable<? extends CxxPreprocessorInput> cxxPreprocessorInput, Multimap<? extends CxxSource.Type, ? extends Arg> compilerFlags, Optional<? extends SourcePath> prefixHeader, Optional<? extends SourcePath> precompiledHeader, PicType picType) {
+    return validate(new ImmutableCxxSourceRuleFactory(projectFilesystem, baseBuildTarget, actionGraphBuilder, pathResolver, cxxBuckConfig, cxxPlatform, cxxPreprocessorInput, compilerFlags, prefixHeader, precompiledHeader, picType));
+  }
+
+
+  private static ImmutableCxxSourceRuleFactory validate(ImmutableCxxSourceRuleFactory instance) {
+    instance.checkPrefixAndPrecompiledHeaderArgs();
+    return instance;
+  }
+}
@@ -0,0 +1,187 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.sourcepath.PathSourcePath;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.util.types.Either;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CxxSymlinkTreeHeaders}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCxxSymlinkTreeHeaders.of()}.
+ */
+@Generated(from = "CxxSymlinkTreeHeaders", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCxxSymlinkTreeHeaders extends CxxSymlinkTreeHeaders {
+  private final CxxPreprocessables.IncludeType includeType;
+  private final SourcePath root;
+  private final Either<PathSourcePath, SourcePath> includeRoot;
+  private final @Nullable SourcePath headerMap;
+  private final ImmutableSortedMap<Path, SourcePath> nameToPathMap;
+  private final String symlinkTreeClass;
+  private final @Nullable SourcePath vfsOverlay;
+  private transient final int hashCode;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableCxxSymlinkTreeHeaders(
+      CxxPreprocessables.IncludeType includeType,
+      SourcePath root,
+      Either<PathSourcePath, SourcePath> includeRoot,
+      Optional<? extends SourcePath> headerMap,
+      ImmutableSortedMap<Path, SourcePath> nameToPathMap,
+      String symlinkTreeClass,
+      Optional<? extends SourcePath> vfsOverlay) {
+    this.includeType = Objects.requireNonNull(includeType, "includeType");
+    this.root = Objects.requireNonNull(root, "root");
+    this.includeRoot = Objects.requireNonNull(includeRoot, "includeRoot");
+    this.headerMap = headerMap.orElse(null);
+    this.nameToPathMap = Objects.requireNonNull(nameToPathMap, "nameToPathMap");
+    this.symlinkTreeClass = Objects.requireNonNull(symlinkTreeClass, "symlinkTreeClass");
+    this.vfsOverlay = vfsOverlay.orElse(null);
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code includeType} attribute
+   */
+  @Override
+  public CxxPreprocessables.IncludeType getIncludeType() {
+    return includeType;
+  }
+
+  /**
+   * @return The value of the {@code root} attribute
+   */
+  @Override
+  public SourcePath getRoot() {
+    return root;
+  }
+
+  /**
+   * @return The value of the {@code includeRoot} attribute
+   */
+  @Override
+  public Either<PathSourcePath, SourcePath> getIncludeRoot() {
+    return includeRoot;
+  }
+
+  /**
+   * @return The value of the {@code headerMap} attribute
+   */
+  @Override
+  public Optional<SourcePath> getHeaderMap() {
+    return Optional.ofNullable(headerMap);
+  }
+
+  /**
+   * @return The value of the {@code nameToPathMap} attribute
+   */
+  @Override
+  public ImmutableSortedMap<Path, SourcePath> getNameToPathMap() {
+    return nameToPathMap;
+  }
+
+  /**
+   * @return The value of the {@code symlinkTreeClass} attribute
+   */
+  @Override
+  public String getSymlinkTreeClass() {
+    return symlinkTreeClass;
+  }
+
+  /**
+   * @return The value of the {@code vfsOverlay} attribute
+   */
+  @Override
+  public Optional<SourcePath> getVfsOverlay() {
+    return Optional.ofNullable(vfsOverlay);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCxxSymlinkTreeHeaders} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCxxSymlinkTreeHeaders
+        && equalTo((ImmutableCxxSymlinkTreeHeaders) another);
+  }
+
+  private boolean equalTo(ImmutableCxxSymlinkTreeHeaders another) {
+    if (hashCode != another.hashCode) return false;
+    return includeType.equals(another.includeType)
+        && root.equals(another.root)
+        && includeRoot.equals(another.includeRoot)
+        && Objects.equals(headerMap, another.headerMap)
+        && symlinkTreeClass.equals(another.symlinkTreeClass)
+        && Objects.equals(vfsOverlay, another.vfsOverlay);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code includeType}, {@code root}, {@code includeRoot}, {@code headerMap}, {@code symlinkTreeClass}, {@code vfsOverlay}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + includeType.hashCode();
+    h += (h << 5) + root.hashCode();
+    h += (h << 5) + includeRoot.hashCode();
+    h += (h << 5) + Objects.hashCode(headerMap);
+    h += (h << 5) + symlinkTreeClass.hashCode();
+    h += (h << 5) + Objects.hashCode(vfsOverlay);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxSymlinkTreeHeaders} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxSymlinkTreeHeaders")
+        .omitNullValues()
+        .add("includeType", includeType)
+        .add("root", root)
+        .add("includeRoot", includeRoot)
+        .add("headerMap", headerMap)
+        .add("symlinkTreeClass", symlinkTreeClass)
+        .add("vfsOverlay", vfsOverlay)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxSymlinkTreeHeaders} instance.
+   * @param includeType The value for the {@code includeType} attribute
+   * @param root The value for the {@code root} attribute
+   * @param includeRoot The value for the {@code includeRoot} attribute
+   * @param headerMap The value for the {@code headerMap} attribute
+   * @param nameToPathMap The value for the {@code nameToPathMap} attribute
+   * @param symlinkTreeClass The value for the {@code symlinkTreeClass} attribute
+   * @param vfsOverlay The value for the {@code vfsOverlay} attribute
+   * @return An immutable CxxSymlinkTreeHeaders instance
+   */
+  public static ImmutableCxxSymlinkTreeHeaders of(CxxPreprocessables.IncludeType includeType, SourcePath root, Either<PathSourcePath, SourcePath> includeRoot, Optional<? extends SourcePath> headerMap, ImmutableSortedMap<Path, SourcePath> nameToPathMap, String symlinkTreeClass, Optional<? extends SourcePath> vfsOverlay) {
+    return new ImmutableCxxSymlinkTreeHeaders(includeType, root, includeRoot, headerMap, nameToPathMap, symlinkTreeClass, vfsOverlay);
+  }
+}
@@ -0,0 +1,166 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ElfSymbolTableScrubberStep}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableElfSymbolTableScrubberStep.of()}.
+ */
+@Generated(from = "ElfSymbolTableScrubberStep", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableElfSymbolTableScrubberStep
+    extends ElfSymbolTableScrubberStep {
+  private final ProjectFilesystem filesystem;
+  private final Path path;
+  private final String section;
+  private final @Nullable String versymSection;
+  private final boolean allowMissing;
+  private final boolean scrubUndefinedSymbols;
+
+  private ImmutableElfSymbolTableScrubberStep(
+      ProjectFilesystem filesystem,
+      Path path,
+      String section,
+      Optional<String> versymSection,
+      boolean allowMissing,
+      boolean scrubUndefinedSymbols) {
+    this.filesystem = Objects.requireNonNull(filesystem, "filesystem");
+    this.path = Objects.requireNonNull(path, "path");
+    this.section = Objects.requireNonNull(section, "section");
+    this.versymSection = versymSection.orElse(null);
+    this.allowMissing = allowMissing;
+    this.scrubUndefinedSymbols = scrubUndefinedSymbols;
+  }
+
+  /**
+   * @return The value of the {@code filesystem} attribute
+   */
+  @Override
+  ProjectFilesystem getFilesystem() {
+    return filesystem;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  Path getPath() {
+    return path;
+  }
+
+  /**
+   * @return The value of the {@code section} attribute
+   */
+  @Override
+  String getSection() {
+    return section;
+  }
+
+  /**
+   * @return The value of the {@code versymSection} attribute
+   */
+  @Override
+  Optional<String> getVersymSection() {
+    return Optional.ofNullable(versymSection);
+  }
+
+  /**
+   * @return The value of the {@code allowMissing} attribute
+   */
+  @Override
+  boolean isAllowMissing() {
+    return allowMissing;
+  }
+
+  /**
+   * @return The value of the {@code scrubUndefinedSymbols} attribute
+   */
+  @Override
+  boolean isScrubUndefinedSymbols() {
+    return scrubUndefinedSymbols;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableElfSymbolTableScrubberStep} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableElfSymbolTableScrubberStep
+        && equalTo((ImmutableElfSymbolTableScrubberStep) another);
+  }
+
+  private boolean equalTo(ImmutableElfSymbolTableScrubberStep another) {
+    return filesystem.equals(another.filesystem)
+        && path.equals(another.path)
+        && section.equals(another.section)
+        && Objects.equals(versymSection, another.versymSection)
+        && allowMissing == another.allowMissing
+        && scrubUndefinedSymbols == another.scrubUndefinedSymbols;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code filesystem}, {@code path}, {@code section}, {@code versymSection}, {@code allowMissing}, {@code scrubUndefinedSymbols}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + filesystem.hashCode();
+    h += (h << 5) + path.hashCode();
+    h += (h << 5) + section.hashCode();
+    h += (h << 5) + Objects.hashCode(versymSection);
+    h += (h << 5) + Booleans.hashCode(allowMissing);
+    h += (h << 5) + Booleans.hashCode(scrubUndefinedSymbols);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ElfSymbolTableScrubberStep} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ElfSymbolTableScrubberStep")
+        .omitNullValues()
+        .add("filesystem", filesystem)
+        .add("path", path)
+        .add("section", section)
+        .add("versymSection", versymSection)
+        .add("allowMissing", allowMissing)
+        .add("scrubUndefinedSymbols", scrubUndefinedSymbols)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ElfSymbolTableScrubberStep} instance.
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param path The value for the {@code path} attribute
+   * @param section The value for the {@code section} attribute
+   * @param versymSection The value for the {@code versymSection} attribute
+   * @param allowMissing The value for the {@code allowMissing} attribute
+   * @param scrubUndefinedSymbols The value for the {@code scrubUndefinedSymbols} attribute
+   * @return An immutable ElfSymbolTableScrubberStep instance
+   */
+  public static ImmutableElfSymbolTableScrubberStep of(ProjectFilesystem filesystem, Path path, String section, Optional<String> versymSection, boolean allowMissing, boolean scrubUndefinedSymbols) {
+    return new ImmutableElfSymbolTableScrubberStep(filesystem, path, section, versymSection, allowMissing, scrubUndefinedSymbols);
+  }
+}
@@ -0,0 +1,100 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link Omnibus.OmnibusLibrary}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableOmnibusLibrary.of()}.
+ */
+@Generated(from = "Omnibus.OmnibusLibrary", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableOmnibusLibrary implements Omnibus.OmnibusLibrary {
+  private final String soname;
+  private final SourcePath path;
+
+  private ImmutableOmnibusLibrary(String soname, SourcePath path) {
+    this.soname = Objects.requireNonNull(soname, "soname");
+    this.path = Objects.requireNonNull(path, "path");
+  }
+
+  /**
+   * @return The value of the {@code soname} attribute
+   */
+  @Override
+  public String getSoname() {
+    return soname;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public SourcePath getPath() {
+    return path;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableOmnibusLibrary} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableOmnibusLibrary
+        && equalTo((ImmutableOmnibusLibrary) another);
+  }
+
+  private boolean equalTo(ImmutableOmnibusLibrary another) {
+    return soname.equals(another.soname)
+        && path.equals(another.path);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code soname}, {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + soname.hashCode();
+    h += (h << 5) + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code OmnibusLibrary} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("OmnibusLibrary")
+        .omitNullValues()
+        .add("soname", soname)
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code OmnibusLibrary} instance.
+   * @param soname The value for the {@code soname} attribute
+   * @param path The value for the {@code path} attribute
+   * @return An immutable OmnibusLibrary instance
+   */
+  public static ImmutableOmnibusLibrary of(String soname, SourcePath path) {
+    return new ImmutableOmnibusLibrary(soname, path);
+  }
+}
@@ -0,0 +1,105 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkTarget;
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkable;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link OmnibusRoots}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableOmnibusRoots.of()}.
+ */
+@Generated(from = "OmnibusRoots", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableOmnibusRoots extends OmnibusRoots {
+  private final ImmutableMap<BuildTarget, NativeLinkTarget> includedRoots;
+  private final ImmutableMap<BuildTarget, NativeLinkable> excludedRoots;
+
+  private ImmutableOmnibusRoots(
+      Map<? extends BuildTarget, ? extends NativeLinkTarget> includedRoots,
+      Map<? extends BuildTarget, ? extends NativeLinkable> excludedRoots) {
+    this.includedRoots = ImmutableMap.copyOf(includedRoots);
+    this.excludedRoots = ImmutableMap.copyOf(excludedRoots);
+  }
+
+  /**
+   * @return The value of the {@code includedRoots} attribute
+   */
+  @Override
+  public ImmutableMap<BuildTarget, NativeLinkTarget> getIncludedRoots() {
+    return includedRoots;
+  }
+
+  /**
+   * @return The value of the {@code excludedRoots} attribute
+   */
+  @Override
+  public ImmutableMap<BuildTarget, NativeLinkable> getExcludedRoots() {
+    return excludedRoots;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableOmnibusRoots} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableOmnibusRoots
+        && equalTo((ImmutableOmnibusRoots) another);
+  }
+
+  private boolean equalTo(ImmutableOmnibusRoots another) {
+    return includedRoots.equals(another.includedRoots)
+        && excludedRoots.equals(another.excludedRoots);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code includedRoots}, {@code excludedRoots}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + includedRoots.hashCode();
+    h += (h << 5) + excludedRoots.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code OmnibusRoots} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("OmnibusRoots")
+        .omitNullValues()
+        .add("includedRoots", includedRoots)
+        .add("excludedRoots", excludedRoots)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code OmnibusRoots} instance.
+   * @param includedRoots The value for the {@code includedRoots} attribute
+   * @param excludedRoots The value for the {@code excludedRoots} attribute
+   * @return An immutable OmnibusRoots instance
+   */
+  public static ImmutableOmnibusRoots of(Map<? extends BuildTarget, ? extends NativeLinkTarget> includedRoots, Map<? extends BuildTarget, ? extends NativeLinkable> excludedRoots) {
+    return new ImmutableOmnibusRoots(includedRoots, excludedRoots);
+  }
+}
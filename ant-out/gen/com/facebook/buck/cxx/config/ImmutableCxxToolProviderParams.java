@@ -0,0 +1,174 @@
+package com.facebook.buck.cxx.config;
+
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.facebook.buck.core.sourcepath.PathSourcePath;
+import com.facebook.buck.cxx.toolchain.CxxToolProvider;
+import com.facebook.buck.cxx.toolchain.ToolType;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CxxBuckConfig.CxxToolProviderParams}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCxxToolProviderParams.of()}.
+ */
+@Generated(from = "CxxBuckConfig.CxxToolProviderParams", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCxxToolProviderParams
+    extends CxxBuckConfig.CxxToolProviderParams {
+  private final String source;
+  private final @Nullable UnconfiguredBuildTarget buildTarget;
+  private final @Nullable PathSourcePath path;
+  private final @Nullable CxxToolProvider.Type type;
+  private final ToolType toolType;
+  private final @Nullable Boolean preferDependencyTree;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableCxxToolProviderParams(
+      String source,
+      Optional<? extends UnconfiguredBuildTarget> buildTarget,
+      Optional<? extends PathSourcePath> path,
+      Optional<? extends CxxToolProvider.Type> type,
+      ToolType toolType,
+      Optional<Boolean> preferDependencyTree) {
+    this.source = Objects.requireNonNull(source, "source");
+    this.buildTarget = buildTarget.orElse(null);
+    this.path = path.orElse(null);
+    this.type = type.orElse(null);
+    this.toolType = Objects.requireNonNull(toolType, "toolType");
+    this.preferDependencyTree = preferDependencyTree.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code source} attribute
+   */
+  @Override
+  public String getSource() {
+    return source;
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public Optional<UnconfiguredBuildTarget> getBuildTarget() {
+    return Optional.ofNullable(buildTarget);
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public Optional<PathSourcePath> getPath() {
+    return Optional.ofNullable(path);
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public Optional<CxxToolProvider.Type> getType() {
+    return Optional.ofNullable(type);
+  }
+
+  /**
+   * @return The value of the {@code toolType} attribute
+   */
+  @Override
+  public ToolType getToolType() {
+    return toolType;
+  }
+
+  /**
+   * @return The value of the {@code preferDependencyTree} attribute
+   */
+  @Override
+  public Optional<Boolean> getPreferDependencyTree() {
+    return Optional.ofNullable(preferDependencyTree);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCxxToolProviderParams} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCxxToolProviderParams
+        && equalTo((ImmutableCxxToolProviderParams) another);
+  }
+
+  private boolean equalTo(ImmutableCxxToolProviderParams another) {
+    return source.equals(another.source)
+        && Objects.equals(buildTarget, another.buildTarget)
+        && Objects.equals(path, another.path)
+        && Objects.equals(type, another.type)
+        && toolType.equals(another.toolType)
+        && Objects.equals(preferDependencyTree, another.preferDependencyTree);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code source}, {@code buildTarget}, {@code path}, {@code type}, {@code toolType}, {@code preferDependencyTree}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + source.hashCode();
+    h += (h << 5) + Objects.hashCode(buildTarget);
+    h += (h << 5) + Objects.hashCode(path);
+    h += (h << 5) + Objects.hashCode(type);
+    h += (h << 5) + toolType.hashCode();
+    h += (h << 5) + Objects.hashCode(preferDependencyTree);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxToolProviderParams} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxToolProviderParams")
+        .omitNullValues()
+        .add("source", source)
+        .add("buildTarget", buildTarget)
+        .add("path", path)
+        .add("type", type)
+        .add("toolType", toolType)
+        .add("preferDependencyTree", preferDependencyTree)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxToolProviderParams} instance.
+   * @param source The value for the {@code source} attribute
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param path The value for the {@code path} attribute
+   * @param type The value for the {@code type} attribute
+   * @param toolType The value for the {@code toolType} attribute
+   * @param preferDependencyTree The value for the {@code preferDependencyTree} attribute
+   * @return An immutable CxxToolProviderParams instance
+   */
+  public static ImmutableCxxToolProviderParams of(String source, Optional<? extends UnconfiguredBuildTarget> buildTarget, Optional<? extends PathSourcePath> path, Optional<? extends CxxToolProvider.Type> type, ToolType toolType, Optional<Boolean> preferDependencyTree) {
+    return validate(new ImmutableCxxToolProviderParams(source, buildTarget, path, type, toolType, preferDependencyTree));
+  }
+
+
+  private static ImmutableCxxToolProviderParams validate(ImmutableCxxToolProviderParams instance) {
+    instance.check();
+    return instance;
+  }
+}
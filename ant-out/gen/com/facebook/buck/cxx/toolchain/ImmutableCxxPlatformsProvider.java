@@ -0,0 +1,102 @@
+package com.facebook.buck.cxx.toolchain;
+
+import com.facebook.buck.core.model.FlavorDomain;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CxxPlatformsProvider}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCxxPlatformsProvider.of()}.
+ */
+@Generated(from = "CxxPlatformsProvider", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCxxPlatformsProvider extends CxxPlatformsProvider {
+  private final UnresolvedCxxPlatform defaultUnresolvedCxxPlatform;
+  private final FlavorDomain<UnresolvedCxxPlatform> unresolvedCxxPlatforms;
+
+  private ImmutableCxxPlatformsProvider(
+      UnresolvedCxxPlatform defaultUnresolvedCxxPlatform,
+      FlavorDomain<UnresolvedCxxPlatform> unresolvedCxxPlatforms) {
+    this.defaultUnresolvedCxxPlatform = Objects.requireNonNull(defaultUnresolvedCxxPlatform, "defaultUnresolvedCxxPlatform");
+    this.unresolvedCxxPlatforms = Objects.requireNonNull(unresolvedCxxPlatforms, "unresolvedCxxPlatforms");
+  }
+
+  /**
+   * @return The value of the {@code defaultUnresolvedCxxPlatform} attribute
+   */
+  @Override
+  public UnresolvedCxxPlatform getDefaultUnresolvedCxxPlatform() {
+    return defaultUnresolvedCxxPlatform;
+  }
+
+  /**
+   * @return The value of the {@code unresolvedCxxPlatforms} attribute
+   */
+  @Override
+  public FlavorDomain<UnresolvedCxxPlatform> getUnresolvedCxxPlatforms() {
+    return unresolvedCxxPlatforms;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCxxPlatformsProvider} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCxxPlatformsProvider
+        && equalTo((ImmutableCxxPlatformsProvider) another);
+  }
+
+  private boolean equalTo(ImmutableCxxPlatformsProvider another) {
+    return defaultUnresolvedCxxPlatform.equals(another.defaultUnresolvedCxxPlatform)
+        && unresolvedCxxPlatforms.equals(another.unresolvedCxxPlatforms);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code defaultUnresolvedCxxPlatform}, {@code unresolvedCxxPlatforms}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + defaultUnresolvedCxxPlatform.hashCode();
+    h += (h << 5) + unresolvedCxxPlatforms.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxPlatformsProvider} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxPlatformsProvider")
+        .omitNullValues()
+        .add("defaultUnresolvedCxxPlatform", defaultUnresolvedCxxPlatform)
+        .add("unresolvedCxxPlatforms", unresolvedCxxPlatforms)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxPlatformsProvider} instance.
+   * @param defaultUnresolvedCxxPlatform The value for the {@code defaultUnresolvedCxxPlatform} attribute
+   * @param unresolvedCxxPlatforms The value for the {@code unresolvedCxxPlatforms} attribute
+   * @return An immutable CxxPlatformsProvider instance
+   */
+  public static ImmutableCxxPlatformsProvider of(UnresolvedCxxPlatform defaultUnresolvedCxxPlatform, FlavorDomain<UnresolvedCxxPlatform> unresolvedCxxPlatforms) {
+    return new ImmutableCxxPlatformsProvider(defaultUnresolvedCxxPlatform, unresolvedCxxPlatforms);
+  }
+}
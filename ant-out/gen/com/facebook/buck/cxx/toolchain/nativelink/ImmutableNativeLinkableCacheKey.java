@@ -0,0 +1,140 @@
+package com.facebook.buck.cxx.toolchain.nativelink;
+
+import com.facebook.buck.core.model.Flavor;
+import com.facebook.buck.cxx.toolchain.CxxPlatform;
+import com.facebook.buck.cxx.toolchain.linker.Linker;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link NativeLinkableCacheKey}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableNativeLinkableCacheKey.of()}.
+ */
+@Generated(from = "NativeLinkableCacheKey", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableNativeLinkableCacheKey
+    extends NativeLinkableCacheKey {
+  private final Flavor flavor;
+  private final Linker.LinkableDepType type;
+  private final boolean forceLinkWhole;
+  private final CxxPlatform cxxPlatform;
+  private transient final int hashCode;
+
+  private ImmutableNativeLinkableCacheKey(
+      Flavor flavor,
+      Linker.LinkableDepType type,
+      boolean forceLinkWhole,
+      CxxPlatform cxxPlatform) {
+    this.flavor = Objects.requireNonNull(flavor, "flavor");
+    this.type = Objects.requireNonNull(type, "type");
+    this.forceLinkWhole = forceLinkWhole;
+    this.cxxPlatform = Objects.requireNonNull(cxxPlatform, "cxxPlatform");
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code flavor} attribute
+   */
+  @Override
+  public Flavor getFlavor() {
+    return flavor;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public Linker.LinkableDepType getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code forceLinkWhole} attribute
+   */
+  @Override
+  public boolean getForceLinkWhole() {
+    return forceLinkWhole;
+  }
+
+  /**
+   * @return The value of the {@code cxxPlatform} attribute
+   */
+  @Override
+  public CxxPlatform getCxxPlatform() {
+    return cxxPlatform;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableNativeLinkableCacheKey} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableNativeLinkableCacheKey
+        && equalTo((ImmutableNativeLinkableCacheKey) another);
+  }
+
+  private boolean equalTo(ImmutableNativeLinkableCacheKey another) {
+    if (hashCode != another.hashCode) return false;
+    return flavor.equals(another.flavor)
+        && type.equals(another.type)
+        && forceLinkWhole == another.forceLinkWhole;
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code flavor}, {@code type}, {@code forceLinkWhole}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + flavor.hashCode();
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + Booleans.hashCode(forceLinkWhole);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NativeLinkableCacheKey} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NativeLinkableCacheKey")
+        .omitNullValues()
+        .add("flavor", flavor)
+        .add("type", type)
+        .add("forceLinkWhole", forceLinkWhole)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code NativeLinkableCacheKey} instance.
+   * @param flavor The value for the {@code flavor} attribute
+   * @param type The value for the {@code type} attribute
+   * @param forceLinkWhole The value for the {@code forceLinkWhole} attribute
+   * @param cxxPlatform The value for the {@code cxxPlatform} attribute
+   * @return An immutable NativeLinkableCacheKey instance
+   */
+  public static ImmutableNativeLinkableCacheKey of(Flavor flavor, Linker.LinkableDepType type, boolean forceLinkWhole, CxxPlatform cxxPlatform) {
+    return new ImmutableNativeLinkableCacheKey(flavor, type, forceLinkWhole, cxxPlatform);
+  }
+}
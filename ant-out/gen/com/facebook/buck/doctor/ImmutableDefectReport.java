@@ -0,0 +1,477 @@
+package com.facebook.buck.doctor;
+
+import com.facebook.buck.core.model.BuildId;
+import com.facebook.buck.doctor.config.SourceControlInfo;
+import com.facebook.buck.doctor.config.UserLocalConfiguration;
+import com.facebook.buck.util.environment.BuildEnvironmentDescription;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DefectReporter.DefectReport}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new DefectReporter.DefectReport.Builder()}.
+ */
+@Generated(from = "DefectReporter.DefectReport", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableDefectReport implements DefectReporter.DefectReport {
+  private final @Nullable AbstractReport.UserReport userReport;
+  private final ImmutableSet<BuildId> highlightedBuildIds;
+  private final ImmutableSet<Path> includedPaths;
+  private final BuildEnvironmentDescription buildEnvironmentDescription;
+  private final @Nullable SourceControlInfo sourceControlInfo;
+  private final @Nullable String extraInfo;
+  private final @Nullable DefectReporter.FileChangesIgnoredReport fileChangesIgnoredReport;
+  private final @Nullable UserLocalConfiguration userLocalConfiguration;
+
+  private ImmutableDefectReport(ImmutableDefectReport.Builder builder) {
+    this.userReport = builder.userReport;
+    this.highlightedBuildIds = builder.highlightedBuildIds.build();
+    this.includedPaths = builder.includedPaths.build();
+    this.buildEnvironmentDescription = builder.buildEnvironmentDescription;
+    this.sourceControlInfo = builder.sourceControlInfo;
+    this.extraInfo = builder.extraInfo;
+    this.fileChangesIgnoredReport = builder.fileChangesIgnoredReport;
+    this.userLocalConfiguration = builder.userLocalConfiguration;
+  }
+
+  /**
+   * @return The value of the {@code userReport} attribute
+   */
+  @Override
+  public Optional<AbstractReport.UserReport> getUserReport() {
+    return Optional.ofNullable(userReport);
+  }
+
+  /**
+   * @return The value of the {@code highlightedBuildIds} attribute
+   */
+  @Override
+  public ImmutableSet<BuildId> getHighlightedBuildIds() {
+    return highlightedBuildIds;
+  }
+
+  /**
+   * @return The value of the {@code includedPaths} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getIncludedPaths() {
+    return includedPaths;
+  }
+
+  /**
+   * @return The value of the {@code buildEnvironmentDescription} attribute
+   */
+  @Override
+  public BuildEnvironmentDescription getBuildEnvironmentDescription() {
+    return buildEnvironmentDescription;
+  }
+
+  /**
+   * @return The value of the {@code sourceControlInfo} attribute
+   */
+  @Override
+  public Optional<SourceControlInfo> getSourceControlInfo() {
+    return Optional.ofNullable(sourceControlInfo);
+  }
+
+  /**
+   * @return The value of the {@code extraInfo} attribute
+   */
+  @Override
+  public Optional<String> getExtraInfo() {
+    return Optional.ofNullable(extraInfo);
+  }
+
+  /**
+   * @return The value of the {@code fileChangesIgnoredReport} attribute
+   */
+  @Override
+  public Optional<DefectReporter.FileChangesIgnoredReport> getFileChangesIgnoredReport() {
+    return Optional.ofNullable(fileChangesIgnoredReport);
+  }
+
+  /**
+   * @return The value of the {@code userLocalConfiguration} attribute
+   */
+  @Override
+  public Optional<UserLocalConfiguration> getUserLocalConfiguration() {
+    return Optional.ofNullable(userLocalConfiguration);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDefectReport} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDefectReport
+        && equalTo((ImmutableDefectReport) another);
+  }
+
+  private boolean equalTo(ImmutableDefectReport another) {
+    return Objects.equals(userReport, another.userReport)
+        && highlightedBuildIds.equals(another.highlightedBuildIds)
+        && includedPaths.equals(another.includedPaths)
+        && buildEnvironmentDescription.equals(another.buildEnvironmentDescription)
+        && Objects.equals(sourceControlInfo, another.sourceControlInfo)
+        && Objects.equals(extraInfo, another.extraInfo)
+        && Objects.equals(fileChangesIgnoredReport, another.fileChangesIgnoredReport)
+        && Objects.equals(userLocalConfiguration, another.userLocalConfiguration);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code userReport}, {@code highlightedBuildIds}, {@code includedPaths}, {@code buildEnvironmentDescription}, {@code sourceControlInfo}, {@code extraInfo}, {@code fileChangesIgnoredReport}, {@code userLocalConfiguration}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(userReport);
+    h += (h << 5) + highlightedBuildIds.hashCode();
+    h += (h << 5) + includedPaths.hashCode();
+    h += (h << 5) + buildEnvironmentDescription.hashCode();
+    h += (h << 5) + Objects.hashCode(sourceControlInfo);
+    h += (h << 5) + Objects.hashCode(extraInfo);
+    h += (h << 5) + Objects.hashCode(fileChangesIgnoredReport);
+    h += (h << 5) + Objects.hashCode(userLocalConfiguration);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DefectReport} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DefectReport")
+        .omitNullValues()
+        .add("userReport", userReport)
+        .add("highlightedBuildIds", highlightedBuildIds)
+        .add("includedPaths", includedPaths)
+        .add("buildEnvironmentDescription", buildEnvironmentDescription)
+        .add("sourceControlInfo", sourceControlInfo)
+        .add("extraInfo", extraInfo)
+        .add("fileChangesIgnoredReport", fileChangesIgnoredReport)
+        .add("userLocalConfiguration", userLocalConfiguration)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link DefectReporter.DefectReport DefectReport}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "DefectReporter.DefectReport", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_BUILD_ENVIRONMENT_DESCRIPTION = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable AbstractReport.UserReport userReport;
+    private ImmutableSet.Builder<BuildId> highlightedBuildIds = ImmutableSet.builder();
+    private ImmutableSet.Builder<Path> includedPaths = ImmutableSet.builder();
+    private @Nullable BuildEnvironmentDescription buildEnvironmentDescription;
+    private @Nullable SourceControlInfo sourceControlInfo;
+    private @Nullable String extraInfo;
+    private @Nullable DefectReporter.FileChangesIgnoredReport fileChangesIgnoredReport;
+    private @Nullable UserLocalConfiguration userLocalConfiguration;
+
+    /**
+     * Creates a builder for {@link DefectReporter.DefectReport DefectReport} instances.
+     */
+    public Builder() {
+      if (!(this instanceof DefectReporter.DefectReport.Builder)) {
+        throw new UnsupportedOperationException("Use: new DefectReporter.DefectReport.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DefectReport} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefectReporter.DefectReport.Builder from(DefectReporter.DefectReport instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<AbstractReport.UserReport> userReportOptional = instance.getUserReport();
+      if (userReportOptional.isPresent()) {
+        setUserReport(userReportOptional);
+      }
+      addAllHighlightedBuildIds(instance.getHighlightedBuildIds());
+      addAllIncludedPaths(instance.getIncludedPaths());
+      setBuildEnvironmentDescription(instance.getBuildEnvironmentDescription());
+      Optional<SourceControlInfo> sourceControlInfoOptional = instance.getSourceControlInfo();
+      if (sourceControlInfoOptional.isPresent()) {
+        setSourceControlInfo(sourceControlInfoOptional);
+      }
+      Optional<String> extraInfoOptional = instance.getExtraInfo();
+      if (extraInfoOptional.isPresent()) {
+        setExtraInfo(extraInfoOptional);
+      }
+      Optional<DefectReporter.FileChangesIgnoredReport> fileChangesIgnoredReportOptional = instance.getFileChangesIgnoredReport();
+      if (fileChangesIgnoredReportOptional.isPresent()) {
+        setFileChangesIgnoredReport(fileChangesIgnoredReportOptional);
+      }
+      Optional<UserLocalConfiguration> userLocalConfigurationOptional = instance.getUserLocalConfiguration();
+      if (userLocalConfigurationOptional.isPresent()) {
+        setUserLocalConfiguration(userLocalConfigurationOptional);
+      }
+      return (DefectReporter.DefectReport.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.DefectReport#getUserReport() userReport} to userReport.
+     * @param userReport The value for userReport
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefectReporter.DefectReport.Builder setUserReport(AbstractReport.UserReport userReport) {
+      this.userReport = Objects.requireNonNull(userReport, "userReport");
+      return (DefectReporter.DefectReport.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.DefectReport#getUserReport() userReport} to userReport.
+     * @param userReport The value for userReport
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefectReporter.DefectReport.Builder setUserReport(Optional<? extends AbstractReport.UserReport> userReport) {
+      this.userReport = userReport.orElse(null);
+      return (DefectReporter.DefectReport.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link DefectReporter.DefectReport#getHighlightedBuildIds() highlightedBuildIds} set.
+     * @param element A highlightedBuildIds element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefectReporter.DefectReport.Builder addHighlightedBuildIds(BuildId element) {
+      this.highlightedBuildIds.add(element);
+      return (DefectReporter.DefectReport.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link DefectReporter.DefectReport#getHighlightedBuildIds() highlightedBuildIds} set.
+     * @param elements An array of highlightedBuildIds elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefectReporter.DefectReport.Builder addHighlightedBuildIds(BuildId... elements) {
+      this.highlightedBuildIds.add(elements);
+      return (DefectReporter.DefectReport.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link DefectReporter.DefectReport#getHighlightedBuildIds() highlightedBuildIds} set.
+     * @param elements An iterable of highlightedBuildIds elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefectReporter.DefectReport.Builder setHighlightedBuildIds(Iterable<? extends BuildId> elements) {
+      this.highlightedBuildIds = ImmutableSet.builder();
+      return addAllHighlightedBuildIds(elements);
+    }
+
+    /**
+     * Adds elements to {@link DefectReporter.DefectReport#getHighlightedBuildIds() highlightedBuildIds} set.
+     * @param elements An iterable of highlightedBuildIds elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefectReporter.DefectReport.Builder addAllHighlightedBuildIds(Iterable<? extends BuildId> elements) {
+      this.highlightedBuildIds.addAll(elements);
+      return (DefectReporter.DefectReport.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link DefectReporter.DefectReport#getIncludedPaths() includedPaths} set.
+     * @param element A includedPaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefectReporter.DefectReport.Builder addIncludedPaths(Path element) {
+      this.includedPaths.add(element);
+      return (DefectReporter.DefectReport.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link DefectReporter.DefectReport#getIncludedPaths() includedPaths} set.
+     * @param elements An array of includedPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefectReporter.DefectReport.Builder addIncludedPaths(Path... elements) {
+      this.includedPaths.add(elements);
+      return (DefectReporter.DefectReport.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link DefectReporter.DefectReport#getIncludedPaths() includedPaths} set.
+     * @param elements An iterable of includedPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefectReporter.DefectReport.Builder setIncludedPaths(Iterable<? extends Path> elements) {
+      this.includedPaths = ImmutableSet.builder();
+      return addAllIncludedPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link DefectReporter.DefectReport#getIncludedPaths() includedPaths} set.
+     * @param elements An iterable of includedPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefectReporter.DefectReport.Builder addAllIncludedPaths(Iterable<? extends Path> elements) {
+      this.includedPaths.addAll(elements);
+      return (DefectReporter.DefectReport.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefectReporter.DefectReport#getBuildEnvironmentDescription() buildEnvironmentDescription} attribute.
+     * @param buildEnvironmentDescription The value for buildEnvironmentDescription 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefectReporter.DefectReport.Builder setBuildEnvironmentDescription(BuildEnvironmentDescription buildEnvironmentDescription) {
+      this.buildEnvironmentDescription = Objects.requireNonNull(buildEnvironmentDescription, "buildEnvironmentDescription");
+      initBits &= ~INIT_BIT_BUILD_ENVIRONMENT_DESCRIPTION;
+      return (DefectReporter.DefectReport.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.DefectReport#getSourceControlInfo() sourceControlInfo} to sourceControlInfo.
+     * @param sourceControlInfo The value for sourceControlInfo
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefectReporter.DefectReport.Builder setSourceControlInfo(SourceControlInfo sourceControlInfo) {
+      this.sourceControlInfo = Objects.requireNonNull(sourceControlInfo, "sourceControlInfo");
+      return (DefectReporter.DefectReport.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.DefectReport#getSourceControlInfo() sourceControlInfo} to sourceControlInfo.
+     * @param sourceControlInfo The value for sourceControlInfo
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefectReporter.DefectReport.Builder setSourceControlInfo(Optional<? extends SourceControlInfo> sourceControlInfo) {
+      this.sourceControlInfo = sourceControlInfo.orElse(null);
+      return (DefectReporter.DefectReport.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.DefectReport#getExtraInfo() extraInfo} to extraInfo.
+     * @param extraInfo The value for extraInfo
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefectReporter.DefectReport.Builder setExtraInfo(String extraInfo) {
+      this.extraInfo = Objects.requireNonNull(extraInfo, "extraInfo");
+      return (DefectReporter.DefectReport.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.DefectReport#getExtraInfo() extraInfo} to extraInfo.
+     * @param extraInfo The value for extraInfo
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefectReporter.DefectReport.Builder setExtraInfo(Optional<String> extraInfo) {
+      this.extraInfo = extraInfo.orElse(null);
+      return (DefectReporter.DefectReport.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.DefectReport#getFileChangesIgnoredReport() fileChangesIgnoredReport} to fileChangesIgnoredReport.
+     * @param fileChangesIgnoredReport The value for fileChangesIgnoredReport
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefectReporter.DefectReport.Builder setFileChangesIgnoredReport(DefectReporter.FileChangesIgnoredReport fileChangesIgnoredReport) {
+      this.fileChangesIgnoredReport = Objects.requireNonNull(fileChangesIgnoredReport, "fileChangesIgnoredReport");
+      return (DefectReporter.DefectReport.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.DefectReport#getFileChangesIgnoredReport() fileChangesIgnoredReport} to fileChangesIgnoredReport.
+     * @param fileChangesIgnoredReport The value for fileChangesIgnoredReport
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefectReporter.DefectReport.Builder setFileChangesIgnoredReport(Optional<? extends DefectReporter.FileChangesIgnoredReport> fileChangesIgnoredReport) {
+      this.fileChangesIgnoredReport = fileChangesIgnoredReport.orElse(null);
+      return (DefectReporter.DefectReport.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.DefectReport#getUserLocalConfiguration() userLocalConfiguration} to userLocalConfiguration.
+     * @param userLocalConfiguration The value for userLocalConfiguration
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefectReporter.DefectReport.Builder setUserLocalConfiguration(UserLocalConfiguration userLocalConfiguration) {
+      this.userLocalConfiguration = Objects.requireNonNull(userLocalConfiguration, "userLocalConfiguration");
+      return (DefectReporter.DefectReport.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.DefectReport#getUserLocalConfiguration() userLocalConfiguration} to userLocalConfiguration.
+     * @param userLocalConfiguration The value for userLocalConfiguration
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefectReporter.DefectReport.Builder setUserLocalConfiguration(Optional<? extends UserLocalConfiguration> userLocalConfiguration) {
+      this.userLocalConfiguration = userLocalConfiguration.orElse(null);
+      return (DefectReporter.DefectReport.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link DefectReporter.DefectReport DefectReport}.
+     * @return An immutable instance of DefectReport
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DefectReporter.DefectReport build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableDefectReport(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_BUILD_ENVIRONMENT_DESCRIPTION) != 0) attributes.add("buildEnvironmentDescription");
+      return "Cannot build DefectReport, some of required attributes are not set " + attributes;
+    }
+  }
+}
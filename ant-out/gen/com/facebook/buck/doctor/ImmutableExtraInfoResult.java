@@ -0,0 +1,112 @@
+package com.facebook.buck.doctor;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ExtraInfoCollector.ExtraInfoResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableExtraInfoResult.of()}.
+ */
+@Generated(from = "ExtraInfoCollector.ExtraInfoResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableExtraInfoResult
+    implements ExtraInfoCollector.ExtraInfoResult {
+  private final String output;
+  private final ImmutableSet<Path> extraFiles;
+
+  private ImmutableExtraInfoResult(String output, Iterable<? extends Path> extraFiles) {
+    this.output = Objects.requireNonNull(output, "output");
+    this.extraFiles = ImmutableSet.copyOf(extraFiles);
+  }
+
+  /**
+   * @return The value of the {@code output} attribute
+   */
+  @Override
+  public String getOutput() {
+    return output;
+  }
+
+  /**
+   * @return The value of the {@code extraFiles} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getExtraFiles() {
+    return extraFiles;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableExtraInfoResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableExtraInfoResult
+        && equalTo((ImmutableExtraInfoResult) another);
+  }
+
+  private boolean equalTo(ImmutableExtraInfoResult another) {
+    return output.equals(another.output)
+        && extraFiles.equals(another.extraFiles);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code output}, {@code extraFiles}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + output.hashCode();
+    h += (h << 5) + extraFiles.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExtraInfoResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExtraInfoResult")
+        .omitNullValues()
+        .add("output", output)
+        .add("extraFiles", extraFiles)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ExtraInfoResult} instance.
+   * @param output The value for the {@code output} attribute
+   * @param extraFiles The value for the {@code extraFiles} attribute
+   * @return An immutable ExtraInfoResult instance
+   */
+  public static ImmutableExtraInfoResult of(String output, ImmutableSet<Path> extraFiles) {
+    return of(output, (Iterable<? extends Path>) extraFiles);
+  }
+
+  /**
+   * Construct a new immutable {@code ExtraInfoResult} instance.
+   * @param output The value for the {@code output} attribute
+   * @param extraFiles The value for the {@code extraFiles} attribute
+   * @return An immutable ExtraInfoResult instance
+   */
+  public static ImmutableExtraInfoResult of(String output, Iterable<? extends Path> extraFiles) {
+    return new ImmutableExtraInfoResult(output, extraFiles);
+  }
+}
@@ -0,0 +1,158 @@
+package com.facebook.buck.doctor.config;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DoctorEndpointResponse}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableDoctorEndpointResponse.of()}.
+ */
+@Generated(from = "DoctorEndpointResponse", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableDoctorEndpointResponse
+    implements DoctorEndpointResponse {
+  private final @Nullable String errorMessage;
+  private final ImmutableList<DoctorSuggestion> suggestions;
+
+  private ImmutableDoctorEndpointResponse(
+      Optional<String> errorMessage,
+      Iterable<? extends DoctorSuggestion> suggestions) {
+    this.errorMessage = errorMessage.orElse(null);
+    this.suggestions = ImmutableList.copyOf(suggestions);
+  }
+
+  /**
+   * @return The value of the {@code errorMessage} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<String> getErrorMessage() {
+    return Optional.ofNullable(errorMessage);
+  }
+
+  /**
+   * @return The value of the {@code suggestions} attribute
+   */
+  @JsonProperty
+  @Override
+  public ImmutableList<DoctorSuggestion> getSuggestions() {
+    return suggestions;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDoctorEndpointResponse} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDoctorEndpointResponse
+        && equalTo((ImmutableDoctorEndpointResponse) another);
+  }
+
+  private boolean equalTo(ImmutableDoctorEndpointResponse another) {
+    return Objects.equals(errorMessage, another.errorMessage)
+        && suggestions.equals(another.suggestions);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code errorMessage}, {@code suggestions}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(errorMessage);
+    h += (h << 5) + suggestions.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DoctorEndpointResponse} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DoctorEndpointResponse")
+        .omitNullValues()
+        .add("errorMessage", errorMessage)
+        .add("suggestions", suggestions)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "DoctorEndpointResponse", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json implements DoctorEndpointResponse {
+    @Nullable Optional<String> errorMessage = Optional.empty();
+    @Nullable ImmutableList<DoctorSuggestion> suggestions = ImmutableList.of();
+    @JsonProperty
+    public void setErrorMessage(Optional<String> errorMessage) {
+      this.errorMessage = errorMessage;
+    }
+    @JsonProperty
+    public void setSuggestions(ImmutableList<DoctorSuggestion> suggestions) {
+      this.suggestions = suggestions;
+    }
+    @Override
+    public Optional<String> getErrorMessage() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableList<DoctorSuggestion> getSuggestions() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableDoctorEndpointResponse fromJson(Json json) {
+    ImmutableDoctorEndpointResponse instance = ImmutableDoctorEndpointResponse.of(json.errorMessage, json.suggestions);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code DoctorEndpointResponse} instance.
+   * @param errorMessage The value for the {@code errorMessage} attribute
+   * @param suggestions The value for the {@code suggestions} attribute
+   * @return An immutable DoctorEndpointResponse instance
+   */
+  public static ImmutableDoctorEndpointResponse of(Optional<String> errorMessage, ImmutableList<DoctorSuggestion> suggestions) {
+    return of(errorMessage, (Iterable<? extends DoctorSuggestion>) suggestions);
+  }
+
+  /**
+   * Construct a new immutable {@code DoctorEndpointResponse} instance.
+   * @param errorMessage The value for the {@code errorMessage} attribute
+   * @param suggestions The value for the {@code suggestions} attribute
+   * @return An immutable DoctorEndpointResponse instance
+   */
+  public static ImmutableDoctorEndpointResponse of(Optional<String> errorMessage, Iterable<? extends DoctorSuggestion> suggestions) {
+    return new ImmutableDoctorEndpointResponse(errorMessage, suggestions);
+  }
+}
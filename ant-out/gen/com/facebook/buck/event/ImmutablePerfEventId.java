@@ -0,0 +1,91 @@
+package com.facebook.buck.event;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link SimplePerfEvent.PerfEventId}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutablePerfEventId.of()}.
+ */
+@Generated(from = "SimplePerfEvent.PerfEventId", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutablePerfEventId extends SimplePerfEvent.PerfEventId {
+  private final String value;
+
+  private ImmutablePerfEventId(String value) {
+    this.value = Objects.requireNonNull(value, "value");
+  }
+
+  /**
+   * @return The value of the {@code value} attribute
+   */
+  @Override
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutablePerfEventId} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutablePerfEventId
+        && equalTo((ImmutablePerfEventId) another);
+  }
+
+  private boolean equalTo(ImmutablePerfEventId another) {
+    return value.equals(another.value);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code value}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + value.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PerfEventId} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PerfEventId")
+        .omitNullValues()
+        .add("value", value)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code PerfEventId} instance.
+   * @param value The value for the {@code value} attribute
+   * @return An immutable PerfEventId instance
+   */
+  public static ImmutablePerfEventId of(String value) {
+    return validate(new ImmutablePerfEventId(value));
+  }
+
+
+  private static ImmutablePerfEventId validate(ImmutablePerfEventId instance) {
+    instance.nameIsNotEmpty();
+    return instance;
+  }
+}
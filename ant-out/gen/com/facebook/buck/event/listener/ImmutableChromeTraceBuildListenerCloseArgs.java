@@ -0,0 +1,199 @@
+package com.facebook.buck.event.listener;
+
+import com.facebook.buck.core.model.BuildId;
+import com.facebook.buck.event.chrome_trace.ChromeTraceBuckConfig;
+import com.facebook.buck.event.chrome_trace.ChromeTraceWriter;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ChromeTraceBuildListenerCloseAction.ChromeTraceBuildListenerCloseArgs}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableChromeTraceBuildListenerCloseArgs.of()}.
+ */
+@Generated(from = "ChromeTraceBuildListenerCloseAction.ChromeTraceBuildListenerCloseArgs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableChromeTraceBuildListenerCloseArgs
+    extends ChromeTraceBuildListenerCloseAction.ChromeTraceBuildListenerCloseArgs {
+  private final ExecutorService outputExecutor;
+  private final Path tracePath;
+  private final ChromeTraceWriter chromeTraceWriter;
+  private final OutputStream traceStream;
+  private final ChromeTraceBuckConfig config;
+  private final Path logDirectoryPath;
+  private final BuildId buildId;
+  private final ProjectFilesystem projectFilesystem;
+
+  private ImmutableChromeTraceBuildListenerCloseArgs(
+      ExecutorService outputExecutor,
+      Path tracePath,
+      ChromeTraceWriter chromeTraceWriter,
+      OutputStream traceStream,
+      ChromeTraceBuckConfig config,
+      Path logDirectoryPath,
+      BuildId buildId,
+      ProjectFilesystem projectFilesystem) {
+    this.outputExecutor = Objects.requireNonNull(outputExecutor, "outputExecutor");
+    this.tracePath = Objects.requireNonNull(tracePath, "tracePath");
+    this.chromeTraceWriter = Objects.requireNonNull(chromeTraceWriter, "chromeTraceWriter");
+    this.traceStream = Objects.requireNonNull(traceStream, "traceStream");
+    this.config = Objects.requireNonNull(config, "config");
+    this.logDirectoryPath = Objects.requireNonNull(logDirectoryPath, "logDirectoryPath");
+    this.buildId = Objects.requireNonNull(buildId, "buildId");
+    this.projectFilesystem = Objects.requireNonNull(projectFilesystem, "projectFilesystem");
+  }
+
+  /**
+   * @return The value of the {@code outputExecutor} attribute
+   */
+  @Override
+  public ExecutorService getOutputExecutor() {
+    return outputExecutor;
+  }
+
+  /**
+   * @return The value of the {@code tracePath} attribute
+   */
+  @Override
+  public Path getTracePath() {
+    return tracePath;
+  }
+
+  /**
+   * @return The value of the {@code chromeTraceWriter} attribute
+   */
+  @Override
+  public ChromeTraceWriter getChromeTraceWriter() {
+    return chromeTraceWriter;
+  }
+
+  /**
+   * @return The value of the {@code traceStream} attribute
+   */
+  @Override
+  public OutputStream getTraceStream() {
+    return traceStream;
+  }
+
+  /**
+   * @return The value of the {@code config} attribute
+   */
+  @Override
+  public ChromeTraceBuckConfig getConfig() {
+    return config;
+  }
+
+  /**
+   * @return The value of the {@code logDirectoryPath} attribute
+   */
+  @Override
+  public Path getLogDirectoryPath() {
+    return logDirectoryPath;
+  }
+
+  /**
+   * @return The value of the {@code buildId} attribute
+   */
+  @Override
+  public BuildId getBuildId() {
+    return buildId;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableChromeTraceBuildListenerCloseArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableChromeTraceBuildListenerCloseArgs
+        && equalTo((ImmutableChromeTraceBuildListenerCloseArgs) another);
+  }
+
+  private boolean equalTo(ImmutableChromeTraceBuildListenerCloseArgs another) {
+    return outputExecutor.equals(another.outputExecutor)
+        && tracePath.equals(another.tracePath)
+        && chromeTraceWriter.equals(another.chromeTraceWriter)
+        && traceStream.equals(another.traceStream)
+        && config.equals(another.config)
+        && logDirectoryPath.equals(another.logDirectoryPath)
+        && buildId.equals(another.buildId)
+        && projectFilesystem.equals(another.projectFilesystem);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code outputExecutor}, {@code tracePath}, {@code chromeTraceWriter}, {@code traceStream}, {@code config}, {@code logDirectoryPath}, {@code buildId}, {@code projectFilesystem}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + outputExecutor.hashCode();
+    h += (h << 5) + tracePath.hashCode();
+    h += (h << 5) + chromeTraceWriter.hashCode();
+    h += (h << 5) + traceStream.hashCode();
+    h += (h << 5) + config.hashCode();
+    h += (h << 5) + logDirectoryPath.hashCode();
+    h += (h << 5) + buildId.hashCode();
+    h += (h << 5) + projectFilesystem.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ChromeTraceBuildListenerCloseArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ChromeTraceBuildListenerCloseArgs")
+        .omitNullValues()
+        .add("outputExecutor", outputExecutor)
+        .add("tracePath", tracePath)
+        .add("chromeTraceWriter", chromeTraceWriter)
+        .add("traceStream", traceStream)
+        .add("config", config)
+        .add("logDirectoryPath", logDirectoryPath)
+        .add("buildId", buildId)
+        .add("projectFilesystem", projectFilesystem)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ChromeTraceBuildListenerCloseArgs} instance.
+   * @param outputExecutor The value for the {@code outputExecutor} attribute
+   * @param tracePath The value for the {@code tracePath} attribute
+   * @param chromeTraceWriter The value for the {@code chromeTraceWriter} attribute
+   * @param traceStream The value for the {@code traceStream} attribute
+   * @param config The value for the {@code config} attribute
+   * @param logDirectoryPath The value for the {@code logDirectoryPath} attribute
+   * @param buildId The value for the {@code buildId} attribute
+   * @param projectFilesystem The value for the {@code projectFilesystem} attribute
+   * @return An immutable ChromeTraceBuildListenerCloseArgs instance
+   */
+  public static ImmutableChromeTraceBuildListenerCloseArgs of(ExecutorService outputExecutor, Path tracePath, ChromeTraceWriter chromeTraceWriter, OutputStream traceStream, ChromeTraceBuckConfig config, Path logDirectoryPath, BuildId buildId, ProjectFilesystem projectFilesystem) {
+    return new ImmutableChromeTraceBuildListenerCloseArgs(outputExecutor, tracePath, chromeTraceWriter, traceStream, config, logDirectoryPath, buildId, projectFilesystem);
+  }
+}
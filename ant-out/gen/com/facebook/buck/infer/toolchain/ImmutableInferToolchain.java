@@ -0,0 +1,86 @@
+package com.facebook.buck.infer.toolchain;
+
+import com.facebook.buck.infer.UnresolvedInferPlatform;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link InferToolchain}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableInferToolchain.of()}.
+ */
+@Generated(from = "InferToolchain", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableInferToolchain implements InferToolchain {
+  private final UnresolvedInferPlatform defaultPlatform;
+
+  private ImmutableInferToolchain(UnresolvedInferPlatform defaultPlatform) {
+    this.defaultPlatform = Objects.requireNonNull(defaultPlatform, "defaultPlatform");
+  }
+
+  /**
+   * @return The value of the {@code defaultPlatform} attribute
+   */
+  @Override
+  public UnresolvedInferPlatform getDefaultPlatform() {
+    return defaultPlatform;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableInferToolchain} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableInferToolchain
+        && equalTo((ImmutableInferToolchain) another);
+  }
+
+  private boolean equalTo(ImmutableInferToolchain another) {
+    return defaultPlatform.equals(another.defaultPlatform);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code defaultPlatform}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + defaultPlatform.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code InferToolchain} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("InferToolchain")
+        .omitNullValues()
+        .add("defaultPlatform", defaultPlatform)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code InferToolchain} instance.
+   * @param defaultPlatform The value for the {@code defaultPlatform} attribute
+   * @return An immutable InferToolchain instance
+   */
+  public static ImmutableInferToolchain of(UnresolvedInferPlatform defaultPlatform) {
+    return new ImmutableInferToolchain(defaultPlatform);
+  }
+}
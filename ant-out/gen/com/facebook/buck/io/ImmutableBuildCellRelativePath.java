@@ -0,0 +1,79 @@
+package com.facebook.buck.io;
+
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildCellRelativePath}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildCellRelativePath.of()}.
+ */
+@Generated(from = "BuildCellRelativePath", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildCellRelativePath extends BuildCellRelativePath {
+  private final Path pathRelativeToBuildCellRoot;
+
+  private ImmutableBuildCellRelativePath(Path pathRelativeToBuildCellRoot) {
+    this.pathRelativeToBuildCellRoot = Objects.requireNonNull(pathRelativeToBuildCellRoot, "pathRelativeToBuildCellRoot");
+  }
+
+  /**
+   * @return The value of the {@code pathRelativeToBuildCellRoot} attribute
+   */
+  @Override
+  public Path getPathRelativeToBuildCellRoot() {
+    return pathRelativeToBuildCellRoot;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildCellRelativePath} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildCellRelativePath
+        && equalTo((ImmutableBuildCellRelativePath) another);
+  }
+
+  private boolean equalTo(ImmutableBuildCellRelativePath another) {
+    return pathRelativeToBuildCellRoot.equals(another.pathRelativeToBuildCellRoot);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code pathRelativeToBuildCellRoot}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + pathRelativeToBuildCellRoot.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code BuildCellRelativePath} instance.
+   * @param pathRelativeToBuildCellRoot The value for the {@code pathRelativeToBuildCellRoot} attribute
+   * @return An immutable BuildCellRelativePath instance
+   */
+  public static ImmutableBuildCellRelativePath of(Path pathRelativeToBuildCellRoot) {
+    return validate(new ImmutableBuildCellRelativePath(pathRelativeToBuildCellRoot));
+  }
+
+
+  private static ImmutableBuildCellRelativePath validate(ImmutableBuildCellRelativePath instance) {
+    instance.check();
+    return instance;
+  }
+}
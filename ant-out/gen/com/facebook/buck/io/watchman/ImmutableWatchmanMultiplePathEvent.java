@@ -0,0 +1,114 @@
+package com.facebook.buck.io.watchman;
+
+import com.facebook.buck.core.filesystems.AbsPath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link WatchmanMultiplePathEvent}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableWatchmanMultiplePathEvent.of()}.
+ */
+@Generated(from = "WatchmanMultiplePathEvent", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableWatchmanMultiplePathEvent
+    extends WatchmanMultiplePathEvent {
+  private final AbsPath cellPath;
+  private final ImmutableList<WatchmanMultiplePathEvent.Change> changes;
+
+  private ImmutableWatchmanMultiplePathEvent(
+      AbsPath cellPath,
+      Iterable<? extends WatchmanMultiplePathEvent.Change> changes) {
+    this.cellPath = Objects.requireNonNull(cellPath, "cellPath");
+    this.changes = ImmutableList.copyOf(changes);
+  }
+
+  /**
+   * @return The value of the {@code cellPath} attribute
+   */
+  @Override
+  public AbsPath getCellPath() {
+    return cellPath;
+  }
+
+  /**
+   * @return The value of the {@code changes} attribute
+   */
+  @Override
+  public ImmutableList<WatchmanMultiplePathEvent.Change> getChanges() {
+    return changes;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableWatchmanMultiplePathEvent} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableWatchmanMultiplePathEvent
+        && equalTo((ImmutableWatchmanMultiplePathEvent) another);
+  }
+
+  private boolean equalTo(ImmutableWatchmanMultiplePathEvent another) {
+    return cellPath.equals(another.cellPath)
+        && changes.equals(another.changes);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cellPath}, {@code changes}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + cellPath.hashCode();
+    h += (h << 5) + changes.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code WatchmanMultiplePathEvent} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("WatchmanMultiplePathEvent")
+        .omitNullValues()
+        .add("cellPath", cellPath)
+        .add("changes", changes)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code WatchmanMultiplePathEvent} instance.
+   * @param cellPath The value for the {@code cellPath} attribute
+   * @param changes The value for the {@code changes} attribute
+   * @return An immutable WatchmanMultiplePathEvent instance
+   */
+  public static ImmutableWatchmanMultiplePathEvent of(AbsPath cellPath, ImmutableList<WatchmanMultiplePathEvent.Change> changes) {
+    return of(cellPath, (Iterable<? extends WatchmanMultiplePathEvent.Change>) changes);
+  }
+
+  /**
+   * Construct a new immutable {@code WatchmanMultiplePathEvent} instance.
+   * @param cellPath The value for the {@code cellPath} attribute
+   * @param changes The value for the {@code changes} attribute
+   * @return An immutable WatchmanMultiplePathEvent instance
+   */
+  public static ImmutableWatchmanMultiplePathEvent of(AbsPath cellPath, Iterable<? extends WatchmanMultiplePathEvent.Change> changes) {
+    return new ImmutableWatchmanMultiplePathEvent(cellPath, changes);
+  }
+}
@@ -0,0 +1,134 @@
+package com.facebook.buck.json;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildFileSyntaxError}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildFileSyntaxError.of()}.
+ */
+@Generated(from = "BuildFileSyntaxError", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildFileSyntaxError implements BuildFileSyntaxError {
+  private final Path fileName;
+  private final Number lineNumber;
+  private final @Nullable Number offset;
+  private final String text;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableBuildFileSyntaxError(
+      Path fileName,
+      Number lineNumber,
+      Optional<? extends Number> offset,
+      String text) {
+    this.fileName = Objects.requireNonNull(fileName, "fileName");
+    this.lineNumber = Objects.requireNonNull(lineNumber, "lineNumber");
+    this.offset = offset.orElse(null);
+    this.text = Objects.requireNonNull(text, "text");
+  }
+
+  /**
+   * @return The value of the {@code fileName} attribute
+   */
+  @Override
+  public Path getFileName() {
+    return fileName;
+  }
+
+  /**
+   * @return The value of the {@code lineNumber} attribute
+   */
+  @Override
+  public Number getLineNumber() {
+    return lineNumber;
+  }
+
+  /**
+   * @return The value of the {@code offset} attribute
+   */
+  @Override
+  public Optional<Number> getOffset() {
+    return Optional.ofNullable(offset);
+  }
+
+  /**
+   * @return The value of the {@code text} attribute
+   */
+  @Override
+  public String getText() {
+    return text;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildFileSyntaxError} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildFileSyntaxError
+        && equalTo((ImmutableBuildFileSyntaxError) another);
+  }
+
+  private boolean equalTo(ImmutableBuildFileSyntaxError another) {
+    return fileName.equals(another.fileName)
+        && lineNumber.equals(another.lineNumber)
+        && Objects.equals(offset, another.offset)
+        && text.equals(another.text);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code fileName}, {@code lineNumber}, {@code offset}, {@code text}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + fileName.hashCode();
+    h += (h << 5) + lineNumber.hashCode();
+    h += (h << 5) + Objects.hashCode(offset);
+    h += (h << 5) + text.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildFileSyntaxError} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildFileSyntaxError")
+        .omitNullValues()
+        .add("fileName", fileName)
+        .add("lineNumber", lineNumber)
+        .add("offset", offset)
+        .add("text", text)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildFileSyntaxError} instance.
+   * @param fileName The value for the {@code fileName} attribute
+   * @param lineNumber The value for the {@code lineNumber} attribute
+   * @param offset The value for the {@code offset} attribute
+   * @param text The value for the {@code text} attribute
+   * @return An immutable BuildFileSyntaxError instance
+   */
+  public static ImmutableBuildFileSyntaxError of(Path fileName, Number lineNumber, Optional<? extends Number> offset, String text) {
+    return new ImmutableBuildFileSyntaxError(fileName, lineNumber, offset, text);
+  }
+}
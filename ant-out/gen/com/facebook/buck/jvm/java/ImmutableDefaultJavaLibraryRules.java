@@ -0,0 +1,1440 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.rules.ActionGraphBuilder;
+import com.facebook.buck.core.rules.BuildRuleParams;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
+import com.facebook.buck.core.toolchain.ToolchainProvider;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.jvm.java.abi.AbiGenerationMode;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DefaultJavaLibraryRules}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new DefaultJavaLibraryRules.Builder()}.
+ */
+@Generated(from = "DefaultJavaLibraryRules", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableDefaultJavaLibraryRules extends DefaultJavaLibraryRules {
+  private final BuildTarget initialBuildTarget;
+  private final ProjectFilesystem projectFilesystem;
+  private final ToolchainProvider toolchainProvider;
+  private final BuildRuleParams initialParams;
+  private final ActionGraphBuilder actionGraphBuilder;
+  private final ConfiguredCompilerFactory configuredCompilerFactory;
+  private final JavaBuckConfig.UnusedDependenciesAction unusedDependenciesAction;
+  private final @Nullable JavaBuckConfig javaBuckConfig;
+  private final DefaultJavaLibraryRules.DefaultJavaLibraryConstructor constructor;
+  private final ImmutableSortedSet<SourcePath> srcs;
+  private final ImmutableSortedSet<SourcePath> resources;
+  private final @Nullable SourcePath proguardConfig;
+  private final ImmutableList<String> postprocessClassesCommands;
+  private final @Nullable Path resourcesRoot;
+  private final @Nullable SourcePath manifestFile;
+  private final @Nullable String mavenCoords;
+  private final ImmutableSortedSet<BuildTarget> tests;
+  private final RemoveClassesPatternsMatcher classesToRemoveFromJar;
+  private final boolean sourceOnlyAbisAllowed;
+  private final JavacOptions javacOptions;
+  private final @Nullable JavaLibraryDeps deps;
+  private final @Nullable JavaLibraryDescription.CoreArg args;
+
+  private ImmutableDefaultJavaLibraryRules(ImmutableDefaultJavaLibraryRules.Builder builder) {
+    this.initialBuildTarget = builder.initialBuildTarget;
+    this.projectFilesystem = builder.projectFilesystem;
+    this.toolchainProvider = builder.toolchainProvider;
+    this.initialParams = builder.initialParams;
+    this.actionGraphBuilder = builder.actionGraphBuilder;
+    this.configuredCompilerFactory = builder.configuredCompilerFactory;
+    this.unusedDependenciesAction = builder.unusedDependenciesAction;
+    this.javaBuckConfig = builder.javaBuckConfig;
+    this.srcs = builder.srcs.build();
+    this.resources = builder.resources.build();
+    this.proguardConfig = builder.proguardConfig;
+    this.postprocessClassesCommands = builder.postprocessClassesCommands.build();
+    this.resourcesRoot = builder.resourcesRoot;
+    this.manifestFile = builder.manifestFile;
+    this.mavenCoords = builder.mavenCoords;
+    this.tests = builder.tests.build();
+    this.javacOptions = builder.javacOptions;
+    this.deps = builder.deps;
+    this.args = builder.args;
+    if (builder.constructor != null) {
+      initShim.setConstructor(builder.constructor);
+    }
+    if (builder.classesToRemoveFromJar != null) {
+      initShim.setClassesToRemoveFromJar(builder.classesToRemoveFromJar);
+    }
+    if (builder.sourceOnlyAbisAllowedIsSet()) {
+      initShim.setSourceOnlyAbisAllowed(builder.sourceOnlyAbisAllowed);
+    }
+    this.constructor = initShim.getConstructor();
+    this.classesToRemoveFromJar = initShim.getClassesToRemoveFromJar();
+    this.sourceOnlyAbisAllowed = initShim.getSourceOnlyAbisAllowed();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "DefaultJavaLibraryRules", generator = "Immutables")
+  private final class InitShim {
+    private byte constructorBuildStage = STAGE_UNINITIALIZED;
+    private DefaultJavaLibraryRules.DefaultJavaLibraryConstructor constructor;
+
+    DefaultJavaLibraryRules.DefaultJavaLibraryConstructor getConstructor() {
+      if (constructorBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (constructorBuildStage == STAGE_UNINITIALIZED) {
+        constructorBuildStage = STAGE_INITIALIZING;
+        this.constructor = Objects.requireNonNull(ImmutableDefaultJavaLibraryRules.super.getConstructor(), "constructor");
+        constructorBuildStage = STAGE_INITIALIZED;
+      }
+      return this.constructor;
+    }
+
+    void setConstructor(DefaultJavaLibraryRules.DefaultJavaLibraryConstructor constructor) {
+      this.constructor = constructor;
+      constructorBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte classesToRemoveFromJarBuildStage = STAGE_UNINITIALIZED;
+    private RemoveClassesPatternsMatcher classesToRemoveFromJar;
+
+    RemoveClassesPatternsMatcher getClassesToRemoveFromJar() {
+      if (classesToRemoveFromJarBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (classesToRemoveFromJarBuildStage == STAGE_UNINITIALIZED) {
+        classesToRemoveFromJarBuildStage = STAGE_INITIALIZING;
+        this.classesToRemoveFromJar = Objects.requireNonNull(ImmutableDefaultJavaLibraryRules.super.getClassesToRemoveFromJar(), "classesToRemoveFromJar");
+        classesToRemoveFromJarBuildStage = STAGE_INITIALIZED;
+      }
+      return this.classesToRemoveFromJar;
+    }
+
+    void setClassesToRemoveFromJar(RemoveClassesPatternsMatcher classesToRemoveFromJar) {
+      this.classesToRemoveFromJar = classesToRemoveFromJar;
+      classesToRemoveFromJarBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte sourceOnlyAbisAllowedBuildStage = STAGE_UNINITIALIZED;
+    private boolean sourceOnlyAbisAllowed;
+
+    boolean getSourceOnlyAbisAllowed() {
+      if (sourceOnlyAbisAllowedBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (sourceOnlyAbisAllowedBuildStage == STAGE_UNINITIALIZED) {
+        sourceOnlyAbisAllowedBuildStage = STAGE_INITIALIZING;
+        this.sourceOnlyAbisAllowed = ImmutableDefaultJavaLibraryRules.super.getSourceOnlyAbisAllowed();
+        sourceOnlyAbisAllowedBuildStage = STAGE_INITIALIZED;
+      }
+      return this.sourceOnlyAbisAllowed;
+    }
+
+    void setSourceOnlyAbisAllowed(boolean sourceOnlyAbisAllowed) {
+      this.sourceOnlyAbisAllowed = sourceOnlyAbisAllowed;
+      sourceOnlyAbisAllowedBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (constructorBuildStage == STAGE_INITIALIZING) attributes.add("constructor");
+      if (classesToRemoveFromJarBuildStage == STAGE_INITIALIZING) attributes.add("classesToRemoveFromJar");
+      if (sourceOnlyAbisAllowedBuildStage == STAGE_INITIALIZING) attributes.add("sourceOnlyAbisAllowed");
+      return "Cannot build DefaultJavaLibraryRules, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code initialBuildTarget} attribute
+   */
+  @Override
+  BuildTarget getInitialBuildTarget() {
+    return initialBuildTarget;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystem} attribute
+   */
+  @Override
+  ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * @return The value of the {@code toolchainProvider} attribute
+   */
+  @Override
+  ToolchainProvider getToolchainProvider() {
+    return toolchainProvider;
+  }
+
+  /**
+   * @return The value of the {@code initialParams} attribute
+   */
+  @Override
+  BuildRuleParams getInitialParams() {
+    return initialParams;
+  }
+
+  /**
+   * @return The value of the {@code actionGraphBuilder} attribute
+   */
+  @Override
+  ActionGraphBuilder getActionGraphBuilder() {
+    return actionGraphBuilder;
+  }
+
+  /**
+   * @return The value of the {@code configuredCompilerFactory} attribute
+   */
+  @Override
+  ConfiguredCompilerFactory getConfiguredCompilerFactory() {
+    return configuredCompilerFactory;
+  }
+
+  /**
+   * @return The value of the {@code unusedDependenciesAction} attribute
+   */
+  @Override
+  JavaBuckConfig.UnusedDependenciesAction getUnusedDependenciesAction() {
+    return unusedDependenciesAction;
+  }
+
+  /**
+   * @return The value of the {@code javaBuckConfig} attribute
+   */
+  @Override
+  @Nullable JavaBuckConfig getJavaBuckConfig() {
+    return javaBuckConfig;
+  }
+
+  /**
+   * @return The value of the {@code constructor} attribute
+   */
+  @Override
+  DefaultJavaLibraryRules.DefaultJavaLibraryConstructor getConstructor() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getConstructor()
+        : this.constructor;
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  ImmutableSortedSet<SourcePath> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   * @return The value of the {@code resources} attribute
+   */
+  @Override
+  ImmutableSortedSet<SourcePath> getResources() {
+    return resources;
+  }
+
+  /**
+   * @return The value of the {@code proguardConfig} attribute
+   */
+  @Override
+  Optional<SourcePath> getProguardConfig() {
+    return Optional.ofNullable(proguardConfig);
+  }
+
+  /**
+   * @return The value of the {@code postprocessClassesCommands} attribute
+   */
+  @Override
+  ImmutableList<String> getPostprocessClassesCommands() {
+    return postprocessClassesCommands;
+  }
+
+  /**
+   * @return The value of the {@code resourcesRoot} attribute
+   */
+  @Override
+  Optional<Path> getResourcesRoot() {
+    return Optional.ofNullable(resourcesRoot);
+  }
+
+  /**
+   * @return The value of the {@code manifestFile} attribute
+   */
+  @Override
+  Optional<SourcePath> getManifestFile() {
+    return Optional.ofNullable(manifestFile);
+  }
+
+  /**
+   * @return The value of the {@code mavenCoords} attribute
+   */
+  @Override
+  Optional<String> getMavenCoords() {
+    return Optional.ofNullable(mavenCoords);
+  }
+
+  /**
+   * @return The value of the {@code tests} attribute
+   */
+  @Override
+  ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * @return The value of the {@code classesToRemoveFromJar} attribute
+   */
+  @Override
+  RemoveClassesPatternsMatcher getClassesToRemoveFromJar() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getClassesToRemoveFromJar()
+        : this.classesToRemoveFromJar;
+  }
+
+  /**
+   * @return The value of the {@code sourceOnlyAbisAllowed} attribute
+   */
+  @Override
+  boolean getSourceOnlyAbisAllowed() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getSourceOnlyAbisAllowed()
+        : this.sourceOnlyAbisAllowed;
+  }
+
+  /**
+   * @return The value of the {@code javacOptions} attribute
+   */
+  @Override
+  JavacOptions getJavacOptions() {
+    return javacOptions;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  @Nullable JavaLibraryDeps getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code args} attribute
+   */
+  @Override
+  @Nullable JavaLibraryDescription.CoreArg getArgs() {
+    return args;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDefaultJavaLibraryRules} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDefaultJavaLibraryRules
+        && equalTo((ImmutableDefaultJavaLibraryRules) another);
+  }
+
+  private boolean equalTo(ImmutableDefaultJavaLibraryRules another) {
+    return initialBuildTarget.equals(another.initialBuildTarget)
+        && projectFilesystem.equals(another.projectFilesystem)
+        && toolchainProvider.equals(another.toolchainProvider)
+        && initialParams.equals(another.initialParams)
+        && actionGraphBuilder.equals(another.actionGraphBuilder)
+        && configuredCompilerFactory.equals(another.configuredCompilerFactory)
+        && unusedDependenciesAction.equals(another.unusedDependenciesAction)
+        && Objects.equals(javaBuckConfig, another.javaBuckConfig)
+        && constructor.equals(another.constructor)
+        && srcs.equals(another.srcs)
+        && resources.equals(another.resources)
+        && Objects.equals(proguardConfig, another.proguardConfig)
+        && postprocessClassesCommands.equals(another.postprocessClassesCommands)
+        && Objects.equals(resourcesRoot, another.resourcesRoot)
+        && Objects.equals(manifestFile, another.manifestFile)
+        && Objects.equals(mavenCoords, another.mavenCoords)
+        && tests.equals(another.tests)
+        && classesToRemoveFromJar.equals(another.classesToRemoveFromJar)
+        && sourceOnlyAbisAllowed == another.sourceOnlyAbisAllowed
+        && javacOptions.equals(another.javacOptions)
+        && Objects.equals(deps, another.deps)
+        && Objects.equals(args, another.args);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code initialBuildTarget}, {@code projectFilesystem}, {@code toolchainProvider}, {@code initialParams}, {@code actionGraphBuilder}, {@code configuredCompilerFactory}, {@code unusedDependenciesAction}, {@code javaBuckConfig}, {@code constructor}, {@code srcs}, {@code resources}, {@code proguardConfig}, {@code postprocessClassesCommands}, {@code resourcesRoot}, {@code manifestFile}, {@code mavenCoords}, {@code tests}, {@code classesToRemoveFromJar}, {@code sourceOnlyAbisAllowed}, {@code javacOptions}, {@code deps}, {@code args}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + initialBuildTarget.hashCode();
+    h += (h << 5) + projectFilesystem.hashCode();
+    h += (h << 5) + toolchainProvider.hashCode();
+    h += (h << 5) + initialParams.hashCode();
+    h += (h << 5) + actionGraphBuilder.hashCode();
+    h += (h << 5) + configuredCompilerFactory.hashCode();
+    h += (h << 5) + unusedDependenciesAction.hashCode();
+    h += (h << 5) + Objects.hashCode(javaBuckConfig);
+    h += (h << 5) + constructor.hashCode();
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + resources.hashCode();
+    h += (h << 5) + Objects.hashCode(proguardConfig);
+    h += (h << 5) + postprocessClassesCommands.hashCode();
+    h += (h << 5) + Objects.hashCode(resourcesRoot);
+    h += (h << 5) + Objects.hashCode(manifestFile);
+    h += (h << 5) + Objects.hashCode(mavenCoords);
+    h += (h << 5) + tests.hashCode();
+    h += (h << 5) + classesToRemoveFromJar.hashCode();
+    h += (h << 5) + Booleans.hashCode(sourceOnlyAbisAllowed);
+    h += (h << 5) + javacOptions.hashCode();
+    h += (h << 5) + Objects.hashCode(deps);
+    h += (h << 5) + Objects.hashCode(args);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DefaultJavaLibraryRules} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DefaultJavaLibraryRules")
+        .omitNullValues()
+        .add("initialBuildTarget", initialBuildTarget)
+        .add("projectFilesystem", projectFilesystem)
+        .add("toolchainProvider", toolchainProvider)
+        .add("initialParams", initialParams)
+        .add("actionGraphBuilder", actionGraphBuilder)
+        .add("configuredCompilerFactory", configuredCompilerFactory)
+        .add("unusedDependenciesAction", unusedDependenciesAction)
+        .add("javaBuckConfig", javaBuckConfig)
+        .add("constructor", constructor)
+        .add("srcs", srcs)
+        .add("resources", resources)
+        .add("proguardConfig", proguardConfig)
+        .add("postprocessClassesCommands", postprocessClassesCommands)
+        .add("resourcesRoot", resourcesRoot)
+        .add("manifestFile", manifestFile)
+        .add("mavenCoords", mavenCoords)
+        .add("tests", tests)
+        .add("classesToRemoveFromJar", classesToRemoveFromJar)
+        .add("sourceOnlyAbisAllowed", sourceOnlyAbisAllowed)
+        .add("javacOptions", javacOptions)
+        .add("deps", deps)
+        .add("args", args)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long LIBRARY_TARGET_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient BuildTarget libraryTarget;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getLibraryTarget() libraryTarget} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code libraryTarget} attribute
+   */
+  @Override
+  public BuildTarget getLibraryTarget() {
+    if ((lazyInitBitmap & LIBRARY_TARGET_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & LIBRARY_TARGET_LAZY_INIT_BIT) == 0) {
+          this.libraryTarget = Objects.requireNonNull(super.getLibraryTarget(), "libraryTarget");
+          lazyInitBitmap |= LIBRARY_TARGET_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return libraryTarget;
+  }
+
+  private static final long SOURCE_PATH_RESOLVER_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient SourcePathResolverAdapter sourcePathResolver;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getSourcePathResolver() sourcePathResolver} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code sourcePathResolver} attribute
+   */
+  @Override
+  public SourcePathResolverAdapter getSourcePathResolver() {
+    if ((lazyInitBitmap & SOURCE_PATH_RESOLVER_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & SOURCE_PATH_RESOLVER_LAZY_INIT_BIT) == 0) {
+          this.sourcePathResolver = Objects.requireNonNull(super.getSourcePathResolver(), "sourcePathResolver");
+          lazyInitBitmap |= SOURCE_PATH_RESOLVER_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return sourcePathResolver;
+  }
+
+  private static final long ABI_JAR_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient BuildTarget abiJar;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getAbiJar() abiJar} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code abiJar} attribute
+   */
+  @Override
+  public BuildTarget getAbiJar() {
+    if ((lazyInitBitmap & ABI_JAR_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ABI_JAR_LAZY_INIT_BIT) == 0) {
+          this.abiJar = super.getAbiJar();
+          lazyInitBitmap |= ABI_JAR_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return abiJar;
+  }
+
+  private static final long SOURCE_ONLY_ABI_JAR_LAZY_INIT_BIT = 0x8L;
+
+  @SuppressWarnings("Immutable")
+  private transient BuildTarget sourceOnlyAbiJar;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getSourceOnlyAbiJar() sourceOnlyAbiJar} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code sourceOnlyAbiJar} attribute
+   */
+  @Override
+  public BuildTarget getSourceOnlyAbiJar() {
+    if ((lazyInitBitmap & SOURCE_ONLY_ABI_JAR_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & SOURCE_ONLY_ABI_JAR_LAZY_INIT_BIT) == 0) {
+          this.sourceOnlyAbiJar = super.getSourceOnlyAbiJar();
+          lazyInitBitmap |= SOURCE_ONLY_ABI_JAR_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return sourceOnlyAbiJar;
+  }
+
+  private static final long ABI_GENERATION_MODE_LAZY_INIT_BIT = 0x10L;
+
+  @SuppressWarnings("Immutable")
+  private transient AbiGenerationMode abiGenerationMode;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getAbiGenerationMode() abiGenerationMode} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code abiGenerationMode} attribute
+   */
+  @Override
+  public AbiGenerationMode getAbiGenerationMode() {
+    if ((lazyInitBitmap & ABI_GENERATION_MODE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ABI_GENERATION_MODE_LAZY_INIT_BIT) == 0) {
+          this.abiGenerationMode = Objects.requireNonNull(super.getAbiGenerationMode(), "abiGenerationMode");
+          lazyInitBitmap |= ABI_GENERATION_MODE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return abiGenerationMode;
+  }
+
+  private static final long SOURCE_ABI_VERIFICATION_MODE_LAZY_INIT_BIT = 0x20L;
+
+  @SuppressWarnings("Immutable")
+  private transient JavaBuckConfig.SourceAbiVerificationMode sourceAbiVerificationMode;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getSourceAbiVerificationMode() sourceAbiVerificationMode} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code sourceAbiVerificationMode} attribute
+   */
+  @Override
+  public JavaBuckConfig.SourceAbiVerificationMode getSourceAbiVerificationMode() {
+    if ((lazyInitBitmap & SOURCE_ABI_VERIFICATION_MODE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & SOURCE_ABI_VERIFICATION_MODE_LAZY_INIT_BIT) == 0) {
+          this.sourceAbiVerificationMode = Objects.requireNonNull(super.getSourceAbiVerificationMode(), "sourceAbiVerificationMode");
+          lazyInitBitmap |= SOURCE_ABI_VERIFICATION_MODE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return sourceAbiVerificationMode;
+  }
+
+  private static final long ABI_COMPATIBILITY_MODE_LAZY_INIT_BIT = 0x40L;
+
+  @SuppressWarnings("Immutable")
+  private transient AbiGenerationMode abiCompatibilityMode;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getAbiCompatibilityMode() abiCompatibilityMode} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code abiCompatibilityMode} attribute
+   */
+  @Override
+  public AbiGenerationMode getAbiCompatibilityMode() {
+    if ((lazyInitBitmap & ABI_COMPATIBILITY_MODE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ABI_COMPATIBILITY_MODE_LAZY_INIT_BIT) == 0) {
+          this.abiCompatibilityMode = Objects.requireNonNull(super.getAbiCompatibilityMode(), "abiCompatibilityMode");
+          lazyInitBitmap |= ABI_COMPATIBILITY_MODE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return abiCompatibilityMode;
+  }
+
+  private static final long CLASSPATHS_LAZY_INIT_BIT = 0x80L;
+
+  @SuppressWarnings("Immutable")
+  private transient DefaultJavaLibraryClasspaths classpaths;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getClasspaths() classpaths} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code classpaths} attribute
+   */
+  @Override
+  public DefaultJavaLibraryClasspaths getClasspaths() {
+    if ((lazyInitBitmap & CLASSPATHS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & CLASSPATHS_LAZY_INIT_BIT) == 0) {
+          this.classpaths = Objects.requireNonNull(super.getClasspaths(), "classpaths");
+          lazyInitBitmap |= CLASSPATHS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return classpaths;
+  }
+
+  private static final long CLASSPATHS_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT = 0x100L;
+
+  @SuppressWarnings("Immutable")
+  private transient DefaultJavaLibraryClasspaths classpathsForSourceOnlyAbi;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getClasspathsForSourceOnlyAbi() classpathsForSourceOnlyAbi} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code classpathsForSourceOnlyAbi} attribute
+   */
+  @Override
+  public DefaultJavaLibraryClasspaths getClasspathsForSourceOnlyAbi() {
+    if ((lazyInitBitmap & CLASSPATHS_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & CLASSPATHS_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT) == 0) {
+          this.classpathsForSourceOnlyAbi = Objects.requireNonNull(super.getClasspathsForSourceOnlyAbi(), "classpathsForSourceOnlyAbi");
+          lazyInitBitmap |= CLASSPATHS_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return classpathsForSourceOnlyAbi;
+  }
+
+  private static final long CONFIGURED_COMPILER_LAZY_INIT_BIT = 0x200L;
+
+  @SuppressWarnings("Immutable")
+  private transient CompileToJarStepFactory configuredCompiler;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getConfiguredCompiler() configuredCompiler} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code configuredCompiler} attribute
+   */
+  @Override
+  public CompileToJarStepFactory getConfiguredCompiler() {
+    if ((lazyInitBitmap & CONFIGURED_COMPILER_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & CONFIGURED_COMPILER_LAZY_INIT_BIT) == 0) {
+          this.configuredCompiler = Objects.requireNonNull(super.getConfiguredCompiler(), "configuredCompiler");
+          lazyInitBitmap |= CONFIGURED_COMPILER_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return configuredCompiler;
+  }
+
+  private static final long CONFIGURED_COMPILER_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT = 0x400L;
+
+  @SuppressWarnings("Immutable")
+  private transient CompileToJarStepFactory configuredCompilerForSourceOnlyAbi;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getConfiguredCompilerForSourceOnlyAbi() configuredCompilerForSourceOnlyAbi} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code configuredCompilerForSourceOnlyAbi} attribute
+   */
+  @Override
+  public CompileToJarStepFactory getConfiguredCompilerForSourceOnlyAbi() {
+    if ((lazyInitBitmap & CONFIGURED_COMPILER_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & CONFIGURED_COMPILER_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT) == 0) {
+          this.configuredCompilerForSourceOnlyAbi = Objects.requireNonNull(super.getConfiguredCompilerForSourceOnlyAbi(), "configuredCompilerForSourceOnlyAbi");
+          lazyInitBitmap |= CONFIGURED_COMPILER_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return configuredCompilerForSourceOnlyAbi;
+  }
+
+  private static final long JAVAC_OPTIONS_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT = 0x800L;
+
+  @SuppressWarnings("Immutable")
+  private transient JavacOptions javacOptionsForSourceOnlyAbi;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getJavacOptionsForSourceOnlyAbi() javacOptionsForSourceOnlyAbi} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code javacOptionsForSourceOnlyAbi} attribute
+   */
+  @Override
+  public JavacOptions getJavacOptionsForSourceOnlyAbi() {
+    if ((lazyInitBitmap & JAVAC_OPTIONS_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & JAVAC_OPTIONS_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT) == 0) {
+          this.javacOptionsForSourceOnlyAbi = Objects.requireNonNull(super.getJavacOptionsForSourceOnlyAbi(), "javacOptionsForSourceOnlyAbi");
+          lazyInitBitmap |= JAVAC_OPTIONS_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return javacOptionsForSourceOnlyAbi;
+  }
+
+  private static final long COMPILE_AGAINST_LIBRARY_TYPE_LAZY_INIT_BIT = 0x1000L;
+
+  @SuppressWarnings("Immutable")
+  private transient CompileAgainstLibraryType compileAgainstLibraryType;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getCompileAgainstLibraryType() compileAgainstLibraryType} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code compileAgainstLibraryType} attribute
+   */
+  @Override
+  public CompileAgainstLibraryType getCompileAgainstLibraryType() {
+    if ((lazyInitBitmap & COMPILE_AGAINST_LIBRARY_TYPE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & COMPILE_AGAINST_LIBRARY_TYPE_LAZY_INIT_BIT) == 0) {
+          this.compileAgainstLibraryType = Objects.requireNonNull(super.getCompileAgainstLibraryType(), "compileAgainstLibraryType");
+          lazyInitBitmap |= COMPILE_AGAINST_LIBRARY_TYPE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return compileAgainstLibraryType;
+  }
+
+  private static final long JAR_BUILD_STEPS_FACTORY_LAZY_INIT_BIT = 0x2000L;
+
+  @SuppressWarnings("Immutable")
+  private transient JarBuildStepsFactory jarBuildStepsFactory;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getJarBuildStepsFactory() jarBuildStepsFactory} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code jarBuildStepsFactory} attribute
+   */
+  @Override
+  public JarBuildStepsFactory getJarBuildStepsFactory() {
+    if ((lazyInitBitmap & JAR_BUILD_STEPS_FACTORY_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & JAR_BUILD_STEPS_FACTORY_LAZY_INIT_BIT) == 0) {
+          this.jarBuildStepsFactory = Objects.requireNonNull(super.getJarBuildStepsFactory(), "jarBuildStepsFactory");
+          lazyInitBitmap |= JAR_BUILD_STEPS_FACTORY_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return jarBuildStepsFactory;
+  }
+
+  private static final long JAR_BUILD_STEPS_FACTORY_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT = 0x4000L;
+
+  @SuppressWarnings("Immutable")
+  private transient JarBuildStepsFactory jarBuildStepsFactoryForSourceOnlyAbi;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getJarBuildStepsFactoryForSourceOnlyAbi() jarBuildStepsFactoryForSourceOnlyAbi} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code jarBuildStepsFactoryForSourceOnlyAbi} attribute
+   */
+  @Override
+  public JarBuildStepsFactory getJarBuildStepsFactoryForSourceOnlyAbi() {
+    if ((lazyInitBitmap & JAR_BUILD_STEPS_FACTORY_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & JAR_BUILD_STEPS_FACTORY_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT) == 0) {
+          this.jarBuildStepsFactoryForSourceOnlyAbi = Objects.requireNonNull(super.getJarBuildStepsFactoryForSourceOnlyAbi(), "jarBuildStepsFactoryForSourceOnlyAbi");
+          lazyInitBitmap |= JAR_BUILD_STEPS_FACTORY_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return jarBuildStepsFactoryForSourceOnlyAbi;
+  }
+
+
+  private static ImmutableDefaultJavaLibraryRules validate(ImmutableDefaultJavaLibraryRules instance) {
+    instance.validateResources();
+    return instance;
+  }
+
+  /**
+   * Builds instances of type {@link DefaultJavaLibraryRules DefaultJavaLibraryRules}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "DefaultJavaLibraryRules", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_INITIAL_BUILD_TARGET = 0x1L;
+    private static final long INIT_BIT_PROJECT_FILESYSTEM = 0x2L;
+    private static final long INIT_BIT_TOOLCHAIN_PROVIDER = 0x4L;
+    private static final long INIT_BIT_INITIAL_PARAMS = 0x8L;
+    private static final long INIT_BIT_ACTION_GRAPH_BUILDER = 0x10L;
+    private static final long INIT_BIT_CONFIGURED_COMPILER_FACTORY = 0x20L;
+    private static final long INIT_BIT_UNUSED_DEPENDENCIES_ACTION = 0x40L;
+    private static final long INIT_BIT_JAVAC_OPTIONS = 0x80L;
+    private static final long OPT_BIT_SOURCE_ONLY_ABIS_ALLOWED = 0x1L;
+    private long initBits = 0xffL;
+    private long optBits;
+
+    protected @Nullable BuildTarget initialBuildTarget;
+    protected @Nullable ProjectFilesystem projectFilesystem;
+    protected @Nullable ToolchainProvider toolchainProvider;
+    protected @Nullable BuildRuleParams initialParams;
+    protected @Nullable ActionGraphBuilder actionGraphBuilder;
+    protected @Nullable ConfiguredCompilerFactory configuredCompilerFactory;
+    protected @Nullable JavaBuckConfig.UnusedDependenciesAction unusedDependenciesAction;
+    protected @Nullable JavaBuckConfig javaBuckConfig;
+    protected @Nullable DefaultJavaLibraryRules.DefaultJavaLibraryConstructor constructor;
+    protected ImmutableSortedSet.Builder<SourcePath> srcs = ImmutableSortedSet.naturalOrder();
+    protected ImmutableSortedSet.Builder<SourcePath> resources = ImmutableSortedSet.naturalOrder();
+    protected @Nullable SourcePath proguardConfig;
+    protected ImmutableList.Builder<String> postprocessClassesCommands = ImmutableList.builder();
+    protected @Nullable Path resourcesRoot;
+    protected @Nullable SourcePath manifestFile;
+    protected @Nullable String mavenCoords;
+    protected ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+    protected @Nullable RemoveClassesPatternsMatcher classesToRemoveFromJar;
+    protected boolean sourceOnlyAbisAllowed;
+    protected @Nullable JavacOptions javacOptions;
+    protected @Nullable JavaLibraryDeps deps;
+    protected @Nullable JavaLibraryDescription.CoreArg args;
+
+    /**
+     * Creates a builder for {@link DefaultJavaLibraryRules DefaultJavaLibraryRules} instances.
+     * @param initialBuildTarget {@code initialBuildTarget} parameter
+     * @param projectFilesystem {@code projectFilesystem} parameter
+     * @param toolchainProvider {@code toolchainProvider} parameter
+     * @param initialParams {@code initialParams} parameter
+     * @param actionGraphBuilder {@code actionGraphBuilder} parameter
+     * @param configuredCompilerFactory {@code configuredCompilerFactory} parameter
+     * @param unusedDependenciesAction {@code unusedDependenciesAction} parameter
+     * @param javaBuckConfig {@code javaBuckConfig} parameter, can be {@code null}
+     * @param args {@code args} parameter, can be {@code null}
+     */
+    public Builder(BuildTarget initialBuildTarget, ProjectFilesystem projectFilesystem, ToolchainProvider toolchainProvider, BuildRuleParams initialParams, ActionGraphBuilder actionGraphBuilder, ConfiguredCompilerFactory configuredCompilerFactory, JavaBuckConfig.UnusedDependenciesAction unusedDependenciesAction, @Nullable JavaBuckConfig javaBuckConfig, @Nullable JavaLibraryDescription.CoreArg args) {
+      if (!(this instanceof DefaultJavaLibraryRules.Builder)) {
+        throw new UnsupportedOperationException("Use: new DefaultJavaLibraryRules.Builder()");
+      }
+      setInitialBuildTarget(initialBuildTarget);
+      setProjectFilesystem(projectFilesystem);
+      setToolchainProvider(toolchainProvider);
+      setInitialParams(initialParams);
+      setActionGraphBuilder(actionGraphBuilder);
+      setConfiguredCompilerFactory(configuredCompilerFactory);
+      setUnusedDependenciesAction(unusedDependenciesAction);
+      setJavaBuckConfig(javaBuckConfig);
+      setArgs(args);
+    }
+
+    Builder() {
+      if (!(this instanceof DefaultJavaLibraryRules.Builder)) {
+        throw new UnsupportedOperationException("Use: new DefaultJavaLibraryRules.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DefaultJavaLibraryRules} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder from(DefaultJavaLibraryRules instance) {
+      Objects.requireNonNull(instance, "instance");
+      setInitialBuildTarget(instance.getInitialBuildTarget());
+      setProjectFilesystem(instance.getProjectFilesystem());
+      setToolchainProvider(instance.getToolchainProvider());
+      setInitialParams(instance.getInitialParams());
+      setActionGraphBuilder(instance.getActionGraphBuilder());
+      setConfiguredCompilerFactory(instance.getConfiguredCompilerFactory());
+      setUnusedDependenciesAction(instance.getUnusedDependenciesAction());
+      @Nullable JavaBuckConfig javaBuckConfigValue = instance.getJavaBuckConfig();
+      if (javaBuckConfigValue != null) {
+        setJavaBuckConfig(javaBuckConfigValue);
+      }
+      setConstructor(instance.getConstructor());
+      addAllSrcs(instance.getSrcs());
+      addAllResources(instance.getResources());
+      Optional<SourcePath> proguardConfigOptional = instance.getProguardConfig();
+      if (proguardConfigOptional.isPresent()) {
+        setProguardConfig(proguardConfigOptional);
+      }
+      addAllPostprocessClassesCommands(instance.getPostprocessClassesCommands());
+      Optional<Path> resourcesRootOptional = instance.getResourcesRoot();
+      if (resourcesRootOptional.isPresent()) {
+        setResourcesRoot(resourcesRootOptional);
+      }
+      Optional<SourcePath> manifestFileOptional = instance.getManifestFile();
+      if (manifestFileOptional.isPresent()) {
+        setManifestFile(manifestFileOptional);
+      }
+      Optional<String> mavenCoordsOptional = instance.getMavenCoords();
+      if (mavenCoordsOptional.isPresent()) {
+        setMavenCoords(mavenCoordsOptional);
+      }
+      addAllTests(instance.getTests());
+      setClassesToRemoveFromJar(instance.getClassesToRemoveFromJar());
+      setSourceOnlyAbisAllowed(instance.getSourceOnlyAbisAllowed());
+      setJavacOptions(instance.getJavacOptions());
+      @Nullable JavaLibraryDeps depsValue = instance.getDeps();
+      if (depsValue != null) {
+        setDeps(depsValue);
+      }
+      @Nullable JavaLibraryDescription.CoreArg argsValue = instance.getArgs();
+      if (argsValue != null) {
+        setArgs(argsValue);
+      }
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getInitialBuildTarget() initialBuildTarget} attribute.
+     * @param initialBuildTarget The value for initialBuildTarget 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final DefaultJavaLibraryRules.Builder setInitialBuildTarget(BuildTarget initialBuildTarget) {
+      this.initialBuildTarget = Objects.requireNonNull(initialBuildTarget, "initialBuildTarget");
+      initBits &= ~INIT_BIT_INITIAL_BUILD_TARGET;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getProjectFilesystem() projectFilesystem} attribute.
+     * @param projectFilesystem The value for projectFilesystem 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final DefaultJavaLibraryRules.Builder setProjectFilesystem(ProjectFilesystem projectFilesystem) {
+      this.projectFilesystem = Objects.requireNonNull(projectFilesystem, "projectFilesystem");
+      initBits &= ~INIT_BIT_PROJECT_FILESYSTEM;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getToolchainProvider() toolchainProvider} attribute.
+     * @param toolchainProvider The value for toolchainProvider 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final DefaultJavaLibraryRules.Builder setToolchainProvider(ToolchainProvider toolchainProvider) {
+      this.toolchainProvider = Objects.requireNonNull(toolchainProvider, "toolchainProvider");
+      initBits &= ~INIT_BIT_TOOLCHAIN_PROVIDER;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getInitialParams() initialParams} attribute.
+     * @param initialParams The value for initialParams 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final DefaultJavaLibraryRules.Builder setInitialParams(BuildRuleParams initialParams) {
+      this.initialParams = Objects.requireNonNull(initialParams, "initialParams");
+      initBits &= ~INIT_BIT_INITIAL_PARAMS;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getActionGraphBuilder() actionGraphBuilder} attribute.
+     * @param actionGraphBuilder The value for actionGraphBuilder 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final DefaultJavaLibraryRules.Builder setActionGraphBuilder(ActionGraphBuilder actionGraphBuilder) {
+      this.actionGraphBuilder = Objects.requireNonNull(actionGraphBuilder, "actionGraphBuilder");
+      initBits &= ~INIT_BIT_ACTION_GRAPH_BUILDER;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getConfiguredCompilerFactory() configuredCompilerFactory} attribute.
+     * @param configuredCompilerFactory The value for configuredCompilerFactory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final DefaultJavaLibraryRules.Builder setConfiguredCompilerFactory(ConfiguredCompilerFactory configuredCompilerFactory) {
+      this.configuredCompilerFactory = Objects.requireNonNull(configuredCompilerFactory, "configuredCompilerFactory");
+      initBits &= ~INIT_BIT_CONFIGURED_COMPILER_FACTORY;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getUnusedDependenciesAction() unusedDependenciesAction} attribute.
+     * @param unusedDependenciesAction The value for unusedDependenciesAction 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final DefaultJavaLibraryRules.Builder setUnusedDependenciesAction(JavaBuckConfig.UnusedDependenciesAction unusedDependenciesAction) {
+      this.unusedDependenciesAction = Objects.requireNonNull(unusedDependenciesAction, "unusedDependenciesAction");
+      initBits &= ~INIT_BIT_UNUSED_DEPENDENCIES_ACTION;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getJavaBuckConfig() javaBuckConfig} attribute.
+     * @param javaBuckConfig The value for javaBuckConfig (can be {@code null})
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final DefaultJavaLibraryRules.Builder setJavaBuckConfig(@Nullable JavaBuckConfig javaBuckConfig) {
+      this.javaBuckConfig = javaBuckConfig;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getConstructor() constructor} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link DefaultJavaLibraryRules#getConstructor() constructor}.</em>
+     * @param constructor The value for constructor 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setConstructor(DefaultJavaLibraryRules.DefaultJavaLibraryConstructor constructor) {
+      this.constructor = Objects.requireNonNull(constructor, "constructor");
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link DefaultJavaLibraryRules#getSrcs() srcs} sortedSet.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addSrcs(SourcePath element) {
+      this.srcs.add(element);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link DefaultJavaLibraryRules#getSrcs() srcs} sortedSet.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addSrcs(SourcePath... elements) {
+      this.srcs.addAll(Arrays.asList(elements));
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link DefaultJavaLibraryRules#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs = ImmutableSortedSet.naturalOrder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link DefaultJavaLibraryRules#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addAllSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs.addAll(elements);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link DefaultJavaLibraryRules#getResources() resources} sortedSet.
+     * @param element A resources element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addResources(SourcePath element) {
+      this.resources.add(element);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link DefaultJavaLibraryRules#getResources() resources} sortedSet.
+     * @param elements An array of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addResources(SourcePath... elements) {
+      this.resources.addAll(Arrays.asList(elements));
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link DefaultJavaLibraryRules#getResources() resources} sortedSet.
+     * @param elements An iterable of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setResources(Iterable<? extends SourcePath> elements) {
+      this.resources = ImmutableSortedSet.naturalOrder();
+      return addAllResources(elements);
+    }
+
+    /**
+     * Adds elements to {@link DefaultJavaLibraryRules#getResources() resources} sortedSet.
+     * @param elements An iterable of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addAllResources(Iterable<? extends SourcePath> elements) {
+      this.resources.addAll(elements);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefaultJavaLibraryRules#getProguardConfig() proguardConfig} to proguardConfig.
+     * @param proguardConfig The value for proguardConfig
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setProguardConfig(SourcePath proguardConfig) {
+      this.proguardConfig = Objects.requireNonNull(proguardConfig, "proguardConfig");
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefaultJavaLibraryRules#getProguardConfig() proguardConfig} to proguardConfig.
+     * @param proguardConfig The value for proguardConfig
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setProguardConfig(Optional<? extends SourcePath> proguardConfig) {
+      this.proguardConfig = proguardConfig.orElse(null);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link DefaultJavaLibraryRules#getPostprocessClassesCommands() postprocessClassesCommands} list.
+     * @param element A postprocessClassesCommands element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addPostprocessClassesCommands(String element) {
+      this.postprocessClassesCommands.add(element);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link DefaultJavaLibraryRules#getPostprocessClassesCommands() postprocessClassesCommands} list.
+     * @param elements An array of postprocessClassesCommands elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addPostprocessClassesCommands(String... elements) {
+      this.postprocessClassesCommands.add(elements);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link DefaultJavaLibraryRules#getPostprocessClassesCommands() postprocessClassesCommands} list.
+     * @param elements An iterable of postprocessClassesCommands elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setPostprocessClassesCommands(Iterable<String> elements) {
+      this.postprocessClassesCommands = ImmutableList.builder();
+      return addAllPostprocessClassesCommands(elements);
+    }
+
+    /**
+     * Adds elements to {@link DefaultJavaLibraryRules#getPostprocessClassesCommands() postprocessClassesCommands} list.
+     * @param elements An iterable of postprocessClassesCommands elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addAllPostprocessClassesCommands(Iterable<String> elements) {
+      this.postprocessClassesCommands.addAll(elements);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefaultJavaLibraryRules#getResourcesRoot() resourcesRoot} to resourcesRoot.
+     * @param resourcesRoot The value for resourcesRoot
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setResourcesRoot(Path resourcesRoot) {
+      this.resourcesRoot = Objects.requireNonNull(resourcesRoot, "resourcesRoot");
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefaultJavaLibraryRules#getResourcesRoot() resourcesRoot} to resourcesRoot.
+     * @param resourcesRoot The value for resourcesRoot
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setResourcesRoot(Optional<? extends Path> resourcesRoot) {
+      this.resourcesRoot = resourcesRoot.orElse(null);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefaultJavaLibraryRules#getManifestFile() manifestFile} to manifestFile.
+     * @param manifestFile The value for manifestFile
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setManifestFile(SourcePath manifestFile) {
+      this.manifestFile = Objects.requireNonNull(manifestFile, "manifestFile");
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefaultJavaLibraryRules#getManifestFile() manifestFile} to manifestFile.
+     * @param manifestFile The value for manifestFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setManifestFile(Optional<? extends SourcePath> manifestFile) {
+      this.manifestFile = manifestFile.orElse(null);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefaultJavaLibraryRules#getMavenCoords() mavenCoords} to mavenCoords.
+     * @param mavenCoords The value for mavenCoords
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setMavenCoords(String mavenCoords) {
+      this.mavenCoords = Objects.requireNonNull(mavenCoords, "mavenCoords");
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefaultJavaLibraryRules#getMavenCoords() mavenCoords} to mavenCoords.
+     * @param mavenCoords The value for mavenCoords
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setMavenCoords(Optional<String> mavenCoords) {
+      this.mavenCoords = mavenCoords.orElse(null);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link DefaultJavaLibraryRules#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link DefaultJavaLibraryRules#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link DefaultJavaLibraryRules#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link DefaultJavaLibraryRules#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getClassesToRemoveFromJar() classesToRemoveFromJar} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link DefaultJavaLibraryRules#getClassesToRemoveFromJar() classesToRemoveFromJar}.</em>
+     * @param classesToRemoveFromJar The value for classesToRemoveFromJar 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setClassesToRemoveFromJar(RemoveClassesPatternsMatcher classesToRemoveFromJar) {
+      this.classesToRemoveFromJar = Objects.requireNonNull(classesToRemoveFromJar, "classesToRemoveFromJar");
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getSourceOnlyAbisAllowed() sourceOnlyAbisAllowed} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link DefaultJavaLibraryRules#getSourceOnlyAbisAllowed() sourceOnlyAbisAllowed}.</em>
+     * @param sourceOnlyAbisAllowed The value for sourceOnlyAbisAllowed 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setSourceOnlyAbisAllowed(boolean sourceOnlyAbisAllowed) {
+      this.sourceOnlyAbisAllowed = sourceOnlyAbisAllowed;
+      optBits |= OPT_BIT_SOURCE_ONLY_ABIS_ALLOWED;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getJavacOptions() javacOptions} attribute.
+     * @param javacOptions The value for javacOptions 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setJavacOptions(JavacOptions javacOptions) {
+      this.javacOptions = Objects.requireNonNull(javacOptions, "javacOptions");
+      initBits &= ~INIT_BIT_JAVAC_OPTIONS;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getDeps() deps} attribute.
+     * @param deps The value for deps (can be {@code null})
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setDeps(@Nullable JavaLibraryDeps deps) {
+      this.deps = deps;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getArgs() args} attribute.
+     * @param args The value for args (can be {@code null})
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final DefaultJavaLibraryRules.Builder setArgs(@Nullable JavaLibraryDescription.CoreArg args) {
+      this.args = args;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link DefaultJavaLibraryRules DefaultJavaLibraryRules}.
+     * @return An immutable instance of DefaultJavaLibraryRules
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DefaultJavaLibraryRules build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return ImmutableDefaultJavaLibraryRules.validate(new ImmutableDefaultJavaLibraryRules(this));
+    }
+
+    private boolean sourceOnlyAbisAllowedIsSet() {
+      return (optBits & OPT_BIT_SOURCE_ONLY_ABIS_ALLOWED) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_INITIAL_BUILD_TARGET) != 0) attributes.add("initialBuildTarget");
+      if ((initBits & INIT_BIT_PROJECT_FILESYSTEM) != 0) attributes.add("projectFilesystem");
+      if ((initBits & INIT_BIT_TOOLCHAIN_PROVIDER) != 0) attributes.add("toolchainProvider");
+      if ((initBits & INIT_BIT_INITIAL_PARAMS) != 0) attributes.add("initialParams");
+      if ((initBits & INIT_BIT_ACTION_GRAPH_BUILDER) != 0) attributes.add("actionGraphBuilder");
+      if ((initBits & INIT_BIT_CONFIGURED_COMPILER_FACTORY) != 0) attributes.add("configuredCompilerFactory");
+      if ((initBits & INIT_BIT_UNUSED_DEPENDENCIES_ACTION) != 0) attributes.add("unusedDependenciesAction");
+      if ((initBits & INIT_BIT_JAVAC_OPTIONS) != 0) attributes.add("javacOptions");
+      return "Cannot build DefaultJavaLibraryRules, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.toolchain.toolprovider.ToolProvider;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link JavaOptions}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableJavaOptions.of()}.
+ */
+@Generated(from = "JavaOptions", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableJavaOptions extends JavaOptions {
+  private final ToolProvider javaRuntimeProvider;
+
+  private ImmutableJavaOptions(ToolProvider javaRuntimeProvider) {
+    this.javaRuntimeProvider = Objects.requireNonNull(javaRuntimeProvider, "javaRuntimeProvider");
+  }
+
+  /**
+   * @return The value of the {@code javaRuntimeProvider} attribute
+   */
+  @Override
+  public ToolProvider getJavaRuntimeProvider() {
+    return javaRuntimeProvider;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableJavaOptions} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableJavaOptions
+        && equalTo((ImmutableJavaOptions) another);
+  }
+
+  private boolean equalTo(ImmutableJavaOptions another) {
+    return javaRuntimeProvider.equals(another.javaRuntimeProvider);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code javaRuntimeProvider}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + javaRuntimeProvider.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavaOptions} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavaOptions")
+        .omitNullValues()
+        .add("javaRuntimeProvider", javaRuntimeProvider)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code JavaOptions} instance.
+   * @param javaRuntimeProvider The value for the {@code javaRuntimeProvider} attribute
+   * @return An immutable JavaOptions instance
+   */
+  public static ImmutableJavaOptions of(ToolProvider javaRuntimeProvider) {
+    return new ImmutableJavaOptions(javaRuntimeProvider);
+  }
+}
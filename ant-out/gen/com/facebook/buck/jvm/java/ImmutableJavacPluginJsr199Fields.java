@@ -0,0 +1,133 @@
+package com.facebook.buck.jvm.java;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.net.URL;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link JavacPluginJsr199Fields}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableJavacPluginJsr199Fields.of()}.
+ */
+@Generated(from = "JavacPluginJsr199Fields", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableJavacPluginJsr199Fields extends JavacPluginJsr199Fields {
+  private final boolean canReuseClassLoader;
+  private final ImmutableSortedSet<String> processorNames;
+  private final ImmutableList<URL> classpath;
+
+  private ImmutableJavacPluginJsr199Fields(
+      boolean canReuseClassLoader,
+      Iterable<String> processorNames,
+      Iterable<? extends URL> classpath) {
+    this.canReuseClassLoader = canReuseClassLoader;
+    this.processorNames = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        processorNames);
+    this.classpath = ImmutableList.copyOf(classpath);
+  }
+
+  /**
+   * @return The value of the {@code canReuseClassLoader} attribute
+   */
+  @Override
+  public boolean getCanReuseClassLoader() {
+    return canReuseClassLoader;
+  }
+
+  /**
+   * @return The value of the {@code processorNames} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getProcessorNames() {
+    return processorNames;
+  }
+
+  /**
+   * @return The value of the {@code classpath} attribute
+   */
+  @Override
+  public ImmutableList<URL> getClasspath() {
+    return classpath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableJavacPluginJsr199Fields} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableJavacPluginJsr199Fields
+        && equalTo((ImmutableJavacPluginJsr199Fields) another);
+  }
+
+  private boolean equalTo(ImmutableJavacPluginJsr199Fields another) {
+    return canReuseClassLoader == another.canReuseClassLoader
+        && processorNames.equals(another.processorNames)
+        && classpath.equals(another.classpath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code canReuseClassLoader}, {@code processorNames}, {@code classpath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Booleans.hashCode(canReuseClassLoader);
+    h += (h << 5) + processorNames.hashCode();
+    h += (h << 5) + classpath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavacPluginJsr199Fields} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavacPluginJsr199Fields")
+        .omitNullValues()
+        .add("canReuseClassLoader", canReuseClassLoader)
+        .add("processorNames", processorNames)
+        .add("classpath", classpath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code JavacPluginJsr199Fields} instance.
+   * @param canReuseClassLoader The value for the {@code canReuseClassLoader} attribute
+   * @param processorNames The value for the {@code processorNames} attribute
+   * @param classpath The value for the {@code classpath} attribute
+   * @return An immutable JavacPluginJsr199Fields instance
+   */
+  public static ImmutableJavacPluginJsr199Fields of(boolean canReuseClassLoader, ImmutableSortedSet<String> processorNames, ImmutableList<URL> classpath) {
+    return of(canReuseClassLoader, (Iterable<String>) processorNames, (Iterable<? extends URL>) classpath);
+  }
+
+  /**
+   * Construct a new immutable {@code JavacPluginJsr199Fields} instance.
+   * @param canReuseClassLoader The value for the {@code canReuseClassLoader} attribute
+   * @param processorNames The value for the {@code processorNames} attribute
+   * @param classpath The value for the {@code classpath} attribute
+   * @return An immutable JavacPluginJsr199Fields instance
+   */
+  public static ImmutableJavacPluginJsr199Fields of(boolean canReuseClassLoader, Iterable<String> processorNames, Iterable<? extends URL> classpath) {
+    return new ImmutableJavacPluginJsr199Fields(canReuseClassLoader, processorNames, classpath);
+  }
+}
@@ -0,0 +1,258 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link JavacSpec}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new JavacSpec.Builder()}.
+ */
+@Generated(from = "JavacSpec", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableJavacSpec extends JavacSpec {
+  private final @Nullable SourcePath javacPath;
+  private final @Nullable SourcePath javacJarPath;
+  private final @Nullable String compilerClassName;
+
+  private ImmutableJavacSpec(ImmutableJavacSpec.Builder builder) {
+    this.javacPath = builder.javacPath;
+    this.javacJarPath = builder.javacJarPath;
+    this.compilerClassName = builder.compilerClassName;
+  }
+
+  /**
+   * @return The value of the {@code javacPath} attribute
+   */
+  @Override
+  public Optional<SourcePath> getJavacPath() {
+    return Optional.ofNullable(javacPath);
+  }
+
+  /**
+   * @return The value of the {@code javacJarPath} attribute
+   */
+  @Override
+  public Optional<SourcePath> getJavacJarPath() {
+    return Optional.ofNullable(javacJarPath);
+  }
+
+  /**
+   * @return The value of the {@code compilerClassName} attribute
+   */
+  @Override
+  public Optional<String> getCompilerClassName() {
+    return Optional.ofNullable(compilerClassName);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableJavacSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableJavacSpec
+        && equalTo((ImmutableJavacSpec) another);
+  }
+
+  private boolean equalTo(ImmutableJavacSpec another) {
+    return Objects.equals(javacPath, another.javacPath)
+        && Objects.equals(javacJarPath, another.javacJarPath)
+        && Objects.equals(compilerClassName, another.compilerClassName);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code javacPath}, {@code javacJarPath}, {@code compilerClassName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(javacPath);
+    h += (h << 5) + Objects.hashCode(javacJarPath);
+    h += (h << 5) + Objects.hashCode(compilerClassName);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavacSpec} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavacSpec")
+        .omitNullValues()
+        .add("javacPath", javacPath)
+        .add("javacJarPath", javacJarPath)
+        .add("compilerClassName", compilerClassName)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long JAVAC_PROVIDER_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient JavacProvider javacProvider;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link JavacSpec#getJavacProvider() javacProvider} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code javacProvider} attribute
+   */
+  @Override
+  public JavacProvider getJavacProvider() {
+    if ((lazyInitBitmap & JAVAC_PROVIDER_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & JAVAC_PROVIDER_LAZY_INIT_BIT) == 0) {
+          this.javacProvider = Objects.requireNonNull(super.getJavacProvider(), "javacProvider");
+          lazyInitBitmap |= JAVAC_PROVIDER_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return javacProvider;
+  }
+
+  /**
+   * Builds instances of type {@link JavacSpec JavacSpec}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "JavacSpec", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private @Nullable SourcePath javacPath;
+    private @Nullable SourcePath javacJarPath;
+    private @Nullable String compilerClassName;
+
+    /**
+     * Creates a builder for {@link JavacSpec JavacSpec} instances.
+     */
+    public Builder() {
+      if (!(this instanceof JavacSpec.Builder)) {
+        throw new UnsupportedOperationException("Use: new JavacSpec.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code JavacSpec} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacSpec.Builder from(JavacSpec instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<SourcePath> javacPathOptional = instance.getJavacPath();
+      if (javacPathOptional.isPresent()) {
+        setJavacPath(javacPathOptional);
+      }
+      Optional<SourcePath> javacJarPathOptional = instance.getJavacJarPath();
+      if (javacJarPathOptional.isPresent()) {
+        setJavacJarPath(javacJarPathOptional);
+      }
+      Optional<String> compilerClassNameOptional = instance.getCompilerClassName();
+      if (compilerClassNameOptional.isPresent()) {
+        setCompilerClassName(compilerClassNameOptional);
+      }
+      return (JavacSpec.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavacSpec#getJavacPath() javacPath} to javacPath.
+     * @param javacPath The value for javacPath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacSpec.Builder setJavacPath(SourcePath javacPath) {
+      this.javacPath = Objects.requireNonNull(javacPath, "javacPath");
+      return (JavacSpec.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavacSpec#getJavacPath() javacPath} to javacPath.
+     * @param javacPath The value for javacPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacSpec.Builder setJavacPath(Optional<? extends SourcePath> javacPath) {
+      this.javacPath = javacPath.orElse(null);
+      return (JavacSpec.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavacSpec#getJavacJarPath() javacJarPath} to javacJarPath.
+     * @param javacJarPath The value for javacJarPath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacSpec.Builder setJavacJarPath(SourcePath javacJarPath) {
+      this.javacJarPath = Objects.requireNonNull(javacJarPath, "javacJarPath");
+      return (JavacSpec.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavacSpec#getJavacJarPath() javacJarPath} to javacJarPath.
+     * @param javacJarPath The value for javacJarPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacSpec.Builder setJavacJarPath(Optional<? extends SourcePath> javacJarPath) {
+      this.javacJarPath = javacJarPath.orElse(null);
+      return (JavacSpec.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavacSpec#getCompilerClassName() compilerClassName} to compilerClassName.
+     * @param compilerClassName The value for compilerClassName
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacSpec.Builder setCompilerClassName(String compilerClassName) {
+      this.compilerClassName = Objects.requireNonNull(compilerClassName, "compilerClassName");
+      return (JavacSpec.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavacSpec#getCompilerClassName() compilerClassName} to compilerClassName.
+     * @param compilerClassName The value for compilerClassName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacSpec.Builder setCompilerClassName(Optional<String> compilerClassName) {
+      this.compilerClassName = compilerClassName.orElse(null);
+      return (JavacSpec.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link JavacSpec JavacSpec}.
+     * @return An immutable instance of JavacSpec
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public JavacSpec build() {
+      return new ImmutableJavacSpec(this);
+    }
+  }
+}
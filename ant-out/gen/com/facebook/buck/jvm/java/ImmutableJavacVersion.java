@@ -0,0 +1,72 @@
+package com.facebook.buck.jvm.java;
+
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link JavacVersion}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableJavacVersion.of()}.
+ */
+@Generated(from = "JavacVersion", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableJavacVersion extends JavacVersion {
+  private final String versionString;
+
+  private ImmutableJavacVersion(String versionString) {
+    this.versionString = Objects.requireNonNull(versionString, "versionString");
+  }
+
+  /**
+   * @return The value of the {@code versionString} attribute
+   */
+  @Override
+  public String getVersionString() {
+    return versionString;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableJavacVersion} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableJavacVersion
+        && equalTo((ImmutableJavacVersion) another);
+  }
+
+  private boolean equalTo(ImmutableJavacVersion another) {
+    return versionString.equals(another.versionString);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code versionString}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + versionString.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code JavacVersion} instance.
+   * @param versionString The value for the {@code versionString} attribute
+   * @return An immutable JavacVersion instance
+   */
+  public static ImmutableJavacVersion of(String versionString) {
+    return new ImmutableJavacVersion(versionString);
+  }
+}
@@ -0,0 +1,777 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.description.arg.BuildRuleArg;
+import com.facebook.buck.core.description.arg.ConstructorArg;
+import com.facebook.buck.core.description.arg.HasDeclaredDeps;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link JavaPluginDescription.AbstractJavaPluginDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code JavaPluginDescriptionArg.builder()}.
+ */
+@Generated(from = "JavaPluginDescription.AbstractJavaPluginDescriptionArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class JavaPluginDescriptionArg
+    implements JavaPluginDescription.AbstractJavaPluginDescriptionArg {
+  private final String pluginName;
+  private final boolean isolateClassLoader;
+  private final boolean doesNotAffectAbi;
+  private final boolean supportsAbiGenerationFromSource;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+  private final ImmutableList<UnconfiguredBuildTarget> compatibleWith;
+  private final String name;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private JavaPluginDescriptionArg(JavaPluginDescriptionArg.Builder builder) {
+    this.pluginName = builder.pluginName;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.defaultTargetPlatform = builder.defaultTargetPlatform;
+    this.compatibleWith = builder.compatibleWith.build();
+    this.name = builder.name;
+    this.deps = builder.deps.build();
+    if (builder.isolateClassLoaderIsSet()) {
+      initShim.setIsolateClassLoader(builder.isolateClassLoader);
+    }
+    if (builder.doesNotAffectAbiIsSet()) {
+      initShim.setDoesNotAffectAbi(builder.doesNotAffectAbi);
+    }
+    if (builder.supportsAbiGenerationFromSourceIsSet()) {
+      initShim.setSupportsAbiGenerationFromSource(builder.supportsAbiGenerationFromSource);
+    }
+    this.isolateClassLoader = initShim.isIsolateClassLoader();
+    this.doesNotAffectAbi = initShim.isDoesNotAffectAbi();
+    this.supportsAbiGenerationFromSource = initShim.isSupportsAbiGenerationFromSource();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "JavaPluginDescription.AbstractJavaPluginDescriptionArg", generator = "Immutables")
+  private final class InitShim {
+    private byte isolateClassLoaderBuildStage = STAGE_UNINITIALIZED;
+    private boolean isolateClassLoader;
+
+    boolean isIsolateClassLoader() {
+      if (isolateClassLoaderBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (isolateClassLoaderBuildStage == STAGE_UNINITIALIZED) {
+        isolateClassLoaderBuildStage = STAGE_INITIALIZING;
+        this.isolateClassLoader = isIsolateClassLoaderInitialize();
+        isolateClassLoaderBuildStage = STAGE_INITIALIZED;
+      }
+      return this.isolateClassLoader;
+    }
+
+    void setIsolateClassLoader(boolean isolateClassLoader) {
+      this.isolateClassLoader = isolateClassLoader;
+      isolateClassLoaderBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte doesNotAffectAbiBuildStage = STAGE_UNINITIALIZED;
+    private boolean doesNotAffectAbi;
+
+    boolean isDoesNotAffectAbi() {
+      if (doesNotAffectAbiBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (doesNotAffectAbiBuildStage == STAGE_UNINITIALIZED) {
+        doesNotAffectAbiBuildStage = STAGE_INITIALIZING;
+        this.doesNotAffectAbi = isDoesNotAffectAbiInitialize();
+        doesNotAffectAbiBuildStage = STAGE_INITIALIZED;
+      }
+      return this.doesNotAffectAbi;
+    }
+
+    void setDoesNotAffectAbi(boolean doesNotAffectAbi) {
+      this.doesNotAffectAbi = doesNotAffectAbi;
+      doesNotAffectAbiBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte supportsAbiGenerationFromSourceBuildStage = STAGE_UNINITIALIZED;
+    private boolean supportsAbiGenerationFromSource;
+
+    boolean isSupportsAbiGenerationFromSource() {
+      if (supportsAbiGenerationFromSourceBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (supportsAbiGenerationFromSourceBuildStage == STAGE_UNINITIALIZED) {
+        supportsAbiGenerationFromSourceBuildStage = STAGE_INITIALIZING;
+        this.supportsAbiGenerationFromSource = isSupportsAbiGenerationFromSourceInitialize();
+        supportsAbiGenerationFromSourceBuildStage = STAGE_INITIALIZED;
+      }
+      return this.supportsAbiGenerationFromSource;
+    }
+
+    void setSupportsAbiGenerationFromSource(boolean supportsAbiGenerationFromSource) {
+      this.supportsAbiGenerationFromSource = supportsAbiGenerationFromSource;
+      supportsAbiGenerationFromSourceBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (isolateClassLoaderBuildStage == STAGE_INITIALIZING) attributes.add("isolateClassLoader");
+      if (doesNotAffectAbiBuildStage == STAGE_INITIALIZING) attributes.add("doesNotAffectAbi");
+      if (supportsAbiGenerationFromSourceBuildStage == STAGE_INITIALIZING) attributes.add("supportsAbiGenerationFromSource");
+      return "Cannot build JavaPluginDescriptionArg, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  private boolean isIsolateClassLoaderInitialize() {
+    return JavaPluginDescription.AbstractJavaPluginDescriptionArg.super.isIsolateClassLoader();
+  }
+
+  private boolean isDoesNotAffectAbiInitialize() {
+    return JavaPluginDescription.AbstractJavaPluginDescriptionArg.super.isDoesNotAffectAbi();
+  }
+
+  private boolean isSupportsAbiGenerationFromSourceInitialize() {
+    return JavaPluginDescription.AbstractJavaPluginDescriptionArg.super.isSupportsAbiGenerationFromSource();
+  }
+
+  /**
+   * @return The value of the {@code pluginName} attribute
+   */
+  @Override
+  public String getPluginName() {
+    return pluginName;
+  }
+
+  /**
+   * A value of false indicates that the plugin will not use a shared class loader to be loaded.
+   * This should be true if the same instance of the plugin has not support to run concurrently
+   * multiple times for different javac calls.
+   * <p>Defaults to false because that's the "safe" value and optimizes build time.
+   */
+  @Override
+  public boolean isIsolateClassLoader() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isIsolateClassLoader()
+        : this.isolateClassLoader;
+  }
+
+  /**
+   * A value of false indicates that the plugin either generates classes that are intended for use
+   * outside of the code being processed or modifies bytecode in a way that modifies ABI. Plugins
+   * that affect the ABI of the rule in which they run must be run during ABI generation from
+   * source.
+   * <p>Defaults to false because that's the "safe" value. When migrating to ABI generation from
+   * source, having as few ABI-affecting plugins as possible will yield the fastest ABI generation.
+   */
+  @Override
+  public boolean isDoesNotAffectAbi() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isDoesNotAffectAbi()
+        : this.doesNotAffectAbi;
+  }
+
+  /**
+   * If true, allows ABI-affecting plugins to run during ABI generation from source. To run during
+   * ABI generation from source, a plugin must meet all of the following criteria:
+   * <li>
+   *     <ul>
+   *       Uses only the public APIs from JSR-269 (for annotation processing). Access to the
+   *       Compiler Tree API may also be possible via a Buck support library.
+   * </ul>
+   * <ul>
+   *   Does not require details about types beyond those being compiled as a general rule. There are
+   *   ways to ensure type information is available on a case by case basis, at some performance
+   *   cost.
+   * </ul>
+   * Defaults to false because that's the "safe" value. When migrating to ABI generation from
+   * source, having as many ABI-affecting plugins as possible running during ABI generation will
+   * result in the flattest build graph.
+   */
+  @Override
+  public boolean isSupportsAbiGenerationFromSource() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isSupportsAbiGenerationFromSource()
+        : this.supportsAbiGenerationFromSource;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * The name of build target default "new" platform: it is used when a platform is not specified
+   * either globally or in a target which used this target as a dependency.
+   * <p>The value is a build target, but we specify it as string, because this function is not
+   * actually called, but the attr is fetched by name from the raw (unconfigured) target node.
+   */
+  @Override
+  public Optional<UnconfiguredBuildTarget> getDefaultTargetPlatform() {
+    return Optional.ofNullable(defaultTargetPlatform);
+  }
+
+  /**
+   *A list of {@code config_setting} a target is compatible with. 
+   */
+  @Override
+  public ImmutableList<UnconfiguredBuildTarget> getCompatibleWith() {
+    return compatibleWith;
+  }
+
+  /**
+   *Each rule has a name 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code JavaPluginDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof JavaPluginDescriptionArg
+        && equalTo((JavaPluginDescriptionArg) another);
+  }
+
+  private boolean equalTo(JavaPluginDescriptionArg another) {
+    return pluginName.equals(another.pluginName)
+        && isolateClassLoader == another.isolateClassLoader
+        && doesNotAffectAbi == another.doesNotAffectAbi
+        && supportsAbiGenerationFromSource == another.supportsAbiGenerationFromSource
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && Objects.equals(defaultTargetPlatform, another.defaultTargetPlatform)
+        && compatibleWith.equals(another.compatibleWith)
+        && name.equals(another.name)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code pluginName}, {@code isolateClassLoader}, {@code doesNotAffectAbi}, {@code supportsAbiGenerationFromSource}, {@code licenses}, {@code labels}, {@code defaultTargetPlatform}, {@code compatibleWith}, {@code name}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + pluginName.hashCode();
+    h += (h << 5) + Booleans.hashCode(isolateClassLoader);
+    h += (h << 5) + Booleans.hashCode(doesNotAffectAbi);
+    h += (h << 5) + Booleans.hashCode(supportsAbiGenerationFromSource);
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultTargetPlatform);
+    h += (h << 5) + compatibleWith.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavaPluginDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavaPluginDescriptionArg")
+        .omitNullValues()
+        .add("pluginName", pluginName)
+        .add("isolateClassLoader", isolateClassLoader)
+        .add("doesNotAffectAbi", doesNotAffectAbi)
+        .add("supportsAbiGenerationFromSource", supportsAbiGenerationFromSource)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("defaultTargetPlatform", defaultTargetPlatform)
+        .add("compatibleWith", compatibleWith)
+        .add("name", name)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link JavaPluginDescriptionArg JavaPluginDescriptionArg}.
+   * @return A new JavaPluginDescriptionArg builder
+   */
+  public static JavaPluginDescriptionArg.Builder builder() {
+    return new JavaPluginDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link JavaPluginDescriptionArg JavaPluginDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "JavaPluginDescription.AbstractJavaPluginDescriptionArg", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PLUGIN_NAME = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private static final long OPT_BIT_ISOLATE_CLASS_LOADER = 0x1L;
+    private static final long OPT_BIT_DOES_NOT_AFFECT_ABI = 0x2L;
+    private static final long OPT_BIT_SUPPORTS_ABI_GENERATION_FROM_SOURCE = 0x4L;
+    private long initBits = 0x3L;
+    private long optBits;
+
+    private @Nullable String pluginName;
+    private boolean isolateClassLoader;
+    private boolean doesNotAffectAbi;
+    private boolean supportsAbiGenerationFromSource;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+    private ImmutableList.Builder<UnconfiguredBuildTarget> compatibleWith = ImmutableList.builder();
+    private @Nullable String name;
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.jvm.java.JavacPluginArgs} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(JavacPluginArgs instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.BuildRuleArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuildRuleArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.ConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code JavaPluginDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(JavaPluginDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractJavaPluginDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(JavaPluginDescription.AbstractJavaPluginDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof JavacPluginArgs) {
+        JavacPluginArgs instance = (JavacPluginArgs) object;
+        setDoesNotAffectAbi(instance.isDoesNotAffectAbi());
+        setSupportsAbiGenerationFromSource(instance.isSupportsAbiGenerationFromSource());
+        setIsolateClassLoader(instance.isIsolateClassLoader());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+      if (object instanceof BuildRuleArg) {
+        BuildRuleArg instance = (BuildRuleArg) object;
+        addAllLicenses(instance.getLicenses());
+        addAllCompatibleWith(instance.getCompatibleWith());
+        addAllLabels(instance.getLabels());
+        Optional<UnconfiguredBuildTarget> defaultTargetPlatformOptional = instance.getDefaultTargetPlatform();
+        if (defaultTargetPlatformOptional.isPresent()) {
+          setDefaultTargetPlatform(defaultTargetPlatformOptional);
+        }
+      }
+      if (object instanceof ConstructorArg) {
+        ConstructorArg instance = (ConstructorArg) object;
+        setName(instance.getName());
+      }
+      if (object instanceof JavaPluginDescription.AbstractJavaPluginDescriptionArg) {
+        JavaPluginDescription.AbstractJavaPluginDescriptionArg instance = (JavaPluginDescription.AbstractJavaPluginDescriptionArg) object;
+        setPluginName(instance.getPluginName());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link JavaPluginDescriptionArg#getPluginName() pluginName} attribute.
+     * @param pluginName The value for pluginName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPluginName(String pluginName) {
+      this.pluginName = Objects.requireNonNull(pluginName, "pluginName");
+      initBits &= ~INIT_BIT_PLUGIN_NAME;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link JavaPluginDescriptionArg#isIsolateClassLoader() isolateClassLoader} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JavaPluginDescriptionArg#isIsolateClassLoader() isolateClassLoader}.</em>
+     * @param isolateClassLoader The value for isolateClassLoader 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIsolateClassLoader(boolean isolateClassLoader) {
+      this.isolateClassLoader = isolateClassLoader;
+      optBits |= OPT_BIT_ISOLATE_CLASS_LOADER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link JavaPluginDescriptionArg#isDoesNotAffectAbi() doesNotAffectAbi} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JavaPluginDescriptionArg#isDoesNotAffectAbi() doesNotAffectAbi}.</em>
+     * @param doesNotAffectAbi The value for doesNotAffectAbi 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDoesNotAffectAbi(boolean doesNotAffectAbi) {
+      this.doesNotAffectAbi = doesNotAffectAbi;
+      optBits |= OPT_BIT_DOES_NOT_AFFECT_ABI;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link JavaPluginDescriptionArg#isSupportsAbiGenerationFromSource() supportsAbiGenerationFromSource} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JavaPluginDescriptionArg#isSupportsAbiGenerationFromSource() supportsAbiGenerationFromSource}.</em>
+     * @param supportsAbiGenerationFromSource The value for supportsAbiGenerationFromSource 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSupportsAbiGenerationFromSource(boolean supportsAbiGenerationFromSource) {
+      this.supportsAbiGenerationFromSource = supportsAbiGenerationFromSource;
+      optBits |= OPT_BIT_SUPPORTS_ABI_GENERATION_FROM_SOURCE;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JavaPluginDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JavaPluginDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JavaPluginDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link JavaPluginDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JavaPluginDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JavaPluginDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JavaPluginDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link JavaPluginDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavaPluginDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(UnconfiguredBuildTarget defaultTargetPlatform) {
+      this.defaultTargetPlatform = Objects.requireNonNull(defaultTargetPlatform, "defaultTargetPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavaPluginDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(Optional<? extends UnconfiguredBuildTarget> defaultTargetPlatform) {
+      this.defaultTargetPlatform = defaultTargetPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JavaPluginDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param element A compatibleWith element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget element) {
+      this.compatibleWith.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JavaPluginDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An array of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget... elements) {
+      this.compatibleWith.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JavaPluginDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith = ImmutableList.builder();
+      return addAllCompatibleWith(elements);
+    }
+
+    /**
+     * Adds elements to {@link JavaPluginDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link JavaPluginDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JavaPluginDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JavaPluginDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JavaPluginDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link JavaPluginDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link JavaPluginDescriptionArg JavaPluginDescriptionArg}.
+     * @return An immutable instance of JavaPluginDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public JavaPluginDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new JavaPluginDescriptionArg(this);
+    }
+
+    private boolean isolateClassLoaderIsSet() {
+      return (optBits & OPT_BIT_ISOLATE_CLASS_LOADER) != 0;
+    }
+
+    private boolean doesNotAffectAbiIsSet() {
+      return (optBits & OPT_BIT_DOES_NOT_AFFECT_ABI) != 0;
+    }
+
+    private boolean supportsAbiGenerationFromSourceIsSet() {
+      return (optBits & OPT_BIT_SUPPORTS_ABI_GENERATION_FROM_SOURCE) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_PLUGIN_NAME) != 0) attributes.add("pluginName");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build JavaPluginDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package com.facebook.buck.parser.api;
+
+import com.facebook.buck.parser.exceptions.ParsingError;
+import com.facebook.buck.skylark.io.GlobSpecWithResult;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildFileManifest}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildFileManifest.of()}.
+ */
+@Generated(from = "BuildFileManifest", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildFileManifest extends BuildFileManifest {
+  private final ImmutableMap<String, ImmutableMap<String, Object>> targets;
+  private final ImmutableSortedSet<String> includes;
+  private final ImmutableMap<String, Object> configs;
+  private final @Nullable ImmutableMap<String, Optional<String>> env;
+  private final ImmutableList<GlobSpecWithResult> globManifest;
+  private final ImmutableList<ParsingError> errors;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableBuildFileManifest(
+      Map<String, ? extends ImmutableMap<String, Object>> targets,
+      ImmutableSortedSet<String> includes,
+      Map<String, ? extends Object> configs,
+      Optional<? extends ImmutableMap<String, Optional<String>>> env,
+      Iterable<? extends GlobSpecWithResult> globManifest,
+      Iterable<? extends ParsingError> errors) {
+    this.targets = ImmutableMap.copyOf(targets);
+    this.includes = Objects.requireNonNull(includes, "includes");
+    this.configs = ImmutableMap.copyOf(configs);
+    this.env = env.orElse(null);
+    this.globManifest = ImmutableList.copyOf(globManifest);
+    this.errors = ImmutableList.copyOf(errors);
+  }
+
+  /**
+   * @return The value of the {@code targets} attribute
+   */
+  @Override
+  public ImmutableMap<String, ImmutableMap<String, Object>> getTargets() {
+    return targets;
+  }
+
+  /**
+   * @return The value of the {@code includes} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getIncludes() {
+    return includes;
+  }
+
+  /**
+   * @return The value of the {@code configs} attribute
+   */
+  @Override
+  public ImmutableMap<String, Object> getConfigs() {
+    return configs;
+  }
+
+  /**
+   * @return The value of the {@code env} attribute
+   */
+  @Override
+  public Optional<ImmutableMap<String, Optional<String>>> getEnv() {
+    return Optional.ofNullable(env);
+  }
+
+  /**
+   * @return The value of the {@code globManifest} attribute
+   */
+  @Override
+  public ImmutableList<GlobSpecWithResult> getGlobManifest() {
+    return globManifest;
+  }
+
+  /**
+   * @return The value of the {@code errors} attribute
+   */
+  @Override
+  public ImmutableList<ParsingError> getErrors() {
+    return errors;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildFileManifest} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildFileManifest
+        && equalTo((ImmutableBuildFileManifest) another);
+  }
+
+  private boolean equalTo(ImmutableBuildFileManifest another) {
+    return targets.equals(another.targets)
+        && includes.equals(another.includes)
+        && configs.equals(another.configs)
+        && Objects.equals(env, another.env)
+        && globManifest.equals(another.globManifest)
+        && errors.equals(another.errors);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code targets}, {@code includes}, {@code configs}, {@code env}, {@code globManifest}, {@code errors}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + targets.hashCode();
+    h += (h << 5) + includes.hashCode();
+    h += (h << 5) + configs.hashCode();
+    h += (h << 5) + Objects.hashCode(env);
+    h += (h << 5) + globManifest.hashCode();
+    h += (h << 5) + errors.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildFileManifest} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildFileManifest")
+        .omitNullValues()
+        .add("targets", targets)
+        .add("includes", includes)
+        .add("configs", configs)
+        .add("env", env)
+        .add("globManifest", globManifest)
+        .add("errors", errors)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildFileManifest} instance.
+   * @param targets The value for the {@code targets} attribute
+   * @param includes The value for the {@code includes} attribute
+   * @param configs The value for the {@code configs} attribute
+   * @param env The value for the {@code env} attribute
+   * @param globManifest The value for the {@code globManifest} attribute
+   * @param errors The value for the {@code errors} attribute
+   * @return An immutable BuildFileManifest instance
+   */
+  public static ImmutableBuildFileManifest of(ImmutableMap<String, ImmutableMap<String, Object>> targets, ImmutableSortedSet<String> includes, ImmutableMap<String, Object> configs, Optional<ImmutableMap<String, Optional<String>>> env, ImmutableList<GlobSpecWithResult> globManifest, ImmutableList<ParsingError> errors) {
+    return of(targets, includes, configs, env, (Iterable<? extends GlobSpecWithResult>) globManifest, (Iterable<? extends ParsingError>) errors);
+  }
+
+  /**
+   * Construct a new immutable {@code BuildFileManifest} instance.
+   * @param targets The value for the {@code targets} attribute
+   * @param includes The value for the {@code includes} attribute
+   * @param configs The value for the {@code configs} attribute
+   * @param env The value for the {@code env} attribute
+   * @param globManifest The value for the {@code globManifest} attribute
+   * @param errors The value for the {@code errors} attribute
+   * @return An immutable BuildFileManifest instance
+   */
+  public static ImmutableBuildFileManifest of(Map<String, ? extends ImmutableMap<String, Object>> targets, ImmutableSortedSet<String> includes, Map<String, ? extends Object> configs, Optional<? extends ImmutableMap<String, Optional<String>>> env, Iterable<? extends GlobSpecWithResult> globManifest, Iterable<? extends ParsingError> errors) {
+    return new ImmutableBuildFileManifest(targets, includes, configs, env, globManifest, errors);
+  }
+}
@@ -0,0 +1,973 @@
+package com.facebook.buck.parser.config;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.facebook.buck.io.watchman.WatchmanWatcher;
+import com.facebook.buck.parser.api.Syntax;
+import com.facebook.buck.parser.implicit.ImplicitInclude;
+import com.facebook.buck.parser.options.ImplicitNativeRulesState;
+import com.facebook.buck.parser.options.UserDefinedRulesState;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ParserConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableParserConfig.of()}.
+ */
+@Generated(from = "ParserConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableParserConfig extends ParserConfig {
+  private final BuckConfig delegate;
+
+  private ImmutableParserConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableParserConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableParserConfig
+        && equalTo((ImmutableParserConfig) another);
+  }
+
+  private boolean equalTo(ImmutableParserConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ParserConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ParserConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long ALLOW_EMPTY_GLOBS_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean allowEmptyGlobs;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getAllowEmptyGlobs() allowEmptyGlobs} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code allowEmptyGlobs} attribute
+   */
+  @Override
+  public boolean getAllowEmptyGlobs() {
+    if ((lazyInitBitmap & ALLOW_EMPTY_GLOBS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ALLOW_EMPTY_GLOBS_LAZY_INIT_BIT) == 0) {
+          this.allowEmptyGlobs = super.getAllowEmptyGlobs();
+          lazyInitBitmap |= ALLOW_EMPTY_GLOBS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return allowEmptyGlobs;
+  }
+
+  private static final long BUILD_FILE_NAME_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient String buildFileName;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getBuildFileName() buildFileName} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code buildFileName} attribute
+   */
+  @Override
+  public String getBuildFileName() {
+    if ((lazyInitBitmap & BUILD_FILE_NAME_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUILD_FILE_NAME_LAZY_INIT_BIT) == 0) {
+          this.buildFileName = Objects.requireNonNull(super.getBuildFileName(), "buildFileName");
+          lazyInitBitmap |= BUILD_FILE_NAME_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buildFileName;
+  }
+
+  private static final long DEFAULT_INCLUDES_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient Iterable<String> defaultIncludes;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getDefaultIncludes() defaultIncludes} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code defaultIncludes} attribute
+   */
+  @Override
+  public Iterable<String> getDefaultIncludes() {
+    if ((lazyInitBitmap & DEFAULT_INCLUDES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DEFAULT_INCLUDES_LAZY_INIT_BIT) == 0) {
+          this.defaultIncludes = Objects.requireNonNull(super.getDefaultIncludes(), "defaultIncludes");
+          lazyInitBitmap |= DEFAULT_INCLUDES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return defaultIncludes;
+  }
+
+  private static final long PACKAGE_IMPLICIT_INCLUDES_LAZY_INIT_BIT = 0x8L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableMap<String, ImplicitInclude> packageImplicitIncludes;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getPackageImplicitIncludes() packageImplicitIncludes} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code packageImplicitIncludes} attribute
+   */
+  @Override
+  public ImmutableMap<String, ImplicitInclude> getPackageImplicitIncludes() {
+    if ((lazyInitBitmap & PACKAGE_IMPLICIT_INCLUDES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PACKAGE_IMPLICIT_INCLUDES_LAZY_INIT_BIT) == 0) {
+          this.packageImplicitIncludes = Objects.requireNonNull(super.getPackageImplicitIncludes(), "packageImplicitIncludes");
+          lazyInitBitmap |= PACKAGE_IMPLICIT_INCLUDES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return packageImplicitIncludes;
+  }
+
+  private static final long ENFORCE_BUCK_PACKAGE_BOUNDARY_LAZY_INIT_BIT = 0x10L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean enforceBuckPackageBoundary;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getEnforceBuckPackageBoundary() enforceBuckPackageBoundary} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code enforceBuckPackageBoundary} attribute
+   */
+  @Override
+  public boolean getEnforceBuckPackageBoundary() {
+    if ((lazyInitBitmap & ENFORCE_BUCK_PACKAGE_BOUNDARY_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ENFORCE_BUCK_PACKAGE_BOUNDARY_LAZY_INIT_BIT) == 0) {
+          this.enforceBuckPackageBoundary = super.getEnforceBuckPackageBoundary();
+          lazyInitBitmap |= ENFORCE_BUCK_PACKAGE_BOUNDARY_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return enforceBuckPackageBoundary;
+  }
+
+  private static final long BUCK_PACKAGE_BOUNDARY_EXCEPTIONS_LAZY_INIT_BIT = 0x20L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableList<Path> buckPackageBoundaryExceptions;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getBuckPackageBoundaryExceptions() buckPackageBoundaryExceptions} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code buckPackageBoundaryExceptions} attribute
+   */
+  @Override
+  public ImmutableList<Path> getBuckPackageBoundaryExceptions() {
+    if ((lazyInitBitmap & BUCK_PACKAGE_BOUNDARY_EXCEPTIONS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUCK_PACKAGE_BOUNDARY_EXCEPTIONS_LAZY_INIT_BIT) == 0) {
+          this.buckPackageBoundaryExceptions = Objects.requireNonNull(super.getBuckPackageBoundaryExceptions(), "buckPackageBoundaryExceptions");
+          lazyInitBitmap |= BUCK_PACKAGE_BOUNDARY_EXCEPTIONS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buckPackageBoundaryExceptions;
+  }
+
+  private static final long READ_ONLY_PATHS_LAZY_INIT_BIT = 0x40L;
+
+  @SuppressWarnings("Immutable")
+  private transient Optional<ImmutableList<Path>> readOnlyPaths;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getReadOnlyPaths() readOnlyPaths} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code readOnlyPaths} attribute
+   */
+  @Override
+  public Optional<ImmutableList<Path>> getReadOnlyPaths() {
+    if ((lazyInitBitmap & READ_ONLY_PATHS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & READ_ONLY_PATHS_LAZY_INIT_BIT) == 0) {
+          this.readOnlyPaths = Objects.requireNonNull(super.getReadOnlyPaths(), "readOnlyPaths");
+          lazyInitBitmap |= READ_ONLY_PATHS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return readOnlyPaths;
+  }
+
+  private static final long ALLOW_SYMLINKS_LAZY_INIT_BIT = 0x80L;
+
+  @SuppressWarnings("Immutable")
+  private transient ParserConfig.AllowSymlinks allowSymlinks;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getAllowSymlinks() allowSymlinks} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code allowSymlinks} attribute
+   */
+  @Override
+  public ParserConfig.AllowSymlinks getAllowSymlinks() {
+    if ((lazyInitBitmap & ALLOW_SYMLINKS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ALLOW_SYMLINKS_LAZY_INIT_BIT) == 0) {
+          this.allowSymlinks = Objects.requireNonNull(super.getAllowSymlinks(), "allowSymlinks");
+          lazyInitBitmap |= ALLOW_SYMLINKS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return allowSymlinks;
+  }
+
+  private static final long BUILD_FILE_SEARCH_METHOD_LAZY_INIT_BIT = 0x100L;
+
+  @SuppressWarnings("Immutable")
+  private transient ParserConfig.BuildFileSearchMethod buildFileSearchMethod;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getBuildFileSearchMethod() buildFileSearchMethod} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code buildFileSearchMethod} attribute
+   */
+  @Override
+  public ParserConfig.BuildFileSearchMethod getBuildFileSearchMethod() {
+    if ((lazyInitBitmap & BUILD_FILE_SEARCH_METHOD_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUILD_FILE_SEARCH_METHOD_LAZY_INIT_BIT) == 0) {
+          this.buildFileSearchMethod = Objects.requireNonNull(super.getBuildFileSearchMethod(), "buildFileSearchMethod");
+          lazyInitBitmap |= BUILD_FILE_SEARCH_METHOD_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buildFileSearchMethod;
+  }
+
+  private static final long GLOB_HANDLER_LAZY_INIT_BIT = 0x200L;
+
+  @SuppressWarnings("Immutable")
+  private transient ParserConfig.GlobHandler globHandler;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getGlobHandler() globHandler} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code globHandler} attribute
+   */
+  @Override
+  public ParserConfig.GlobHandler getGlobHandler() {
+    if ((lazyInitBitmap & GLOB_HANDLER_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & GLOB_HANDLER_LAZY_INIT_BIT) == 0) {
+          this.globHandler = Objects.requireNonNull(super.getGlobHandler(), "globHandler");
+          lazyInitBitmap |= GLOB_HANDLER_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return globHandler;
+  }
+
+  private static final long WATCHMAN_GLOB_SANITY_CHECK_LAZY_INIT_BIT = 0x400L;
+
+  @SuppressWarnings("Immutable")
+  private transient ParserConfig.WatchmanGlobSanityCheck watchmanGlobSanityCheck;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getWatchmanGlobSanityCheck() watchmanGlobSanityCheck} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code watchmanGlobSanityCheck} attribute
+   */
+  @Override
+  public ParserConfig.WatchmanGlobSanityCheck getWatchmanGlobSanityCheck() {
+    if ((lazyInitBitmap & WATCHMAN_GLOB_SANITY_CHECK_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & WATCHMAN_GLOB_SANITY_CHECK_LAZY_INIT_BIT) == 0) {
+          this.watchmanGlobSanityCheck = Objects.requireNonNull(super.getWatchmanGlobSanityCheck(), "watchmanGlobSanityCheck");
+          lazyInitBitmap |= WATCHMAN_GLOB_SANITY_CHECK_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return watchmanGlobSanityCheck;
+  }
+
+  private static final long WATCHMAN_QUERY_TIMEOUT_MS_LAZY_INIT_BIT = 0x800L;
+
+  @SuppressWarnings("Immutable")
+  private transient Optional<Long> watchmanQueryTimeoutMs;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getWatchmanQueryTimeoutMs() watchmanQueryTimeoutMs} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code watchmanQueryTimeoutMs} attribute
+   */
+  @Override
+  public Optional<Long> getWatchmanQueryTimeoutMs() {
+    if ((lazyInitBitmap & WATCHMAN_QUERY_TIMEOUT_MS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & WATCHMAN_QUERY_TIMEOUT_MS_LAZY_INIT_BIT) == 0) {
+          this.watchmanQueryTimeoutMs = Objects.requireNonNull(super.getWatchmanQueryTimeoutMs(), "watchmanQueryTimeoutMs");
+          lazyInitBitmap |= WATCHMAN_QUERY_TIMEOUT_MS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return watchmanQueryTimeoutMs;
+  }
+
+  private static final long WATCH_CELLS_LAZY_INIT_BIT = 0x1000L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean watchCells;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getWatchCells() watchCells} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code watchCells} attribute
+   */
+  @Override
+  public boolean getWatchCells() {
+    if ((lazyInitBitmap & WATCH_CELLS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & WATCH_CELLS_LAZY_INIT_BIT) == 0) {
+          this.watchCells = super.getWatchCells();
+          lazyInitBitmap |= WATCH_CELLS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return watchCells;
+  }
+
+  private static final long WATCHMAN_CURSOR_LAZY_INIT_BIT = 0x2000L;
+
+  @SuppressWarnings("Immutable")
+  private transient WatchmanWatcher.CursorType watchmanCursor;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getWatchmanCursor() watchmanCursor} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code watchmanCursor} attribute
+   */
+  @Override
+  public WatchmanWatcher.CursorType getWatchmanCursor() {
+    if ((lazyInitBitmap & WATCHMAN_CURSOR_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & WATCHMAN_CURSOR_LAZY_INIT_BIT) == 0) {
+          this.watchmanCursor = Objects.requireNonNull(super.getWatchmanCursor(), "watchmanCursor");
+          lazyInitBitmap |= WATCHMAN_CURSOR_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return watchmanCursor;
+  }
+
+  private static final long ENABLE_PARALLEL_PARSING_LAZY_INIT_BIT = 0x4000L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean enableParallelParsing;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getEnableParallelParsing() enableParallelParsing} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code enableParallelParsing} attribute
+   */
+  @Override
+  public boolean getEnableParallelParsing() {
+    if ((lazyInitBitmap & ENABLE_PARALLEL_PARSING_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ENABLE_PARALLEL_PARSING_LAZY_INIT_BIT) == 0) {
+          this.enableParallelParsing = super.getEnableParallelParsing();
+          lazyInitBitmap |= ENABLE_PARALLEL_PARSING_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return enableParallelParsing;
+  }
+
+  private static final long NUM_PARSING_THREADS_LAZY_INIT_BIT = 0x8000L;
+
+  @SuppressWarnings("Immutable")
+  private transient int numParsingThreads;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getNumParsingThreads() numParsingThreads} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code numParsingThreads} attribute
+   */
+  @Override
+  public int getNumParsingThreads() {
+    if ((lazyInitBitmap & NUM_PARSING_THREADS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & NUM_PARSING_THREADS_LAZY_INIT_BIT) == 0) {
+          this.numParsingThreads = super.getNumParsingThreads();
+          lazyInitBitmap |= NUM_PARSING_THREADS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return numParsingThreads;
+  }
+
+  private static final long DEFAULT_FLAVORS_MODE_LAZY_INIT_BIT = 0x10000L;
+
+  @SuppressWarnings("Immutable")
+  private transient ParserConfig.ApplyDefaultFlavorsMode defaultFlavorsMode;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getDefaultFlavorsMode() defaultFlavorsMode} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code defaultFlavorsMode} attribute
+   */
+  @Override
+  public ParserConfig.ApplyDefaultFlavorsMode getDefaultFlavorsMode() {
+    if ((lazyInitBitmap & DEFAULT_FLAVORS_MODE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DEFAULT_FLAVORS_MODE_LAZY_INIT_BIT) == 0) {
+          this.defaultFlavorsMode = Objects.requireNonNull(super.getDefaultFlavorsMode(), "defaultFlavorsMode");
+          lazyInitBitmap |= DEFAULT_FLAVORS_MODE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return defaultFlavorsMode;
+  }
+
+  private static final long BUILD_FILE_IMPORT_WHITELIST_LAZY_INIT_BIT = 0x20000L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableList<String> buildFileImportWhitelist;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getBuildFileImportWhitelist() buildFileImportWhitelist} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code buildFileImportWhitelist} attribute
+   */
+  @Override
+  public ImmutableList<String> getBuildFileImportWhitelist() {
+    if ((lazyInitBitmap & BUILD_FILE_IMPORT_WHITELIST_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUILD_FILE_IMPORT_WHITELIST_LAZY_INIT_BIT) == 0) {
+          this.buildFileImportWhitelist = Objects.requireNonNull(super.getBuildFileImportWhitelist(), "buildFileImportWhitelist");
+          lazyInitBitmap |= BUILD_FILE_IMPORT_WHITELIST_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buildFileImportWhitelist;
+  }
+
+  private static final long PARSER_PYTHON_INTERPRETER_PATH_LAZY_INIT_BIT = 0x40000L;
+
+  @SuppressWarnings("Immutable")
+  private transient Optional<String> parserPythonInterpreterPath;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getParserPythonInterpreterPath() parserPythonInterpreterPath} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code parserPythonInterpreterPath} attribute
+   */
+  @Override
+  public Optional<String> getParserPythonInterpreterPath() {
+    if ((lazyInitBitmap & PARSER_PYTHON_INTERPRETER_PATH_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PARSER_PYTHON_INTERPRETER_PATH_LAZY_INIT_BIT) == 0) {
+          this.parserPythonInterpreterPath = Objects.requireNonNull(super.getParserPythonInterpreterPath(), "parserPythonInterpreterPath");
+          lazyInitBitmap |= PARSER_PYTHON_INTERPRETER_PATH_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return parserPythonInterpreterPath;
+  }
+
+  private static final long PYTHON_MODULE_SEARCH_PATH_LAZY_INIT_BIT = 0x80000L;
+
+  @SuppressWarnings("Immutable")
+  private transient Optional<String> pythonModuleSearchPath;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getPythonModuleSearchPath() pythonModuleSearchPath} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code pythonModuleSearchPath} attribute
+   */
+  @Override
+  public Optional<String> getPythonModuleSearchPath() {
+    if ((lazyInitBitmap & PYTHON_MODULE_SEARCH_PATH_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PYTHON_MODULE_SEARCH_PATH_LAZY_INIT_BIT) == 0) {
+          this.pythonModuleSearchPath = Objects.requireNonNull(super.getPythonModuleSearchPath(), "pythonModuleSearchPath");
+          lazyInitBitmap |= PYTHON_MODULE_SEARCH_PATH_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return pythonModuleSearchPath;
+  }
+
+  private static final long POLYGLOT_PARSING_ENABLED_LAZY_INIT_BIT = 0x100000L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean polyglotParsingEnabled;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#isPolyglotParsingEnabled() polyglotParsingEnabled} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code polyglotParsingEnabled} attribute
+   */
+  @Override
+  public boolean isPolyglotParsingEnabled() {
+    if ((lazyInitBitmap & POLYGLOT_PARSING_ENABLED_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & POLYGLOT_PARSING_ENABLED_LAZY_INIT_BIT) == 0) {
+          this.polyglotParsingEnabled = super.isPolyglotParsingEnabled();
+          lazyInitBitmap |= POLYGLOT_PARSING_ENABLED_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return polyglotParsingEnabled;
+  }
+
+  private static final long DEFAULT_BUILD_FILE_SYNTAX_LAZY_INIT_BIT = 0x200000L;
+
+  @SuppressWarnings("Immutable")
+  private transient Syntax defaultBuildFileSyntax;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getDefaultBuildFileSyntax() defaultBuildFileSyntax} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code defaultBuildFileSyntax} attribute
+   */
+  @Override
+  public Syntax getDefaultBuildFileSyntax() {
+    if ((lazyInitBitmap & DEFAULT_BUILD_FILE_SYNTAX_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DEFAULT_BUILD_FILE_SYNTAX_LAZY_INIT_BIT) == 0) {
+          this.defaultBuildFileSyntax = Objects.requireNonNull(super.getDefaultBuildFileSyntax(), "defaultBuildFileSyntax");
+          lazyInitBitmap |= DEFAULT_BUILD_FILE_SYNTAX_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return defaultBuildFileSyntax;
+  }
+
+  private static final long IMPLICIT_NATIVE_RULES_STATE_LAZY_INIT_BIT = 0x400000L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImplicitNativeRulesState implicitNativeRulesState;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getImplicitNativeRulesState() implicitNativeRulesState} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code implicitNativeRulesState} attribute
+   */
+  @Override
+  public ImplicitNativeRulesState getImplicitNativeRulesState() {
+    if ((lazyInitBitmap & IMPLICIT_NATIVE_RULES_STATE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & IMPLICIT_NATIVE_RULES_STATE_LAZY_INIT_BIT) == 0) {
+          this.implicitNativeRulesState = Objects.requireNonNull(super.getImplicitNativeRulesState(), "implicitNativeRulesState");
+          lazyInitBitmap |= IMPLICIT_NATIVE_RULES_STATE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return implicitNativeRulesState;
+  }
+
+  private static final long WARN_ABOUT_DEPRECATED_SYNTAX_LAZY_INIT_BIT = 0x800000L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean warnAboutDeprecatedSyntax;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#isWarnAboutDeprecatedSyntax() warnAboutDeprecatedSyntax} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code warnAboutDeprecatedSyntax} attribute
+   */
+  @Override
+  public boolean isWarnAboutDeprecatedSyntax() {
+    if ((lazyInitBitmap & WARN_ABOUT_DEPRECATED_SYNTAX_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & WARN_ABOUT_DEPRECATED_SYNTAX_LAZY_INIT_BIT) == 0) {
+          this.warnAboutDeprecatedSyntax = super.isWarnAboutDeprecatedSyntax();
+          lazyInitBitmap |= WARN_ABOUT_DEPRECATED_SYNTAX_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return warnAboutDeprecatedSyntax;
+  }
+
+  private static final long SKYLARK_GLOB_HANDLER_LAZY_INIT_BIT = 0x1000000L;
+
+  @SuppressWarnings("Immutable")
+  private transient ParserConfig.SkylarkGlobHandler skylarkGlobHandler;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getSkylarkGlobHandler() skylarkGlobHandler} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code skylarkGlobHandler} attribute
+   */
+  @Override
+  public ParserConfig.SkylarkGlobHandler getSkylarkGlobHandler() {
+    if ((lazyInitBitmap & SKYLARK_GLOB_HANDLER_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & SKYLARK_GLOB_HANDLER_LAZY_INIT_BIT) == 0) {
+          this.skylarkGlobHandler = Objects.requireNonNull(super.getSkylarkGlobHandler(), "skylarkGlobHandler");
+          lazyInitBitmap |= SKYLARK_GLOB_HANDLER_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return skylarkGlobHandler;
+  }
+
+  private static final long PARSER_TARGET_THRESHOLD_LAZY_INIT_BIT = 0x2000000L;
+
+  @SuppressWarnings("Immutable")
+  private transient int parserTargetThreshold;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getParserTargetThreshold() parserTargetThreshold} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code parserTargetThreshold} attribute
+   */
+  @Override
+  public int getParserTargetThreshold() {
+    if ((lazyInitBitmap & PARSER_TARGET_THRESHOLD_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PARSER_TARGET_THRESHOLD_LAZY_INIT_BIT) == 0) {
+          this.parserTargetThreshold = super.getParserTargetThreshold();
+          lazyInitBitmap |= PARSER_TARGET_THRESHOLD_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return parserTargetThreshold;
+  }
+
+  private static final long ENABLE_TARGET_COMPATIBILITY_CHECKS_LAZY_INIT_BIT = 0x4000000L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean enableTargetCompatibilityChecks;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getEnableTargetCompatibilityChecks() enableTargetCompatibilityChecks} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code enableTargetCompatibilityChecks} attribute
+   */
+  @Override
+  public boolean getEnableTargetCompatibilityChecks() {
+    if ((lazyInitBitmap & ENABLE_TARGET_COMPATIBILITY_CHECKS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ENABLE_TARGET_COMPATIBILITY_CHECKS_LAZY_INIT_BIT) == 0) {
+          this.enableTargetCompatibilityChecks = super.getEnableTargetCompatibilityChecks();
+          lazyInitBitmap |= ENABLE_TARGET_COMPATIBILITY_CHECKS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return enableTargetCompatibilityChecks;
+  }
+
+  private static final long REQUIRE_TARGET_PLATFORM_LAZY_INIT_BIT = 0x8000000L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean requireTargetPlatform;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getRequireTargetPlatform() requireTargetPlatform} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code requireTargetPlatform} attribute
+   */
+  @Override
+  public boolean getRequireTargetPlatform() {
+    if ((lazyInitBitmap & REQUIRE_TARGET_PLATFORM_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & REQUIRE_TARGET_PLATFORM_LAZY_INIT_BIT) == 0) {
+          this.requireTargetPlatform = super.getRequireTargetPlatform();
+          lazyInitBitmap |= REQUIRE_TARGET_PLATFORM_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return requireTargetPlatform;
+  }
+
+  private static final long TARGET_PLATFORM_DETECTOR_SPEC_LAZY_INIT_BIT = 0x10000000L;
+
+  @SuppressWarnings("Immutable")
+  private transient String targetPlatformDetectorSpec;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getTargetPlatformDetectorSpec() targetPlatformDetectorSpec} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code targetPlatformDetectorSpec} attribute
+   */
+  @Override
+  public String getTargetPlatformDetectorSpec() {
+    if ((lazyInitBitmap & TARGET_PLATFORM_DETECTOR_SPEC_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & TARGET_PLATFORM_DETECTOR_SPEC_LAZY_INIT_BIT) == 0) {
+          this.targetPlatformDetectorSpec = Objects.requireNonNull(super.getTargetPlatformDetectorSpec(), "targetPlatformDetectorSpec");
+          lazyInitBitmap |= TARGET_PLATFORM_DETECTOR_SPEC_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return targetPlatformDetectorSpec;
+  }
+
+  private static final long TARGET_PLATFORMS_LAZY_INIT_BIT = 0x20000000L;
+
+  @SuppressWarnings("Immutable")
+  private transient Optional<String> targetPlatforms;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getTargetPlatforms() targetPlatforms} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code targetPlatforms} attribute
+   */
+  @Override
+  public Optional<String> getTargetPlatforms() {
+    if ((lazyInitBitmap & TARGET_PLATFORMS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & TARGET_PLATFORMS_LAZY_INIT_BIT) == 0) {
+          this.targetPlatforms = Objects.requireNonNull(super.getTargetPlatforms(), "targetPlatforms");
+          lazyInitBitmap |= TARGET_PLATFORMS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return targetPlatforms;
+  }
+
+  private static final long HOST_PLATFORM_LAZY_INIT_BIT = 0x40000000L;
+
+  @SuppressWarnings("Immutable")
+  private transient Optional<String> hostPlatform;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getHostPlatform() hostPlatform} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code hostPlatform} attribute
+   */
+  @Override
+  public Optional<String> getHostPlatform() {
+    if ((lazyInitBitmap & HOST_PLATFORM_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & HOST_PLATFORM_LAZY_INIT_BIT) == 0) {
+          this.hostPlatform = Objects.requireNonNull(super.getHostPlatform(), "hostPlatform");
+          lazyInitBitmap |= HOST_PLATFORM_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return hostPlatform;
+  }
+
+  private static final long LOG_PACKAGE_BOUNDARY_EXCEPTION_VIOLATIONS_LAZY_INIT_BIT = 0x80000000L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean logPackageBoundaryExceptionViolations;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getLogPackageBoundaryExceptionViolations() logPackageBoundaryExceptionViolations} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code logPackageBoundaryExceptionViolations} attribute
+   */
+  @Override
+  public boolean getLogPackageBoundaryExceptionViolations() {
+    if ((lazyInitBitmap & LOG_PACKAGE_BOUNDARY_EXCEPTION_VIOLATIONS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & LOG_PACKAGE_BOUNDARY_EXCEPTION_VIOLATIONS_LAZY_INIT_BIT) == 0) {
+          this.logPackageBoundaryExceptionViolations = super.getLogPackageBoundaryExceptionViolations();
+          lazyInitBitmap |= LOG_PACKAGE_BOUNDARY_EXCEPTION_VIOLATIONS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return logPackageBoundaryExceptionViolations;
+  }
+
+  private static final long USER_DEFINED_RULES_STATE_LAZY_INIT_BIT = 0x100000000L;
+
+  @SuppressWarnings("Immutable")
+  private transient UserDefinedRulesState userDefinedRulesState;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getUserDefinedRulesState() userDefinedRulesState} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code userDefinedRulesState} attribute
+   */
+  @Override
+  public UserDefinedRulesState getUserDefinedRulesState() {
+    if ((lazyInitBitmap & USER_DEFINED_RULES_STATE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & USER_DEFINED_RULES_STATE_LAZY_INIT_BIT) == 0) {
+          this.userDefinedRulesState = Objects.requireNonNull(super.getUserDefinedRulesState(), "userDefinedRulesState");
+          lazyInitBitmap |= USER_DEFINED_RULES_STATE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return userDefinedRulesState;
+  }
+
+  private static final long ENABLE_PACKAGE_FILES_LAZY_INIT_BIT = 0x200000000L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean enablePackageFiles;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getEnablePackageFiles() enablePackageFiles} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code enablePackageFiles} attribute
+   */
+  @Override
+  public boolean getEnablePackageFiles() {
+    if ((lazyInitBitmap & ENABLE_PACKAGE_FILES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ENABLE_PACKAGE_FILES_LAZY_INIT_BIT) == 0) {
+          this.enablePackageFiles = super.getEnablePackageFiles();
+          lazyInitBitmap |= ENABLE_PACKAGE_FILES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return enablePackageFiles;
+  }
+
+  private static final long MISSING_TARGET_LEVENSHTEIN_DISTANCE_LAZY_INIT_BIT = 0x400000000L;
+
+  @SuppressWarnings("Immutable")
+  private transient int missingTargetLevenshteinDistance;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ParserConfig#getMissingTargetLevenshteinDistance() missingTargetLevenshteinDistance} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code missingTargetLevenshteinDistance} attribute
+   */
+  @Override
+  public int getMissingTargetLevenshteinDistance() {
+    if ((lazyInitBitmap & MISSING_TARGET_LEVENSHTEIN_DISTANCE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & MISSING_TARGET_LEVENSHTEIN_DISTANCE_LAZY_INIT_BIT) == 0) {
+          this.missingTargetLevenshteinDistance = super.getMissingTargetLevenshteinDistance();
+          lazyInitBitmap |= MISSING_TARGET_LEVENSHTEIN_DISTANCE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return missingTargetLevenshteinDistance;
+  }
+
+  /**
+   * Construct a new immutable {@code ParserConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable ParserConfig instance
+   */
+  public static ImmutableParserConfig of(BuckConfig delegate) {
+    return new ImmutableParserConfig(delegate);
+  }
+}
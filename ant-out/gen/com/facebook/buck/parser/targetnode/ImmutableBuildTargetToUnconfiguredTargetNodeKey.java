@@ -0,0 +1,115 @@
+package com.facebook.buck.parser.targetnode;
+
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildTargetToUnconfiguredTargetNodeKey}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildTargetToUnconfiguredTargetNodeKey.of()}.
+ */
+@Generated(from = "BuildTargetToUnconfiguredTargetNodeKey", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildTargetToUnconfiguredTargetNodeKey
+    extends BuildTargetToUnconfiguredTargetNodeKey {
+  private final UnconfiguredBuildTarget buildTarget;
+  private final Path packagePath;
+  private transient final int hashCode;
+
+  private ImmutableBuildTargetToUnconfiguredTargetNodeKey(UnconfiguredBuildTarget buildTarget, Path packagePath) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.packagePath = Objects.requireNonNull(packagePath, "packagePath");
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public UnconfiguredBuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code packagePath} attribute
+   */
+  @Override
+  public Path getPackagePath() {
+    return packagePath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildTargetToUnconfiguredTargetNodeKey} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildTargetToUnconfiguredTargetNodeKey
+        && equalTo((ImmutableBuildTargetToUnconfiguredTargetNodeKey) another);
+  }
+
+  private boolean equalTo(ImmutableBuildTargetToUnconfiguredTargetNodeKey another) {
+    if (hashCode != another.hashCode) return false;
+    return buildTarget.equals(another.buildTarget)
+        && packagePath.equals(another.packagePath);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code buildTarget}, {@code packagePath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + packagePath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildTargetToUnconfiguredTargetNodeKey} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildTargetToUnconfiguredTargetNodeKey")
+        .omitNullValues()
+        .add("buildTarget", buildTarget)
+        .add("packagePath", packagePath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildTargetToUnconfiguredTargetNodeKey} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param packagePath The value for the {@code packagePath} attribute
+   * @return An immutable BuildTargetToUnconfiguredTargetNodeKey instance
+   */
+  public static ImmutableBuildTargetToUnconfiguredTargetNodeKey of(UnconfiguredBuildTarget buildTarget, Path packagePath) {
+    return validate(new ImmutableBuildTargetToUnconfiguredTargetNodeKey(buildTarget, packagePath));
+  }
+
+
+  private static ImmutableBuildTargetToUnconfiguredTargetNodeKey validate(ImmutableBuildTargetToUnconfiguredTargetNodeKey instance) {
+    instance.check();
+    return instance;
+  }
+}
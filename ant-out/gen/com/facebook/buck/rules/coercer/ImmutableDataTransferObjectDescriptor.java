@@ -0,0 +1,136 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.core.description.arg.DataTransferObject;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DataTransferObjectDescriptor}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableDataTransferObjectDescriptor.<T>of()}.
+ */
+@Generated(from = "DataTransferObjectDescriptor", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableDataTransferObjectDescriptor<T extends DataTransferObject>
+    extends DataTransferObjectDescriptor<T> {
+  private final Class<T> objectClass;
+  private final Supplier<Object> builderFactory;
+  private final ImmutableMap<String, ParamInfo<?>> paramInfos;
+  private final DataTransferObjectDescriptor.BuilderBuildFunction<T> buildFunction;
+
+  private ImmutableDataTransferObjectDescriptor(
+      Class<T> objectClass,
+      Supplier<Object> builderFactory,
+      Map<String, ? extends ParamInfo<?>> paramInfos,
+      DataTransferObjectDescriptor.BuilderBuildFunction<T> buildFunction) {
+    this.objectClass = Objects.requireNonNull(objectClass, "objectClass");
+    this.builderFactory = Objects.requireNonNull(builderFactory, "builderFactory");
+    this.paramInfos = ImmutableMap.copyOf(paramInfos);
+    this.buildFunction = Objects.requireNonNull(buildFunction, "buildFunction");
+  }
+
+  /**
+   * @return The value of the {@code objectClass} attribute
+   */
+  @Override
+  public Class<T> objectClass() {
+    return objectClass;
+  }
+
+  /**
+   * @return The value of the {@code builderFactory} attribute
+   */
+  @Override
+  public Supplier<Object> getBuilderFactory() {
+    return builderFactory;
+  }
+
+  /**
+   * @return The value of the {@code paramInfos} attribute
+   */
+  @Override
+  public ImmutableMap<String, ParamInfo<?>> getParamInfos() {
+    return paramInfos;
+  }
+
+  /**
+   * @return The value of the {@code buildFunction} attribute
+   */
+  @Override
+  protected DataTransferObjectDescriptor.BuilderBuildFunction<T> getBuildFunction() {
+    return buildFunction;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDataTransferObjectDescriptor} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDataTransferObjectDescriptor<?>
+        && equalTo((ImmutableDataTransferObjectDescriptor<?>) another);
+  }
+
+  private boolean equalTo(ImmutableDataTransferObjectDescriptor<?> another) {
+    return objectClass.equals(another.objectClass)
+        && builderFactory.equals(another.builderFactory)
+        && paramInfos.equals(another.paramInfos)
+        && buildFunction.equals(another.buildFunction);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code objectClass}, {@code builderFactory}, {@code paramInfos}, {@code buildFunction}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + objectClass.hashCode();
+    h += (h << 5) + builderFactory.hashCode();
+    h += (h << 5) + paramInfos.hashCode();
+    h += (h << 5) + buildFunction.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DataTransferObjectDescriptor} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DataTransferObjectDescriptor")
+        .omitNullValues()
+        .add("objectClass", objectClass)
+        .add("builderFactory", builderFactory)
+        .add("paramInfos", paramInfos)
+        .add("buildFunction", buildFunction)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DataTransferObjectDescriptor} instance.
+   * @param objectClass The value for the {@code objectClass} attribute
+   * @param builderFactory The value for the {@code builderFactory} attribute
+   * @param paramInfos The value for the {@code paramInfos} attribute
+   * @param buildFunction The value for the {@code buildFunction} attribute
+   * @return An immutable DataTransferObjectDescriptor instance
+   */
+  public static <T extends DataTransferObject> ImmutableDataTransferObjectDescriptor<T> of(Class<T> objectClass, Supplier<Object> builderFactory, Map<String, ? extends ParamInfo<?>> paramInfos, DataTransferObjectDescriptor.BuilderBuildFunction<T> buildFunction) {
+    return new ImmutableDataTransferObjectDescriptor<>(objectClass, builderFactory, paramInfos, buildFunction);
+  }
+}
@@ -0,0 +1,126 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.apple.xcode.xcodeproj.SourceTreePath;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link FrameworkPath}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableFrameworkPath.of()}.
+ */
+@Generated(from = "FrameworkPath", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableFrameworkPath extends FrameworkPath {
+  private final FrameworkPath.Type type;
+  private final @Nullable SourceTreePath sourceTreePath;
+  private final @Nullable SourcePath sourcePath;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableFrameworkPath(
+      FrameworkPath.Type type,
+      Optional<? extends SourceTreePath> sourceTreePath,
+      Optional<? extends SourcePath> sourcePath) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.sourceTreePath = sourceTreePath.orElse(null);
+    this.sourcePath = sourcePath.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public FrameworkPath.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code sourceTreePath} attribute
+   */
+  @Override
+  public Optional<SourceTreePath> getSourceTreePath() {
+    return Optional.ofNullable(sourceTreePath);
+  }
+
+  /**
+   * @return The value of the {@code sourcePath} attribute
+   */
+  @Override
+  public Optional<SourcePath> getSourcePath() {
+    return Optional.ofNullable(sourcePath);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableFrameworkPath} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableFrameworkPath
+        && equalTo((ImmutableFrameworkPath) another);
+  }
+
+  private boolean equalTo(ImmutableFrameworkPath another) {
+    return type.equals(another.type)
+        && Objects.equals(sourceTreePath, another.sourceTreePath)
+        && Objects.equals(sourcePath, another.sourcePath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code sourceTreePath}, {@code sourcePath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + Objects.hashCode(sourceTreePath);
+    h += (h << 5) + Objects.hashCode(sourcePath);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FrameworkPath} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FrameworkPath")
+        .omitNullValues()
+        .add("type", type)
+        .add("sourceTreePath", sourceTreePath)
+        .add("sourcePath", sourcePath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code FrameworkPath} instance.
+   * @param type The value for the {@code type} attribute
+   * @param sourceTreePath The value for the {@code sourceTreePath} attribute
+   * @param sourcePath The value for the {@code sourcePath} attribute
+   * @return An immutable FrameworkPath instance
+   */
+  public static ImmutableFrameworkPath of(FrameworkPath.Type type, Optional<? extends SourceTreePath> sourceTreePath, Optional<? extends SourcePath> sourcePath) {
+    return validate(new ImmutableFrameworkPath(type, sourceTreePath, sourcePath));
+  }
+
+
+  private static ImmutableFrameworkPath validate(ImmutableFrameworkPath instance) {
+    instance.check();
+    return instance;
+  }
+}
@@ -0,0 +1,152 @@
+package com.facebook.buck.rules.keys;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DependencyFileEntry}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableDependencyFileEntry.of()}.
+ */
+@Generated(from = "DependencyFileEntry", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableDependencyFileEntry extends DependencyFileEntry {
+  private final Path pathToFile;
+  private final @Nullable Path pathWithinArchive;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableDependencyFileEntry(Path pathToFile, Optional<? extends Path> pathWithinArchive) {
+    this.pathToFile = Objects.requireNonNull(pathToFile, "pathToFile");
+    this.pathWithinArchive = pathWithinArchive.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code pathToFile} attribute
+   */
+  @JsonProperty
+  @Override
+  public Path pathToFile() {
+    return pathToFile;
+  }
+
+  /**
+   * @return The value of the {@code pathWithinArchive} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<Path> pathWithinArchive() {
+    return Optional.ofNullable(pathWithinArchive);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDependencyFileEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDependencyFileEntry
+        && equalTo((ImmutableDependencyFileEntry) another);
+  }
+
+  private boolean equalTo(ImmutableDependencyFileEntry another) {
+    return pathToFile.equals(another.pathToFile)
+        && Objects.equals(pathWithinArchive, another.pathWithinArchive);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code pathToFile}, {@code pathWithinArchive}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + pathToFile.hashCode();
+    h += (h << 5) + Objects.hashCode(pathWithinArchive);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DependencyFileEntry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DependencyFileEntry")
+        .omitNullValues()
+        .add("pathToFile", pathToFile)
+        .add("pathWithinArchive", pathWithinArchive)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "DependencyFileEntry", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends DependencyFileEntry {
+    @Nullable Path pathToFile;
+    @Nullable Optional<Path> pathWithinArchive = Optional.empty();
+    @JsonProperty
+    public void setPathToFile(Path pathToFile) {
+      this.pathToFile = pathToFile;
+    }
+    @JsonProperty
+    public void setPathWithinArchive(Optional<Path> pathWithinArchive) {
+      this.pathWithinArchive = pathWithinArchive;
+    }
+    @Override
+    public Path pathToFile() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<Path> pathWithinArchive() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableDependencyFileEntry fromJson(Json json) {
+    ImmutableDependencyFileEntry instance = ImmutableDependencyFileEntry.of(json.pathToFile, json.pathWithinArchive);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code DependencyFileEntry} instance.
+   * @param pathToFile The value for the {@code pathToFile} attribute
+   * @param pathWithinArchive The value for the {@code pathWithinArchive} attribute
+   * @return An immutable DependencyFileEntry instance
+   */
+  public static ImmutableDependencyFileEntry of(Path pathToFile, Optional<? extends Path> pathWithinArchive) {
+    return validate(new ImmutableDependencyFileEntry(pathToFile, pathWithinArchive));
+  }
+
+
+  private static ImmutableDependencyFileEntry validate(ImmutableDependencyFileEntry instance) {
+    instance.check();
+    return instance;
+  }
+}
@@ -0,0 +1,115 @@
+package com.facebook.buck.rules.keys;
+
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DependencyFileRuleKeyFactory.RuleKeyAndInputs}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableRuleKeyAndInputs.of()}.
+ */
+@Generated(from = "DependencyFileRuleKeyFactory.RuleKeyAndInputs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableRuleKeyAndInputs
+    implements DependencyFileRuleKeyFactory.RuleKeyAndInputs {
+  private final RuleKey ruleKey;
+  private final ImmutableSet<SourcePath> inputs;
+
+  private ImmutableRuleKeyAndInputs(
+      RuleKey ruleKey,
+      Iterable<? extends SourcePath> inputs) {
+    this.ruleKey = Objects.requireNonNull(ruleKey, "ruleKey");
+    this.inputs = ImmutableSet.copyOf(inputs);
+  }
+
+  /**
+   * @return The value of the {@code ruleKey} attribute
+   */
+  @Override
+  public RuleKey getRuleKey() {
+    return ruleKey;
+  }
+
+  /**
+   * @return The value of the {@code inputs} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getInputs() {
+    return inputs;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRuleKeyAndInputs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRuleKeyAndInputs
+        && equalTo((ImmutableRuleKeyAndInputs) another);
+  }
+
+  private boolean equalTo(ImmutableRuleKeyAndInputs another) {
+    return ruleKey.equals(another.ruleKey)
+        && inputs.equals(another.inputs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ruleKey}, {@code inputs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + ruleKey.hashCode();
+    h += (h << 5) + inputs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RuleKeyAndInputs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RuleKeyAndInputs")
+        .omitNullValues()
+        .add("ruleKey", ruleKey)
+        .add("inputs", inputs)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RuleKeyAndInputs} instance.
+   * @param ruleKey The value for the {@code ruleKey} attribute
+   * @param inputs The value for the {@code inputs} attribute
+   * @return An immutable RuleKeyAndInputs instance
+   */
+  public static ImmutableRuleKeyAndInputs of(RuleKey ruleKey, ImmutableSet<SourcePath> inputs) {
+    return of(ruleKey, (Iterable<? extends SourcePath>) inputs);
+  }
+
+  /**
+   * Construct a new immutable {@code RuleKeyAndInputs} instance.
+   * @param ruleKey The value for the {@code ruleKey} attribute
+   * @param inputs The value for the {@code inputs} attribute
+   * @return An immutable RuleKeyAndInputs instance
+   */
+  public static ImmutableRuleKeyAndInputs of(RuleKey ruleKey, Iterable<? extends SourcePath> inputs) {
+    return new ImmutableRuleKeyAndInputs(ruleKey, inputs);
+  }
+}
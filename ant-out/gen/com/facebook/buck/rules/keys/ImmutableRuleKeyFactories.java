@@ -0,0 +1,117 @@
+package com.facebook.buck.rules.keys;
+
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link RuleKeyFactories}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableRuleKeyFactories.of()}.
+ */
+@Generated(from = "RuleKeyFactories", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableRuleKeyFactories extends RuleKeyFactories {
+  private final RuleKeyFactoryWithDiagnostics<RuleKey> defaultRuleKeyFactory;
+  private final RuleKeyFactory<RuleKey> inputBasedRuleKeyFactory;
+  private final DependencyFileRuleKeyFactory depFileRuleKeyFactory;
+
+  private ImmutableRuleKeyFactories(
+      RuleKeyFactoryWithDiagnostics<RuleKey> defaultRuleKeyFactory,
+      RuleKeyFactory<RuleKey> inputBasedRuleKeyFactory,
+      DependencyFileRuleKeyFactory depFileRuleKeyFactory) {
+    this.defaultRuleKeyFactory = Objects.requireNonNull(defaultRuleKeyFactory, "defaultRuleKeyFactory");
+    this.inputBasedRuleKeyFactory = Objects.requireNonNull(inputBasedRuleKeyFactory, "inputBasedRuleKeyFactory");
+    this.depFileRuleKeyFactory = Objects.requireNonNull(depFileRuleKeyFactory, "depFileRuleKeyFactory");
+  }
+
+  /**
+   * @return The value of the {@code defaultRuleKeyFactory} attribute
+   */
+  @Override
+  public RuleKeyFactoryWithDiagnostics<RuleKey> getDefaultRuleKeyFactory() {
+    return defaultRuleKeyFactory;
+  }
+
+  /**
+   * @return The value of the {@code inputBasedRuleKeyFactory} attribute
+   */
+  @Override
+  public RuleKeyFactory<RuleKey> getInputBasedRuleKeyFactory() {
+    return inputBasedRuleKeyFactory;
+  }
+
+  /**
+   * @return The value of the {@code depFileRuleKeyFactory} attribute
+   */
+  @Override
+  public DependencyFileRuleKeyFactory getDepFileRuleKeyFactory() {
+    return depFileRuleKeyFactory;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRuleKeyFactories} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRuleKeyFactories
+        && equalTo((ImmutableRuleKeyFactories) another);
+  }
+
+  private boolean equalTo(ImmutableRuleKeyFactories another) {
+    return defaultRuleKeyFactory.equals(another.defaultRuleKeyFactory)
+        && inputBasedRuleKeyFactory.equals(another.inputBasedRuleKeyFactory)
+        && depFileRuleKeyFactory.equals(another.depFileRuleKeyFactory);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code defaultRuleKeyFactory}, {@code inputBasedRuleKeyFactory}, {@code depFileRuleKeyFactory}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + defaultRuleKeyFactory.hashCode();
+    h += (h << 5) + inputBasedRuleKeyFactory.hashCode();
+    h += (h << 5) + depFileRuleKeyFactory.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RuleKeyFactories} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RuleKeyFactories")
+        .omitNullValues()
+        .add("defaultRuleKeyFactory", defaultRuleKeyFactory)
+        .add("inputBasedRuleKeyFactory", inputBasedRuleKeyFactory)
+        .add("depFileRuleKeyFactory", depFileRuleKeyFactory)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RuleKeyFactories} instance.
+   * @param defaultRuleKeyFactory The value for the {@code defaultRuleKeyFactory} attribute
+   * @param inputBasedRuleKeyFactory The value for the {@code inputBasedRuleKeyFactory} attribute
+   * @param depFileRuleKeyFactory The value for the {@code depFileRuleKeyFactory} attribute
+   * @return An immutable RuleKeyFactories instance
+   */
+  public static ImmutableRuleKeyFactories of(RuleKeyFactoryWithDiagnostics<RuleKey> defaultRuleKeyFactory, RuleKeyFactory<RuleKey> inputBasedRuleKeyFactory, DependencyFileRuleKeyFactory depFileRuleKeyFactory) {
+    return new ImmutableRuleKeyFactories(defaultRuleKeyFactory, inputBasedRuleKeyFactory, depFileRuleKeyFactory);
+  }
+}
@@ -0,0 +1,134 @@
+package com.facebook.buck.rules.keys.config;
+
+import com.facebook.buck.core.module.BuckModuleHashStrategy;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link RuleKeyConfiguration}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableRuleKeyConfiguration.of()}.
+ */
+@Generated(from = "RuleKeyConfiguration", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableRuleKeyConfiguration
+    extends RuleKeyConfiguration {
+  private final int seed;
+  private final String coreKey;
+  private final long buildInputRuleKeyFileSizeLimit;
+  private final BuckModuleHashStrategy buckModuleHashStrategy;
+
+  private ImmutableRuleKeyConfiguration(
+      int seed,
+      String coreKey,
+      long buildInputRuleKeyFileSizeLimit,
+      BuckModuleHashStrategy buckModuleHashStrategy) {
+    this.seed = seed;
+    this.coreKey = Objects.requireNonNull(coreKey, "coreKey");
+    this.buildInputRuleKeyFileSizeLimit = buildInputRuleKeyFileSizeLimit;
+    this.buckModuleHashStrategy = Objects.requireNonNull(buckModuleHashStrategy, "buckModuleHashStrategy");
+  }
+
+  /**
+   * @return The value of the {@code seed} attribute
+   */
+  @Override
+  public int getSeed() {
+    return seed;
+  }
+
+  /**
+   * @return The value of the {@code coreKey} attribute
+   */
+  @Override
+  public String getCoreKey() {
+    return coreKey;
+  }
+
+  /**
+   * @return The value of the {@code buildInputRuleKeyFileSizeLimit} attribute
+   */
+  @Override
+  public long getBuildInputRuleKeyFileSizeLimit() {
+    return buildInputRuleKeyFileSizeLimit;
+  }
+
+  /**
+   * @return The value of the {@code buckModuleHashStrategy} attribute
+   */
+  @Override
+  public BuckModuleHashStrategy getBuckModuleHashStrategy() {
+    return buckModuleHashStrategy;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRuleKeyConfiguration} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRuleKeyConfiguration
+        && equalTo((ImmutableRuleKeyConfiguration) another);
+  }
+
+  private boolean equalTo(ImmutableRuleKeyConfiguration another) {
+    return seed == another.seed
+        && coreKey.equals(another.coreKey)
+        && buildInputRuleKeyFileSizeLimit == another.buildInputRuleKeyFileSizeLimit
+        && buckModuleHashStrategy.equals(another.buckModuleHashStrategy);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code seed}, {@code coreKey}, {@code buildInputRuleKeyFileSizeLimit}, {@code buckModuleHashStrategy}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + seed;
+    h += (h << 5) + coreKey.hashCode();
+    h += (h << 5) + Longs.hashCode(buildInputRuleKeyFileSizeLimit);
+    h += (h << 5) + buckModuleHashStrategy.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RuleKeyConfiguration} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RuleKeyConfiguration")
+        .omitNullValues()
+        .add("seed", seed)
+        .add("coreKey", coreKey)
+        .add("buildInputRuleKeyFileSizeLimit", buildInputRuleKeyFileSizeLimit)
+        .add("buckModuleHashStrategy", buckModuleHashStrategy)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RuleKeyConfiguration} instance.
+   * @param seed The value for the {@code seed} attribute
+   * @param coreKey The value for the {@code coreKey} attribute
+   * @param buildInputRuleKeyFileSizeLimit The value for the {@code buildInputRuleKeyFileSizeLimit} attribute
+   * @param buckModuleHashStrategy The value for the {@code buckModuleHashStrategy} attribute
+   * @return An immutable RuleKeyConfiguration instance
+   */
+  public static ImmutableRuleKeyConfiguration of(int seed, String coreKey, long buildInputRuleKeyFileSizeLimit, BuckModuleHashStrategy buckModuleHashStrategy) {
+    return new ImmutableRuleKeyConfiguration(seed, coreKey, buildInputRuleKeyFileSizeLimit, buckModuleHashStrategy);
+  }
+}
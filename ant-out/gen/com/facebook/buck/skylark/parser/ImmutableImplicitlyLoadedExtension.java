@@ -0,0 +1,104 @@
+package com.facebook.buck.skylark.parser;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractSkylarkFileParser.ImplicitlyLoadedExtension}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableImplicitlyLoadedExtension.of()}.
+ */
+@Generated(from = "AbstractSkylarkFileParser.ImplicitlyLoadedExtension", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableImplicitlyLoadedExtension
+    extends AbstractSkylarkFileParser.ImplicitlyLoadedExtension {
+  private final @Nullable ExtensionData extensionData;
+  private final ImmutableMap<String, Object> loadedSymbols;
+
+  private ImmutableImplicitlyLoadedExtension(
+      @Nullable ExtensionData extensionData,
+      Map<String, ? extends Object> loadedSymbols) {
+    this.extensionData = extensionData;
+    this.loadedSymbols = ImmutableMap.copyOf(loadedSymbols);
+  }
+
+  /**
+   * @return The value of the {@code extensionData} attribute
+   */
+  @Override
+  @Nullable ExtensionData getExtensionData() {
+    return extensionData;
+  }
+
+  /**
+   * @return The value of the {@code loadedSymbols} attribute
+   */
+  @Override
+  ImmutableMap<String, Object> getLoadedSymbols() {
+    return loadedSymbols;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableImplicitlyLoadedExtension} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableImplicitlyLoadedExtension
+        && equalTo((ImmutableImplicitlyLoadedExtension) another);
+  }
+
+  private boolean equalTo(ImmutableImplicitlyLoadedExtension another) {
+    return Objects.equals(extensionData, another.extensionData)
+        && loadedSymbols.equals(another.loadedSymbols);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code extensionData}, {@code loadedSymbols}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(extensionData);
+    h += (h << 5) + loadedSymbols.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ImplicitlyLoadedExtension} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ImplicitlyLoadedExtension")
+        .omitNullValues()
+        .add("extensionData", extensionData)
+        .add("loadedSymbols", loadedSymbols)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ImplicitlyLoadedExtension} instance.
+   * @param extensionData The value for the {@code extensionData} attribute
+   * @param loadedSymbols The value for the {@code loadedSymbols} attribute
+   * @return An immutable ImplicitlyLoadedExtension instance
+   */
+  public static ImmutableImplicitlyLoadedExtension of(@Nullable ExtensionData extensionData, Map<String, ? extends Object> loadedSymbols) {
+    return new ImmutableImplicitlyLoadedExtension(extensionData, loadedSymbols);
+  }
+}
@@ -0,0 +1,95 @@
+package com.facebook.buck.slb;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link LoadBalancerPingEvent.LoadBalancerPingEventData}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableLoadBalancerPingEventData.of()}.
+ */
+@Generated(from = "LoadBalancerPingEvent.LoadBalancerPingEventData", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableLoadBalancerPingEventData
+    implements LoadBalancerPingEvent.LoadBalancerPingEventData {
+  private final ImmutableList<LoadBalancerPingEvent.PerServerPingData> perServerData;
+
+  private ImmutableLoadBalancerPingEventData(Iterable<? extends LoadBalancerPingEvent.PerServerPingData> perServerData) {
+    this.perServerData = ImmutableList.copyOf(perServerData);
+  }
+
+  /**
+   * @return The value of the {@code perServerData} attribute
+   */
+  @Override
+  public ImmutableList<LoadBalancerPingEvent.PerServerPingData> getPerServerData() {
+    return perServerData;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableLoadBalancerPingEventData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableLoadBalancerPingEventData
+        && equalTo((ImmutableLoadBalancerPingEventData) another);
+  }
+
+  private boolean equalTo(ImmutableLoadBalancerPingEventData another) {
+    return perServerData.equals(another.perServerData);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code perServerData}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + perServerData.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LoadBalancerPingEventData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LoadBalancerPingEventData")
+        .omitNullValues()
+        .add("perServerData", perServerData)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code LoadBalancerPingEventData} instance.
+   * @param perServerData The value for the {@code perServerData} attribute
+   * @return An immutable LoadBalancerPingEventData instance
+   */
+  public static ImmutableLoadBalancerPingEventData of(ImmutableList<LoadBalancerPingEvent.PerServerPingData> perServerData) {
+    return of((Iterable<? extends LoadBalancerPingEvent.PerServerPingData>) perServerData);
+  }
+
+  /**
+   * Construct a new immutable {@code LoadBalancerPingEventData} instance.
+   * @param perServerData The value for the {@code perServerData} attribute
+   * @return An immutable LoadBalancerPingEventData instance
+   */
+  public static ImmutableLoadBalancerPingEventData of(Iterable<? extends LoadBalancerPingEvent.PerServerPingData> perServerData) {
+    return new ImmutableLoadBalancerPingEventData(perServerData);
+  }
+}
@@ -0,0 +1,118 @@
+package com.facebook.buck.step.fs;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link SymlinkFileStep}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableSymlinkFileStep.of()}.
+ */
+@Generated(from = "SymlinkFileStep", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableSymlinkFileStep extends SymlinkFileStep {
+  private final ProjectFilesystem filesystem;
+  private final Path existingFile;
+  private final Path desiredLink;
+
+  private ImmutableSymlinkFileStep(
+      ProjectFilesystem filesystem,
+      Path existingFile,
+      Path desiredLink) {
+    this.filesystem = Objects.requireNonNull(filesystem, "filesystem");
+    this.existingFile = Objects.requireNonNull(existingFile, "existingFile");
+    this.desiredLink = Objects.requireNonNull(desiredLink, "desiredLink");
+  }
+
+  /**
+   * @return The value of the {@code filesystem} attribute
+   */
+  @Override
+  protected ProjectFilesystem getFilesystem() {
+    return filesystem;
+  }
+
+  /**
+   * @return The value of the {@code existingFile} attribute
+   */
+  @Override
+  protected Path getExistingFile() {
+    return existingFile;
+  }
+
+  /**
+   * @return The value of the {@code desiredLink} attribute
+   */
+  @Override
+  protected Path getDesiredLink() {
+    return desiredLink;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableSymlinkFileStep} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableSymlinkFileStep
+        && equalTo((ImmutableSymlinkFileStep) another);
+  }
+
+  private boolean equalTo(ImmutableSymlinkFileStep another) {
+    return filesystem.equals(another.filesystem)
+        && existingFile.equals(another.existingFile)
+        && desiredLink.equals(another.desiredLink);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code filesystem}, {@code existingFile}, {@code desiredLink}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + filesystem.hashCode();
+    h += (h << 5) + existingFile.hashCode();
+    h += (h << 5) + desiredLink.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SymlinkFileStep} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SymlinkFileStep")
+        .omitNullValues()
+        .add("filesystem", filesystem)
+        .add("existingFile", existingFile)
+        .add("desiredLink", desiredLink)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SymlinkFileStep} instance.
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param existingFile The value for the {@code existingFile} attribute
+   * @param desiredLink The value for the {@code desiredLink} attribute
+   * @return An immutable SymlinkFileStep instance
+   */
+  public static ImmutableSymlinkFileStep of(ProjectFilesystem filesystem, Path existingFile, Path desiredLink) {
+    return new ImmutableSymlinkFileStep(filesystem, existingFile, desiredLink);
+  }
+}
@@ -0,0 +1,121 @@
+package com.facebook.buck.support.build.report;
+
+import com.facebook.buck.util.config.Config;
+import com.facebook.buck.util.versioncontrol.FullVersionControlStats;
+import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildReportUpload.BuildReportUploadActionArgs}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildReportUploadActionArgs.of()}.
+ */
+@Generated(from = "BuildReportUpload.BuildReportUploadActionArgs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildReportUploadActionArgs
+    extends BuildReportUpload.BuildReportUploadActionArgs {
+  private final Config config;
+  private final BuildReportUploader buildReportUploader;
+  private final ListenableFuture<Optional<FullVersionControlStats>> vcStatsFuture;
+
+  private ImmutableBuildReportUploadActionArgs(
+      Config config,
+      BuildReportUploader buildReportUploader,
+      ListenableFuture<Optional<FullVersionControlStats>> vcStatsFuture) {
+    this.config = Objects.requireNonNull(config, "config");
+    this.buildReportUploader = Objects.requireNonNull(buildReportUploader, "buildReportUploader");
+    this.vcStatsFuture = Objects.requireNonNull(vcStatsFuture, "vcStatsFuture");
+  }
+
+  /**
+   * @return The value of the {@code config} attribute
+   */
+  @Override
+  Config getConfig() {
+    return config;
+  }
+
+  /**
+   * @return The value of the {@code buildReportUploader} attribute
+   */
+  @Override
+  BuildReportUploader getBuildReportUploader() {
+    return buildReportUploader;
+  }
+
+  /**
+   * @return The value of the {@code vcStatsFuture} attribute
+   */
+  @Override
+  ListenableFuture<Optional<FullVersionControlStats>> getVcStatsFuture() {
+    return vcStatsFuture;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildReportUploadActionArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildReportUploadActionArgs
+        && equalTo((ImmutableBuildReportUploadActionArgs) another);
+  }
+
+  private boolean equalTo(ImmutableBuildReportUploadActionArgs another) {
+    return config.equals(another.config)
+        && buildReportUploader.equals(another.buildReportUploader)
+        && vcStatsFuture.equals(another.vcStatsFuture);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code config}, {@code buildReportUploader}, {@code vcStatsFuture}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + config.hashCode();
+    h += (h << 5) + buildReportUploader.hashCode();
+    h += (h << 5) + vcStatsFuture.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildReportUploadActionArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildReportUploadActionArgs")
+        .omitNullValues()
+        .add("config", config)
+        .add("buildReportUploader", buildReportUploader)
+        .add("vcStatsFuture", vcStatsFuture)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildReportUploadActionArgs} instance.
+   * @param config The value for the {@code config} attribute
+   * @param buildReportUploader The value for the {@code buildReportUploader} attribute
+   * @param vcStatsFuture The value for the {@code vcStatsFuture} attribute
+   * @return An immutable BuildReportUploadActionArgs instance
+   */
+  public static ImmutableBuildReportUploadActionArgs of(Config config, BuildReportUploader buildReportUploader, ListenableFuture<Optional<FullVersionControlStats>> vcStatsFuture) {
+    return new ImmutableBuildReportUploadActionArgs(config, buildReportUploader, vcStatsFuture);
+  }
+}
@@ -0,0 +1,122 @@
+package com.facebook.buck.support.build.report;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link UploadResponse}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableUploadResponse.of()}.
+ */
+@Generated(from = "UploadResponse", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableUploadResponse extends UploadResponse {
+  private final @Nullable String uri;
+
+  private ImmutableUploadResponse(Optional<String> uri) {
+    this.uri = uri.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code uri} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<String> uri() {
+    return Optional.ofNullable(uri);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableUploadResponse} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableUploadResponse
+        && equalTo((ImmutableUploadResponse) another);
+  }
+
+  private boolean equalTo(ImmutableUploadResponse another) {
+    return Objects.equals(uri, another.uri);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code uri}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(uri);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code UploadResponse} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("UploadResponse")
+        .omitNullValues()
+        .add("uri", uri)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "UploadResponse", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends UploadResponse {
+    @Nullable Optional<String> uri = Optional.empty();
+    @JsonProperty
+    public void setUri(Optional<String> uri) {
+      this.uri = uri;
+    }
+    @Override
+    public Optional<String> uri() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableUploadResponse fromJson(Json json) {
+    ImmutableUploadResponse instance = ImmutableUploadResponse.of(json.uri);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code UploadResponse} instance.
+   * @param uri The value for the {@code uri} attribute
+   * @return An immutable UploadResponse instance
+   */
+  public static ImmutableUploadResponse of(Optional<String> uri) {
+    return new ImmutableUploadResponse(uri);
+  }
+}
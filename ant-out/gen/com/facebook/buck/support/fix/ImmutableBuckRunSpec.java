@@ -0,0 +1,164 @@
+package com.facebook.buck.support.fix;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuckRunSpec}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuckRunSpec.of()}.
+ */
+@Generated(from = "BuckRunSpec", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+final class ImmutableBuckRunSpec extends BuckRunSpec {
+  private transient final Path path;
+  private final ImmutableList<String> argv;
+  private final ImmutableMap<String, String> envp;
+  private final Path cwd;
+  private final boolean isFixScript;
+
+  private ImmutableBuckRunSpec(
+      Iterable<String> argv,
+      Map<String, ? extends String> envp,
+      Path cwd,
+      boolean isFixScript) {
+    this.argv = ImmutableList.copyOf(argv);
+    this.envp = ImmutableMap.copyOf(envp);
+    this.cwd = Objects.requireNonNull(cwd, "cwd");
+    this.isFixScript = isFixScript;
+    this.path = Objects.requireNonNull(super.getPath(), "path");
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code path} attribute
+   */
+  @Override
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * @return The value of the {@code argv} attribute
+   */
+  @Override
+  public ImmutableList<String> getArgv() {
+    return argv;
+  }
+
+  /**
+   * @return The value of the {@code envp} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnvp() {
+    return envp;
+  }
+
+  /**
+   * @return The value of the {@code cwd} attribute
+   */
+  @Override
+  public Path getCwd() {
+    return cwd;
+  }
+
+  /**
+   * @return The value of the {@code isFixScript} attribute
+   */
+  @Override
+  public boolean getIsFixScript() {
+    return isFixScript;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuckRunSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuckRunSpec
+        && equalTo((ImmutableBuckRunSpec) another);
+  }
+
+  private boolean equalTo(ImmutableBuckRunSpec another) {
+    return path.equals(another.path)
+        && argv.equals(another.argv)
+        && envp.equals(another.envp)
+        && cwd.equals(another.cwd)
+        && isFixScript == another.isFixScript;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code path}, {@code argv}, {@code envp}, {@code cwd}, {@code isFixScript}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + path.hashCode();
+    h += (h << 5) + argv.hashCode();
+    h += (h << 5) + envp.hashCode();
+    h += (h << 5) + cwd.hashCode();
+    h += (h << 5) + Booleans.hashCode(isFixScript);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuckRunSpec} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuckRunSpec")
+        .omitNullValues()
+        .add("path", path)
+        .add("argv", argv)
+        .add("envp", envp)
+        .add("cwd", cwd)
+        .add("isFixScript", isFixScript)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuckRunSpec} instance.
+   * @param argv The value for the {@code argv} attribute
+   * @param envp The value for the {@code envp} attribute
+   * @param cwd The value for the {@code cwd} attribute
+   * @param isFixScript The value for the {@code isFixScript} attribute
+   * @return An immutable BuckRunSpec instance
+   */
+  public static ImmutableBuckRunSpec of(ImmutableList<String> argv, ImmutableMap<String, String> envp, Path cwd, boolean isFixScript) {
+    return of((Iterable<String>) argv, envp, cwd, isFixScript);
+  }
+
+  /**
+   * Construct a new immutable {@code BuckRunSpec} instance.
+   * @param argv The value for the {@code argv} attribute
+   * @param envp The value for the {@code envp} attribute
+   * @param cwd The value for the {@code cwd} attribute
+   * @param isFixScript The value for the {@code isFixScript} attribute
+   * @return An immutable BuckRunSpec instance
+   */
+  public static ImmutableBuckRunSpec of(Iterable<String> argv, Map<String, ? extends String> envp, Path cwd, boolean isFixScript) {
+    return new ImmutableBuckRunSpec(argv, envp, cwd, isFixScript);
+  }
+}
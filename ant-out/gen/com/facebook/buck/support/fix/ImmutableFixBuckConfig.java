@@ -0,0 +1,241 @@
+package com.facebook.buck.support.fix;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link FixBuckConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableFixBuckConfig.of()}.
+ */
+@Generated(from = "FixBuckConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableFixBuckConfig extends FixBuckConfig {
+  private final BuckConfig delegate;
+
+  private ImmutableFixBuckConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableFixBuckConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableFixBuckConfig
+        && equalTo((ImmutableFixBuckConfig) another);
+  }
+
+  private boolean equalTo(ImmutableFixBuckConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FixBuckConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FixBuckConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long FIX_SCRIPT_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient Optional<ImmutableList<String>> fixScript;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link FixBuckConfig#getFixScript() fixScript} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code fixScript} attribute
+   */
+  @Override
+  public Optional<ImmutableList<String>> getFixScript() {
+    if ((lazyInitBitmap & FIX_SCRIPT_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & FIX_SCRIPT_LAZY_INIT_BIT) == 0) {
+          this.fixScript = Objects.requireNonNull(super.getFixScript(), "fixScript");
+          lazyInitBitmap |= FIX_SCRIPT_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return fixScript;
+  }
+
+  private static final long LEGACY_FIX_SCRIPT_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient Optional<ImmutableList<String>> legacyFixScript;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link FixBuckConfig#getLegacyFixScript() legacyFixScript} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code legacyFixScript} attribute
+   */
+  @Override
+  public Optional<ImmutableList<String>> getLegacyFixScript() {
+    if ((lazyInitBitmap & LEGACY_FIX_SCRIPT_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & LEGACY_FIX_SCRIPT_LAZY_INIT_BIT) == 0) {
+          this.legacyFixScript = Objects.requireNonNull(super.getLegacyFixScript(), "legacyFixScript");
+          lazyInitBitmap |= LEGACY_FIX_SCRIPT_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return legacyFixScript;
+  }
+
+  private static final long FIX_SCRIPT_CONTACT_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient Optional<String> fixScriptContact;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link FixBuckConfig#getFixScriptContact() fixScriptContact} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code fixScriptContact} attribute
+   */
+  @Override
+  public Optional<String> getFixScriptContact() {
+    if ((lazyInitBitmap & FIX_SCRIPT_CONTACT_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & FIX_SCRIPT_CONTACT_LAZY_INIT_BIT) == 0) {
+          this.fixScriptContact = Objects.requireNonNull(super.getFixScriptContact(), "fixScriptContact");
+          lazyInitBitmap |= FIX_SCRIPT_CONTACT_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return fixScriptContact;
+  }
+
+  private static final long FIX_SCRIPT_MESSAGE_LAZY_INIT_BIT = 0x8L;
+
+  @SuppressWarnings("Immutable")
+  private transient String fixScriptMessage;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link FixBuckConfig#getFixScriptMessage() fixScriptMessage} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code fixScriptMessage} attribute
+   */
+  @Override
+  public String getFixScriptMessage() {
+    if ((lazyInitBitmap & FIX_SCRIPT_MESSAGE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & FIX_SCRIPT_MESSAGE_LAZY_INIT_BIT) == 0) {
+          this.fixScriptMessage = Objects.requireNonNull(super.getFixScriptMessage(), "fixScriptMessage");
+          lazyInitBitmap |= FIX_SCRIPT_MESSAGE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return fixScriptMessage;
+  }
+
+  private static final long SHOULD_PRINT_FIX_SCRIPT_MESSAGE_LAZY_INIT_BIT = 0x10L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean shouldPrintFixScriptMessage;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link FixBuckConfig#shouldPrintFixScriptMessage() shouldPrintFixScriptMessage} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code shouldPrintFixScriptMessage} attribute
+   */
+  @Override
+  public boolean shouldPrintFixScriptMessage() {
+    if ((lazyInitBitmap & SHOULD_PRINT_FIX_SCRIPT_MESSAGE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & SHOULD_PRINT_FIX_SCRIPT_MESSAGE_LAZY_INIT_BIT) == 0) {
+          this.shouldPrintFixScriptMessage = super.shouldPrintFixScriptMessage();
+          lazyInitBitmap |= SHOULD_PRINT_FIX_SCRIPT_MESSAGE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return shouldPrintFixScriptMessage;
+  }
+
+  private static final long SHOULD_USE_LEGACY_FIX_SCRIPT_LAZY_INIT_BIT = 0x20L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean shouldUseLegacyFixScript;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link FixBuckConfig#shouldUseLegacyFixScript() shouldUseLegacyFixScript} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code shouldUseLegacyFixScript} attribute
+   */
+  @Override
+  public boolean shouldUseLegacyFixScript() {
+    if ((lazyInitBitmap & SHOULD_USE_LEGACY_FIX_SCRIPT_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & SHOULD_USE_LEGACY_FIX_SCRIPT_LAZY_INIT_BIT) == 0) {
+          this.shouldUseLegacyFixScript = super.shouldUseLegacyFixScript();
+          lazyInitBitmap |= SHOULD_USE_LEGACY_FIX_SCRIPT_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return shouldUseLegacyFixScript;
+  }
+
+  /**
+   * Construct a new immutable {@code FixBuckConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable FixBuckConfig instance
+   */
+  public static ImmutableFixBuckConfig of(BuckConfig delegate) {
+    return new ImmutableFixBuckConfig(delegate);
+  }
+}
@@ -0,0 +1,106 @@
+package com.facebook.buck.swift.toolchain.impl;
+
+import com.facebook.buck.core.model.Flavor;
+import com.facebook.buck.swift.toolchain.SwiftPlatform;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link StaticUnresolvedSwiftPlatform}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableStaticUnresolvedSwiftPlatform.of()}.
+ */
+@Generated(from = "StaticUnresolvedSwiftPlatform", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableStaticUnresolvedSwiftPlatform
+    extends StaticUnresolvedSwiftPlatform {
+  private final @Nullable SwiftPlatform staticallyResolvedInstance;
+  private final Flavor flavor;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableStaticUnresolvedSwiftPlatform(
+      Optional<? extends SwiftPlatform> staticallyResolvedInstance,
+      Flavor flavor) {
+    this.staticallyResolvedInstance = staticallyResolvedInstance.orElse(null);
+    this.flavor = Objects.requireNonNull(flavor, "flavor");
+  }
+
+  /**
+   * @return The value of the {@code staticallyResolvedInstance} attribute
+   */
+  @Override
+  public Optional<SwiftPlatform> getStaticallyResolvedInstance() {
+    return Optional.ofNullable(staticallyResolvedInstance);
+  }
+
+  /**
+   * @return The value of the {@code flavor} attribute
+   */
+  @Override
+  public Flavor getFlavor() {
+    return flavor;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableStaticUnresolvedSwiftPlatform} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableStaticUnresolvedSwiftPlatform
+        && equalTo((ImmutableStaticUnresolvedSwiftPlatform) another);
+  }
+
+  private boolean equalTo(ImmutableStaticUnresolvedSwiftPlatform another) {
+    return Objects.equals(staticallyResolvedInstance, another.staticallyResolvedInstance)
+        && flavor.equals(another.flavor);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code staticallyResolvedInstance}, {@code flavor}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(staticallyResolvedInstance);
+    h += (h << 5) + flavor.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code StaticUnresolvedSwiftPlatform} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("StaticUnresolvedSwiftPlatform")
+        .omitNullValues()
+        .add("staticallyResolvedInstance", staticallyResolvedInstance)
+        .add("flavor", flavor)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code StaticUnresolvedSwiftPlatform} instance.
+   * @param staticallyResolvedInstance The value for the {@code staticallyResolvedInstance} attribute
+   * @param flavor The value for the {@code flavor} attribute
+   * @return An immutable StaticUnresolvedSwiftPlatform instance
+   */
+  public static ImmutableStaticUnresolvedSwiftPlatform of(Optional<? extends SwiftPlatform> staticallyResolvedInstance, Flavor flavor) {
+    return new ImmutableStaticUnresolvedSwiftPlatform(staticallyResolvedInstance, flavor);
+  }
+}
@@ -0,0 +1,106 @@
+package com.facebook.buck.util;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link PatternAndMessage}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutablePatternAndMessage.of()}.
+ */
+@Generated(from = "PatternAndMessage", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutablePatternAndMessage extends PatternAndMessage {
+  private final Pattern pattern;
+  private final String message;
+
+  private ImmutablePatternAndMessage(Pattern pattern, String message) {
+    this.pattern = Objects.requireNonNull(pattern, "pattern");
+    this.message = Objects.requireNonNull(message, "message");
+  }
+
+  /**
+   * @return The value of the {@code pattern} attribute
+   */
+  @Override
+  public Pattern getPattern() {
+    return pattern;
+  }
+
+  /**
+   * @return The value of the {@code message} attribute
+   */
+  @Override
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutablePatternAndMessage} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutablePatternAndMessage
+        && equalTo((ImmutablePatternAndMessage) another);
+  }
+
+  private boolean equalTo(ImmutablePatternAndMessage another) {
+    return pattern.equals(another.pattern)
+        && message.equals(another.message);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code pattern}, {@code message}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + pattern.hashCode();
+    h += (h << 5) + message.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PatternAndMessage} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PatternAndMessage")
+        .omitNullValues()
+        .add("pattern", pattern)
+        .add("message", message)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code PatternAndMessage} instance.
+   * @param pattern The value for the {@code pattern} attribute
+   * @param message The value for the {@code message} attribute
+   * @return An immutable PatternAndMessage instance
+   */
+  public static ImmutablePatternAndMessage of(Pattern pattern, String message) {
+    return validate(new ImmutablePatternAndMessage(pattern, message));
+  }
+
+
+  private static ImmutablePatternAndMessage validate(ImmutablePatternAndMessage instance) {
+    instance.check();
+    return instance;
+  }
+}
@@ -0,0 +1,463 @@
+package com.facebook.buck.util;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ProcessExecutorParams}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new ProcessExecutorParams.Builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableProcessExecutorParams.of()}.
+ */
+@Generated(from = "ProcessExecutorParams", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableProcessExecutorParams extends ProcessExecutorParams {
+  private final ImmutableList<String> command;
+  private final @Nullable Path directory;
+  private final @Nullable ImmutableMap<String, String> environment;
+  private final @Nullable ProcessBuilder.Redirect redirectInput;
+  private final @Nullable ProcessBuilder.Redirect redirectOutput;
+  private final @Nullable ProcessBuilder.Redirect redirectError;
+  private final @Nullable Boolean redirectErrorStream;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableProcessExecutorParams(
+      Iterable<String> command,
+      Optional<? extends Path> directory,
+      Optional<? extends ImmutableMap<String, String>> environment,
+      Optional<? extends ProcessBuilder.Redirect> redirectInput,
+      Optional<? extends ProcessBuilder.Redirect> redirectOutput,
+      Optional<? extends ProcessBuilder.Redirect> redirectError,
+      Optional<Boolean> redirectErrorStream) {
+    this.command = ImmutableList.copyOf(command);
+    this.directory = directory.orElse(null);
+    this.environment = environment.orElse(null);
+    this.redirectInput = redirectInput.orElse(null);
+    this.redirectOutput = redirectOutput.orElse(null);
+    this.redirectError = redirectError.orElse(null);
+    this.redirectErrorStream = redirectErrorStream.orElse(null);
+  }
+
+  private ImmutableProcessExecutorParams(ImmutableProcessExecutorParams.Builder builder) {
+    this.command = builder.command.build();
+    this.directory = builder.directory;
+    this.environment = builder.environment;
+    this.redirectInput = builder.redirectInput;
+    this.redirectOutput = builder.redirectOutput;
+    this.redirectError = builder.redirectError;
+    this.redirectErrorStream = builder.redirectErrorStream;
+  }
+
+  /**
+   * @return The value of the {@code command} attribute
+   */
+  @Override
+  public ImmutableList<String> getCommand() {
+    return command;
+  }
+
+  /**
+   * @return The value of the {@code directory} attribute
+   */
+  @Override
+  public Optional<Path> getDirectory() {
+    return Optional.ofNullable(directory);
+  }
+
+  /**
+   * @return The value of the {@code environment} attribute
+   */
+  @Override
+  public Optional<ImmutableMap<String, String>> getEnvironment() {
+    return Optional.ofNullable(environment);
+  }
+
+  /**
+   * @return The value of the {@code redirectInput} attribute
+   */
+  @Override
+  public Optional<ProcessBuilder.Redirect> getRedirectInput() {
+    return Optional.ofNullable(redirectInput);
+  }
+
+  /**
+   * @return The value of the {@code redirectOutput} attribute
+   */
+  @Override
+  public Optional<ProcessBuilder.Redirect> getRedirectOutput() {
+    return Optional.ofNullable(redirectOutput);
+  }
+
+  /**
+   * @return The value of the {@code redirectError} attribute
+   */
+  @Override
+  public Optional<ProcessBuilder.Redirect> getRedirectError() {
+    return Optional.ofNullable(redirectError);
+  }
+
+  /**
+   * @return The value of the {@code redirectErrorStream} attribute
+   */
+  @Override
+  public Optional<Boolean> getRedirectErrorStream() {
+    return Optional.ofNullable(redirectErrorStream);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableProcessExecutorParams} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableProcessExecutorParams
+        && equalTo((ImmutableProcessExecutorParams) another);
+  }
+
+  private boolean equalTo(ImmutableProcessExecutorParams another) {
+    return command.equals(another.command)
+        && Objects.equals(directory, another.directory)
+        && Objects.equals(environment, another.environment)
+        && Objects.equals(redirectInput, another.redirectInput)
+        && Objects.equals(redirectOutput, another.redirectOutput)
+        && Objects.equals(redirectError, another.redirectError)
+        && Objects.equals(redirectErrorStream, another.redirectErrorStream);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code command}, {@code directory}, {@code environment}, {@code redirectInput}, {@code redirectOutput}, {@code redirectError}, {@code redirectErrorStream}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + command.hashCode();
+    h += (h << 5) + Objects.hashCode(directory);
+    h += (h << 5) + Objects.hashCode(environment);
+    h += (h << 5) + Objects.hashCode(redirectInput);
+    h += (h << 5) + Objects.hashCode(redirectOutput);
+    h += (h << 5) + Objects.hashCode(redirectError);
+    h += (h << 5) + Objects.hashCode(redirectErrorStream);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ProcessExecutorParams} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ProcessExecutorParams")
+        .omitNullValues()
+        .add("command", command)
+        .add("directory", directory)
+        .add("environment", environment)
+        .add("redirectInput", redirectInput)
+        .add("redirectOutput", redirectOutput)
+        .add("redirectError", redirectError)
+        .add("redirectErrorStream", redirectErrorStream)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ProcessExecutorParams} instance.
+   * @param command The value for the {@code command} attribute
+   * @param directory The value for the {@code directory} attribute
+   * @param environment The value for the {@code environment} attribute
+   * @param redirectInput The value for the {@code redirectInput} attribute
+   * @param redirectOutput The value for the {@code redirectOutput} attribute
+   * @param redirectError The value for the {@code redirectError} attribute
+   * @param redirectErrorStream The value for the {@code redirectErrorStream} attribute
+   * @return An immutable ProcessExecutorParams instance
+   */
+  public static ImmutableProcessExecutorParams of(ImmutableList<String> command, Optional<Path> directory, Optional<ImmutableMap<String, String>> environment, Optional<ProcessBuilder.Redirect> redirectInput, Optional<ProcessBuilder.Redirect> redirectOutput, Optional<ProcessBuilder.Redirect> redirectError, Optional<Boolean> redirectErrorStream) {
+    return of((Iterable<String>) command, directory, environment, redirectInput, redirectOutput, redirectError, redirectErrorStream);
+  }
+
+  /**
+   * Construct a new immutable {@code ProcessExecutorParams} instance.
+   * @param command The value for the {@code command} attribute
+   * @param directory The value for the {@code directory} attribute
+   * @param environment The value for the {@code environment} attribute
+   * @param redirectInput The value for the {@code redirectInput} attribute
+   * @param redirectOutput The value for the {@code redirectOutput} attribute
+   * @param redirectError The value for the {@code redirectError} attribute
+   * @param redirectErrorStream The value for the {@code redirectErrorStream} attribute
+   * @return An immutable ProcessExecutorParams instance
+   */
+  public static ImmutableProcessExecutorParams of(Iterable<String> command, Optional<? extends Path> directory, Optional<? extends ImmutableMap<String, String>> environment, Optional<? extends ProcessBuilder.Redirect> redirectInput, Optional<? extends ProcessBuilder.Redirect> redirectOutput, Optional<? extends ProcessBuilder.Redirect> redirectError, Optional<Boolean> redirectErrorStream) {
+    return new ImmutableProcessExecutorParams(command, directory, environment, redirectInput, redirectOutput, redirectError, redirectErrorStream);
+  }
+
+  /**
+   * Builds instances of type {@link ImmutableProcessExecutorParams ImmutableProcessExecutorParams}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "ProcessExecutorParams", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private ImmutableList.Builder<String> command = ImmutableList.builder();
+    private @Nullable Path directory;
+    private @Nullable ImmutableMap<String, String> environment;
+    private @Nullable ProcessBuilder.Redirect redirectInput;
+    private @Nullable ProcessBuilder.Redirect redirectOutput;
+    private @Nullable ProcessBuilder.Redirect redirectError;
+    private @Nullable Boolean redirectErrorStream;
+
+    /**
+     * Creates a builder for {@link ImmutableProcessExecutorParams ImmutableProcessExecutorParams} instances.
+     */
+    public Builder() {
+      if (!(this instanceof ProcessExecutorParams.Builder)) {
+        throw new UnsupportedOperationException("Use: new ProcessExecutorParams.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ProcessExecutorParams} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProcessExecutorParams.Builder from(ProcessExecutorParams instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllCommand(instance.getCommand());
+      Optional<Path> directoryOptional = instance.getDirectory();
+      if (directoryOptional.isPresent()) {
+        setDirectory(directoryOptional);
+      }
+      Optional<ImmutableMap<String, String>> environmentOptional = instance.getEnvironment();
+      if (environmentOptional.isPresent()) {
+        setEnvironment(environmentOptional);
+      }
+      Optional<ProcessBuilder.Redirect> redirectInputOptional = instance.getRedirectInput();
+      if (redirectInputOptional.isPresent()) {
+        setRedirectInput(redirectInputOptional);
+      }
+      Optional<ProcessBuilder.Redirect> redirectOutputOptional = instance.getRedirectOutput();
+      if (redirectOutputOptional.isPresent()) {
+        setRedirectOutput(redirectOutputOptional);
+      }
+      Optional<ProcessBuilder.Redirect> redirectErrorOptional = instance.getRedirectError();
+      if (redirectErrorOptional.isPresent()) {
+        setRedirectError(redirectErrorOptional);
+      }
+      Optional<Boolean> redirectErrorStreamOptional = instance.getRedirectErrorStream();
+      if (redirectErrorStreamOptional.isPresent()) {
+        setRedirectErrorStream(redirectErrorStreamOptional);
+      }
+      return (ProcessExecutorParams.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link ProcessExecutorParams#getCommand() command} list.
+     * @param element A command element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProcessExecutorParams.Builder addCommand(String element) {
+      this.command.add(element);
+      return (ProcessExecutorParams.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link ProcessExecutorParams#getCommand() command} list.
+     * @param elements An array of command elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProcessExecutorParams.Builder addCommand(String... elements) {
+      this.command.add(elements);
+      return (ProcessExecutorParams.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ProcessExecutorParams#getCommand() command} list.
+     * @param elements An iterable of command elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProcessExecutorParams.Builder setCommand(Iterable<String> elements) {
+      this.command = ImmutableList.builder();
+      return addAllCommand(elements);
+    }
+
+    /**
+     * Adds elements to {@link ProcessExecutorParams#getCommand() command} list.
+     * @param elements An iterable of command elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProcessExecutorParams.Builder addAllCommand(Iterable<String> elements) {
+      this.command.addAll(elements);
+      return (ProcessExecutorParams.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ProcessExecutorParams#getDirectory() directory} to directory.
+     * @param directory The value for directory
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProcessExecutorParams.Builder setDirectory(Path directory) {
+      this.directory = Objects.requireNonNull(directory, "directory");
+      return (ProcessExecutorParams.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ProcessExecutorParams#getDirectory() directory} to directory.
+     * @param directory The value for directory
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProcessExecutorParams.Builder setDirectory(Optional<? extends Path> directory) {
+      this.directory = directory.orElse(null);
+      return (ProcessExecutorParams.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ProcessExecutorParams#getEnvironment() environment} to environment.
+     * @param environment The value for environment
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProcessExecutorParams.Builder setEnvironment(ImmutableMap<String, String> environment) {
+      this.environment = Objects.requireNonNull(environment, "environment");
+      return (ProcessExecutorParams.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ProcessExecutorParams#getEnvironment() environment} to environment.
+     * @param environment The value for environment
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProcessExecutorParams.Builder setEnvironment(Optional<? extends ImmutableMap<String, String>> environment) {
+      this.environment = environment.orElse(null);
+      return (ProcessExecutorParams.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ProcessExecutorParams#getRedirectInput() redirectInput} to redirectInput.
+     * @param redirectInput The value for redirectInput
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProcessExecutorParams.Builder setRedirectInput(ProcessBuilder.Redirect redirectInput) {
+      this.redirectInput = Objects.requireNonNull(redirectInput, "redirectInput");
+      return (ProcessExecutorParams.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ProcessExecutorParams#getRedirectInput() redirectInput} to redirectInput.
+     * @param redirectInput The value for redirectInput
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProcessExecutorParams.Builder setRedirectInput(Optional<? extends ProcessBuilder.Redirect> redirectInput) {
+      this.redirectInput = redirectInput.orElse(null);
+      return (ProcessExecutorParams.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ProcessExecutorParams#getRedirectOutput() redirectOutput} to redirectOutput.
+     * @param redirectOutput The value for redirectOutput
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProcessExecutorParams.Builder setRedirectOutput(ProcessBuilder.Redirect redirectOutput) {
+      this.redirectOutput = Objects.requireNonNull(redirectOutput, "redirectOutput");
+      return (ProcessExecutorParams.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ProcessExecutorParams#getRedirectOutput() redirectOutput} to redirectOutput.
+     * @param redirectOutput The value for redirectOutput
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProcessExecutorParams.Builder setRedirectOutput(Optional<? extends ProcessBuilder.Redirect> redirectOutput) {
+      this.redirectOutput = redirectOutput.orElse(null);
+      return (ProcessExecutorParams.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ProcessExecutorParams#getRedirectError() redirectError} to redirectError.
+     * @param redirectError The value for redirectError
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProcessExecutorParams.Builder setRedirectError(ProcessBuilder.Redirect redirectError) {
+      this.redirectError = Objects.requireNonNull(redirectError, "redirectError");
+      return (ProcessExecutorParams.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ProcessExecutorParams#getRedirectError() redirectError} to redirectError.
+     * @param redirectError The value for redirectError
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProcessExecutorParams.Builder setRedirectError(Optional<? extends ProcessBuilder.Redirect> redirectError) {
+      this.redirectError = redirectError.orElse(null);
+      return (ProcessExecutorParams.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ProcessExecutorParams#getRedirectErrorStream() redirectErrorStream} to redirectErrorStream.
+     * @param redirectErrorStream The value for redirectErrorStream
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProcessExecutorParams.Builder setRedirectErrorStream(boolean redirectErrorStream) {
+      this.redirectErrorStream = redirectErrorStream;
+      return (ProcessExecutorParams.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ProcessExecutorParams#getRedirectErrorStream() redirectErrorStream} to redirectErrorStream.
+     * @param redirectErrorStream The value for redirectErrorStream
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProcessExecutorParams.Builder setRedirectErrorStream(Optional<Boolean> redirectErrorStream) {
+      this.redirectErrorStream = redirectErrorStream.orElse(null);
+      return (ProcessExecutorParams.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link ImmutableProcessExecutorParams ImmutableProcessExecutorParams}.
+     * @return An immutable instance of ProcessExecutorParams
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ImmutableProcessExecutorParams build() {
+      return new ImmutableProcessExecutorParams(this);
+    }
+  }
+}
@@ -0,0 +1,549 @@
+package com.facebook.buck.util.cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CacheStats}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new CacheStats.Builder()}.
+ */
+@Generated(from = "CacheStats", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCacheStats extends CacheStats {
+  private final @Nullable Long hitCount;
+  private final @Nullable Long missCount;
+  private final @Nullable Long missMatchCount;
+  private final @Nullable Long evictionCount;
+  private final @Nullable Long invalidationCount;
+  private final @Nullable Long loadSuccessCount;
+  private final @Nullable Long loadExceptionCount;
+  private final @Nullable Long retrievalTime;
+  private final @Nullable Long totalLoadTime;
+  private final @Nullable Long totalMissTime;
+  private final @Nullable Long numberEntries;
+
+  private ImmutableCacheStats(ImmutableCacheStats.Builder builder) {
+    this.hitCount = builder.hitCount;
+    this.missCount = builder.missCount;
+    this.missMatchCount = builder.missMatchCount;
+    this.evictionCount = builder.evictionCount;
+    this.invalidationCount = builder.invalidationCount;
+    this.loadSuccessCount = builder.loadSuccessCount;
+    this.loadExceptionCount = builder.loadExceptionCount;
+    this.retrievalTime = builder.retrievalTime;
+    this.totalLoadTime = builder.totalLoadTime;
+    this.totalMissTime = builder.totalMissTime;
+    this.numberEntries = builder.numberEntries;
+  }
+
+  /**
+   * @return The value of the {@code hitCount} attribute
+   */
+  @Override
+  public Optional<Long> getHitCount() {
+    return Optional.ofNullable(hitCount);
+  }
+
+  /**
+   * @return The value of the {@code missCount} attribute
+   */
+  @Override
+  public Optional<Long> getMissCount() {
+    return Optional.ofNullable(missCount);
+  }
+
+  /**
+   * @return The value of the {@code missMatchCount} attribute
+   */
+  @Override
+  public Optional<Long> getMissMatchCount() {
+    return Optional.ofNullable(missMatchCount);
+  }
+
+  /**
+   * @return The value of the {@code evictionCount} attribute
+   */
+  @Override
+  public Optional<Long> getEvictionCount() {
+    return Optional.ofNullable(evictionCount);
+  }
+
+  /**
+   * @return The value of the {@code invalidationCount} attribute
+   */
+  @Override
+  public Optional<Long> getInvalidationCount() {
+    return Optional.ofNullable(invalidationCount);
+  }
+
+  /**
+   * @return The value of the {@code loadSuccessCount} attribute
+   */
+  @Override
+  public Optional<Long> getLoadSuccessCount() {
+    return Optional.ofNullable(loadSuccessCount);
+  }
+
+  /**
+   * @return The value of the {@code loadExceptionCount} attribute
+   */
+  @Override
+  public Optional<Long> getLoadExceptionCount() {
+    return Optional.ofNullable(loadExceptionCount);
+  }
+
+  /**
+   * @return The value of the {@code retrievalTime} attribute
+   */
+  @Override
+  public Optional<Long> getRetrievalTime() {
+    return Optional.ofNullable(retrievalTime);
+  }
+
+  /**
+   * @return The value of the {@code totalLoadTime} attribute
+   */
+  @Override
+  public Optional<Long> getTotalLoadTime() {
+    return Optional.ofNullable(totalLoadTime);
+  }
+
+  /**
+   * @return The value of the {@code totalMissTime} attribute
+   */
+  @Override
+  public Optional<Long> getTotalMissTime() {
+    return Optional.ofNullable(totalMissTime);
+  }
+
+  /**
+   * @return The value of the {@code numberEntries} attribute
+   */
+  @Override
+  public Optional<Long> getNumberEntries() {
+    return Optional.ofNullable(numberEntries);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCacheStats} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCacheStats
+        && equalTo((ImmutableCacheStats) another);
+  }
+
+  private boolean equalTo(ImmutableCacheStats another) {
+    return Objects.equals(hitCount, another.hitCount)
+        && Objects.equals(missCount, another.missCount)
+        && Objects.equals(missMatchCount, another.missMatchCount)
+        && Objects.equals(evictionCount, another.evictionCount)
+        && Objects.equals(invalidationCount, another.invalidationCount)
+        && Objects.equals(loadSuccessCount, another.loadSuccessCount)
+        && Objects.equals(loadExceptionCount, another.loadExceptionCount)
+        && Objects.equals(retrievalTime, another.retrievalTime)
+        && Objects.equals(totalLoadTime, another.totalLoadTime)
+        && Objects.equals(totalMissTime, another.totalMissTime)
+        && Objects.equals(numberEntries, another.numberEntries);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code hitCount}, {@code missCount}, {@code missMatchCount}, {@code evictionCount}, {@code invalidationCount}, {@code loadSuccessCount}, {@code loadExceptionCount}, {@code retrievalTime}, {@code totalLoadTime}, {@code totalMissTime}, {@code numberEntries}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(hitCount);
+    h += (h << 5) + Objects.hashCode(missCount);
+    h += (h << 5) + Objects.hashCode(missMatchCount);
+    h += (h << 5) + Objects.hashCode(evictionCount);
+    h += (h << 5) + Objects.hashCode(invalidationCount);
+    h += (h << 5) + Objects.hashCode(loadSuccessCount);
+    h += (h << 5) + Objects.hashCode(loadExceptionCount);
+    h += (h << 5) + Objects.hashCode(retrievalTime);
+    h += (h << 5) + Objects.hashCode(totalLoadTime);
+    h += (h << 5) + Objects.hashCode(totalMissTime);
+    h += (h << 5) + Objects.hashCode(numberEntries);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CacheStats} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CacheStats")
+        .omitNullValues()
+        .add("hitCount", hitCount)
+        .add("missCount", missCount)
+        .add("missMatchCount", missMatchCount)
+        .add("evictionCount", evictionCount)
+        .add("invalidationCount", invalidationCount)
+        .add("loadSuccessCount", loadSuccessCount)
+        .add("loadExceptionCount", loadExceptionCount)
+        .add("retrievalTime", retrievalTime)
+        .add("totalLoadTime", totalLoadTime)
+        .add("totalMissTime", totalMissTime)
+        .add("numberEntries", numberEntries)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link CacheStats CacheStats}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "CacheStats", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private @Nullable Long hitCount;
+    private @Nullable Long missCount;
+    private @Nullable Long missMatchCount;
+    private @Nullable Long evictionCount;
+    private @Nullable Long invalidationCount;
+    private @Nullable Long loadSuccessCount;
+    private @Nullable Long loadExceptionCount;
+    private @Nullable Long retrievalTime;
+    private @Nullable Long totalLoadTime;
+    private @Nullable Long totalMissTime;
+    private @Nullable Long numberEntries;
+
+    /**
+     * Creates a builder for {@link CacheStats CacheStats} instances.
+     */
+    public Builder() {
+      if (!(this instanceof CacheStats.Builder)) {
+        throw new UnsupportedOperationException("Use: new CacheStats.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CacheStats} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CacheStats.Builder from(CacheStats instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<Long> hitCountOptional = instance.getHitCount();
+      if (hitCountOptional.isPresent()) {
+        setHitCount(hitCountOptional);
+      }
+      Optional<Long> missCountOptional = instance.getMissCount();
+      if (missCountOptional.isPresent()) {
+        setMissCount(missCountOptional);
+      }
+      Optional<Long> missMatchCountOptional = instance.getMissMatchCount();
+      if (missMatchCountOptional.isPresent()) {
+        setMissMatchCount(missMatchCountOptional);
+      }
+      Optional<Long> evictionCountOptional = instance.getEvictionCount();
+      if (evictionCountOptional.isPresent()) {
+        setEvictionCount(evictionCountOptional);
+      }
+      Optional<Long> invalidationCountOptional = instance.getInvalidationCount();
+      if (invalidationCountOptional.isPresent()) {
+        setInvalidationCount(invalidationCountOptional);
+      }
+      Optional<Long> loadSuccessCountOptional = instance.getLoadSuccessCount();
+      if (loadSuccessCountOptional.isPresent()) {
+        setLoadSuccessCount(loadSuccessCountOptional);
+      }
+      Optional<Long> loadExceptionCountOptional = instance.getLoadExceptionCount();
+      if (loadExceptionCountOptional.isPresent()) {
+        setLoadExceptionCount(loadExceptionCountOptional);
+      }
+      Optional<Long> retrievalTimeOptional = instance.getRetrievalTime();
+      if (retrievalTimeOptional.isPresent()) {
+        setRetrievalTime(retrievalTimeOptional);
+      }
+      Optional<Long> totalLoadTimeOptional = instance.getTotalLoadTime();
+      if (totalLoadTimeOptional.isPresent()) {
+        setTotalLoadTime(totalLoadTimeOptional);
+      }
+      Optional<Long> totalMissTimeOptional = instance.getTotalMissTime();
+      if (totalMissTimeOptional.isPresent()) {
+        setTotalMissTime(totalMissTimeOptional);
+      }
+      Optional<Long> numberEntriesOptional = instance.getNumberEntries();
+      if (numberEntriesOptional.isPresent()) {
+        setNumberEntries(numberEntriesOptional);
+      }
+      return (CacheStats.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CacheStats#getHitCount() hitCount} to hitCount.
+     * @param hitCount The value for hitCount
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CacheStats.Builder setHitCount(long hitCount) {
+      this.hitCount = hitCount;
+      return (CacheStats.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CacheStats#getHitCount() hitCount} to hitCount.
+     * @param hitCount The value for hitCount
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CacheStats.Builder setHitCount(Optional<Long> hitCount) {
+      this.hitCount = hitCount.orElse(null);
+      return (CacheStats.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CacheStats#getMissCount() missCount} to missCount.
+     * @param missCount The value for missCount
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CacheStats.Builder setMissCount(long missCount) {
+      this.missCount = missCount;
+      return (CacheStats.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CacheStats#getMissCount() missCount} to missCount.
+     * @param missCount The value for missCount
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CacheStats.Builder setMissCount(Optional<Long> missCount) {
+      this.missCount = missCount.orElse(null);
+      return (CacheStats.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CacheStats#getMissMatchCount() missMatchCount} to missMatchCount.
+     * @param missMatchCount The value for missMatchCount
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CacheStats.Builder setMissMatchCount(long missMatchCount) {
+      this.missMatchCount = missMatchCount;
+      return (CacheStats.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CacheStats#getMissMatchCount() missMatchCount} to missMatchCount.
+     * @param missMatchCount The value for missMatchCount
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CacheStats.Builder setMissMatchCount(Optional<Long> missMatchCount) {
+      this.missMatchCount = missMatchCount.orElse(null);
+      return (CacheStats.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CacheStats#getEvictionCount() evictionCount} to evictionCount.
+     * @param evictionCount The value for evictionCount
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CacheStats.Builder setEvictionCount(long evictionCount) {
+      this.evictionCount = evictionCount;
+      return (CacheStats.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CacheStats#getEvictionCount() evictionCount} to evictionCount.
+     * @param evictionCount The value for evictionCount
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CacheStats.Builder setEvictionCount(Optional<Long> evictionCount) {
+      this.evictionCount = evictionCount.orElse(null);
+      return (CacheStats.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CacheStats#getInvalidationCount() invalidationCount} to invalidationCount.
+     * @param invalidationCount The value for invalidationCount
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CacheStats.Builder setInvalidationCount(long invalidationCount) {
+      this.invalidationCount = invalidationCount;
+      return (CacheStats.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CacheStats#getInvalidationCount() invalidationCount} to invalidationCount.
+     * @param invalidationCount The value for invalidationCount
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CacheStats.Builder setInvalidationCount(Optional<Long> invalidationCount) {
+      this.invalidationCount = invalidationCount.orElse(null);
+      return (CacheStats.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CacheStats#getLoadSuccessCount() loadSuccessCount} to loadSuccessCount.
+     * @param loadSuccessCount The value for loadSuccessCount
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CacheStats.Builder setLoadSuccessCount(long loadSuccessCount) {
+      this.loadSuccessCount = loadSuccessCount;
+      return (CacheStats.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CacheStats#getLoadSuccessCount() loadSuccessCount} to loadSuccessCount.
+     * @param loadSuccessCount The value for loadSuccessCount
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CacheStats.Builder setLoadSuccessCount(Optional<Long> loadSuccessCount) {
+      this.loadSuccessCount = loadSuccessCount.orElse(null);
+      return (CacheStats.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CacheStats#getLoadExceptionCount() loadExceptionCount} to loadExceptionCount.
+     * @param loadExceptionCount The value for loadExceptionCount
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CacheStats.Builder setLoadExceptionCount(long loadExceptionCount) {
+      this.loadExceptionCount = loadExceptionCount;
+      return (CacheStats.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CacheStats#getLoadExceptionCount() loadExceptionCount} to loadExceptionCount.
+     * @param loadExceptionCount The value for loadExceptionCount
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CacheStats.Builder setLoadExceptionCount(Optional<Long> loadExceptionCount) {
+      this.loadExceptionCount = loadExceptionCount.orElse(null);
+      return (CacheStats.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CacheStats#getRetrievalTime() retrievalTime} to retrievalTime.
+     * @param retrievalTime The value for retrievalTime
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CacheStats.Builder setRetrievalTime(long retrievalTime) {
+      this.retrievalTime = retrievalTime;
+      return (CacheStats.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CacheStats#getRetrievalTime() retrievalTime} to retrievalTime.
+     * @param retrievalTime The value for retrievalTime
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CacheStats.Builder setRetrievalTime(Optional<Long> retrievalTime) {
+      this.retrievalTime = retrievalTime.orElse(null);
+      return (CacheStats.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CacheStats#getTotalLoadTime() totalLoadTime} to totalLoadTime.
+     * @param totalLoadTime The value for totalLoadTime
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CacheStats.Builder setTotalLoadTime(long totalLoadTime) {
+      this.totalLoadTime = totalLoadTime;
+      return (CacheStats.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CacheStats#getTotalLoadTime() totalLoadTime} to totalLoadTime.
+     * @param totalLoadTime The value for totalLoadTime
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CacheStats.Builder setTotalLoadTime(Optional<Long> totalLoadTime) {
+      this.totalLoadTime = totalLoadTime.orElse(null);
+      return (CacheStats.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CacheStats#getTotalMissTime() totalMissTime} to totalMissTime.
+     * @param totalMissTime The value for totalMissTime
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CacheStats.Builder setTotalMissTime(long totalMissTime) {
+      this.totalMissTime = totalMissTime;
+      return (CacheStats.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CacheStats#getTotalMissTime() totalMissTime} to totalMissTime.
+     * @param totalMissTime The value for totalMissTime
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CacheStats.Builder setTotalMissTime(Optional<Long> totalMissTime) {
+      this.totalMissTime = totalMissTime.orElse(null);
+      return (CacheStats.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CacheStats#getNumberEntries() numberEntries} to numberEntries.
+     * @param numberEntries The value for numberEntries
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CacheStats.Builder setNumberEntries(long numberEntries) {
+      this.numberEntries = numberEntries;
+      return (CacheStats.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CacheStats#getNumberEntries() numberEntries} to numberEntries.
+     * @param numberEntries The value for numberEntries
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CacheStats.Builder setNumberEntries(Optional<Long> numberEntries) {
+      this.numberEntries = numberEntries.orElse(null);
+      return (CacheStats.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link CacheStats CacheStats}.
+     * @return An immutable instance of CacheStats
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CacheStats build() {
+      return new ImmutableCacheStats(this);
+    }
+  }
+}
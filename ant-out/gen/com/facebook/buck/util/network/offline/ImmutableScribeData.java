@@ -0,0 +1,181 @@
+package com.facebook.buck.util.network.offline;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ScribeData}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableScribeData.of()}.
+ */
+@Generated(from = "ScribeData", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableScribeData extends ScribeData {
+  private final String category;
+  private final ImmutableList<String> lines;
+  private final @Nullable Integer bucket;
+
+  private ImmutableScribeData(
+      String category,
+      Iterable<String> lines,
+      Optional<Integer> bucket) {
+    this.category = Objects.requireNonNull(category, "category");
+    this.lines = ImmutableList.copyOf(lines);
+    this.bucket = bucket.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code category} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getCategory() {
+    return category;
+  }
+
+  /**
+   * @return The value of the {@code lines} attribute
+   */
+  @JsonProperty
+  @Override
+  public ImmutableList<String> getLines() {
+    return lines;
+  }
+
+  /**
+   * @return The value of the {@code bucket} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<Integer> getBucket() {
+    return Optional.ofNullable(bucket);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableScribeData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableScribeData
+        && equalTo((ImmutableScribeData) another);
+  }
+
+  private boolean equalTo(ImmutableScribeData another) {
+    return category.equals(another.category)
+        && lines.equals(another.lines)
+        && Objects.equals(bucket, another.bucket);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code category}, {@code lines}, {@code bucket}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + category.hashCode();
+    h += (h << 5) + lines.hashCode();
+    h += (h << 5) + Objects.hashCode(bucket);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ScribeData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ScribeData")
+        .omitNullValues()
+        .add("category", category)
+        .add("lines", lines)
+        .add("bucket", bucket)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "ScribeData", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends ScribeData {
+    @Nullable String category;
+    @Nullable ImmutableList<String> lines = ImmutableList.of();
+    @Nullable Optional<Integer> bucket = Optional.empty();
+    @JsonProperty
+    public void setCategory(String category) {
+      this.category = category;
+    }
+    @JsonProperty
+    public void setLines(ImmutableList<String> lines) {
+      this.lines = lines;
+    }
+    @JsonProperty
+    public void setBucket(Optional<Integer> bucket) {
+      this.bucket = bucket;
+    }
+    @Override
+    public String getCategory() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableList<String> getLines() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<Integer> getBucket() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableScribeData fromJson(Json json) {
+    ImmutableScribeData instance = ImmutableScribeData.of(json.category, json.lines, json.bucket);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code ScribeData} instance.
+   * @param category The value for the {@code category} attribute
+   * @param lines The value for the {@code lines} attribute
+   * @param bucket The value for the {@code bucket} attribute
+   * @return An immutable ScribeData instance
+   */
+  public static ImmutableScribeData of(String category, ImmutableList<String> lines, Optional<Integer> bucket) {
+    return of(category, (Iterable<String>) lines, bucket);
+  }
+
+  /**
+   * Construct a new immutable {@code ScribeData} instance.
+   * @param category The value for the {@code category} attribute
+   * @param lines The value for the {@code lines} attribute
+   * @param bucket The value for the {@code bucket} attribute
+   * @return An immutable ScribeData instance
+   */
+  public static ImmutableScribeData of(String category, Iterable<String> lines, Optional<Integer> bucket) {
+    return new ImmutableScribeData(category, lines, bucket);
+  }
+}
@@ -0,0 +1,406 @@
+package com.facebook.buck.util.versioncontrol;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link FullVersionControlStats}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new FullVersionControlStats.Builder()}.
+ */
+@Generated(from = "FullVersionControlStats", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableFullVersionControlStats
+    implements FullVersionControlStats {
+  private final @Nullable VersionControlSupplier<InputStream> diff;
+  private final ImmutableSet<String> pathsChangedInWorkingDirectory;
+  private final String currentRevisionId;
+  private final ImmutableSet<String> baseBookmarks;
+  private final String branchedFromMasterRevisionId;
+  private final Long branchedFromMasterTS;
+
+  private ImmutableFullVersionControlStats(ImmutableFullVersionControlStats.Builder builder) {
+    this.diff = builder.diff;
+    this.pathsChangedInWorkingDirectory = builder.pathsChangedInWorkingDirectory.build();
+    this.currentRevisionId = builder.currentRevisionId;
+    this.baseBookmarks = builder.baseBookmarks.build();
+    this.branchedFromMasterRevisionId = builder.branchedFromMasterRevisionId;
+    this.branchedFromMasterTS = builder.branchedFromMasterTS;
+  }
+
+  /**
+   * @return The value of the {@code diff} attribute
+   */
+  @Override
+  public Optional<VersionControlSupplier<InputStream>> getDiff() {
+    return Optional.ofNullable(diff);
+  }
+
+  /**
+   * @return The value of the {@code pathsChangedInWorkingDirectory} attribute
+   */
+  @Override
+  public ImmutableSet<String> getPathsChangedInWorkingDirectory() {
+    return pathsChangedInWorkingDirectory;
+  }
+
+  /**
+   * @return The value of the {@code currentRevisionId} attribute
+   */
+  @Override
+  public String getCurrentRevisionId() {
+    return currentRevisionId;
+  }
+
+  /**
+   * @return The value of the {@code baseBookmarks} attribute
+   */
+  @Override
+  public ImmutableSet<String> getBaseBookmarks() {
+    return baseBookmarks;
+  }
+
+  /**
+   * @return The value of the {@code branchedFromMasterRevisionId} attribute
+   */
+  @Override
+  public String getBranchedFromMasterRevisionId() {
+    return branchedFromMasterRevisionId;
+  }
+
+  /**
+   * @return The value of the {@code branchedFromMasterTS} attribute
+   */
+  @Override
+  public Long getBranchedFromMasterTS() {
+    return branchedFromMasterTS;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableFullVersionControlStats} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableFullVersionControlStats
+        && equalTo((ImmutableFullVersionControlStats) another);
+  }
+
+  private boolean equalTo(ImmutableFullVersionControlStats another) {
+    return Objects.equals(diff, another.diff)
+        && pathsChangedInWorkingDirectory.equals(another.pathsChangedInWorkingDirectory)
+        && currentRevisionId.equals(another.currentRevisionId)
+        && baseBookmarks.equals(another.baseBookmarks)
+        && branchedFromMasterRevisionId.equals(another.branchedFromMasterRevisionId)
+        && branchedFromMasterTS.equals(another.branchedFromMasterTS);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code diff}, {@code pathsChangedInWorkingDirectory}, {@code currentRevisionId}, {@code baseBookmarks}, {@code branchedFromMasterRevisionId}, {@code branchedFromMasterTS}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(diff);
+    h += (h << 5) + pathsChangedInWorkingDirectory.hashCode();
+    h += (h << 5) + currentRevisionId.hashCode();
+    h += (h << 5) + baseBookmarks.hashCode();
+    h += (h << 5) + branchedFromMasterRevisionId.hashCode();
+    h += (h << 5) + branchedFromMasterTS.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FullVersionControlStats} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FullVersionControlStats")
+        .omitNullValues()
+        .add("diff", diff)
+        .add("pathsChangedInWorkingDirectory", pathsChangedInWorkingDirectory)
+        .add("currentRevisionId", currentRevisionId)
+        .add("baseBookmarks", baseBookmarks)
+        .add("branchedFromMasterRevisionId", branchedFromMasterRevisionId)
+        .add("branchedFromMasterTS", branchedFromMasterTS)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link FullVersionControlStats FullVersionControlStats}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "FullVersionControlStats", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_CURRENT_REVISION_ID = 0x1L;
+    private static final long INIT_BIT_BRANCHED_FROM_MASTER_REVISION_ID = 0x2L;
+    private static final long INIT_BIT_BRANCHED_FROM_MASTER_T_S = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable VersionControlSupplier<InputStream> diff;
+    private ImmutableSet.Builder<String> pathsChangedInWorkingDirectory = ImmutableSet.builder();
+    private @Nullable String currentRevisionId;
+    private ImmutableSet.Builder<String> baseBookmarks = ImmutableSet.builder();
+    private @Nullable String branchedFromMasterRevisionId;
+    private @Nullable Long branchedFromMasterTS;
+
+    /**
+     * Creates a builder for {@link FullVersionControlStats FullVersionControlStats} instances.
+     */
+    public Builder() {
+      if (!(this instanceof FullVersionControlStats.Builder)) {
+        throw new UnsupportedOperationException("Use: new FullVersionControlStats.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.util.versioncontrol.CommonSlowVersionControlStats} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final FullVersionControlStats.Builder from(CommonSlowVersionControlStats instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return (FullVersionControlStats.Builder) this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.util.versioncontrol.CommonFastVersionControlStats} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final FullVersionControlStats.Builder from(CommonFastVersionControlStats instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return (FullVersionControlStats.Builder) this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.util.versioncontrol.FullVersionControlStats} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final FullVersionControlStats.Builder from(FullVersionControlStats instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return (FullVersionControlStats.Builder) this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof CommonSlowVersionControlStats) {
+        CommonSlowVersionControlStats instance = (CommonSlowVersionControlStats) object;
+        addAllPathsChangedInWorkingDirectory(instance.getPathsChangedInWorkingDirectory());
+      }
+      if (object instanceof CommonFastVersionControlStats) {
+        CommonFastVersionControlStats instance = (CommonFastVersionControlStats) object;
+        addAllBaseBookmarks(instance.getBaseBookmarks());
+        setBranchedFromMasterRevisionId(instance.getBranchedFromMasterRevisionId());
+        setBranchedFromMasterTS(instance.getBranchedFromMasterTS());
+        setCurrentRevisionId(instance.getCurrentRevisionId());
+      }
+      if (object instanceof FullVersionControlStats) {
+        FullVersionControlStats instance = (FullVersionControlStats) object;
+        Optional<VersionControlSupplier<InputStream>> diffOptional = instance.getDiff();
+        if (diffOptional.isPresent()) {
+          setDiff(diffOptional);
+        }
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link FullVersionControlStats#getDiff() diff} to diff.
+     * @param diff The value for diff
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final FullVersionControlStats.Builder setDiff(VersionControlSupplier<InputStream> diff) {
+      this.diff = Objects.requireNonNull(diff, "diff");
+      return (FullVersionControlStats.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link FullVersionControlStats#getDiff() diff} to diff.
+     * @param diff The value for diff
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final FullVersionControlStats.Builder setDiff(Optional<? extends VersionControlSupplier<InputStream>> diff) {
+      this.diff = diff.orElse(null);
+      return (FullVersionControlStats.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link FullVersionControlStats#getPathsChangedInWorkingDirectory() pathsChangedInWorkingDirectory} set.
+     * @param element A pathsChangedInWorkingDirectory element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final FullVersionControlStats.Builder addPathsChangedInWorkingDirectory(String element) {
+      this.pathsChangedInWorkingDirectory.add(element);
+      return (FullVersionControlStats.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link FullVersionControlStats#getPathsChangedInWorkingDirectory() pathsChangedInWorkingDirectory} set.
+     * @param elements An array of pathsChangedInWorkingDirectory elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final FullVersionControlStats.Builder addPathsChangedInWorkingDirectory(String... elements) {
+      this.pathsChangedInWorkingDirectory.add(elements);
+      return (FullVersionControlStats.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link FullVersionControlStats#getPathsChangedInWorkingDirectory() pathsChangedInWorkingDirectory} set.
+     * @param elements An iterable of pathsChangedInWorkingDirectory elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final FullVersionControlStats.Builder setPathsChangedInWorkingDirectory(Iterable<String> elements) {
+      this.pathsChangedInWorkingDirectory = ImmutableSet.builder();
+      return addAllPathsChangedInWorkingDirectory(elements);
+    }
+
+    /**
+     * Adds elements to {@link FullVersionControlStats#getPathsChangedInWorkingDirectory() pathsChangedInWorkingDirectory} set.
+     * @param elements An iterable of pathsChangedInWorkingDirectory elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final FullVersionControlStats.Builder addAllPathsChangedInWorkingDirectory(Iterable<String> elements) {
+      this.pathsChangedInWorkingDirectory.addAll(elements);
+      return (FullVersionControlStats.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link FullVersionControlStats#getCurrentRevisionId() currentRevisionId} attribute.
+     * @param currentRevisionId The value for currentRevisionId 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final FullVersionControlStats.Builder setCurrentRevisionId(String currentRevisionId) {
+      this.currentRevisionId = Objects.requireNonNull(currentRevisionId, "currentRevisionId");
+      initBits &= ~INIT_BIT_CURRENT_REVISION_ID;
+      return (FullVersionControlStats.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link FullVersionControlStats#getBaseBookmarks() baseBookmarks} set.
+     * @param element A baseBookmarks element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final FullVersionControlStats.Builder addBaseBookmarks(String element) {
+      this.baseBookmarks.add(element);
+      return (FullVersionControlStats.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link FullVersionControlStats#getBaseBookmarks() baseBookmarks} set.
+     * @param elements An array of baseBookmarks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final FullVersionControlStats.Builder addBaseBookmarks(String... elements) {
+      this.baseBookmarks.add(elements);
+      return (FullVersionControlStats.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link FullVersionControlStats#getBaseBookmarks() baseBookmarks} set.
+     * @param elements An iterable of baseBookmarks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final FullVersionControlStats.Builder setBaseBookmarks(Iterable<String> elements) {
+      this.baseBookmarks = ImmutableSet.builder();
+      return addAllBaseBookmarks(elements);
+    }
+
+    /**
+     * Adds elements to {@link FullVersionControlStats#getBaseBookmarks() baseBookmarks} set.
+     * @param elements An iterable of baseBookmarks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final FullVersionControlStats.Builder addAllBaseBookmarks(Iterable<String> elements) {
+      this.baseBookmarks.addAll(elements);
+      return (FullVersionControlStats.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link FullVersionControlStats#getBranchedFromMasterRevisionId() branchedFromMasterRevisionId} attribute.
+     * @param branchedFromMasterRevisionId The value for branchedFromMasterRevisionId 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final FullVersionControlStats.Builder setBranchedFromMasterRevisionId(String branchedFromMasterRevisionId) {
+      this.branchedFromMasterRevisionId = Objects.requireNonNull(branchedFromMasterRevisionId, "branchedFromMasterRevisionId");
+      initBits &= ~INIT_BIT_BRANCHED_FROM_MASTER_REVISION_ID;
+      return (FullVersionControlStats.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link FullVersionControlStats#getBranchedFromMasterTS() branchedFromMasterTS} attribute.
+     * @param branchedFromMasterTS The value for branchedFromMasterTS 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final FullVersionControlStats.Builder setBranchedFromMasterTS(Long branchedFromMasterTS) {
+      this.branchedFromMasterTS = Objects.requireNonNull(branchedFromMasterTS, "branchedFromMasterTS");
+      initBits &= ~INIT_BIT_BRANCHED_FROM_MASTER_T_S;
+      return (FullVersionControlStats.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link FullVersionControlStats FullVersionControlStats}.
+     * @return An immutable instance of FullVersionControlStats
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public FullVersionControlStats build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableFullVersionControlStats(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_CURRENT_REVISION_ID) != 0) attributes.add("currentRevisionId");
+      if ((initBits & INIT_BIT_BRANCHED_FROM_MASTER_REVISION_ID) != 0) attributes.add("branchedFromMasterRevisionId");
+      if ((initBits & INIT_BIT_BRANCHED_FROM_MASTER_T_S) != 0) attributes.add("branchedFromMasterTS");
+      return "Cannot build FullVersionControlStats, some of required attributes are not set " + attributes;
+    }
+  }
+}
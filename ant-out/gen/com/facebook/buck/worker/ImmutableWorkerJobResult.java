@@ -0,0 +1,117 @@
+package com.facebook.buck.worker;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link WorkerJobResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableWorkerJobResult.of()}.
+ */
+@Generated(from = "WorkerJobResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableWorkerJobResult implements WorkerJobResult {
+  private final int exitCode;
+  private final @Nullable String stdout;
+  private final @Nullable String stderr;
+
+  private ImmutableWorkerJobResult(
+      int exitCode,
+      Optional<String> stdout,
+      Optional<String> stderr) {
+    this.exitCode = exitCode;
+    this.stdout = stdout.orElse(null);
+    this.stderr = stderr.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code exitCode} attribute
+   */
+  @Override
+  public int getExitCode() {
+    return exitCode;
+  }
+
+  /**
+   * @return The value of the {@code stdout} attribute
+   */
+  @Override
+  public Optional<String> getStdout() {
+    return Optional.ofNullable(stdout);
+  }
+
+  /**
+   * @return The value of the {@code stderr} attribute
+   */
+  @Override
+  public Optional<String> getStderr() {
+    return Optional.ofNullable(stderr);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableWorkerJobResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableWorkerJobResult
+        && equalTo((ImmutableWorkerJobResult) another);
+  }
+
+  private boolean equalTo(ImmutableWorkerJobResult another) {
+    return exitCode == another.exitCode
+        && Objects.equals(stdout, another.stdout)
+        && Objects.equals(stderr, another.stderr);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code exitCode}, {@code stdout}, {@code stderr}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + exitCode;
+    h += (h << 5) + Objects.hashCode(stdout);
+    h += (h << 5) + Objects.hashCode(stderr);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code WorkerJobResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("WorkerJobResult")
+        .omitNullValues()
+        .add("exitCode", exitCode)
+        .add("stdout", stdout)
+        .add("stderr", stderr)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code WorkerJobResult} instance.
+   * @param exitCode The value for the {@code exitCode} attribute
+   * @param stdout The value for the {@code stdout} attribute
+   * @param stderr The value for the {@code stderr} attribute
+   * @return An immutable WorkerJobResult instance
+   */
+  public static ImmutableWorkerJobResult of(int exitCode, Optional<String> stdout, Optional<String> stderr) {
+    return new ImmutableWorkerJobResult(exitCode, stdout, stderr);
+  }
+}
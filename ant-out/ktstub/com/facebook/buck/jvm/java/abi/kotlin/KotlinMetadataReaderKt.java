@@ -0,0 +1,6 @@
+package com.facebook.buck.jvm.java.abi.kotlin;
+public final class KotlinMetadataReaderKt {
+  public static java.util.List<String> getInlineFunctions(org.objectweb.asm.tree.AnnotationNode n) {
+    return java.util.Collections.emptyList();
+  }
+}
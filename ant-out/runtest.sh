@@ -0,0 +1,21 @@
+#!/bin/bash
+# Sandbox-only helper: compile given test sources against ant-out/classes and run them with JUnit.
+export JAVA_HOME=/root/.sdkman/candidates/java/8.0.392-tem PATH=/root/.sdkman/candidates/java/8.0.392-tem/bin:$PATH
+cd /root/project
+CP=$JAVA_HOME/lib/tools.jar:ant-out/classes:ant-out/bootstrapper/classes:ant-out/tracing-api/classes:ant-out/buckfilesystem/classes:ant-out/kotlin/kotlin_classes:ant-out/src-gen/classes:$(find third-party/java -name "*.jar" ! -name "*-sources.jar" | tr '\n' :)
+PP=third-party/java/immutables/value-2.7.3.jar:third-party/java/immutables/builder-2.7.3.jar:src/com/facebook/buck/core/util/immutables/resources
+files=("$@")
+extra=$(cat ant-out/test-extra.txt 2>/dev/null)
+for i in 1 2 3 4 5 6 7 8 9 10; do
+  rm -rf ant-out/testclasses && mkdir -p ant-out/testclasses
+  out=$(javac -nowarn -encoding UTF-8 -d ant-out/testclasses -cp "$CP" -sourcepath test -processorpath "$PP" "${files[@]}" $extra 2>&1 | grep -v "^Note:")
+  more=$(echo "$out" | grep -B0 -A0 "error: cannot find symbol" | sed 's/:[0-9]*: error.*//' | sort -u)
+  imm=$(echo "$out" | grep -B3 "symbol: *\(variable\|class\) Immutable" | grep "error:" | sed 's/:[0-9]*: error.*//' | sort -u)
+  if [ -z "$imm" ]; then break; fi
+  for f in $imm; do echo "$f" >> ant-out/test-extra.txt; done
+  sort -u ant-out/test-extra.txt -o ant-out/test-extra.txt
+  extra=$(cat ant-out/test-extra.txt)
+done
+echo "$out" | grep -A3 "error" | head -40
+classes=$(for f in "$@"; do echo "$f" | sed 's|^test/||; s|\.java$||; s|/|.|g'; done)
+java -cp "ant-out/testclasses:$CP:test" org.junit.runner.JUnitCore $classes 2>&1 | grep -v "^\s*at " | tail -40
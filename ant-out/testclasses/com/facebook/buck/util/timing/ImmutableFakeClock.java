@@ -0,0 +1,105 @@
+package com.facebook.buck.util.timing;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link FakeClock}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableFakeClock.of()}.
+ */
+@Generated(from = "FakeClock", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableFakeClock extends FakeClock {
+  private final long currentTimeMillis;
+  private final long nanoTime;
+
+  private ImmutableFakeClock(long currentTimeMillis, long nanoTime) {
+    this.currentTimeMillis = currentTimeMillis;
+    this.nanoTime = nanoTime;
+  }
+
+  /**
+   * @return The value of the {@code currentTimeMillis} attribute
+   */
+  @Override
+  public long currentTimeMillis() {
+    return currentTimeMillis;
+  }
+
+  /**
+   * @return The value of the {@code nanoTime} attribute
+   */
+  @Override
+  public long nanoTime() {
+    return nanoTime;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableFakeClock} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableFakeClock
+        && equalTo((ImmutableFakeClock) another);
+  }
+
+  private boolean equalTo(ImmutableFakeClock another) {
+    return currentTimeMillis == another.currentTimeMillis
+        && nanoTime == another.nanoTime;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code currentTimeMillis}, {@code nanoTime}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Longs.hashCode(currentTimeMillis);
+    h += (h << 5) + Longs.hashCode(nanoTime);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FakeClock} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FakeClock")
+        .omitNullValues()
+        .add("currentTimeMillis", currentTimeMillis)
+        .add("nanoTime", nanoTime)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code FakeClock} instance.
+   * @param currentTimeMillis The value for the {@code currentTimeMillis} attribute
+   * @param nanoTime The value for the {@code nanoTime} attribute
+   * @return An immutable FakeClock instance
+   */
+  public static ImmutableFakeClock of(long currentTimeMillis, long nanoTime) {
+    return validate(new ImmutableFakeClock(currentTimeMillis, nanoTime));
+  }
+
+
+  private static ImmutableFakeClock validate(ImmutableFakeClock instance) {
+    instance.checkNanoTimeIsNotDerivedFromCurrentTimeMillis();
+    return instance;
+  }
+}
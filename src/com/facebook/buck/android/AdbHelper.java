@@ -109,6 +109,8 @@ public class AdbHelper implements AndroidDevicesHelper {
   private final Supplier<ExecutionContext> contextSupplier;
   private final boolean restartAdbOnFailure;
   private final ImmutableList<String> rapidInstallTypes;
+  private final boolean blockPatchInstall;
+  private final Optional<Long> pushBytesPerSecondPerDevice;
   private final Supplier<ImmutableList<AndroidDevice>> devicesSupplier;
 
   @Nullable private ListeningExecutorService executorService = null;
@@ -119,13 +121,17 @@ public class AdbHelper implements AndroidDevicesHelper {
       ToolchainProvider toolchainProvider,
       Supplier<ExecutionContext> contextSupplier,
       boolean restartAdbOnFailure,
-      ImmutableList<String> rapidInstallTypes) {
+      ImmutableList<String> rapidInstallTypes,
+      boolean blockPatchInstall,
+      Optional<Long> pushBytesPerSecondPerDevice) {
     this.options = adbOptions;
     this.deviceOptions = deviceOptions;
     this.toolchainProvider = toolchainProvider;
     this.contextSupplier = contextSupplier;
     this.restartAdbOnFailure = restartAdbOnFailure;
     this.rapidInstallTypes = rapidInstallTypes;
+    this.blockPatchInstall = blockPatchInstall;
+    this.pushBytesPerSecondPerDevice = pushBytesPerSecondPerDevice;
     this.devicesSupplier = MoreSuppliers.memoize(this::getDevicesImpl);
   }
 
@@ -531,7 +537,9 @@ public class AdbHelper implements AndroidDevicesHelper {
         getConsole(),
         getApkFilePathFromProperties().orElse(null),
         nextAgentPort.incrementAndGet(),
-        rapidInstallTypes);
+        rapidInstallTypes,
+        blockPatchInstall,
+        pushBytesPerSecondPerDevice);
   }
 
   private static boolean isAdbInitialized(AndroidDebugBridge adb) {
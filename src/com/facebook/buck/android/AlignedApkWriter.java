@@ -0,0 +1,444 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import com.android.apksig.ApkSignerEngine;
+import com.android.apksig.apk.ApkFormatException;
+import com.android.apksig.apk.ApkUtils;
+import com.android.apksig.util.DataSources;
+import com.facebook.buck.util.zip.ZipConstants;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+
+/**
+ * Writes an APK in a single pass. Entries are compressed in parallel, uncompressed entries are
+ * aligned the way {@code zipalign -p 4} aligns them, and the APK is optionally signed while it is
+ * written, so that it does not have to be rewritten by {@code zipalign} and {@code apksigner}.
+ *
+ * <p>Entries are written in the order in which they are added. Timestamps are fixed, so the output
+ * is deterministic.
+ */
+class AlignedApkWriter implements Closeable {
+
+  /** Reads the uncompressed contents of an entry. */
+  interface EntryContents {
+    byte[] read() throws IOException;
+  }
+
+  /** Extra field used by apksig and zipalign to align the data of uncompressed entries. */
+  private static final short ALIGNMENT_EXTRA_FIELD_ID = (short) 0xd935;
+
+  private static final int ALIGNMENT_EXTRA_FIELD_MIN_SIZE = 6;
+  private static final int DEFAULT_ALIGNMENT = 4;
+  /** Native libraries are page aligned so that they can be mapped directly from the APK. */
+  private static final int NATIVE_LIBRARY_ALIGNMENT = 4096;
+
+  /** Same level as the apkbuilder tool. */
+  private static final int COMPRESSION_LEVEL = 4;
+
+  private static final int UTF8_FLAG = 0x800;
+  private static final int MAX_ENTRIES = 0xffff;
+
+  /** Bounds the uncompressed size of the entries held in memory while waiting to be written. */
+  private static final long DEFAULT_MAX_PENDING_BYTES = 64 * 1024 * 1024;
+
+  private final RandomAccessFile file;
+  private final OutputStream out;
+  private final Optional<ApkSignerEngine> signer;
+  private final Executor executor;
+  private final long maxPendingBytes;
+  private final ArrayDeque<PendingEntry> pendingEntries = new ArrayDeque<>();
+  private final List<CentralDirectoryRecord> centralDirectory = new ArrayList<>();
+  private long pendingBytes = 0;
+  private long offset = 0;
+  private boolean finished = false;
+
+  /**
+   * @param signer when present, the APK is signed with the schemes that it has enabled. Only the
+   *     output of {@link #finish()} is a complete APK.
+   * @param executor reads and compresses entries. Entries that it has not started on by the time
+   *     they are written are compressed on the writing thread instead.
+   */
+  AlignedApkWriter(Path outputApk, Optional<ApkSignerEngine> signer, Executor executor)
+      throws IOException {
+    this(outputApk, signer, executor, DEFAULT_MAX_PENDING_BYTES);
+  }
+
+  @VisibleForTesting
+  AlignedApkWriter(
+      Path outputApk, Optional<ApkSignerEngine> signer, Executor executor, long maxPendingBytes)
+      throws IOException {
+    this.executor = executor;
+    this.maxPendingBytes = maxPendingBytes;
+    this.file = new RandomAccessFile(outputApk.toFile(), "rw");
+    this.file.setLength(0);
+    this.out = new BufferedOutputStream(Channels.newOutputStream(file.getChannel()), 1 << 16);
+    this.signer = signer;
+  }
+
+  /**
+   * Adds an entry. Its contents are read and compressed in the background.
+   *
+   * @param compress whether to deflate the entry; uncompressed entries are aligned.
+   * @param size the uncompressed size of the entry, used to bound the memory held by entries that
+   *     have not been written yet.
+   */
+  void addEntry(String name, boolean compress, long size, EntryContents contents)
+      throws IOException, InterruptedException {
+    Preconditions.checkState(!finished);
+    Preconditions.checkArgument(size >= 0, "Size of %s is unknown.", name);
+    // The engine is not thread safe, but each of its inspection requests is.
+    Optional<ApkSignerEngine.InspectJarEntryRequest> inspectRequest =
+        signer.map(engine -> engine.outputJarEntry(name));
+    FutureTask<PreparedEntry> task =
+        new FutureTask<>(
+            () -> {
+              byte[] data = contents.read();
+              if (inspectRequest.isPresent()) {
+                inspectRequest.get().getDataSink().consume(data, 0, data.length);
+                inspectRequest.get().done();
+              }
+              return PreparedEntry.of(name, compress, data);
+            });
+    try {
+      executor.execute(task);
+    } catch (RejectedExecutionException e) {
+      // The writing thread runs it instead.
+    }
+    pendingEntries.add(new PendingEntry(task, size));
+    pendingBytes += size;
+    while (pendingBytes > maxPendingBytes && !pendingEntries.isEmpty()) {
+      writeNextPendingEntry();
+    }
+  }
+
+  /** Writes the remaining entries, the signatures and the central directory. */
+  void finish()
+      throws IOException, InterruptedException, GeneralSecurityException, ApkFormatException {
+    Preconditions.checkState(!finished);
+    finished = true;
+    while (!pendingEntries.isEmpty()) {
+      writeNextPendingEntry();
+    }
+
+    if (signer.isPresent()) {
+      writeJarSignature(signer.get());
+    }
+
+    ByteBuffer centralDirectoryBytes = getCentralDirectory();
+    ByteBuffer endOfCentralDirectory = getEndOfCentralDirectory(centralDirectoryBytes, offset);
+    if (signer.isPresent()) {
+      writeApkSigningBlock(signer.get(), centralDirectoryBytes, endOfCentralDirectory);
+    }
+    write(centralDirectoryBytes);
+    write(endOfCentralDirectory);
+    out.flush();
+    if (signer.isPresent()) {
+      signer.get().outputDone();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    pendingEntries.forEach(pending -> pending.task.cancel(false));
+    try {
+      out.close();
+    } finally {
+      file.close();
+    }
+  }
+
+  private void writeNextPendingEntry() throws IOException, InterruptedException {
+    PendingEntry pending = pendingEntries.remove();
+    pendingBytes -= pending.size;
+    PreparedEntry entry;
+    try {
+      // Prepare it here if the executor hasn't started on it yet. This does nothing if it has.
+      pending.task.run();
+      entry = pending.task.get();
+    } catch (ExecutionException e) {
+      Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IOException(e.getCause());
+    }
+    writeEntry(entry);
+  }
+
+  private void writeEntry(PreparedEntry entry) throws IOException {
+    long localFileHeaderOffset = offset;
+    byte[] extra = new byte[0];
+    if (!entry.compressed) {
+      int alignment =
+          entry.name.endsWith(".so") ? NATIVE_LIBRARY_ALIGNMENT : DEFAULT_ALIGNMENT;
+      extra = getAlignmentExtraField(localFileHeaderOffset, entry.nameBytes.length, alignment);
+    }
+
+    ByteBuffer header =
+        ByteBuffer.allocate(ZipEntry.LOCHDR + entry.nameBytes.length + extra.length)
+            .order(ByteOrder.LITTLE_ENDIAN);
+    header.putInt((int) ZipEntry.LOCSIG);
+    header.putShort(getVersionNeeded(entry.compressed));
+    header.putShort((short) UTF8_FLAG);
+    header.putShort(getMethod(entry.compressed));
+    header.putInt(ZipConstants.DOS_FAKE_TIME);
+    header.putInt((int) entry.crc);
+    header.putInt(entry.data.length);
+    header.putInt(entry.size);
+    header.putShort((short) entry.nameBytes.length);
+    header.putShort((short) extra.length);
+    header.put(entry.nameBytes);
+    header.put(extra);
+    header.flip();
+    write(header);
+    write(ByteBuffer.wrap(entry.data));
+
+    if (centralDirectory.size() == MAX_ENTRIES) {
+      throw new IOException("Too many entries for an APK: " + entry.name);
+    }
+    // Only the metadata is kept, so that the entry's data can be freed as soon as it is written.
+    centralDirectory.add(new CentralDirectoryRecord(entry, localFileHeaderOffset));
+  }
+
+  /**
+   * @return an extra field that pads the local file header of an entry so that its data starts at
+   *     a multiple of {@code alignment}.
+   */
+  private static byte[] getAlignmentExtraField(
+      long localFileHeaderOffset, int nameLength, int alignment) {
+    long dataOffset =
+        localFileHeaderOffset + ZipEntry.LOCHDR + nameLength + ALIGNMENT_EXTRA_FIELD_MIN_SIZE;
+    int padding = (int) ((alignment - (dataOffset % alignment)) % alignment);
+    ByteBuffer extra =
+        ByteBuffer.allocate(ALIGNMENT_EXTRA_FIELD_MIN_SIZE + padding)
+            .order(ByteOrder.LITTLE_ENDIAN);
+    extra.putShort(ALIGNMENT_EXTRA_FIELD_ID);
+    extra.putShort((short) (2 + padding));
+    extra.putShort((short) alignment);
+    return extra.array();
+  }
+
+  private void writeJarSignature(ApkSignerEngine engine)
+      throws IOException, GeneralSecurityException, ApkFormatException {
+    ApkSignerEngine.OutputJarSignatureRequest request = engine.outputJarEntries();
+    if (request == null) {
+      return;
+    }
+    for (ApkSignerEngine.OutputJarSignatureRequest.JarEntry signatureEntry :
+        request.getAdditionalJarEntries()) {
+      byte[] data = signatureEntry.getData();
+      ApkSignerEngine.InspectJarEntryRequest inspectRequest =
+          engine.outputJarEntry(signatureEntry.getName());
+      if (inspectRequest != null) {
+        inspectRequest.getDataSink().consume(data, 0, data.length);
+        inspectRequest.done();
+      }
+      writeEntry(PreparedEntry.of(signatureEntry.getName(), true, data));
+    }
+    request.done();
+  }
+
+  /**
+   * Inserts the APK Signing Block between the entries and the central directory. The v2/v3 digests
+   * cover the entries as written, which are read back from the file rather than kept in memory.
+   */
+  private void writeApkSigningBlock(
+      ApkSignerEngine engine, ByteBuffer centralDirectoryBytes, ByteBuffer endOfCentralDirectory)
+      throws IOException, GeneralSecurityException, ApkFormatException {
+    out.flush();
+    ApkSignerEngine.OutputApkSigningBlockRequest2 request =
+        engine.outputZipSections2(
+            DataSources.asDataSource(file, 0, offset),
+            DataSources.asDataSource(centralDirectoryBytes.duplicate()),
+            DataSources.asDataSource(endOfCentralDirectory.duplicate()));
+    // Reading the entries moved the file pointer that the output stream writes at.
+    file.seek(offset);
+    if (request == null) {
+      return;
+    }
+    write(ByteBuffer.allocate(request.getPaddingSizeBeforeApkSigningBlock()));
+    write(ByteBuffer.wrap(request.getApkSigningBlock()));
+    request.done();
+    ApkUtils.setZipEocdCentralDirectoryOffset(endOfCentralDirectory, offset);
+  }
+
+  private ByteBuffer getCentralDirectory() {
+    int size = 0;
+    for (CentralDirectoryRecord record : centralDirectory) {
+      size += ZipEntry.CENHDR + record.nameBytes.length;
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    for (CentralDirectoryRecord record : centralDirectory) {
+      buffer.putInt((int) ZipEntry.CENSIG);
+      buffer.putShort(getVersionNeeded(record.compressed));
+      buffer.putShort(getVersionNeeded(record.compressed));
+      buffer.putShort((short) UTF8_FLAG);
+      buffer.putShort(getMethod(record.compressed));
+      buffer.putInt(ZipConstants.DOS_FAKE_TIME);
+      buffer.putInt((int) record.crc);
+      buffer.putInt(record.compressedSize);
+      buffer.putInt(record.size);
+      buffer.putShort((short) record.nameBytes.length);
+      // Extra field, comment, disk number, internal and external attributes.
+      buffer.putShort((short) 0);
+      buffer.putShort((short) 0);
+      buffer.putShort((short) 0);
+      buffer.putShort((short) 0);
+      buffer.putInt(0);
+      buffer.putInt((int) record.localFileHeaderOffset);
+      buffer.put(record.nameBytes);
+    }
+    buffer.flip();
+    return buffer;
+  }
+
+  private ByteBuffer getEndOfCentralDirectory(
+      ByteBuffer centralDirectoryBytes, long centralDirectoryOffset) throws IOException {
+    if (centralDirectoryOffset > 0xffffffffL) {
+      throw new IOException("APKs larger than 4GB are not supported");
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(ZipEntry.ENDHDR).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt((int) ZipEntry.ENDSIG);
+    // Disk numbers.
+    buffer.putShort((short) 0);
+    buffer.putShort((short) 0);
+    buffer.putShort((short) centralDirectory.size());
+    buffer.putShort((short) centralDirectory.size());
+    buffer.putInt(centralDirectoryBytes.remaining());
+    buffer.putInt((int) centralDirectoryOffset);
+    // Comment length.
+    buffer.putShort((short) 0);
+    buffer.flip();
+    return buffer;
+  }
+
+  private static short getMethod(boolean compressed) {
+    return (short) (compressed ? ZipEntry.DEFLATED : ZipEntry.STORED);
+  }
+
+  private static short getVersionNeeded(boolean compressed) {
+    return (short) (compressed ? 20 : 10);
+  }
+
+  private void write(ByteBuffer buffer) throws IOException {
+    int length = buffer.remaining();
+    if (buffer.hasArray()) {
+      out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+    } else {
+      byte[] bytes = new byte[length];
+      buffer.duplicate().get(bytes);
+      out.write(bytes);
+    }
+    offset += length;
+  }
+
+  /** An entry that is being read and compressed in the background. */
+  private static class PendingEntry {
+    private final FutureTask<PreparedEntry> task;
+    /** Uncompressed size, as announced by the caller. */
+    private final long size;
+
+    private PendingEntry(FutureTask<PreparedEntry> task, long size) {
+      this.task = task;
+      this.size = size;
+    }
+  }
+
+  private static class PreparedEntry {
+    private final String name;
+    private final byte[] nameBytes;
+    private final boolean compressed;
+    private final long crc;
+    private final int size;
+    /** Contents as written to the APK, i.e. compressed if {@link #compressed} is set. */
+    private final byte[] data;
+
+    private PreparedEntry(String name, boolean compressed, long crc, int size, byte[] data) {
+      this.name = name;
+      this.nameBytes = name.getBytes(StandardCharsets.UTF_8);
+      this.compressed = compressed;
+      this.crc = crc;
+      this.size = size;
+      this.data = data;
+    }
+
+    static PreparedEntry of(String name, boolean compress, byte[] contents) {
+      CRC32 crc = new CRC32();
+      crc.update(contents);
+      byte[] data = compress ? deflate(contents) : contents;
+      return new PreparedEntry(name, compress, crc.getValue(), contents.length, data);
+    }
+
+    private static byte[] deflate(byte[] contents) {
+      Deflater deflater = new Deflater(COMPRESSION_LEVEL, /* nowrap */ true);
+      try {
+        deflater.setInput(contents);
+        deflater.finish();
+        ByteArrayOutputStream output = new ByteArrayOutputStream(contents.length / 2 + 64);
+        byte[] buffer = new byte[64 * 1024];
+        while (!deflater.finished()) {
+          output.write(buffer, 0, deflater.deflate(buffer));
+        }
+        return output.toByteArray();
+      } finally {
+        deflater.end();
+      }
+    }
+
+  }
+
+  private static class CentralDirectoryRecord {
+    private final byte[] nameBytes;
+    private final boolean compressed;
+    private final long crc;
+    private final int compressedSize;
+    private final int size;
+    private final long localFileHeaderOffset;
+
+    private CentralDirectoryRecord(PreparedEntry entry, long localFileHeaderOffset) {
+      this.nameBytes = entry.nameBytes;
+      this.compressed = entry.compressed;
+      this.crc = entry.crc;
+      this.compressedSize = entry.data.length;
+      this.size = entry.size;
+      this.localFileHeaderOffset = localFileHeaderOffset;
+    }
+  }
+}
@@ -256,19 +256,23 @@ class AndroidBinaryBuildable implements AddsToRuleKey {
         resourceFilesInfo.pathsToThirdPartyJars.stream()
             .map(resolver::getAbsolutePath)
             .collect(ImmutableSet.toImmutableSet());
+    boolean applyRedex = redexOptions.isPresent();
+    Path v2SignedApkPath = getFinalApkPath();
+    // Unless the APK is modified after it is built, it is aligned and signed as it is written.
+    boolean buildFinalApk = isApk && !isCompressResources && !applyRedex;
     if (isApk) {
       steps.add(
           new ApkBuilderStep(
               getProjectFilesystem(),
               pathResolver.getAbsolutePath(resourceFilesInfo.resourcesApkPath),
-              getSignedApkPath(),
+              buildFinalApk ? v2SignedApkPath : signedApkPath,
               pathResolver.getRelativePath(dexFilesInfo.primaryDexPath),
               allAssetDirectories,
               nativeLibraryDirectoriesBuilder.build(),
               zipFiles.build(),
               thirdPartyJars,
-              pathToKeystore,
               keystoreProperties,
+              buildFinalApk,
               false,
               javaRuntimeLauncher.getCommandPrefix(pathResolver),
               androidSdkLocation));
@@ -322,9 +326,16 @@ class AndroidBinaryBuildable implements AddsToRuleKey {
               modulesInfo.build()));
     }
 
-    // The `ApkBuilderStep` delegates to android tools to build a ZIP with timestamps in it, making
+    if (buildFinalApk) {
+      buildableContext.recordArtifact(v2SignedApkPath);
+      return steps.build();
+    }
+
+    // The `AabBuilderStep` delegates to android tools to build a ZIP with timestamps in it, making
     // the output non-deterministic.  So use an additional scrubbing step to zero these out.
-    steps.add(ZipScrubberStep.of(getProjectFilesystem().resolve(signedApkPath)));
+    if (!isApk) {
+      steps.add(ZipScrubberStep.of(getProjectFilesystem().resolve(signedApkPath)));
+    }
 
     Path apkToRedexAndAlign;
     // Optionally, compress the resources file in the .apk.
@@ -336,9 +347,7 @@ class AndroidBinaryBuildable implements AddsToRuleKey {
       apkToRedexAndAlign = signedApkPath;
     }
 
-    boolean applyRedex = redexOptions.isPresent();
     Path apkToAlign = apkToRedexAndAlign;
-    Path v2SignedApkPath = getFinalApkPath();
 
     if (applyRedex) {
       Path redexedApk = getRedexedApkPath();
@@ -542,7 +542,10 @@ public class AndroidBinaryGraphEnhancer {
             keepResourcePattern);
     graphBuilder.addToIndex(trimUberRDotJava);
 
-    // Create rule to compile uber R.java sources.
+    // Create rule to compile uber R.java sources.  Unlike the dummy R classes of libraries, which
+    // RDotJavaClassWriter emits directly, these still go through javac: TrimUberRDotJava filters
+    // the generated source line by line, and the result has to be a JavaLibrary for the
+    // non-predexed dex and ProGuard paths below.
     BuildRuleParams paramsForCompileUberRDotJava =
         buildRuleParams.withDeclaredDeps(ImmutableSortedSet.of(trimUberRDotJava));
     JavaLibrary compileUberRDotJava =
@@ -745,7 +748,10 @@ public class AndroidBinaryGraphEnhancer {
         dxExecutorService,
         xzCompressionLevel,
         dxConfig.getDxMaxHeapSize(),
-        group);
+        group,
+        dxConfig.shouldCacheMergedDexes(),
+        dxConfig.getMergedDexCacheMaxSizeBytes(),
+        DexMergeMemorySemaphore.forLimit(dxConfig.getMergeMemoryLimitMb()));
   }
 
   /**
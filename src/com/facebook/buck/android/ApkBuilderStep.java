@@ -16,38 +16,64 @@
 
 package com.facebook.buck.android;
 
+import com.android.apksig.ApkSignerEngine;
+import com.android.apksig.apk.ApkFormatException;
+import com.android.apksig.apk.ApkUtils;
 import com.android.common.sdklib.build.ApkBuilder;
-import com.android.sdklib.build.ApkCreationException;
-import com.android.sdklib.build.DuplicateFileException;
-import com.android.sdklib.build.SealedApkException;
+import com.facebook.buck.android.toolchain.AndroidSdkLocation;
 import com.facebook.buck.core.build.execution.context.ExecutionContext;
 import com.facebook.buck.core.exceptions.HumanReadableException;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.step.Step;
 import com.facebook.buck.step.StepExecutionResult;
 import com.facebook.buck.step.StepExecutionResults;
-import com.facebook.buck.android.toolchain.AndroidSdkLocation;
+import com.facebook.buck.util.concurrent.ExecutorPool;
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.Closer;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.security.KeyStoreException;
-import java.security.NoSuchAlgorithmException;
-import java.security.UnrecoverableKeyException;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import javax.annotation.Nullable;
 
 /**
  * Merges resources into a final APK. This code is based off of the now deprecated apkbuilder tool:
  * https://android.googlesource.com/platform/sdk/+/fd30096196e3747986bdf8a95cc7713dd6e0b239%5E/sdkmanager/libs/sdklib/src/main/java/com/android/sdklib/build/ApkBuilderMain.java
+ *
+ * <p>The APK is written by {@link AlignedApkWriter}, so it is already aligned and its timestamps
+ * are fixed. When {@code isFinalApk} is set it also gets its v1 and v2 signatures while it is
+ * written, so it needs neither {@link ZipalignStep} nor {@link ApkSignerStep}. Otherwise it only
+ * has a v1 signature, like the output of apkbuilder, and is expected to be signed again after it
+ * is modified.
  */
 public class ApkBuilderStep implements Step {
 
+  private static final Pattern NATIVE_LIBRARY_PATTERN =
+      Pattern.compile("^.+\\.(so|bc)$", Pattern.CASE_INSENSITIVE);
+  private static final String GDBSERVER = "gdbserver";
+
   private final ProjectFilesystem filesystem;
   private final Path resourceApk;
   private final Path dexFile;
@@ -56,9 +82,10 @@ public class ApkBuilderStep implements Step {
   private final ImmutableSet<Path> nativeLibraryDirectories;
   private final ImmutableSet<Path> zipFiles;
   private final ImmutableSet<Path> jarFilesThatMayContainResources;
+  private final Supplier<KeystoreProperties> keystorePropertiesSupplier;
+  private final boolean isFinalApk;
   private final boolean debugMode;
   private final ImmutableList<String> javaRuntimeLauncher;
-  private final AppBuilderBase appBuilderBase;
   private final AndroidSdkLocation androidSdkLocation;
 
   /**
@@ -68,6 +95,7 @@ public class ApkBuilderStep implements Step {
    * @param assetDirectories List of paths to assets to be included in the apk.
    * @param nativeLibraryDirectories List of paths to native directories.
    * @param zipFiles List of paths to zipfiles to be included into the apk.
+   * @param isFinalApk Whether the APK is not modified after this step, so that it can be v2 signed.
    * @param debugMode Whether or not to run ApkBuilder with debug mode turned on.
    */
   public ApkBuilderStep(
@@ -79,8 +107,8 @@ public class ApkBuilderStep implements Step {
       ImmutableSet<Path> nativeLibraryDirectories,
       ImmutableSet<Path> zipFiles,
       ImmutableSet<Path> jarFilesThatMayContainResources,
-      Path pathToKeystore,
       Supplier<KeystoreProperties> keystorePropertiesSupplier,
+      boolean isFinalApk,
       boolean debugMode,
       ImmutableList<String> javaRuntimeLauncher,
       AndroidSdkLocation androidSdkLocation) {
@@ -92,68 +120,211 @@ public class ApkBuilderStep implements Step {
     this.nativeLibraryDirectories = nativeLibraryDirectories;
     this.jarFilesThatMayContainResources = jarFilesThatMayContainResources;
     this.zipFiles = zipFiles;
+    this.keystorePropertiesSupplier = keystorePropertiesSupplier;
+    this.isFinalApk = isFinalApk;
     this.debugMode = debugMode;
     this.javaRuntimeLauncher = javaRuntimeLauncher;
-    this.appBuilderBase =
-        new AppBuilderBase(filesystem, keystorePropertiesSupplier, pathToKeystore);
     this.androidSdkLocation = androidSdkLocation;
   }
 
   @Override
-  public StepExecutionResult execute(ExecutionContext context) throws IOException {
+  public StepExecutionResult execute(ExecutionContext context)
+      throws IOException, InterruptedException {
     PrintStream output = null;
     if (context.getVerbosity().shouldUseVerbosityFlagIfAvailable()) {
       output = context.getStdOut();
     }
 
-    try {
-      AppBuilderBase.PrivateKeyAndCertificate privateKeyAndCertificate =
-          appBuilderBase.createKeystoreProperties();
-      ApkBuilder builder =
-          new ApkBuilder(
-              filesystem.getPathForRelativePath(pathToOutputApkFile).toFile(),
-              filesystem.getPathForRelativePath(resourceApk).toFile(),
-              filesystem.getPathForRelativePath(dexFile).toFile(),
-              privateKeyAndCertificate.privateKey,
-              privateKeyAndCertificate.certificate,
-              output);
-      builder.setDebugMode(debugMode);
+    try (Closer closer = Closer.create()) {
+      File resourceApkFile = filesystem.getPathForRelativePath(resourceApk).toFile();
+      ZipFile resources = closer.register(new ZipFile(resourceApkFile));
+      ApkSignerEngine signer =
+          closer.register(
+              ApkSignerStep.createSignerEngine(
+                  filesystem,
+                  keystorePropertiesSupplier.get(),
+                  getMinSdkVersion(resources),
+                  isFinalApk));
+      AlignedApkWriter writer =
+          closer.register(
+              new AlignedApkWriter(
+                  filesystem.getPathForRelativePath(pathToOutputApkFile),
+                  Optional.of(signer),
+                  context
+                      .getExecutors()
+                      .getOrDefault(ExecutorPool.CPU, MoreExecutors.newDirectExecutorService())));
+      ApkContents contents = new ApkContents(writer, output);
+
+      contents.addZipFile(resourceApkFile, resources, name -> true);
+      contents.addFile(filesystem.getPathForRelativePath(dexFile).toFile(), "classes.dex");
       for (Path nativeLibraryDirectory : nativeLibraryDirectories) {
-        builder.addNativeLibraries(
+        contents.addNativeLibraries(
             filesystem.getPathForRelativePath(nativeLibraryDirectory).toFile());
       }
       for (Path assetDirectory : assetDirectories) {
-        builder.addSourceFolder(filesystem.getPathForRelativePath(assetDirectory).toFile());
+        contents.addSourceFolder(filesystem.getPathForRelativePath(assetDirectory).toFile());
       }
       for (Path zipFile : zipFiles) {
         // TODO(natthu): Skipping silently is bad. These should really be assertions.
         if (filesystem.exists(zipFile) && filesystem.isFile(zipFile)) {
-          builder.addZipFile(filesystem.getPathForRelativePath(zipFile).toFile());
+          File file = filesystem.getPathForRelativePath(zipFile).toFile();
+          contents.addZipFile(file, closer.register(new ZipFile(file)), name -> true);
         }
       }
       for (Path jarFileThatMayContainResources : jarFilesThatMayContainResources) {
-        Path jarFile = filesystem.getPathForRelativePath(jarFileThatMayContainResources);
-        builder.addResourcesFromJar(jarFile.toFile());
+        File jarFile = filesystem.getPathForRelativePath(jarFileThatMayContainResources).toFile();
+        contents.addZipFile(
+            jarFile, closer.register(new ZipFile(jarFile)), ApkBuilderStep::isJavaResource);
       }
 
-      // Build the APK
-      builder.sealApk();
-    } catch (ApkCreationException
-        | KeyStoreException
-        | NoSuchAlgorithmException
-        | SealedApkException
-        | UnrecoverableKeyException e) {
+      writer.finish();
+    } catch (GeneralSecurityException | ApkFormatException e) {
       context.logError(e, "Error when creating APK at: %s.", pathToOutputApkFile);
       return StepExecutionResults.ERROR;
-    } catch (DuplicateFileException e) {
-      throw new HumanReadableException(
-          String.format(
-              "Found duplicate file for APK: %1$s\nOrigin 1: %2$s\nOrigin 2: %3$s",
-              e.getArchivePath(), e.getFile1(), e.getFile2()));
     }
     return StepExecutionResults.SUCCESS;
   }
 
+  /**
+   * @return the minimum SDK version of the APK, which determines the digest algorithms of its v1
+   *     signature.
+   */
+  private static int getMinSdkVersion(ZipFile resources) throws IOException, ApkFormatException {
+    ZipEntry manifest = resources.getEntry(ApkUtils.ANDROID_MANIFEST_ZIP_ENTRY_NAME);
+    if (manifest == null) {
+      return 1;
+    }
+    try (InputStream input = resources.getInputStream(manifest)) {
+      return ApkUtils.getMinSdkVersionFromBinaryAndroidManifest(
+          ByteBuffer.wrap(ByteStreams.toByteArray(input)));
+    }
+  }
+
+  /** Same filter as apkbuilder uses for the resources of jars. */
+  private static boolean isJavaResource(String archivePath) {
+    List<String> segments = Arrays.asList(archivePath.split("/"));
+    if (segments.isEmpty()) {
+      return false;
+    }
+    for (String folder : segments.subList(0, segments.size() - 1)) {
+      if (!ApkBuilder.checkFolderForPackaging(folder)) {
+        return false;
+      }
+    }
+    return ApkBuilder.checkFileForPackaging(segments.get(segments.size() - 1));
+  }
+
+  /** Adds the files of the APK to the writer, failing on duplicate paths like apkbuilder does. */
+  private class ApkContents {
+    private final AlignedApkWriter writer;
+    @Nullable private final PrintStream output;
+    private final Map<String, File> addedFiles = new HashMap<>();
+
+    private ApkContents(AlignedApkWriter writer, @Nullable PrintStream output) {
+      this.writer = writer;
+      this.output = output;
+    }
+
+    void addZipFile(File file, ZipFile zipFile, Predicate<String> filter)
+        throws IOException, InterruptedException {
+      verbosePrintln("%s:", file);
+      for (ZipEntry entry : Collections.list(zipFile.entries())) {
+        String name = entry.getName();
+        if (entry.isDirectory() || name.startsWith("META-INF/") || !filter.test(name)) {
+          continue;
+        }
+        verbosePrintln("=> %s", name);
+        checkForDuplicate(name, file);
+        writer.addEntry(
+            name,
+            entry.getMethod() != ZipEntry.STORED,
+            entry.getSize(),
+            () -> {
+              try (InputStream input = zipFile.getInputStream(entry)) {
+                return ByteStreams.toByteArray(input);
+              }
+            });
+      }
+    }
+
+    void addFile(File file, String archivePath) throws IOException, InterruptedException {
+      verbosePrintln("%1$s => %2$s", file, archivePath);
+      checkForDuplicate(archivePath, file);
+      writer.addEntry(archivePath, true, file.length(), () -> Files.readAllBytes(file.toPath()));
+    }
+
+    void addNativeLibraries(File nativeFolder) throws IOException, InterruptedException {
+      checkIsFolder(nativeFolder);
+      verbosePrintln("Native folder: %s", nativeFolder);
+      for (File abi : listSortedFiles(nativeFolder)) {
+        if (!abi.isDirectory()) {
+          continue;
+        }
+        for (File lib : listSortedFiles(abi)) {
+          if (lib.isFile()
+              && (NATIVE_LIBRARY_PATTERN.matcher(lib.getName()).matches()
+                  || (debugMode && GDBSERVER.equals(lib.getName())))) {
+            addFile(lib, "lib/" + abi.getName() + "/" + lib.getName());
+          }
+        }
+      }
+    }
+
+    void addSourceFolder(File sourceFolder) throws IOException, InterruptedException {
+      checkIsFolder(sourceFolder);
+      for (File file : listSortedFiles(sourceFolder)) {
+        addSourceFile(file, null);
+      }
+    }
+
+    private void addSourceFile(File file, @Nullable String parentPath)
+        throws IOException, InterruptedException {
+      String path = parentPath == null ? file.getName() : parentPath + "/" + file.getName();
+      if (file.isDirectory()) {
+        if (ApkBuilder.checkFolderForPackaging(file.getName())) {
+          for (File child : listSortedFiles(file)) {
+            addSourceFile(child, path);
+          }
+        }
+      } else if (ApkBuilder.checkFileForPackaging(file.getName())) {
+        addFile(file, path);
+      }
+    }
+
+    private void checkForDuplicate(String archivePath, File file) {
+      File duplicate = addedFiles.putIfAbsent(archivePath, file);
+      if (duplicate != null) {
+        throw new HumanReadableException(
+            String.format(
+                "Found duplicate file for APK: %1$s\nOrigin 1: %2$s\nOrigin 2: %3$s",
+                archivePath, duplicate, file));
+      }
+    }
+
+    private void checkIsFolder(File folder) throws IOException {
+      if (!folder.isDirectory()) {
+        throw new IOException(
+            String.format(
+                folder.exists() ? "%s is not a folder" : "%s does not exist", folder));
+      }
+    }
+
+    private File[] listSortedFiles(File folder) {
+      File[] files = folder.listFiles();
+      if (files == null) {
+        return new File[0];
+      }
+      Arrays.sort(files);
+      return files;
+    }
+
+    private void verbosePrintln(String format, Object... args) {
+      if (output != null) {
+        output.println(String.format(format, args));
+      }
+    }
+  }
+
   @Override
   public String getShortName() {
     return "apk_builder";
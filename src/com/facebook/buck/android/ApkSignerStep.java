@@ -17,6 +17,8 @@
 package com.facebook.buck.android;
 
 import com.android.apksig.ApkSigner;
+import com.android.apksig.ApkSignerEngine;
+import com.android.apksig.DefaultApkSignerEngine;
 import com.android.sdklib.build.ApkCreationException;
 import com.facebook.buck.core.build.execution.context.ExecutionContext;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
@@ -26,6 +28,7 @@ import com.facebook.buck.step.StepExecutionResults;
 import com.google.common.collect.ImmutableList;
 import java.io.File;
 import java.nio.file.Path;
+import java.security.InvalidKeyException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.PrivateKey;
@@ -39,6 +42,8 @@ import java.util.function.Supplier;
 /** Use Google apksigner to v1/v2/v3 sign the final APK */
 class ApkSignerStep implements Step {
 
+  private static final String SIGNER_NAME = "CERT";
+
   private final ProjectFilesystem filesystem;
   private final Path inputApkPath;
   private final Path outputApkPath;
@@ -98,20 +103,54 @@ class ApkSignerStep implements Step {
   }
 
   private ImmutableList<ApkSigner.SignerConfig> getSignerConfigs() throws KeyStoreException {
-    KeystoreProperties keystoreProperties = keystorePropertiesSupplier.get();
+    SigningKey signingKey = loadSigningKey(filesystem, keystorePropertiesSupplier.get());
+    ApkSigner.SignerConfig signerConfig =
+        new ApkSigner.SignerConfig.Builder(
+                SIGNER_NAME, signingKey.privateKey, signingKey.certificates)
+            .build();
+    return ImmutableList.of(signerConfig);
+  }
+
+  /**
+   * Creates an engine that signs APKs with the same key and signature schemes as this step, for
+   * APKs that are signed while they are written.
+   *
+   * @param v2SigningEnabled whether to add a v2 signature. Only APKs that are not modified further
+   *     can have one.
+   */
+  static ApkSignerEngine createSignerEngine(
+      ProjectFilesystem filesystem,
+      KeystoreProperties keystoreProperties,
+      int minSdkVersion,
+      boolean v2SigningEnabled)
+      throws KeyStoreException, InvalidKeyException {
+    SigningKey signingKey = loadSigningKey(filesystem, keystoreProperties);
+    DefaultApkSignerEngine.SignerConfig signerConfig =
+        new DefaultApkSignerEngine.SignerConfig.Builder(
+                SIGNER_NAME, signingKey.privateKey, signingKey.certificates)
+            .build();
+    return new DefaultApkSignerEngine.Builder(ImmutableList.of(signerConfig), minSdkVersion)
+        .setV1SigningEnabled(true)
+        .setV2SigningEnabled(v2SigningEnabled)
+        .setV3SigningEnabled(false)
+        .build();
+  }
+
+  private static SigningKey loadSigningKey(
+      ProjectFilesystem filesystem, KeystoreProperties keystoreProperties)
+      throws KeyStoreException {
     Path keystorePath = keystoreProperties.getKeystore();
     char[] keystorePassword = keystoreProperties.getStorepass().toCharArray();
     String keyAlias = keystoreProperties.getAlias();
     char[] keyPassword = keystoreProperties.getKeypass().toCharArray();
-    KeyStore keystore = loadKeyStore(keystorePath, keystorePassword);
+    KeyStore keystore = loadKeyStore(filesystem, keystorePath, keystorePassword);
     PrivateKey key = loadPrivateKey(keystore, keyAlias, keyPassword);
     List<X509Certificate> certs = loadCertificates(keystore, keyAlias);
-    ApkSigner.SignerConfig signerConfig =
-        new ApkSigner.SignerConfig.Builder("CERT", key, certs).build();
-    return ImmutableList.of(signerConfig);
+    return new SigningKey(key, certs);
   }
 
-  private KeyStore loadKeyStore(Path keystorePath, char[] keystorePassword)
+  private static KeyStore loadKeyStore(
+      ProjectFilesystem filesystem, Path keystorePath, char[] keystorePassword)
       throws KeyStoreException {
     try {
       String ksType = KeyStore.getDefaultType();
@@ -123,7 +162,7 @@ class ApkSignerStep implements Step {
     }
   }
 
-  private PrivateKey loadPrivateKey(KeyStore keystore, String keyAlias, char[] keyPassword)
+  private static PrivateKey loadPrivateKey(KeyStore keystore, String keyAlias, char[] keyPassword)
       throws KeyStoreException {
     PrivateKey key;
     try {
@@ -137,7 +176,7 @@ class ApkSignerStep implements Step {
     return key;
   }
 
-  private List<X509Certificate> loadCertificates(KeyStore keystore, String keyAlias)
+  private static List<X509Certificate> loadCertificates(KeyStore keystore, String keyAlias)
       throws KeyStoreException {
     Certificate[] certChain = keystore.getCertificateChain(keyAlias);
     if ((certChain == null) || (certChain.length == 0)) {
@@ -151,6 +190,16 @@ class ApkSignerStep implements Step {
     return certs;
   }
 
+  private static class SigningKey {
+    private final PrivateKey privateKey;
+    private final List<X509Certificate> certificates;
+
+    private SigningKey(PrivateKey privateKey, List<X509Certificate> certificates) {
+      this.privateKey = privateKey;
+      this.certificates = certificates;
+    }
+  }
+
   @Override
   public String getShortName() {
     return "apk_signer";
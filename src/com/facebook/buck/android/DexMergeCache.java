@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A content-addressed store of merged secondary dexes, shared by all the {@link
+ * PreDexSplitDexGroup} rules of a project.
+ *
+ * <p>The output of a dex merge is fully determined by the hashes of the pre-dexed inputs and by the
+ * merge options, so a group whose inputs did not change can reuse a previous merge even when its
+ * own output directory is gone (e.g. after switching between binaries or flavors that share the
+ * same groups). Entries live in buck-out and are removed by {@code buck clean}.
+ *
+ * <p>The store is bounded in size: once it grows past its maximum size, the least recently used
+ * entries are deleted.
+ */
+class DexMergeCache {
+  private static final Logger LOG = Logger.get(DexMergeCache.class);
+
+  // Like DirArtifactCache: the store is trimmed once half of its maximum size has been stored since
+  // the last trim, and trimming leaves two thirds of the maximum size.
+  private static final double STORED_TO_MAX_BYTES_RATIO_TRIM_TRIGGER = 0.5;
+  private static final double MAX_BYTES_TRIM_RATIO = 2 / 3.0;
+
+  // Bytes stored under each store since it was last trimmed, shared by all the instances using it.
+  private static final ConcurrentMap<Path, AtomicLong> BYTES_STORED_SINCE_TRIM =
+      new ConcurrentHashMap<>();
+
+  private final ProjectFilesystem filesystem;
+  private final Path root;
+  private final long maxSizeBytes;
+
+  DexMergeCache(ProjectFilesystem filesystem, Path root, long maxSizeBytes) {
+    this.filesystem = filesystem;
+    this.root = root;
+    this.maxSizeBytes = maxSizeBytes;
+  }
+
+  static DexMergeCache of(ProjectFilesystem filesystem, long maxSizeBytes) {
+    return new DexMergeCache(
+        filesystem,
+        filesystem.getBuckPaths().getScratchDir().resolve("dex_merge_cache"),
+        maxSizeBytes);
+  }
+
+  /**
+   * Copies the merged dex stored under {@code key}, and its metadata, to {@code outputPath}.
+   *
+   * @return whether the key was found and copied. A failed copy is treated as a miss, since the
+   *     merge that follows overwrites whatever was copied.
+   */
+  boolean fetch(String key, Path outputPath) {
+    Path entryDir = getEntryDir(key);
+    if (!filesystem.isFile(entryDir.resolve(outputPath.getFileName()))) {
+      return false;
+    }
+    try {
+      filesystem.createParentDirs(outputPath);
+      for (Path artifact : filesystem.getDirectoryContents(entryDir)) {
+        filesystem.copyFile(artifact, outputPath.resolveSibling(artifact.getFileName()));
+      }
+    } catch (IOException e) {
+      LOG.debug(e, "Could not reuse merged dex %s for %s", key, outputPath);
+      return false;
+    }
+    // Entries never change once stored, so the modification time of an entry records when it was
+    // last used.
+    try {
+      filesystem.setLastModifiedTime(entryDir, FileTime.fromMillis(System.currentTimeMillis()));
+    } catch (IOException e) {
+      LOG.debug(e, "Could not mark merged dex %s as used", key);
+    }
+    LOG.verbose("Reused merged dex %s for %s", key, outputPath);
+    return true;
+  }
+
+  /**
+   * Stores the merged dex at {@code outputPath}, and its metadata, under {@code key}. Failures are
+   * only logged, since the output itself is fine.
+   */
+  void store(String key, Path outputPath) {
+    Path entryDir = getEntryDir(key);
+    if (filesystem.exists(entryDir)) {
+      return;
+    }
+    // Entries are written to a private directory and moved into place, so that concurrent merges
+    // of the same group never observe a partially written entry.
+    Path tempDir = root.resolve("tmp").resolve(key + "-" + UUID.randomUUID());
+    long storedBytes = 0;
+    try {
+      filesystem.mkdirs(tempDir);
+      for (Path artifact : getArtifacts(outputPath)) {
+        if (filesystem.isFile(artifact)) {
+          filesystem.copyFile(artifact, tempDir.resolve(artifact.getFileName()));
+          storedBytes += filesystem.getFileSize(artifact);
+        }
+      }
+      filesystem.createParentDirs(entryDir);
+      filesystem.move(tempDir, entryDir, StandardCopyOption.ATOMIC_MOVE);
+      trimIfNeeded(storedBytes);
+    } catch (IOException e) {
+      // Most likely another merge of the same group stored the entry first.
+      LOG.debug(e, "Could not store merged dex %s", outputPath);
+    } finally {
+      try {
+        filesystem.deleteRecursivelyIfExists(tempDir);
+      } catch (IOException e) {
+        LOG.debug(e, "Could not delete %s", tempDir);
+      }
+    }
+  }
+
+  private void trimIfNeeded(long storedBytes) {
+    Path key = filesystem.resolve(root);
+    AtomicLong bytesStoredSinceTrim = BYTES_STORED_SINCE_TRIM.get(key);
+    if (bytesStoredSinceTrim == null) {
+      // Always trim on the first store of this process, since earlier builds may have grown the
+      // store past its maximum size.
+      bytesStoredSinceTrim = new AtomicLong();
+      if (BYTES_STORED_SINCE_TRIM.putIfAbsent(key, bytesStoredSinceTrim) == null) {
+        trim();
+        return;
+      }
+      bytesStoredSinceTrim = BYTES_STORED_SINCE_TRIM.get(key);
+    }
+    if (bytesStoredSinceTrim.addAndGet(storedBytes)
+        > maxSizeBytes * STORED_TO_MAX_BYTES_RATIO_TRIM_TRIGGER) {
+      bytesStoredSinceTrim.set(0);
+      trim();
+    }
+  }
+
+  /**
+   * Deletes the least recently used entries if the store is larger than its maximum size. A fetch
+   * racing with the deletion of its entry simply misses.
+   */
+  @VisibleForTesting
+  void trim() {
+    if (!filesystem.isDirectory(root)) {
+      return;
+    }
+    try {
+      List<StoredEntry> entries = new ArrayList<>();
+      long totalSizeBytes = 0;
+      for (Path prefixDir : filesystem.getDirectoryContents(root)) {
+        if (prefixDir.getFileName().toString().equals("tmp")
+            || !filesystem.isDirectory(prefixDir)) {
+          continue;
+        }
+        for (Path entryDir : filesystem.getDirectoryContents(prefixDir)) {
+          long sizeBytes = 0;
+          for (Path artifact : filesystem.getDirectoryContents(entryDir)) {
+            sizeBytes += filesystem.getFileSize(artifact);
+          }
+          entries.add(
+              new StoredEntry(
+                  entryDir, sizeBytes, filesystem.getLastModifiedTime(entryDir).toMillis()));
+          totalSizeBytes += sizeBytes;
+        }
+      }
+      if (totalSizeBytes <= maxSizeBytes) {
+        return;
+      }
+
+      entries.sort(Comparator.comparingLong(entry -> entry.lastUsedMillis));
+      long maxBytesAfterTrim = (long) (maxSizeBytes * MAX_BYTES_TRIM_RATIO);
+      for (StoredEntry entry : entries) {
+        if (totalSizeBytes <= maxBytesAfterTrim) {
+          break;
+        }
+        LOG.verbose("Evicting merged dex %s", entry.dir);
+        filesystem.deleteRecursivelyIfExists(entry.dir);
+        totalSizeBytes -= entry.sizeBytes;
+      }
+    } catch (IOException e) {
+      LOG.debug(e, "Could not trim %s", root);
+    }
+  }
+
+  private static class StoredEntry {
+    private final Path dir;
+    private final long sizeBytes;
+    private final long lastUsedMillis;
+
+    private StoredEntry(Path dir, long sizeBytes, long lastUsedMillis) {
+      this.dir = dir;
+      this.sizeBytes = sizeBytes;
+      this.lastUsedMillis = lastUsedMillis;
+    }
+  }
+
+  private Path getEntryDir(String key) {
+    return root.resolve(key.substring(0, 2)).resolve(key);
+  }
+
+  /** The files produced by a merge: the dex itself and the .meta file written next to it. */
+  private static ImmutableList<Path> getArtifacts(Path outputPath) {
+    String output = outputPath.toString();
+    ImmutableList.Builder<Path> artifacts = ImmutableList.builder();
+    artifacts.add(outputPath);
+    artifacts.add(outputPath.resolveSibling(outputPath.getFileName() + ".meta"));
+    if (DexStore.XZ.matchesPath(outputPath)) {
+      // The .meta file of an .xz dex describes the jar before compression.
+      Path repackedJar = Paths.get(output.replaceAll("\\.xz$", ""));
+      artifacts.add(repackedJar.resolveSibling(repackedJar.getFileName() + ".meta"));
+    }
+    return artifacts.build();
+  }
+}
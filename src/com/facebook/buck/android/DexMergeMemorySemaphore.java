@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Limits the memory used by dex merges that run at the same time, in the same way {@link
+ * com.facebook.buck.step.fs.XzMemorySemaphore} does for xz compression.
+ *
+ * <p>Each merge reserves an estimate based on the size of its inputs, so many small groups can be
+ * merged in parallel while large ones are serialized. A merge larger than the whole limit still
+ * runs, on its own.
+ */
+class DexMergeMemorySemaphore {
+  // In-process dexers hold both the parsed inputs and the merged output in memory.
+  private static final int MEMORY_PER_INPUT_BYTE = 4;
+  private static final int DEFAULT_MAX_MEMORY_MB =
+      (int) (Runtime.getRuntime().maxMemory() / 2 / 1024 / 1024);
+
+  private static final ConcurrentMap<Integer, DexMergeMemorySemaphore> INSTANCES =
+      new ConcurrentHashMap<>();
+
+  private final int maxMemoryMb;
+  private final Semaphore memorySemaphore;
+
+  DexMergeMemorySemaphore(int maxMemoryMb) {
+    this.maxMemoryMb = Math.max(maxMemoryMb, 1);
+    this.memorySemaphore = new Semaphore(this.maxMemoryMb);
+  }
+
+  /**
+   * @return the semaphore shared by all merges with the given limit, or with half of the heap if
+   *     there is none.
+   */
+  static DexMergeMemorySemaphore forLimit(OptionalInt maxMemoryMb) {
+    return INSTANCES.computeIfAbsent(
+        maxMemoryMb.orElse(DEFAULT_MAX_MEMORY_MB), DexMergeMemorySemaphore::new);
+  }
+
+  /**
+   * Blocks until there is room for a merge of inputs of the given size.
+   *
+   * @return the number of megabytes reserved, to be passed to {@link #release(int)}.
+   */
+  int acquire(long inputBytes) throws InterruptedException {
+    int memoryMb = estimateMemoryMb(inputBytes);
+    memorySemaphore.acquire(memoryMb);
+    return memoryMb;
+  }
+
+  void release(int memoryMb) {
+    memorySemaphore.release(memoryMb);
+  }
+
+  int estimateMemoryMb(long inputBytes) {
+    long memoryMb = inputBytes * MEMORY_PER_INPUT_BYTE / 1024 / 1024;
+    return (int) Math.min(Math.max(memoryMb, 1), maxMemoryMb);
+  }
+
+  int availableMemoryMb() {
+    return memorySemaphore.availablePermits();
+  }
+}
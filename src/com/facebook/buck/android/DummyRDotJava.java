@@ -39,7 +39,6 @@ import com.facebook.buck.jvm.core.HasJavaAbi;
 import com.facebook.buck.jvm.core.JavaAbiInfo;
 import com.facebook.buck.jvm.java.CompileToJarStepFactory;
 import com.facebook.buck.jvm.java.CompilerOutputPaths;
-import com.facebook.buck.jvm.java.CompilerParameters;
 import com.facebook.buck.jvm.java.JarDirectoryStep;
 import com.facebook.buck.jvm.java.JarParameters;
 import com.facebook.buck.jvm.java.JavacToJarStepFactory;
@@ -47,10 +46,7 @@ import com.facebook.buck.step.Step;
 import com.facebook.buck.step.StepExecutionResult;
 import com.facebook.buck.step.StepExecutionResults;
 import com.facebook.buck.step.fs.MakeCleanDirectoryStep;
-import com.facebook.buck.step.fs.MkdirStep;
-import com.facebook.buck.step.fs.WriteFileStep;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Preconditions;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSortedSet;
@@ -67,8 +63,8 @@ import java.util.zip.ZipFile;
 
 /**
  * Buildable that takes in a list of {@link HasAndroidResourceDeps} and for each of these rules,
- * first creates an {@code R.java} file using {@link MergeAndroidResourcesStep} and compiles it to
- * generate a corresponding {@code R.class} file. These are called "dummy" {@code R.java} files
+ * creates an {@code R.java} file and the corresponding {@code R.class} files using {@link
+ * MergeAndroidResourcesStep}, without invoking javac. These are called "dummy" {@code R.java} files
  * since these are later merged together into a single {@code R.java} file by {@link AaptStep}.
  */
 public class DummyRDotJava extends AbstractBuildRule
@@ -174,7 +170,21 @@ public class DummyRDotJava extends AbstractBuildRule
             BuildCellRelativePath.fromCellRelativePath(
                 context.getBuildCellRootPath(), getProjectFilesystem(), rDotJavaSrcFolder)));
 
-    // Generate the .java files and record where they will be written in javaSourceFilePaths.
+    // Clear out the directory where the .class files will be generated.
+    Path rDotJavaClassesFolder = getRDotJavaBinFolder();
+
+    steps.addAll(
+        MakeCleanDirectoryStep.of(
+            BuildCellRelativePath.fromCellRelativePath(
+                context.getBuildCellRootPath(), getProjectFilesystem(), rDotJavaClassesFolder)));
+
+    // R classes only hold constants, so they are written directly as class files next to the
+    // R.java files, instead of compiling the latter.
+    int classFileVersion =
+        RDotJavaClassWriter.getClassFileVersion(
+            compileStepFactory.getJavacOptions().getLanguageLevelOptions().getTargetLevel());
+
+    // Record where the .java files will be written in javaSourceFilePaths.
     ImmutableSortedSet<Path> javaSourceFilePaths;
     if (androidResourceDeps.isEmpty()) {
       // In this case, the user is likely running a Robolectric test that does not happen to
@@ -183,28 +193,30 @@ public class DummyRDotJava extends AbstractBuildRule
 
       // TODO(mbolin): Stop hardcoding com.facebook. This should match the package in the
       // associated TestAndroidManifest.xml file.
-      Path emptyRDotJava = rDotJavaSrcFolder.resolve("com/facebook/R.java");
-
-      steps.addAll(
-          MakeCleanDirectoryStep.of(
-              BuildCellRelativePath.fromCellRelativePath(
-                  context.getBuildCellRootPath(),
-                  getProjectFilesystem(),
-                  emptyRDotJava.getParent())));
-      steps.add(
-          new WriteFileStep(
+      MergeAndroidResourcesStep emptyRStep =
+          MergeAndroidResourcesStep.createStepForDummyRDotJavaClasses(
               getProjectFilesystem(),
-              "package com.facebook;\n public class R {}\n",
-              emptyRDotJava,
-              /* executable */ false));
-      javaSourceFilePaths = ImmutableSortedSet.of(emptyRDotJava);
+              context.getSourcePathResolver(),
+              androidResourceDeps,
+              rDotJavaSrcFolder,
+              rDotJavaClassesFolder,
+              classFileVersion,
+              forceFinalResourceIds,
+              /* unionPackage */ Optional.of("com.facebook"),
+              /* rName */ Optional.empty(),
+              useOldStyleableFormat,
+              /* skipNonUnionRDotJava */ false);
+      steps.add(emptyRStep);
+      javaSourceFilePaths = emptyRStep.getRDotJavaFiles();
     } else {
       MergeAndroidResourcesStep mergeStep =
-          MergeAndroidResourcesStep.createStepForDummyRDotJava(
+          MergeAndroidResourcesStep.createStepForDummyRDotJavaClasses(
               getProjectFilesystem(),
               context.getSourcePathResolver(),
               androidResourceDeps,
               rDotJavaSrcFolder,
+              rDotJavaClassesFolder,
+              classFileVersion,
               forceFinalResourceIds,
               unionPackage,
               /* rName */ Optional.empty(),
@@ -216,11 +228,13 @@ public class DummyRDotJava extends AbstractBuildRule
         javaSourceFilePaths = mergeStep.getRDotJavaFiles();
       } else {
         MergeAndroidResourcesStep mergeFinalRStep =
-            MergeAndroidResourcesStep.createStepForDummyRDotJava(
+            MergeAndroidResourcesStep.createStepForDummyRDotJavaClasses(
                 getProjectFilesystem(),
                 context.getSourcePathResolver(),
                 androidResourceDeps,
                 rDotJavaSrcFolder,
+                rDotJavaClassesFolder,
+                classFileVersion,
                 /* forceFinalResourceIds */ true,
                 unionPackage,
                 finalRName,
@@ -235,14 +249,7 @@ public class DummyRDotJava extends AbstractBuildRule
                 .build();
       }
     }
-
-    // Clear out the directory where the .class files will be generated.
-    Path rDotJavaClassesFolder = getRDotJavaBinFolder();
-
-    steps.addAll(
-        MakeCleanDirectoryStep.of(
-            BuildCellRelativePath.fromCellRelativePath(
-                context.getBuildCellRootPath(), getProjectFilesystem(), rDotJavaClassesFolder)));
+    buildableContext.recordArtifact(rDotJavaClassesFolder);
 
     Path pathToJarOutputDir = outputJar.getParent();
 
@@ -251,33 +258,6 @@ public class DummyRDotJava extends AbstractBuildRule
             BuildCellRelativePath.fromCellRelativePath(
                 context.getBuildCellRootPath(), getProjectFilesystem(), pathToJarOutputDir)));
 
-    CompilerParameters compilerParameters =
-        CompilerParameters.builder()
-            .setClasspathEntries(ImmutableSortedSet.of())
-            .setSourceFilePaths(javaSourceFilePaths)
-            .setScratchPaths(getBuildTarget(), getProjectFilesystem())
-            .build();
-
-    Preconditions.checkState(
-        compilerParameters.getOutputPaths().getClassesDir().equals(rDotJavaClassesFolder));
-
-    steps.add(
-        MkdirStep.of(
-            BuildCellRelativePath.fromCellRelativePath(
-                context.getBuildCellRootPath(),
-                getProjectFilesystem(),
-                compilerParameters.getOutputPaths().getPathToSourcesList().getParent())));
-
-    // Compile the .java files.
-    compileStepFactory.createCompileStep(
-        context,
-        getProjectFilesystem(),
-        getBuildTarget(),
-        compilerParameters,
-        steps,
-        buildableContext);
-    buildableContext.recordArtifact(rDotJavaClassesFolder);
-
     JarParameters jarParameters =
         JarParameters.builder()
             .setJarPath(outputJar)
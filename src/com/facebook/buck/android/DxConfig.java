@@ -46,4 +46,28 @@ public class DxConfig {
   public OptionalInt getDxMaxThreadCount() {
     return delegate.getInteger("dx", "max_threads");
   }
+
+  /**
+   * @return Whether merged secondary dexes should be stored by the hashes of their inputs, so that
+   *     any pre-dex group with the same inputs can reuse them instead of merging again.
+   */
+  public boolean shouldCacheMergedDexes() {
+    return delegate.getBooleanValue("dx", "cache_merged_dexes", false);
+  }
+
+  /**
+   * @return The maximum size, in bytes, of the store of merged secondary dexes. The least recently
+   *     used merges are deleted once it grows past this size.
+   */
+  public long getMergedDexCacheMaxSizeBytes() {
+    return delegate.getLong("dx", "merged_dex_cache_max_size_mb").orElse(1024L) * 1024 * 1024;
+  }
+
+  /**
+   * @return The memory, in megabytes, that pre-dex group merges running at the same time may use.
+   *     Defaults to half of the heap.
+   */
+  public OptionalInt getMergeMemoryLimitMb() {
+    return delegate.getInteger("dx", "merge_memory_limit_mb");
+  }
 }
@@ -237,7 +237,7 @@ public class DxStep extends ShellStep {
     CharsCountingStringList commandArgs = new CharsCountingStringList(10 + filesToDex.size());
 
     // TODO: Support D8 for out of process dexing by respecting dexTool here
-    String dx = androidPlatformTarget.getDxExecutable().toString();
+    String dx = getDxExecutable(androidPlatformTarget, options);
 
     if (dexTool.equals(D8)) {
       // FIXME: We use the dx description for this rule, even if d8 is in use.
@@ -245,11 +245,6 @@ public class DxStep extends ShellStep {
           ConsoleEvent.fine("Using %s instead of D8. D8 can only be used in-process.", dx));
     }
 
-    if (options.contains(Option.USE_CUSTOM_DX_IF_AVAILABLE)) {
-      String customDx = Strings.emptyToNull(System.getProperty("buck.dx"));
-      dx = customDx != null ? customDx : dx;
-    }
-
     commandArgs.add(dx);
 
     // Add the Xmx override, but not for in-process dexing, since the dexer won't understand it.
@@ -490,10 +485,40 @@ public class DxStep extends ShellStep {
   }
 
   private boolean isRunningInProc() {
+    return isRunningInProc(dexTool, options);
+  }
+
+  private static boolean isRunningInProc(String dexTool, Set<Option> options) {
     // D8 runs in process only
     return options.contains(Option.RUN_IN_PROCESS) || D8.equals(dexTool);
   }
 
+  private static String getDxExecutable(
+      AndroidPlatformTarget androidPlatformTarget, Set<Option> options) {
+    String dx = androidPlatformTarget.getDxExecutable().toString();
+    if (options.contains(Option.USE_CUSTOM_DX_IF_AVAILABLE)) {
+      String customDx = Strings.emptyToNull(System.getProperty("buck.dx"));
+      dx = customDx != null ? customDx : dx;
+    }
+    return dx;
+  }
+
+  /**
+   * Identifies the dexer that a step with the given tool and options runs, such that upgrading it
+   * changes the identity: the version of the bundled D8 or dx when dexing in-process, and the dx
+   * executable (whose path includes the build tools version) otherwise.
+   */
+  static String getDexerIdentity(
+      AndroidPlatformTarget androidPlatformTarget, String dexTool, Set<Option> options) {
+    if (D8.equals(dexTool)) {
+      return "d8 " + com.android.tools.r8.Version.getVersionString();
+    }
+    if (isRunningInProc(dexTool, options)) {
+      return "dx " + com.android.dx.Version.VERSION;
+    }
+    return "dx " + getDxExecutable(androidPlatformTarget, options);
+  }
+
   private String writeFileToDexArgsToFile(List<String> items) throws IOException {
     Path path = filesystem.createTempFile("dx_input_list", "");
     try (BufferedWriter writer =
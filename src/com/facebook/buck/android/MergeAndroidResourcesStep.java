@@ -82,6 +82,8 @@ public class MergeAndroidResourcesStep implements Step {
   private final boolean useOldStyleableFormat;
   private final ImmutableList<Path> overrideSymbolsPath;
   private final boolean skipNonUnionRDotJava;
+  private final Optional<Path> classesOutputDir;
+  private final int classFileVersion;
 
   /**
    * Merges text symbols files from {@code aapt} for each of the input {@code android_resource} into
@@ -104,6 +106,44 @@ public class MergeAndroidResourcesStep implements Step {
       Optional<String> rName,
       boolean useOldStyleableFormat,
       boolean skipNonUnionRDotJava) {
+    this(
+        filesystem,
+        pathResolver,
+        androidResourceDeps,
+        uberRDotTxt,
+        outputDir,
+        forceFinalResourceIds,
+        bannedDuplicateResourceTypes,
+        duplicateResourceWhitelistPath,
+        overrideSymbolsPath,
+        unionPackage,
+        rName,
+        useOldStyleableFormat,
+        skipNonUnionRDotJava,
+        /* classesOutputDir */ Optional.empty(),
+        /* classFileVersion */ 0);
+  }
+
+  /**
+   * Like the constructor above, but also writes the R classes directly as class files under
+   * {@code classesOutputDir}, so that the R.java files do not have to be compiled.
+   */
+  private MergeAndroidResourcesStep(
+      ProjectFilesystem filesystem,
+      SourcePathResolverAdapter pathResolver,
+      List<HasAndroidResourceDeps> androidResourceDeps,
+      ImmutableList<Path> uberRDotTxt,
+      Path outputDir,
+      boolean forceFinalResourceIds,
+      EnumSet<RType> bannedDuplicateResourceTypes,
+      Optional<Path> duplicateResourceWhitelistPath,
+      ImmutableList<Path> overrideSymbolsPath,
+      Optional<String> unionPackage,
+      Optional<String> rName,
+      boolean useOldStyleableFormat,
+      boolean skipNonUnionRDotJava,
+      Optional<Path> classesOutputDir,
+      int classFileVersion) {
     this.filesystem = filesystem;
     this.pathResolver = pathResolver;
     this.androidResourceDeps = ImmutableList.copyOf(androidResourceDeps);
@@ -117,6 +157,8 @@ public class MergeAndroidResourcesStep implements Step {
     this.rName = rName.orElse("R");
     this.useOldStyleableFormat = useOldStyleableFormat;
     this.skipNonUnionRDotJava = skipNonUnionRDotJava;
+    this.classesOutputDir = classesOutputDir;
+    this.classFileVersion = classFileVersion;
   }
 
   public static MergeAndroidResourcesStep createStepForDummyRDotJava(
@@ -145,6 +187,40 @@ public class MergeAndroidResourcesStep implements Step {
         skipNonUnionRDotJava);
   }
 
+  /**
+   * Creates a step that writes both the R.java files and the corresponding class files, with the
+   * given class file version, under {@code classesOutputDir}.
+   */
+  public static MergeAndroidResourcesStep createStepForDummyRDotJavaClasses(
+      ProjectFilesystem filesystem,
+      SourcePathResolverAdapter pathResolver,
+      List<HasAndroidResourceDeps> androidResourceDeps,
+      Path outputDir,
+      Path classesOutputDir,
+      int classFileVersion,
+      boolean forceFinalResourceIds,
+      Optional<String> unionPackage,
+      Optional<String> rName,
+      boolean useOldStyleableFormat,
+      boolean skipNonUnionRDotJava) {
+    return new MergeAndroidResourcesStep(
+        filesystem,
+        pathResolver,
+        androidResourceDeps,
+        /* uberRDotTxt */ ImmutableList.of(),
+        outputDir,
+        forceFinalResourceIds,
+        /* bannedDuplicateResourceTypes */ EnumSet.noneOf(RType.class),
+        Optional.empty(),
+        ImmutableList.of(),
+        unionPackage,
+        rName,
+        useOldStyleableFormat,
+        skipNonUnionRDotJava,
+        Optional.of(classesOutputDir),
+        classFileVersion);
+  }
+
   public static MergeAndroidResourcesStep createStepForUberRDotJava(
       ProjectFilesystem filesystem,
       SourcePathResolverAdapter pathResolver,
@@ -290,6 +366,10 @@ public class MergeAndroidResourcesStep implements Step {
       if (!emptyPackages.isEmpty()) {
         writeEmptyRDotJavaForPackages(emptyPackages, filesystem);
       }
+      if (classesOutputDir.isPresent()) {
+        writePerPackageRDotJavaClasses(
+            rDotJavaPackageToResources, emptyPackages, classesOutputDir.get());
+      }
       return StepExecutionResults.SUCCESS;
     } catch (DuplicateResourceException e) {
       return StepExecutionResult.builder()
@@ -330,6 +410,22 @@ public class MergeAndroidResourcesStep implements Step {
     }
   }
 
+  private void writePerPackageRDotJavaClasses(
+      SortedSetMultimap<String, RDotTxtEntry> packageToResources,
+      Set<String> emptyPackages,
+      Path classesDir)
+      throws IOException {
+    RDotJavaClassWriter classWriter =
+        new RDotJavaClassWriter(
+            filesystem, classesDir, rName, forceFinalResourceIds, classFileVersion);
+    for (String rDotJavaPackage : packageToResources.keySet()) {
+      classWriter.writeClasses(rDotJavaPackage, packageToResources.get(rDotJavaPackage));
+    }
+    for (String rDotJavaPackage : emptyPackages) {
+      classWriter.writeClasses(rDotJavaPackage, ImmutableList.of());
+    }
+  }
+
   @VisibleForTesting
   void writePerPackageRDotJava(
       SortedSetMultimap<String, RDotTxtEntry> packageToResources, ProjectFilesystem filesystem)
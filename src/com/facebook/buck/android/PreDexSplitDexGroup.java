@@ -87,6 +87,9 @@ public class PreDexSplitDexGroup extends AbstractBuildRuleWithDeclaredAndExtraDe
   private final ListeningExecutorService dxExecutorService;
   @AddToRuleKey private final int xzCompressionLevel;
   @AddToRuleKey private final Optional<String> dxMaxHeapSize;
+  private final boolean cacheMergedDexes;
+  private final long mergedDexCacheMaxSizeBytes;
+  private final DexMergeMemorySemaphore mergeMemorySemaphore;
 
   @AddToRuleKey final String dexTool;
   @AddToRuleKey final AndroidPlatformTarget androidPlatformTarget;
@@ -114,7 +117,10 @@ public class PreDexSplitDexGroup extends AbstractBuildRuleWithDeclaredAndExtraDe
       ListeningExecutorService dxExecutorService,
       int xzCompressionLevel,
       Optional<String> dxMaxHeapSize,
-      Optional<Integer> groupIndex) {
+      Optional<Integer> groupIndex,
+      boolean cacheMergedDexes,
+      long mergedDexCacheMaxSizeBytes,
+      DexMergeMemorySemaphore mergeMemorySemaphore) {
     super(buildTarget, projectFilesystem, params);
     this.androidPlatformTarget = androidPlatformTarget;
     this.dexTool = dexTool;
@@ -126,6 +132,9 @@ public class PreDexSplitDexGroup extends AbstractBuildRuleWithDeclaredAndExtraDe
     this.apkModule = apkModule;
     this.preDexDeps = preDexDeps;
     this.groupIndex = groupIndex;
+    this.cacheMergedDexes = cacheMergedDexes;
+    this.mergedDexCacheMaxSizeBytes = mergedDexCacheMaxSizeBytes;
+    this.mergeMemorySemaphore = mergeMemorySemaphore;
     this.buildOutputInitializer = new BuildOutputInitializer<>(buildTarget, this);
     this.preDexInputs =
         preDexDeps.stream()
@@ -270,7 +279,11 @@ public class PreDexSplitDexGroup extends AbstractBuildRuleWithDeclaredAndExtraDe
             false,
             Optional.empty(),
             getBuildTarget(),
-            Optional.empty() /* minSdkVersion */));
+            Optional.empty() /* minSdkVersion */,
+            cacheMergedDexes
+                ? Optional.of(DexMergeCache.of(getProjectFilesystem(), mergedDexCacheMaxSizeBytes))
+                : Optional.empty(),
+            Optional.of(mergeMemorySemaphore)));
 
     steps.add(
         new AbstractExecutionStep("write_metadata_txt") {
@@ -282,10 +282,11 @@ public class PreDexedFilesSorter {
 
         @Override
         public Sha1HashCode getClassesHash() {
-          // The only thing unique to canary classes is the index,
-          // which is captured by canaryDirName.
+          // The only things unique to canary classes are the index, which is captured by
+          // canaryDirName, and the class name, which also depends on the group index.
           Hasher hasher = Hashing.sha1().newHasher();
           hasher.putString(canaryDirName, Charsets.UTF_8);
+          hasher.putString(className, Charsets.UTF_8);
           return Sha1HashCode.fromHashCode(hasher.hash());
         }
       };
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import com.facebook.buck.android.aapt.RDotTxtEntry;
+import com.facebook.buck.android.aapt.RDotTxtEntry.IdType;
+import com.facebook.buck.android.aapt.RDotTxtEntry.RType;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.jvm.java.JavacLanguageLevelOptions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.LinkedListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Multimaps;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Writes the R classes of a package directly as class files, with the same members as the {@code
+ * R.java} written by {@link MergeAndroidResourcesStep}. R classes only hold int constants and int
+ * arrays, so this is much cheaper than compiling the generated source with javac.
+ */
+class RDotJavaClassWriter {
+  private static final String OBJECT = "java/lang/Object";
+
+  private final ProjectFilesystem filesystem;
+  private final Path classesDir;
+  private final String rName;
+  private final boolean forceFinalResourceIds;
+  private final int classFileVersion;
+
+  RDotJavaClassWriter(
+      ProjectFilesystem filesystem,
+      Path classesDir,
+      String rName,
+      boolean forceFinalResourceIds,
+      int classFileVersion) {
+    this.filesystem = filesystem;
+    this.classesDir = classesDir;
+    this.rName = rName;
+    this.forceFinalResourceIds = forceFinalResourceIds;
+    this.classFileVersion = classFileVersion;
+  }
+
+  /** @return the class file version that javac would use for the given {@code -target}. */
+  static int getClassFileVersion(String targetLevel) {
+    String level = targetLevel.startsWith("1.") ? targetLevel.substring(2) : targetLevel;
+    try {
+      return Opcodes.V1_8 - 8 + Integer.parseInt(level);
+    } catch (NumberFormatException e) {
+      return getClassFileVersion(JavacLanguageLevelOptions.TARGETED_JAVA_VERSION);
+    }
+  }
+
+  /**
+   * Writes the R class of {@code rDotJavaPackage} and one nested class per resource type.
+   *
+   * @param resources the resources of the package, sorted by type.
+   */
+  void writeClasses(String rDotJavaPackage, Collection<RDotTxtEntry> resources)
+      throws IOException {
+    String rClass = rDotJavaPackage.replace('.', '/') + "/" + rName;
+    ListMultimap<RType, RDotTxtEntry> resourcesByType = LinkedListMultimap.create();
+    ImmutableListMultimap.Builder<String, String> drawableArrays = ImmutableListMultimap.builder();
+    for (RDotTxtEntry resource : resources) {
+      resourcesByType.put(resource.type, resource);
+      if (resource.type == RType.DRAWABLE) {
+        if (resource.customType == RDotTxtEntry.CustomDrawableType.CUSTOM) {
+          drawableArrays.put("custom_drawables", resource.idValue);
+        } else if (resource.customType == RDotTxtEntry.CustomDrawableType.GRAYSCALE_IMAGE) {
+          drawableArrays.put("grayscale_images", resource.idValue);
+        }
+      }
+    }
+
+    ClassWriter outer = startClass(rClass);
+    MethodVisitor outerInitializer = null;
+    Map<String, List<String>> arrays = Multimaps.asMap(drawableArrays.build());
+    for (Map.Entry<String, List<String>> array : arrays.entrySet()) {
+      String arrayName = array.getKey();
+      outer
+          .visitField(
+              Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL,
+              arrayName,
+              "[I",
+              null,
+              null)
+          .visitEnd();
+      if (outerInitializer == null) {
+        outerInitializer = startStaticInitializer(outer);
+      }
+      pushIntArray(outerInitializer, array.getValue());
+      outerInitializer.visitFieldInsn(Opcodes.PUTSTATIC, rClass, arrayName, "[I");
+    }
+    finishStaticInitializer(outerInitializer);
+
+    for (RType type : resourcesByType.keySet()) {
+      String typeClass = rClass + "$" + type;
+      outer.visitInnerClass(typeClass, rClass, type.toString(), innerClassAccess());
+      writeClass(typeClass, writeTypeClass(rClass, typeClass, type, resourcesByType.get(type)));
+    }
+    outer.visitEnd();
+    writeClass(rClass, outer.toByteArray());
+  }
+
+  private byte[] writeTypeClass(
+      String rClass, String typeClass, RType type, List<RDotTxtEntry> resources) {
+    ClassWriter writer = startClass(typeClass);
+    writer.visitInnerClass(typeClass, rClass, type.toString(), innerClassAccess());
+
+    int access = Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC;
+    MethodVisitor initializer = null;
+    for (RDotTxtEntry resource : resources) {
+      if (resource.idType == IdType.INT_ARRAY) {
+        // Arrays are never constants, so javac initializes them even when they are final.
+        writer.visitField(access | finalModifier(), resource.name, "[I", null, null).visitEnd();
+        if (initializer == null) {
+          initializer = startStaticInitializer(writer);
+        }
+        pushIntArray(initializer, parseIntArray(resource.idValue));
+        initializer.visitFieldInsn(Opcodes.PUTSTATIC, typeClass, resource.name, "[I");
+      } else if (forceFinalResourceIds) {
+        writer
+            .visitField(
+                access | Opcodes.ACC_FINAL, resource.name, "I", null, parseInt(resource.idValue))
+            .visitEnd();
+      } else {
+        writer.visitField(access, resource.name, "I", null, null).visitEnd();
+        if (initializer == null) {
+          initializer = startStaticInitializer(writer);
+        }
+        pushInt(initializer, parseInt(resource.idValue));
+        initializer.visitFieldInsn(Opcodes.PUTSTATIC, typeClass, resource.name, "I");
+      }
+    }
+    finishStaticInitializer(initializer);
+
+    writer.visitEnd();
+    return writer.toByteArray();
+  }
+
+  private ClassWriter startClass(String internalName) {
+    ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+    writer.visit(
+        classFileVersion, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, internalName, null, OBJECT, null);
+
+    MethodVisitor constructor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+    constructor.visitCode();
+    constructor.visitVarInsn(Opcodes.ALOAD, 0);
+    constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+    constructor.visitInsn(Opcodes.RETURN);
+    constructor.visitMaxs(0, 0);
+    constructor.visitEnd();
+    return writer;
+  }
+
+  private static MethodVisitor startStaticInitializer(ClassWriter writer) {
+    MethodVisitor initializer =
+        writer.visitMethod(Opcodes.ACC_STATIC, "<clinit>", "()V", null, null);
+    initializer.visitCode();
+    return initializer;
+  }
+
+  private static void finishStaticInitializer(@Nullable MethodVisitor initializer) {
+    if (initializer == null) {
+      return;
+    }
+    initializer.visitInsn(Opcodes.RETURN);
+    initializer.visitMaxs(0, 0);
+    initializer.visitEnd();
+  }
+
+  private int finalModifier() {
+    return forceFinalResourceIds ? Opcodes.ACC_FINAL : 0;
+  }
+
+  private static int innerClassAccess() {
+    return Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC;
+  }
+
+  private void writeClass(String internalName, byte[] contents) throws IOException {
+    Path classFile = classesDir.resolve(internalName + ".class");
+    filesystem.mkdirs(classFile.getParent());
+    filesystem.writeBytesToPath(contents, classFile);
+  }
+
+  private static void pushIntArray(MethodVisitor method, List<String> values) {
+    pushInt(method, values.size());
+    method.visitIntInsn(Opcodes.NEWARRAY, Opcodes.T_INT);
+    for (int i = 0; i < values.size(); i++) {
+      method.visitInsn(Opcodes.DUP);
+      pushInt(method, i);
+      pushInt(method, parseInt(values.get(i)));
+      method.visitInsn(Opcodes.IASTORE);
+    }
+  }
+
+  private static void pushInt(MethodVisitor method, int value) {
+    if (value >= -1 && value <= 5) {
+      method.visitInsn(Opcodes.ICONST_0 + value);
+    } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+      method.visitIntInsn(Opcodes.BIPUSH, value);
+    } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+      method.visitIntInsn(Opcodes.SIPUSH, value);
+    } else {
+      method.visitLdcInsn(value);
+    }
+  }
+
+  /** Parses an id the way javac parses an int literal, so that e.g. {@code 0x80000000} wraps. */
+  private static int parseInt(String value) {
+    return Long.decode(value.trim()).intValue();
+  }
+
+  /** Parses an id value of the form {@code { 0x7f010000,0x7f010001 }}. */
+  private static ImmutableList<String> parseIntArray(String value) {
+    String trimmed = value.trim();
+    String contents =
+        trimmed.startsWith("{") && trimmed.endsWith("}")
+            ? trimmed.substring(1, trimmed.length() - 1)
+            : trimmed;
+    return Arrays.stream(contents.split(RDotTxtEntry.INT_ARRAY_SEPARATOR))
+        .map(String::trim)
+        .filter(s -> !s.isEmpty())
+        .collect(ImmutableList.toImmutableList());
+  }
+}
@@ -24,6 +24,7 @@ import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.io.BuildCellRelativePath;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.step.AbstractExecutionStep;
 import com.facebook.buck.step.Step;
 import com.facebook.buck.step.StepExecutionResult;
 import com.facebook.buck.step.StepExecutionResults;
@@ -113,6 +114,8 @@ public class SmartDexingStep implements Step {
   private final Optional<Set<Path>> additonalDesugarDeps;
   private final BuildTarget buildTarget;
   private final Optional<Integer> minSdkVersion;
+  private final Optional<DexMergeCache> mergeCache;
+  private final Optional<DexMergeMemorySemaphore> mergeMemorySemaphore;
 
   /**
    * @param primaryOutputPath Path for the primary dex artifact.
@@ -148,6 +151,60 @@ public class SmartDexingStep implements Step {
       Optional<Set<Path>> additonalDesugarDeps,
       BuildTarget buildTarget,
       Optional<Integer> minSdkVersion) {
+    this(
+        androidPlatformTarget,
+        buildContext,
+        filesystem,
+        primaryOutputPath,
+        primaryInputsToDex,
+        primaryDexWeightsSupplier,
+        secondaryOutputDir,
+        secondaryInputsToDex,
+        dexInputHashesProvider,
+        successDir,
+        dxOptions,
+        executorService,
+        xzCompressionLevel,
+        dxMaxHeapSize,
+        dexTool,
+        desugarInterfaceMethods,
+        useDexBuckedId,
+        additonalDesugarDeps,
+        buildTarget,
+        minSdkVersion,
+        Optional.empty(),
+        Optional.empty());
+  }
+
+  /**
+   * @param mergeCache Store of previously merged dexes to reuse when the inputs of an output have
+   *     not changed.
+   * @param mergeMemorySemaphore Limits the memory used by the dx commands that run at the same
+   *     time.
+   */
+  public SmartDexingStep(
+      AndroidPlatformTarget androidPlatformTarget,
+      BuildContext buildContext,
+      ProjectFilesystem filesystem,
+      Optional<Path> primaryOutputPath,
+      Optional<Supplier<Set<Path>>> primaryInputsToDex,
+      Optional<Supplier<List<String>>> primaryDexWeightsSupplier,
+      Optional<Path> secondaryOutputDir,
+      Optional<Supplier<Multimap<Path, Path>>> secondaryInputsToDex,
+      DexInputHashesProvider dexInputHashesProvider,
+      Path successDir,
+      EnumSet<Option> dxOptions,
+      ListeningExecutorService executorService,
+      int xzCompressionLevel,
+      Optional<String> dxMaxHeapSize,
+      String dexTool,
+      boolean desugarInterfaceMethods,
+      boolean useDexBuckedId,
+      Optional<Set<Path>> additonalDesugarDeps,
+      BuildTarget buildTarget,
+      Optional<Integer> minSdkVersion,
+      Optional<DexMergeCache> mergeCache,
+      Optional<DexMergeMemorySemaphore> mergeMemorySemaphore) {
     this.androidPlatformTarget = androidPlatformTarget;
     this.buildContext = buildContext;
     this.filesystem = filesystem;
@@ -177,6 +234,8 @@ public class SmartDexingStep implements Step {
     this.additonalDesugarDeps = additonalDesugarDeps;
     this.buildTarget = buildTarget;
     this.minSdkVersion = minSdkVersion;
+    this.mergeCache = mergeCache;
+    this.mergeMemorySemaphore = mergeMemorySemaphore;
   }
 
   /**
@@ -305,19 +364,17 @@ public class SmartDexingStep implements Step {
       throws StepFailedException, InterruptedException {
     // Invoke dx commands in parallel for maximum thread utilization.  In testing, dx revealed
     // itself to be CPU (and not I/O) bound making it a good candidate for parallelization.
-    Stream<ImmutableList<Step>> dxSteps = generateDxCommands(filesystem, outputToInputs);
+    Stream<DxPseudoRule> dxPseudoRules = generateDxCommands(filesystem, outputToInputs);
 
     ImmutableList<Callable<Unit>> callables =
-        dxSteps
+        dxPseudoRules
             .map(
-                steps ->
-                    (Callable<Unit>)
-                        () -> {
-                          for (Step step : steps) {
-                            StepRunner.runStep(context, step, Optional.of(buildTarget));
-                          }
-                          return Unit.UNIT;
-                        })
+                dxPseudoRule -> {
+                  ImmutableList.Builder<Step> steps = ImmutableList.builder();
+                  dxPseudoRule.buildInternal(steps);
+                  return (Callable<Unit>)
+                      () -> runDxPseudoRuleSteps(context, dxPseudoRule, steps.build());
+                })
             .collect(ImmutableList.toImmutableList());
 
     try {
@@ -331,6 +388,25 @@ public class SmartDexingStep implements Step {
     }
   }
 
+  private Unit runDxPseudoRuleSteps(
+      ExecutionContext context, DxPseudoRule dxPseudoRule, ImmutableList<Step> steps)
+      throws StepFailedException, InterruptedException, IOException {
+    int reservedMemoryMb = 0;
+    if (mergeMemorySemaphore.isPresent()) {
+      reservedMemoryMb = mergeMemorySemaphore.get().acquire(dxPseudoRule.getInputsSize());
+    }
+    try {
+      for (Step step : steps) {
+        StepRunner.runStep(context, step, Optional.of(buildTarget));
+      }
+    } finally {
+      if (mergeMemorySemaphore.isPresent()) {
+        mergeMemorySemaphore.get().release(reservedMemoryMb);
+      }
+    }
+    return Unit.UNIT;
+  }
+
   /**
    * Prune the secondary output directory of any files that we didn't generate. This is needed
    * because we crudely add all files in this directory to the final APK, but the number may have
@@ -376,7 +452,7 @@ public class SmartDexingStep implements Step {
    * Once the {@code .class} files have been split into separate zip files, each must be converted
    * to a {@code .dex} file.
    */
-  private Stream<ImmutableList<Step>> generateDxCommands(
+  private Stream<DxPseudoRule> generateDxCommands(
       ProjectFilesystem filesystem, Multimap<Path, Path> outputToInputs) {
 
     ImmutableMap<Path, Sha1HashCode> dexInputHashes = dexInputHashesProvider.getDexInputHashes();
@@ -404,14 +480,9 @@ public class SmartDexingStep implements Step {
                             additonalDesugarDeps.orElse(ImmutableSet.of()))
                         : null,
                     useDexBuckedId,
-                    minSdkVersion))
-        .filter(dxPseudoRule -> !dxPseudoRule.checkIsCached())
-        .map(
-            dxPseudoRule -> {
-              ImmutableList.Builder<Step> steps = ImmutableList.builder();
-              dxPseudoRule.buildInternal(steps);
-              return steps.build();
-            });
+                    minSdkVersion,
+                    mergeCache))
+        .filter(dxPseudoRule -> !dxPseudoRule.checkIsCached());
   }
 
   /**
@@ -422,6 +493,9 @@ public class SmartDexingStep implements Step {
    * inputs. This is because the input zip files are guaranteed to have changed on the filesystem
    * (ZipSplitter will always write them out even if the same), but the contents contained in the
    * zip may not have changed.
+   *
+   * <p>When a {@link DexMergeCache} is given, the same checksums (together with everything else
+   * that determines the output) are also used to look up outputs merged by other rules.
    */
   @VisibleForTesting
   static class DxPseudoRule {
@@ -441,6 +515,7 @@ public class SmartDexingStep implements Step {
     @Nullable private final Collection<Path> classpathFiles;
     private final boolean useDexBuckedId;
     private final Optional<Integer> minSdkVersion;
+    private final Optional<DexMergeCache> mergeCache;
 
     public DxPseudoRule(
         AndroidPlatformTarget androidPlatformTarget,
@@ -456,7 +531,8 @@ public class SmartDexingStep implements Step {
         String dexTool,
         @Nullable Collection<Path> classpathFiles,
         boolean useDexBuckedId,
-        Optional<Integer> minSdkVersion) {
+        Optional<Integer> minSdkVersion,
+        Optional<DexMergeCache> mergeCache) {
       this.androidPlatformTarget = androidPlatformTarget;
       this.buildContext = buildContext;
       this.filesystem = filesystem;
@@ -471,6 +547,7 @@ public class SmartDexingStep implements Step {
       this.classpathFiles = classpathFiles;
       this.useDexBuckedId = useDexBuckedId;
       this.minSdkVersion = minSdkVersion;
+      this.mergeCache = mergeCache;
     }
 
     /**
@@ -496,16 +573,63 @@ public class SmartDexingStep implements Step {
       return hasher.hash().toString();
     }
 
+    /**
+     * The key of this output in the {@link DexMergeCache}, or empty if the output cannot be shared
+     * with other rules.
+     */
+    @VisibleForTesting
+    Optional<String> getMergeCacheKey() {
+      Preconditions.checkState(newInputsHash != null, "Must call checkIsCached first!");
+      if (!mergeCache.isPresent() || classpathFiles != null) {
+        // Desugaring depends on the classpath, which is not part of the input hashes.
+        return Optional.empty();
+      }
+      Hasher hasher = Hashing.sha1().newHasher();
+      hasher.putUnencodedChars(newInputsHash);
+      // The file name determines the dex store, and with it the steps and the bucked id.
+      hasher.putUnencodedChars(outputPath.getFileName().toString());
+      // The dexer's version, so that upgrading it doesn't reuse dexes merged by the old one.
+      hasher.putUnencodedChars(DxStep.getDexerIdentity(androidPlatformTarget, dexTool, dxOptions));
+      hasher.putUnencodedChars(dxOptions.toString());
+      hasher.putUnencodedChars(androidPlatformTarget.getPlatformName());
+      hasher.putInt(xzCompressionLevel);
+      hasher.putInt(minSdkVersion.orElse(-1));
+      hasher.putBoolean(useDexBuckedId);
+      return Optional.of(hasher.hash().toString());
+    }
+
     public boolean checkIsCached() {
       newInputsHash = hashInputs();
 
-      if (!filesystem.exists(outputHashPath) || !filesystem.exists(outputPath)) {
-        return false;
+      if (filesystem.exists(outputHashPath) && filesystem.exists(outputPath)) {
+        // Verify input hashes.
+        String currentInputsHash = getPreviousInputsHash();
+        if (newInputsHash.equals(currentInputsHash)) {
+          return true;
+        }
       }
 
-      // Verify input hashes.
-      String currentInputsHash = getPreviousInputsHash();
-      return newInputsHash.equals(currentInputsHash);
+      Optional<String> mergeCacheKey = getMergeCacheKey();
+      if (mergeCacheKey.isPresent() && mergeCache.get().fetch(mergeCacheKey.get(), outputPath)) {
+        try {
+          filesystem.writeContentsToPath(newInputsHash, outputHashPath);
+          return true;
+        } catch (IOException e) {
+          log.debug(e, "Could not write %s", outputHashPath);
+        }
+      }
+      return false;
+    }
+
+    long getInputsSize() throws IOException {
+      long size = 0;
+      for (Path src : srcs) {
+        // Canary classes are directories, and small enough to leave out.
+        if (filesystem.isFile(src)) {
+          size += filesystem.getFileSize(src);
+        }
+      }
+      return size;
     }
 
     private void buildInternal(ImmutableList.Builder<Step> steps) {
@@ -527,6 +651,17 @@ public class SmartDexingStep implements Step {
           minSdkVersion);
       steps.add(
           new WriteFileStep(filesystem, newInputsHash, outputHashPath, /* executable */ false));
+      Optional<String> mergeCacheKey = getMergeCacheKey();
+      if (mergeCacheKey.isPresent()) {
+        steps.add(
+            new AbstractExecutionStep("cache_merged_dex") {
+              @Override
+              public StepExecutionResult execute(ExecutionContext context) {
+                mergeCache.get().store(mergeCacheKey.get(), outputPath);
+                return StepExecutionResults.SUCCESS;
+              }
+            });
+      }
     }
   }
 
@@ -27,6 +27,7 @@ import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.step.Step;
 import com.facebook.buck.step.StepExecutionResult;
 import com.facebook.buck.step.StepExecutionResults;
+import com.facebook.buck.util.concurrent.ExecutorPool;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
 import com.google.common.base.Joiner;
@@ -40,6 +41,7 @@ import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Multimap;
 import com.google.common.hash.Hashing;
 import com.google.common.io.Files;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.nio.file.Path;
@@ -188,7 +190,11 @@ public class SplitZipStep implements Step {
     ZipSplitterFactory zipSplitterFactory;
     zipSplitterFactory =
         new DalvikAwareZipSplitterFactory(
-            dexSplitMode.getLinearAllocHardLimit(), wantedInPrimaryZip);
+            dexSplitMode.getLinearAllocHardLimit(),
+            wantedInPrimaryZip,
+            context
+                .getExecutors()
+                .getOrDefault(ExecutorPool.CPU, MoreExecutors.newDirectExecutorService()));
 
     outputFiles =
         zipSplitterFactory
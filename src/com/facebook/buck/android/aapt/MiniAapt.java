@@ -34,8 +34,6 @@ import com.facebook.buck.step.StepExecutionResults;
 import com.facebook.buck.util.ThrowingPrintWriter;
 import com.facebook.buck.util.json.ObjectMappers;
 import com.facebook.buck.util.xml.DocumentLocation;
-import com.facebook.buck.util.xml.PositionalXmlHandler;
-import com.facebook.buck.util.xml.XmlDomParserWithLineNumbers;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
@@ -46,7 +44,6 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Ordering;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.FileVisitOption;
 import java.nio.file.Path;
 import java.util.Collection;
@@ -54,17 +51,9 @@ import java.util.EnumSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpression;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
-import org.w3c.dom.Attr;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.SAXException;
 
 /**
  * Step which parses resources in an android {@code res} directory and compiles them into a {@code
@@ -79,23 +68,11 @@ public class MiniAapt implements Step {
   /** See {@link com.facebook.buck.android.AaptStep} for a list of files that we ignore. */
   public static final ImmutableList<String> IGNORED_FILE_EXTENSIONS = ImmutableList.of("orig");
 
-  private static final String ID_DEFINITION_PREFIX = "@+id/";
-  private static final String ITEM_TAG = "item";
   private static final String PUBLIC_TAG = "public";
   private static final String PUBLIC_FILENAME = "public.xml";
   private static final String CUSTOM_DRAWABLE_PREFIX = "app-";
 
-  private static final XPathExpression ANDROID_ID_USAGE =
-      createExpression(
-          "//@*[starts-with(., '@') and "
-              + "not(starts-with(., '@+')) and "
-              + "not(starts-with(., '@android:')) and "
-              + "not(starts-with(., '@null'))]");
-
-  private static final XPathExpression ANDROID_ID_DEFINITION =
-      createExpression("//@*[starts-with(., '@+') and " + "not(starts-with(., '@+android:id'))]");
-
-  private static final ImmutableMap<String, RType> RESOURCE_TYPES = getResourceTypes();
+  static final ImmutableMap<String, RType> RESOURCE_TYPES = getResourceTypes();
 
   /**
    * {@code <public>} is a special type of resource that is not be handled by aapt, but can be
@@ -105,9 +82,16 @@ public class MiniAapt implements Step {
    *     href="https://developer.android.com/studio/projects/android-library#PrivateResources">Private
    *     resources</a>
    */
-  private static final ImmutableSet<String> IGNORED_TAGS =
+  static final ImmutableSet<String> IGNORED_TAGS =
       ImmutableSet.of("eat-comment", "skip", PUBLIC_TAG);
 
+  /**
+   * Parses the xml files of every {@link MiniAapt} in this process. Its worker threads are daemon
+   * threads, so it never keeps buck from exiting.
+   */
+  private static final ForkJoinPool PARSE_POOL =
+      new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
   public enum ResourceCollectionType {
     R_DOT_TXT,
     ANDROID_RESOURCE_INDEX,
@@ -121,6 +105,7 @@ public class MiniAapt implements Step {
   private final ResourceCollector resourceCollector;
   private final boolean isGrayscaleImageProcessingEnabled;
   private final ResourceCollectionType resourceCollectionType;
+  private final ResourceFileParser parser = new ResourceFileParser();
 
   public MiniAapt(
       SourcePathResolverAdapter resolver,
@@ -167,14 +152,6 @@ public class MiniAapt implements Step {
     }
   }
 
-  private static XPathExpression createExpression(String expressionStr) {
-    try {
-      return XPathFactory.newInstance().newXPath().compile(expressionStr);
-    } catch (XPathExpressionException e) {
-      throw new RuntimeException(e);
-    }
-  }
-
   private static ImmutableMap<String, RType> getResourceTypes() {
     ImmutableMap.Builder<String, RType> types = ImmutableMap.builder();
     for (RType rType : RType.values()) {
@@ -192,14 +169,16 @@ public class MiniAapt implements Step {
   }
 
   @Override
-  public StepExecutionResult execute(ExecutionContext context) throws IOException {
+  public StepExecutionResult execute(ExecutionContext context)
+      throws IOException, InterruptedException {
     ImmutableSet.Builder<RDotTxtEntry> references = ImmutableSet.builder();
 
     ProjectFilesystemView filesystemViewWithoutIgnores = filesystem.asView();
     try {
+      parseXmlFilesInParallel(filesystemViewWithoutIgnores);
       collectResources(filesystemViewWithoutIgnores, context.getBuckEventBus());
       processXmlFilesForIds(filesystemViewWithoutIgnores, references);
-    } catch (XPathExpressionException | ResourceParseException e) {
+    } catch (ResourceParseException e) {
       context.logError(e, "Error parsing resources to generate resource IDs for %s.", resDirectory);
       return StepExecutionResults.ERROR;
     }
@@ -239,6 +218,47 @@ public class MiniAapt implements Step {
     return StepExecutionResults.SUCCESS;
   }
 
+  /**
+   * Parses every xml file under the {@code res} directory on {@link #PARSE_POOL}, so that the
+   * passes that follow, which have to add resources in a deterministic order, find them already
+   * parsed. Failures are left for those passes to report, in the same order as before.
+   */
+  private void parseXmlFilesInParallel(ProjectFilesystemView filesystemView)
+      throws IOException, InterruptedException {
+    Path relativeResDir = resolver.getRelativePath(resDirectory);
+    ImmutableList<Path> files =
+        ImmutableList.copyOf(
+            filesystemView.getFilesUnderPath(
+                resolver.getAbsolutePath(resDirectory), EnumSet.of(FileVisitOption.FOLLOW_LINKS)));
+    try {
+      PARSE_POOL
+          .submit(
+              () -> files.parallelStream().forEach(path -> parseQuietly(relativeResDir, path)))
+          .get();
+    } catch (ExecutionException e) {
+      throw new IOException("Error parsing resources in " + relativeResDir, e.getCause());
+    }
+  }
+
+  private void parseQuietly(Path relativeResDir, Path path) {
+    Path relativePath = relativeResDir.relativize(path);
+    if (relativePath.getNameCount() < 2) {
+      return;
+    }
+    try {
+      if (shouldIgnoreFile(path, filesystem)) {
+        return;
+      }
+      if (isAValuesDir(relativePath.getName(0).toString())) {
+        parser.parseValuesFile(filesystem, path);
+      } else if (path.toString().endsWith(".xml")) {
+        parser.parseXmlFile(filesystem, path);
+      }
+    } catch (IOException | ResourceParseException e) {
+      // Reported when the file is processed.
+    }
+  }
+
   /**
    * Collects file names under the {@code res} directory, except those under directories starting
    * with {@code values}, as resources based on their parent directory.
@@ -334,11 +354,8 @@ public class MiniAapt implements Step {
     boolean isGrayscaleImage = false;
     boolean isCustomDrawable = false;
     if (filename.endsWith(".xml")) {
-      try (InputStream stream = filesystem.newFileInputStream(resourceFile)) {
-        Document dom = parseXml(resourceFile, stream);
-        Element root = dom.getDocumentElement();
-        isCustomDrawable = root.getNodeName().startsWith(CUSTOM_DRAWABLE_PREFIX);
-      }
+      isCustomDrawable =
+          parser.parseXmlFile(filesystem, resourceFile).rootName.startsWith(CUSTOM_DRAWABLE_PREFIX);
     } else if (isGrayscaleImageProcessingEnabled) {
       // .g.png is no longer an allowed filename in newer versions of aapt2.
       isGrayscaleImage = filename.endsWith(".g.png") || filename.endsWith(GRAYSCALE_SUFFIX);
@@ -405,90 +422,26 @@ public class MiniAapt implements Step {
   @VisibleForTesting
   void processValuesFile(ProjectFilesystem filesystem, Path valuesFile)
       throws IOException, ResourceParseException {
-    try (InputStream stream = filesystem.newFileInputStream(valuesFile)) {
-      Document dom = parseXml(valuesFile, stream);
-      Element root = dom.getDocumentElement();
-
-      // Exclude resources annotated with the attribute {@code exclude-from-resource-map}.
-      // This is useful to exclude using generated strings to build the
-      // resource map, which ensures a build break will show up at build time
-      // rather than being hidden until generated resources are updated.
-      if (root.getAttribute("exclude-from-buck-resource-map").equals("true")) {
-        return;
-      }
-
-      for (Node node = root.getFirstChild(); node != null; node = node.getNextSibling()) {
-        if (node.getNodeType() != Node.ELEMENT_NODE) {
-          continue;
-        }
-
-        String resourceType = node.getNodeName();
-        if (resourceType.equals(ITEM_TAG)) {
-          Node typeNode = verifyNodeHasTypeAttribute(valuesFile, node);
-          resourceType = typeNode.getNodeValue();
-        } else if (resourceType.equals(PUBLIC_TAG)) {
-          Node nameAttribute = node.getAttributes().getNamedItem("name");
-          if (nameAttribute == null || nameAttribute.getNodeValue().isEmpty()) {
-            throw new ResourceParseException(
-                "Error parsing file '%s', expected a 'name' attribute in \n'%s'\n",
-                valuesFile, node.toString());
-          }
-          String type = verifyNodeHasTypeAttribute(valuesFile, node).getNodeValue();
-
-          if (!RESOURCE_TYPES.containsKey(type)) {
-            throw new ResourceParseException(
-                "Invalid resource type '%s' in <public> resource '%s' in file '%s'.",
-                type, nameAttribute.getNodeValue(), valuesFile);
-          }
-
-          if (!PUBLIC_FILENAME.equals(valuesFile.getFileName().toString())) {
-            throw new ResourceParseException(
-                "<public> resource '%s' must be declared in res/values/public.xml, but was declared in '%s'",
-                nameAttribute.getNodeValue(), valuesFile);
-          }
-        }
-
-        if (IGNORED_TAGS.contains(resourceType)) {
-          continue;
-        }
-
-        if (!RESOURCE_TYPES.containsKey(resourceType)) {
-          throw new ResourceParseException(
-              "Invalid resource type '<%s>' in '%s'.", resourceType, valuesFile);
-        }
-
-        RType rType = Objects.requireNonNull(RESOURCE_TYPES.get(resourceType));
-        addToResourceCollector(node, rType, valuesFile);
-      }
+    ResourceFileParser.ValuesFile parsed = parser.parseValuesFile(filesystem, valuesFile);
+    if (parsed.publicResourceName.isPresent()
+        && !PUBLIC_FILENAME.equals(valuesFile.getFileName().toString())) {
+      throw new ResourceParseException(
+          "<public> resource '%s' must be declared in res/values/public.xml, but was declared in '%s'",
+          parsed.publicResourceName.get(), valuesFile);
     }
-  }
 
-  private Node verifyNodeHasTypeAttribute(Path valuesFile, Node node)
-      throws ResourceParseException {
-    Node typeNode = node.getAttributes().getNamedItem("type");
-    if (typeNode == null || typeNode.getNodeValue().isEmpty()) {
-      throw new ResourceParseException(
-          "Error parsing file '%s', expected a 'type' attribute in: \n'%s'\n",
-          valuesFile, node.toString());
+    for (ResourceFileParser.ValueResource resource : parsed.resources) {
+      addToResourceCollector(resource, valuesFile);
     }
-    return typeNode;
   }
 
-  private void addToResourceCollector(Node node, RType rType, Path file)
-      throws ResourceParseException {
-    String resourceName = sanitizeName(extractNameAttribute(node));
-    DocumentLocation location = extractDocumentLocation(node);
+  private void addToResourceCollector(ResourceFileParser.ValueResource resource, Path file) {
+    String resourceName = resource.name;
+    DocumentLocation location = resource.location;
 
-    if (rType.equals(RType.STYLEABLE)) {
+    if (resource.rType.equals(RType.STYLEABLE)) {
       int count = 0;
-      for (Node attrNode = node.getFirstChild();
-          attrNode != null;
-          attrNode = attrNode.getNextSibling()) {
-        if (attrNode.getNodeType() != Node.ELEMENT_NODE || !attrNode.getNodeName().equals("attr")) {
-          continue;
-        }
-
-        String rawAttrName = extractNameAttribute(attrNode);
+      for (String rawAttrName : resource.styleableAttrs) {
         String attrName = sanitizeName(rawAttrName);
         resourceCollector.addResource(
             RType.STYLEABLE,
@@ -497,23 +450,23 @@ public class MiniAapt implements Step {
             Integer.toString(count++),
             resourceName,
             file,
-            extractDocumentLocation(node));
+            location);
 
         if (!rawAttrName.startsWith("android:")) {
-          resourceCollector.addIntResourceIfNotPresent(
-              RType.ATTR, attrName, file, extractDocumentLocation(node));
+          resourceCollector.addIntResourceIfNotPresent(RType.ATTR, attrName, file, location);
         }
       }
 
-      resourceCollector.addIntArrayResourceIfNotPresent(rType, resourceName, count, file, location);
+      resourceCollector.addIntArrayResourceIfNotPresent(
+          resource.rType, resourceName, count, file, location);
     } else {
-      resourceCollector.addIntResourceIfNotPresent(rType, resourceName, file, location);
+      resourceCollector.addIntResourceIfNotPresent(resource.rType, resourceName, file, location);
     }
   }
 
   void processXmlFilesForIds(
       ProjectFilesystemView filesystemView, ImmutableSet.Builder<RDotTxtEntry> references)
-      throws IOException, XPathExpressionException, ResourceParseException {
+      throws IOException, ResourceParseException {
     Path absoluteResDir = resolver.getAbsolutePath(resDirectory);
     Path relativeResDir = resolver.getRelativePath(resDirectory);
     for (Path path :
@@ -533,70 +486,15 @@ public class MiniAapt implements Step {
   @VisibleForTesting
   void processXmlFile(
       ProjectFilesystem filesystem, Path xmlFile, ImmutableSet.Builder<RDotTxtEntry> references)
-      throws IOException, XPathExpressionException, ResourceParseException {
-    try (InputStream stream = filesystem.newFileInputStream(xmlFile)) {
-      Document dom = parseXml(xmlFile, stream);
-      NodeList nodesWithIds =
-          (NodeList) ANDROID_ID_DEFINITION.evaluate(dom, XPathConstants.NODESET);
-      for (int i = 0; i < nodesWithIds.getLength(); i++) {
-        String resourceName = nodesWithIds.item(i).getNodeValue();
-        if (!resourceName.startsWith(ID_DEFINITION_PREFIX)) {
-          throw new ResourceParseException("Invalid definition of a resource: '%s'", resourceName);
-        }
-        Preconditions.checkState(resourceName.startsWith(ID_DEFINITION_PREFIX));
-
-        Element ownerElement = ((Attr) nodesWithIds.item(i)).getOwnerElement();
-        DocumentLocation location = extractDocumentLocation(ownerElement);
-        resourceCollector.addIntResourceIfNotPresent(
-            RType.ID, resourceName.substring(ID_DEFINITION_PREFIX.length()), xmlFile, location);
-      }
-
-      NodeList nodesUsingIds = (NodeList) ANDROID_ID_USAGE.evaluate(dom, XPathConstants.NODESET);
-      for (int i = 0; i < nodesUsingIds.getLength(); i++) {
-        String resourceName = nodesUsingIds.item(i).getNodeValue();
-        int slashPosition = resourceName.indexOf('/');
-        if (resourceName.charAt(0) != '@' || slashPosition == -1) {
-          throw new ResourceParseException("Invalid definition of a resource: '%s'", resourceName);
-        }
-
-        String rawRType = resourceName.substring(1, slashPosition);
-        String name = resourceName.substring(slashPosition + 1);
-
-        String nodeName = nodesUsingIds.item(i).getNodeName();
-        if (name.startsWith("android:") || nodeName.startsWith("tools:")) {
-          continue;
-        }
-        if (!RESOURCE_TYPES.containsKey(rawRType)) {
-          throw new ResourceParseException("Invalid reference '%s' in '%s'", resourceName, xmlFile);
-        }
-        RType rType = Objects.requireNonNull(RESOURCE_TYPES.get(rawRType));
-
-        references.add(new FakeRDotTxtEntry(IdType.INT, rType, sanitizeName(name)));
-      }
-    }
-  }
-
-  private static Document parseXml(Path filepath, InputStream inputStream)
       throws IOException, ResourceParseException {
-    try {
-      return XmlDomParserWithLineNumbers.parse(inputStream);
-    } catch (SAXException e) {
-      throw new ResourceParseException(
-          "Error parsing xml file '%s': %s.", filepath, e.getMessage());
+    ResourceFileParser.XmlFile parsed = parser.parseXmlFile(filesystem, xmlFile);
+    for (ResourceFileParser.IdDefinition id : parsed.idDefinitions) {
+      resourceCollector.addIntResourceIfNotPresent(RType.ID, id.name, xmlFile, id.location);
     }
+    references.addAll(parsed.references);
   }
 
-  private static String extractNameAttribute(Node node) throws ResourceParseException {
-    Node attribute = node.getAttributes().getNamedItem("name");
-    if (attribute == null) {
-      throw new ResourceParseException(
-          "Error: expected a 'name' attribute in node '%s' with value '%s'",
-          node.getNodeName(), node.getTextContent());
-    }
-    return attribute.getNodeValue();
-  }
-
-  private static String sanitizeName(String rawName) {
+  static String sanitizeName(String rawName) {
     return rawName.replaceAll("[.:]", "_");
   }
 
@@ -612,16 +510,6 @@ public class MiniAapt implements Step {
         || AaptStep.isSilentlyIgnored(path);
   }
 
-  /**
-   * Extracts document location saved by XmlDomParserWithLineNumbers
-   *
-   * @param node a DOM node
-   * @return the document location stored in node
-   */
-  private DocumentLocation extractDocumentLocation(Node node) {
-    return (DocumentLocation) node.getUserData(PositionalXmlHandler.LOCATION_USER_DATA_KEY);
-  }
-
   @VisibleForTesting
   ImmutableSet<RDotTxtEntry> verifyReferences(
       ProjectFilesystem filesystem, ImmutableSet<RDotTxtEntry> references) throws IOException {
@@ -0,0 +1,493 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android.aapt;
+
+import com.facebook.buck.android.aapt.MiniAapt.ResourceParseException;
+import com.facebook.buck.android.aapt.RDotTxtEntry.IdType;
+import com.facebook.buck.android.aapt.RDotTxtEntry.RType;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.util.xml.DocumentLocation;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nullable;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Parses the xml files of a {@code res} directory for {@link MiniAapt}, with a streaming parser.
+ *
+ * <p>Results only depend on the contents of a file, so besides being memoized per path for the
+ * lifetime of this object, they are shared by the SHA-1 hash of the file across every {@link
+ * MiniAapt} in this process. Most resource files do not change between builds, and the same files
+ * are often scanned by several rules. Results are never cached for files that fail to parse, so
+ * that errors always name the file that caused them. All methods are safe to call concurrently.
+ */
+class ResourceFileParser {
+
+  // Bounds the shared results by the number of resources, ids and references they hold.
+  private static final long MAX_SHARED_ENTRIES = 2_000_000;
+
+  private static final Cache<HashCode, ValuesFile> SHARED_VALUES_FILES =
+      newSharedResults(MAX_SHARED_ENTRIES);
+  private static final Cache<HashCode, XmlFile> SHARED_XML_FILES =
+      newSharedResults(MAX_SHARED_ENTRIES);
+
+  private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+  private static final String ID_DEFINITION_PREFIX = "@+id/";
+  private static final String ITEM_TAG = "item";
+  private static final String PUBLIC_TAG = "public";
+
+  private final ConcurrentMap<Path, ValuesFile> valuesFiles = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Path, XmlFile> xmlFiles = new ConcurrentHashMap<>();
+  private final Cache<HashCode, ValuesFile> sharedValuesFiles;
+  private final Cache<HashCode, XmlFile> sharedXmlFiles;
+
+  ResourceFileParser() {
+    this(SHARED_VALUES_FILES, SHARED_XML_FILES);
+  }
+
+  @VisibleForTesting
+  ResourceFileParser(
+      Cache<HashCode, ValuesFile> sharedValuesFiles, Cache<HashCode, XmlFile> sharedXmlFiles) {
+    this.sharedValuesFiles = sharedValuesFiles;
+    this.sharedXmlFiles = sharedXmlFiles;
+  }
+
+  @VisibleForTesting
+  static <T extends ParsedFile> Cache<HashCode, T> newSharedResults(long maxEntries) {
+    return CacheBuilder.newBuilder()
+        .maximumWeight(maxEntries)
+        .<HashCode, T>weigher((hash, parsedFile) -> 1 + parsedFile.getEntryCount())
+        .build();
+  }
+
+  private static XMLInputFactory createXmlInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    // Resource files routinely use prefixes such as tools: without declaring them.
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+    return factory;
+  }
+
+  /** Parses a file under a {@code values} directory. */
+  ValuesFile parseValuesFile(ProjectFilesystem filesystem, Path valuesFile)
+      throws IOException, ResourceParseException {
+    ValuesFile parsed = valuesFiles.get(valuesFile);
+    if (parsed == null) {
+      byte[] contents = readFile(filesystem, valuesFile);
+      HashCode hash = Hashing.sha1().hashBytes(contents);
+      parsed = sharedValuesFiles.getIfPresent(hash);
+      if (parsed == null) {
+        parsed = readValuesFile(valuesFile, contents);
+        sharedValuesFiles.put(hash, parsed);
+      }
+      valuesFiles.put(valuesFile, parsed);
+    }
+    return parsed;
+  }
+
+  /** Parses an xml file outside of the {@code values} directories, such as a layout. */
+  XmlFile parseXmlFile(ProjectFilesystem filesystem, Path xmlFile)
+      throws IOException, ResourceParseException {
+    XmlFile parsed = xmlFiles.get(xmlFile);
+    if (parsed == null) {
+      byte[] contents = readFile(filesystem, xmlFile);
+      HashCode hash = Hashing.sha1().hashBytes(contents);
+      parsed = sharedXmlFiles.getIfPresent(hash);
+      if (parsed == null) {
+        parsed = readXmlFile(xmlFile, contents);
+        sharedXmlFiles.put(hash, parsed);
+      }
+      xmlFiles.put(xmlFile, parsed);
+    }
+    return parsed;
+  }
+
+  private static byte[] readFile(ProjectFilesystem filesystem, Path path) throws IOException {
+    try (InputStream stream = filesystem.newFileInputStream(path)) {
+      return ByteStreams.toByteArray(stream);
+    }
+  }
+
+  private static ValuesFile readValuesFile(Path valuesFile, byte[] contents)
+      throws ResourceParseException {
+    XMLStreamReader reader = createReader(valuesFile, contents);
+    try {
+      moveToRootElement(reader);
+      // Exclude resources annotated with the attribute {@code exclude-from-resource-map}.
+      // This is useful to exclude using generated strings to build the
+      // resource map, which ensures a build break will show up at build time
+      // rather than being hidden until generated resources are updated.
+      if ("true".equals(getAttribute(reader, "exclude-from-buck-resource-map"))) {
+        return new ValuesFile(ImmutableList.of(), Optional.empty());
+      }
+
+      ImmutableList.Builder<ValueResource> resources = ImmutableList.builder();
+      Optional<String> publicResourceName = Optional.empty();
+      while (true) {
+        int event = reader.next();
+        if (event == XMLStreamConstants.END_ELEMENT) {
+          // Children are read in full, so this is the end of the root element.
+          break;
+        }
+        if (event != XMLStreamConstants.START_ELEMENT) {
+          continue;
+        }
+        Element element = readElement(reader, /* keepChildren */ true);
+
+        String resourceType = element.name;
+        if (resourceType.equals(ITEM_TAG)) {
+          resourceType = verifyHasTypeAttribute(valuesFile, element);
+        } else if (resourceType.equals(PUBLIC_TAG)) {
+          String name = element.attributes.get("name");
+          if (name == null || name.isEmpty()) {
+            throw new ResourceParseException(
+                "Error parsing file '%s', expected a 'name' attribute in \n'%s'\n",
+                valuesFile, element);
+          }
+          String type = verifyHasTypeAttribute(valuesFile, element);
+
+          if (!MiniAapt.RESOURCE_TYPES.containsKey(type)) {
+            throw new ResourceParseException(
+                "Invalid resource type '%s' in <public> resource '%s' in file '%s'.",
+                type, name, valuesFile);
+          }
+          if (!publicResourceName.isPresent()) {
+            publicResourceName = Optional.of(name);
+          }
+        }
+
+        if (MiniAapt.IGNORED_TAGS.contains(resourceType)) {
+          continue;
+        }
+
+        if (!MiniAapt.RESOURCE_TYPES.containsKey(resourceType)) {
+          throw new ResourceParseException(
+              "Invalid resource type '<%s>' in '%s'.", resourceType, valuesFile);
+        }
+
+        RType rType = Objects.requireNonNull(MiniAapt.RESOURCE_TYPES.get(resourceType));
+        ImmutableList.Builder<String> styleableAttrs = ImmutableList.builder();
+        if (rType == RType.STYLEABLE) {
+          for (Element child : element.children) {
+            if (child.name.equals("attr")) {
+              styleableAttrs.add(extractNameAttribute(child));
+            }
+          }
+        }
+        resources.add(
+            new ValueResource(
+                rType,
+                MiniAapt.sanitizeName(extractNameAttribute(element)),
+                element.location,
+                styleableAttrs.build()));
+      }
+      return new ValuesFile(resources.build(), publicResourceName);
+    } catch (XMLStreamException e) {
+      throw new ResourceParseException(
+          "Error parsing xml file '%s': %s.", valuesFile, e.getMessage());
+    } finally {
+      closeQuietly(reader);
+    }
+  }
+
+  private static XmlFile readXmlFile(Path xmlFile, byte[] contents)
+      throws ResourceParseException {
+    XMLStreamReader reader = createReader(xmlFile, contents);
+    try {
+      moveToRootElement(reader);
+      String rootName = getName(reader);
+
+      ImmutableList.Builder<IdDefinition> idDefinitions = ImmutableList.builder();
+      ImmutableSet.Builder<RDotTxtEntry> references = ImmutableSet.builder();
+      while (true) {
+        if (reader.getEventType() == XMLStreamConstants.START_ELEMENT) {
+          for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            if (value.startsWith("@+")) {
+              if (value.startsWith("@+android:id")) {
+                continue;
+              }
+              if (!value.startsWith(ID_DEFINITION_PREFIX)) {
+                throw new ResourceParseException("Invalid definition of a resource: '%s'", value);
+              }
+              idDefinitions.add(
+                  new IdDefinition(
+                      value.substring(ID_DEFINITION_PREFIX.length()), getLocation(reader)));
+            } else if (isReference(value)) {
+              int slashPosition = value.indexOf('/');
+              if (slashPosition == -1) {
+                throw new ResourceParseException("Invalid definition of a resource: '%s'", value);
+              }
+
+              String rawRType = value.substring(1, slashPosition);
+              String name = value.substring(slashPosition + 1);
+
+              String attributeName = getQualifiedName(reader, i);
+              if (name.startsWith("android:") || attributeName.startsWith("tools:")) {
+                continue;
+              }
+              if (!MiniAapt.RESOURCE_TYPES.containsKey(rawRType)) {
+                throw new ResourceParseException(
+                    "Invalid reference '%s' in '%s'", value, xmlFile);
+              }
+              RType rType = Objects.requireNonNull(MiniAapt.RESOURCE_TYPES.get(rawRType));
+              references.add(
+                  new FakeRDotTxtEntry(IdType.INT, rType, MiniAapt.sanitizeName(name)));
+            }
+          }
+        }
+        if (!reader.hasNext()) {
+          break;
+        }
+        reader.next();
+      }
+      return new XmlFile(rootName, idDefinitions.build(), references.build());
+    } catch (XMLStreamException e) {
+      throw new ResourceParseException("Error parsing xml file '%s': %s.", xmlFile, e.getMessage());
+    } finally {
+      closeQuietly(reader);
+    }
+  }
+
+  private static boolean isReference(String value) {
+    return value.startsWith("@")
+        && !value.startsWith("@+")
+        && !value.startsWith("@android:")
+        && !value.startsWith("@null");
+  }
+
+  private static XMLStreamReader createReader(Path path, byte[] contents)
+      throws ResourceParseException {
+    try {
+      return XML_INPUT_FACTORY.createXMLStreamReader(new ByteArrayInputStream(contents));
+    } catch (XMLStreamException e) {
+      throw new ResourceParseException("Error parsing xml file '%s': %s.", path, e.getMessage());
+    }
+  }
+
+  private static void moveToRootElement(XMLStreamReader reader) throws XMLStreamException {
+    while (reader.next() != XMLStreamConstants.START_ELEMENT) {
+      // Skip the prolog.
+    }
+  }
+
+  /**
+   * Reads the element the reader is positioned on, up to and including its end tag. Children are
+   * only kept one level deep, which is all that is needed to parse values files.
+   */
+  private static Element readElement(XMLStreamReader reader, boolean keepChildren)
+      throws XMLStreamException {
+    Element element = new Element(getName(reader), getLocation(reader));
+    for (int i = 0; i < reader.getAttributeCount(); i++) {
+      element.attributes.put(getQualifiedName(reader, i), reader.getAttributeValue(i));
+    }
+    int depth = 0;
+    while (true) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        if (keepChildren && depth == 0) {
+          Element child = readElement(reader, false);
+          element.children.add(child);
+          element.text.append(child.text);
+        } else {
+          depth++;
+        }
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        if (depth == 0) {
+          return element;
+        }
+        depth--;
+      } else if (reader.hasText()
+          && event != XMLStreamConstants.COMMENT
+          && event != XMLStreamConstants.DTD) {
+        element.text.append(reader.getText());
+      }
+    }
+  }
+
+  private static String verifyHasTypeAttribute(Path valuesFile, Element element)
+      throws ResourceParseException {
+    String type = element.attributes.get("type");
+    if (type == null || type.isEmpty()) {
+      throw new ResourceParseException(
+          "Error parsing file '%s', expected a 'type' attribute in: \n'%s'\n",
+          valuesFile, element);
+    }
+    return type;
+  }
+
+  private static String extractNameAttribute(Element element) throws ResourceParseException {
+    String name = element.attributes.get("name");
+    if (name == null) {
+      throw new ResourceParseException(
+          "Error: expected a 'name' attribute in node '%s' with value '%s'",
+          element.name, element.text);
+    }
+    return name;
+  }
+
+  @Nullable
+  private static String getAttribute(XMLStreamReader reader, String name) {
+    for (int i = 0; i < reader.getAttributeCount(); i++) {
+      if (getQualifiedName(reader, i).equals(name)) {
+        return reader.getAttributeValue(i);
+      }
+    }
+    return null;
+  }
+
+  private static String getName(XMLStreamReader reader) {
+    return qualify(reader.getPrefix(), reader.getLocalName());
+  }
+
+  private static String getQualifiedName(XMLStreamReader reader, int attribute) {
+    return qualify(reader.getAttributePrefix(attribute), reader.getAttributeLocalName(attribute));
+  }
+
+  private static String qualify(@Nullable String prefix, String localName) {
+    return prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+  }
+
+  /** The location just past the start tag, as reported by {@code XmlDomParserWithLineNumbers}. */
+  private static DocumentLocation getLocation(XMLStreamReader reader) {
+    return DocumentLocation.of(
+        reader.getLocation().getLineNumber() - 1, reader.getLocation().getColumnNumber() - 1);
+  }
+
+  private static void closeQuietly(XMLStreamReader reader) {
+    try {
+      reader.close();
+    } catch (XMLStreamException e) {
+      // Nothing to release: the reader was created from an in-memory stream.
+    }
+  }
+
+  /** A parsed file whose size is measured by the number of entries it holds. */
+  abstract static class ParsedFile {
+    abstract int getEntryCount();
+  }
+
+  /** The resources declared by a file under a {@code values} directory. */
+  static final class ValuesFile extends ParsedFile {
+    final ImmutableList<ValueResource> resources;
+    /** The first {@code <public>} resource, which is only allowed in {@code public.xml}. */
+    final Optional<String> publicResourceName;
+
+    ValuesFile(ImmutableList<ValueResource> resources, Optional<String> publicResourceName) {
+      this.resources = resources;
+      this.publicResourceName = publicResourceName;
+    }
+
+    @Override
+    int getEntryCount() {
+      return resources.size();
+    }
+  }
+
+  /** A resource declared in a values file. */
+  static final class ValueResource {
+    final RType rType;
+    final String name;
+    final DocumentLocation location;
+    /** For styleables, the raw names of the {@code <attr>} children. */
+    final ImmutableList<String> styleableAttrs;
+
+    ValueResource(
+        RType rType,
+        String name,
+        DocumentLocation location,
+        ImmutableList<String> styleableAttrs) {
+      this.rType = rType;
+      this.name = name;
+      this.location = location;
+      this.styleableAttrs = styleableAttrs;
+    }
+  }
+
+  /** The ids declared and the resources referenced by an xml file, such as a layout. */
+  static final class XmlFile extends ParsedFile {
+    final String rootName;
+    final ImmutableList<IdDefinition> idDefinitions;
+    final ImmutableSet<RDotTxtEntry> references;
+
+    XmlFile(
+        String rootName,
+        ImmutableList<IdDefinition> idDefinitions,
+        ImmutableSet<RDotTxtEntry> references) {
+      this.rootName = rootName;
+      this.idDefinitions = idDefinitions;
+      this.references = references;
+    }
+
+    @Override
+    int getEntryCount() {
+      return idDefinitions.size() + references.size();
+    }
+  }
+
+  /** An {@code @+id/} definition. */
+  static final class IdDefinition {
+    final String name;
+    final DocumentLocation location;
+
+    IdDefinition(String name, DocumentLocation location) {
+      this.name = name;
+      this.location = location;
+    }
+  }
+
+  /** The parts of an element that are needed to parse values files. */
+  private static final class Element {
+    private final String name;
+    private final DocumentLocation location;
+    private final Map<String, String> attributes = new HashMap<>();
+    private final List<Element> children = new ArrayList<>();
+    private final StringBuilder text = new StringBuilder();
+
+    private Element(String name, DocumentLocation location) {
+      this.name = name;
+      this.location = location;
+    }
+
+    /** Matches how DOM elements print in error messages. */
+    @Override
+    public String toString() {
+      return String.format("[%s: null]", name);
+    }
+  }
+}
@@ -17,12 +17,16 @@
 package com.facebook.buck.android.agent;
 
 import com.facebook.buck.android.agent.util.AgentUtil;
+import com.facebook.buck.android.agent.util.BlockPatch;
 import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.util.Arrays;
@@ -69,6 +73,10 @@ public class AgentMain {
         doMkdirP(userArgs);
       } else if (command.equals("multi-receive-file")) {
         doMultiReceiveFile(userArgs);
+      } else if (command.equals("get-block-signatures")) {
+        doGetBlockSignatures(userArgs);
+      } else if (command.equals("apply-block-patch")) {
+        doApplyBlockPatch(userArgs);
       } else {
         throw new IllegalArgumentException("Unknown command: " + command);
       }
@@ -110,6 +118,70 @@ public class AgentMain {
     }
   }
 
+  /**
+   * Print the signatures of the blocks of each of the given files that exist, in the format read by
+   * {@link BlockPatch#parseSignatures(String)}.
+   */
+  private static void doGetBlockSignatures(List<String> userArgs) throws IOException {
+    if (userArgs.size() < 2) {
+      throw new IllegalArgumentException("usage: get-block-signatures BLOCK_SIZE FILE...");
+    }
+    int blockSize = Integer.parseInt(userArgs.get(0));
+
+    PrintStream out = new PrintStream(new BufferedOutputStream(System.out));
+    for (String path : userArgs.subList(1, userArgs.size())) {
+      File file = new File(path);
+      if (!file.isFile()) {
+        continue;
+      }
+      InputStream input = new BufferedInputStream(new FileInputStream(file));
+      try {
+        BlockPatch.writeSignatures(path, BlockPatch.computeSignatures(input, blockSize), out);
+      } finally {
+        input.close();
+      }
+    }
+    out.flush();
+  }
+
+  /**
+   * Create files from patches made by {@link BlockPatch#createPatch}. Arguments come in triples of
+   * basis file, patch file and output file. Patches are deleted once applied.
+   */
+  private static void doApplyBlockPatch(List<String> userArgs) throws IOException {
+    if (userArgs.isEmpty() || userArgs.size() % 3 != 0) {
+      throw new IllegalArgumentException("usage: apply-block-patch (BASIS PATCH OUTPUT)...");
+    }
+
+    for (int i = 0; i < userArgs.size(); i += 3) {
+      File basis = new File(userArgs.get(i));
+      File patch = new File(userArgs.get(i + 1));
+      File path = new File(userArgs.get(i + 2));
+
+      // As with received files, write to a temp file so the output never exists half-written.
+      File tempfile =
+          File.createTempFile(
+              AgentUtil.TEMP_PREFIX + path.getName() + "-", ".tmp", path.getParentFile());
+      InputStream patchInput = new BufferedInputStream(new FileInputStream(patch));
+      OutputStream output = new BufferedOutputStream(new FileOutputStream(tempfile));
+      boolean success = false;
+      try {
+        BlockPatch.applyPatch(basis, patchInput, output);
+        success = true;
+      } finally {
+        patchInput.close();
+        output.close();
+        if (!success) {
+          tempfile.delete();
+        }
+      }
+      if (!tempfile.renameTo(path)) {
+        throw new IOException("Failed to rename temp file.");
+      }
+      patch.delete();
+    }
+  }
+
   private static BufferedInputStream acceptAuthenticConnectionFromClient(int port)
       throws IOException {
     BufferedInputStream input;
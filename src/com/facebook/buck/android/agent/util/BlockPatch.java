@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android.agent.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Block-level diffs between two versions of a file, used to install only the changed parts of large
+ * exopackage files. Runs both on the host and in the android agent.
+ *
+ * <p>The device reports the signatures of the fixed-size blocks of the file it already has. The
+ * host finds those blocks anywhere in the new file with a rolling checksum, the way rsync does, and
+ * sends a patch made of references to them and of the bytes that did not match. The patch carries
+ * the MD5 of the new file, so that a patch applied to the wrong file is detected on the device.
+ */
+public final class BlockPatch {
+  private BlockPatch() {}
+
+  public static final int DEFAULT_BLOCK_SIZE = 4096;
+
+  private static final int MAGIC = 0x424b5031; // "BKP1"
+  private static final byte OP_END = 0;
+  private static final byte OP_COPY = 1;
+  private static final byte OP_DATA = 2;
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final String SIGNATURES_HEADER = "file";
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  /** The signature of one block of a file. */
+  public static final class BlockSignature {
+    public final int weakChecksum;
+    public final byte[] strongChecksum;
+
+    public BlockSignature(int weakChecksum, byte[] strongChecksum) {
+      this.weakChecksum = weakChecksum;
+      this.strongChecksum = strongChecksum;
+    }
+  }
+
+  /** The signatures of all the complete blocks of a file. Trailing partial blocks are not signed. */
+  public static final class FileSignatures {
+    public final int blockSize;
+    public final List<BlockSignature> blocks;
+
+    public FileSignatures(int blockSize, List<BlockSignature> blocks) {
+      this.blockSize = blockSize;
+      this.blocks = Collections.unmodifiableList(blocks);
+    }
+  }
+
+  public static FileSignatures computeSignatures(InputStream input, int blockSize)
+      throws IOException {
+    DataInputStream in = new DataInputStream(input);
+    List<BlockSignature> blocks = new ArrayList<BlockSignature>();
+    byte[] block = new byte[blockSize];
+    while (readBlock(in, block)) {
+      blocks.add(
+          new BlockSignature(
+              weakChecksum(block, 0, blockSize), strongChecksum(block, 0, blockSize)));
+    }
+    return new FileSignatures(blockSize, blocks);
+  }
+
+  /**
+   * Writes the signatures of a file in the format read by {@link #parseSignatures(String)}: a
+   * header line with the block size, the number of blocks and the path, followed by one line per
+   * block.
+   */
+  public static void writeSignatures(String path, FileSignatures signatures, Appendable out)
+      throws IOException {
+    out.append(
+        String.format(
+            (Locale) null,
+            "%s %d %d %s\n",
+            SIGNATURES_HEADER,
+            signatures.blockSize,
+            signatures.blocks.size(),
+            path));
+    for (BlockSignature block : signatures.blocks) {
+      out.append(String.format((Locale) null, "%08x ", block.weakChecksum));
+      out.append(toHex(block.strongChecksum));
+      out.append('\n');
+    }
+  }
+
+  /** @return the signatures written by {@link #writeSignatures}, keyed by path. */
+  public static Map<String, FileSignatures> parseSignatures(String output) {
+    Map<String, FileSignatures> result = new LinkedHashMap<String, FileSignatures>();
+    String[] lines = output.split("\r?\n");
+    int lineIndex = 0;
+    while (lineIndex < lines.length) {
+      String header = lines[lineIndex++];
+      if (header.isEmpty()) {
+        continue;
+      }
+      String[] parts = header.split(" ", 4);
+      if (parts.length != 4 || !parts[0].equals(SIGNATURES_HEADER)) {
+        throw new IllegalArgumentException("Malformed block signatures header: " + header);
+      }
+      int blockSize = Integer.parseInt(parts[1]);
+      int blockCount = Integer.parseInt(parts[2]);
+      if (lineIndex + blockCount > lines.length) {
+        throw new IllegalArgumentException("Truncated block signatures for " + parts[3]);
+      }
+      List<BlockSignature> blocks = new ArrayList<BlockSignature>(blockCount);
+      for (int i = 0; i < blockCount; i++) {
+        String line = lines[lineIndex++];
+        int space = line.indexOf(' ');
+        blocks.add(
+            new BlockSignature(
+                (int) Long.parseLong(line.substring(0, space), 16),
+                fromHex(line.substring(space + 1))));
+      }
+      result.put(parts[3], new FileSignatures(blockSize, blocks));
+    }
+    return result;
+  }
+
+  /** @return a patch that turns the file with the given signatures into {@code contents}. */
+  public static byte[] createPatch(byte[] contents, FileSignatures basis) {
+    try {
+      return new PatchWriter(contents, basis).write();
+    } catch (IOException e) {
+      // Only writes to memory.
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Writes the file described by {@code patch} to {@code out}, reading the blocks it refers to from
+   * {@code basisFile}.
+   *
+   * @throws IOException if the patch is malformed, or the result does not match the file the patch
+   *     was created from.
+   */
+  public static void applyPatch(File basisFile, InputStream patch, OutputStream out)
+      throws IOException {
+    DataInputStream in = new DataInputStream(patch);
+    if (in.readInt() != MAGIC) {
+      throw new IOException("Not a block patch.");
+    }
+    int blockSize = in.readInt();
+    long expectedLength = in.readLong();
+    byte[] expectedChecksum = new byte[16];
+    in.readFully(expectedChecksum);
+
+    MessageDigest digest = newMd5();
+    byte[] buffer = new byte[BUFFER_SIZE];
+    long length = 0;
+    RandomAccessFile basis = new RandomAccessFile(basisFile, "r");
+    try {
+      while (true) {
+        byte op = in.readByte();
+        if (op == OP_END) {
+          break;
+        }
+        long remaining;
+        if (op == OP_COPY) {
+          long firstBlock = in.readInt();
+          remaining = (long) in.readInt() * blockSize;
+          basis.seek(firstBlock * blockSize);
+        } else if (op == OP_DATA) {
+          remaining = in.readInt();
+        } else {
+          throw new IOException("Unknown block patch operation " + op);
+        }
+        while (remaining > 0) {
+          int chunk = (int) Math.min(buffer.length, remaining);
+          if (op == OP_COPY) {
+            basis.readFully(buffer, 0, chunk);
+          } else {
+            in.readFully(buffer, 0, chunk);
+          }
+          out.write(buffer, 0, chunk);
+          digest.update(buffer, 0, chunk);
+          remaining -= chunk;
+          length += chunk;
+        }
+      }
+    } finally {
+      basis.close();
+    }
+    if (length != expectedLength || !MessageDigest.isEqual(expectedChecksum, digest.digest())) {
+      throw new IOException("Patched file does not match the expected contents.");
+    }
+  }
+
+  /** Builds a patch, merging consecutive block references into a single operation. */
+  private static class PatchWriter {
+    private final byte[] contents;
+    private final FileSignatures basis;
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(bytes);
+    private int copyStart = -1;
+    private int copyCount = 0;
+
+    PatchWriter(byte[] contents, FileSignatures basis) {
+      this.contents = contents;
+      this.basis = basis;
+    }
+
+    byte[] write() throws IOException {
+      int blockSize = basis.blockSize;
+      out.writeInt(MAGIC);
+      out.writeInt(blockSize);
+      out.writeLong(contents.length);
+      out.write(strongChecksum(contents, 0, contents.length));
+
+      // Weak checksums are looked up for every byte of the file, so a small table rules out most
+      // of them before the map is consulted.
+      Map<Integer, List<Integer>> blocksByWeakChecksum = new HashMap<Integer, List<Integer>>();
+      boolean[] weakChecksumFilter = new boolean[1 << 16];
+      for (int i = 0; i < basis.blocks.size(); i++) {
+        int weak = basis.blocks.get(i).weakChecksum;
+        List<Integer> blocks = blocksByWeakChecksum.get(weak);
+        if (blocks == null) {
+          blocks = new ArrayList<Integer>(1);
+          blocksByWeakChecksum.put(weak, blocks);
+        }
+        blocks.add(i);
+        weakChecksumFilter[filterIndex(weak)] = true;
+      }
+
+      int literalStart = 0;
+      int position = 0;
+      int a = 0;
+      int b = 0;
+      boolean haveChecksum = false;
+      while (position + blockSize <= contents.length) {
+        if (!haveChecksum) {
+          a = 0;
+          b = 0;
+          for (int i = 0; i < blockSize; i++) {
+            int value = contents[position + i] & 0xff;
+            a += value;
+            b += (blockSize - i) * value;
+          }
+          haveChecksum = true;
+        }
+        int weak = (a & 0xffff) | (b << 16);
+        int match = -1;
+        if (weakChecksumFilter[filterIndex(weak)]) {
+          List<Integer> candidates = blocksByWeakChecksum.get(weak);
+          if (candidates != null) {
+            match = findBlock(candidates, position, blockSize);
+          }
+        }
+        if (match >= 0) {
+          writeData(literalStart, position);
+          addCopy(match);
+          position += blockSize;
+          literalStart = position;
+          haveChecksum = false;
+        } else {
+          if (position + blockSize < contents.length) {
+            // Roll the checksum forward by one byte.
+            int removed = contents[position] & 0xff;
+            int added = contents[position + blockSize] & 0xff;
+            a += added - removed;
+            b += a - blockSize * removed;
+          }
+          position++;
+        }
+      }
+      writeData(literalStart, contents.length);
+      flushCopy();
+      out.writeByte(OP_END);
+      out.flush();
+      return bytes.toByteArray();
+    }
+
+    private int findBlock(List<Integer> candidates, int position, int blockSize) {
+      byte[] strong = strongChecksum(contents, position, blockSize);
+      for (int candidate : candidates) {
+        if (Arrays.equals(strong, basis.blocks.get(candidate).strongChecksum)) {
+          return candidate;
+        }
+      }
+      return -1;
+    }
+
+    private void addCopy(int block) throws IOException {
+      if (copyCount > 0 && copyStart + copyCount == block) {
+        copyCount++;
+        return;
+      }
+      flushCopy();
+      copyStart = block;
+      copyCount = 1;
+    }
+
+    private void flushCopy() throws IOException {
+      if (copyCount > 0) {
+        out.writeByte(OP_COPY);
+        out.writeInt(copyStart);
+        out.writeInt(copyCount);
+        copyCount = 0;
+      }
+    }
+
+    private void writeData(int start, int end) throws IOException {
+      if (start < end) {
+        flushCopy();
+        out.writeByte(OP_DATA);
+        out.writeInt(end - start);
+        out.write(contents, start, end - start);
+      }
+    }
+  }
+
+  private static int filterIndex(int weakChecksum) {
+    return (weakChecksum ^ (weakChecksum >>> 16)) & 0xffff;
+  }
+
+  private static boolean readBlock(DataInputStream in, byte[] block) throws IOException {
+    int read = 0;
+    while (read < block.length) {
+      int got = in.read(block, read, block.length - read);
+      if (got == -1) {
+        return false;
+      }
+      read += got;
+    }
+    return true;
+  }
+
+  static int weakChecksum(byte[] data, int offset, int length) {
+    int a = 0;
+    int b = 0;
+    for (int i = 0; i < length; i++) {
+      int value = data[offset + i] & 0xff;
+      a += value;
+      b += (length - i) * value;
+    }
+    return (a & 0xffff) | (b << 16);
+  }
+
+  private static byte[] strongChecksum(byte[] data, int offset, int length) {
+    MessageDigest digest = newMd5();
+    digest.update(data, offset, length);
+    return digest.digest();
+  }
+
+  private static MessageDigest newMd5() {
+    try {
+      return MessageDigest.getInstance("MD5");
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static String toHex(byte[] bytes) {
+    char[] chars = new char[bytes.length * 2];
+    for (int i = 0; i < bytes.length; i++) {
+      chars[2 * i] = HEX_DIGITS[(bytes[i] >> 4) & 0xf];
+      chars[2 * i + 1] = HEX_DIGITS[bytes[i] & 0xf];
+    }
+    return new String(chars);
+  }
+
+  private static byte[] fromHex(String hex) {
+    byte[] bytes = new byte[hex.length() / 2];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+    }
+    return bytes;
+  }
+}
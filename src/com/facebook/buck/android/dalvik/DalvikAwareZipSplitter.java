@@ -41,6 +41,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import javax.annotation.Nullable;
 
@@ -48,7 +49,9 @@ import javax.annotation.Nullable;
  * Implementation of {@link ZipSplitter} that uses estimates from {@link DalvikStatsTool} to
  * determine how many classes to pack into a dex.
  *
- * <p>It does three passes through the .class files:
+ * <p>Classes are analyzed in parallel on the given executor as the first pass reads them, with
+ * results shared across splitters through {@link DalvikStatsCache}. It does three passes through
+ * the .class files:
  *
  * <ul>
  *   <li>During the first pass, it uses the {@code requiredInPrimaryZip} predicate to filter the set
@@ -72,6 +75,7 @@ public class DalvikAwareZipSplitter implements ZipSplitter {
   private final Path reportDir;
   private final long linearAllocLimit;
   private final DalvikStatsCache dalvikStatsCache;
+  private final Executor executor;
   private final DexSplitStrategy dexSplitStrategy;
   private final ImmutableSet<String> secondaryHeadSet;
   private final ImmutableSet<String> secondaryTailSet;
@@ -98,7 +102,8 @@ public class DalvikAwareZipSplitter implements ZipSplitter {
       ImmutableMultimap<APKModule, String> additionalDexStoreSets,
       APKModule rootAPKModule,
       DexSplitStrategy dexSplitStrategy,
-      Path reportDir) {
+      Path reportDir,
+      Executor executor) {
     if (linearAllocLimit <= 0) {
       throw new HumanReadableException("linear_alloc_hard_limit must be greater than zero.");
     }
@@ -128,6 +133,7 @@ public class DalvikAwareZipSplitter implements ZipSplitter {
     this.dexSplitStrategy = dexSplitStrategy;
     this.linearAllocLimit = linearAllocLimit;
     this.dalvikStatsCache = new DalvikStatsCache();
+    this.executor = executor;
   }
 
   public static DalvikAwareZipSplitter splitZip(
@@ -145,7 +151,8 @@ public class DalvikAwareZipSplitter implements ZipSplitter {
       ImmutableMultimap<APKModule, String> additionalDexStoreSets,
       APKModule rootAPKModule,
       DexSplitStrategy dexSplitStrategy,
-      Path reportDir) {
+      Path reportDir,
+      Executor executor) {
     return new DalvikAwareZipSplitter(
         filesystem,
         inFiles,
@@ -161,7 +168,8 @@ public class DalvikAwareZipSplitter implements ZipSplitter {
         additionalDexStoreSets,
         rootAPKModule,
         dexSplitStrategy,
-        reportDir);
+        reportDir,
+        executor);
   }
 
   @Override
@@ -193,6 +201,10 @@ public class DalvikAwareZipSplitter implements ZipSplitter {
             }
             String classPath = relativePath.replaceAll("\\.class$", "");
 
+            // Start analyzing every class now, so that the sequential passes below mostly find
+            // the stats of the classes they place already computed.
+            dalvikStatsCache.precompute(entry, executor);
+
             Objects.requireNonNull(primaryOut);
             Objects.requireNonNull(classPathToDexStore);
 
@@ -17,24 +17,73 @@
 package com.facebook.buck.android.dalvik;
 
 import com.facebook.buck.jvm.java.classes.FileLike;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.MapMaker;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
-/** Cache to memoize results from DalvikStatsTool. */
+/**
+ * Cache to memoize results from DalvikStatsTool.
+ *
+ * <p>Results are memoized per {@link FileLike} for the lifetime of this object, and are also shared
+ * across every split in this process by the SHA-1 hash of the class file, so that the same library
+ * classes are analyzed only once for all the binaries (and flavors) that contain them.
+ */
 class DalvikStatsCache {
 
+  // Bounds the shared stats by the number of member references they hold, which is what dominates
+  // their size.
+  private static final long MAX_SHARED_REFERENCES = 4_000_000;
+
+  private static final Cache<HashCode, DalvikStatsTool.Stats> SHARED_STATS =
+      newSharedStats(MAX_SHARED_REFERENCES);
+
+  // Bounds the number of class files read by precompute() that are waiting to be analyzed.
+  private static final int MAX_PENDING_ANALYSES = 1024;
+
   private final ConcurrentMap<FileLike, DalvikStatsTool.Stats> cache;
+  private final ConcurrentMap<String, ListenableFutureTask<DalvikStatsTool.Stats>> precomputed =
+      new ConcurrentHashMap<>();
+  private final AtomicInteger pendingAnalyses = new AtomicInteger();
+  private final Cache<HashCode, DalvikStatsTool.Stats> sharedStats;
 
   DalvikStatsCache() {
-    cache = new MapMaker().weakKeys().makeMap();
+    this(SHARED_STATS);
+  }
+
+  @VisibleForTesting
+  DalvikStatsCache(Cache<HashCode, DalvikStatsTool.Stats> sharedStats) {
+    this.cache = new MapMaker().weakKeys().makeMap();
+    this.sharedStats = sharedStats;
+  }
+
+  @VisibleForTesting
+  static Cache<HashCode, DalvikStatsTool.Stats> newSharedStats(long maxReferences) {
+    return CacheBuilder.newBuilder()
+        .maximumWeight(maxReferences)
+        .<HashCode, DalvikStatsTool.Stats>weigher(
+            (hash, stats) -> 1 + stats.methodReferences.size() + stats.fieldReferences.size())
+        .build();
   }
 
   DalvikStatsTool.Stats getStats(FileLike entry) {
-    String[] pathParts = entry.getRelativePath().split("/");
-    String name = pathParts[pathParts.length-1];
-    if (!name.endsWith(".class") || name.equals("module-info.class")) {
+    String name = getFileName(entry.getRelativePath());
+    if (!isAnalyzedClass(name)) {
       // Probably something like a pom.properties file in a JAR: this does not contribute
       // to the linear alloc size, so return zero.
       // skipping special class files like module descriptor - here no classes will be
@@ -47,14 +96,73 @@ class DalvikStatsCache {
       return stats;
     }
 
+    ListenableFutureTask<DalvikStatsTool.Stats> task = precomputed.get(getKey(entry));
+    if (task != null) {
+      // Run the analysis here if the executor hasn't got to it yet, rather than waiting for it.
+      task.run();
+      stats = Futures.getUnchecked(task);
+    } else {
+      try (InputStream is = entry.getInput()) {
+        stats = getStats(name, ByteStreams.toByteArray(is));
+      } catch (IOException e) {
+        throw new RuntimeException(String.format("Error calculating size for %s.", name), e);
+      }
+    }
+    cache.put(entry, stats);
+    return stats;
+  }
+
+  /**
+   * Reads a class and starts analyzing it on {@code executor}, so that a later {@link
+   * #getStats(FileLike)} for an entry with the same container and path finds the result without
+   * reading or hashing the class again.
+   */
+  void precompute(FileLike entry, Executor executor) throws IOException {
+    String name = getFileName(entry.getRelativePath());
+    if (!isAnalyzedClass(name)) {
+      return;
+    }
+    byte[] classBytes;
     try (InputStream is = entry.getInput()) {
-      stats = DalvikStatsTool.getEstimate(is);
-      cache.put(entry, stats);
-      return stats;
-    } catch (IOException e) {
-      throw new RuntimeException(String.format("Error calculating size for %s.", name), e);
-    } catch (RuntimeException e) {
-      throw new RuntimeException(String.format("Error calculating size for %s.", name), e);
+      classBytes = ByteStreams.toByteArray(is);
+    }
+    ListenableFutureTask<DalvikStatsTool.Stats> task =
+        ListenableFutureTask.create(() -> getStats(name, classBytes));
+    if (precomputed.putIfAbsent(getKey(entry), task) != null) {
+      return;
+    }
+    // Analyze on this thread once too many classes are pending, rather than buffering more.
+    if (pendingAnalyses.incrementAndGet() > MAX_PENDING_ANALYSES) {
+      pendingAnalyses.decrementAndGet();
+      task.run();
+      return;
+    }
+    task.addListener(pendingAnalyses::decrementAndGet, MoreExecutors.directExecutor());
+    executor.execute(task);
+  }
+
+  private DalvikStatsTool.Stats getStats(String name, byte[] classBytes) {
+    try {
+      // Concurrent requests for the same class wait for a single analysis.
+      return sharedStats.get(
+          Hashing.sha1().hashBytes(classBytes),
+          () -> DalvikStatsTool.getEstimate(new ByteArrayInputStream(classBytes)));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      throw new RuntimeException(
+          String.format("Error calculating size for %s.", name), e.getCause());
     }
   }
+
+  private static String getKey(FileLike entry) {
+    return entry.getContainer() + "!" + entry.getRelativePath();
+  }
+
+  private static String getFileName(String relativePath) {
+    String[] pathParts = relativePath.split("/");
+    return pathParts[pathParts.length - 1];
+  }
+
+  private static boolean isAnalyzedClass(String name) {
+    return name.endsWith(".class") && !name.equals("module-info.class");
+  }
 }
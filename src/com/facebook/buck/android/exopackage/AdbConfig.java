@@ -18,8 +18,10 @@ package com.facebook.buck.android.exopackage;
 
 import com.facebook.buck.core.config.BuckConfig;
 import com.facebook.buck.core.config.ConfigView;
+import com.facebook.buck.core.exceptions.HumanReadableException;
 import com.facebook.buck.core.util.immutables.BuckStyleValue;
 import com.google.common.collect.ImmutableList;
+import java.util.Optional;
 import org.immutables.value.Value;
 
 @BuckStyleValue
@@ -42,6 +44,33 @@ public abstract class AdbConfig implements ConfigView<BuckConfig> {
     return getDelegate().getListWithoutComments("adb", "rapid_install_types_beta");
   }
 
+  /**
+   * Whether large exopackage files should be installed by patching their previous version on the
+   * device, pushing only the blocks that changed.
+   */
+  @Value.Lazy
+  public boolean getBlockPatchInstall() {
+    return getDelegate().getBooleanValue("adb", "block_patch_install", false);
+  }
+
+  /**
+   * The maximum rate, in bytes per second, at which files are pushed to each device. Installing to
+   * many devices at once can otherwise saturate a shared hub and make every install time out.
+   * Unset means unlimited.
+   */
+  @Value.Lazy
+  public Optional<Long> getPushBytesPerSecondPerDevice() {
+    Optional<Long> bytesPerSecond =
+        getDelegate().getLong("adb", "push_bytes_per_second_per_device");
+    if (bytesPerSecond.isPresent() && bytesPerSecond.get() <= 0) {
+      throw new HumanReadableException(
+          "adb.push_bytes_per_second_per_device must be positive, got %d. "
+              + "Leave it unset to push without a limit.",
+          bytesPerSecond.get());
+    }
+    return bytesPerSecond;
+  }
+
   @Value.Lazy
   public boolean getMultiInstallMode() {
     return getDelegate().getBooleanValue("adb", "multi_install_mode", false);
@@ -17,9 +17,12 @@
 package com.facebook.buck.android.exopackage;
 
 import com.android.ddmlib.InstallException;
+import com.facebook.buck.android.agent.util.BlockPatch;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSortedSet;
 import java.io.File;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -59,4 +62,20 @@ public interface AndroidDevice {
   void sendBroadcast(String action, Map<String, String> stringExtras) throws Exception;
 
   String getSerialNumber();
+
+  /**
+   * @return whether files can be installed by patching files already on the device, with {@link
+   *     #getBlockSignatures} and {@link #applyBlockPatches}.
+   */
+  boolean supportsBlockPatches();
+
+  /**
+   * @return the signatures of the blocks of each of the given files that exist on the device, keyed
+   *     by their path.
+   */
+  ImmutableMap<Path, BlockPatch.FileSignatures> getBlockSignatures(
+      Collection<Path> devicePaths, int blockSize) throws Exception;
+
+  /** Creates files by applying patches that were installed with {@link #installFiles}. */
+  void applyBlockPatches(Collection<BlockPatchTarget> patches) throws Exception;
 }
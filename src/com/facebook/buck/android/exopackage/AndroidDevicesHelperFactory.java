@@ -40,6 +40,8 @@ public class AndroidDevicesHelperFactory {
         toolchainProvider,
         contextSupplier,
         adbConfig.getRestartAdbOnFailure(),
-        adbConfig.getAdbRapidInstallTypes());
+        adbConfig.getAdbRapidInstallTypes(),
+        adbConfig.getBlockPatchInstall(),
+        adbConfig.getPushBytesPerSecondPerDevice());
   }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android.exopackage;
+
+import com.facebook.buck.core.util.immutables.BuckStyleValue;
+import java.nio.file.Path;
+
+/**
+ * A file to create on the device by applying a patch, already pushed to the device, to another
+ * file that is already there. All paths are absolute paths on the device.
+ */
+@BuckStyleValue
+public interface BlockPatchTarget {
+
+  static BlockPatchTarget of(Path basisPath, Path patchPath, Path outputPath) {
+    return ImmutableBlockPatchTarget.of(basisPath, patchPath, outputPath);
+  }
+
+  Path getBasisPath();
+
+  Path getPatchPath();
+
+  Path getOutputPath();
+}
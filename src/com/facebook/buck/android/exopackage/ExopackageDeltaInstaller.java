@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android.exopackage;
+
+import com.facebook.buck.android.agent.util.BlockPatch;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.util.NamedTemporaryFile;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.io.Closer;
+import com.google.common.io.Files;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Installs exopackage files by patching the previous version of each file on the device, so that
+ * only the blocks that changed are pushed. This matters for large files such as resources apks and
+ * native libraries, where a small change would otherwise re-push megabytes.
+ *
+ * <p>Exopackage files are named by their hash, so the previous version of a file is a file that is
+ * no longer wanted, in the same directory and with the same extension. When a directory has several
+ * such files, the one that produces the smallest patch is used.
+ */
+class ExopackageDeltaInstaller {
+  private static final Logger LOG = Logger.get(ExopackageDeltaInstaller.class);
+
+  /** Smaller files are cheaper to push than to diff. */
+  static final long MIN_PATCHED_FILE_SIZE = 64 * 1024;
+  /** Files are diffed in memory. */
+  static final long MAX_PATCHED_FILE_SIZE = 256 * 1024 * 1024;
+  /** Avoid reading many files on the device when the previous version is ambiguous. */
+  static final int MAX_BASIS_CANDIDATES = 4;
+  /** Patches that are not much smaller than the file are not worth applying on the device. */
+  static final double MAX_PATCH_RATIO = 0.5;
+
+  private final AndroidDevice device;
+  private final Path dataRoot;
+
+  ExopackageDeltaInstaller(AndroidDevice device, Path dataRoot) {
+    this.device = device;
+    this.dataRoot = dataRoot;
+  }
+
+  /**
+   * Installs the files that can be created by patching files already on the device.
+   *
+   * @param presentFiles files on the device, relative to the data root.
+   * @param wantedFiles all the files of this type that should be on the device, relative to the
+   *     data root.
+   * @param filesToInstall missing files, as a map from the path on the device (relative to the data
+   *     root) to the absolute local path.
+   * @return the files that still have to be installed in full.
+   */
+  ImmutableMap<Path, Path> installPatches(
+      String filesType,
+      ImmutableSortedSet<Path> presentFiles,
+      ImmutableSet<Path> wantedFiles,
+      ImmutableMap<Path, Path> filesToInstall)
+      throws Exception {
+    if (!device.supportsBlockPatches()) {
+      return filesToInstall;
+    }
+
+    Map<Path, ImmutableList<Path>> candidatesByFile = new HashMap<>();
+    for (Map.Entry<Path, Path> entry : filesToInstall.entrySet()) {
+      long size = entry.getValue().toFile().length();
+      if (size < MIN_PATCHED_FILE_SIZE || size > MAX_PATCHED_FILE_SIZE) {
+        continue;
+      }
+      ImmutableList<Path> candidates = getBasisCandidates(entry.getKey(), presentFiles, wantedFiles);
+      if (!candidates.isEmpty() && candidates.size() <= MAX_BASIS_CANDIDATES) {
+        candidatesByFile.put(entry.getKey(), candidates);
+      }
+    }
+    if (candidatesByFile.isEmpty()) {
+      return filesToInstall;
+    }
+
+    ImmutableMap<Path, BlockPatch.FileSignatures> signatures =
+        device.getBlockSignatures(
+            candidatesByFile.values().stream()
+                .flatMap(ImmutableList::stream)
+                .distinct()
+                .map(dataRoot::resolve)
+                .collect(ImmutableList.toImmutableList()),
+            BlockPatch.DEFAULT_BLOCK_SIZE);
+
+    try (Closer closer = Closer.create()) {
+      Map<Path, Path> patchesToInstall = new HashMap<>();
+      ImmutableList.Builder<BlockPatchTarget> patchTargets = ImmutableList.builder();
+      for (Map.Entry<Path, ImmutableList<Path>> entry : candidatesByFile.entrySet()) {
+        Path file = entry.getKey();
+        Path localPath = Objects.requireNonNull(filesToInstall.get(file));
+        Optional<Patch> patch = createBestPatch(localPath, entry.getValue(), signatures);
+        if (!patch.isPresent()) {
+          continue;
+        }
+        NamedTemporaryFile patchFile = closer.register(new NamedTemporaryFile("patch", "tmp"));
+        Files.write(patch.get().contents, patchFile.get().toFile());
+        Path outputPath = dataRoot.resolve(file);
+        Path patchPath = outputPath.resolveSibling(outputPath.getFileName() + ".patch");
+        patchesToInstall.put(patchPath, patchFile.get());
+        patchTargets.add(BlockPatchTarget.of(patch.get().basisPath, patchPath, outputPath));
+      }
+      if (patchesToInstall.isEmpty()) {
+        return filesToInstall;
+      }
+
+      ImmutableList<BlockPatchTarget> targets = patchTargets.build();
+      try (AutoCloseable ignored = device.createForward()) {
+        device.installFiles(filesType + "_patches", patchesToInstall);
+        device.applyBlockPatches(targets);
+      } catch (Exception e) {
+        // Leftover patches are deleted with the other unwanted files, and the outputs are only
+        // created once complete, so falling back to full installs is always safe.
+        LOG.warn(e, "Failed to install %s by patching, installing them in full.", filesType);
+        return filesToInstall;
+      }
+      LOG.debug("Installed %d %s files by patching.", targets.size(), filesType);
+
+      ImmutableSet<Path> patchedFiles =
+          targets.stream()
+              .map(target -> dataRoot.relativize(target.getOutputPath()))
+              .collect(ImmutableSet.toImmutableSet());
+      return ImmutableMap.copyOf(
+          Maps.filterKeys(filesToInstall, file -> !patchedFiles.contains(file)));
+    }
+  }
+
+  /** @return stale files in the same directory as {@code file}, with the same extension. */
+  private static ImmutableList<Path> getBasisCandidates(
+      Path file, ImmutableSortedSet<Path> presentFiles, ImmutableSet<Path> wantedFiles) {
+    String extension = Files.getFileExtension(file.getFileName().toString());
+    return Sets.difference(presentFiles, wantedFiles).stream()
+        .filter(p -> Objects.equals(p.getParent(), file.getParent()))
+        .filter(p -> Files.getFileExtension(p.getFileName().toString()).equals(extension))
+        .collect(ImmutableList.toImmutableList());
+  }
+
+  private Optional<Patch> createBestPatch(
+      Path localPath,
+      ImmutableList<Path> candidates,
+      ImmutableMap<Path, BlockPatch.FileSignatures> signatures)
+      throws IOException {
+    byte[] contents = Files.toByteArray(localPath.toFile());
+    Optional<Patch> best = Optional.empty();
+    for (Path candidate : candidates) {
+      Path basisPath = dataRoot.resolve(candidate);
+      BlockPatch.FileSignatures basisSignatures = signatures.get(basisPath);
+      if (basisSignatures == null) {
+        continue;
+      }
+      byte[] patch = BlockPatch.createPatch(contents, basisSignatures);
+      if (!best.isPresent() || patch.length < best.get().contents.length) {
+        best = Optional.of(new Patch(basisPath, patch));
+      }
+    }
+    return best.filter(patch -> patch.contents.length <= contents.length * MAX_PATCH_RATIO);
+  }
+
+  private static class Patch {
+    private final Path basisPath;
+    private final byte[] contents;
+
+    private Patch(Path basisPath, byte[] contents) {
+      this.basisPath = basisPath;
+      this.contents = contents;
+    }
+  }
+}
@@ -27,19 +27,23 @@ import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.event.ConsoleEvent;
 import com.facebook.buck.event.SimplePerfEvent;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.util.MoreSuppliers;
 import com.facebook.buck.util.NamedTemporaryFile;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Ordering;
 import com.google.common.io.Closer;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
@@ -48,6 +52,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
@@ -59,6 +67,12 @@ public class ExopackageInstaller {
   public static final String SECONDARY_DEX_TYPE = "secondary_dex";
   public static final String NATIVE_LIBRARY_TYPE = "native_library";
   public static final String RESOURCES_TYPE = "resources";
+  private static final String MODULAR_DEX_TYPE = "modular_dex";
+
+  /** Runs the host side of installs, which overlaps with the device side. */
+  private static final ExecutorService PREFETCH_EXECUTOR =
+      Executors.newCachedThreadPool(
+          new ThreadFactoryBuilder().setNameFormat("exopackage-prefetch-%d").setDaemon(true).build());
 
   private final ProjectFilesystem projectFilesystem;
   private final BuckEventBus eventBus;
@@ -88,11 +102,22 @@ public class ExopackageInstaller {
   public boolean doInstall(HasInstallableApk.ApkInfo apkInfo, @Nullable String processName)
       throws Exception {
     if (exopackageEnabled(apkInfo)) {
-      device.mkDirP(dataRoot.toString());
-      ImmutableSortedSet<Path> presentFiles = device.listDirRecursive(dataRoot);
       ExopackageInfo exoInfo = apkInfo.getExopackageInfo().get();
-      installMissingExopackageFiles(presentFiles, exoInfo);
-      finishExoFileInstallation(presentFiles, exoInfo);
+      // Working out which files should be on the device only reads the build outputs (and the
+      // device abis), so it runs while the device lists the files it already has.
+      Future<ExopackageFiles> wantedFiles =
+          PREFETCH_EXECUTOR.submit(() -> getExopackageFiles(exoInfo));
+      ImmutableSortedSet<Path> presentFiles;
+      try {
+        device.mkDirP(dataRoot.toString());
+        presentFiles = device.listDirRecursive(dataRoot);
+      } catch (Exception e) {
+        wantedFiles.cancel(true);
+        throw e;
+      }
+      ExopackageFiles exopackageFiles = getPrefetched(wantedFiles);
+      installMissingExopackageFiles(presentFiles, exopackageFiles);
+      finishExoFileInstallation(presentFiles, exopackageFiles);
     }
     installApkIfNecessary(apkInfo);
     killApp(apkInfo, processName);
@@ -130,85 +155,88 @@ public class ExopackageInstaller {
 
   public void finishExoFileInstallation(
       ImmutableSortedSet<Path> presentFiles, ExopackageInfo exoInfo) throws Exception {
-    ImmutableSet.Builder<Path> wantedPaths = ImmutableSet.builder();
+    finishExoFileInstallation(presentFiles, getExopackageFiles(exoInfo));
+  }
+
+  private void finishExoFileInstallation(
+      ImmutableSortedSet<Path> presentFiles, ExopackageFiles exopackageFiles) throws Exception {
+    ImmutableSet<Path> wantedPaths =
+        exopackageFiles.filesByType.values().stream()
+            .flatMap(files -> files.keySet().stream())
+            .collect(ImmutableSet.toImmutableSet());
+    deleteUnwantedFiles(presentFiles, wantedPaths);
+    installMetadata(exopackageFiles.metadata);
+  }
+
+  public void installMissingExopackageFiles(
+      ImmutableSortedSet<Path> presentFiles, ExopackageInfo exoInfo) throws Exception {
+    installMissingExopackageFiles(presentFiles, getExopackageFiles(exoInfo));
+  }
+
+  private void installMissingExopackageFiles(
+      ImmutableSortedSet<Path> presentFiles, ExopackageFiles exopackageFiles) throws Exception {
+    for (Map.Entry<String, ImmutableMap<Path, Path>> entry :
+        exopackageFiles.filesByType.entrySet()) {
+      installMissingFiles(presentFiles, entry.getValue(), entry.getKey());
+    }
+  }
+
+  /** Reads the files and metadata that should be on the device from the build outputs. */
+  private ExopackageFiles getExopackageFiles(ExopackageInfo exoInfo) throws IOException {
+    ImmutableMap.Builder<String, ImmutableMap<Path, Path>> filesByType = ImmutableMap.builder();
     ImmutableMap.Builder<Path, String> metadata = ImmutableMap.builder();
 
     if (exoInfo.getDexInfo().isPresent()) {
       DexExoHelper dexExoHelper =
           new DexExoHelper(pathResolver, projectFilesystem, exoInfo.getDexInfo().get());
-      wantedPaths.addAll(dexExoHelper.getFilesToInstall().keySet());
+      filesByType.put(SECONDARY_DEX_TYPE, dexExoHelper.getFilesToInstall());
       metadata.putAll(dexExoHelper.getMetadataToInstall());
     }
 
     if (exoInfo.getNativeLibsInfo().isPresent()) {
       NativeExoHelper nativeExoHelper =
           new NativeExoHelper(
-              () -> {
-                try {
-                  return device.getDeviceAbis();
-                } catch (Exception e) {
-                  throw new HumanReadableException("Unable to communicate with device", e);
-                }
-              },
+              MoreSuppliers.memoize(
+                  () -> {
+                    try {
+                      return device.getDeviceAbis();
+                    } catch (Exception e) {
+                      throw new HumanReadableException("Unable to communicate with device", e);
+                    }
+                  }),
               pathResolver,
               projectFilesystem,
               exoInfo.getNativeLibsInfo().get());
-      wantedPaths.addAll(nativeExoHelper.getFilesToInstall().keySet());
+      filesByType.put(NATIVE_LIBRARY_TYPE, nativeExoHelper.getFilesToInstall());
       metadata.putAll(nativeExoHelper.getMetadataToInstall());
     }
 
     if (exoInfo.getResourcesInfo().isPresent()) {
       ResourcesExoHelper resourcesExoHelper =
           new ResourcesExoHelper(pathResolver, projectFilesystem, exoInfo.getResourcesInfo().get());
-      wantedPaths.addAll(resourcesExoHelper.getFilesToInstall().keySet());
+      filesByType.put(RESOURCES_TYPE, resourcesExoHelper.getFilesToInstall());
       metadata.putAll(resourcesExoHelper.getMetadataToInstall());
     }
 
     if (exoInfo.getModuleInfo().isPresent()) {
       ModuleExoHelper moduleExoHelper =
           new ModuleExoHelper(pathResolver, projectFilesystem, exoInfo.getModuleInfo().get());
-      wantedPaths.addAll(moduleExoHelper.getFilesToInstall().keySet());
+      filesByType.put(MODULAR_DEX_TYPE, moduleExoHelper.getFilesToInstall());
       metadata.putAll(moduleExoHelper.getMetadataToInstall());
     }
 
-    deleteUnwantedFiles(presentFiles, wantedPaths.build());
-    installMetadata(metadata.build());
+    return new ExopackageFiles(filesByType.build(), metadata.build());
   }
 
-  public void installMissingExopackageFiles(
-      ImmutableSortedSet<Path> presentFiles, ExopackageInfo exoInfo) throws Exception {
-    if (exoInfo.getDexInfo().isPresent()) {
-      DexExoHelper dexExoHelper =
-          new DexExoHelper(pathResolver, projectFilesystem, exoInfo.getDexInfo().get());
-      installMissingFiles(presentFiles, dexExoHelper.getFilesToInstall(), SECONDARY_DEX_TYPE);
-    }
-
-    if (exoInfo.getNativeLibsInfo().isPresent()) {
-      NativeExoHelper nativeExoHelper =
-          new NativeExoHelper(
-              () -> {
-                try {
-                  return device.getDeviceAbis();
-                } catch (Exception e) {
-                  throw new HumanReadableException("Unable to communicate with device", e);
-                }
-              },
-              pathResolver,
-              projectFilesystem,
-              exoInfo.getNativeLibsInfo().get());
-      installMissingFiles(presentFiles, nativeExoHelper.getFilesToInstall(), NATIVE_LIBRARY_TYPE);
-    }
-
-    if (exoInfo.getResourcesInfo().isPresent()) {
-      ResourcesExoHelper resourcesExoHelper =
-          new ResourcesExoHelper(pathResolver, projectFilesystem, exoInfo.getResourcesInfo().get());
-      installMissingFiles(presentFiles, resourcesExoHelper.getFilesToInstall(), RESOURCES_TYPE);
-    }
-
-    if (exoInfo.getModuleInfo().isPresent()) {
-      ModuleExoHelper moduleExoHelper =
-          new ModuleExoHelper(pathResolver, projectFilesystem, exoInfo.getModuleInfo().get());
-      installMissingFiles(presentFiles, moduleExoHelper.getFilesToInstall(), "modular_dex");
+  /** Waits for a prefetch, rethrowing whatever it failed with as if it had run inline. */
+  @VisibleForTesting
+  static <T> T getPrefetched(Future<T> future) throws Exception {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      Throwables.throwIfInstanceOf(e.getCause(), Exception.class);
+      throw e;
     }
   }
 
@@ -284,6 +312,23 @@ public class ExopackageInstaller {
                 ImmutableSortedMap.toImmutableSortedMap(
                     Ordering.natural(), Map.Entry::getKey, Map.Entry::getValue));
 
+    if (!filesToInstall.isEmpty() && device.supportsBlockPatches()) {
+      try (SimplePerfEvent.Scope ignored =
+          SimplePerfEvent.scope(eventBus, "patch_install_" + filesType)) {
+        ImmutableMap<Path, Path> remainingFiles =
+            new ExopackageDeltaInstaller(device, dataRoot)
+                .installPatches(
+                    filesType,
+                    presentFiles,
+                    wantedFilesToInstall.keySet(),
+                    ImmutableMap.copyOf(
+                        Maps.transformValues(filesToInstall, projectFilesystem::resolve)));
+        filesToInstall =
+            ImmutableSortedMap.copyOf(
+                Maps.filterKeys(filesToInstall, remainingFiles::containsKey));
+      }
+    }
+
     installFiles(filesType, filesToInstall);
   }
 
@@ -374,4 +419,19 @@ public class ExopackageInstaller {
     }
     return builder.build();
   }
+
+  /** The files that should be on the device, and the metadata describing them. */
+  private static class ExopackageFiles {
+    /** For each type of file, a map from the path on the device to the local path. */
+    private final ImmutableMap<String, ImmutableMap<Path, Path>> filesByType;
+
+    private final ImmutableMap<Path, String> metadata;
+
+    private ExopackageFiles(
+        ImmutableMap<String, ImmutableMap<Path, Path>> filesByType,
+        ImmutableMap<Path, String> metadata) {
+      this.filesByType = filesByType;
+      this.metadata = metadata;
+    }
+  }
 }
@@ -26,6 +26,7 @@ import com.android.ddmlib.ShellCommandUnresponsiveException;
 import com.android.ddmlib.TimeoutException;
 import com.facebook.buck.android.AdbHelper;
 import com.facebook.buck.android.agent.util.AgentUtil;
+import com.facebook.buck.android.agent.util.BlockPatch;
 import com.facebook.buck.core.exceptions.BuckUncheckedExecutionException;
 import com.facebook.buck.core.exceptions.HumanReadableException;
 import com.facebook.buck.core.util.immutables.BuckStyleValue;
@@ -41,14 +42,18 @@ import com.google.common.base.Charsets;
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Sets;
+import com.google.common.io.ByteStreams;
 import com.google.common.io.Closer;
 import com.google.common.primitives.Ints;
+import com.google.common.util.concurrent.RateLimiter;
 import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
 import java.net.ServerSocket;
@@ -61,6 +66,7 @@ import java.nio.charset.UnsupportedCharsetException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
@@ -88,7 +94,7 @@ public class RealAndroidDevice implements AndroidDevice {
       Pattern.compile("\\d+\\.\\d+\\.\\d+\\.\\d+:\\d+");
 
   /** Maximum length of commands that can be passed to "adb shell". */
-  private static final int MAX_ADB_COMMAND_SIZE = 1019;
+  @VisibleForTesting static final int MAX_ADB_COMMAND_SIZE = 1019;
 
   private static final Pattern LINE_ENDING = Pattern.compile("\r?\n");
 
@@ -116,6 +122,12 @@ public class RealAndroidDevice implements AndroidDevice {
   private final ImmutableList<String> rapidInstallTypes;
   private final Supplier<ExopackageAgent> agent;
   private final int agentPort;
+  private final boolean blockPatchesEnabled;
+  /**
+   * Limits the rate at which files are pushed to this device, so that installing to many devices
+   * behind the same hub does not let one of them starve the others.
+   */
+  private final Optional<RateLimiter> pushRateLimiter;
 
   public RealAndroidDevice(
       BuckEventBus eventBus,
@@ -124,6 +136,26 @@ public class RealAndroidDevice implements AndroidDevice {
       @Nullable Path agentApkPath,
       int agentPort,
       ImmutableList<String> rapidInstallTypes) {
+    this(
+        eventBus,
+        device,
+        console,
+        agentApkPath,
+        agentPort,
+        rapidInstallTypes,
+        false,
+        Optional.empty());
+  }
+
+  public RealAndroidDevice(
+      BuckEventBus eventBus,
+      IDevice device,
+      Console console,
+      @Nullable Path agentApkPath,
+      int agentPort,
+      ImmutableList<String> rapidInstallTypes,
+      boolean blockPatchesEnabled,
+      Optional<Long> pushBytesPerSecond) {
     this.eventBus = eventBus;
     this.device = device;
     this.console = console;
@@ -136,6 +168,8 @@ public class RealAndroidDevice implements AndroidDevice {
                     this,
                     Objects.requireNonNull(agentApkPath, "Agent not configured for this device.")));
     this.agentPort = agentPort;
+    this.blockPatchesEnabled = blockPatchesEnabled;
+    this.pushRateLimiter = pushBytesPerSecond.map(RateLimiter::create);
   }
 
   public RealAndroidDevice(BuckEventBus buckEventBus, IDevice device, Console console) {
@@ -628,6 +662,65 @@ public class RealAndroidDevice implements AndroidDevice {
     return device.getSerialNumber();
   }
 
+  @Override
+  public boolean supportsBlockPatches() {
+    return blockPatchesEnabled;
+  }
+
+  @Override
+  public ImmutableMap<Path, BlockPatch.FileSignatures> getBlockSignatures(
+      Collection<Path> devicePaths, int blockSize) throws Exception {
+    String commandPrefix =
+        agent.get().getAgentCommand() + "get-block-signatures " + blockSize + " ";
+    // Add a fudge factor for separators and error checking.
+    int overhead = commandPrefix.length() + 100;
+    ImmutableMap.Builder<Path, BlockPatch.FileSignatures> signatures = ImmutableMap.builder();
+    for (List<String> paths :
+        chunkArgs(
+            devicePaths.stream().map(Path::toString).collect(ImmutableList.toImmutableList()),
+            MAX_ADB_COMMAND_SIZE - overhead)) {
+      String command = commandPrefix + Joiner.on(' ').join(paths);
+      LOG.debug("Executing %s", command);
+      for (Map.Entry<String, BlockPatch.FileSignatures> entry :
+          BlockPatch.parseSignatures(executeCommandWithErrorChecking(command)).entrySet()) {
+        signatures.put(Paths.get(entry.getKey()), entry.getValue());
+      }
+    }
+    return signatures.build();
+  }
+
+  @Override
+  public void applyBlockPatches(Collection<BlockPatchTarget> patches) throws Exception {
+    applyBlockPatches(agent.get(), patches);
+  }
+
+  @VisibleForTesting
+  void applyBlockPatches(ExopackageAgent agent, Collection<BlockPatchTarget> patches)
+      throws Exception {
+    String commandPrefix = agent.getAgentCommand() + "apply-block-patch ";
+    int overhead = commandPrefix.length() + 100;
+    for (List<String> triples :
+        chunkArgs(
+            patches.stream()
+                .map(
+                    patch ->
+                        Joiner.on(' ')
+                            .join(
+                                patch.getBasisPath(), patch.getPatchPath(), patch.getOutputPath()))
+                .collect(ImmutableList.toImmutableList()),
+            MAX_ADB_COMMAND_SIZE - overhead)) {
+      String command = commandPrefix + Joiner.on(' ').join(triples);
+      LOG.debug("Executing %s", command);
+      executeCommandWithErrorChecking(command);
+    }
+
+    // Patched files are moved into place from temp files, just like installed files.
+    chmod644(
+        patches.stream()
+            .map(BlockPatchTarget::getOutputPath)
+            .collect(ImmutableList.toImmutableList()));
+  }
+
   @Override
   public ImmutableSortedSet<Path> listDirRecursive(Path root) throws Exception {
     String lsOutput = executeCommandWithErrorChecking("ls -R " + root + " | cat");
@@ -801,6 +894,9 @@ public class RealAndroidDevice implements AndroidDevice {
         break;
       }
 
+      if (pushRateLimiter.isPresent() && readCount > 0) {
+        pushRateLimiter.get().acquire(readCount);
+      }
       swap32bitsToArray(readCount, dataBuffer, 4);
       writeAllToChannel(
           chan, ByteBuffer.wrap(dataBuffer, 0, readCount + 8)); // 8 bytes for DATA + length
@@ -948,9 +1044,7 @@ public class RealAndroidDevice implements AndroidDevice {
       throw shellException;
     }
 
-    for (Path targetFileName : installPaths.keySet()) {
-      chmod644(targetFileName);
-    }
+    chmod644(installPaths.keySet());
   }
 
   private class BuckInitiatedInstallReceiver extends CollectingOutputReceiver {
@@ -1082,12 +1176,11 @@ public class RealAndroidDevice implements AndroidDevice {
       throw failure;
     }
 
-    for (Path targetFileName : installPaths.keySet()) {
-      chmod644(targetFileName);
-    }
+    chmod644(installPaths.keySet());
   }
 
-  private void chmod644(Path targetDevicePath)
+  @VisibleForTesting
+  void chmod644(Collection<Path> targetDevicePaths)
       throws TimeoutException, AdbCommandRejectedException, ShellCommandUnresponsiveException,
           IOException {
     // The standard Java libraries on Android always create new files un-readable by other users.
@@ -1095,7 +1188,16 @@ public class RealAndroidDevice implements AndroidDevice {
     // to allow the app to read them.  Ideally, the agent would do this automatically, but
     // there's no easy way to do this in Java.  We can drop this if we drop support for the
     // Java agent.
-    executeCommandWithErrorChecking("chmod 644 " + targetDevicePath);
+    // Each shell command is a round trip to the device, so the files are batched.
+    String commandPrefix = "chmod 644 ";
+    // Add a fudge factor for separators and error checking.
+    int overhead = commandPrefix.length() + 100;
+    for (List<String> paths :
+        chunkArgs(
+            targetDevicePaths.stream().map(Path::toString).collect(ImmutableList.toImmutableList()),
+            MAX_ADB_COMMAND_SIZE - overhead)) {
+      executeCommandWithErrorChecking(commandPrefix + Joiner.on(' ').join(paths));
+    }
   }
 
   @Override
@@ -1317,23 +1419,62 @@ public class RealAndroidDevice implements AndroidDevice {
   This might be used in the future to avoid read timeouts.
   "--complete" indicates that the transmission is complete, and the agent should exit.
    */
-  private void multiInstallFilesToStream(
+  @VisibleForTesting
+  void multiInstallFilesToStream(
       OutputStream stream, String filesType, Map<Path, Path> installPaths) throws IOException {
     for (Map.Entry<Path, Path> entry : installPaths.entrySet()) {
       Path destination = entry.getKey();
       Path source = entry.getValue();
       try (SimplePerfEvent.Scope ignored =
           SimplePerfEvent.scope(eventBus, "install_" + filesType)) {
-        // Slurp the file into RAM to make sure we know how many bytes we are getting.
-        byte[] bytes = Files.readAllBytes(source);
-        byte[] restOfHeader = (bytes.length + " " + destination + "\n").getBytes(Charsets.UTF_8);
+        // Stream the file rather than slurping it into RAM, so that reading the next chunk from
+        // disk overlaps with the device receiving the previous one.  The size announced in the
+        // header is enforced, since any other number of bytes would corrupt the stream.
+        long size = Files.size(source);
+        byte[] restOfHeader = (size + " " + destination + "\n").getBytes(Charsets.UTF_8);
         byte[] headerPrefix = String.format("%04X ", restOfHeader.length).getBytes(Charsets.UTF_8);
         stream.write(headerPrefix);
         stream.write(restOfHeader);
-        stream.write(bytes);
+        try (InputStream input = Files.newInputStream(source)) {
+          copyExactly(input, stream, size, pushRateLimiter, source + " -> " + destination);
+        }
       }
     }
     stream.write("000D 0 --complete\n".getBytes(Charsets.UTF_8));
     stream.flush();
   }
+
+  /**
+   * Copies exactly {@code size} bytes from {@code input} to {@code output}, throttled by {@code
+   * rateLimiter}.
+   *
+   * @throws IOException if {@code input} has fewer bytes, e.g. because the file was truncated after
+   *     its size was announced.
+   */
+  @VisibleForTesting
+  static void copyExactly(
+      InputStream input,
+      OutputStream output,
+      long size,
+      Optional<RateLimiter> rateLimiter,
+      String description)
+      throws IOException {
+    InputStream limited = ByteStreams.limit(input, size);
+    byte[] buffer = new byte[SYNC_DATA_MAX];
+    long written = 0;
+    int read;
+    while ((read = limited.read(buffer)) != -1) {
+      if (rateLimiter.isPresent() && read > 0) {
+        rateLimiter.get().acquire(read);
+      }
+      output.write(buffer, 0, read);
+      written += read;
+    }
+    if (written != size) {
+      throw new IOException(
+          String.format(
+              "%s changed while it was being installed: expected %d bytes but read %d.",
+              description, size, written));
+    }
+  }
 }
@@ -18,6 +18,7 @@ package com.facebook.buck.android.relinker;
 
 import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
 import com.facebook.buck.core.toolchain.tool.Tool;
+import com.facebook.buck.cxx.toolchain.elf.ElfSymbols;
 import com.facebook.buck.util.ProcessExecutor;
 import com.facebook.buck.util.ProcessExecutorParams;
 import com.facebook.buck.util.types.Unit;
@@ -91,6 +92,9 @@ public class Symbols {
   public static Symbols getDynamicSymbols(
       ProcessExecutor executor, Tool objdump, SourcePathResolverAdapter resolver, Path lib)
       throws IOException, InterruptedException {
+    if (ElfSymbols.isElf(lib)) {
+      return fromElfSymbols(ElfSymbols.read(lib, ElfSymbols.Table.DYNAMIC));
+    }
     return getSymbols(executor, objdump, resolver, lib, "-T");
   }
 
@@ -100,6 +104,11 @@ public class Symbols {
     return getSymbols(executor, objdump, resolver, lib, "-t");
   }
 
+  /** Converts symbols read in-process from an ELF file, avoiding an `objdump` invocation. */
+  static Symbols fromElfSymbols(ElfSymbols symbols) {
+    return new Symbols(symbols.undefined, symbols.global, symbols.all);
+  }
+
   private static Symbols getSymbols(
       ProcessExecutor executor,
       Tool objdump,
@@ -16,6 +16,7 @@
 
 package com.facebook.buck.android.resources;
 
+import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.io.file.MostFiles;
 import com.facebook.buck.util.MoreSuppliers;
 import com.facebook.buck.util.stream.RichStream;
@@ -29,8 +30,12 @@ import com.google.common.io.ByteStreams;
 import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -48,6 +53,7 @@ import java.util.zip.CRC32;
 import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 
 /**
  * ExoResourceRewriter is the core of constructing build outputs for exo-for-resources.
@@ -107,6 +113,9 @@ import java.util.zip.ZipFile;
  * different package ids.
  */
 public class ExoResourcesRewriter {
+  private static final Logger LOG = Logger.get(ExoResourcesRewriter.class);
+  private static final String RESOURCES_ARSC = "resources.arsc";
+
   private ExoResourcesRewriter() {}
 
   public static void rewrite(
@@ -136,6 +145,14 @@ public class ExoResourcesRewriter {
       // Write the full (rearranged) resources to the exo resources.
       try (ResourcesZipBuilder zipBuilder = new ResourcesZipBuilder(exoResources)) {
         for (ZipEntry entry : apkZip.getEntries()) {
+          if (entry.getName().equals(RESOURCES_ARSC)) {
+            // Written from the table's own buffers, which were patched in place.
+            zipBuilder.addEntry(
+                apkZip.getResourceTable().getBuffers(),
+                RESOURCES_ARSC,
+                getCompressionLevel(entry));
+            continue;
+          }
           addEntry(
               zipBuilder,
               entry.getName(),
@@ -150,14 +167,10 @@ public class ExoResourcesRewriter {
             ResourceTable.slice(
                 apkZip.getResourceTable(),
                 ImmutableMap.copyOf(Maps.transformValues(closure.idsByType, Set::size)));
-        addEntry(
-            zipBuilder,
-            "resources.arsc",
-            primaryResourceTable.serialize(),
-            apkZip.getEntry("resources.arsc").getMethod() == ZipEntry.STORED
-                ? 0
-                : Deflater.BEST_COMPRESSION,
-            false);
+        zipBuilder.addEntry(
+            primaryResourceTable.getBuffers(),
+            RESOURCES_ARSC,
+            getCompressionLevel(apkZip.getEntry(RESOURCES_ARSC)));
         for (String path : RichStream.from(closure.files).sorted().toOnceIterable()) {
           ZipEntry entry = apkZip.getEntry(path);
           addEntry(
@@ -238,6 +251,10 @@ public class ExoResourcesRewriter {
     }
   }
 
+  private static int getCompressionLevel(ZipEntry entry) {
+    return entry.getMethod() == ZipEntry.STORED ? 0 : Deflater.BEST_COMPRESSION;
+  }
+
   private static void addEntry(
       ResourcesZipBuilder zipBuilder,
       String name,
@@ -259,6 +276,7 @@ public class ExoResourcesRewriter {
   }
 
   private static class ApkZip implements Closeable, UsedResourcesFinder.ApkContentProvider {
+    private final Path inputPath;
     private final ZipFile zipFile;
     private final SortedMap<String, ZipEntry> entries;
     private final Map<String, byte[]> entryContents;
@@ -266,6 +284,7 @@ public class ExoResourcesRewriter {
     private final Supplier<ResourceTable> resourceTable;
 
     public ApkZip(Path inputPath) throws IOException {
+      this.inputPath = inputPath;
       this.zipFile = new ZipFile(inputPath.toFile());
       this.entries =
           Collections.list(zipFile.entries()).stream()
@@ -274,9 +293,41 @@ public class ExoResourcesRewriter {
                       Ordering.natural(), ZipEntry::getName, e -> e));
       this.entryContents = new HashMap<>();
       this.xmlEntries = new HashMap<>();
-      this.resourceTable =
-          MoreSuppliers.memoize(
-              () -> ResourceTable.get(ResChunk.wrap(getContent("resources.arsc"))));
+      this.resourceTable = MoreSuppliers.memoize(this::loadResourceTable);
+    }
+
+    private ResourceTable loadResourceTable() {
+      if (entries.get(RESOURCES_ARSC).getMethod() == ZipEntry.STORED) {
+        try {
+          return mapResourceTable();
+        } catch (IOException e) {
+          LOG.debug(e, "Could not map %s from %s, reading it instead.", RESOURCES_ARSC, inputPath);
+        }
+      }
+      return ResourceTable.get(ResChunk.wrap(getContent(RESOURCES_ARSC)));
+    }
+
+    /**
+     * Maps a stored resources.arsc straight from the apk. The mapping is private (copy-on-write),
+     * so the table is decoded lazily from the page cache, only the pages that reassigning ids
+     * actually patches are copied into memory, and the apk itself is never modified.
+     */
+    private ResourceTable mapResourceTable() throws IOException {
+      long offset;
+      long size;
+      try (org.apache.commons.compress.archivers.zip.ZipFile rawZip =
+          new org.apache.commons.compress.archivers.zip.ZipFile(inputPath.toFile())) {
+        ZipArchiveEntry entry = rawZip.getEntry(RESOURCES_ARSC);
+        offset = entry.getDataOffset();
+        size = entry.getSize();
+      }
+      // Private mappings need a channel that is open for writing, even though nothing is written.
+      try (FileChannel channel =
+          FileChannel.open(inputPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+        MappedByteBuffer table = channel.map(FileChannel.MapMode.PRIVATE, offset, size);
+        table.order(ByteOrder.LITTLE_ENDIAN);
+        return ResourceTable.get(table);
+      }
     }
 
     @Override
@@ -17,10 +17,15 @@
 package com.facebook.buck.android.resources;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.primitives.Shorts;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.GatheringByteChannel;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * ResChunk is the base of most structures in Android's .arsc and compiled .xml files. It consists
@@ -108,6 +113,47 @@ public abstract class ResChunk {
 
   public abstract void put(ByteBuffer output);
 
+  /**
+   * Adds buffers that together hold the serialized chunk to {@code buffers}. Chunks that are backed
+   * by the buffer they were read from return views of it rather than copies, so that a large table
+   * that was only patched in a few places can be written out with a single gathering write.
+   */
+  public void collectBuffers(List<ByteBuffer> buffers) {
+    buffers.add(wrap(serialize()));
+  }
+
+  /** @return buffers that together hold the serialized chunk, see {@link #collectBuffers}. */
+  public final ImmutableList<ByteBuffer> getBuffers() {
+    List<ByteBuffer> buffers = new ArrayList<>();
+    collectBuffers(buffers);
+    return ImmutableList.copyOf(buffers);
+  }
+
+  /** Writes the serialized chunk to {@code channel} without first copying it into one array. */
+  public final void writeTo(GatheringByteChannel channel) throws IOException {
+    ByteBuffer[] buffers = getBuffers().toArray(new ByteBuffer[0]);
+    long remaining = getTotalSize();
+    while (remaining > 0) {
+      remaining -= channel.write(buffers);
+    }
+  }
+
+  /**
+   * @return a buffer of the given size for the header fields of a chunk, with the common chunk
+   *     header already written.
+   */
+  ByteBuffer allocateHeader(int size) {
+    ByteBuffer header = wrap(new byte[size]);
+    putChunkHeader(header);
+    return header;
+  }
+
+  static ByteBuffer flip(ByteBuffer header) {
+    Preconditions.checkState(!header.hasRemaining());
+    header.position(0);
+    return header;
+  }
+
   void putChunkHeader(ByteBuffer output) {
     output.putShort(type);
     output.putShort(headerSize);
@@ -132,6 +178,12 @@ public abstract class ResChunk {
 
   // These are some utilities used widely by subclasses for dealing with ByteBuffers.
   static ByteBuffer copy(ByteBuffer buf) {
+    if (!buf.hasArray()) {
+      // Memory-mapped tables are not backed by an array.
+      byte[] data = new byte[buf.limit()];
+      slice(buf, 0).get(data);
+      return wrap(data);
+    }
     return wrap(
         Arrays.copyOfRange(buf.array(), buf.arrayOffset(), buf.arrayOffset() + buf.limit()));
   }
@@ -154,13 +154,7 @@ public class ResTablePackage extends ResChunk {
     Preconditions.checkState(output.remaining() >= getChunkSize());
     int start = output.position();
     putChunkHeader(output);
-    output.putInt(APP_PACKAGE_ID);
-    output.put(nameData);
-    output.putInt(HEADER_SIZE);
-    output.putInt(types.getStringCount());
-    output.putInt(HEADER_SIZE + types.getChunkSize());
-    output.putInt(keys.getStringCount());
-    output.putInt(0);
+    putHeaderFields(output);
     Preconditions.checkState(output.position() == start + HEADER_SIZE);
     types.put(output);
     Preconditions.checkState(output.position() == start + HEADER_SIZE + types.getChunkSize());
@@ -171,6 +165,26 @@ public class ResTablePackage extends ResChunk {
     Preconditions.checkState(output.position() == start + getChunkSize());
   }
 
+  @Override
+  public void collectBuffers(List<ByteBuffer> buffers) {
+    ByteBuffer header = allocateHeader(HEADER_SIZE);
+    putHeaderFields(header);
+    buffers.add(flip(header));
+    types.collectBuffers(buffers);
+    keys.collectBuffers(buffers);
+    typeSpecs.forEach(s -> s.collectBuffers(buffers));
+  }
+
+  private void putHeaderFields(ByteBuffer output) {
+    output.putInt(APP_PACKAGE_ID);
+    output.put(nameData);
+    output.putInt(HEADER_SIZE);
+    output.putInt(types.getStringCount());
+    output.putInt(HEADER_SIZE + types.getChunkSize());
+    output.putInt(keys.getStringCount());
+    output.putInt(0);
+  }
+
   public ResTablePackage(
       int chunkSize,
       int packageId,
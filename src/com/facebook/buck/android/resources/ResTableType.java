@@ -21,6 +21,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.nio.ByteBuffer;
 import java.text.DecimalFormat;
+import java.util.List;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
 
@@ -69,7 +70,9 @@ public class ResTableType extends ResChunk {
         entryOffsets.putInt(i * 4, currentOffset);
         int dataSize = type.getEntrySizeAtOffset(offset);
         currentOffset += dataSize;
-        output.write(type.entryData.array(), type.entryData.arrayOffset() + offset, dataSize);
+        byte[] data = new byte[dataSize];
+        slice(type.entryData, offset, dataSize).get(data);
+        output.write(data, 0, dataSize);
       }
     }
 
@@ -103,15 +106,29 @@ public class ResTableType extends ResChunk {
     Preconditions.checkState(output.remaining() >= getChunkSize());
     int start = output.position();
     putChunkHeader(output);
+    putHeaderFields(output);
+    output.put(slice(config, 0));
+    output.put(slice(entryOffsets, 0));
+    output.put(slice(entryData, 0));
+    Preconditions.checkState(output.position() == start + getChunkSize());
+  }
+
+  @Override
+  public void collectBuffers(List<ByteBuffer> buffers) {
+    ByteBuffer header = allocateHeader(CONFIG_OFFSET);
+    putHeaderFields(header);
+    buffers.add(flip(header));
+    buffers.add(slice(config, 0));
+    buffers.add(slice(entryOffsets, 0));
+    buffers.add(slice(entryData, 0));
+  }
+
+  private void putHeaderFields(ByteBuffer output) {
     output.put((byte) (id + 1));
     output.put((byte) 0);
     output.putShort((byte) 0);
     output.putInt(entryCount);
     output.putInt(getHeaderSize() + 4 * entryCount);
-    output.put(slice(config, 0));
-    output.put(slice(entryOffsets, 0));
-    output.put(slice(entryData, 0));
-    Preconditions.checkState(output.position() == start + getChunkSize());
   }
 
   public static ResTableType get(ByteBuffer buf) {
@@ -59,13 +59,26 @@ public class ResTableTypeSpec extends ResChunk {
     Preconditions.checkState(output.remaining() >= totalSize);
     int start = output.position();
     putChunkHeader(output);
+    putHeaderFields(output);
+    output.put(slice(entryFlags, 0));
+    configs.forEach(c -> c.put(output));
+    Preconditions.checkState(output.position() == start + totalSize);
+  }
+
+  @Override
+  public void collectBuffers(List<ByteBuffer> buffers) {
+    ByteBuffer header = allocateHeader(HEADER_SIZE);
+    putHeaderFields(header);
+    buffers.add(flip(header));
+    buffers.add(slice(entryFlags, 0));
+    configs.forEach(c -> c.collectBuffers(buffers));
+  }
+
+  private void putHeaderFields(ByteBuffer output) {
     output.put((byte) (id + 1));
     output.put((byte) 0);
     output.putShort((short) 0);
     output.putInt(entryCount);
-    output.put(slice(entryFlags, 0));
-    configs.forEach(c -> c.put(output));
-    Preconditions.checkState(output.position() == start + totalSize);
   }
 
   public static ResTableTypeSpec get(ByteBuffer buf) {
@@ -24,6 +24,7 @@ import com.google.common.collect.Maps;
 import java.io.PrintStream;
 import java.nio.ByteBuffer;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.IntStream;
 
@@ -80,6 +81,15 @@ public class ResourceTable extends ResChunk {
     resPackage.put(buf);
   }
 
+  @Override
+  public void collectBuffers(List<ByteBuffer> buffers) {
+    ByteBuffer header = allocateHeader(HEADER_SIZE);
+    header.putInt(1); // packageCount
+    buffers.add(flip(header));
+    strings.collectBuffers(buffers);
+    resPackage.collectBuffers(buffers);
+  }
+
   public void reassignIds(ReferenceMapper refMapping) {
     resPackage.reassignIds(refMapping);
   }
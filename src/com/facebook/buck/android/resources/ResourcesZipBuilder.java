@@ -17,11 +17,15 @@
 package com.facebook.buck.android.resources;
 
 import com.facebook.buck.util.zip.DeterministicZipBuilder;
+import com.google.common.collect.Iterators;
 import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.zip.CRC32;
 import java.util.zip.Deflater;
 
@@ -60,6 +64,29 @@ public class ResourcesZipBuilder implements Closeable {
     }
   }
 
+  /**
+   * Adds an entry whose contents are the concatenation of {@code buffers}, without first joining
+   * them into one array.
+   */
+  public void addEntry(List<ByteBuffer> buffers, String name, int compressionLevel)
+      throws IOException {
+    CRC32 crc32 = new CRC32();
+    long size = 0;
+    for (ByteBuffer buffer : buffers) {
+      crc32.update(buffer.duplicate());
+      size += buffer.remaining();
+    }
+    addEntry(
+        new SequenceInputStream(
+            Iterators.asEnumeration(
+                buffers.stream().map(ByteBufferInputStream::new).iterator())),
+        size,
+        crc32.getValue(),
+        name,
+        compressionLevel,
+        false);
+  }
+
   @Override
   public void close() throws IOException {
     if (!hasManifest) {
@@ -76,4 +103,27 @@ public class ResourcesZipBuilder implements Closeable {
     }
     builder.close();
   }
+
+  private static class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    private ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer.duplicate();
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      int count = Math.min(len, buffer.remaining());
+      buffer.get(b, off, count);
+      return count;
+    }
+  }
 }
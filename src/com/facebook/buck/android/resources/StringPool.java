@@ -162,16 +162,31 @@ public class StringPool extends ResChunk {
   @Override
   public void put(ByteBuffer output) {
     putChunkHeader(output);
+    putHeaderFields(output);
+    output.put(slice(stringOffsets, 0));
+    output.put(slice(styleOffsets, 0));
+    output.put(slice(stringData, 0));
+    output.put(slice(styleData, 0));
+  }
+
+  @Override
+  public void collectBuffers(List<ByteBuffer> buffers) {
+    ByteBuffer header = allocateHeader(HEADER_SIZE);
+    putHeaderFields(header);
+    buffers.add(flip(header));
+    buffers.add(slice(stringOffsets, 0));
+    buffers.add(slice(styleOffsets, 0));
+    buffers.add(slice(stringData, 0));
+    buffers.add(slice(styleData, 0));
+  }
+
+  private void putHeaderFields(ByteBuffer output) {
     output.putInt(stringCount);
     output.putInt(styleCount);
     output.putInt((utf8 ? UTF8_FLAG : 0) | (sorted ? SORTED_FLAG : 0));
     int stringsStart = HEADER_SIZE + 4 * (stringCount + styleCount);
     output.putInt(stringsStart);
     output.putInt(styleCount == 0 ? 0 : stringsStart + stringData.limit());
-    output.put(slice(stringOffsets, 0));
-    output.put(slice(styleOffsets, 0));
-    output.put(slice(stringData, 0));
-    output.put(slice(styleData, 0));
   }
 
   private int getUtf8Length(int offset) {
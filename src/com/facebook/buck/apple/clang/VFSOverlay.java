@@ -88,6 +88,12 @@ public class VFSOverlay {
     private final ImmutableList<VirtualFile> fileList;
 
     public VirtualDirectory(Path root, ImmutableList<VirtualFile> fileList) {
+      // Older versions of clang can't look up overlay entries whose root-level name is relative.
+      Preconditions.checkState(
+          root.isAbsolute(),
+          "Attempting to make vfsoverlay with non-absolute path '%s' for "
+              + "directory name field. Only absolute paths are currently supported.",
+          root);
       this.name = root;
       this.fileList = fileList;
     }
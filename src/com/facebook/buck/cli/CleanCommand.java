@@ -81,6 +81,7 @@ public class CleanCommand extends AbstractCommand {
     if (!keepCache) {
       ImmutableList<String> excludedCaches = buckConfig.getCleanExcludedCaches();
       pathsToDelete.add(projectFilesystem.getBuckPaths().getCacheDir());
+      pathsToDelete.add(projectFilesystem.getBuckPaths().getThinLTOCacheDir());
       for (DirCacheEntry dirCacheEntry :
           ArtifactCacheBuckConfig.of(cell.getBuckConfig()).getCacheEntries().getDirCacheEntries()) {
         if (dirCacheEntry.getName().isPresent()
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.core.rules.attr;
+
+import com.facebook.buck.core.rules.BuildRule;
+import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Used to tag a rule which can tell, once its deps are built, which files under some of its
+ * (potentially large) inputs it actually reads, so that only those need to be sent as inputs when
+ * it's built remotely.
+ */
+public interface SupportsPrunedRemoteInputs extends BuildRule {
+
+  /**
+   * @return the inputs which may be pruned, along with the files to keep, or empty if the rule
+   *     can't tell which files it reads, in which case all of its inputs are used.
+   */
+  Optional<PrunedInputs> getPrunedRemoteInputs(SourcePathResolverAdapter pathResolver)
+      throws IOException;
+
+  /** Inputs of a rule which may be pruned, along with the files within them to keep. */
+  final class PrunedInputs {
+    private final ImmutableSet<Path> prunable;
+    private final ImmutableSet<Path> kept;
+
+    /**
+     * @param prunable absolute paths of inputs (files or directories) which only need to be sent
+     *     as far as they contain a kept path.
+     * @param kept absolute paths of the files which are read. Those outside of any prunable input
+     *     are ignored.
+     */
+    public PrunedInputs(ImmutableSet<Path> prunable, ImmutableSet<Path> kept) {
+      this.prunable = prunable;
+      this.kept = kept;
+    }
+
+    public ImmutableSet<Path> getPrunable() {
+      return prunable;
+    }
+
+    public ImmutableSet<Path> getKept() {
+      return kept;
+    }
+  }
+}
@@ -29,6 +29,7 @@ import com.facebook.buck.core.toolchain.tool.Tool;
 import com.facebook.buck.cxx.toolchain.ArchiveContents;
 import com.facebook.buck.cxx.toolchain.Archiver;
 import com.facebook.buck.cxx.toolchain.CxxPlatform;
+import com.facebook.buck.cxx.toolchain.GnuArchiver;
 import com.facebook.buck.cxx.toolchain.LinkerMapMode;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.rules.args.Arg;
@@ -38,14 +39,19 @@ import com.facebook.buck.rules.modern.Buildable;
 import com.facebook.buck.rules.modern.ModernBuildRule;
 import com.facebook.buck.rules.modern.OutputPath;
 import com.facebook.buck.rules.modern.OutputPathResolver;
+import com.facebook.buck.step.ConditionalStep;
 import com.facebook.buck.step.Step;
 import com.facebook.buck.step.fs.FileScrubberStep;
 import com.facebook.buck.step.fs.MkdirStep;
+import com.facebook.buck.util.MoreSuppliers;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * A {@link BuildRule} which builds an "ar" archive from input files represented as {@link
@@ -68,11 +74,52 @@ public class Archive extends ModernBuildRule<Archive.Impl> {
       String outputFileName,
       ImmutableList<SourcePath> inputs,
       boolean cacheable) {
+    this(
+        buildTarget,
+        projectFilesystem,
+        ruleFinder,
+        archiver,
+        archiverFlags,
+        ranlib,
+        ranlibFlags,
+        contents,
+        outputFileName,
+        inputs,
+        cacheable,
+        false);
+  }
+
+  @VisibleForTesting
+  Archive(
+      BuildTarget buildTarget,
+      ProjectFilesystem projectFilesystem,
+      SourcePathRuleFinder ruleFinder,
+      Archiver archiver,
+      ImmutableList<Arg> archiverFlags,
+      Optional<Tool> ranlib,
+      ImmutableList<Arg> ranlibFlags,
+      ArchiveContents contents,
+      String outputFileName,
+      ImmutableList<SourcePath> inputs,
+      boolean cacheable,
+      boolean nativeThinArchives) {
     super(
         buildTarget,
         projectFilesystem,
         ruleFinder,
-        new Impl(archiver, archiverFlags, ranlib, ranlibFlags, contents, outputFileName, inputs));
+        new Impl(
+            archiver,
+            archiverFlags,
+            ranlib,
+            ranlibFlags,
+            contents,
+            outputFileName,
+            inputs,
+            // Only GNU thin archives can be written natively, as their symbol index is built from
+            // the ELF symbol tables of the inputs.
+            nativeThinArchives
+                && contents == ArchiveContents.THIN
+                && archiver instanceof GnuArchiver));
     Preconditions.checkState(
         contents == ArchiveContents.NORMAL || archiver.supportsThinArchives(),
         "%s: archive tool for this platform does not support thin archives",
@@ -108,7 +155,8 @@ public class Archive extends ModernBuildRule<Archive.Impl> {
         contents,
         outputFileName,
         inputs,
-        cacheable);
+        cacheable,
+        platform.getNativeThinArchives());
   }
 
   /** @return the {@link Archive} created from the given parameters. */
@@ -140,6 +188,7 @@ public class Archive extends ModernBuildRule<Archive.Impl> {
     @AddToRuleKey private final ArchiveContents contents;
     @AddToRuleKey private final OutputPath output;
     @AddToRuleKey private final ImmutableList<SourcePath> inputs;
+    @AddToRuleKey private final boolean writeThinArchiveNatively;
 
     Impl(
         Archiver archiver,
@@ -148,7 +197,8 @@ public class Archive extends ModernBuildRule<Archive.Impl> {
         ImmutableList<Arg> ranlibFlags,
         ArchiveContents contents,
         String outputFileName,
-        ImmutableList<SourcePath> inputs) {
+        ImmutableList<SourcePath> inputs,
+        boolean writeThinArchiveNatively) {
       this.archiver = archiver;
       this.archiverFlags = archiverFlags;
       this.ranlib = ranlib;
@@ -156,6 +206,7 @@ public class Archive extends ModernBuildRule<Archive.Impl> {
       this.contents = contents;
       this.output = new OutputPath(outputFileName);
       this.inputs = inputs;
+      this.writeThinArchiveNatively = writeThinArchiveNatively;
     }
 
     @Override
@@ -178,21 +229,56 @@ public class Archive extends ModernBuildRule<Archive.Impl> {
 
       ImmutableList.Builder<Step> builder = ImmutableList.builder();
       Path outputPath = outputPathResolver.resolvePath(output);
-      builder
-          .add(MkdirStep.of(buildCellPathFactory.from(outputPath.getParent())))
-          .add(
-              new ArchiveStep(
-                  filesystem,
-                  archiver.getEnvironment(resolver),
-                  archiver.getCommandPrefix(resolver),
-                  Arg.stringify(archiverFlags, resolver),
-                  archiver.getArchiveOptions(contents == ArchiveContents.THIN),
-                  outputPath,
-                  inputs.stream()
-                      .map(resolver::getRelativePath)
-                      .collect(ImmutableList.toImmutableList()),
-                  archiver,
-                  outputPathResolver.getTempPath()));
+      builder.add(MkdirStep.of(buildCellPathFactory.from(outputPath.getParent())));
+
+      ImmutableList<Path> relativeInputs =
+          inputs.stream().map(resolver::getRelativePath).collect(ImmutableList.toImmutableList());
+      ImmutableList<Step> archiveSteps =
+          getArchiveSteps(filesystem, resolver, outputPathResolver, outputPath, relativeInputs);
+
+      // The native writer produces the symbol index itself and writes no dates or IDs, so there's
+      // no need to run ranlib or any scrubbers afterwards.  It can only index ELF objects though,
+      // so archives of anything else, such as the bitcode produced for ThinLTO, still use `ar`.
+      if (writeThinArchiveNatively) {
+        Supplier<Boolean> writeNatively =
+            MoreSuppliers.memoize(
+                () -> {
+                  try {
+                    return ThinArchiveStep.canIndexAllInputs(filesystem, relativeInputs);
+                  } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                  }
+                });
+        builder.add(
+            new ConditionalStep(
+                writeNatively, new ThinArchiveStep(filesystem, outputPath, relativeInputs)));
+        for (Step step : archiveSteps) {
+          builder.add(new ConditionalStep(() -> !writeNatively.get(), step));
+        }
+        return builder.build();
+      }
+
+      return builder.addAll(archiveSteps).build();
+    }
+
+    private ImmutableList<Step> getArchiveSteps(
+        ProjectFilesystem filesystem,
+        SourcePathResolverAdapter resolver,
+        OutputPathResolver outputPathResolver,
+        Path outputPath,
+        ImmutableList<Path> relativeInputs) {
+      ImmutableList.Builder<Step> builder = ImmutableList.builder();
+      builder.add(
+          new ArchiveStep(
+              filesystem,
+              archiver.getEnvironment(resolver),
+              archiver.getCommandPrefix(resolver),
+              Arg.stringify(archiverFlags, resolver),
+              archiver.getArchiveOptions(contents == ArchiveContents.THIN),
+              outputPath,
+              relativeInputs,
+              archiver,
+              outputPathResolver.getTempPath()));
 
       if (archiver.isRanLibStepRequired()) {
         Tool tool = ranlib.get();
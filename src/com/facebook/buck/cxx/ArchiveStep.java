@@ -82,8 +82,13 @@ class ArchiveStep implements Step {
     this.scratchDir = scratchDir;
   }
 
-  private ImmutableList<String> getAllInputs() throws IOException {
-    ImmutableList.Builder<String> allInputs = ImmutableList.builder();
+  /**
+   * @return the files to archive, with any directories in {@code inputs} expanded to all the files
+   *     found from a recursive search.
+   */
+  static ImmutableList<Path> getAllInputs(ProjectFilesystem filesystem, ImmutableList<Path> inputs)
+      throws IOException {
+    ImmutableList.Builder<Path> allInputs = ImmutableList.builder();
 
     // Inputs can either be files or directories.  In the case of the latter, we add all files
     // found from a recursive search.
@@ -91,19 +96,19 @@ class ArchiveStep implements Step {
       if (filesystem.isDirectory(input)) {
         // We make sure to sort the files we find under the directories so that we get
         // deterministic output.
-        Set<String> dirFiles = new TreeSet<>();
+        Set<Path> dirFiles = new TreeSet<>();
         filesystem.walkFileTree(
             filesystem.resolve(input),
             new SimpleFileVisitor<Path>() {
               @Override
               public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
-                dirFiles.add(file.toString());
+                dirFiles.add(file);
                 return FileVisitResult.CONTINUE;
               }
             });
         allInputs.addAll(dirFiles);
       } else {
-        allInputs.add(input.toString());
+        allInputs.add(input);
       }
     }
 
@@ -135,7 +140,10 @@ class ArchiveStep implements Step {
   @Override
   public StepExecutionResult execute(ExecutionContext context)
       throws IOException, InterruptedException {
-    ImmutableList<String> allInputs = getAllInputs();
+    ImmutableList<String> allInputs =
+        getAllInputs(filesystem, inputs).stream()
+            .map(Object::toString)
+            .collect(ImmutableList.toImmutableList());
     if (allInputs.isEmpty()) {
       filesystem.writeContentsToPath("!<arch>\n", output);
       return StepExecutionResults.SUCCESS;
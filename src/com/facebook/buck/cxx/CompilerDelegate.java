@@ -18,6 +18,8 @@ package com.facebook.buck.cxx;
 
 import com.facebook.buck.core.rulekey.AddToRuleKey;
 import com.facebook.buck.core.rulekey.AddsToRuleKey;
+import com.facebook.buck.core.rulekey.ExcludeFromRuleKey;
+import com.facebook.buck.core.rulekey.IgnoredFieldInputs;
 import com.facebook.buck.core.rules.BuildRule;
 import com.facebook.buck.core.rules.SourcePathRuleFinder;
 import com.facebook.buck.core.rules.common.BuildableSupport;
@@ -25,10 +27,14 @@ import com.facebook.buck.core.sourcepath.PathSourcePath;
 import com.facebook.buck.core.sourcepath.SourcePath;
 import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
 import com.facebook.buck.cxx.toolchain.Compiler;
+import com.facebook.buck.cxx.toolchain.CxxCompileServer;
 import com.facebook.buck.cxx.toolchain.DebugPathSanitizer;
 import com.facebook.buck.cxx.toolchain.DependencyTrackingMode;
 import com.facebook.buck.rules.args.Arg;
 import com.facebook.buck.rules.args.StringArg;
+import com.facebook.buck.rules.modern.CustomFieldSerialization;
+import com.facebook.buck.rules.modern.ValueCreator;
+import com.facebook.buck.rules.modern.ValueVisitor;
 import com.facebook.buck.util.stream.RichStream;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -45,15 +51,35 @@ class CompilerDelegate implements AddsToRuleKey {
   @AddToRuleKey private final DebugPathSanitizer sanitizer;
   @AddToRuleKey private final Optional<Boolean> useArgFile;
 
+  /**
+   * The server only exists on the machine that configured it, so remote builds run the compiler
+   * directly: the field is left out of serialization and deserializes as empty.
+   */
+  @ExcludeFromRuleKey(
+      reason = "The compile server runs the same command as the compiler would have on its own.",
+      serialization = CompileServerBehavior.class,
+      inputs = IgnoredFieldInputs.class)
+  private final Optional<CxxCompileServer> compileServer;
+
   public CompilerDelegate(
       DebugPathSanitizer sanitizer,
       Compiler compiler,
       CxxToolFlags flags,
       Optional<Boolean> useArgFile) {
+    this(sanitizer, compiler, flags, useArgFile, Optional.empty());
+  }
+
+  public CompilerDelegate(
+      DebugPathSanitizer sanitizer,
+      Compiler compiler,
+      CxxToolFlags flags,
+      Optional<Boolean> useArgFile,
+      Optional<CxxCompileServer> compileServer) {
     this.sanitizer = sanitizer;
     this.compiler = compiler;
     this.compilerFlags = flags;
     this.useArgFile = useArgFile;
+    this.compileServer = compileServer;
   }
 
   public ImmutableList<String> getCommandPrefix(SourcePathResolverAdapter resolver) {
@@ -111,6 +137,10 @@ class CompilerDelegate implements AddsToRuleKey {
     return compiler;
   }
 
+  public Optional<CxxCompileServer> getCompileServer() {
+    return compileServer;
+  }
+
   public Iterable<BuildRule> getDeps(SourcePathRuleFinder ruleFinder) {
     ImmutableList.Builder<BuildRule> deps = ImmutableList.builder();
     deps.addAll(BuildableSupport.getDepsCollection(getCompiler(), ruleFinder));
@@ -124,4 +154,20 @@ class CompilerDelegate implements AddsToRuleKey {
     // Add inputs from the compiler object.
     BuildableSupport.deriveInputs(compiler).sorted().forEach(inputConsumer);
   }
+
+  /** Serializes a compile server as nothing, so that it deserializes as empty. */
+  private static class CompileServerBehavior
+      implements CustomFieldSerialization<Optional<CxxCompileServer>> {
+    @Override
+    public <E extends Exception> void serialize(
+        Optional<CxxCompileServer> value, ValueVisitor<E> serializer) throws E {
+      // Don't place anything on the wire, the server can't be used remotely.
+    }
+
+    @Override
+    public <E extends Exception> Optional<CxxCompileServer> deserialize(
+        ValueCreator<E> deserializer) throws E {
+      return Optional.empty();
+    }
+  }
 }
@@ -43,9 +43,12 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSortedSet;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.stream.Stream;
 
@@ -150,21 +153,37 @@ public class CxxCompilationDatabase extends AbstractBuildRule implements HasRunt
 
     @Override
     public StepExecutionResult execute(ExecutionContext context) throws IOException {
-      try (OutputStream outputStream =
-          getProjectFilesystem().newFileOutputStream(outputRelativePath)) {
-        try (JsonGenerator jsonGen = ObjectMappers.createGenerator(outputStream)) {
-          jsonGen.writeStartArray();
-          for (Iterator<CxxCompilationDatabaseEntry> entry = createEntries().iterator();
-              entry.hasNext(); ) {
-            jsonGen.writeObject(entry.next());
-          }
-          jsonGen.writeEndArray();
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      try (JsonGenerator jsonGen = ObjectMappers.createGenerator(outputStream)) {
+        jsonGen.writeStartArray();
+        for (Iterator<CxxCompilationDatabaseEntry> entry = createEntries().iterator();
+            entry.hasNext(); ) {
+          jsonGen.writeObject(entry.next());
+        }
+        jsonGen.writeEndArray();
+      }
+
+      // This rule's key changes whenever anything its compile rules depend on does, which usually
+      // leaves the commands themselves unchanged.  Leave the existing output alone in that case, so
+      // tools watching the per-target databases (e.g. IDEs) don't re-index them.
+      byte[] contents = outputStream.toByteArray();
+      if (!hasContents(outputRelativePath, contents)) {
+        try (OutputStream fileOutputStream =
+            getProjectFilesystem().newFileOutputStream(outputRelativePath)) {
+          fileOutputStream.write(contents);
         }
       }
 
       return StepExecutionResults.SUCCESS;
     }
 
+    private boolean hasContents(Path path, byte[] contents) throws IOException {
+      Path absolutePath = getProjectFilesystem().resolve(path);
+      return Files.isRegularFile(absolutePath)
+          && Files.size(absolutePath) == contents.length
+          && Arrays.equals(Files.readAllBytes(absolutePath), contents);
+    }
+
     @VisibleForTesting
     Stream<CxxCompilationDatabaseEntry> createEntries() {
       return compileRules.stream().map(compileRule -> createEntry(compileRule));
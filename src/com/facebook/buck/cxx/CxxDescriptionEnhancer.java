@@ -107,6 +107,7 @@ import java.util.SortedSet;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 public class CxxDescriptionEnhancer {
@@ -141,22 +142,39 @@ public class CxxDescriptionEnhancer {
       TargetConfiguration targetConfiguration,
       CxxPlatform cxxPlatform,
       boolean shouldCreateHeadersSymlinks) {
-    return cxxPlatform
-        .getHeaderMode()
-        .orElseGet(
-            () -> {
-              boolean useHeaderMap =
-                  (cxxPlatform.getCpp().resolve(resolver, targetConfiguration).supportsHeaderMaps()
-                      && cxxPlatform
-                          .getCxxpp()
-                          .resolve(resolver, targetConfiguration)
-                          .supportsHeaderMaps());
-              return !useHeaderMap
-                  ? HeaderMode.SYMLINK_TREE_ONLY
-                  : (shouldCreateHeadersSymlinks
-                      ? HeaderMode.SYMLINK_TREE_WITH_HEADER_MAP
-                      : HeaderMode.HEADER_MAP_ONLY);
-            });
+    Optional<HeaderMode> headerMode = cxxPlatform.getHeaderMode();
+    // A header tree is shared by every language of a rule, so only use VFS overlays if all of the
+    // platform's preprocessors understand them; otherwise fall back to the default layout.
+    if (headerMode.isPresent()
+        && (headerMode.get() != HeaderMode.VFS_OVERLAY
+            || allPreprocessorsSupportVfsOverlays(resolver, targetConfiguration, cxxPlatform))) {
+      return headerMode.get();
+    }
+    boolean useHeaderMap =
+        (cxxPlatform.getCpp().resolve(resolver, targetConfiguration).supportsHeaderMaps()
+            && cxxPlatform.getCxxpp().resolve(resolver, targetConfiguration).supportsHeaderMaps());
+    return !useHeaderMap
+        ? HeaderMode.SYMLINK_TREE_ONLY
+        : (shouldCreateHeadersSymlinks
+            ? HeaderMode.SYMLINK_TREE_WITH_HEADER_MAP
+            : HeaderMode.HEADER_MAP_ONLY);
+  }
+
+  private static boolean allPreprocessorsSupportVfsOverlays(
+      BuildRuleResolver resolver,
+      TargetConfiguration targetConfiguration,
+      CxxPlatform cxxPlatform) {
+    return Stream.of(
+            Optional.of(cxxPlatform.getCpp()),
+            Optional.of(cxxPlatform.getCxxpp()),
+            Optional.of(cxxPlatform.getAspp()),
+            cxxPlatform.getCudapp(),
+            cxxPlatform.getHippp(),
+            cxxPlatform.getAsmpp())
+        .filter(Optional::isPresent)
+        .allMatch(
+            preprocessor ->
+                preprocessor.get().resolve(resolver, targetConfiguration).supportsVfsOverlays());
   }
 
   public static HeaderSymlinkTree createHeaderSymlinkTree(
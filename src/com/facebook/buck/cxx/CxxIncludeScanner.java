@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.cxx;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import javax.annotation.Nullable;
+
+/**
+ * Computes a conservative approximation of the headers a source transitively includes, without
+ * running the preprocessor.
+ *
+ * <p>Every {@code #include}, {@code #include_next}, {@code #import} and {@code __has_include} in a
+ * file is followed, regardless of any conditionals around it, and is resolved against all of the
+ * search paths rather than just the first match. So the result is a superset of the headers the
+ * preprocessor would read, as long as no include names a header via a macro. The headers such
+ * computed includes name can't be known without preprocessing, so they make the scan fail.
+ *
+ * <p>The includes found in each file are cached by the hash of its contents, so headers seen by
+ * many sources are only parsed once.
+ */
+class CxxIncludeScanner {
+
+  private static final int MAX_CACHED_FILES = 64 * 1024;
+
+  /** The scanner shared by all rules in this process. */
+  static final CxxIncludeScanner SHARED = new CxxIncludeScanner(MAX_CACHED_FILES);
+
+  private final Cache<HashCode, ImmutableList<Include>> cache;
+
+  @VisibleForTesting
+  CxxIncludeScanner(int maxCachedFiles) {
+    this.cache = CacheBuilder.newBuilder().maximumSize(maxCachedFiles).build();
+  }
+
+  /**
+   * @param sources the absolute paths of the files to start from, e.g. the source and any headers
+   *     included via {@code -include}.
+   * @param searchPath the absolute paths of the directories to resolve includes against.
+   * @return the absolute paths of all the files reachable from {@code sources}, or empty if one
+   *     of them has a computed include.
+   */
+  Optional<ImmutableSet<Path>> scan(Iterable<Path> sources, ImmutableList<Path> searchPath)
+      throws IOException {
+    Set<Path> visited = new LinkedHashSet<>();
+    Deque<Path> queue = new ArrayDeque<>();
+    for (Path path : sources) {
+      if (visited.add(path)) {
+        queue.add(path);
+      }
+    }
+
+    // Most includes are resolved against the search path in the same way regardless of which file
+    // they're in, so just look each name up once.
+    Map<String, ImmutableList<Path>> resolved = new HashMap<>();
+
+    while (!queue.isEmpty()) {
+      Path path = queue.remove();
+      for (Include include : getIncludes(path)) {
+        String name = include.getName();
+        if (name == null) {
+          return Optional.empty();
+        }
+        if (include.isQuoted() && path.getParent() != null) {
+          addIfExists(path.getParent().resolve(name).normalize(), visited, queue);
+        }
+        ImmutableList<Path> candidates = resolved.get(name);
+        if (candidates == null) {
+          candidates = resolve(name, searchPath);
+          resolved.put(name, candidates);
+        }
+        for (Path candidate : candidates) {
+          if (visited.add(candidate)) {
+            queue.add(candidate);
+          }
+        }
+      }
+    }
+
+    return Optional.of(ImmutableSet.copyOf(visited));
+  }
+
+  private static ImmutableList<Path> resolve(String name, ImmutableList<Path> searchPath) {
+    Path relative = Paths.get(name);
+    if (relative.isAbsolute()) {
+      return Files.isRegularFile(relative)
+          ? ImmutableList.of(relative.normalize())
+          : ImmutableList.of();
+    }
+    ImmutableList.Builder<Path> candidates = ImmutableList.builder();
+    for (Path directory : searchPath) {
+      Path candidate = directory.resolve(relative).normalize();
+      if (Files.isRegularFile(candidate)) {
+        candidates.add(candidate);
+      }
+    }
+    return candidates.build();
+  }
+
+  private static void addIfExists(Path path, Set<Path> visited, Deque<Path> queue) {
+    if (!visited.contains(path) && Files.isRegularFile(path)) {
+      visited.add(path);
+      queue.add(path);
+    }
+  }
+
+  /** @return the includes in the file at the given path. */
+  ImmutableList<Include> getIncludes(Path path) throws IOException {
+    byte[] contents = Files.readAllBytes(path);
+    HashCode hash = Hashing.murmur3_128().hashBytes(contents);
+    try {
+      return cache.get(hash, () -> parse(new String(contents, StandardCharsets.UTF_8)));
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  @VisibleForTesting
+  long getCacheSize() {
+    return cache.size();
+  }
+
+  /** @return the includes in the given source text. */
+  @VisibleForTesting
+  static ImmutableList<Include> parse(String contents) {
+    ImmutableList.Builder<Include> includes = ImmutableList.builder();
+    StringBuilder line = new StringBuilder();
+    boolean inBlockComment = false;
+    int length = contents.length();
+    int i = 0;
+    while (i < length) {
+      // Read a logical line, joining continuations and replacing comments with a space.
+      line.setLength(0);
+      char quote = 0;
+      while (i < length) {
+        char c = contents.charAt(i);
+        char next = i + 1 < length ? contents.charAt(i + 1) : 0;
+        if (c == '\\' && (next == '\n' || (next == '\r' && i + 2 < length))) {
+          i += next == '\r' && contents.charAt(i + 2) == '\n' ? 3 : 2;
+          continue;
+        }
+        if (inBlockComment) {
+          if (c == '*' && next == '/') {
+            inBlockComment = false;
+            line.append(' ');
+            i += 2;
+          } else {
+            i++;
+          }
+          continue;
+        }
+        if (c == '\n') {
+          i++;
+          break;
+        }
+        if (quote != 0) {
+          line.append(c);
+          if (c == '\\' && next != 0) {
+            line.append(next);
+            i += 2;
+            continue;
+          }
+          if (c == quote) {
+            quote = 0;
+          }
+          i++;
+          continue;
+        }
+        if (c == '/' && next == '*') {
+          inBlockComment = true;
+          i += 2;
+          continue;
+        }
+        if (c == '/' && next == '/') {
+          // Skip to the end of the line, which a continuation in the comment extends.
+          while (i < length && contents.charAt(i) != '\n') {
+            i += contents.charAt(i) == '\\' && i + 1 < length ? 2 : 1;
+          }
+          continue;
+        }
+        if (c == '"' || c == '\'') {
+          quote = c;
+        }
+        line.append(c);
+        i++;
+      }
+      parseLine(line, includes);
+    }
+    return includes.build();
+  }
+
+  private static void parseLine(CharSequence line, ImmutableList.Builder<Include> includes) {
+    int pos = skipWhitespace(line, 0);
+    if (pos == line.length() || line.charAt(pos) != '#') {
+      return;
+    }
+    pos = skipWhitespace(line, pos + 1);
+    int end = pos;
+    while (end < line.length() && isIdentifierChar(line.charAt(end))) {
+      end++;
+    }
+    String directive = line.subSequence(pos, end).toString();
+    switch (directive) {
+      case "include":
+      case "include_next":
+      case "import":
+        includes.add(parseHeaderName(line, skipWhitespace(line, end)));
+        break;
+      case "if":
+      case "elif":
+        // `__has_include` checks make the result depend on whether a header exists, so we need to
+        // send those headers too.
+        for (int index = indexOfHasInclude(line, end);
+            index != -1;
+            index = indexOfHasInclude(line, index + 1)) {
+          int arg = index;
+          while (arg < line.length() && isIdentifierChar(line.charAt(arg))) {
+            arg++;
+          }
+          arg = skipWhitespace(line, arg);
+          if (arg < line.length() && line.charAt(arg) == '(') {
+            includes.add(parseHeaderName(line, skipWhitespace(line, arg + 1)));
+          }
+        }
+        break;
+      default:
+        break;
+    }
+  }
+
+  private static int indexOfHasInclude(CharSequence line, int from) {
+    int index = line.toString().indexOf("__has_include", from);
+    if (index > 0 && isIdentifierChar(line.charAt(index - 1))) {
+      return indexOfHasInclude(line, index + 1);
+    }
+    return index;
+  }
+
+  private static Include parseHeaderName(CharSequence line, int pos) {
+    if (pos < line.length()) {
+      char open = line.charAt(pos);
+      char close = open == '"' ? '"' : open == '<' ? '>' : 0;
+      if (close != 0) {
+        for (int end = pos + 1; end < line.length(); end++) {
+          if (line.charAt(end) == close) {
+            return new Include(line.subSequence(pos + 1, end).toString(), open == '"');
+          }
+        }
+      }
+    }
+    return Include.COMPUTED;
+  }
+
+  private static int skipWhitespace(CharSequence line, int pos) {
+    while (pos < line.length() && Character.isWhitespace(line.charAt(pos))) {
+      pos++;
+    }
+    return pos;
+  }
+
+  private static boolean isIdentifierChar(char c) {
+    return Character.isLetterOrDigit(c) || c == '_';
+  }
+
+  /** An include of a header, either by name or via a macro. */
+  static class Include {
+
+    /** An include whose header name is given by a macro. */
+    static final Include COMPUTED = new Include(null, false);
+
+    @Nullable private final String name;
+    private final boolean quoted;
+
+    Include(@Nullable String name, boolean quoted) {
+      this.name = name;
+      this.quoted = quoted;
+    }
+
+    /** @return the name of the included header, or null if it's computed. */
+    @Nullable
+    String getName() {
+      return name;
+    }
+
+    /** @return whether the name was given in quotes, rather than angle brackets. */
+    boolean isQuoted() {
+      return quoted;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Include)) {
+        return false;
+      }
+      Include other = (Include) obj;
+      return quoted == other.quoted && Objects.equals(name, other.name);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(name, quoted);
+    }
+
+    @Override
+    public String toString() {
+      return name == null ? "<computed>" : quoted ? "\"" + name + "\"" : "<" + name + ">";
+    }
+  }
+}
@@ -59,7 +59,6 @@ import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Multimaps;
 import com.google.common.collect.Sets;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -336,8 +335,8 @@ public class CxxLibraryDescription
                     .build());
         BuildRule rawRule = graphBuilder.requireRule(rawTarget);
         CxxLibraryGroup rule = (CxxLibraryGroup) rawRule;
-        ImmutableMap<BuildTarget, CxxPreprocessorInput> inputs =
-            rule.getTransitiveCxxPreprocessorInput(cxxPlatform, graphBuilder);
+        TransitiveCxxPreprocessorInput inputs =
+            rule.getTransitiveCxxPreprocessorInputNode(cxxPlatform, graphBuilder);
 
         ImmutableList<CxxPreprocessorDep> privateDepsForPlatform =
             RichStream.from(privateDeps.get(graphBuilder, cxxPlatform))
@@ -345,13 +344,14 @@ public class CxxLibraryDescription
                 .toImmutableList();
         if (privateDepsForPlatform.isEmpty()) {
           // Nothing to add.
-          return inputs.values().stream();
+          return inputs.toMap().values().stream();
         } else {
-          Map<BuildTarget, CxxPreprocessorInput> result = new LinkedHashMap<>(inputs);
+          ImmutableList.Builder<TransitiveCxxPreprocessorInput> nodes = ImmutableList.builder();
+          nodes.add(inputs);
           for (CxxPreprocessorDep dep : privateDepsForPlatform) {
-            result.putAll(dep.getTransitiveCxxPreprocessorInput(cxxPlatform, graphBuilder));
+            nodes.add(dep.getTransitiveCxxPreprocessorInputNode(cxxPlatform, graphBuilder));
           }
-          return result.values().stream();
+          return TransitiveCxxPreprocessorInput.flatten(nodes.build()).stream();
         }
       };
     }
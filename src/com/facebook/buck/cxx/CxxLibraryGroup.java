@@ -250,6 +250,12 @@ public class CxxLibraryGroup extends NoopBuildRuleWithDeclaredAndExtraDeps
     return transitiveCxxPreprocessorInputCache.getUnchecked(cxxPlatform, graphBuilder);
   }
 
+  @Override
+  public TransitiveCxxPreprocessorInput getTransitiveCxxPreprocessorInputNode(
+      CxxPlatform cxxPlatform, ActionGraphBuilder graphBuilder) {
+    return transitiveCxxPreprocessorInputCache.getNode(cxxPlatform, graphBuilder);
+  }
+
   private void forEachNativeLinkableDep(
       BuildRuleResolver ruleResolver, Consumer<? super NativeLinkableGroup> consumer) {
     if (!propagateLinkables) {
@@ -21,6 +21,8 @@ import com.facebook.buck.core.cell.CellPathResolver;
 import com.facebook.buck.core.cell.name.CanonicalCellName;
 import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.rulekey.AddToRuleKey;
+import com.facebook.buck.core.rulekey.ExcludeFromRuleKey;
+import com.facebook.buck.core.rulekey.IgnoredFieldInputs;
 import com.facebook.buck.core.rules.BuildRule;
 import com.facebook.buck.core.rules.SourcePathRuleFinder;
 import com.facebook.buck.core.rules.attr.HasSupplementaryOutputs;
@@ -39,9 +41,12 @@ import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.rules.args.Arg;
 import com.facebook.buck.rules.modern.BuildCellRelativePathFactory;
 import com.facebook.buck.rules.modern.Buildable;
+import com.facebook.buck.rules.modern.CustomFieldSerialization;
 import com.facebook.buck.rules.modern.ModernBuildRule;
 import com.facebook.buck.rules.modern.OutputPathResolver;
 import com.facebook.buck.rules.modern.PublicOutputPath;
+import com.facebook.buck.rules.modern.ValueCreator;
+import com.facebook.buck.rules.modern.ValueVisitor;
 import com.facebook.buck.step.Step;
 import com.facebook.buck.step.fs.FileScrubberStep;
 import com.facebook.buck.step.fs.MkdirStep;
@@ -83,6 +88,38 @@ public class CxxLink extends ModernBuildRule<CxxLink.Impl>
       boolean cacheable,
       boolean thinLto,
       boolean fatLto) {
+    this(
+        buildTarget,
+        projectFilesystem,
+        ruleFinder,
+        cellResolver,
+        linker,
+        output,
+        extraOutputs,
+        args,
+        ImmutableList.of(),
+        postprocessor,
+        ruleScheduleInfo,
+        cacheable,
+        thinLto,
+        fatLto);
+  }
+
+  public CxxLink(
+      BuildTarget buildTarget,
+      ProjectFilesystem projectFilesystem,
+      SourcePathRuleFinder ruleFinder,
+      CellPathResolver cellResolver,
+      Linker linker,
+      Path output,
+      ImmutableMap<String, Path> extraOutputs,
+      ImmutableList<Arg> args,
+      ImmutableList<Arg> thinLTOCacheArgs,
+      Optional<LinkOutputPostprocessor> postprocessor,
+      Optional<RuleScheduleInfo> ruleScheduleInfo,
+      boolean cacheable,
+      boolean thinLto,
+      boolean fatLto) {
     super(
         buildTarget,
         projectFilesystem,
@@ -92,6 +129,7 @@ public class CxxLink extends ModernBuildRule<CxxLink.Impl>
             output,
             extraOutputs,
             args,
+            thinLTOCacheArgs,
             postprocessor,
             thinLto,
             fatLto,
@@ -124,6 +162,18 @@ public class CxxLink extends ModernBuildRule<CxxLink.Impl>
   public static class Impl implements Buildable {
     @AddToRuleKey private final Linker linker;
     @AddToRuleKey private final ImmutableList<Arg> args;
+
+    /**
+     * The ThinLTO cache is keyed by the contents of each module and the options used to optimize
+     * it, so it doesn't change the output of the link. It's shared by the links of this machine, so
+     * remote links don't use it: the field deserializes as empty.
+     */
+    @ExcludeFromRuleKey(
+        reason = "The ThinLTO cache only saves work, the linker output is the same without it.",
+        serialization = ThinLTOCacheArgsBehavior.class,
+        inputs = IgnoredFieldInputs.class)
+    private final ImmutableList<Arg> thinLTOCacheArgs;
+
     @AddToRuleKey private final Optional<LinkOutputPostprocessor> postprocessor;
     @AddToRuleKey private final boolean thinLto;
     @AddToRuleKey private final boolean fatLto;
@@ -139,6 +189,7 @@ public class CxxLink extends ModernBuildRule<CxxLink.Impl>
         Path output,
         ImmutableMap<String, Path> extraOutputs,
         ImmutableList<Arg> args,
+        ImmutableList<Arg> thinLTOCacheArgs,
         Optional<LinkOutputPostprocessor> postprocessor,
         boolean thinLto,
         boolean fatLto,
@@ -164,6 +215,7 @@ public class CxxLink extends ModernBuildRule<CxxLink.Impl>
       }
 
       this.args = args;
+      this.thinLTOCacheArgs = thinLTOCacheArgs;
       this.postprocessor = postprocessor;
       this.thinLto = thinLto;
       this.fatLto = fatLto;
@@ -206,7 +258,7 @@ public class CxxLink extends ModernBuildRule<CxxLink.Impl>
                       fileListPath,
                       linker.fileList(fileListPath),
                       linkOutput,
-                      args,
+                      ImmutableList.<Arg>builder().addAll(args).addAll(thinLTOCacheArgs).build(),
                       linker,
                       buildTarget.getCell(),
                       filesystem.getRootPath().getPath(),
@@ -239,6 +291,21 @@ public class CxxLink extends ModernBuildRule<CxxLink.Impl>
     }
   }
 
+  private static class ThinLTOCacheArgsBehavior
+      implements CustomFieldSerialization<ImmutableList<Arg>> {
+    @Override
+    public <E extends Exception> void serialize(
+        ImmutableList<Arg> value, ValueVisitor<E> serializer) throws E {
+      // Don't place anything on the wire, the cache is local to this machine.
+    }
+
+    @Override
+    public <E extends Exception> ImmutableList<Arg> deserialize(ValueCreator<E> deserializer)
+        throws E {
+      return ImmutableList.of();
+    }
+  }
+
   @Override
   public Stream<BuildRule> getAppleDebugSymbolDeps() {
     return getBuildDeps().stream()
@@ -303,4 +370,9 @@ public class CxxLink extends ModernBuildRule<CxxLink.Impl>
   public ImmutableList<Arg> getArgs() {
     return getBuildable().args;
   }
+
+  /** @return the args which make the linker use the ThinLTO cache, not part of {@link #getArgs}. */
+  public ImmutableList<Arg> getThinLTOCacheArgs() {
+    return getBuildable().thinLTOCacheArgs;
+  }
 }
@@ -31,6 +31,7 @@ import com.facebook.buck.cxx.toolchain.linker.HasImportLibrary;
 import com.facebook.buck.cxx.toolchain.linker.HasIncrementalThinLTO;
 import com.facebook.buck.cxx.toolchain.linker.HasLTO;
 import com.facebook.buck.cxx.toolchain.linker.HasLinkerMap;
+import com.facebook.buck.cxx.toolchain.linker.HasThinLTOCache;
 import com.facebook.buck.cxx.toolchain.linker.Linker;
 import com.facebook.buck.cxx.toolchain.linker.Linker.ExtraOutputsDeriver;
 import com.facebook.buck.cxx.toolchain.linker.Linker.LinkableDepType;
@@ -202,6 +203,23 @@ public class CxxLinkableEnhancer {
     ImmutableList<Arg> ldArgs = argsBuilder.build();
     ImmutableMap<String, Path> allExtraOutputs = extraOutputs;
 
+    // The cache is keyed by the contents of each module and the options used to optimize it, so
+    // it's shared by all links rather than being an output of this one, and kept out of the args
+    // which make up the rule key.
+    ImmutableList<Arg> thinLTOCacheArgs = ImmutableList.of();
+    Optional<Integer> thinLTOCacheMaxSizePercent = cxxBuckConfig.getThinLTOCacheMaxSizePercent();
+    if (linker instanceof HasThinLTOCache
+        && linkOptions.getThinLto()
+        && thinLTOCacheMaxSizePercent.isPresent()) {
+      thinLTOCacheArgs =
+          ImmutableList.copyOf(
+              ((HasThinLTOCache) linker)
+                  .thinLTOCache(
+                      projectFilesystem.getBuckPaths().getThinLTOCacheDir(),
+                      thinLTOCacheMaxSizePercent.get(),
+                      Arg.stringify(ldArgs, ruleResolver.getSourcePathResolver())));
+    }
+
     Optional<ExtraOutputsDeriver> extraOutputsDeriver = linker.getExtraOutputsDeriver();
     if (extraOutputsDeriver.isPresent()) {
       ImmutableMap<String, Path> derivedExtraOutputs =
@@ -227,6 +245,7 @@ public class CxxLinkableEnhancer {
         output,
         allExtraOutputs,
         ldArgs,
+        thinLTOCacheArgs,
         postprocessor,
         cxxBuckConfig.getLinkScheduleInfo(),
         cxxBuckConfig.shouldCacheLinks(),
@@ -31,6 +31,7 @@ import com.facebook.buck.core.sourcepath.ExplicitBuildTargetSourcePath;
 import com.facebook.buck.core.sourcepath.NonHashableSourcePathContainer;
 import com.facebook.buck.core.sourcepath.SourcePath;
 import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
+import com.facebook.buck.cxx.toolchain.CxxPlatform;
 import com.facebook.buck.cxx.toolchain.DebugPathSanitizer;
 import com.facebook.buck.io.BuildCellRelativePath;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
@@ -65,7 +66,7 @@ import java.util.function.Predicate;
  * back in, the entire rationale of using a precompiled header, to avoid parsing excess headers, is
  * obviated.
  *
- * <p>PCH files are not very portable, and so they are not cached.
+ * <p>PCH files are not very portable, and so by default they are not cached.
  *
  * <ul>
  *   <li>The compiler verifies that header mtime identical to that recorded in the PCH file.
@@ -73,9 +74,12 @@ import java.util.function.Predicate;
  *       it is not very flexible.
  * </ul>
  *
- * <p>While the problems are not impossible to overcome, PCH generation is fast enough that it isn't
- * a significant problem. The PCH file is only generated when a source file needs to be compiled,
- * anyway.
+ * <p>When {@link CxxPlatform#getCachePrecompiledHeaders()} is set, the PCH is generated without
+ * timestamps and the absolute path of the project root is added to the rule key, so that a cached
+ * PCH is only ever fetched by builds which would have produced an identical one. Since the rule
+ * supports dependency file rule keys, the key used for the fetch covers the compiler, the flags and
+ * the contents of every header the PCH transitively includes, and since every compile using the PCH
+ * depends on this rule, the fetch happens before any of them is started.
  *
  * <p>Additionally, since PCH files contain information like timestamps, absolute paths, and
  * (effectively) random unique IDs, they are not amenable to the InputBasedRuleKey optimization when
@@ -95,6 +99,10 @@ class CxxPrecompiledHeader extends AbstractBuildRule
   @AddToRuleKey private final CxxToolFlags compilerFlags;
   @AddToRuleKey private final DebugPathSanitizer compilerSanitizer;
 
+  // Only present when the PCH is cacheable. The PCH records the absolute paths of the headers it
+  // was built from, so it's only usable by builds from the same location.
+  @AddToRuleKey private final Optional<String> cacheableProjectRoot;
+
   // Fields that are not added to the rule key.
   private final Path output;
 
@@ -116,7 +124,8 @@ class CxxPrecompiledHeader extends AbstractBuildRule
       CxxToolFlags compilerFlags,
       SourcePath input,
       CxxSource.Type inputType,
-      DebugPathSanitizer compilerSanitizer) {
+      DebugPathSanitizer compilerSanitizer,
+      boolean cacheable) {
     super(buildTarget, projectFilesystem);
     Preconditions.checkArgument(
         !inputType.isAssembly(), "Asm files do not use precompiled headers.");
@@ -129,6 +138,10 @@ class CxxPrecompiledHeader extends AbstractBuildRule
     this.input = input;
     this.inputType = inputType;
     this.compilerSanitizer = compilerSanitizer;
+    this.cacheableProjectRoot =
+        cacheable
+            ? Optional.of(projectFilesystem.getRootPath().toString())
+            : Optional.empty();
   }
 
   /** @return whether this should be precompiled, or treated as a regular uncompiled header. */
@@ -159,6 +172,11 @@ class CxxPrecompiledHeader extends AbstractBuildRule
     Path scratchDir =
         BuildTargetPaths.getScratchPath(getProjectFilesystem(), getBuildTarget(), "%s_tmp");
 
+    if (canPrecompile()) {
+      buildableContext.recordArtifact(output);
+    }
+    buildableContext.recordArtifact(getDepFilePath(context.getSourcePathResolver()));
+
     return new ImmutableList.Builder<Step>()
         .add(
             MkdirStep.of(
@@ -242,7 +260,7 @@ class CxxPrecompiledHeader extends AbstractBuildRule
 
   @Override
   public boolean isCacheable() {
-    return false;
+    return cacheableProjectRoot.isPresent();
   }
 
   private Path getDepFilePath(SourcePathResolverAdapter pathResolver) {
@@ -307,6 +325,13 @@ class CxxPrecompiledHeader extends AbstractBuildRule
                         .addAllRuleFlags(
                             preprocessorDelegate.getArguments(
                                 compilerFlags, /* no pch */ Optional.empty(), resolver))
+                        .addAllRuleFlags(
+                            StringArg.from(
+                                isCacheable()
+                                    ? compilerDelegate
+                                        .getCompiler()
+                                        .getFlagsForCacheablePrecompiledHeader()
+                                    : ImmutableList.of()))
                         .build()
                         .getAllFlags()),
                 resolver),
@@ -318,7 +343,8 @@ class CxxPrecompiledHeader extends AbstractBuildRule
         /* useArgFile*/ true,
         /* nonArgfileArgs */ ImmutableList.of(),
         compilerDelegate.getCompiler(),
-        Optional.empty());
+        Optional.empty(),
+        compilerDelegate.getCompileServer());
   }
 
   public PrecompiledHeaderData getData() {
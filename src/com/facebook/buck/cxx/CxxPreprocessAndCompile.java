@@ -27,12 +27,14 @@ import com.facebook.buck.core.model.impl.BuildTargetPaths;
 import com.facebook.buck.core.rulekey.AddToRuleKey;
 import com.facebook.buck.core.rules.SourcePathRuleFinder;
 import com.facebook.buck.core.rules.attr.SupportsDependencyFileRuleKey;
+import com.facebook.buck.core.rules.attr.SupportsPrunedRemoteInputs;
 import com.facebook.buck.core.sourcepath.ExplicitBuildTargetSourcePath;
 import com.facebook.buck.core.sourcepath.SourcePath;
 import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
 import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.cxx.CxxSource.Type;
 import com.facebook.buck.cxx.toolchain.DebugPathSanitizer;
+import com.facebook.buck.cxx.toolchain.DependencyTrackingMode;
 import com.facebook.buck.cxx.toolchain.LinkerMapMode;
 import com.facebook.buck.cxx.toolchain.StripStyle;
 import com.facebook.buck.io.BuildCellRelativePath;
@@ -52,6 +54,7 @@ import com.facebook.buck.step.fs.MkdirStep;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
@@ -61,9 +64,28 @@ import java.util.function.Predicate;
 
 /** A build rule which preprocesses and/or compiles a C/C++ source in a single step. */
 public class CxxPreprocessAndCompile extends ModernBuildRule<CxxPreprocessAndCompile.Impl>
-    implements SupportsDependencyFileRuleKey, CxxIntermediateBuildProduct {
+    implements SupportsDependencyFileRuleKey,
+        SupportsPrunedRemoteInputs,
+        CxxIntermediateBuildProduct {
   private static final Logger LOG = Logger.get(CxxPreprocessAndCompile.class);
 
+  // Preprocessor flags which add to the search path, or implicitly include a file.
+  private static final ImmutableList<String> SEARCH_PATH_FLAGS =
+      ImmutableList.of("-isystem", "-iquote", "-idirafter", "-I");
+  private static final ImmutableList<String> IMPLICIT_INCLUDE_FLAGS =
+      ImmutableList.of("-include", "-imacros");
+  // Flags which make headers visible in ways the include scanner doesn't model.
+  private static final ImmutableList<String> UNSUPPORTED_FLAG_PREFIXES =
+      ImmutableList.of(
+          "-include-pch",
+          "-F",
+          "-iframework",
+          "-ivfsoverlay",
+          "-iprefix",
+          "-iwithprefix",
+          "-fmodule",
+          "-fimplicit-module-maps");
+
   private final Path output;
   private final Optional<CxxPrecompiledHeader> precompiledHeaderRule;
 
@@ -281,6 +303,104 @@ public class CxxPreprocessAndCompile extends ModernBuildRule<CxxPreprocessAndCom
     return false;
   }
 
+  /**
+   * Prunes the header symlink trees and header directories this compile is given down to the
+   * headers the source could include, as found by {@link CxxIncludeScanner}. Only the scan decides,
+   * so the inputs don't depend on the state of earlier builds.
+   */
+  @Override
+  public Optional<PrunedInputs> getPrunedRemoteInputs(SourcePathResolverAdapter pathResolver)
+      throws IOException {
+    Impl buildable = getBuildable();
+    if (!buildable.preprocessDelegate.isPresent()
+        || buildable.precompiledHeaderData.isPresent()) {
+      return Optional.empty();
+    }
+    PreprocessorDelegate preprocessorDelegate = buildable.preprocessDelegate.get();
+    DependencyTrackingMode dependencyTrackingMode =
+        buildable.compilerDelegate.getDependencyTrackingMode();
+    if (dependencyTrackingMode != DependencyTrackingMode.MAKEFILE
+        && dependencyTrackingMode != DependencyTrackingMode.SHOW_HEADERS) {
+      return Optional.empty();
+    }
+    ProjectFilesystem filesystem = getProjectFilesystem();
+
+    // Find the search path and any implicitly included headers from the flags we'd actually
+    // compile with, bailing out on any flag which makes headers visible in ways we don't model.
+    ImmutableList<String> flags =
+        Arg.stringify(
+            buildable.compilerDelegate.getArguments(
+                preprocessorDelegate.getFlagsWithSearchPaths(Optional.empty(), pathResolver),
+                filesystem.getRootPath().getPath()),
+            pathResolver);
+    ImmutableList.Builder<Path> searchPath = ImmutableList.builder();
+    ImmutableList.Builder<Path> sources = ImmutableList.builder();
+    sources.add(pathResolver.getAbsolutePath(getInput()));
+    for (int i = 0; i < flags.size(); i++) {
+      String flag = flags.get(i);
+      if (UNSUPPORTED_FLAG_PREFIXES.stream().anyMatch(flag::startsWith)) {
+        return Optional.empty();
+      }
+      Optional<String> searchPathFlag = findFlag(flag, SEARCH_PATH_FLAGS);
+      Optional<String> includeFlag = findFlag(flag, IMPLICIT_INCLUDE_FLAGS);
+      if (!searchPathFlag.isPresent() && !includeFlag.isPresent()) {
+        continue;
+      }
+      String prefix = searchPathFlag.orElseGet(includeFlag::get);
+      String value;
+      if (flag.length() > prefix.length()) {
+        value = flag.substring(prefix.length());
+      } else if (i + 1 < flags.size()) {
+        value = flags.get(++i);
+      } else {
+        continue;
+      }
+      Path path = filesystem.resolve(value).normalize();
+      if (includeFlag.isPresent()) {
+        sources.add(path);
+      } else if (Files.isRegularFile(path)) {
+        // A header map, which we can't look headers up in.
+        return Optional.empty();
+      } else {
+        searchPath.add(path);
+      }
+    }
+
+    ImmutableSet.Builder<Path> prunable = ImmutableSet.builder();
+    for (CxxHeaders headers : preprocessorDelegate.getPreprocessorFlags().getIncludes()) {
+      if (headers instanceof CxxSymlinkTreeHeaders) {
+        CxxSymlinkTreeHeaders symlinkTreeHeaders = (CxxSymlinkTreeHeaders) headers;
+        if (symlinkTreeHeaders.getHeaderMap().isPresent()
+            || symlinkTreeHeaders.getVfsOverlay().isPresent()) {
+          return Optional.empty();
+        }
+        prunable.add(pathResolver.getAbsolutePath(symlinkTreeHeaders.getRoot()));
+        symlinkTreeHeaders.getResolvedIncludeRoot(pathResolver).ifPresent(prunable::add);
+        for (SourcePath header : symlinkTreeHeaders.getNameToPathMap().values()) {
+          prunable.add(pathResolver.getAbsolutePath(header));
+        }
+      } else if (headers instanceof CxxHeadersDir) {
+        prunable.add(pathResolver.getAbsolutePath(headers.getRoot()));
+      } else if (headers instanceof CxxRawHeaders) {
+        for (SourcePath header : ((CxxRawHeaders) headers).getHeaders()) {
+          prunable.add(pathResolver.getAbsolutePath(header));
+        }
+      }
+    }
+
+    Optional<ImmutableSet<Path>> includes =
+        CxxIncludeScanner.SHARED.scan(sources.build(), searchPath.build());
+    if (!includes.isPresent()) {
+      LOG.verbose("%s: falling back to all remote inputs due to a computed include", this);
+      return Optional.empty();
+    }
+    return Optional.of(new PrunedInputs(prunable.build(), includes.get()));
+  }
+
+  private static Optional<String> findFlag(String flag, ImmutableList<String> prefixes) {
+    return prefixes.stream().filter(flag::startsWith).findFirst();
+  }
+
   public CxxPreprocessAndCompileStep makeMainStep(BuildContext context, boolean useArgFile) {
     return getBuildable()
         .makeMainStep(context, getProjectFilesystem(), getOutputPathResolver(), useArgFile);
@@ -371,7 +491,8 @@ public class CxxPreprocessAndCompile extends ModernBuildRule<CxxPreprocessAndCom
               ImmutableCxxLogInfo.of(
                   Optional.ofNullable(targetName),
                   Optional.ofNullable(relativeInputPath.getPath()),
-                  Optional.ofNullable(resolvedOutput))));
+                  Optional.ofNullable(resolvedOutput))),
+          compilerDelegate.getCompileServer());
     }
 
     static Path getDepFilePath(Path outputPath) {
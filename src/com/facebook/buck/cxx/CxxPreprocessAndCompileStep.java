@@ -16,11 +16,14 @@
 
 package com.facebook.buck.cxx;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import com.facebook.buck.core.build.execution.context.ExecutionContext;
 import com.facebook.buck.core.filesystems.AbsPath;
 import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
 import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.cxx.toolchain.Compiler;
+import com.facebook.buck.cxx.toolchain.CxxCompileServer;
 import com.facebook.buck.cxx.toolchain.DebugPathSanitizer;
 import com.facebook.buck.cxx.toolchain.DependencyTrackingMode;
 import com.facebook.buck.event.ConsoleEvent;
@@ -35,11 +38,18 @@ import com.facebook.buck.util.Escaper;
 import com.facebook.buck.util.ProcessExecutor;
 import com.facebook.buck.util.ProcessExecutorParams;
 import com.facebook.buck.util.string.MoreStrings;
+import com.facebook.buck.worker.WorkerJobResult;
+import com.facebook.buck.worker.WorkerProcessIdentity;
+import com.facebook.buck.worker.WorkerProcessParams;
+import com.facebook.buck.worker.WorkerProcessPool;
+import com.facebook.buck.worker.WorkerProcessPoolFactory;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
+import com.google.common.hash.Hashing;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -49,6 +59,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 import java.util.logging.Level;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -71,6 +82,7 @@ class CxxPreprocessAndCompileStep implements Step {
   private final DebugPathSanitizer sanitizer;
   private final Compiler compiler;
   private final Optional<CxxLogInfo> cxxLogInfo;
+  private final Optional<CxxCompileServer> compileServer;
 
   /** Directory to use to store intermediate/temp files used for compilation. */
   private final Path scratchDir;
@@ -101,7 +113,8 @@ class CxxPreprocessAndCompileStep implements Step {
       boolean useArgfile,
       ImmutableList<String> preArgfileArgs,
       Compiler compiler,
-      Optional<CxxLogInfo> cxxLogInfo) {
+      Optional<CxxLogInfo> cxxLogInfo,
+      Optional<CxxCompileServer> compileServer) {
     this.filesystem = filesystem;
     this.operation = operation;
     this.output = output;
@@ -117,6 +130,7 @@ class CxxPreprocessAndCompileStep implements Step {
     this.preArgfileArgs = preArgfileArgs;
     this.compiler = compiler;
     this.cxxLogInfo = cxxLogInfo;
+    this.compileServer = compileServer;
   }
 
   @Override
@@ -235,7 +249,9 @@ class CxxPreprocessAndCompileStep implements Step {
     }
 
     ProcessExecutor.Result result =
-        new DefaultProcessExecutor(Console.createNullConsole()).launchAndExecute(params);
+        compileServer.isPresent()
+            ? executeOnCompileServer(context, compileServer.get(), params)
+            : new DefaultProcessExecutor(Console.createNullConsole()).launchAndExecute(params);
 
     String err = getSanitizedStderr(result, context);
     result =
@@ -249,6 +265,63 @@ class CxxPreprocessAndCompileStep implements Step {
     return result;
   }
 
+  /**
+   * Sends the command to a process of the compile server's pool rather than starting it. The server
+   * runs from the project root, like the command would have.
+   */
+  private ProcessExecutor.Result executeOnCompileServer(
+      ExecutionContext context, CxxCompileServer server, ProcessExecutorParams params)
+      throws IOException, InterruptedException {
+    WorkerProcessParams serverParams = getCompileServerParams(server);
+    WorkerProcessPoolFactory poolFactory = new WorkerProcessPoolFactory(filesystem);
+    String job =
+        getCompileServerJob(poolFactory.getEnvironmentForProcess(context, serverParams), params);
+    WorkerProcessPool pool = poolFactory.getWorkerProcessPool(context, serverParams);
+    WorkerJobResult result;
+    try {
+      result = pool.submitJob(job).get();
+    } catch (ExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new RuntimeException(e);
+    }
+    return new ProcessExecutor.Result(
+        result.getExitCode(), false, result.getStdout(), result.getStderr(), params.getCommand());
+  }
+
+  /**
+   * Returns the job sent to the compile server: the command, preceded by {@code env} and the
+   * variables whose values differ from the server's own environment, e.g. {@code TMPDIR} and the
+   * variables set by the debug path sanitizer. The job can be run as is by a shell.
+   */
+  @VisibleForTesting
+  static String getCompileServerJob(
+      ImmutableMap<String, String> serverEnvironment, ProcessExecutorParams params) {
+    Stream<String> environment =
+        params.getEnvironment().orElse(ImmutableMap.of()).entrySet().stream()
+            .filter(entry -> !entry.getValue().equals(serverEnvironment.get(entry.getKey())))
+            .sorted(Map.Entry.comparingByKey())
+            .map(entry -> entry.getKey() + "=" + entry.getValue());
+    return Stream.concat(Stream.concat(Stream.of("env"), environment), params.getCommand().stream())
+        .map(Escaper.SHELL_ESCAPER)
+        .collect(Collectors.joining(" "));
+  }
+
+  private WorkerProcessParams getCompileServerParams(CxxCompileServer server) {
+    String key = String.join(" ", server.getCommand());
+    // Jobs are sent without waiting for earlier ones to finish, so that the server sees all of the
+    // compiles that are ready to run and can batch them, e.g. ones with identical flags.
+    return WorkerProcessParams.of(
+        filesystem.getBuckPaths().getScratchDir().resolve("cxx_compile_server"),
+        server.getCommand(),
+        ImmutableMap.of(),
+        server.getMaxWorkers(),
+        /* isAsync */ true,
+        /* isMultiplexed */ true,
+        Optional.of(
+            WorkerProcessIdentity.of(
+                "cxx_compile_server " + key, Hashing.sha256().hashString(key, UTF_8))));
+  }
+
   private void processResult(ProcessExecutor.Result result, ExecutionContext context) {
     // If we generated any error output, print that to the console.
     String err = result.getStderr().orElse("");
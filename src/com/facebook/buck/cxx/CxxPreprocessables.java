@@ -40,8 +40,6 @@ import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
 import java.nio.file.Path;
 import java.util.Collection;
-import java.util.LinkedHashMap;
-import java.util.Map;
 
 public class CxxPreprocessables {
 
@@ -106,11 +104,10 @@ public class CxxPreprocessables {
       Iterable<? extends CxxPreprocessorDep> inputs) {
     // We don't really care about the order we get back here, since headers shouldn't
     // conflict.  However, we want something that's deterministic, so maintain the insertion order.
-    Map<BuildTarget, CxxPreprocessorInput> deps = new LinkedHashMap<>();
-    for (CxxPreprocessorDep input : inputs) {
-      deps.putAll(input.getTransitiveCxxPreprocessorInput(cxxPlatform, graphBuilder));
-    }
-    return deps.values();
+    return TransitiveCxxPreprocessorInput.flatten(
+        FluentIterable.from(inputs)
+            .transform(
+                input -> input.getTransitiveCxxPreprocessorInputNode(cxxPlatform, graphBuilder)));
   }
 
   /**
@@ -147,6 +144,8 @@ public class CxxPreprocessables {
             target, filesystem, root, links, ModuleMapMode.UMBRELLA_HEADER);
       case HEADER_MAP_ONLY:
         return new DirectHeaderMap(target, filesystem, root, links);
+      case VFS_OVERLAY:
+        return new HeaderVfsOverlay(target, filesystem, root, links);
       default:
       case SYMLINK_TREE_ONLY:
         return new HeaderSymlinkTree(target, filesystem, root, links);
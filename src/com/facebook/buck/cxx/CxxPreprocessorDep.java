@@ -48,4 +48,14 @@ public interface CxxPreprocessorDep {
    */
   ImmutableMap<BuildTarget, CxxPreprocessorInput> getTransitiveCxxPreprocessorInput(
       CxxPlatform cxxPlatform, ActionGraphBuilder graphBuilder);
+
+  /**
+   * Returns the same inputs as {@link #getTransitiveCxxPreprocessorInput}, as a node that shares
+   * the nodes of the deps instead of holding a flattened copy of their inputs.
+   */
+  default TransitiveCxxPreprocessorInput getTransitiveCxxPreprocessorInputNode(
+      CxxPlatform cxxPlatform, ActionGraphBuilder graphBuilder) {
+    return TransitiveCxxPreprocessorInput.of(
+        getTransitiveCxxPreprocessorInput(cxxPlatform, graphBuilder));
+  }
 }
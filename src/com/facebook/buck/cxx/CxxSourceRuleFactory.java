@@ -368,7 +368,8 @@ public abstract class CxxSourceRuleFactory {
             getCxxPlatform().getCompilerDebugPathSanitizer(),
             compiler,
             flags,
-            getCxxPlatform().getUseArgFile());
+            getCxxPlatform().getUseArgFile(),
+            getCxxPlatform().getCompileServer());
 
     return CxxThinLTOOpt.optimize(
         target,
@@ -414,7 +415,8 @@ public abstract class CxxSourceRuleFactory {
             getCxxPlatform().getCompilerDebugPathSanitizer(),
             compiler,
             flags,
-            getCxxPlatform().getUseArgFile());
+            getCxxPlatform().getUseArgFile(),
+            getCxxPlatform().getCompileServer());
 
     // TODO(steveo): this does not account for `precompiledHeaderRule`.
 
@@ -586,7 +588,8 @@ public abstract class CxxSourceRuleFactory {
                     getCxxPlatform(), CxxSourceTypes.getPreprocessorOutputType(source.getType()))
                 .resolve(getActionGraphBuilder(), getBaseBuildTarget().getTargetConfiguration()),
             computeCompilerFlags(source.getType(), source.getFlags()),
-            getCxxPlatform().getUseArgFile());
+            getCxxPlatform().getUseArgFile(),
+            getCxxPlatform().getCompileServer());
 
     PreprocessorDelegateCacheValue preprocessorDelegateValue =
         preprocessorDelegates.apply(
@@ -97,6 +97,10 @@ public abstract class CxxSymlinkTreeHeaders extends CxxHeaders implements RuleKe
   @AddToRuleKey
   public abstract String getSymlinkTreeClass();
 
+  @Override
+  @CustomFieldBehavior(HeaderMapInputsBehavior.class)
+  public abstract Optional<SourcePath> getVfsOverlay();
+
   /** @return all deps required by this header pack. */
   @Override
   // This has custom getDeps() logic because the way that the name to path map is added to the
@@ -108,6 +112,7 @@ public abstract class CxxSymlinkTreeHeaders extends CxxHeaders implements RuleKe
       ruleFinder.getRule(getIncludeRoot().getRight()).ifPresent(builder);
     }
     getHeaderMap().flatMap(ruleFinder::getRule).ifPresent(builder);
+    getVfsOverlay().flatMap(ruleFinder::getRule).ifPresent(builder);
 
     // return a stream of the cached dependencies, or compute and store it
     return Stream.concat(
@@ -156,7 +161,8 @@ public abstract class CxxSymlinkTreeHeaders extends CxxHeaders implements RuleKe
         includeRoot,
         headerMap,
         symlinkTree.getLinks(),
-        symlinkTree.getClass().getName());
+        symlinkTree.getClass().getName(),
+        symlinkTree.getVfsOverlaySourcePath());
   }
 
   public static CxxSymlinkTreeHeaders of(
@@ -166,8 +172,26 @@ public abstract class CxxSymlinkTreeHeaders extends CxxHeaders implements RuleKe
       Optional<? extends SourcePath> headerMap,
       ImmutableSortedMap<Path, SourcePath> nameToPathMap,
       String symlinkTreeClass) {
+    return of(
+        includeType,
+        root,
+        includeRoot,
+        headerMap,
+        nameToPathMap,
+        symlinkTreeClass,
+        Optional.empty());
+  }
+
+  public static CxxSymlinkTreeHeaders of(
+      CxxPreprocessables.IncludeType includeType,
+      SourcePath root,
+      Either<PathSourcePath, SourcePath> includeRoot,
+      Optional<? extends SourcePath> headerMap,
+      ImmutableSortedMap<Path, SourcePath> nameToPathMap,
+      String symlinkTreeClass,
+      Optional<? extends SourcePath> vfsOverlay) {
     return ImmutableCxxSymlinkTreeHeaders.of(
-        includeType, root, includeRoot, headerMap, nameToPathMap, symlinkTreeClass);
+        includeType, root, includeRoot, headerMap, nameToPathMap, symlinkTreeClass, vfsOverlay);
   }
 
   /** Custom serialization. */
@@ -189,6 +213,7 @@ public abstract class CxxSymlinkTreeHeaders extends CxxHeaders implements RuleKe
       ImmutableSortedMap<Path, SourcePath> nameToPathMap = instance.getNameToPathMap();
       serializer.visitInteger(nameToPathMap.size());
       serializer.visitString(instance.getSymlinkTreeClass());
+      HEADER_MAP_TYPE_INFO.visit(instance.getVfsOverlay(), serializer);
       RichStream.from(nameToPathMap.entrySet())
           .forEachThrowing(
               entry -> {
@@ -208,6 +233,7 @@ public abstract class CxxSymlinkTreeHeaders extends CxxHeaders implements RuleKe
           INCLUDE_ROOT_TYPE_INFO.createNotNull(deserializer);
       int nameToPathMapSize = deserializer.createInteger();
       String symlinkTreeClass = deserializer.createString();
+      Optional<SourcePath> vfsOverlay = HEADER_MAP_TYPE_INFO.createNotNull(deserializer);
 
       ImmutableSortedMap.Builder<Path, SourcePath> nameToPathMapBuilder =
           ImmutableSortedMap.naturalOrder();
@@ -222,7 +248,8 @@ public abstract class CxxSymlinkTreeHeaders extends CxxHeaders implements RuleKe
           includeRootType,
           headerMapType,
           nameToPathMapBuilder.build(),
-          symlinkTreeClass);
+          symlinkTreeClass,
+          vfsOverlay);
     }
   }
 
@@ -184,7 +184,8 @@ public class CxxThinLTOOpt extends ModernBuildRule<CxxThinLTOOpt.Impl>
               ImmutableCxxLogInfo.of(
                   Optional.ofNullable(targetName),
                   Optional.ofNullable(relativeInputPath.getPath()),
-                  Optional.ofNullable(resolvedOutput))));
+                  Optional.ofNullable(resolvedOutput))),
+          compilerDelegate.getCompileServer());
     }
 
     @Override
@@ -40,9 +40,11 @@ import java.io.InputStreamReader;
 import java.nio.CharBuffer;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
@@ -334,26 +336,35 @@ class Depfiles {
     UntrackedHeaderReporterWithFallback untrackedHeaderReporter =
         new UntrackedHeaderReporterWithFallback(
             dependencyTrackingMode, filesystem, headerPathNormalizer, sourceDepFile, inputPath);
-    List<String> errors = new ArrayList<String>();
+    // Headers which couldn't be mapped back to a rule are collected and then verified as a batch,
+    // so the common case of a fully tracked compile never has to compute repo relative paths or
+    // consult the whitelist.
+    Set<Path> untrackedHeaders = new LinkedHashSet<>();
     for (String rawHeader : headers) {
       Path header = filesystem.resolve(rawHeader).normalize();
       Optional<Path> absolutePath =
           headerPathNormalizer.getAbsolutePathForUnnormalizedPath(pathResolver, header);
-      Optional<Path> repoRelativePath = filesystem.getPathRelativeToProjectRoot(header);
       if (absolutePath.isPresent()) {
         Preconditions.checkState(absolutePath.get().isAbsolute());
         resultBuilder.add(absolutePath.get());
-      } else if ((headerVerification.getMode() != HeaderVerification.Mode.IGNORE)
-          && (!(headerVerification.isWhitelisted(header.toString())
-              || repoRelativePath
-                  .map(path -> headerVerification.isWhitelisted(path.toString()))
-                  .orElse(false)))) {
-        // Check again with the real path with all symbolic links resolved.
-        header = header.toRealPath();
-        if (!(headerVerification.isWhitelisted(header.toString()))) {
-          String errorMessage = untrackedHeaderReporter.getErrorReport(pathResolver, header);
-          errors.add(errorMessage);
-        }
+      } else if (headerVerification.getMode() != HeaderVerification.Mode.IGNORE) {
+        untrackedHeaders.add(header);
+      }
+    }
+    List<String> errors = new ArrayList<String>();
+    for (Path header : untrackedHeaders) {
+      if (headerVerification.isWhitelisted(header.toString())
+          || filesystem
+              .getPathRelativeToProjectRoot(header)
+              .map(path -> headerVerification.isWhitelisted(path.toString()))
+              .orElse(false)) {
+        continue;
+      }
+      // Check again with the real path with all symbolic links resolved.
+      Path realHeader = header.toRealPath();
+      if (!(headerVerification.isWhitelisted(realHeader.toString()))) {
+        String errorMessage = untrackedHeaderReporter.getErrorReport(pathResolver, realHeader);
+        errors.add(errorMessage);
       }
     }
     // Check if any errors occurred and report them
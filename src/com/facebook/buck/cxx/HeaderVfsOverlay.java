@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.apple.clang.VFSOverlay;
+import com.facebook.buck.core.build.buildable.context.BuildableContext;
+import com.facebook.buck.core.build.context.BuildContext;
+import com.facebook.buck.core.build.execution.context.ExecutionContext;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.impl.BuildTargetPaths;
+import com.facebook.buck.core.rulekey.AddToRuleKey;
+import com.facebook.buck.core.sourcepath.ExplicitBuildTargetSourcePath;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.cxx.toolchain.HeaderSymlinkTree;
+import com.facebook.buck.io.BuildCellRelativePath;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.step.AbstractExecutionStep;
+import com.facebook.buck.step.Step;
+import com.facebook.buck.step.StepExecutionResult;
+import com.facebook.buck.step.StepExecutionResults;
+import com.facebook.buck.step.fs.MakeCleanDirectoryStep;
+import com.facebook.buck.step.fs.MkdirStep;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Lays out headers with a clang VFS overlay instead of a tree of symbolic links. The preprocessor
+ * sees the headers at the same paths under {@link #getRoot()} as with a symlink tree, so include
+ * paths and depfile normalization work the same way, but the root stays empty on disk.
+ */
+class HeaderVfsOverlay extends HeaderSymlinkTree {
+
+  private static final Logger LOG = Logger.get(HeaderVfsOverlay.class);
+
+  @AddToRuleKey(stringify = true)
+  private final Path overlayPath;
+
+  public HeaderVfsOverlay(
+      BuildTarget target,
+      ProjectFilesystem filesystem,
+      Path root,
+      ImmutableMap<Path, SourcePath> links) {
+    super(target, filesystem, root, links);
+    this.overlayPath = BuildTargetPaths.getGenPath(filesystem, target, "%s.vfsoverlay.yaml");
+  }
+
+  @Override
+  public SourcePath getSourcePathToOutput() {
+    return ExplicitBuildTargetSourcePath.of(getBuildTarget(), overlayPath);
+  }
+
+  @Override
+  public ImmutableList<Step> getBuildSteps(
+      BuildContext context, BuildableContext buildableContext) {
+    LOG.debug("Generating build steps to write VFS overlay to %s", overlayPath);
+    // Overlays can only refer to absolute paths, which is fine since, like symlink trees, these
+    // rules are never cached.
+    ImmutableSortedMap.Builder<Path, Path> overlaysBuilder = ImmutableSortedMap.naturalOrder();
+    for (Map.Entry<Path, SourcePath> entry : getLinks().entrySet()) {
+      overlaysBuilder.put(
+          getProjectFilesystem().resolve(getRoot().resolve(entry.getKey())),
+          context.getSourcePathResolver().getAbsolutePath(entry.getValue()));
+    }
+    VFSOverlay overlay = new VFSOverlay(overlaysBuilder.build());
+    return ImmutableList.<Step>builder()
+        .add(getVerifyStep(getResolvedSymlinks(context.getSourcePathResolver())))
+        // Clear out any links left behind by a previous header mode.
+        .addAll(
+            MakeCleanDirectoryStep.of(
+                BuildCellRelativePath.fromCellRelativePath(
+                    context.getBuildCellRootPath(), getProjectFilesystem(), getRoot())))
+        .add(
+            MkdirStep.of(
+                BuildCellRelativePath.fromCellRelativePath(
+                    context.getBuildCellRootPath(),
+                    getProjectFilesystem(),
+                    overlayPath.getParent())))
+        .add(
+            new AbstractExecutionStep("vfs_overlay") {
+              @Override
+              public StepExecutionResult execute(ExecutionContext executionContext)
+                  throws IOException {
+                getProjectFilesystem().writeContentsToPath(overlay.render(), overlayPath);
+                buildableContext.recordArtifact(overlayPath);
+                return StepExecutionResults.SUCCESS;
+              }
+            })
+        .build();
+  }
+
+  @Override
+  public Optional<SourcePath> getVfsOverlaySourcePath() {
+    return Optional.of(ExplicitBuildTargetSourcePath.of(getBuildTarget(), overlayPath));
+  }
+}
@@ -47,7 +47,6 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -167,14 +166,18 @@ public abstract class PreInclude extends NoopBuildRuleWithDeclaredAndExtraDeps
     return transitiveCxxPreprocessorInputCache.getUnchecked(cxxPlatform, graphBuilder);
   }
 
+  @Override
+  public TransitiveCxxPreprocessorInput getTransitiveCxxPreprocessorInputNode(
+      CxxPlatform cxxPlatform, ActionGraphBuilder graphBuilder) {
+    return transitiveCxxPreprocessorInputCache.getNode(cxxPlatform, graphBuilder);
+  }
+
   private ImmutableList<CxxPreprocessorInput> getCxxPreprocessorInputs(
       CxxPlatform cxxPlatform, ActionGraphBuilder graphBuilder) {
-    ImmutableList.Builder<CxxPreprocessorInput> builder = ImmutableList.builder();
-    for (Map.Entry<BuildTarget, CxxPreprocessorInput> entry :
-        getTransitiveCxxPreprocessorInput(cxxPlatform, graphBuilder).entrySet()) {
-      builder.add(entry.getValue());
-    }
-    return builder.build();
+    return getTransitiveCxxPreprocessorInputNode(cxxPlatform, graphBuilder)
+        .toMap()
+        .values()
+        .asList();
   }
 
   private ImmutableList<CxxHeaders> getIncludes(
@@ -304,7 +307,8 @@ public abstract class PreInclude extends NoopBuildRuleWithDeclaredAndExtraDeps
                               cxxPlatform, CxxSourceTypes.getPreprocessorOutputType(sourceType))
                           .resolve(graphBuilder, buildTarget.getTargetConfiguration()),
                       compilerFlags,
-                      cxxPlatform.getUseArgFile());
+                      cxxPlatform.getUseArgFile(),
+                      cxxPlatform.getCompileServer());
               depsBuilder.add(compilerDelegate);
 
               depsBuilder.add(getHeaderSourcePath());
@@ -320,7 +324,8 @@ public abstract class PreInclude extends NoopBuildRuleWithDeclaredAndExtraDeps
                   compilerFlags,
                   getHeaderSourcePath(),
                   sourceType,
-                  cxxPlatform.getCompilerDebugPathSanitizer());
+                  cxxPlatform.getCompilerDebugPathSanitizer(),
+                  cxxPlatform.getCachePrecompiledHeaders());
             });
   }
 }
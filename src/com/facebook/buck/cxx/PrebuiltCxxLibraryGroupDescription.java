@@ -257,6 +257,12 @@ public class PrebuiltCxxLibraryGroupDescription
       return transitiveCxxPreprocessorInputCache.getUnchecked(cxxPlatform, graphBuilder);
     }
 
+    @Override
+    public TransitiveCxxPreprocessorInput getTransitiveCxxPreprocessorInputNode(
+        CxxPlatform cxxPlatform, ActionGraphBuilder graphBuilder) {
+      return transitiveCxxPreprocessorInputCache.getNode(cxxPlatform, graphBuilder);
+    }
+
     @Override
     public Iterable<? extends NativeLinkableGroup> getNativeLinkableDeps(
         BuildRuleResolver ruleResolver) {
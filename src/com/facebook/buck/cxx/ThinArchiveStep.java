@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.build.execution.context.ExecutionContext;
+import com.facebook.buck.core.exceptions.HumanReadableException;
+import com.facebook.buck.cxx.toolchain.elf.ElfSymbols;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.pathformat.PathFormatter;
+import com.facebook.buck.step.Step;
+import com.facebook.buck.step.StepExecutionResult;
+import com.facebook.buck.step.StepExecutionResults;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes a GNU thin archive, including its symbol index, directly rather than running `ar` and
+ * `ranlib`.
+ *
+ * <p>A thin archive only records the path and size of each member, so writing one doesn't read or
+ * copy the object files themselves. The symbol index is built from the objects' ELF symbol tables,
+ * which are read in parallel.
+ */
+class ThinArchiveStep implements Step {
+
+  private static final String THIN_ARCHIVE_MAGIC = "!<thin>\n";
+  private static final String EMPTY_ARCHIVE = "!<arch>\n";
+  private static final int HEADER_SIZE = 60;
+
+  private final ProjectFilesystem filesystem;
+  private final Path output;
+  private final ImmutableList<Path> inputs;
+
+  public ThinArchiveStep(ProjectFilesystem filesystem, Path output, ImmutableList<Path> inputs) {
+    Preconditions.checkArgument(!output.isAbsolute());
+    // Like `ar`, we embed relative paths from the output to each input, which requires that all
+    // the inputs are from the same cell as the output.
+    for (Path input : inputs) {
+      Preconditions.checkArgument(!input.isAbsolute());
+    }
+    this.filesystem = filesystem;
+    this.output = output;
+    this.inputs = inputs;
+  }
+
+  @Override
+  public StepExecutionResult execute(ExecutionContext context) throws IOException {
+    ImmutableList<Path> members =
+        ArchiveStep.getAllInputs(filesystem, inputs).stream()
+            .map(filesystem::resolve)
+            .collect(ImmutableList.toImmutableList());
+    if (members.isEmpty()) {
+      filesystem.writeContentsToPath(EMPTY_ARCHIVE, output);
+      return StepExecutionResults.SUCCESS;
+    }
+
+    Path outputDir = filesystem.resolve(output).getParent();
+
+    // Build the extended name table, which holds the paths to all the members.
+    ByteArrayOutputStream names = new ByteArrayOutputStream();
+    List<Integer> nameOffsets = new ArrayList<>(members.size());
+    for (Path member : members) {
+      nameOffsets.add(names.size());
+      byte[] name =
+          PathFormatter.pathWithUnixSeparators(outputDir.relativize(member))
+              .getBytes(StandardCharsets.UTF_8);
+      names.write(name);
+      names.write('/');
+      names.write('\n');
+    }
+
+    // Read the symbols each member defines, so we can build the symbol index.  Objects are rarely
+    // archived more than once, so skip the cache to avoid hashing their contents.
+    for (Path member : members) {
+      if (!ElfSymbols.isElf(member)) {
+        throw new HumanReadableException(
+            "%s: can't index %s, which isn't an ELF object, in a thin archive", output, member);
+      }
+    }
+    ImmutableList<ElfSymbols> symbols =
+        ElfSymbols.readAll(members, ElfSymbols.Table.STATIC, /* cached */ false);
+
+    int numSymbols = 0;
+    int symbolNamesSize = 0;
+    for (ElfSymbols objectSymbols : symbols) {
+      for (String symbol : objectSymbols.external) {
+        numSymbols++;
+        symbolNamesSize += symbol.getBytes(StandardCharsets.UTF_8).length + 1;
+      }
+    }
+    // Like `ar`, pad the symbol names with a trailing NUL rather than a newline, and count the
+    // padding as part of the index.
+    long symbolIndexSize = padded(4L + 4L * numSymbols + symbolNamesSize);
+
+    // Work out where each member header will land, as the symbol index refers to them by offset.
+    long firstMemberOffset = THIN_ARCHIVE_MAGIC.length();
+    if (numSymbols > 0) {
+      firstMemberOffset += HEADER_SIZE + symbolIndexSize;
+    }
+    firstMemberOffset += HEADER_SIZE + padded(names.size());
+    long lastMemberOffset = firstMemberOffset + (long) HEADER_SIZE * (members.size() - 1);
+    if (lastMemberOffset > 0xFFFFFFFFL) {
+      throw new HumanReadableException(
+          "%s: too many members to write a thin archive with a 32-bit symbol index", output);
+    }
+
+    try (DataOutputStream out =
+        new DataOutputStream(new BufferedOutputStream(filesystem.newFileOutputStream(output)))) {
+      out.write(THIN_ARCHIVE_MAGIC.getBytes(StandardCharsets.US_ASCII));
+
+      if (numSymbols > 0) {
+        writeHeader(out, "/", "0", "0", "0", "0", symbolIndexSize);
+        out.writeInt(numSymbols);
+        for (int i = 0; i < symbols.size(); i++) {
+          long offset = firstMemberOffset + (long) HEADER_SIZE * i;
+          for (int j = 0; j < symbols.get(i).external.size(); j++) {
+            out.writeInt((int) offset);
+          }
+        }
+        for (ElfSymbols objectSymbols : symbols) {
+          for (String symbol : objectSymbols.external) {
+            out.write(symbol.getBytes(StandardCharsets.UTF_8));
+            out.write(0);
+          }
+        }
+        if (symbolNamesSize % 2 != 0) {
+          out.write(0);
+        }
+      }
+
+      writeHeader(out, "//", "", "", "", "", names.size());
+      names.writeTo(out);
+      writePadding(out, names.size());
+
+      // Thin members only have a header, which names the member and records its size.
+      for (int i = 0; i < members.size(); i++) {
+        writeHeader(
+            out, "/" + nameOffsets.get(i), "0", "0", "0", "644", Files.size(members.get(i)));
+      }
+    }
+
+    return StepExecutionResults.SUCCESS;
+  }
+
+  /**
+   * @return whether all the given inputs are ELF objects, and so can be written to a thin archive
+   *     by this step. Other members, such as the LLVM bitcode produced for ThinLTO, need `ar` and
+   *     `ranlib` to be indexed.
+   */
+  static boolean canIndexAllInputs(ProjectFilesystem filesystem, ImmutableList<Path> inputs)
+      throws IOException {
+    for (Path member : ArchiveStep.getAllInputs(filesystem, inputs)) {
+      if (!ElfSymbols.isElf(filesystem.resolve(member))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long padded(long size) {
+    return size + (size % 2);
+  }
+
+  private static void writePadding(OutputStream out, long size) throws IOException {
+    if (size % 2 != 0) {
+      out.write('\n');
+    }
+  }
+
+  private static void writeHeader(
+      OutputStream out, String name, String date, String uid, String gid, String mode, long size)
+      throws IOException {
+    String header =
+        String.format("%-16s%-12s%-6s%-6s%-8s%-10d`\n", name, date, uid, gid, mode, size);
+    Preconditions.checkState(header.length() == HEADER_SIZE, "bad archive header: %s", header);
+    out.write(header.getBytes(StandardCharsets.US_ASCII));
+  }
+
+  @Override
+  public String getShortName() {
+    return "thin_archive";
+  }
+
+  @Override
+  public String getDescription(ExecutionContext context) {
+    return String.format("write thin archive %s", output);
+  }
+}
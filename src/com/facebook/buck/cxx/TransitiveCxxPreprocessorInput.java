@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.util.MoreSuppliers;
+import com.facebook.buck.util.stream.RichStream;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * The transitive preprocessor inputs of a {@link CxxPreprocessorDep}, stored as a node of a DAG
+ * that shares the nodes of its deps rather than copying their inputs.
+ *
+ * <p>Holding a flattened map per library makes the memory for a deep graph quadratic in its
+ * depth. A node only holds its own inputs and references to the nodes of its deps, and the full
+ * set of inputs is only computed, deduplicated by target, when it is asked for, and then kept.
+ */
+public final class TransitiveCxxPreprocessorInput {
+
+  private static final TransitiveCxxPreprocessorInput EMPTY =
+      new TransitiveCxxPreprocessorInput(ImmutableMap.of(), ImmutableList.of());
+
+  private final ImmutableMap<BuildTarget, CxxPreprocessorInput> inputs;
+  private final ImmutableList<TransitiveCxxPreprocessorInput> deps;
+  private final Supplier<ImmutableMap<BuildTarget, CxxPreprocessorInput>> flattened =
+      MoreSuppliers.memoize(this::computeMap);
+
+  private TransitiveCxxPreprocessorInput(
+      ImmutableMap<BuildTarget, CxxPreprocessorInput> inputs,
+      ImmutableList<TransitiveCxxPreprocessorInput> deps) {
+    this.inputs = inputs;
+    this.deps = deps;
+  }
+
+  public static TransitiveCxxPreprocessorInput of() {
+    return EMPTY;
+  }
+
+  /** A node with the given inputs, followed by those of {@code deps}. */
+  public static TransitiveCxxPreprocessorInput of(
+      Map<BuildTarget, CxxPreprocessorInput> inputs,
+      Iterable<TransitiveCxxPreprocessorInput> deps) {
+    ImmutableList<TransitiveCxxPreprocessorInput> nonEmptyDeps =
+        RichStream.from(deps).filter(dep -> dep != EMPTY).toImmutableList();
+    if (inputs.isEmpty() && nonEmptyDeps.isEmpty()) {
+      return EMPTY;
+    }
+    if (inputs.isEmpty() && nonEmptyDeps.size() == 1) {
+      return nonEmptyDeps.get(0);
+    }
+    return new TransitiveCxxPreprocessorInput(ImmutableMap.copyOf(inputs), nonEmptyDeps);
+  }
+
+  /** A leaf node wrapping an already flattened map of inputs, whose order is kept. */
+  public static TransitiveCxxPreprocessorInput of(Map<BuildTarget, CxxPreprocessorInput> inputs) {
+    return of(inputs, ImmutableList.of());
+  }
+
+  public ImmutableList<TransitiveCxxPreprocessorInput> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Flattens the inputs reachable from this node, keyed and sorted by target. Nodes shared between
+   * several paths are only visited once. A leaf returns its inputs as they were given.
+   *
+   * <p>The map is computed on the first call and reused afterwards.
+   */
+  public ImmutableMap<BuildTarget, CxxPreprocessorInput> toMap() {
+    return deps.isEmpty() ? inputs : flattened.get();
+  }
+
+  private ImmutableMap<BuildTarget, CxxPreprocessorInput> computeMap() {
+    Map<BuildTarget, CxxPreprocessorInput> result = new HashMap<>();
+    collectInputs(this, Collections.newSetFromMap(new IdentityHashMap<>()), result);
+    // See TransitiveCxxPreprocessorInputCache for why callers see a sorted map.
+    return ImmutableSortedMap.copyOf(result);
+  }
+
+  /** Adds the inputs of the nodes reachable from {@code root} that are not in {@code visited}. */
+  private static void collectInputs(
+      TransitiveCxxPreprocessorInput root,
+      Set<TransitiveCxxPreprocessorInput> visited,
+      Map<BuildTarget, CxxPreprocessorInput> result) {
+    Deque<TransitiveCxxPreprocessorInput> pending = new ArrayDeque<>();
+    pending.push(root);
+    while (!pending.isEmpty()) {
+      TransitiveCxxPreprocessorInput node = pending.pop();
+      if (!visited.add(node)) {
+        continue;
+      }
+      for (Map.Entry<BuildTarget, CxxPreprocessorInput> entry : node.inputs.entrySet()) {
+        result.putIfAbsent(entry.getKey(), entry.getValue());
+      }
+      node.deps.forEach(pending::push);
+    }
+  }
+
+  /**
+   * Flattens several nodes, keeping the inputs of each node in target order and the nodes in the
+   * order given. Inputs already seen through an earlier node are skipped, and so are the nodes
+   * they came from, so the whole graph is traversed once.
+   */
+  public static ImmutableList<CxxPreprocessorInput> flatten(
+      Iterable<TransitiveCxxPreprocessorInput> nodes) {
+    Set<TransitiveCxxPreprocessorInput> visited =
+        Collections.newSetFromMap(new IdentityHashMap<>());
+    Map<BuildTarget, CxxPreprocessorInput> result = new LinkedHashMap<>();
+    for (TransitiveCxxPreprocessorInput node : nodes) {
+      // Like toMap(), a leaf keeps the order its inputs were given in.
+      Map<BuildTarget, CxxPreprocessorInput> nodeInputs =
+          node.deps.isEmpty() ? new LinkedHashMap<>() : new TreeMap<>();
+      collectInputs(node, visited, nodeInputs);
+      for (Map.Entry<BuildTarget, CxxPreprocessorInput> entry : nodeInputs.entrySet()) {
+        result.putIfAbsent(entry.getKey(), entry.getValue());
+      }
+    }
+    return ImmutableList.copyOf(result.values());
+  }
+}
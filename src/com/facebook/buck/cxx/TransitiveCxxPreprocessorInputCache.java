@@ -24,17 +24,19 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import javax.annotation.Nonnull;
 
-/** Transitive C++ preprocessor input cache */
+/**
+ * Transitive C++ preprocessor input cache.
+ *
+ * <p>Each entry is a {@link TransitiveCxxPreprocessorInput} node that references the cached nodes
+ * of the deps, so the caches for a whole graph are linear in its size.
+ */
 public class TransitiveCxxPreprocessorInputCache {
-  private final Cache<CxxPlatform, ImmutableSortedMap<BuildTarget, CxxPreprocessorInput>> cache =
+  private final Cache<CxxPlatform, TransitiveCxxPreprocessorInput> cache =
       CacheBuilder.newBuilder().build();
   private final CxxPreprocessorDep preprocessorDep;
 
@@ -42,60 +44,63 @@ public class TransitiveCxxPreprocessorInputCache {
     this.preprocessorDep = preprocessorDep;
   }
 
-  /** Get a value from the cache */
-  public ImmutableMap<BuildTarget, CxxPreprocessorInput> getUnchecked(
-      CxxPlatform key, ActionGraphBuilder graphBuilder) {
+  /** Get a node from the cache */
+  public TransitiveCxxPreprocessorInput getNode(CxxPlatform key, ActionGraphBuilder graphBuilder) {
     try {
       return cache.get(
           key,
           () ->
-              computeTransitiveCxxToPreprocessorInputMap(
+              computeTransitiveCxxPreprocessorInput(
                   key, preprocessorDep, true, graphBuilder, graphBuilder.getParallelizer()));
     } catch (ExecutionException e) {
       throw new UncheckedExecutionException(e.getCause());
     }
   }
 
+  /** Get a value from the cache, flattened into a map */
+  public ImmutableMap<BuildTarget, CxxPreprocessorInput> getUnchecked(
+      CxxPlatform key, ActionGraphBuilder graphBuilder) {
+    // Using an ImmutableSortedMap here:
+    //
+    // 1. Memory efficiency. ImmutableSortedMap is implemented with 2 lists (an ImmutableSortedSet
+    // of keys, and a ImmutableList of values). This is much more efficient than an ImmutableMap,
+    // which creates an Entry instance for each entry.
+    //
+    // 2. Historically we seem to care that the result has some definite order.
+    //
+    // 3. We mostly iterate over these maps rather than do lookups, so ImmutableSortedMap
+    // binary-search based lookup is not an issue.
+    return getNode(key, graphBuilder).toMap();
+  }
+
   public static ImmutableMap<BuildTarget, CxxPreprocessorInput>
       computeTransitiveCxxToPreprocessorInputMap(
           @Nonnull CxxPlatform key,
           CxxPreprocessorDep preprocessorDep,
           boolean includeDep,
           ActionGraphBuilder graphBuilder) {
-    return computeTransitiveCxxToPreprocessorInputMap(
-        key, preprocessorDep, includeDep, graphBuilder, graphBuilder.getParallelizer());
+    return computeTransitiveCxxPreprocessorInput(
+            key, preprocessorDep, includeDep, graphBuilder, graphBuilder.getParallelizer())
+        .toMap();
   }
 
-  private static ImmutableSortedMap<BuildTarget, CxxPreprocessorInput>
-      computeTransitiveCxxToPreprocessorInputMap(
-          @Nonnull CxxPlatform key,
-          CxxPreprocessorDep preprocessorDep,
-          boolean includeDep,
-          ActionGraphBuilder graphBuilder,
-          Parallelizer parallelizer) {
-    Map<BuildTarget, CxxPreprocessorInput> builder = new HashMap<>();
-    if (includeDep) {
-      builder.put(
-          preprocessorDep.getBuildTarget(),
-          preprocessorDep.getCxxPreprocessorInput(key, graphBuilder));
-    }
+  private static TransitiveCxxPreprocessorInput computeTransitiveCxxPreprocessorInput(
+      @Nonnull CxxPlatform key,
+      CxxPreprocessorDep preprocessorDep,
+      boolean includeDep,
+      ActionGraphBuilder graphBuilder,
+      Parallelizer parallelizer) {
+    ImmutableMap<BuildTarget, CxxPreprocessorInput> inputs =
+        includeDep
+            ? ImmutableMap.of(
+                preprocessorDep.getBuildTarget(),
+                preprocessorDep.getCxxPreprocessorInput(key, graphBuilder))
+            : ImmutableMap.of();
 
-    Collection<ImmutableMap<BuildTarget, CxxPreprocessorInput>> transitiveDepInputs =
+    Collection<TransitiveCxxPreprocessorInput> transitiveDepInputs =
         parallelizer.maybeParallelizeTransform(
             ImmutableList.copyOf(preprocessorDep.getCxxPreprocessorDeps(key, graphBuilder)),
-            dep -> dep.getTransitiveCxxPreprocessorInput(key, graphBuilder));
-    transitiveDepInputs.forEach(builder::putAll);
-
-    // Using an ImmutableSortedMap here:
-    //
-    // 1. Memory efficiency. ImmutableSortedMap is implemented with 2 lists (an ImmutableSortedSet
-    // of keys, and a ImmutableList of values). This is much more efficient than an ImmutableMap,
-    // which creates an Entry instance for each entry.
-    //
-    // 2. Historically we seem to care that the result has some definite order.
-    //
-    // 3. We mostly iterate over these maps rather than do lookups, so ImmutableSortedMap
-    // binary-search based lookup is not an issue.
-    return ImmutableSortedMap.copyOf(builder);
+            dep -> dep.getTransitiveCxxPreprocessorInputNode(key, graphBuilder));
+    return TransitiveCxxPreprocessorInput.of(inputs, transitiveDepInputs);
   }
 }
@@ -38,6 +38,7 @@ import com.facebook.buck.cxx.toolchain.ArchiveContents;
 import com.facebook.buck.cxx.toolchain.ArchiverProvider;
 import com.facebook.buck.cxx.toolchain.ArchiverProvider.LegacyArchiverType;
 import com.facebook.buck.cxx.toolchain.CompilerProvider;
+import com.facebook.buck.cxx.toolchain.CxxCompileServer;
 import com.facebook.buck.cxx.toolchain.CxxToolProvider.Type;
 import com.facebook.buck.cxx.toolchain.CxxToolTypeInferer;
 import com.facebook.buck.cxx.toolchain.HeaderMode;
@@ -89,10 +90,13 @@ public class CxxBuckConfig {
   private static final String HEADERS_SYMLINKS_ENABLED = "headers_symlinks_enabled";
   private static final String LINK_WEIGHT = "link_weight";
   private static final String CACHE_LINKS = "cache_links";
+  private static final String THINLTO_CACHE = "thinlto_cache";
+  private static final String THINLTO_CACHE_MAX_SIZE_PERCENT = "thinlto_cache_max_size_percent";
   private static final String CACHE_STRIPS = "cache_strips";
   private static final String CACHE_BINARIES = "cache_binaries";
   private static final String PCH_ENABLED = "pch_enabled";
   private static final String ARCHIVE_CONTENTS = "archive_contents";
+  private static final String NATIVE_THIN_ARCHIVES = "native_thin_archives";
   private static final String DEBUG_PATH_SANITIZER_LIMIT = "debug_path_sanitizer_limit";
   private static final String SHOULD_REMAP_HOST_PLATFORM = "should_remap_host_platform";
   private static final String UNIQUE_LIBRARY_NAME_ENABLED = "unique_library_name_enabled";
@@ -116,6 +120,9 @@ public class CxxBuckConfig {
   private static final String USE_ARG_FILE = "use_arg_file";
   private static final String TOOLCHAIN_TARGET = "toolchain_target";
   private static final String FILEPATH_LENGTH_LIMITED = "filepath_length_limited";
+  private static final String CACHE_PRECOMPILED_HEADERS = "cache_precompiled_headers";
+  private static final String COMPILE_SERVER = "compile_server";
+  private static final String COMPILE_SERVER_MAX_WORKERS = "compile_server_max_workers";
 
   private static final String CHECK_GTEST_TEST_LIST = "check_gtest_test_list";
 
@@ -460,6 +467,23 @@ public class CxxBuckConfig {
     return delegate.getBooleanValue(cxxSection, CACHE_LINKS, true);
   }
 
+  /**
+   * @return the share of the free disk space, in percent, that the ThinLTO cache shared between
+   *     links may use, or empty if links shouldn't use one.
+   */
+  public Optional<Integer> getThinLTOCacheMaxSizePercent() {
+    if (!delegate.getBooleanValue(cxxSection, THINLTO_CACHE, false)) {
+      return Optional.empty();
+    }
+    int percent = delegate.getInteger(cxxSection, THINLTO_CACHE_MAX_SIZE_PERCENT).orElse(10);
+    if (percent < 1 || percent > 100) {
+      throw new HumanReadableException(
+          "%s.%s must be between 1 and 100, got %d",
+          cxxSection, THINLTO_CACHE_MAX_SIZE_PERCENT, percent);
+    }
+    return Optional.of(percent);
+  }
+
   public boolean shouldCacheStrip() {
     return delegate.getBooleanValue(cxxSection, CACHE_STRIPS, true);
   }
@@ -480,6 +504,11 @@ public class CxxBuckConfig {
     return delegate.getEnum(cxxSection, ARCHIVE_CONTENTS, ArchiveContents.class);
   }
 
+  /** @return whether thin archives should be written by buck itself rather than by `ar`. */
+  public boolean getNativeThinArchives() {
+    return delegate.getBooleanValue(cxxSection, NATIVE_THIN_ARCHIVES, false);
+  }
+
   public ImmutableMap<String, Flavor> getDefaultFlavorsForRuleType(RuleType type) {
     return ImmutableMap.copyOf(
         Maps.transformValues(
@@ -611,6 +640,24 @@ public class CxxBuckConfig {
     return delegate.getBooleanValue(cxxSection, FILEPATH_LENGTH_LIMITED, false);
   }
 
+  /** @return whether precompiled headers may be stored in and fetched from the artifact cache. */
+  public boolean getCachePrecompiledHeaders() {
+    return delegate.getBooleanValue(cxxSection, CACHE_PRECOMPILED_HEADERS, false);
+  }
+
+  /** @return the server to send compilations to, instead of running the compiler for each one. */
+  public Optional<CxxCompileServer> getCompileServer() {
+    return delegate
+        .getOptionalListWithoutComments(cxxSection, COMPILE_SERVER, ' ')
+        .map(
+            command ->
+                new CxxCompileServer(
+                    command,
+                    delegate
+                        .getInteger(cxxSection, COMPILE_SERVER_MAX_WORKERS)
+                        .orElse(Runtime.getRuntime().availableProcessors())));
+  }
+
   public BuckConfig getDelegate() {
     return delegate;
   }
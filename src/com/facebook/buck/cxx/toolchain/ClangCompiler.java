@@ -69,6 +69,13 @@ public class ClangCompiler extends DefaultCompiler {
     return ImmutableList.of("-Xclang", "-fdebug-compilation-dir", "-Xclang", altCompilationDir);
   }
 
+  @Override
+  public ImmutableList<String> getFlagsForCacheablePrecompiledHeader() {
+    // Clang checks the mtime of every header recorded in a PCH against the file on disk, which
+    // never matches once the PCH comes from the cache.
+    return ImmutableList.of("-Xclang", "-fno-pch-timestamp");
+  }
+
   @Override
   public Optional<ImmutableList<String>> getFlagsForColorDiagnostics() {
     // We invoke asm compiler as clang but asm compiler doesn't support color diagnostics flag.
@@ -56,6 +56,18 @@ public class ClangPreprocessor extends DelegatingTool implements Preprocessor {
         Iterables.transform(includeRoots, PathFormatter::pathWithUnixSeparators));
   }
 
+  @Override
+  public boolean supportsVfsOverlays() {
+    return true;
+  }
+
+  @Override
+  public final Iterable<String> vfsOverlayArgs(Iterable<String> overlays) {
+    return MoreIterables.zipAndConcat(
+        Iterables.cycle("-ivfsoverlay"),
+        Iterables.transform(overlays, PathFormatter::pathWithUnixSeparators));
+  }
+
   @Override
   public final Iterable<String> prefixHeaderArgs(Path prefixHeader) {
     Preconditions.checkArgument(
@@ -31,4 +31,10 @@ public class ClangWindowsPreprocessor extends ClangPreprocessor implements Prepr
   public boolean supportsHeaderMaps() {
     return false;
   }
+
+  @Override
+  // Like header maps, VFS overlays are not known to work with clang on Windows.
+  public boolean supportsVfsOverlays() {
+    return false;
+  }
 }
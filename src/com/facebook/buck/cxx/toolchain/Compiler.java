@@ -44,6 +44,12 @@ public interface Compiler extends Tool {
 
   ImmutableList<String> getPdcFlags();
 
+  /**
+   * @return flags which keep a generated precompiled header usable when it is fetched from the
+   *     artifact cache rather than built locally.
+   */
+  ImmutableList<String> getFlagsForCacheablePrecompiledHeader();
+
   DependencyTrackingMode getDependencyTrackingMode();
 
   boolean shouldSanitizeOutputBinary();
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.cxx.toolchain;
+
+import com.facebook.buck.core.rulekey.AddToRuleKey;
+import com.facebook.buck.core.rulekey.AddsToRuleKey;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * A long running process which compiles sources on behalf of Buck, using the worker protocol.
+ *
+ * <p>Each job sent to the server is the compiler command line that Buck would otherwise have run
+ * itself, shell-quoted, relative to the project root and preceded by {@code env} and the variables
+ * the compilation sets, so that the server may keep compiler state such as parsed headers around
+ * between sources. Jobs are sent as soon as they are ready, so the server may also batch them. The
+ * server is expected to write the same object and dependency files that command would have.
+ */
+public final class CxxCompileServer implements AddsToRuleKey {
+
+  @AddToRuleKey private final ImmutableList<String> command;
+  @AddToRuleKey private final int maxWorkers;
+
+  public CxxCompileServer(ImmutableList<String> command, int maxWorkers) {
+    Preconditions.checkArgument(!command.isEmpty(), "compile server command must not be empty");
+    Preconditions.checkArgument(maxWorkers > 0, "compile server needs at least one worker");
+    this.command = command;
+    this.maxWorkers = maxWorkers;
+  }
+
+  /** @return the command which starts a server process. */
+  public ImmutableList<String> getCommand() {
+    return command;
+  }
+
+  /** @return how many server processes may run at once. */
+  public int getMaxWorkers() {
+    return maxWorkers;
+  }
+}
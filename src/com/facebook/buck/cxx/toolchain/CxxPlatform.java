@@ -101,6 +101,15 @@ public interface CxxPlatform extends FlavorConvertible {
 
   ArchiveContents getArchiveContents();
 
+  /**
+   * @return whether thin archives for this platform are written by buck, along with their symbol
+   *     index, instead of by running `ar` and `ranlib`
+   */
+  @Value.Default
+  default boolean getNativeThinArchives() {
+    return false;
+  }
+
   ImmutableList<Arg> getArflags();
 
   Optional<ToolProvider> getRanlib();
@@ -168,6 +177,15 @@ public interface CxxPlatform extends FlavorConvertible {
     return false;
   }
 
+  /** @return whether precompiled headers may be stored in and fetched from the artifact cache */
+  @Value.Default
+  default boolean getCachePrecompiledHeaders() {
+    return false;
+  }
+
+  /** @return the server to send compilations to, instead of running the compiler for each one */
+  Optional<CxxCompileServer> getCompileServer();
+
   static Builder builder() {
     return new Builder();
   }
@@ -75,6 +75,11 @@ public abstract class DefaultCompiler extends DelegatingTool implements Compiler
     return ImmutableList.of();
   }
 
+  @Override
+  public ImmutableList<String> getFlagsForCacheablePrecompiledHeader() {
+    return ImmutableList.of();
+  }
+
   @Override
   public ImmutableList<String> getPicFlags() {
     return ImmutableList.of("-fPIC");
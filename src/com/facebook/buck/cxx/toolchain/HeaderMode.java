@@ -44,6 +44,11 @@ public enum HeaderMode implements FlavorConvertible {
    * the same name as the library.
    */
   SYMLINK_TREE_WITH_UMBRELLA_HEADER_MODULEMAP,
+  /**
+   * Creates a clang VFS overlay that places the headers in the source tree at the paths they would
+   * have in the tree of symbolic links, without creating any links on disk.
+   */
+  VFS_OVERLAY,
   ;
 
   private final Flavor flavor;
@@ -89,6 +94,7 @@ public enum HeaderMode implements FlavorConvertible {
       case SYMLINK_TREE_ONLY:
       case SYMLINK_TREE_WITH_HEADER_MAP:
       case HEADER_MAP_ONLY:
+      case VFS_OVERLAY:
         return false;
       case SYMLINK_TREE_WITH_HEADERS_MODULEMAP:
       case SYMLINK_TREE_WITH_UMBRELLA_HEADER_MODULEMAP:
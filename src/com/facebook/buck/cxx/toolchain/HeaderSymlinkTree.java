@@ -52,4 +52,13 @@ public class HeaderSymlinkTree extends MappedSymlinkTree {
   public Optional<SourcePath> getHeaderMapSourcePath() {
     return Optional.empty();
   }
+
+  /**
+   * Get path to a clang VFS overlay that maps the files of the tree onto their paths under {@link
+   * #getRoot()}. If present, nothing is written under the root and the overlay has to be passed to
+   * the preprocessor.
+   */
+  public Optional<SourcePath> getVfsOverlaySourcePath() {
+    return Optional.empty();
+  }
 }
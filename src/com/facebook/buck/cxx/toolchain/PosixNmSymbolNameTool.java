@@ -18,6 +18,7 @@ package com.facebook.buck.cxx.toolchain;
 
 import com.facebook.buck.core.build.buildable.context.BuildableContext;
 import com.facebook.buck.core.build.context.BuildContext;
+import com.facebook.buck.core.build.execution.context.ExecutionContext;
 import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.model.TargetConfiguration;
 import com.facebook.buck.core.model.impl.BuildTargetPaths;
@@ -31,26 +32,30 @@ import com.facebook.buck.core.sourcepath.ExplicitBuildTargetSourcePath;
 import com.facebook.buck.core.sourcepath.SourcePath;
 import com.facebook.buck.core.toolchain.tool.Tool;
 import com.facebook.buck.core.toolchain.toolprovider.ToolProvider;
+import com.facebook.buck.cxx.toolchain.elf.ElfSymbols;
 import com.facebook.buck.io.BuildCellRelativePath;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
-import com.facebook.buck.shell.DefaultShellStep;
-import com.facebook.buck.shell.ShellStep;
+import com.facebook.buck.step.AbstractExecutionStep;
 import com.facebook.buck.step.Step;
+import com.facebook.buck.step.StepExecutionResult;
+import com.facebook.buck.step.StepExecutionResults;
 import com.facebook.buck.step.fs.MkdirStep;
-import com.facebook.buck.step.fs.WriteFileStep;
 import com.facebook.buck.util.ProcessExecutor;
-import com.google.common.base.Charsets;
+import com.facebook.buck.util.ProcessExecutorParams;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSortedSet;
-import com.google.common.io.ByteSource;
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.StringReader;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -129,69 +134,21 @@ public class PosixNmSymbolNameTool implements SymbolNameTool {
       // Cache the symbols file.
       buildableContext.recordArtifact(output);
 
-      // Run `nm` on the inputs.
-      ShellStep shellStep =
-          new DefaultShellStep(
-              getProjectFilesystem().getRootPath(),
-              ImmutableList.<String>builder()
-                  .addAll(nm.getCommandPrefix(context.getSourcePathResolver()))
-                  // Prepend all lines with the name of the input file to which it
-                  // corresponds.  Added only to make parsing the output a bit easier.
-                  .add("-A")
-                  // Generate output in a portable output format.
-                  .add("-P")
-                  // Only list external symbols.
-                  .add("-g")
-                  // Only list undefined symbols.
-                  .add("-u")
-                  .addAll(
-                      StreamSupport.stream(inputs.spliterator(), false)
-                          .map(context.getSourcePathResolver()::getAbsolutePath)
-                          .map(Object::toString)
-                          .iterator())
-                  .build(),
-              nm.getEnvironment(context.getSourcePathResolver())) {
-            @Override
-            protected void addOptions(ImmutableSet.Builder<ProcessExecutor.Option> options) {
-              options.add(ProcessExecutor.Option.EXPECTING_STD_OUT);
-            }
-          };
-
-      // Parse the output from running `nm` and write all symbols to the symbol file.
       MkdirStep mkdirStep =
           MkdirStep.of(
               BuildCellRelativePath.fromCellRelativePath(
                   context.getBuildCellRootPath(), getProjectFilesystem(), output.getParent()));
-      WriteFileStep writeFileStep =
-          new WriteFileStep(
+      UndefinedSymbolsStep symbolsStep =
+          new UndefinedSymbolsStep(
               getProjectFilesystem(),
-              new ByteSource() {
-                @Override
-                public InputStream openStream() throws IOException {
-                  Set<String> symbols = new LinkedHashSet<>();
-                  Pattern pattern = Pattern.compile("^\\S+: (?<name>\\S+) .*");
-                  try (BufferedReader reader =
-                      new BufferedReader(new StringReader(shellStep.getStdout()))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                      Matcher matcher = pattern.matcher(line);
-                      if (matcher.matches()) {
-                        symbols.add(matcher.group("name"));
-                      }
-                    }
-                  }
-                  StringBuilder builder = new StringBuilder();
-                  for (String symbol : symbols) {
-                    builder.append(symbol);
-                    builder.append(System.lineSeparator());
-                  }
-                  return new ByteArrayInputStream(builder.toString().getBytes(Charsets.UTF_8));
-                }
-              },
-              output,
-              /* executable */ true);
-
-      return ImmutableList.of(shellStep, mkdirStep, writeFileStep);
+              nm.getCommandPrefix(context.getSourcePathResolver()),
+              nm.getEnvironment(context.getSourcePathResolver()),
+              StreamSupport.stream(inputs.spliterator(), false)
+                  .map(context.getSourcePathResolver()::getAbsolutePath)
+                  .collect(ImmutableList.toImmutableList()),
+              output);
+
+      return ImmutableList.of(mkdirStep, symbolsStep);
     }
 
     @Override
@@ -199,4 +156,109 @@ public class PosixNmSymbolNameTool implements SymbolNameTool {
       return ExplicitBuildTargetSourcePath.of(getBuildTarget(), getUndefinedSymbolsPath());
     }
   }
+
+  /**
+   * Writes all external undefined symbols of the given inputs to a file, one per line.
+   *
+   * <p>ELF inputs have their symbol tables read in-process, in parallel, which avoids running `nm`
+   * and parsing its text output for the common case.  Any other inputs (e.g. archives or Mach-O
+   * objects) are still passed to `nm`.
+   */
+  private static class UndefinedSymbolsStep extends AbstractExecutionStep {
+
+    private static final Pattern NM_OUTPUT_PATTERN = Pattern.compile("^\\S+: (?<name>\\S+) .*");
+
+    private final ProjectFilesystem filesystem;
+    private final ImmutableList<String> nmCommandPrefix;
+    private final ImmutableMap<String, String> nmEnvironment;
+    private final ImmutableList<Path> inputs;
+    private final Path output;
+
+    UndefinedSymbolsStep(
+        ProjectFilesystem filesystem,
+        ImmutableList<String> nmCommandPrefix,
+        ImmutableMap<String, String> nmEnvironment,
+        ImmutableList<Path> inputs,
+        Path output) {
+      super("undefined-symbols");
+      this.filesystem = filesystem;
+      this.nmCommandPrefix = nmCommandPrefix;
+      this.nmEnvironment = nmEnvironment;
+      this.inputs = inputs;
+      this.output = output;
+    }
+
+    @Override
+    public StepExecutionResult execute(ExecutionContext context)
+        throws IOException, InterruptedException {
+      List<Path> elfInputs = new ArrayList<>();
+      List<Path> otherInputs = new ArrayList<>();
+      for (Path input : inputs) {
+        if (ElfSymbols.isElf(input)) {
+          elfInputs.add(input);
+        } else {
+          otherInputs.add(input);
+        }
+      }
+
+      Set<String> symbols = new LinkedHashSet<>();
+      for (ElfSymbols elfSymbols : ElfSymbols.readAll(elfInputs, ElfSymbols.Table.STATIC)) {
+        symbols.addAll(elfSymbols.undefined);
+      }
+
+      if (!otherInputs.isEmpty()) {
+        Map<String, String> environment = new HashMap<>(context.getEnvironment());
+        environment.putAll(nmEnvironment);
+        ProcessExecutor.Result result =
+            context
+                .getProcessExecutor()
+                .launchAndExecute(
+                    ProcessExecutorParams.builder()
+                        .setCommand(
+                            ImmutableList.<String>builder()
+                                .addAll(nmCommandPrefix)
+                                // Prepend all lines with the name of the input file to which it
+                                // corresponds.  Added only to make parsing the output a bit easier.
+                                .add("-A")
+                                // Generate output in a portable output format.
+                                .add("-P")
+                                // Only list external symbols.
+                                .add("-g")
+                                // Only list undefined symbols.
+                                .add("-u")
+                                .addAll(otherInputs.stream().map(Object::toString).iterator())
+                                .build())
+                        .setEnvironment(ImmutableMap.copyOf(environment))
+                        .setDirectory(filesystem.getRootPath().getPath())
+                        .build(),
+                    EnumSet.of(ProcessExecutor.Option.EXPECTING_STD_OUT),
+                    Optional.empty(),
+                    Optional.empty(),
+                    Optional.empty());
+        if (result.getExitCode() != 0) {
+          return StepExecutionResult.of(result);
+        }
+
+        // Parse the output from running `nm`.
+        try (BufferedReader reader =
+            new BufferedReader(new StringReader(result.getStdout().orElse("")))) {
+          String line;
+          while ((line = reader.readLine()) != null) {
+            Matcher matcher = NM_OUTPUT_PATTERN.matcher(line);
+            if (matcher.matches()) {
+              symbols.add(matcher.group("name"));
+            }
+          }
+        }
+      }
+
+      StringBuilder builder = new StringBuilder();
+      for (String symbol : symbols) {
+        builder.append(symbol);
+        builder.append(System.lineSeparator());
+      }
+      filesystem.writeContentsToPath(builder.toString(), output);
+      return StepExecutionResults.SUCCESS;
+    }
+  }
 }
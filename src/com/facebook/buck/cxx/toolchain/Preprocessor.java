@@ -43,4 +43,16 @@ public interface Preprocessor extends Tool {
   default Iterable<String> prefixOrPCHArgs(boolean precompiled, Path path) {
     return precompiled ? precompiledHeaderArgs(path) : prefixHeaderArgs(path);
   }
+
+  /** @return whether headers can be laid out for this preprocessor with a clang VFS overlay. */
+  default boolean supportsVfsOverlays() {
+    return false;
+  }
+
+  /** @return the arguments that apply the given VFS overlay files. */
+  default Iterable<String> vfsOverlayArgs(Iterable<String> overlays) {
+    throw new UnsupportedOperationException(
+        String.format(
+            "%s does not support VFS overlays: %s", getClass().getSimpleName(), overlays));
+  }
 }
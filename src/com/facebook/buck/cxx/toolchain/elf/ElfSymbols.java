@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.cxx.toolchain.elf;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Charsets;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * The symbols of an ELF file, read in-process from its memory-mapped symbol table rather than by
+ * parsing the text output of `nm` or `objdump`.
+ *
+ * <p>Results are cached by the hash of the file contents, so the same library or object file seen
+ * by several rules (e.g. by every relinker rule for a given CPU) is only parsed once.
+ */
+public class ElfSymbols {
+
+  private static final int MAX_CACHED_FILES = 1024;
+
+  private static final Cache<HashCode, ElfSymbols> CACHE =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHED_FILES).build();
+
+  // Symbol binding and section index values from the ELF spec which we care about here.  We read
+  // these as raw values, as OS-specific bindings (e.g. STB_GNU_UNIQUE) aren't modeled by
+  // `ElfSymbolTable.Entry.Info`.
+  private static final int STB_LOCAL = 0;
+  private static final int STB_GLOBAL = 1;
+  private static final int STB_GNU_UNIQUE = 10;
+  private static final int SHN_UNDEF = 0;
+
+  /** Which of the symbol tables in the ELF file to read. */
+  public enum Table {
+    /** The `.dynsym` table, as listed by `objdump -T`. */
+    DYNAMIC(ElfSectionHeader.SHType.SHT_DYNSYM),
+    /** The `.symtab` table, as listed by `objdump -t` or `nm`. */
+    STATIC(ElfSectionHeader.SHType.SHT_SYMTAB),
+    ;
+
+    private final ElfSectionHeader.SHType sectionType;
+
+    Table(ElfSectionHeader.SHType sectionType) {
+      this.sectionType = sectionType;
+    }
+  }
+
+  /** Named symbols which aren't defined in this file. */
+  public final ImmutableSet<String> undefined;
+
+  /** Named symbols defined in this file with global (or GNU unique) binding. */
+  public final ImmutableSet<String> global;
+
+  /** Named symbols defined in this file with any non-local binding, including weak ones. */
+  public final ImmutableSet<String> external;
+
+  /** All named symbols, whether defined or not. */
+  public final ImmutableSet<String> all;
+
+  @VisibleForTesting
+  ElfSymbols(
+      ImmutableSet<String> undefined,
+      ImmutableSet<String> global,
+      ImmutableSet<String> external,
+      ImmutableSet<String> all) {
+    this.undefined = undefined;
+    this.global = global;
+    this.external = external;
+    this.all = all;
+  }
+
+  /** @return the symbols in the given table of the ELF file at {@code path}. */
+  public static ElfSymbols read(Path path, Table table) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = map(path, channel);
+      HashCode hash =
+          Hashing.murmur3_128()
+              .newHasher()
+              .putString(table.name(), Charsets.UTF_8)
+              .putBytes(buffer.duplicate())
+              .hash();
+      try {
+        return CACHE.get(hash, () -> parse(new Elf(buffer), table));
+      } catch (ExecutionException e) {
+        throw new IOException(
+            String.format("Error parsing ELF file %s: %s", path, e.getCause().getMessage()),
+            e.getCause());
+      }
+    }
+  }
+
+  /**
+   * Reads the symbols in the given table of the ELF file at {@code path}, bypassing the cache.
+   *
+   * <p>Unlike {@link #read(Path, Table)}, this only touches the pages of the file holding the
+   * section headers and symbols, so it's preferable for files which are unlikely to be seen again.
+   */
+  public static ElfSymbols readUncached(Path path, Table table) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return parse(new Elf(map(path, channel)), table);
+    }
+  }
+
+  /**
+   * Reads the given table from all of the given ELF files, in parallel.
+   *
+   * @return the symbols of each file, in the same order as {@code paths}.
+   */
+  public static ImmutableList<ElfSymbols> readAll(List<Path> paths, Table table)
+      throws IOException {
+    return readAll(paths, table, true);
+  }
+
+  /**
+   * Reads the given table from all of the given ELF files, in parallel, optionally bypassing the
+   * cache.
+   *
+   * @return the symbols of each file, in the same order as {@code paths}.
+   */
+  public static ImmutableList<ElfSymbols> readAll(List<Path> paths, Table table, boolean cached)
+      throws IOException {
+    try {
+      return paths
+          .parallelStream()
+          .map(
+              path -> {
+                try {
+                  return cached ? read(path, table) : readUncached(path, table);
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              })
+          .collect(Collectors.collectingAndThen(Collectors.toList(), ImmutableList::copyOf));
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private static MappedByteBuffer map(Path path, FileChannel channel) throws IOException {
+    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    if (!Elf.isElf(buffer)) {
+      throw new IOException(String.format("Error parsing ELF file %s: bad magic", path));
+    }
+    return buffer;
+  }
+
+  /** @return whether the file at the given path is an ELF file. */
+  public static boolean isElf(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer magic = ByteBuffer.allocate(ElfHeader.EI_NIDENT);
+      channel.read(magic);
+      magic.flip();
+      return Elf.isElf(magic);
+    }
+  }
+
+  @VisibleForTesting
+  static ElfSymbols parse(Elf elf, Table table) {
+    ImmutableSet.Builder<String> undefined = ImmutableSet.builder();
+    ImmutableSet.Builder<String> global = ImmutableSet.builder();
+    ImmutableSet.Builder<String> external = ImmutableSet.builder();
+    ImmutableSet.Builder<String> all = ImmutableSet.builder();
+
+    Optional<ElfSection> symbolTable = findSection(elf, table.sectionType);
+    if (symbolTable.isPresent()) {
+      ElfSection section = symbolTable.get();
+      ElfSection strings = elf.getSectionByIndex((int) section.header.sh_link);
+      ByteBuffer body = section.body;
+      boolean is32 = elf.header.ei_class == ElfHeader.EIClass.ELFCLASS32;
+      int entrySize = (int) section.header.sh_entsize;
+      // Skip the reserved null entry at index zero.
+      for (int offset = entrySize; offset + entrySize <= body.limit(); offset += entrySize) {
+        long name = body.getInt(offset) & 0xFFFFFFFFL;
+        if (name == 0) {
+          continue;
+        }
+        int info = body.get(offset + (is32 ? 12 : 4)) & 0xFF;
+        int shndx = body.getShort(offset + (is32 ? 14 : 6)) & 0xFFFF;
+        int bind = info >> 4;
+
+        String symbol = strings.lookupString(name);
+        if (symbol.isEmpty()) {
+          continue;
+        }
+        if (shndx == SHN_UNDEF) {
+          if (bind != STB_LOCAL) {
+            undefined.add(symbol);
+          }
+        } else if (bind != STB_LOCAL) {
+          external.add(symbol);
+          if (bind == STB_GLOBAL || bind == STB_GNU_UNIQUE) {
+            global.add(symbol);
+          }
+        }
+        all.add(symbol);
+      }
+    }
+
+    return new ElfSymbols(undefined.build(), global.build(), external.build(), all.build());
+  }
+
+  private static Optional<ElfSection> findSection(Elf elf, ElfSectionHeader.SHType type) {
+    for (int index = 0; index < elf.getNumberOfSections(); index++) {
+      ElfSection section = elf.getSectionByIndex(index);
+      if (section.header.sh_type == type) {
+        return Optional.of(section);
+      }
+    }
+    return Optional.empty();
+  }
+}
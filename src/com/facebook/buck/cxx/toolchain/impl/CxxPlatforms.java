@@ -194,7 +194,10 @@ public class CxxPlatforms {
         .setConflictingHeaderBasenameWhitelist(config.getConflictingHeaderBasenameWhitelist())
         .setHeaderMode(config.getHeaderMode())
         .setUseArgFile(config.getUseArgFile())
-        .setFilepathLengthLimited(config.getFilepathLengthLimited());
+        .setFilepathLengthLimited(config.getFilepathLengthLimited())
+        .setCachePrecompiledHeaders(config.getCachePrecompiledHeaders())
+        .setCompileServer(config.getCompileServer())
+        .setNativeThinArchives(config.getNativeThinArchives());
 
     builder.setSymbolNameTool(
         config.getNm().<SymbolNameTool>map(PosixNmSymbolNameTool::new).orElse(nm));
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.cxx.toolchain.linker;
+
+import com.facebook.buck.rules.args.Arg;
+import com.google.common.collect.ImmutableList;
+import java.nio.file.Path;
+
+/** Indicates a linker can keep ThinLTO backend results in a cache shared between links. */
+public interface HasThinLTOCache {
+
+  /**
+   * @return the platform-specific way to keep thin lto backend results in a cache shared between
+   *     links, so unchanged modules aren't optimized and code generated again.
+   * @param cacheDir the directory of the cache
+   * @param maxSizePercent how much of the free space on the disk the cache may use, in percent
+   * @param linkerFlags the other flags of the link, which may select the linker that is run
+   */
+  Iterable<Arg> thinLTOCache(
+      Path cacheDir, int maxSizePercent, ImmutableList<String> linkerFlags);
+}
@@ -27,6 +27,7 @@ import com.facebook.buck.core.toolchain.tool.Tool;
 import com.facebook.buck.cxx.toolchain.linker.HasIncrementalThinLTO;
 import com.facebook.buck.cxx.toolchain.linker.HasLTO;
 import com.facebook.buck.cxx.toolchain.linker.HasLinkerMap;
+import com.facebook.buck.cxx.toolchain.linker.HasThinLTOCache;
 import com.facebook.buck.cxx.toolchain.linker.Linker;
 import com.facebook.buck.cxx.toolchain.objectfile.LcUuidContentsScrubber;
 import com.facebook.buck.cxx.toolchain.objectfile.OsoSymbolsContentsScrubber;
@@ -52,7 +53,7 @@ import java.util.function.Consumer;
  * A specialization of {@link Linker} containing information specific to the Darwin implementation.
  */
 public class DarwinLinker extends DelegatingTool
-    implements Linker, HasLinkerMap, HasIncrementalThinLTO, HasLTO {
+    implements Linker, HasLinkerMap, HasIncrementalThinLTO, HasLTO, HasThinLTOCache {
 
   private final boolean cacheLinks;
   private final boolean scrubConcurrently;
@@ -121,6 +122,20 @@ public class DarwinLinker extends DelegatingTool
     return Paths.get(output + "-lto");
   }
 
+  @Override
+  public Iterable<Arg> thinLTOCache(
+      Path cacheDir, int maxSizePercent, ImmutableList<String> linkerFlags) {
+    return StringArg.from(
+        "-Xlinker",
+        "-cache_path_lto",
+        "-Xlinker",
+        cacheDir.toString(),
+        "-Xlinker",
+        "-max_relative_cache_size_lto",
+        "-Xlinker",
+        Integer.toString(maxSizePercent));
+  }
+
   @Override
   public Iterable<String> soname(String arg) {
     return Linkers.iXlinker("-install_name", "@rpath/" + arg);
@@ -31,6 +31,7 @@ import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
 import com.facebook.buck.core.toolchain.tool.DelegatingTool;
 import com.facebook.buck.core.toolchain.tool.Tool;
 import com.facebook.buck.cxx.toolchain.linker.HasIncrementalThinLTO;
+import com.facebook.buck.cxx.toolchain.linker.HasThinLTOCache;
 import com.facebook.buck.cxx.toolchain.linker.Linker;
 import com.facebook.buck.io.BuildCellRelativePath;
 import com.facebook.buck.io.file.FileScrubber;
@@ -57,7 +58,8 @@ import java.util.Optional;
 import java.util.Set;
 
 /** A specialization of {@link Linker} containing information specific to the GNU implementation. */
-public class GnuLinker extends DelegatingTool implements Linker, HasIncrementalThinLTO {
+public class GnuLinker extends DelegatingTool
+    implements Linker, HasIncrementalThinLTO, HasThinLTOCache {
   public GnuLinker(Tool tool) {
     super(tool);
   }
@@ -84,6 +86,44 @@ public class GnuLinker extends DelegatingTool implements Linker, HasIncrementalT
         "thinlto-prefix-replace=;" + output.toString());
   }
 
+  /**
+   * lld takes its own flags for the cache. gold and bfd run ThinLTO through the LLVM gold plugin,
+   * which takes the same settings as plugin options.
+   */
+  @Override
+  public Iterable<Arg> thinLTOCache(
+      Path cacheDir, int maxSizePercent, ImmutableList<String> linkerFlags) {
+    String policy = "cache_size=" + maxSizePercent + "%";
+    if (usesLld(linkerFlags)) {
+      return StringArg.from(
+          "-Xlinker",
+          "--thinlto-cache-dir=" + cacheDir,
+          "-Xlinker",
+          "--thinlto-cache-policy=" + policy);
+    }
+    return StringArg.from(
+        "-Xlinker",
+        "-plugin-opt",
+        "-Xlinker",
+        "cache-dir=" + cacheDir,
+        "-Xlinker",
+        "-plugin-opt",
+        "-Xlinker",
+        "cache-policy=" + policy);
+  }
+
+  /** @return whether the last {@code -fuse-ld} flag, if any, makes the compiler driver run lld. */
+  private static boolean usesLld(ImmutableList<String> linkerFlags) {
+    String fuseLd = "";
+    for (String flag : linkerFlags) {
+      if (flag.startsWith("-fuse-ld=")) {
+        fuseLd = flag.substring("-fuse-ld=".length());
+      }
+    }
+    // Either a name, like lld, or the path of the linker, like /usr/bin/ld.lld.
+    return fuseLd.substring(fuseLd.lastIndexOf('/') + 1).contains("lld");
+  }
+
   @Override
   public Iterable<String> soname(String arg) {
     return Linkers.iXlinker("-soname", arg);
@@ -113,6 +113,12 @@ public abstract class BuckPaths {
     return getBuckOut().resolve("cache");
   }
 
+  /** The cache which linkers keep ThinLTO backend results in, apart from the artifact cache. */
+  @Value.Derived
+  public Path getThinLTOCacheDir() {
+    return getBuckOut().resolve("thinlto-cache");
+  }
+
   @Value.Derived
   public Path getTmpDir() {
     return getBuckOut().resolve("tmp");
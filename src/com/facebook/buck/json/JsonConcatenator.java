@@ -19,59 +19,75 @@ package com.facebook.buck.json;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSortedSet;
-import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.nio.file.StandardCopyOption;
 
+/**
+ * Concatenates files which each hold a JSON array into a single array.
+ *
+ * <p>The inputs (e.g. per-target compilation databases) can be very large in aggregate, so rather
+ * than parsing them, or even loading them into memory, the bytes between the outermost brackets of
+ * each input are streamed straight into the output. The output is written to a temporary file and
+ * moved into place once complete, so readers (e.g. IDEs) never see a partially written array.
+ */
 @VisibleForTesting
 class JsonConcatenator {
 
+  private static final int BUFFER_SIZE = 64 * 1024;
+
   private final ProjectFilesystem filesystem;
-  private ImmutableSortedSet<Path> inputs;
+  private final ImmutableSortedSet<Path> inputs;
+  private final Path destination;
+  private final Path tempDestination;
 
-  private BufferedWriter destinationBufferedWriter;
+  private OutputStream destinationOutputStream;
   private boolean stillEmpty;
 
-  @VisibleForTesting static final String JSON_ENCODING = "UTF-8";
-
   public JsonConcatenator(
       ImmutableSortedSet<Path> inputs, Path destination, ProjectFilesystem filesystem)
       throws IOException {
+    this.filesystem = filesystem;
     this.inputs = inputs;
+    this.destination = destination;
+    this.tempDestination = destination.resolveSibling(destination.getFileName() + ".tmp");
     this.stillEmpty = true;
-    try {
-      this.destinationBufferedWriter =
-          new BufferedWriter(
-              new OutputStreamWriter(filesystem.newFileOutputStream(destination), JSON_ENCODING));
-    } catch (IOException e) {
-      closeAll();
-      throw e;
-    }
-    this.filesystem = filesystem;
+    this.destinationOutputStream = filesystem.newFileOutputStream(tempDestination);
   }
 
   public void closeAll() throws IOException {
-    if (destinationBufferedWriter != null) {
-      destinationBufferedWriter.close();
+    if (destinationOutputStream != null) {
+      destinationOutputStream.close();
+      destinationOutputStream = null;
     }
   }
 
   public void concatenate() throws IOException {
+    boolean success = false;
     try {
       initializeArray();
       for (Path input : inputs) {
-        appendArray(loadJsonArrayFromFile(input));
+        appendArray(input);
       }
+      success = true;
     } finally {
-      finalizeArray();
+      if (success) {
+        finalizeArray();
+      } else {
+        closeAll();
+        filesystem.deleteFileAtPathIfExists(tempDestination);
+      }
     }
   }
 
   @VisibleForTesting
   void initializeArray() throws IOException {
-    destinationBufferedWriter.write("[");
+    destinationOutputStream.write('[');
   }
 
   @VisibleForTesting
@@ -79,29 +95,131 @@ class JsonConcatenator {
     if (isArrayEmpty(array)) {
       return;
     }
+    writeSeparator();
+    destinationOutputStream.write(stripArrayTokens(array).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Appends the elements of the array in the given file in a single pass, holding back only the
+   * whitespace and closing bracket at the end of the array.
+   */
+  private void appendArray(Path input) throws IOException {
+    try (InputStream inputStream = filesystem.newFileInputStream(input)) {
+      ArrayContents contents = new ArrayContents();
+      byte[] buffer = new byte[BUFFER_SIZE];
+      boolean started = false;
+      int read;
+      while ((read = inputStream.read(buffer)) != -1) {
+        int offset = 0;
+        if (!started) {
+          while (offset < read && isWhitespace(buffer[offset])) {
+            offset++;
+          }
+          if (offset == read) {
+            continue;
+          }
+          if (buffer[offset] != '[') {
+            throw new IOException("Error loading " + input + ": not a JSON array");
+          }
+          started = true;
+          offset++;
+        }
+        contents.write(buffer, offset, read);
+      }
+      if (!contents.finish()) {
+        throw new IOException("Error loading " + input + ": not a JSON array");
+      }
+    } catch (NoSuchFileException e) {
+      throw new IOException("Error loading " + input, e);
+    }
+  }
+
+  /**
+   * Copies the bytes following an array's opening bracket to the output, dropping the closing
+   * bracket and any whitespace following it.
+   */
+  private class ArrayContents {
+
+    // Whitespace seen since the last byte that was written.
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    // Whitespace seen since a closing bracket that might end the array.
+    private final ByteArrayOutputStream afterBracket = new ByteArrayOutputStream();
+    private boolean holdingBracket = false;
+    private boolean written = false;
+
+    void write(byte[] buffer, int start, int end) throws IOException {
+      int run = start;
+      for (int i = start; i < end; i++) {
+        byte b = buffer[i];
+        if (!isWhitespace(b) && b != ']' && !holdingBracket && pending.size() == 0) {
+          continue;
+        }
+        writeContents(buffer, run, i);
+        run = i + 1;
+        if (isWhitespace(b)) {
+          (holdingBracket ? afterBracket : pending).write(b);
+          continue;
+        }
+        if (holdingBracket) {
+          pending.write(']');
+          afterBracket.writeTo(pending);
+          afterBracket.reset();
+          holdingBracket = false;
+        }
+        if (b == ']') {
+          holdingBracket = true;
+        } else {
+          run = i;
+        }
+      }
+      writeContents(buffer, run, end);
+    }
+
+    private void writeContents(byte[] buffer, int start, int end) throws IOException {
+      if (start == end) {
+        return;
+      }
+      if (!written) {
+        writeSeparator();
+        written = true;
+      }
+      pending.writeTo(destinationOutputStream);
+      pending.reset();
+      destinationOutputStream.write(buffer, start, end - start);
+    }
+
+    /** @return whether the array was properly closed. */
+    boolean finish() throws IOException {
+      if (holdingBracket && written) {
+        pending.writeTo(destinationOutputStream);
+      }
+      return holdingBracket;
+    }
+  }
+
+  private void writeSeparator() throws IOException {
     if (!stillEmpty) {
-      destinationBufferedWriter.write(",");
+      destinationOutputStream.write(',');
     }
-    destinationBufferedWriter.write(stripArrayTokens(array));
     stillEmpty = false;
   }
 
   @VisibleForTesting
   void finalizeArray() throws IOException {
     try {
-      destinationBufferedWriter.write("]");
+      destinationOutputStream.write(']');
     } finally {
       closeAll();
     }
+    filesystem.move(
+        tempDestination,
+        destination,
+        StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
   }
 
-  private String loadJsonArrayFromFile(Path input) throws IOException {
-    Optional<String> result = filesystem.readFileIfItExists(input);
-    if (result.isPresent()) {
-      return result.get();
-    } else {
-      throw new IOException("Error loading " + input);
-    }
+  private static boolean isWhitespace(byte b) {
+    return b == ' ' || b == '\t' || b == '\n' || b == '\r' || b == '\f' || b == 0x0B;
   }
 
   @VisibleForTesting
@@ -19,6 +19,9 @@ package com.facebook.buck.jvm.java;
 import com.facebook.buck.core.build.context.BuildContext;
 import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.rulekey.AddToRuleKey;
+import com.facebook.buck.core.rulekey.DefaultFieldInputs;
+import com.facebook.buck.core.rulekey.DefaultFieldSerialization;
+import com.facebook.buck.core.rulekey.ExcludeFromRuleKey;
 import com.facebook.buck.core.rules.SourcePathRuleFinder;
 import com.facebook.buck.core.rules.attr.BuildOutputInitializer;
 import com.facebook.buck.core.rules.attr.InitializableFromDisk;
@@ -50,7 +53,8 @@ public class CalculateClassAbi extends ModernBuildRule<CalculateClassAbi.Impl>
       ProjectFilesystem projectFilesystem,
       SourcePathRuleFinder ruleFinder,
       SourcePath binaryJar,
-      AbiGenerationMode compatibilityMode) {
+      AbiGenerationMode compatibilityMode,
+      boolean cacheStubs) {
     super(
         buildTarget,
         projectFilesystem,
@@ -58,6 +62,7 @@ public class CalculateClassAbi extends ModernBuildRule<CalculateClassAbi.Impl>
         new Impl(
             binaryJar,
             compatibilityMode,
+            cacheStubs,
             projectFilesystem,
             String.format("%s-abi.jar", buildTarget.getShortName())));
     this.javaAbiInfo = new DefaultJavaAbiInfo(getSourcePathToOutput());
@@ -78,7 +83,22 @@ public class CalculateClassAbi extends ModernBuildRule<CalculateClassAbi.Impl>
       ProjectFilesystem projectFilesystem,
       SourcePath library,
       AbiGenerationMode compatibilityMode) {
-    return new CalculateClassAbi(target, projectFilesystem, ruleFinder, library, compatibilityMode);
+    return of(target, ruleFinder, projectFilesystem, library, compatibilityMode, false);
+  }
+
+  /**
+   * @param cacheStubs whether to reuse the stubs of unchanged classes across builds in this
+   *     process. The ABI jar is the same either way.
+   */
+  public static CalculateClassAbi of(
+      BuildTarget target,
+      SourcePathRuleFinder ruleFinder,
+      ProjectFilesystem projectFilesystem,
+      SourcePath library,
+      AbiGenerationMode compatibilityMode,
+      boolean cacheStubs) {
+    return new CalculateClassAbi(
+        target, projectFilesystem, ruleFinder, library, compatibilityMode, cacheStubs);
   }
 
   /** CalculateClassAbi's buildable implementation required by MBR */
@@ -91,15 +111,23 @@ public class CalculateClassAbi extends ModernBuildRule<CalculateClassAbi.Impl>
      */
     @AddToRuleKey private final AbiGenerationMode compatibilityMode;
 
+    @ExcludeFromRuleKey(
+        reason = "Cached stubs are identical to freshly generated ones.",
+        serialization = DefaultFieldSerialization.class,
+        inputs = DefaultFieldInputs.class)
+    private final boolean cacheStubs;
+
     @AddToRuleKey private final OutputPath output;
 
     Impl(
         SourcePath binaryJar,
         AbiGenerationMode compatibilityMode,
+        boolean cacheStubs,
         ProjectFilesystem projectFilesystem,
         String outputFileName) {
       this.binaryJar = binaryJar;
       this.compatibilityMode = compatibilityMode;
+      this.cacheStubs = cacheStubs;
       this.output = new OutputPath(projectFilesystem.getPath(outputFileName));
     }
 
@@ -114,7 +142,8 @@ public class CalculateClassAbi extends ModernBuildRule<CalculateClassAbi.Impl>
               filesystem,
               buildContext.getSourcePathResolver().getAbsolutePath(binaryJar),
               outputPathResolver.resolvePath(output),
-              compatibilityMode));
+              compatibilityMode,
+              cacheStubs));
     }
   }
 
@@ -19,6 +19,7 @@ package com.facebook.buck.jvm.java;
 import com.facebook.buck.core.build.execution.context.ExecutionContext;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.jvm.java.abi.AbiGenerationMode;
+import com.facebook.buck.jvm.java.abi.ClassAbiStubCache;
 import com.facebook.buck.jvm.java.abi.StubJar;
 import com.facebook.buck.step.Step;
 import com.facebook.buck.step.StepExecutionResult;
@@ -32,23 +33,37 @@ public class CalculateClassAbiStep implements Step {
   private final Path binaryJar;
   private final Path abiJar;
   private final AbiGenerationMode compatibilityMode;
+  private final boolean cacheStubs;
 
   public CalculateClassAbiStep(
       ProjectFilesystem filesystem,
       Path binaryJar,
       Path abiJar,
       AbiGenerationMode compatibilityMode) {
+    this(filesystem, binaryJar, abiJar, compatibilityMode, false);
+  }
+
+  public CalculateClassAbiStep(
+      ProjectFilesystem filesystem,
+      Path binaryJar,
+      Path abiJar,
+      AbiGenerationMode compatibilityMode,
+      boolean cacheStubs) {
     this.filesystem = filesystem;
     this.binaryJar = binaryJar;
     this.abiJar = abiJar;
     this.compatibilityMode = compatibilityMode;
+    this.cacheStubs = cacheStubs;
   }
 
   @Override
   public StepExecutionResult execute(ExecutionContext context) throws IOException {
     try {
       Path binJar = filesystem.resolve(binaryJar);
-      new StubJar(binJar).setCompatibilityMode(compatibilityMode).writeTo(filesystem, abiJar);
+      new StubJar(binJar)
+          .setCompatibilityMode(compatibilityMode)
+          .setStubCache(cacheStubs ? ClassAbiStubCache.getInstance() : null)
+          .writeTo(filesystem, abiJar);
     } catch (IllegalArgumentException e) {
       context.logError(e, "Failed to calculate ABI for %s.", binaryJar);
       return StepExecutionResults.ERROR;
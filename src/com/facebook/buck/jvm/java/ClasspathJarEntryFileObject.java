@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import javax.annotation.Nullable;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.tools.JavaFileObject;
+
+/**
+ * A read-only {@link JavaFileObject} for an entry of a jar held by the {@link
+ * ClasspathJarIndexCache}. Its URI uses the {@code jar:} scheme so that class usage tracking can
+ * attribute it to the jar it came from.
+ */
+class ClasspathJarEntryFileObject implements JavaFileObject {
+  private final ClasspathJarIndexCache.JarIndex jarIndex;
+  private final ZipEntry entry;
+  private final URI uri;
+  private final Kind kind;
+
+  ClasspathJarEntryFileObject(
+      ClasspathJarIndexCache.JarIndex jarIndex, ZipEntry entry, URI uri, Kind kind) {
+    this.jarIndex = jarIndex;
+    this.entry = entry;
+    this.uri = uri;
+    this.kind = kind;
+  }
+
+  /** Returns the binary name of the class in this entry, e.g. {@code com.example.Foo$Bar}. */
+  String getBinaryName() {
+    String name = entry.getName();
+    return name.substring(0, name.length() - kind.extension.length()).replace('/', '.');
+  }
+
+  @Override
+  public URI toUri() {
+    return uri;
+  }
+
+  @Override
+  public String getName() {
+    return jarIndex.getJarPath() + "(" + entry.getName() + ")";
+  }
+
+  @Override
+  public InputStream openInputStream() throws IOException {
+    // Read the whole entry up front so that javac never holds a stream into the shared jar.
+    try (InputStream inputStream = jarIndex.getInputStream(entry)) {
+      return new ByteArrayInputStream(ByteStreams.toByteArray(inputStream));
+    }
+  }
+
+  @Override
+  public OutputStream openOutputStream() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Reader openReader(boolean ignoreEncodingErrors) throws IOException {
+    return new InputStreamReader(openInputStream(), StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public CharSequence getCharContent(boolean ignoreEncodingErrors) throws IOException {
+    return new String(ByteStreams.toByteArray(openInputStream()), StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public Writer openWriter() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public long getLastModified() {
+    return entry.getTime();
+  }
+
+  @Override
+  public boolean delete() {
+    return false;
+  }
+
+  @Override
+  public Kind getKind() {
+    return kind;
+  }
+
+  @Override
+  public boolean isNameCompatible(String simpleName, Kind kind) {
+    String baseName = simpleName + kind.extension;
+    String name = entry.getName();
+    return kind.equals(getKind()) && (baseName.equals(name) || name.endsWith("/" + baseName));
+  }
+
+  @Override
+  @Nullable
+  public NestingKind getNestingKind() {
+    return null;
+  }
+
+  @Override
+  @Nullable
+  public Modifier getAccessLevel() {
+    return null;
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getName() + "[" + toUri() + "]";
+  }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.util.hashing.FileHashLoader;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.hash.HashCode;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * A process-wide, size-bounded cache of opened classpath jars along with an index of their entries
+ * by package.
+ *
+ * <p>Jars are keyed by their path and content hash (as reported by a {@link FileHashLoader}), so a
+ * jar that is rebuilt gets a fresh entry while unchanged jars are shared between all compilations
+ * that have them on their classpath. Entries are reference counted: an evicted jar is only closed
+ * once the last compilation using it releases it.
+ */
+public class ClasspathJarIndexCache {
+  private static final Logger LOG = Logger.get(ClasspathJarIndexCache.class);
+
+  /** Maximum number of jars that are kept open by the shared instance. */
+  private static final int DEFAULT_MAX_OPEN_JARS = 2048;
+
+  private static final ClasspathJarIndexCache INSTANCE =
+      new ClasspathJarIndexCache(DEFAULT_MAX_OPEN_JARS);
+
+  private final Cache<Key, JarIndex> cache;
+
+  @VisibleForTesting
+  ClasspathJarIndexCache(long maxOpenJars) {
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumSize(maxOpenJars)
+            .removalListener(
+                (RemovalNotification<Key, JarIndex> notification) ->
+                    Objects.requireNonNull(notification.getValue()).evict())
+            .build();
+  }
+
+  /** Returns the cache shared by all compilations in this process. */
+  public static ClasspathJarIndexCache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns the index of the given jar, opening it if needed. The caller must {@link
+   * JarIndex#close()} the returned index once it is done reading from it.
+   *
+   * <p>If {@code hashLoader} does not know how to hash the jar (e.g. because it lives outside of
+   * any cell), the jar is opened without being cached and is closed when released.
+   */
+  public JarIndex acquire(Path absoluteJarPath, FileHashLoader hashLoader) throws IOException {
+    HashCode hashCode;
+    try {
+      hashCode = hashLoader.get(absoluteJarPath);
+    } catch (NoSuchFileException | IllegalArgumentException e) {
+      JarIndex index = JarIndex.open(absoluteJarPath);
+      index.retainUncached();
+      return index;
+    }
+
+    Key key = new Key(absoluteJarPath, hashCode);
+    while (true) {
+      JarIndex index;
+      try {
+        index = cache.get(key, () -> JarIndex.open(absoluteJarPath));
+      } catch (ExecutionException | UncheckedExecutionException e) {
+        if (e.getCause() instanceof IOException) {
+          throw (IOException) e.getCause();
+        }
+        throw new RuntimeException(e.getCause());
+      }
+      if (index.retain()) {
+        return index;
+      }
+      // Lost a race with eviction; drop the stale mapping and open the jar again.
+      cache.asMap().remove(key, index);
+    }
+  }
+
+  @VisibleForTesting
+  long size() {
+    cache.cleanUp();
+    return cache.size();
+  }
+
+  /** Drops all jars from the cache. Jars which are still in use are closed once released. */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  private static class Key {
+    private final Path path;
+    private final HashCode hashCode;
+
+    Key(Path path, HashCode hashCode) {
+      this.path = path;
+      this.hashCode = hashCode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      return path.equals(that.path) && hashCode.equals(that.hashCode);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(path, hashCode);
+    }
+  }
+
+  /** An opened jar with its entries indexed by the package directory that contains them. */
+  public static class JarIndex implements Closeable {
+    private final Path jarPath;
+    private final ZipFile zipFile;
+    private final ImmutableListMultimap<String, ZipEntry> entriesByPackage;
+
+    @GuardedBy("this")
+    private int references = 0;
+
+    @GuardedBy("this")
+    private boolean evicted = false;
+
+    private JarIndex(
+        Path jarPath, ZipFile zipFile, ImmutableListMultimap<String, ZipEntry> entriesByPackage) {
+      this.jarPath = jarPath;
+      this.zipFile = zipFile;
+      this.entriesByPackage = entriesByPackage;
+    }
+
+    static JarIndex open(Path jarPath) throws IOException {
+      ZipFile zipFile = new ZipFile(jarPath.toFile());
+      ImmutableListMultimap.Builder<String, ZipEntry> builder = ImmutableListMultimap.builder();
+      for (Enumeration<? extends ZipEntry> entries = zipFile.entries();
+          entries.hasMoreElements(); ) {
+        ZipEntry entry = entries.nextElement();
+        if (entry.isDirectory()) {
+          continue;
+        }
+        String name = entry.getName();
+        int lastSlash = name.lastIndexOf('/');
+        builder.put(lastSlash < 0 ? "" : name.substring(0, lastSlash), entry);
+      }
+      return new JarIndex(jarPath, zipFile, builder.build());
+    }
+
+    public Path getJarPath() {
+      return jarPath;
+    }
+
+    /**
+     * Returns the entries in the given package directory (e.g. {@code com/example}), or in it and
+     * all of its subdirectories if {@code recurse} is set.
+     */
+    public ImmutableList<ZipEntry> getEntries(String packageDirectory, boolean recurse) {
+      if (!recurse) {
+        return entriesByPackage.get(packageDirectory);
+      }
+      ImmutableList.Builder<ZipEntry> builder = ImmutableList.builder();
+      String prefix = packageDirectory.isEmpty() ? "" : packageDirectory + "/";
+      for (String directory : entriesByPackage.keySet()) {
+        if (directory.equals(packageDirectory) || directory.startsWith(prefix)) {
+          builder.addAll(entriesByPackage.get(directory));
+        }
+      }
+      return builder.build();
+    }
+
+    public InputStream getInputStream(ZipEntry entry) throws IOException {
+      return zipFile.getInputStream(entry);
+    }
+
+    private synchronized boolean retain() {
+      if (evicted) {
+        return false;
+      }
+      references++;
+      return true;
+    }
+
+    /** Makes this index owned by a single caller, so that it is closed once released. */
+    private synchronized void retainUncached() {
+      evicted = true;
+      references = 1;
+    }
+
+    private synchronized void evict() {
+      evicted = true;
+      closeIfUnused();
+    }
+
+    /** Releases this compilation's reference to the jar. */
+    @Override
+    public synchronized void close() {
+      references--;
+      closeIfUnused();
+    }
+
+    @GuardedBy("this")
+    private void closeIfUnused() {
+      if (evicted && references == 0) {
+        try {
+          zipFile.close();
+        } catch (IOException e) {
+          LOG.warn(e, "Unable to close %s.", jarPath);
+        }
+      }
+    }
+  }
+}
@@ -528,7 +528,8 @@ public abstract class DefaultJavaLibraryRules {
                 getActionGraphBuilder(),
                 getProjectFilesystem(),
                 libraryRule.getSourcePathToOutput(),
-                getAbiCompatibilityMode()));
+                getAbiCompatibilityMode(),
+                getJavaBuckConfig() != null && getJavaBuckConfig().shouldCacheClassAbiStubs()));
   }
 
   @Value.Lazy
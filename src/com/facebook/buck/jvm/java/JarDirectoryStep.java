@@ -20,6 +20,7 @@ import com.facebook.buck.core.build.execution.context.ExecutionContext;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.step.Step;
 import com.facebook.buck.step.StepExecutionResult;
+import com.facebook.buck.util.concurrent.ExecutorPool;
 import com.facebook.buck.util.zip.JarBuilder;
 import com.google.common.base.Joiner;
 import java.io.IOException;
@@ -86,6 +87,11 @@ public class JarDirectoryStep implements Step {
             .setShouldDisallowAllDuplicates(parameters.getDisallowAllDuplicates())
             .setShouldHashEntries(parameters.getHashEntries())
             .setRemoveEntryPredicate(parameters.getRemoveEntryPredicate())
+            .setShouldCopyCompressedEntries(parameters.getCopyCompressedEntries())
+            .setDeflateExecutor(
+                parameters.getDeflateInParallel()
+                    ? context.getExecutors().get(ExecutorPool.CPU)
+                    : null)
             .createJarFile(filesystem.resolve(parameters.getJarPath())));
   }
 }
@@ -213,6 +213,7 @@ public class JarFattener extends AbstractBuildRuleWithDeclaredAndExtraDeps
             .setEntriesToJar(ImmutableSortedSet.of(zipped))
             .setMainClass(Optional.of(FatJarMain.class.getName()))
             .setMergeManifests(true)
+            .setDeflateInParallel(true)
             .build();
     steps.add(new JarDirectoryStep(getProjectFilesystem(), jarParameters));
 
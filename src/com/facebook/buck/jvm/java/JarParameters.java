@@ -59,6 +59,24 @@ public abstract class JarParameters {
     return Level.INFO;
   }
 
+  /**
+   * Whether entries of input jars are copied without being recompressed when their compression
+   * level matches. See {@link com.facebook.buck.util.zip.JarBuilder#setShouldCopyCompressedEntries}.
+   */
+  @Value.Default
+  public boolean getCopyCompressedEntries() {
+    return false;
+  }
+
+  /**
+   * Whether entries are compressed on the build's CPU executor. The resulting jar does not depend
+   * on it, so it is only worth enabling for large jars such as fat or binary jars.
+   */
+  @Value.Default
+  public boolean getDeflateInParallel() {
+    return false;
+  }
+
   public static Builder builder() {
     return new Builder();
   }
@@ -172,6 +172,8 @@ public class JavaBinary extends AbstractBuildRuleWithDeclaredAndExtraDeps
                 .setMergeManifests(mergeManifests)
                 .setDisallowAllDuplicates(disallowAllDuplicates)
                 .setDuplicatesLogLevel(duplicatesLogLevel)
+                .setCopyCompressedEntries(true)
+                .setDeflateInParallel(true)
                 .setRemoveEntryPredicate(
                     entry ->
                         blacklistPatternsMatcher.substringMatches(((ZipEntry) entry).getName()))
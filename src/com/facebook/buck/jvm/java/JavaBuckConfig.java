@@ -112,6 +112,11 @@ public class JavaBuckConfig implements ConfigView<BuckConfig> {
     if (trackJavacPhaseEvents.isPresent()) {
       builder.setTrackJavacPhaseEvents(trackJavacPhaseEvents.get());
     }
+    Optional<Boolean> shareClasspathJarIndexes =
+        delegate.getBoolean(SECTION, "share_classpath_jar_indexes");
+    if (shareClasspathJarIndexes.isPresent()) {
+      builder.setShareClasspathJarIndexes(shareClasspathJarIndexes.get());
+    }
 
     Optional<JavacOptions.SpoolMode> spoolMode =
         delegate.getEnum(SECTION, "jar_spool_mode", JavacOptions.SpoolMode.class);
@@ -220,6 +225,14 @@ public class JavaBuckConfig implements ConfigView<BuckConfig> {
             });
   }
 
+  /**
+   * Whether class ABI jars reuse the stubs of classes that are unchanged since they were last
+   * stubbed by this process.
+   */
+  public boolean shouldCacheClassAbiStubs() {
+    return delegate.getBooleanValue(SECTION, "cache_class_abi_stubs", false);
+  }
+
   public boolean shouldCacheBinaries() {
     return delegate.getBooleanValue(SECTION, "cache_binaries", true);
   }
@@ -19,26 +19,38 @@ package com.facebook.buck.jvm.java;
 import static javax.tools.StandardLocation.CLASS_OUTPUT;
 
 import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.util.hashing.FileHashLoader;
 import com.facebook.buck.util.zip.JarBuilder;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
 import java.io.File;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLEncoder;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import javax.annotation.Nullable;
 import javax.tools.FileObject;
 import javax.tools.ForwardingJavaFileManager;
 import javax.tools.JavaFileObject;
 import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
 
 /**
  * A {@link StandardJavaFileManager} that creates and writes the content of files directly into a
@@ -55,12 +67,31 @@ public class JavaInMemoryFileManager extends ForwardingJavaFileManager<StandardJ
   private final Map<String, JarFileObject> fileForOutputPaths;
   private final Predicate<? super String> removeClassesPredicate;
 
+  @Nullable private final ClasspathJarIndexCache classpathJarIndexCache;
+  @Nullable private final FileHashLoader classpathHashLoader;
+  private final List<ClasspathJarIndexCache.JarIndex> acquiredJarIndexes = new ArrayList<>();
+  @Nullable private ImmutableList<ClasspathEntry> classpathEntries;
+
   private static final int FILENAME_LENGTH_LIMIT = 255;
 
   public JavaInMemoryFileManager(
       StandardJavaFileManager standardManager,
       Path jarPath,
       Predicate<? super String> removeClassesPredicate) {
+    this(standardManager, jarPath, removeClassesPredicate, null, null);
+  }
+
+  /**
+   * Creates a file manager which lists the jars on the classpath through {@code
+   * classpathJarIndexCache}, so that jars which haven't changed (according to {@code
+   * classpathHashLoader}) are opened and indexed only once per process.
+   */
+  public JavaInMemoryFileManager(
+      StandardJavaFileManager standardManager,
+      Path jarPath,
+      Predicate<? super String> removeClassesPredicate,
+      @Nullable ClasspathJarIndexCache classpathJarIndexCache,
+      @Nullable FileHashLoader classpathHashLoader) {
     super(standardManager);
     this.delegate = standardManager;
     this.jarPath = jarPath;
@@ -68,6 +99,8 @@ public class JavaInMemoryFileManager extends ForwardingJavaFileManager<StandardJ
     this.directoryPaths = new HashSet<>();
     this.fileForOutputPaths = new HashMap<>();
     this.removeClassesPredicate = removeClassesPredicate;
+    this.classpathJarIndexCache = classpathJarIndexCache;
+    this.classpathHashLoader = classpathHashLoader;
   }
 
   private static String getPath(String className) {
@@ -119,8 +152,19 @@ public class JavaInMemoryFileManager extends ForwardingJavaFileManager<StandardJ
     return getJavaMemoryFileObject(JavaFileObject.Kind.OTHER, path);
   }
 
+  @Override
+  public String inferBinaryName(Location location, JavaFileObject file) {
+    if (file instanceof ClasspathJarEntryFileObject) {
+      return ((ClasspathJarEntryFileObject) file).getBinaryName();
+    }
+    return super.inferBinaryName(location, file);
+  }
+
   @Override
   public boolean isSameFile(FileObject a, FileObject b) {
+    if (a instanceof ClasspathJarEntryFileObject || b instanceof ClasspathJarEntryFileObject) {
+      return a.toUri().equals(b.toUri());
+    }
     boolean aInMemoryJavaFileInstance = a instanceof JavaInMemoryFileObject;
     boolean bInMemoryJavaFileInstance = b instanceof JavaInMemoryFileObject;
     if (aInMemoryJavaFileInstance || bInMemoryJavaFileInstance) {
@@ -166,6 +210,9 @@ public class JavaInMemoryFileManager extends ForwardingJavaFileManager<StandardJ
   public Iterable<JavaFileObject> list(
       Location location, String packageName, Set<JavaFileObject.Kind> kinds, boolean recurse)
       throws IOException {
+    if (location == StandardLocation.CLASS_PATH && classpathJarIndexCache != null) {
+      return listClasspath(packageName, kinds, recurse);
+    }
     if (shouldDelegate(location)) {
       return delegate.list(location, packageName, kinds, recurse);
     }
@@ -189,6 +236,114 @@ public class JavaInMemoryFileManager extends ForwardingJavaFileManager<StandardJ
     return results;
   }
 
+  /**
+   * Lists the classpath in order, reading jars through the shared {@link ClasspathJarIndexCache}
+   * and directories through the delegate.
+   */
+  private Iterable<JavaFileObject> listClasspath(
+      String packageName, Set<JavaFileObject.Kind> kinds, boolean recurse) throws IOException {
+    ArrayList<JavaFileObject> results = new ArrayList<>();
+    String packageDirPath = getPath(packageName);
+    for (ClasspathEntry entry : getClasspathEntries()) {
+      if (entry.jarIndex != null) {
+        for (ZipEntry zipEntry : entry.jarIndex.getEntries(packageDirPath, recurse)) {
+          JavaFileObject.Kind kind = getKind(zipEntry.getName());
+          if (kinds.contains(kind)) {
+            results.add(
+                new ClasspathJarEntryFileObject(
+                    entry.jarIndex, zipEntry, getJarEntryUri(entry.jarIndex, zipEntry), kind));
+          }
+        }
+      } else {
+        listDirectory(entry.file.toPath().resolve(packageDirPath), kinds, recurse, results);
+      }
+    }
+    return results;
+  }
+
+  private void listDirectory(
+      Path directory,
+      Set<JavaFileObject.Kind> kinds,
+      boolean recurse,
+      List<JavaFileObject> results)
+      throws IOException {
+    if (!Files.isDirectory(directory)) {
+      return;
+    }
+    List<Path> children;
+    try (Stream<Path> stream = Files.list(directory)) {
+      children = stream.sorted().collect(Collectors.toList());
+    }
+    for (Path child : children) {
+      if (Files.isDirectory(child)) {
+        if (recurse) {
+          listDirectory(child, kinds, true, results);
+        }
+      } else if (kinds.contains(getKind(child.getFileName().toString()))) {
+        Iterables.addAll(results, delegate.getJavaFileObjects(child.toFile()));
+      }
+    }
+  }
+
+  private ImmutableList<ClasspathEntry> getClasspathEntries() throws IOException {
+    if (classpathEntries == null) {
+      ImmutableList.Builder<ClasspathEntry> builder = ImmutableList.builder();
+      Iterable<? extends File> classpath = delegate.getLocation(StandardLocation.CLASS_PATH);
+      if (classpath != null) {
+        for (File file : classpath) {
+          if (file.isDirectory()) {
+            builder.add(new ClasspathEntry(file, null));
+          } else if (file.isFile()) {
+            ClasspathJarIndexCache.JarIndex jarIndex;
+            try {
+              jarIndex =
+                  Objects.requireNonNull(classpathJarIndexCache)
+                      .acquire(
+                          file.toPath().toAbsolutePath(),
+                          Objects.requireNonNull(classpathHashLoader));
+            } catch (ZipException e) {
+              LOG.warn(e, "Skipping unreadable classpath entry %s.", file);
+              continue;
+            }
+            acquiredJarIndexes.add(jarIndex);
+            builder.add(new ClasspathEntry(file, jarIndex));
+          }
+        }
+      }
+      classpathEntries = builder.build();
+    }
+    return classpathEntries;
+  }
+
+  private static JavaFileObject.Kind getKind(String name) {
+    for (JavaFileObject.Kind kind :
+        new JavaFileObject.Kind[] {
+          JavaFileObject.Kind.CLASS, JavaFileObject.Kind.SOURCE, JavaFileObject.Kind.HTML
+        }) {
+      if (name.endsWith(kind.extension)) {
+        return kind;
+      }
+    }
+    return JavaFileObject.Kind.OTHER;
+  }
+
+  private static URI getJarEntryUri(ClasspathJarIndexCache.JarIndex jarIndex, ZipEntry entry) {
+    // The file URI is already encoded, so this must not go through the quoting URI constructors.
+    return URI.create("jar:" + jarIndex.getJarPath().toUri() + "!/" + entry.getName());
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      for (ClasspathJarIndexCache.JarIndex jarIndex : acquiredJarIndexes) {
+        jarIndex.close();
+      }
+      acquiredJarIndexes.clear();
+    } finally {
+      super.close();
+    }
+  }
+
   public ImmutableSet<String> writeToJar(JarBuilder jarBuilder) {
     for (JarFileObject fileObject : fileForOutputPaths.values()) {
       fileObject.writeToJar(jarBuilder, jarPath.toString());
@@ -222,4 +377,15 @@ public class JavaInMemoryFileManager extends ForwardingJavaFileManager<StandardJ
   private URI getUriPath(String relativePath) {
     return URI.create(jarPathUri + encodeURL(relativePath));
   }
+
+  /** A classpath entry: either a directory or a jar that has been opened through the cache. */
+  private static class ClasspathEntry {
+    private final File file;
+    @Nullable private final ClasspathJarIndexCache.JarIndex jarIndex;
+
+    ClasspathEntry(File file, @Nullable ClasspathJarIndexCache.JarIndex jarIndex) {
+      this.file = file;
+      this.jarIndex = jarIndex;
+    }
+  }
 }
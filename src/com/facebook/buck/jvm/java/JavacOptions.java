@@ -131,6 +131,16 @@ public abstract class JavacOptions implements AddsToRuleKey {
     return false;
   }
 
+  /**
+   * Whether in-process javac should read classpath jars through the process-wide {@link
+   * ClasspathJarIndexCache} instead of opening and indexing them for every compilation.
+   */
+  @Value.Default
+  @CustomFieldBehavior(DefaultFieldSerialization.class)
+  public boolean shareClasspathJarIndexes() {
+    return false;
+  }
+
   public void validateOptions(Function<String, Boolean> classpathChecker) throws IOException {
     if (getBootclasspath().isPresent()) {
       String bootclasspath = getBootclasspath().get();
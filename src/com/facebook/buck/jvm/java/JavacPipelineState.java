@@ -110,7 +110,10 @@ public class JavacPipelineState implements RulePipelineState {
               filesystem,
               context.getProjectFilesystemFactory(),
               firstOrderContext.getEnvironment(),
-              firstOrderContext.getProcessExecutor());
+              firstOrderContext.getProcessExecutor(),
+              javacOptions.shareClasspathJarIndexes()
+                  ? firstOrderContext.getFileHashLoader()
+                  : Optional.empty());
 
       ImmutableList<JavacPluginJsr199Fields> annotationProcessors =
           ImmutableList.copyOf(
@@ -30,7 +30,6 @@ import com.facebook.buck.jvm.core.JavaAbis;
 import com.facebook.buck.step.Step;
 import com.facebook.buck.step.fs.MakeCleanDirectoryStep;
 import com.facebook.buck.step.fs.SymlinkFileStep;
-import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableList.Builder;
@@ -248,7 +247,6 @@ public class JavacToJarStepFactory extends CompileToJarStepFactory implements Ad
         new JavacStep(pipeline, invokingRule, context.getSourcePathResolver(), projectFilesystem));
   }
 
-  @VisibleForTesting
   public JavacOptions getJavacOptions() {
     return javacOptions;
   }
@@ -522,7 +522,11 @@ class Jsr199JavacInvocation implements Javac.Invocation {
                 new JavaInMemoryFileManager(
                     standardFileManager,
                     directToJarPath,
-                    libraryJarParameters.getRemoveEntryPredicate());
+                    libraryJarParameters.getRemoveEntryPredicate(),
+                    context.getClasspathHashLoader().isPresent()
+                        ? ClasspathJarIndexCache.getInstance()
+                        : null,
+                    context.getClasspathHashLoader().orElse(null));
             addCloseable(inMemoryFileManager);
             fileManager =
                 new PluginLoaderJavaFileManager(inMemoryFileManager, pluginFactory, javacPlugins);
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java.abi;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.util.Objects;
+import javax.annotation.Nullable;
+
+/**
+ * A process-wide cache of class ABI stubs, keyed by the SHA-1 hash of the class file they were
+ * generated from (the same hash that {@link com.facebook.buck.jvm.java.AccumulateClassNamesStep}
+ * records).
+ *
+ * <p>The stub of a Java class depends only on the bytes of that class and on the {@link
+ * AbiGenerationMode}, so when a library is rebuilt after a small change, {@link StubJar} only needs
+ * to stub the classes whose bytes changed. Classes that are left out of the ABI jar are cached too,
+ * so that they are not read again either.
+ */
+public class ClassAbiStubCache {
+  private static final long DEFAULT_MAX_WEIGHT_BYTES = 64L * 1024 * 1024;
+  // Rough per-entry overhead of the key and cache bookkeeping.
+  private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+  private static final ClassAbiStubCache INSTANCE =
+      new ClassAbiStubCache(DEFAULT_MAX_WEIGHT_BYTES);
+
+  private final Cache<Key, byte[]> stubs;
+
+  ClassAbiStubCache(long maxWeightBytes) {
+    this.stubs =
+        CacheBuilder.newBuilder()
+            .maximumWeight(maxWeightBytes)
+            .<Key, byte[]>weigher((key, stub) -> ENTRY_OVERHEAD_BYTES + stub.length)
+            .build();
+  }
+
+  /** The cache shared by all ABI jar calculations in this process. */
+  public static ClassAbiStubCache getInstance() {
+    return INSTANCE;
+  }
+
+  static HashCode hashClass(byte[] classBytes) {
+    return Hashing.sha1().hashBytes(classBytes);
+  }
+
+  /**
+   * Returns the bytes of the stub for the class, an empty array if the class is left out of the ABI
+   * jar, or null if the class has not been stubbed yet.
+   */
+  @Nullable
+  byte[] get(HashCode classHash, AbiGenerationMode compatibilityMode) {
+    return stubs.getIfPresent(new Key(classHash, compatibilityMode));
+  }
+
+  /** Records the stub for the class, or an empty array if it is left out of the ABI jar. */
+  void put(HashCode classHash, AbiGenerationMode compatibilityMode, byte[] stub) {
+    stubs.put(new Key(classHash, compatibilityMode), stub);
+  }
+
+  long size() {
+    return stubs.size();
+  }
+
+  private static class Key {
+    private final HashCode classHash;
+    private final AbiGenerationMode compatibilityMode;
+
+    private Key(HashCode classHash, AbiGenerationMode compatibilityMode) {
+      this.classHash = classHash;
+      this.compatibilityMode = compatibilityMode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      return classHash.equals(that.classHash) && compatibilityMode == that.compatibilityMode;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(classHash, compatibilityMode);
+    }
+  }
+}
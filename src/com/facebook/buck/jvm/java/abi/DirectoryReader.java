@@ -50,6 +50,14 @@ class DirectoryReader implements LibraryReader {
     return openInputStream(relativePath);
   }
 
+  @Override
+  public InputStream openClassFile(Path relativePath) throws IOException {
+    if (!isClass(relativePath)) {
+      throw new IllegalArgumentException();
+    }
+    return openInputStream(relativePath);
+  }
+
   @Override
   public void visitClass(Path relativePath, ClassVisitor cv, boolean skipCode) throws IOException {
     if (!isClass(relativePath)) {
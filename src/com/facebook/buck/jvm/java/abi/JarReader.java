@@ -48,6 +48,11 @@ class JarReader implements LibraryReader {
     return getInner().openResourceFile(relativePath);
   }
 
+  @Override
+  public InputStream openClassFile(Path relativePath) throws IOException {
+    return getInner().openClassFile(relativePath);
+  }
+
   @Override
   public void visitClass(Path relativePath, ClassVisitor cv, boolean skipCode) throws IOException {
     getInner().visitClass(relativePath, cv, skipCode);
@@ -19,8 +19,14 @@ package com.facebook.buck.jvm.java.abi;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.jvm.java.lang.model.ElementsExtended;
 import com.facebook.buck.util.zip.JarBuilder;
+import com.google.common.base.Preconditions;
+import com.google.common.hash.HashCode;
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -35,10 +41,13 @@ import javax.lang.model.util.Types;
 
 public class StubJar {
   private final Supplier<LibraryReader> libraryReaderSupplier;
+  private final boolean readsClassFiles;
   @Nullable private AbiGenerationMode compatibilityMode = null;
+  @Nullable private ClassAbiStubCache stubCache = null;
 
   public StubJar(Path toMirror) {
     libraryReaderSupplier = () -> LibraryReader.of(toMirror);
+    readsClassFiles = true;
   }
 
   /**
@@ -64,6 +73,7 @@ public class StubJar {
                 messager,
                 topLevelElements,
                 includeParameterMetadata);
+    readsClassFiles = false;
   }
 
   /**
@@ -76,6 +86,18 @@ public class StubJar {
     return this;
   }
 
+  /**
+   * Reuses the stubs of classes whose bytes have been stubbed before, instead of stubbing every
+   * class again. Only supported when mirroring compiled classes, and ignored for Kotlin modules,
+   * whose stubs also depend on the inline functions of other classes.
+   */
+  public StubJar setStubCache(@Nullable ClassAbiStubCache stubCache) {
+    Preconditions.checkState(
+        stubCache == null || readsClassFiles, "Stubs can only be cached for compiled classes.");
+    this.stubCache = stubCache;
+    return this;
+  }
+
   public void writeTo(ProjectFilesystem filesystem, Path path) throws IOException {
     // The order of these declarations is important -- FilesystemStubJarWriter actually uses
     // the LibraryReader in its close method, and try-with-resources closes the items in the
@@ -102,7 +124,12 @@ public class StubJar {
     Map<String, List<String>> inlineFunctions = new HashMap<>();
 
     boolean isKotlinModule = isKotlinModule(relativePaths);
+    ClassAbiStubCache cache = isKotlinModule ? null : stubCache;
     for (Path path : paths) {
+      if (cache != null && input.isClass(path)) {
+        writeClassThroughCache(input, path, writer, cache);
+        continue;
+      }
       StubJarEntry entry =
           StubJarEntry.of(input, path, compatibilityMode, isKotlinModule, inlineFunctions);
       if (entry == null) {
@@ -113,6 +140,31 @@ public class StubJar {
     }
   }
 
+  private void writeClassThroughCache(
+      LibraryReader input, Path path, StubJarWriter writer, ClassAbiStubCache cache)
+      throws IOException {
+    HashCode classHash;
+    try (InputStream classFile = input.openClassFile(path)) {
+      classHash = ClassAbiStubCache.hashClass(ByteStreams.toByteArray(classFile));
+    }
+    // A null mode stubs exactly like CLASS does.
+    AbiGenerationMode mode =
+        compatibilityMode == null ? AbiGenerationMode.CLASS : compatibilityMode;
+
+    byte[] stub = cache.get(classHash, mode);
+    if (stub == null) {
+      StubJarClassEntry entry =
+          StubJarClassEntry.of(input, path, compatibilityMode, false, Collections.emptyMap());
+      stub = entry == null ? new byte[0] : entry.getStubBytes();
+      cache.put(classHash, mode, stub);
+    }
+
+    if (stub.length > 0) {
+      byte[] stubBytes = stub;
+      writer.writeEntry(path, () -> new ByteArrayInputStream(stubBytes));
+    }
+  }
+
   private boolean isKotlinModule(List<Path> relativePaths) {
     return relativePaths.stream().anyMatch(path -> path.toString().endsWith(".kotlin_module"));
   }
@@ -142,6 +142,10 @@ class StubJarClassEntry extends StubJarEntry {
   }
 
   private InputStream openInputStream() {
+    return new ByteArrayInputStream(getStubBytes());
+  }
+
+  byte[] getStubBytes() {
     ClassWriter writer = new ClassWriter(0);
     ClassVisitor visitor = writer;
     if (!retainEverything) {
@@ -151,7 +155,7 @@ class StubJarClassEntry extends StubJarEntry {
 
     stub.accept(visitor);
 
-    return new ByteArrayInputStream(writer.toByteArray());
+    return writer.toByteArray();
   }
 
   private static boolean isSyntheticClass(ClassNode node) {
@@ -26,30 +26,21 @@ import com.facebook.buck.core.sourcepath.PathSourcePath;
 import com.facebook.buck.core.sourcepath.SourcePath;
 import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
-import com.facebook.buck.jvm.java.javax.SynchronizedToolProvider;
-import com.facebook.buck.util.ClassLoaderCache;
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
-import java.io.File;
 import java.io.PrintStream;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Path;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 public class JarBackedReflectedKotlinc implements Kotlinc {
 
-  private static final String COMPILER_CLASS = "org.jetbrains.kotlin.cli.jvm.K2JVMCompiler";
   private static final String EXIT_CODE_CLASS = "org.jetbrains.kotlin.cli.common.ExitCode";
   private static final KotlincVersion VERSION = ImmutableKotlincVersion.of("in memory");
 
@@ -62,20 +53,29 @@ public class JarBackedReflectedKotlinc implements Kotlinc {
         }
       };
 
-  // Used to hang onto the KotlinDaemonShim for the life of the buckd process
-  private static final Map<Set<String>, Object> kotlinShims = new ConcurrentHashMap<>();
-
   @AddToRuleKey private final ImmutableSet<SourcePath> compilerClassPath;
   private final Path annotationProcessingClassPath;
   private final Path standardLibraryClasspath;
-
+  private final int compilerPoolSize;
+  private final boolean keepCompilerEnvironment;
+
+  /**
+   * @param compilerPoolSize how many idle compilers to keep for later rules, see {@link
+   *     KotlincCompilerPool}.
+   * @param keepCompilerEnvironment whether compilers keep their application environment between
+   *     compilations.
+   */
   JarBackedReflectedKotlinc(
       ImmutableSet<SourcePath> compilerClassPath,
       Path annotationProcessingClassPath,
-      Path standardLibraryClasspath) {
+      Path standardLibraryClasspath,
+      int compilerPoolSize,
+      boolean keepCompilerEnvironment) {
     this.compilerClassPath = compilerClassPath;
     this.annotationProcessingClassPath = annotationProcessingClassPath;
     this.standardLibraryClasspath = standardLibraryClasspath;
+    this.compilerPoolSize = compilerPoolSize;
+    this.keepCompilerEnvironment = keepCompilerEnvironment;
   }
 
   @Override
@@ -155,17 +155,15 @@ public class JarBackedReflectedKotlinc implements Kotlinc {
                     path -> projectFilesystem.resolve(path).toAbsolutePath().toString()))
             .build();
 
-    Set<File> compilerIdPaths =
+    ImmutableList<URL> compilerUrls =
         compilerClassPath.stream()
             .map(p -> ((PathSourcePath) p).getRelativePath())
-            .map(Path::toFile)
-            .collect(Collectors.toSet());
-
-    try {
-      Object compilerShim =
-          kotlinShims.computeIfAbsent(
-              compilerIdPaths.stream().map(File::getAbsolutePath).collect(Collectors.toSet()),
-              k -> loadCompilerShim(context));
+            .map(PATH_TO_URL)
+            .collect(ImmutableList.toImmutableList());
+    try (KotlincCompilerPool.Lease lease =
+        KotlincCompilerPool.getInstance()
+            .acquire(compilerUrls, compilerPoolSize, keepCompilerEnvironment)) {
+      Object compilerShim = lease.getCompiler();
 
       Method compile = compilerShim.getClass().getMethod("exec", PrintStream.class, String[].class);
 
@@ -179,30 +177,7 @@ public class JarBackedReflectedKotlinc implements Kotlinc {
         return (Integer) getCode.invoke(exitCode);
       }
 
-    } catch (IllegalAccessException
-        | InvocationTargetException
-        | NoSuchMethodException
-        | ClassNotFoundException ex) {
-      throw new RuntimeException(ex);
-    }
-  }
-
-  private Object loadCompilerShim(ExecutionContext context) {
-    try {
-      ClassLoaderCache classLoaderCache = context.getClassLoaderCache();
-      classLoaderCache.addRef();
-
-      ClassLoader classLoader =
-          classLoaderCache.getClassLoaderForClassPath(
-              SynchronizedToolProvider.getSystemToolClassLoader(),
-              ImmutableList.copyOf(
-                  compilerClassPath.stream()
-                      .map(p -> ((PathSourcePath) p).getRelativePath())
-                      .map(PATH_TO_URL)
-                      .iterator()));
-
-      return classLoader.loadClass(COMPILER_CLASS).newInstance();
-    } catch (Exception ex) {
+    } catch (ReflectiveOperationException ex) {
       throw new RuntimeException(ex);
     }
   }
@@ -62,7 +62,11 @@ public class KotlinBuckConfig implements ConfigView<BuckConfig> {
               delegate.getPathSourcePath(getPathToCompilerJar()));
 
       return new JarBackedReflectedKotlinc(
-          classpathEntries, getPathToAnnotationProcessingJar(), getPathToStdlibJar());
+          classpathEntries,
+          getPathToAnnotationProcessingJar(),
+          getPathToStdlibJar(),
+          getCompilerPoolSize(),
+          shouldKeepCompilerEnvironment());
     }
   }
 
@@ -87,6 +91,28 @@ public class KotlinBuckConfig implements ConfigView<BuckConfig> {
         .orElse(AbiGenerationMode.CLASS);
   }
 
+  /**
+   * Get the number of idle in-process compilers to keep for reuse by later rules. Defaults to the
+   * number of processors; 0 creates a new compiler for every rule.
+   *
+   * @return the number of idle compilers to keep
+   */
+  int getCompilerPoolSize() {
+    return delegate
+        .getInteger(SECTION, "compiler_pool_size")
+        .orElse(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Determine whether in-process compilers keep their application environment, and the caches in
+   * it, between compilations. The default is false.
+   *
+   * @return true if compilers keep their environment
+   */
+  boolean shouldKeepCompilerEnvironment() {
+    return delegate.getBooleanValue(SECTION, "keep_compiler_environment", false);
+  }
+
   Path getPathToCompilerBinary() {
     Path compilerPath = getKotlinHome().resolve("kotlinc");
     if (!Files.isExecutable(compilerPath)) {
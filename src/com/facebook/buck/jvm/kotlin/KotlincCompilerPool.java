@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.kotlin;
+
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.jvm.java.javax.SynchronizedToolProvider;
+import com.facebook.buck.util.ClassLoaderCache;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BooleanSupplier;
+import javax.annotation.Nullable;
+
+/**
+ * Keeps in-process Kotlin compilers warm for the life of the buck daemon, so that rules do not pay
+ * for loading and JIT-compiling the compiler every time.
+ *
+ * <p>Each set of compiler jars gets its own {@link ClassLoaderCache}, which outlives the builds
+ * that use it. Only a few sets are kept, since each holds a full copy of the compiler's classes.
+ * Idle compiler instances are kept per set, up to a limit; they are held through soft references
+ * and are dropped when the heap is nearly full, so that the pool gives memory back under pressure.
+ */
+class KotlincCompilerPool {
+
+  private static final Logger LOG = Logger.get(KotlincCompilerPool.class);
+
+  private static final String COMPILER_CLASS = "org.jetbrains.kotlin.cli.jvm.K2JVMCompiler";
+
+  /**
+   * System property that makes the compiler keep its application environment, and the caches in
+   * it, between compilations. It is read while the compiler runs, so it is only set while a lease
+   * that asked for it is open, and its previous value is restored once the last such lease closes.
+   */
+  private static final String KEEP_ENVIRONMENT_PROPERTY = "kotlin.environment.keepalive";
+
+  private static final Object KEEP_ENVIRONMENT_LOCK = new Object();
+  /** Open leases that keep the compiler environment. Guarded by {@link #KEEP_ENVIRONMENT_LOCK}. */
+  private static int keepEnvironmentLeases = 0;
+  /** Value of the property before the first such lease. Guarded by the same lock. */
+  @Nullable private static String previousKeepEnvironment;
+
+  private static final int MAX_COMPILER_CLASS_PATHS = 2;
+  /** Idle compilers are dropped when more than this fraction of the heap is in use. */
+  private static final double MEMORY_PRESSURE_THRESHOLD = 0.8;
+
+  private static final KotlincCompilerPool INSTANCE =
+      new KotlincCompilerPool(
+          MAX_COMPILER_CLASS_PATHS,
+          classLoader -> classLoader.loadClass(COMPILER_CLASS).newInstance(),
+          KotlincCompilerPool::isUnderMemoryPressure);
+
+  /** Creates a compiler from the class loader of its jars. */
+  interface CompilerFactory {
+    Object newCompiler(ClassLoader classLoader) throws ReflectiveOperationException;
+  }
+
+  private final CompilerFactory compilerFactory;
+  private final BooleanSupplier memoryPressure;
+  private final Cache<ImmutableList<URL>, CompilerClassPath> compilerClassPaths;
+
+  @VisibleForTesting
+  KotlincCompilerPool(
+      int maxCompilerClassPaths, CompilerFactory compilerFactory, BooleanSupplier memoryPressure) {
+    this.compilerFactory = compilerFactory;
+    this.memoryPressure = memoryPressure;
+    this.compilerClassPaths =
+        CacheBuilder.newBuilder()
+            .maximumSize(maxCompilerClassPaths)
+            .removalListener(
+                (RemovalNotification<ImmutableList<URL>, CompilerClassPath> notification) ->
+                    notification.getValue().retire())
+            .build();
+  }
+
+  static KotlincCompilerPool getInstance() {
+    return INSTANCE;
+  }
+
+  Lease acquire(ImmutableList<URL> classPath, int maxIdleCompilers)
+      throws ReflectiveOperationException {
+    return acquire(classPath, maxIdleCompilers, false);
+  }
+
+  /**
+   * Borrows a compiler loaded from {@code classPath}, creating one if there is no idle one.
+   *
+   * @param maxIdleCompilers how many compilers for this class path to keep once they are returned.
+   * @param keepEnvironment whether the compiler keeps its application environment between
+   *     compilations while the lease is open.
+   */
+  Lease acquire(ImmutableList<URL> classPath, int maxIdleCompilers, boolean keepEnvironment)
+      throws ReflectiveOperationException {
+    CompilerClassPath compilerClassPath;
+    Object compiler;
+    synchronized (this) {
+      try {
+        compilerClassPath =
+            compilerClassPaths.get(classPath, () -> new CompilerClassPath(classPath));
+      } catch (ExecutionException e) {
+        throw new IllegalStateException(e);
+      }
+      compiler = compilerClassPath.takeIdleCompiler();
+      compilerClassPath.activeLeases++;
+    }
+
+    if (compiler == null) {
+      try {
+        compiler = compilerFactory.newCompiler(compilerClassPath.classLoader);
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        release(compilerClassPath, null, 0);
+        throw e;
+      }
+    }
+    if (keepEnvironment) {
+      enterKeepEnvironment();
+    }
+    return new Lease(compilerClassPath, compiler, maxIdleCompilers, keepEnvironment);
+  }
+
+  private static void enterKeepEnvironment() {
+    synchronized (KEEP_ENVIRONMENT_LOCK) {
+      if (keepEnvironmentLeases++ == 0) {
+        previousKeepEnvironment = System.setProperty(KEEP_ENVIRONMENT_PROPERTY, "true");
+      }
+    }
+  }
+
+  private static void exitKeepEnvironment() {
+    synchronized (KEEP_ENVIRONMENT_LOCK) {
+      if (--keepEnvironmentLeases == 0) {
+        if (previousKeepEnvironment == null) {
+          System.clearProperty(KEEP_ENVIRONMENT_PROPERTY);
+        } else {
+          System.setProperty(KEEP_ENVIRONMENT_PROPERTY, previousKeepEnvironment);
+        }
+        previousKeepEnvironment = null;
+      }
+    }
+  }
+
+  private synchronized void release(
+      CompilerClassPath compilerClassPath, @Nullable Object compiler, int maxIdleCompilers) {
+    compilerClassPath.activeLeases--;
+    if (memoryPressure.getAsBoolean()) {
+      LOG.debug("Dropping idle Kotlin compilers because the heap is nearly full.");
+      compilerClassPaths.asMap().values().forEach(CompilerClassPath::dropIdleCompilers);
+    } else if (compiler != null && !compilerClassPath.retired) {
+      compilerClassPath.returnIdleCompiler(compiler, maxIdleCompilers);
+    }
+    if (compilerClassPath.retired && compilerClassPath.activeLeases == 0) {
+      compilerClassPath.close();
+    }
+  }
+
+  private static boolean isUnderMemoryPressure() {
+    Runtime runtime = Runtime.getRuntime();
+    long used = runtime.totalMemory() - runtime.freeMemory();
+    return used > runtime.maxMemory() * MEMORY_PRESSURE_THRESHOLD;
+  }
+
+  /** A compiler borrowed from the pool, which is returned to it when the lease is closed. */
+  class Lease implements AutoCloseable {
+    private final CompilerClassPath compilerClassPath;
+    private final Object compiler;
+    private final int maxIdleCompilers;
+    private final boolean keepEnvironment;
+    private boolean closed = false;
+
+    private Lease(
+        CompilerClassPath compilerClassPath,
+        Object compiler,
+        int maxIdleCompilers,
+        boolean keepEnvironment) {
+      this.compilerClassPath = compilerClassPath;
+      this.compiler = compiler;
+      this.maxIdleCompilers = maxIdleCompilers;
+      this.keepEnvironment = keepEnvironment;
+    }
+
+    Object getCompiler() {
+      return compiler;
+    }
+
+    @Override
+    public void close() {
+      if (!closed) {
+        closed = true;
+        if (keepEnvironment) {
+          exitKeepEnvironment();
+        }
+        release(compilerClassPath, compiler, maxIdleCompilers);
+      }
+    }
+  }
+
+  /** The class loader and idle compilers of one set of compiler jars. Guarded by the pool. */
+  private static class CompilerClassPath {
+    private final ImmutableList<URL> classPath;
+    private final ClassLoaderCache classLoaderCache = new ClassLoaderCache();
+    private final ClassLoader classLoader;
+    private final Deque<SoftReference<Object>> idleCompilers = new ArrayDeque<>();
+    private int activeLeases = 0;
+    private boolean retired = false;
+
+    private CompilerClassPath(ImmutableList<URL> classPath) {
+      LOG.debug("Loading Kotlin compiler from %s", classPath);
+      this.classPath = classPath;
+      this.classLoader =
+          classLoaderCache.getClassLoaderForClassPath(
+              SynchronizedToolProvider.getSystemToolClassLoader(), classPath);
+    }
+
+    @Nullable
+    private Object takeIdleCompiler() {
+      while (!idleCompilers.isEmpty()) {
+        Object compiler = idleCompilers.pop().get();
+        if (compiler != null) {
+          return compiler;
+        }
+      }
+      return null;
+    }
+
+    private void returnIdleCompiler(Object compiler, int maxIdleCompilers) {
+      if (idleCompilers.size() < maxIdleCompilers) {
+        idleCompilers.push(new SoftReference<>(compiler));
+      }
+    }
+
+    private void dropIdleCompilers() {
+      idleCompilers.clear();
+    }
+
+    /** Called when evicted from the pool; the class loader is closed once no compile uses it. */
+    private void retire() {
+      retired = true;
+      dropIdleCompilers();
+      if (activeLeases == 0) {
+        close();
+      }
+    }
+
+    private void close() {
+      LOG.debug("Unloading Kotlin compiler from %s", classPath);
+      try {
+        classLoaderCache.close();
+      } catch (IOException e) {
+        LOG.warn(e, "Failed to close the class loader of the Kotlin compiler.");
+      }
+    }
+  }
+}
@@ -140,6 +140,9 @@ public abstract class RemoteExecutionConfig implements ConfigView<BuckConfig> {
   /** Input paths to ignore for actions */
   public static final String INPUT_IGNORE_KEY = "inputs_ignore";
 
+  /** Whether to send only the inputs rules say they read, e.g. the headers C/C++ sources include */
+  public static final String PRUNE_INPUTS_KEY = "prune_inputs";
+
   /**
    * Strategy used to determine whether to enable Remote Execution automatically for the current
    * build
@@ -158,6 +161,12 @@ public abstract class RemoteExecutionConfig implements ConfigView<BuckConfig> {
   public static final String USE_REMOTE_EXECUTION_FOR_GENRULE_IF_REQUESTED_FORMAT =
       "use_remote_execution_for_%s_if_requested";
 
+  /**
+   * Number of actions that the local (debug_grpc_in_process and debug_grpc_local) execution
+   * services run concurrently. Defaults to the number of available processors.
+   */
+  public static final String LOCAL_WORKER_COUNT_KEY = "local_worker_count";
+
   // A non-exhaustive list of characters that might indicate that we're about to deal with a glob.
   private static final Pattern GLOB_CHARS = Pattern.compile("[*?{\\[]");
 
@@ -296,6 +305,13 @@ public abstract class RemoteExecutionConfig implements ConfigView<BuckConfig> {
         FORMAT_SESSION_ID_VARIABLE_STRING, reSessionID.getId());
   }
 
+  /** Number of workers used by the local execution service implementations. */
+  public int getLocalWorkerCount() {
+    return getDelegate()
+        .getInteger(SECTION, LOCAL_WORKER_COUNT_KEY)
+        .orElse(Runtime.getRuntime().availableProcessors());
+  }
+
   public boolean isDebug() {
     return getDelegate().getBooleanValue(SECTION, "debug", false);
   }
@@ -382,6 +398,8 @@ public abstract class RemoteExecutionConfig implements ConfigView<BuckConfig> {
     boolean tryLargerWorkerOnOom =
         getDelegate().getBoolean(SECTION, TRY_LARGER_WORKER_ON_OOM).orElse(false);
 
+    boolean pruneInputs = getDelegate().getBooleanValue(SECTION, PRUNE_INPUTS_KEY, false);
+
     // Some of these values are also limited by other ones (e.g. synchronous work is limited by the
     // number of threads). We detect some of these cases and log an error to the user to help them
     // understand the behavior.
@@ -477,6 +495,11 @@ public abstract class RemoteExecutionConfig implements ConfigView<BuckConfig> {
       public ImmutableSet<PathMatcher> getIgnorePaths() {
         return ignorePaths;
       }
+
+      @Override
+      public boolean shouldPruneInputs() {
+        return pruneInputs;
+      }
     };
   }
 
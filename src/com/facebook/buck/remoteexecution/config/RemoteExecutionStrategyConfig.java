@@ -49,4 +49,7 @@ public interface RemoteExecutionStrategyConfig {
   boolean tryLargerWorkerOnOom();
 
   ImmutableSet<PathMatcher> getIgnorePaths();
+
+  /** Whether rules which can tell which of their inputs they read only send those remotely. */
+  boolean shouldPruneInputs();
 }
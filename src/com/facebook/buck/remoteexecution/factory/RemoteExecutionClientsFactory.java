@@ -63,10 +63,13 @@ public class RemoteExecutionClientsFactory {
             metadataProvider,
             eventBus);
       case DEBUG_GRPC_IN_PROCESS:
-        return OutOfProcessIsolatedExecutionClients.create(new GrpcProtocol(), eventBus);
+        return OutOfProcessIsolatedExecutionClients.create(
+            new GrpcProtocol(), eventBus, remoteExecutionConfig.getLocalWorkerCount());
       case DEBUG_GRPC_LOCAL:
         return GrpcExecutionFactory.createInProcess(
-            eventBus, remoteExecutionConfig.getStrategyConfig());
+            eventBus,
+            remoteExecutionConfig.getStrategyConfig(),
+            remoteExecutionConfig.getLocalWorkerCount());
     }
     throw new IllegalStateException(String.format("Something went wrong (%s).", type));
   }
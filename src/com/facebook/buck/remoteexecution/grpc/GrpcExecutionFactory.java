@@ -54,6 +54,16 @@ public class GrpcExecutionFactory {
    */
   public static RemoteExecutionClients createInProcess(
       BuckEventBus buckEventBus, RemoteExecutionStrategyConfig strategyConfig) throws IOException {
+    return createInProcess(buckEventBus, strategyConfig, 1);
+  }
+
+  /**
+   * Like {@link #createInProcess(BuckEventBus, RemoteExecutionStrategyConfig)}, but the in-process
+   * service runs up to {@code workerCount} actions concurrently.
+   */
+  public static RemoteExecutionClients createInProcess(
+      BuckEventBus buckEventBus, RemoteExecutionStrategyConfig strategyConfig, int workerCount)
+      throws IOException {
     NamedTemporaryDirectory workDir = new NamedTemporaryDirectory("__remote__");
     GrpcRemoteExecutionServiceServer remoteExecution =
         new GrpcRemoteExecutionServiceServer(
@@ -61,7 +71,8 @@ public class GrpcExecutionFactory {
                 workDir.getPath().resolve("__cache__"),
                 GrpcRemoteExecutionClients.PROTOCOL,
                 buckEventBus),
-            workDir.getPath().resolve("__work__"));
+            workDir.getPath().resolve("__work__"),
+            workerCount);
 
     InProcessServerBuilder builder = InProcessServerBuilder.forName("unique");
     remoteExecution.getServices().forEach(builder::addService);
@@ -81,6 +92,7 @@ public class GrpcExecutionFactory {
         try (Closer closer = Closer.create()) {
           closer.register(server::shutdown);
           closer.register(workDir);
+          closer.register(remoteExecution);
           closer.register(super::close);
         }
         try {
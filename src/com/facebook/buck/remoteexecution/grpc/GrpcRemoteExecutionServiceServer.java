@@ -22,16 +22,15 @@ import build.bazel.remote.execution.v2.ExecuteResponse;
 import build.bazel.remote.execution.v2.ExecutionGrpc.ExecutionImplBase;
 import com.facebook.buck.core.model.BuildId;
 import com.facebook.buck.event.DefaultBuckEventBus;
-import com.facebook.buck.io.file.MostFiles;
 import com.facebook.buck.remoteexecution.grpc.GrpcProtocol.GrpcDigest;
-import com.facebook.buck.remoteexecution.interfaces.Protocol.Action;
-import com.facebook.buck.remoteexecution.interfaces.Protocol.Command;
 import com.facebook.buck.remoteexecution.util.ActionRunner;
 import com.facebook.buck.remoteexecution.util.LocalContentAddressedStorage;
+import com.facebook.buck.remoteexecution.util.LocalExecutionWorkerPool;
 import com.facebook.buck.util.timing.DefaultClock;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.longrunning.CancelOperationRequest;
 import com.google.longrunning.DeleteOperationRequest;
 import com.google.longrunning.GetOperationRequest;
@@ -46,17 +45,12 @@ import io.grpc.BindableService;
 import io.grpc.Status.Code;
 import io.grpc.stub.StreamObserver;
 import java.io.Closeable;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.Optional;
-import java.util.Random;
 import java.util.stream.Collectors;
 
 /** A really simple implementation of remote execution (and CAS). Used for testing/debugging. */
-public class GrpcRemoteExecutionServiceServer {
-  private final LocalContentAddressedStorage storage;
-  private final Path workDir;
+public class GrpcRemoteExecutionServiceServer implements Closeable {
+  private final LocalExecutionWorkerPool workerPool;
 
   // Services
   private final LocalBackedCasServer casImpl;
@@ -65,8 +59,19 @@ public class GrpcRemoteExecutionServiceServer {
   private final ExecutionImpl executionImpl;
 
   public GrpcRemoteExecutionServiceServer(LocalContentAddressedStorage storage, Path workDir) {
-    this.storage = storage;
-    this.workDir = workDir;
+    this(storage, workDir, 1);
+  }
+
+  /** Creates a server which runs up to {@code workerCount} actions concurrently. */
+  public GrpcRemoteExecutionServiceServer(
+      LocalContentAddressedStorage storage, Path workDir, int workerCount) {
+    this.workerPool =
+        new LocalExecutionWorkerPool(
+            storage,
+            workDir,
+            new GrpcProtocol(),
+            new DefaultBuckEventBus(new DefaultClock(), new BuildId("RemoteExec")),
+            workerCount);
     this.casImpl = new LocalBackedCasServer(storage);
     this.byteStreamImpl = new LocalBackedByteStreamServer(storage);
     this.operationsFutureImpl = new OperationsFutureImpl();
@@ -77,69 +82,61 @@ public class GrpcRemoteExecutionServiceServer {
     return ImmutableList.of(casImpl, byteStreamImpl, operationsFutureImpl, executionImpl);
   }
 
+  /** Returns the queueing metrics of the execution workers. */
+  public LocalExecutionWorkerPool.Stats getWorkerPoolStats() {
+    return workerPool.getStats();
+  }
+
+  @Override
+  public void close() {
+    workerPool.close();
+  }
+
   private class ExecutionImpl extends ExecutionImplBase {
     @Override
     public void execute(ExecuteRequest request, StreamObserver<Operation> responseObserver) {
-      try {
-        // Don't really need to be too careful here about constructing a unique directory.
-        Action action = storage.materializeAction(new GrpcDigest(request.getActionDigest()));
-        String name =
-            String.format("%s-%d", action.getInputRootDigest().getHash(), new Random().nextLong());
-        Path buildDir = workDir.resolve(name);
-        Files.createDirectories(buildDir);
-        try (Closeable ignored = () -> MostFiles.deleteRecursively(buildDir)) {
-          Command command =
-              storage
-                  .materializeInputs(
-                      buildDir, action.getInputRootDigest(), Optional.of(action.getCommandDigest()))
-                  .get();
-
-          ActionRunner.ActionResult actionResult =
-              new ActionRunner(
-                      new GrpcProtocol(),
-                      new DefaultBuckEventBus(new DefaultClock(), new BuildId("RemoteExec")))
-                  .runAction(
-                      command.getCommand(),
-                      command.getEnvironment(),
-                      command.getOutputDirectories().stream()
-                          .map(Paths::get)
-                          .collect(ImmutableSet.toImmutableSet()),
-                      buildDir);
-
-          Futures.getUnchecked(storage.addMissing(actionResult.requiredData));
-
-          ActionResult.Builder grpcActionResultBuilder = ActionResult.newBuilder();
-          grpcActionResultBuilder
-              .setExitCode(actionResult.exitCode)
-              .setStdoutRaw(ByteString.copyFromUtf8(actionResult.stdout))
-              .setStderrRaw(ByteString.copyFromUtf8(actionResult.stderr))
-              .addAllOutputFiles(
-                  actionResult.outputFiles.stream()
-                      .map(GrpcProtocol::get)
-                      .collect(Collectors.toList()))
-              .addAllOutputDirectories(
-                  actionResult.outputDirectories.stream()
-                      .map(GrpcProtocol::get)
-                      .collect(Collectors.toList()));
-
-          responseObserver.onNext(
-              Operation.newBuilder()
-                  .setDone(true)
-                  .setResponse(
-                      Any.pack(
-                          ExecuteResponse.newBuilder()
-                              .setResult(grpcActionResultBuilder)
-                              .setStatus(
-                                  com.google.rpc.Status.newBuilder().setCode(Code.OK.value()))
-                              .setCachedResult(false)
-                              .build()))
-                  .build());
-        }
-        responseObserver.onCompleted();
-      } catch (Exception e) {
-        e.printStackTrace();
-        responseObserver.onError(e);
-      }
+      Futures.addCallback(
+          workerPool.execute(new GrpcDigest(request.getActionDigest())),
+          new FutureCallback<ActionRunner.ActionResult>() {
+            @Override
+            public void onSuccess(ActionRunner.ActionResult actionResult) {
+              ActionResult.Builder grpcActionResultBuilder = ActionResult.newBuilder();
+              grpcActionResultBuilder
+                  .setExitCode(actionResult.exitCode)
+                  .setStdoutRaw(ByteString.copyFromUtf8(actionResult.stdout))
+                  .setStderrRaw(ByteString.copyFromUtf8(actionResult.stderr))
+                  .addAllOutputFiles(
+                      actionResult.outputFiles.stream()
+                          .map(GrpcProtocol::get)
+                          .collect(Collectors.toList()))
+                  .addAllOutputDirectories(
+                      actionResult.outputDirectories.stream()
+                          .map(GrpcProtocol::get)
+                          .collect(Collectors.toList()));
+
+              responseObserver.onNext(
+                  Operation.newBuilder()
+                      .setDone(true)
+                      .setResponse(
+                          Any.pack(
+                              ExecuteResponse.newBuilder()
+                                  .setResult(grpcActionResultBuilder)
+                                  .setStatus(
+                                      com.google.rpc.Status.newBuilder()
+                                          .setCode(Code.OK.value()))
+                                  .setCachedResult(false)
+                                  .build()))
+                      .build());
+              responseObserver.onCompleted();
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+              t.printStackTrace();
+              responseObserver.onError(t);
+            }
+          },
+          MoreExecutors.directExecutor());
     }
   }
 
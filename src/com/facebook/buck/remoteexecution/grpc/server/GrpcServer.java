@@ -35,16 +35,23 @@ import java.util.concurrent.TimeUnit;
 public class GrpcServer implements Closeable {
   private final Server server;
   private final NamedTemporaryDirectory workDir;
+  private final GrpcRemoteExecutionServiceServer remoteExecution;
 
   public GrpcServer(int port) throws IOException {
+    this(port, 1);
+  }
+
+  /** Creates a server which executes up to {@code workerCount} actions concurrently. */
+  public GrpcServer(int port, int workerCount) throws IOException {
     workDir = new NamedTemporaryDirectory("__remote__");
-    GrpcRemoteExecutionServiceServer remoteExecution =
+    remoteExecution =
         new GrpcRemoteExecutionServiceServer(
             new LocalContentAddressedStorage(
                 workDir.getPath().resolve("__cache__"),
                 GrpcRemoteExecutionClients.PROTOCOL,
                 new DefaultBuckEventBus(new DefaultClock(true), new BuildId())),
-            workDir.getPath().resolve("__work__"));
+            workDir.getPath().resolve("__work__"),
+            workerCount);
     NettyServerBuilder builder = NettyServerBuilder.forPort(port);
 
     builder.maxMessageSize(500 * 1024 * 1024);
@@ -62,6 +69,7 @@ public class GrpcServer implements Closeable {
     try (Closer closer = Closer.create()) {
       closer.register(server::shutdown);
       closer.register(workDir);
+      closer.register(remoteExecution);
     }
     try {
       server.awaitTermination(3, TimeUnit.SECONDS);
@@ -19,12 +19,21 @@ package com.facebook.buck.remoteexecution.grpc.server;
 import com.google.common.base.Preconditions;
 import java.io.IOException;
 
-/** Runs the GrpcServer remote execution server. */
+/**
+ * Runs the GrpcServer remote execution server.
+ *
+ * <p>Usage: {@code GrpcServerMain <port> [<worker count>]}. The worker count defaults to the
+ * number of available processors.
+ */
 public class GrpcServerMain {
   /** Server entry point. */
   public static void main(String[] args) throws IOException, InterruptedException {
-    Preconditions.checkState(args.length == 1);
-    try (GrpcServer server = new GrpcServer(Integer.parseInt(args[0]))) {
+    Preconditions.checkState(args.length == 1 || args.length == 2);
+    int workerCount =
+        args.length == 2
+            ? Integer.parseInt(args[1])
+            : Runtime.getRuntime().availableProcessors();
+    try (GrpcServer server = new GrpcServer(Integer.parseInt(args[0]), workerCount)) {
       server.awaitTermination();
     }
   }
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.remoteexecution.util;
+
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.event.LeafEvents;
+import com.facebook.buck.io.file.MostFiles;
+import com.facebook.buck.remoteexecution.interfaces.Protocol;
+import com.facebook.buck.remoteexecution.interfaces.Protocol.Action;
+import com.facebook.buck.remoteexecution.interfaces.Protocol.Command;
+import com.facebook.buck.util.Scope;
+import com.facebook.buck.util.concurrent.MostExecutors;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executes remote execution actions on the local machine with a fixed number of workers.
+ *
+ * <p>Each action runs in its own sandbox directory under {@code workDir}. Inputs are materialized
+ * from the {@link LocalContentAddressedStorage} (as hardlinks into the cache) and the sandbox is
+ * deleted once the outputs have been added back to the storage.
+ */
+public class LocalExecutionWorkerPool implements Closeable {
+  private static final Logger LOG = Logger.get(LocalExecutionWorkerPool.class);
+
+  private final LocalContentAddressedStorage storage;
+  private final Path workDir;
+  private final Protocol protocol;
+  private final BuckEventBus eventBus;
+  private final int workerCount;
+  private final ListeningExecutorService executorService;
+
+  private final AtomicLong sandboxCounter = new AtomicLong();
+  private final AtomicInteger queued = new AtomicInteger();
+  private final AtomicInteger running = new AtomicInteger();
+  private final AtomicLong completed = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+  private final AtomicLong totalQueuedNanos = new AtomicLong();
+  private final AtomicLong totalExecutionNanos = new AtomicLong();
+
+  public LocalExecutionWorkerPool(
+      LocalContentAddressedStorage storage,
+      Path workDir,
+      Protocol protocol,
+      BuckEventBus eventBus,
+      int workerCount) {
+    Preconditions.checkArgument(workerCount > 0, "workerCount must be positive.");
+    this.storage = storage;
+    this.workDir = workDir;
+    this.protocol = protocol;
+    this.eventBus = eventBus;
+    this.workerCount = workerCount;
+    this.executorService =
+        MoreExecutors.listeningDecorator(
+            MostExecutors.newMultiThreadExecutor("local-execution-worker", workerCount));
+  }
+
+  public int getWorkerCount() {
+    return workerCount;
+  }
+
+  /** Queues the action for execution. The result's outputs are present in the storage. */
+  public ListenableFuture<ActionRunner.ActionResult> execute(Protocol.Digest actionDigest) {
+    long queuedAt = System.nanoTime();
+    queued.incrementAndGet();
+    try {
+      return executorService.submit(
+          () -> {
+            long startedAt = System.nanoTime();
+            queued.decrementAndGet();
+            running.incrementAndGet();
+            totalQueuedNanos.addAndGet(startedAt - queuedAt);
+            boolean succeeded = false;
+            try {
+              ActionRunner.ActionResult result = runInSandbox(actionDigest);
+              succeeded = true;
+              return result;
+            } finally {
+              running.decrementAndGet();
+              totalExecutionNanos.addAndGet(System.nanoTime() - startedAt);
+              if (succeeded) {
+                completed.incrementAndGet();
+              } else {
+                failed.incrementAndGet();
+              }
+            }
+          });
+    } catch (RuntimeException e) {
+      queued.decrementAndGet();
+      return Futures.immediateFailedFuture(e);
+    }
+  }
+
+  private ActionRunner.ActionResult runInSandbox(Protocol.Digest actionDigest)
+      throws IOException, InterruptedException {
+    Action action = storage.materializeAction(actionDigest);
+    Path sandbox =
+        workDir.resolve(
+            String.format(
+                "%s-%d", action.getInputRootDigest().getHash(), sandboxCounter.incrementAndGet()));
+    Files.createDirectories(sandbox);
+    try (Closeable ignored = () -> MostFiles.deleteRecursively(sandbox)) {
+      Command command;
+      try (Scope ignored2 = LeafEvents.scope(eventBus, "materializing_inputs")) {
+        command =
+            storage
+                .materializeInputs(
+                    sandbox, action.getInputRootDigest(), Optional.of(action.getCommandDigest()))
+                .get();
+      }
+
+      ActionRunner.ActionResult actionResult =
+          new ActionRunner(protocol, eventBus)
+              .runAction(
+                  command.getCommand(),
+                  command.getEnvironment(),
+                  command.getOutputDirectories().stream()
+                      .map(Paths::get)
+                      .collect(ImmutableSet.toImmutableSet()),
+                  sandbox);
+      try (Scope ignored2 = LeafEvents.scope(eventBus, "uploading_results")) {
+        Futures.getUnchecked(storage.addMissing(actionResult.requiredData));
+      }
+      return actionResult;
+    }
+  }
+
+  /** Returns a snapshot of the queueing metrics of this pool. */
+  public Stats getStats() {
+    return new Stats(
+        workerCount,
+        queued.get(),
+        running.get(),
+        completed.get(),
+        failed.get(),
+        TimeUnit.NANOSECONDS.toMillis(totalQueuedNanos.get()),
+        TimeUnit.NANOSECONDS.toMillis(totalExecutionNanos.get()));
+  }
+
+  @Override
+  public void close() {
+    executorService.shutdownNow();
+    try {
+      if (!executorService.awaitTermination(3, TimeUnit.SECONDS)) {
+        LOG.warn("Local execution workers did not terminate in time.");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** Queueing metrics of a {@link LocalExecutionWorkerPool}. */
+  public static class Stats {
+    public final int workerCount;
+    public final int queuedActions;
+    public final int runningActions;
+    public final long completedActions;
+    public final long failedActions;
+    public final long totalQueuedMillis;
+    public final long totalExecutionMillis;
+
+    Stats(
+        int workerCount,
+        int queuedActions,
+        int runningActions,
+        long completedActions,
+        long failedActions,
+        long totalQueuedMillis,
+        long totalExecutionMillis) {
+      this.workerCount = workerCount;
+      this.queuedActions = queuedActions;
+      this.runningActions = runningActions;
+      this.completedActions = completedActions;
+      this.failedActions = failedActions;
+      this.totalQueuedMillis = totalQueuedMillis;
+      this.totalExecutionMillis = totalExecutionMillis;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "workers=%d queued=%d running=%d completed=%d failed=%d queuedMs=%d executionMs=%d",
+          workerCount,
+          queuedActions,
+          runningActions,
+          completedActions,
+          failedActions,
+          totalQueuedMillis,
+          totalExecutionMillis);
+    }
+  }
+}
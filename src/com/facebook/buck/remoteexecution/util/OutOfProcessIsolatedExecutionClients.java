@@ -19,31 +19,24 @@ package com.facebook.buck.remoteexecution.util;
 import build.bazel.remote.execution.v2.ExecuteOperationMetadata;
 import build.bazel.remote.execution.v2.ExecutedActionMetadata;
 import com.facebook.buck.event.BuckEventBus;
-import com.facebook.buck.event.LeafEvents;
-import com.facebook.buck.io.file.MostFiles;
 import com.facebook.buck.remoteexecution.ContentAddressedStorageClient;
 import com.facebook.buck.remoteexecution.RemoteExecutionClients;
 import com.facebook.buck.remoteexecution.RemoteExecutionServiceClient;
 import com.facebook.buck.remoteexecution.RemoteExecutionServiceClient.ExecutionHandle;
 import com.facebook.buck.remoteexecution.RemoteExecutionServiceClient.ExecutionResult;
 import com.facebook.buck.remoteexecution.interfaces.Protocol;
-import com.facebook.buck.remoteexecution.interfaces.Protocol.Action;
-import com.facebook.buck.remoteexecution.interfaces.Protocol.Command;
 import com.facebook.buck.remoteexecution.interfaces.Protocol.Digest;
 import com.facebook.buck.remoteexecution.interfaces.Protocol.OutputDirectory;
 import com.facebook.buck.remoteexecution.interfaces.Protocol.OutputFile;
 import com.facebook.buck.remoteexecution.proto.RemoteExecutionMetadata;
 import com.facebook.buck.util.NamedTemporaryDirectory;
-import com.facebook.buck.util.Scope;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableSet;
+import com.google.common.io.Closer;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
-import java.io.Closeable;
 import java.io.IOException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.Optional;
 
 /** IsolatedExecution implementation that will run buildrules in a subprocess. */
@@ -51,6 +44,7 @@ public class OutOfProcessIsolatedExecutionClients implements RemoteExecutionClie
   private final Protocol protocol;
   private final NamedTemporaryDirectory workDir;
   private final LocalContentAddressedStorage storage;
+  private final LocalExecutionWorkerPool workerPool;
   private final RemoteExecutionServiceClient executionService;
 
   /**
@@ -59,103 +53,92 @@ public class OutOfProcessIsolatedExecutionClients implements RemoteExecutionClie
    */
   public static OutOfProcessIsolatedExecutionClients create(
       Protocol protocol, BuckEventBus eventBus) throws IOException {
-    return new OutOfProcessIsolatedExecutionClients(protocol, eventBus);
+    return create(protocol, eventBus, 1);
   }
 
-  private OutOfProcessIsolatedExecutionClients(final Protocol protocol, BuckEventBus eventBus)
-      throws IOException {
+  /**
+   * Returns a RemoteExecution implementation that uses a local CAS and runs up to {@code
+   * workerCount} actions concurrently, each in its own sandbox directory.
+   */
+  public static OutOfProcessIsolatedExecutionClients create(
+      Protocol protocol, BuckEventBus eventBus, int workerCount) throws IOException {
+    return new OutOfProcessIsolatedExecutionClients(protocol, eventBus, workerCount);
+  }
+
+  private OutOfProcessIsolatedExecutionClients(
+      final Protocol protocol, BuckEventBus eventBus, int workerCount) throws IOException {
     this.workDir = new NamedTemporaryDirectory("__work__");
     this.storage =
         new LocalContentAddressedStorage(
             workDir.getPath().resolve("__cache__"), protocol, eventBus);
     this.protocol = protocol;
+    this.workerPool =
+        new LocalExecutionWorkerPool(
+            storage, workDir.getPath().resolve("__sandbox__"), protocol, eventBus, workerCount);
     this.executionService =
         (actionDigest, ruleName, metadataProvider) -> {
-          Action action = storage.materializeAction(actionDigest);
-
-          Path buildDir = workDir.getPath().resolve(action.getInputRootDigest().getHash());
-          try (Closeable ignored = () -> MostFiles.deleteRecursively(buildDir)) {
-            Command command;
-            try (Scope ignored2 = LeafEvents.scope(eventBus, "materializing_inputs")) {
-              command =
-                  storage
-                      .materializeInputs(
-                          buildDir,
-                          action.getInputRootDigest(),
-                          Optional.of(action.getCommandDigest()))
-                      .get();
+          ListenableFuture<ExecutionResult> executionResult =
+              Futures.transform(
+                  workerPool.execute(actionDigest),
+                  actionResult ->
+                      new ExecutionResult() {
+                        @Override
+                        public RemoteExecutionMetadata getRemoteExecutionMetadata() {
+                          return RemoteExecutionMetadata.newBuilder().build();
+                        }
+
+                        @Override
+                        public ImmutableList<OutputDirectory> getOutputDirectories() {
+                          return actionResult.outputDirectories;
+                        }
+
+                        @Override
+                        public ImmutableList<OutputFile> getOutputFiles() {
+                          return actionResult.outputFiles;
+                        }
+
+                        @Override
+                        public int getExitCode() {
+                          return actionResult.exitCode;
+                        }
+
+                        @Override
+                        public Optional<String> getStdout() {
+                          return Optional.of(actionResult.stdout);
+                        }
+
+                        @Override
+                        public Optional<String> getStderr() {
+                          return Optional.of(actionResult.stderr);
+                        }
+
+                        @Override
+                        public Digest getActionResultDigest() {
+                          return protocol.newDigest("", 0);
+                        }
+
+                        @Override
+                        public ExecutedActionMetadata getActionMetadata() {
+                          return ExecutedActionMetadata.getDefaultInstance();
+                        }
+                      },
+                  MoreExecutors.directExecutor());
+          return new ExecutionHandle() {
+            @Override
+            public ListenableFuture<ExecutionResult> getResult() {
+              return executionResult;
             }
 
-            ActionRunner.ActionResult actionResult =
-                new ActionRunner(protocol, eventBus)
-                    .runAction(
-                        command.getCommand(),
-                        command.getEnvironment(),
-                        command.getOutputDirectories().stream()
-                            .map(Paths::get)
-                            .collect(ImmutableSet.toImmutableSet()),
-                        buildDir);
-            try (Scope ignored2 = LeafEvents.scope(eventBus, "uploading_results")) {
-              Futures.getUnchecked(storage.addMissing(actionResult.requiredData));
+            @Override
+            public ListenableFuture<ExecuteOperationMetadata> getExecutionStarted() {
+              return SettableFuture.create();
             }
-            ListenableFuture<ExecutionResult> executionResult =
-                Futures.immediateFuture(
-                    new ExecutionResult() {
-                      @Override
-                      public RemoteExecutionMetadata getRemoteExecutionMetadata() {
-                        return RemoteExecutionMetadata.newBuilder().build();
-                      }
-
-                      @Override
-                      public ImmutableList<OutputDirectory> getOutputDirectories() {
-                        return actionResult.outputDirectories;
-                      }
-
-                      @Override
-                      public ImmutableList<OutputFile> getOutputFiles() {
-                        return actionResult.outputFiles;
-                      }
-
-                      @Override
-                      public int getExitCode() {
-                        return actionResult.exitCode;
-                      }
-
-                      @Override
-                      public Optional<String> getStdout() {
-                        return Optional.of(actionResult.stdout);
-                      }
-
-                      @Override
-                      public Optional<String> getStderr() {
-                        return Optional.of(actionResult.stderr);
-                      }
-
-                      @Override
-                      public Digest getActionResultDigest() {
-                        return protocol.newDigest("", 0);
-                      }
-
-                      @Override
-                      public ExecutedActionMetadata getActionMetadata() {
-                        return ExecutedActionMetadata.getDefaultInstance();
-                      }
-                    });
-            return new ExecutionHandle() {
-              @Override
-              public ListenableFuture<ExecutionResult> getResult() {
-                return executionResult;
-              }
-
-              @Override
-              public ListenableFuture<ExecuteOperationMetadata> getExecutionStarted() {
-                return SettableFuture.create();
-              }
-
-              @Override
-              public void cancel() {}
-            };
-          }
+
+            @Override
+            public void cancel() {
+              executionResult.cancel(true);
+            }
+          };
         };
   }
 
@@ -174,8 +157,16 @@ public class OutOfProcessIsolatedExecutionClients implements RemoteExecutionClie
     return protocol;
   }
 
+  /** Returns the queueing metrics of the local workers. */
+  public LocalExecutionWorkerPool.Stats getWorkerPoolStats() {
+    return workerPool.getStats();
+  }
+
   @Override
   public void close() throws IOException {
-    workDir.close();
+    try (Closer closer = Closer.create()) {
+      closer.register(workDir);
+      closer.register(workerPool);
+    }
   }
 }
@@ -24,6 +24,8 @@ import com.facebook.buck.core.exceptions.BuckUncheckedExecutionException;
 import com.facebook.buck.core.exceptions.WrapsException;
 import com.facebook.buck.core.rulekey.AddsToRuleKey;
 import com.facebook.buck.core.rules.SourcePathRuleFinder;
+import com.facebook.buck.core.rules.attr.SupportsPrunedRemoteInputs;
+import com.facebook.buck.core.rules.attr.SupportsPrunedRemoteInputs.PrunedInputs;
 import com.facebook.buck.core.sourcepath.SourcePath;
 import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
 import com.facebook.buck.core.util.log.Logger;
@@ -59,12 +61,15 @@ import com.facebook.buck.util.hashing.FileHashLoader;
 import com.google.common.base.Charsets;
 import com.google.common.base.Joiner;
 import com.google.common.base.Verify;
+import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Multimap;
 import com.google.common.collect.Ordering;
+import com.google.common.collect.Sets;
 import com.google.common.hash.HashCode;
 import com.google.common.hash.HashFunction;
 import com.google.common.io.ByteStreams;
@@ -77,12 +82,16 @@ import java.lang.ref.WeakReference;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
@@ -118,6 +127,7 @@ public class ModernBuildRuleRemoteExecutionHelper implements RemoteExecutionHelp
 
   private final InputsMapBuilder inputsMapBuilder;
   private ImmutableSet<PathMatcher> ignorePaths;
+  private final boolean pruneInputs;
 
   /** Gets the shared path prefix of all the cells. */
   private static Path getCellPathPrefix(
@@ -199,7 +209,23 @@ public class ModernBuildRuleRemoteExecutionHelper implements RemoteExecutionHelp
       Cell rootCell,
       FileHashLoader fileHasher,
       ImmutableSet<PathMatcher> ignorePaths) {
+    this(eventBus, protocol, ruleFinder, rootCell, fileHasher, ignorePaths, false);
+  }
+
+  /**
+   * @param pruneInputs whether to send only the inputs which rules implementing {@link
+   *     SupportsPrunedRemoteInputs} say they read.
+   */
+  public ModernBuildRuleRemoteExecutionHelper(
+      BuckEventBus eventBus,
+      Protocol protocol,
+      SourcePathRuleFinder ruleFinder,
+      Cell rootCell,
+      FileHashLoader fileHasher,
+      ImmutableSet<PathMatcher> ignorePaths,
+      boolean pruneInputs) {
     this.ignorePaths = ignorePaths;
+    this.pruneInputs = pruneInputs;
     ImmutableSet<CanonicalCellName> cellNames = getCellNames(rootCell);
     this.cellResolver = rootCell.getCellPathResolver();
     this.cellPathPrefix = getCellPathPrefix(cellResolver, cellNames);
@@ -402,7 +428,7 @@ public class ModernBuildRuleRemoteExecutionHelper implements RemoteExecutionHelp
       allNodes.add(
           getSerializationTreeAndInputs(hash, requiredDataPredicate, requiredDataBuilder::add));
 
-      MerkleTreeNode inputsMerkleTree = resolveInputs(inputsMapBuilder.getInputs(rule));
+      MerkleTreeNode inputsMerkleTree = resolveInputs(rule);
 
       allNodes.add(inputsMerkleTree);
       getFileInputs(inputsMerkleTree, requiredDataPredicate, requiredDataBuilder::add);
@@ -531,6 +557,20 @@ public class ModernBuildRuleRemoteExecutionHelper implements RemoteExecutionHelp
   private final ConcurrentHashMap<Data, MerkleTreeNode> resolvedInputsCache =
       new ConcurrentHashMap<>();
 
+  private MerkleTreeNode resolveInputs(ModernBuildRule<?> rule) throws IOException {
+    Data inputs = inputsMapBuilder.getInputs(rule);
+    if (pruneInputs && rule instanceof SupportsPrunedRemoteInputs) {
+      Optional<PrunedInputs> prunedInputs;
+      try (Scope ignored = LeafEvents.scope(eventBus, "pruning_inputs")) {
+        prunedInputs = ((SupportsPrunedRemoteInputs) rule).getPrunedRemoteInputs(pathResolver);
+      }
+      if (prunedInputs.isPresent()) {
+        return resolvePrunedInputs(inputs, prunedInputs.get());
+      }
+    }
+    return resolveInputs(inputs);
+  }
+
   private MerkleTreeNode resolveInputs(Data inputs) {
     MerkleTreeNode cached = resolvedInputsCache.get(inputs);
     if (cached != null) {
@@ -544,53 +584,12 @@ public class ModernBuildRuleRemoteExecutionHelper implements RemoteExecutionHelp
         inputs,
         ignored -> {
           try {
-            Map<Path, FileNode> files = new HashMap<>();
-            Map<Path, DirectoryNode> emptyDirectories = new HashMap<>();
-            Map<Path, SymlinkNode> symlinks = new HashMap<>();
-
-            FileInputsAdder inputsAdder =
-                new FileInputsAdder(
-                    new FileInputsAdder.AbstractDelegate() {
-                      @Override
-                      public void addFile(Path path) throws IOException {
-                        for (PathMatcher matcher : ignorePaths) {
-                          if (matcher.matches(path)) {
-                            LOG.info("Ignoring input: " + path);
-                            return;
-                          }
-                        }
-                        files.put(
-                            cellPathPrefix.relativize(path),
-                            protocol.newFileNode(
-                                protocol.newDigest(
-                                    fileHasher.get(path).toString(), (int) Files.size(path)),
-                                path.getFileName().toString(),
-                                Files.isExecutable(path)));
-                      }
-
-                      @Override
-                      public void addEmptyDirectory(Path path) {
-                        DirectoryNode directoryNode =
-                            protocol.newDirectoryNode(
-                                path.getFileName().toString(), getEmptyDirectoryDigest());
-                        emptyDirectories.put(cellPathPrefix.relativize(path), directoryNode);
-                      }
-
-                      @Override
-                      public void addSymlink(Path path, Path fixedTarget) {
-                        symlinks.put(
-                            cellPathPrefix.relativize(path),
-                            protocol.newSymlinkNode(path.getFileName().toString(), fixedTarget));
-                      }
-                    },
-                    cellPathPrefix);
-
-            for (SourcePath path : inputs.getPaths()) {
-              inputsAdder.addInput(pathResolver.getAbsolutePath(path));
-            }
-
             List<MerkleTreeNode> nodes = new ArrayList<>();
-            nodes.add(nodeCache.createNode(files, symlinks, emptyDirectories));
+            nodes.add(
+                createNode(
+                    inputs.getPaths().stream()
+                        .map(pathResolver::getAbsolutePath)
+                        .collect(ImmutableList.toImmutableList())));
 
             inputs.getChildren().forEach(child -> nodes.add(resolveInputs(child)));
             return nodeCache.mergeNodes(nodes);
@@ -600,6 +599,95 @@ public class ModernBuildRuleRemoteExecutionHelper implements RemoteExecutionHelp
         });
   }
 
+  /**
+   * Builds the inputs tree for a rule which pruned some of its inputs, replacing each of those with
+   * just the kept files under it.
+   *
+   * <p>The resulting tree is specific to the rule, so unlike {@link #resolveInputs(Data)} this
+   * isn't cached.
+   */
+  private MerkleTreeNode resolvePrunedInputs(Data inputs, PrunedInputs prunedInputs)
+      throws IOException {
+    ImmutableSet<Path> prunable = prunedInputs.getPrunable();
+    Multimap<Path, Path> keptByInput = HashMultimap.create();
+    for (Path kept : prunedInputs.getKept()) {
+      for (Path path = kept; path != null; path = path.getParent()) {
+        if (prunable.contains(path)) {
+          keptByInput.put(path, kept);
+        }
+      }
+    }
+
+    Set<Path> paths = new LinkedHashSet<>();
+    Set<Data> visited = Sets.newIdentityHashSet();
+    Deque<Data> queue = new ArrayDeque<>();
+    queue.add(inputs);
+    while (!queue.isEmpty()) {
+      Data data = queue.remove();
+      if (!visited.add(data)) {
+        continue;
+      }
+      for (SourcePath sourcePath : data.getPaths()) {
+        Path path = pathResolver.getAbsolutePath(sourcePath);
+        if (prunable.contains(path)) {
+          paths.addAll(keptByInput.get(path));
+        } else {
+          paths.add(path);
+        }
+      }
+      queue.addAll(data.getChildren());
+    }
+    return createNode(paths);
+  }
+
+  private MerkleTreeNode createNode(Iterable<Path> paths) throws IOException {
+    Map<Path, FileNode> files = new HashMap<>();
+    Map<Path, DirectoryNode> emptyDirectories = new HashMap<>();
+    Map<Path, SymlinkNode> symlinks = new HashMap<>();
+
+    FileInputsAdder inputsAdder =
+        new FileInputsAdder(
+            new FileInputsAdder.AbstractDelegate() {
+              @Override
+              public void addFile(Path path) throws IOException {
+                for (PathMatcher matcher : ignorePaths) {
+                  if (matcher.matches(path)) {
+                    LOG.info("Ignoring input: " + path);
+                    return;
+                  }
+                }
+                files.put(
+                    cellPathPrefix.relativize(path),
+                    protocol.newFileNode(
+                        protocol.newDigest(fileHasher.get(path).toString(), (int) Files.size(path)),
+                        path.getFileName().toString(),
+                        Files.isExecutable(path)));
+              }
+
+              @Override
+              public void addEmptyDirectory(Path path) {
+                DirectoryNode directoryNode =
+                    protocol.newDirectoryNode(
+                        path.getFileName().toString(), getEmptyDirectoryDigest());
+                emptyDirectories.put(cellPathPrefix.relativize(path), directoryNode);
+              }
+
+              @Override
+              public void addSymlink(Path path, Path fixedTarget) {
+                symlinks.put(
+                    cellPathPrefix.relativize(path),
+                    protocol.newSymlinkNode(path.getFileName().toString(), fixedTarget));
+              }
+            },
+            cellPathPrefix);
+
+    for (Path path : paths) {
+      inputsAdder.addInput(path);
+    }
+
+    return nodeCache.createNode(files, symlinks, emptyDirectories);
+  }
+
   private Digest getEmptyDirectoryDigest() {
     return emptyDirectoryDigestMemoizer.get(
         () -> {
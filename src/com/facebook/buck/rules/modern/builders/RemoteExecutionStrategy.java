@@ -159,7 +159,8 @@ public class RemoteExecutionStrategy extends AbstractModernBuildRuleStrategy {
                 ruleFinder,
                 rootCell,
                 fileHasher,
-                strategyConfig.getIgnorePaths()),
+                strategyConfig.getIgnorePaths(),
+                strategyConfig.shouldPruneInputs()),
             workerRequirementsProvider,
             MoreExecutors.listeningDecorator(
                 MostExecutors.newMultiThreadExecutor("remote-exec", strategyConfig.getThreads())),
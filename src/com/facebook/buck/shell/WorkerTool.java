@@ -36,4 +36,7 @@ public interface WorkerTool extends AddsToRuleKey {
   HashCode getInstanceKey();
 
   boolean isAsync();
+
+  /** Whether async workers declare how many jobs they run concurrently during the handshake. */
+  boolean isMultiplexed();
 }
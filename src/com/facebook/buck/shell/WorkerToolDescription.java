@@ -125,6 +125,9 @@ public class WorkerToolDescription implements DescriptionWithTargetGraph<WorkerT
     }
 
     boolean async = args.getSoloAsync().orElse(false);
+    boolean multiplexed = args.getMultiplexed().orElse(false);
+    Preconditions.checkArgument(
+        async || !multiplexed, "multiplexed can only be used together with solo_async.");
 
     Preconditions.checkArgument(
         !(args.getMaxWorkers().isPresent() && args.getMaxWorkersPerThreadPercent().isPresent()),
@@ -157,6 +160,7 @@ public class WorkerToolDescription implements DescriptionWithTargetGraph<WorkerT
         tool,
         maxWorkers,
         async,
+        multiplexed,
         args.getPersistent()
             .orElse(buckConfig.getBooleanValue(CONFIG_SECTION, CONFIG_PERSISTENT_KEY, false)));
   }
@@ -202,5 +206,7 @@ public class WorkerToolDescription implements DescriptionWithTargetGraph<WorkerT
     Optional<Boolean> getPersistent();
 
     Optional<Boolean> getSoloAsync();
+
+    Optional<Boolean> getMultiplexed();
   }
 }
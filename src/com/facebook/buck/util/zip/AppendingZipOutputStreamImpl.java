@@ -74,6 +74,13 @@ class AppendingZipOutputStreamImpl implements CustomZipOutputStream.Impl {
     currentOffset += currentEntry.writeLocalFileHeader(delegate);
   }
 
+  @Override
+  public void actuallyWriteDeflatedEntry(DeflatedZipEntry entry) throws IOException {
+    actuallyPutNextEntry(entry.getEntry());
+    currentOffset += Objects.requireNonNull(currentEntry).finish(delegate, entry);
+    currentEntry = null;
+  }
+
   @Override
   public void actuallyCloseEntry() throws IOException {
     if (currentEntry == null) {
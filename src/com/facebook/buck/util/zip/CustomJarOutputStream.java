@@ -16,6 +16,8 @@
 
 package com.facebook.buck.util.zip;
 
+import com.google.common.base.Preconditions;
+import com.google.common.hash.HashCode;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
@@ -51,6 +53,11 @@ public class CustomJarOutputStream extends CustomZipOutputStream {
     impl.writeManifest();
   }
 
+  /** Returns a hasher for the digest recorded in the manifest when entry hashing is enabled. */
+  static Hasher newEntryHasher() {
+    return HashingImpl.HASH_FUNCTION.newHasher();
+  }
+
   private static class HashingImpl extends OutputStream implements Impl {
     private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
 
@@ -111,6 +118,25 @@ public class CustomJarOutputStream extends CustomZipOutputStream {
       currentEntry = null;
     }
 
+    @Override
+    public void actuallyWriteDeflatedEntry(DeflatedZipEntry entry) throws IOException {
+      inner.actuallyWriteDeflatedEntry(entry);
+
+      if (shouldHashEntries && !entry.getEntry().isDirectory()) {
+        if (manifestWritten) {
+          throw new IllegalStateException(
+              "Attempted to write an entry with hashing enabled after the manifest was written.");
+        }
+        HashCode contentHash =
+            Preconditions.checkNotNull(
+                entry.getContentHash(),
+                "Entry %s was deflated without hashing its contents.",
+                entry.getEntry().getName());
+        manifest.setEntryAttribute(
+            entry.getEntry().getName(), DIGEST_ATTRIBUTE_NAME, contentHash.toString());
+      }
+    }
+
     @Override
     public void actuallyClose() throws IOException {
       shouldHashEntries = false;
@@ -18,9 +18,12 @@ package com.facebook.buck.util.zip;
 
 import com.google.common.base.Preconditions;
 import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
 
@@ -55,6 +58,32 @@ public class CustomZipOutputStream extends OutputStream {
     void actuallyWrite(byte b[], int off, int len) throws IOException;
 
     void actuallyClose() throws IOException;
+
+    /**
+     * Called by {@link CustomZipOutputStream#writeDeflatedEntry(DeflatedZipEntry)} to write an
+     * entry whose contents are already deflated. The same guarantees as for {@link
+     * #actuallyPutNextEntry(ZipEntry)} apply.
+     *
+     * <p>By default, the contents are inflated again and written as for any other entry, which
+     * yields the same bytes. Impls which can write the deflated contents directly should do so.
+     */
+    default void actuallyWriteDeflatedEntry(DeflatedZipEntry entry) throws IOException {
+      actuallyPutNextEntry(entry.getEntry());
+      Inflater inflater = new Inflater(/* nowrap */ true);
+      try (InputStream contents =
+          new InflaterInputStream(
+              new ByteArrayInputStream(
+                  entry.getCompressedData(), 0, (int) entry.getCompressedSize()),
+              inflater)) {
+        byte[] buffer = new byte[8192];
+        for (int read = contents.read(buffer); read != -1; read = contents.read(buffer)) {
+          actuallyWrite(buffer, 0, read);
+        }
+      } finally {
+        inflater.end();
+      }
+      actuallyCloseEntry();
+    }
   }
 
   private final Impl impl;
@@ -77,6 +106,19 @@ public class CustomZipOutputStream extends OutputStream {
     entryOpen = true;
   }
 
+  /**
+   * Writes a complete entry whose contents were deflated ahead of time. The result is the same as
+   * putting the entry, writing its uncompressed contents and closing it.
+   */
+  public final void writeDeflatedEntry(DeflatedZipEntry entry) throws IOException {
+    Preconditions.checkState(state != State.CLOSED, "Stream has been closed.");
+
+    state = State.OPEN;
+    closeEntry();
+    validateEntry(entry.getEntry());
+    impl.actuallyWriteDeflatedEntry(entry);
+  }
+
   private void validateEntry(ZipEntry entry) {
     if (entry.getMethod() == ZipEntry.STORED) {
       Preconditions.checkState(
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.util.zip;
+
+import com.google.common.base.Preconditions;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import javax.annotation.Nullable;
+
+/**
+ * The contents of a zip entry which have already been deflated, so that the entry can be written
+ * with {@link CustomZipOutputStream#writeDeflatedEntry(DeflatedZipEntry)}.
+ *
+ * <p>Entries are deflated exactly like {@link CustomZipOutputStream} would, so the resulting zip is
+ * byte-for-byte identical to one written entry by entry. Unlike writing to the stream, deflating is
+ * thread-safe, which lets callers compress several entries concurrently. Contents that are already
+ * deflated can also be {@link #copy copied} as they are.
+ */
+public class DeflatedZipEntry {
+  private static final int BUFFER_SIZE = 8192;
+
+  private final ZipEntry entry;
+  private final byte[] compressedData;
+  private final int compressedSize;
+  private final long size;
+  private final long crc;
+  @Nullable private final HashCode contentHash;
+
+  private DeflatedZipEntry(
+      ZipEntry entry,
+      byte[] compressedData,
+      int compressedSize,
+      long size,
+      long crc,
+      @Nullable HashCode contentHash) {
+    this.entry = entry;
+    this.compressedData = compressedData;
+    this.compressedSize = compressedSize;
+    this.size = size;
+    this.crc = crc;
+    this.contentHash = contentHash;
+  }
+
+  /**
+   * Deflates {@code contents} with the compression level of {@code entry}. The entry itself is not
+   * modified until the deflated entry is written.
+   *
+   * @param hashContents whether to compute the digest used by {@link CustomJarOutputStream} when
+   *     entry hashing is enabled.
+   */
+  public static DeflatedZipEntry deflate(ZipEntry entry, InputStream contents, boolean hashContents)
+      throws IOException {
+    Preconditions.checkArgument(isDeflated(entry), "%s is not a deflated entry.", entry);
+    Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    if (entry instanceof CustomZipEntry) {
+      deflater.setLevel(((CustomZipEntry) entry).getCompressionLevel());
+    }
+    Hasher crc = Hashing.crc32().newHasher();
+    Hasher contentHasher = hashContents ? CustomJarOutputStream.newEntryHasher() : null;
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] input = new byte[BUFFER_SIZE];
+    byte[] output = new byte[BUFFER_SIZE];
+    try {
+      int read;
+      while ((read = contents.read(input)) != -1) {
+        if (read == 0) {
+          continue;
+        }
+        crc.putBytes(input, 0, read);
+        if (contentHasher != null) {
+          contentHasher.putBytes(input, 0, read);
+        }
+        deflater.setInput(input, 0, read);
+        while (!deflater.needsInput()) {
+          out.write(output, 0, deflater.deflate(output, 0, output.length));
+        }
+      }
+      deflater.finish();
+      while (!deflater.finished()) {
+        out.write(output, 0, deflater.deflate(output, 0, output.length));
+      }
+      return new DeflatedZipEntry(
+          entry,
+          out.toByteArray(),
+          out.size(),
+          deflater.getBytesRead(),
+          crc.hash().padToLong(),
+          contentHasher == null ? null : contentHasher.hash());
+    } finally {
+      deflater.end();
+    }
+  }
+
+  /**
+   * Wraps contents that were deflated elsewhere, such as the raw bytes of an entry in another zip
+   * file, so they can be written without being inflated and deflated again.
+   *
+   * @param size the size of the uncompressed contents.
+   * @param crc the CRC-32 of the uncompressed contents.
+   */
+  public static DeflatedZipEntry copy(
+      ZipEntry entry, InputStream compressedContents, long size, long crc) throws IOException {
+    Preconditions.checkArgument(isDeflated(entry), "%s is not a deflated entry.", entry);
+    byte[] compressedData = ByteStreams.toByteArray(compressedContents);
+    return new DeflatedZipEntry(entry, compressedData, compressedData.length, size, crc, null);
+  }
+
+  /** Whether the entry will be deflated (as opposed to stored) when written. */
+  public static boolean isDeflated(ZipEntry entry) {
+    return entry.getMethod() == -1 || entry.getMethod() == ZipEntry.DEFLATED;
+  }
+
+  public ZipEntry getEntry() {
+    return entry;
+  }
+
+  byte[] getCompressedData() {
+    return compressedData;
+  }
+
+  long getCompressedSize() {
+    return compressedSize;
+  }
+
+  long getSize() {
+    return size;
+  }
+
+  long getCrc() {
+    return crc;
+  }
+
+  /** The digest of the uncompressed contents, if it was requested when deflating. */
+  @Nullable
+  HashCode getContentHash() {
+    return contentHash;
+  }
+}
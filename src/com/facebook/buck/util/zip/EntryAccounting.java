@@ -173,16 +173,7 @@ class EntryAccounting {
       // | Normal   |   0   |   0   |
       // | Best     |   1   |   0   |
       // +----------+-------+-------+
-      int level = ((CustomZipEntry) entry).getCompressionLevel();
-      switch (level) {
-        case Deflater.BEST_COMPRESSION:
-          flags |= (1 << 1);
-          break;
-
-        case Deflater.BEST_SPEED:
-          flags |= (1 << 2);
-          break;
-      }
+      flags |= getCompressionLevelFlags(((CustomZipEntry) entry).getCompressionLevel());
     }
 
     if (requiresDataDescriptor()) {
@@ -236,6 +227,18 @@ class EntryAccounting {
     return stream.getCount();
   }
 
+  /** The general purpose bits (1 and 2) describing the given deflate compression level. */
+  static int getCompressionLevelFlags(int level) {
+    switch (level) {
+      case Deflater.BEST_COMPRESSION:
+        return 1 << 1;
+      case Deflater.BEST_SPEED:
+        return 1 << 2;
+      default:
+        return 0;
+    }
+  }
+
   private long writeDataDescriptor(OutputStream rawOut) throws IOException {
     if (!requiresDataDescriptor()) {
       return 0;
@@ -318,6 +321,28 @@ class EntryAccounting {
     return entry.getCompressedSize() + dataDescriptorLength;
   }
 
+  /**
+   * Finish the entry with contents that were deflated ahead of time, writing them and the data
+   * descriptor. Returns the same as {@link #finish(OutputStream)} and must be called instead of it.
+   */
+  public long finish(OutputStream out, DeflatedZipEntry deflated) throws IOException {
+    Preconditions.checkState(deflater != null);
+    Preconditions.checkState(method == Method.DEFLATE, "Entry %s is not deflated.", getName());
+
+    out.write(deflated.getCompressedData(), 0, (int) deflated.getCompressedSize());
+    entry.setSize(deflated.getSize());
+    entry.setCompressedSize(deflated.getCompressedSize());
+    entry.setCrc(deflated.getCrc());
+
+    long dataDescriptorLength = writeDataDescriptor(out);
+
+    deflater.end();
+    deflater = null;
+    buffer = null;
+
+    return entry.getCompressedSize() + dataDescriptorLength;
+  }
+
   private boolean requiresDataDescriptor() {
     return method == Method.DEFLATE;
   }
@@ -17,12 +17,14 @@
 package com.facebook.buck.util.zip;
 
 import com.facebook.buck.core.exceptions.HumanReadableException;
+import com.facebook.buck.util.function.ThrowingSupplier;
 import com.facebook.buck.util.stream.RichStream;
 import com.google.common.base.Charsets;
 import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.io.ByteStreams;
 import com.google.common.io.CharStreams;
+import com.google.common.util.concurrent.Futures;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -37,6 +39,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Predicate;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
@@ -45,6 +50,9 @@ import java.util.stream.Stream;
 import javax.annotation.Nullable;
 
 public class JarBuilder {
+  /** How many entries may be deflated ahead of the entry being written. */
+  private static final int MAX_ENTRIES_IN_FLIGHT = 64;
+
   public interface Observer {
     Observer IGNORING =
         new Observer() {
@@ -67,6 +75,8 @@ public class JarBuilder {
   private boolean shouldMergeManifests;
   private boolean shouldDisallowAllDuplicates;
   private boolean shouldHashEntries;
+  private boolean shouldCopyCompressedEntries;
+  @Nullable private Executor deflateExecutor;
   private Predicate<? super CustomZipEntry> removeEntryPredicate = entry -> false;
   private List<JarEntryContainer> sourceContainers = new ArrayList<>();
   private Set<String> alreadyAddedEntries = new HashSet<>();
@@ -126,6 +136,29 @@ public class JarBuilder {
     return this;
   }
 
+  /**
+   * Sets whether entries that are already deflated in their source (such as in an input jar) are
+   * copied as they are instead of being inflated and deflated again. Only entries compressed at
+   * the level they would be written at are copied, and never while hashing entries, since that
+   * needs their uncompressed contents. The copied bytes may differ from what this JarBuilder would
+   * have produced, but are deterministic for the same inputs.
+   */
+  public JarBuilder setShouldCopyCompressedEntries(boolean shouldCopyCompressedEntries) {
+    this.shouldCopyCompressedEntries = shouldCopyCompressedEntries;
+    return this;
+  }
+
+  /**
+   * Sets an executor to deflate entries on, a few entries ahead of the one being written. The
+   * executor is usually shared with the rest of the build, so entries it hasn't gotten to yet are
+   * deflated on the writing thread instead of waiting for it. The resulting jar is identical to the
+   * one written without an executor.
+   */
+  public JarBuilder setDeflateExecutor(@Nullable Executor deflateExecutor) {
+    this.deflateExecutor = deflateExecutor;
+    return this;
+  }
+
   public JarBuilder setRemoveEntryPredicate(
       Predicate<? super CustomZipEntry> removeEntryPredicate) {
     this.removeEntryPredicate = removeEntryPredicate;
@@ -150,7 +183,15 @@ public class JarBuilder {
       }
       sortedEntries.sort(Comparator.comparing(supplier -> supplier.getEntry().getName()));
 
-      addEntriesToJar(sortedEntries, jar);
+      List<PendingEntry> pendingEntries = new ArrayList<>();
+      for (JarEntrySupplier entrySupplier : sortedEntries) {
+        addEntryToJar(entrySupplier, pendingEntries);
+      }
+      if (deflateExecutor != null) {
+        writeEntriesInParallel(pendingEntries, jar, deflateExecutor);
+      } else {
+        writeEntries(pendingEntries, jar);
+      }
 
       addServices(jar);
 
@@ -178,7 +219,9 @@ public class JarBuilder {
   }
 
   private void writeManifest(CustomJarOutputStream jar) throws IOException {
-    mkdirs("META-INF/", jar);
+    List<PendingEntry> directories = new ArrayList<>();
+    mkdirs("META-INF/", directories);
+    writeEntries(directories, jar);
     DeterministicManifest manifest = jar.getManifest();
     manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
 
@@ -226,14 +269,11 @@ public class JarBuilder {
     return entry;
   }
 
-  private void addEntriesToJar(Iterable<JarEntrySupplier> entries, CustomJarOutputStream jar)
-      throws IOException {
-    for (JarEntrySupplier entrySupplier : entries) {
-      addEntryToJar(entrySupplier, jar);
-    }
-  }
-
-  private void addEntryToJar(JarEntrySupplier entrySupplier, CustomJarOutputStream jar)
+  /**
+   * Decides whether and where the entry goes in the jar, adding it (and any missing parent
+   * directories) to {@code pendingEntries}. Services are collected rather than added.
+   */
+  private void addEntryToJar(JarEntrySupplier entrySupplier, List<PendingEntry> pendingEntries)
       throws IOException {
     CustomZipEntry entry = entrySupplier.getEntry();
     String entryName = entry.getName();
@@ -248,7 +288,7 @@ public class JarBuilder {
       return;
     }
 
-    mkdirs(getParentDir(entryName), jar);
+    mkdirs(getParentDir(entryName), pendingEntries);
 
     // We're in the process of merging a bunch of different jar files. These typically contain
     // just ".class" files and the manifest, but they can also include things like license files
@@ -275,21 +315,124 @@ public class JarBuilder {
       return;
     }
 
-    jar.putNextEntry(entry);
-    try (InputStream entryInputStream = entrySupplier.getInputStreamSupplier().get()) {
-      if (entryInputStream != null) {
-        // Null stream means a directory
-        ByteStreams.copy(entryInputStream, jar);
+    pendingEntries.add(new PendingEntry(entry, entrySupplier));
+  }
+
+  private void writeEntries(List<PendingEntry> entries, CustomJarOutputStream jar)
+      throws IOException {
+    for (PendingEntry entry : entries) {
+      writeEntry(entry, jar);
+    }
+  }
+
+  private void writeEntry(PendingEntry pendingEntry, CustomJarOutputStream jar)
+      throws IOException {
+    DeflatedZipEntry copied = copyCompressedEntry(pendingEntry);
+    if (copied != null) {
+      jar.writeDeflatedEntry(copied);
+      return;
+    }
+    jar.putNextEntry(pendingEntry.entry);
+    if (pendingEntry.supplier != null) {
+      try (InputStream entryInputStream = pendingEntry.supplier.getInputStreamSupplier().get()) {
+        if (entryInputStream != null) {
+          // Null stream means a directory
+          ByteStreams.copy(entryInputStream, jar);
+        }
       }
     }
     jar.closeEntry();
   }
 
+  /**
+   * Writes the entries in order, while deflating up to {@link #MAX_ENTRIES_IN_FLIGHT} entries ahead
+   * of the one being written on the given executor.
+   */
+  private void writeEntriesInParallel(
+      List<PendingEntry> entries, CustomJarOutputStream jar, Executor executor)
+      throws IOException {
+    List<FutureTask<DeflatedZipEntry>> deflatedEntries = new ArrayList<>(entries.size());
+    try {
+      for (int i = 0; i < entries.size(); i++) {
+        while (deflatedEntries.size() < Math.min(entries.size(), i + MAX_ENTRIES_IN_FLIGHT)) {
+          deflatedEntries.add(deflate(entries.get(deflatedEntries.size()), executor));
+        }
+        // Drop the reference so that the compressed bytes can be collected once written.
+        FutureTask<DeflatedZipEntry> deflatedEntry = deflatedEntries.set(i, null);
+        DeflatedZipEntry deflated = null;
+        if (deflatedEntry != null) {
+          // Deflate it here if the executor hasn't started on it yet. This does nothing if it has.
+          deflatedEntry.run();
+          deflated = Futures.getChecked(deflatedEntry, IOException.class);
+        }
+        if (deflated == null) {
+          writeEntry(entries.get(i), jar);
+        } else {
+          jar.writeDeflatedEntry(deflated);
+        }
+      }
+    } finally {
+      for (FutureTask<DeflatedZipEntry> deflatedEntry : deflatedEntries) {
+        if (deflatedEntry != null) {
+          deflatedEntry.cancel(false);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns a task, already handed to the executor, which deflates the contents of the entry, or
+   * null if the entry is not deflated and so needs to be written the usual way. The task's value is
+   * null for entries without contents.
+   */
+  @Nullable
+  private FutureTask<DeflatedZipEntry> deflate(PendingEntry pendingEntry, Executor executor) {
+    JarEntrySupplier supplier = pendingEntry.supplier;
+    if (supplier == null || !DeflatedZipEntry.isDeflated(pendingEntry.entry)) {
+      return null;
+    }
+    FutureTask<DeflatedZipEntry> task =
+        new FutureTask<>(
+            () -> {
+              DeflatedZipEntry copied = copyCompressedEntry(pendingEntry);
+              if (copied != null) {
+                return copied;
+              }
+              try (InputStream entryInputStream = supplier.getInputStreamSupplier().get()) {
+                if (entryInputStream == null) {
+                  return null;
+                }
+                return DeflatedZipEntry.deflate(
+                    pendingEntry.entry, entryInputStream, shouldHashEntries);
+              }
+            });
+    try {
+      executor.execute(task);
+    } catch (RejectedExecutionException e) {
+      // The writing thread runs it instead.
+    }
+    return task;
+  }
+
+  /**
+   * Returns the entry's contents as they are already deflated in its source, or null if they
+   * should not or cannot be copied.
+   */
+  @Nullable
+  private DeflatedZipEntry copyCompressedEntry(PendingEntry pendingEntry) throws IOException {
+    if (!shouldCopyCompressedEntries || shouldHashEntries || pendingEntry.supplier == null) {
+      return null;
+    }
+    ThrowingSupplier<DeflatedZipEntry, IOException> deflatedEntrySupplier =
+        pendingEntry.supplier.getDeflatedEntrySupplier();
+    return deflatedEntrySupplier == null ? null : deflatedEntrySupplier.get();
+  }
+
   private boolean isService(String entryName) {
     return entryName.startsWith("META-INF/services/") && !entryName.endsWith("/");
   }
 
-  private void mkdirs(String name, CustomJarOutputStream jar) throws IOException {
+  private void mkdirs(String name, List<PendingEntry> pendingEntries) {
     if (name.isEmpty()) {
       return;
     }
@@ -300,10 +443,9 @@ public class JarBuilder {
     }
 
     String parent = getParentDir(name);
-    mkdirs(parent, jar);
+    mkdirs(parent, pendingEntries);
 
-    jar.putNextEntry(new CustomZipEntry(name));
-    jar.closeEntry();
+    pendingEntries.add(new PendingEntry(new CustomZipEntry(name), null));
     alreadyAddedEntries.add(name);
   }
 
@@ -348,6 +490,17 @@ public class JarBuilder {
         || (!shouldDisallowAllDuplicates && !name.endsWith(".class") && !name.endsWith("/"));
   }
 
+  /** An entry that has been accepted into the jar, along with its contents if it has any. */
+  private static class PendingEntry {
+    private final CustomZipEntry entry;
+    @Nullable private final JarEntrySupplier supplier;
+
+    private PendingEntry(CustomZipEntry entry, @Nullable JarEntrySupplier supplier) {
+      this.entry = entry;
+      this.supplier = supplier;
+    }
+  }
+
   private static class SingletonJarEntryContainer implements JarEntryContainer {
     private final JarEntrySupplier supplier;
 
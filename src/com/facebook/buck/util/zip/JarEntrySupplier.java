@@ -19,6 +19,7 @@ package com.facebook.buck.util.zip;
 import com.facebook.buck.util.function.ThrowingSupplier;
 import java.io.IOException;
 import java.io.InputStream;
+import javax.annotation.Nullable;
 
 /**
  * Encapsulates a file or directory to be added as a single entry to a jar by {@link JarBuilder}.
@@ -27,14 +28,28 @@ public class JarEntrySupplier {
   private final CustomZipEntry entry;
   private final String owner;
   private final ThrowingSupplier<InputStream, IOException> inputStreamSupplier;
+  @Nullable private final ThrowingSupplier<DeflatedZipEntry, IOException> deflatedEntrySupplier;
 
   public JarEntrySupplier(
       CustomZipEntry entry,
       String owner,
       ThrowingSupplier<InputStream, IOException> inputStreamSupplier) {
+    this(entry, owner, inputStreamSupplier, null);
+  }
+
+  /**
+   * @param deflatedEntrySupplier supplies the contents of the entry already deflated with the
+   *     entry's compression settings, or null if they are not available in that form.
+   */
+  public JarEntrySupplier(
+      CustomZipEntry entry,
+      String owner,
+      ThrowingSupplier<InputStream, IOException> inputStreamSupplier,
+      @Nullable ThrowingSupplier<DeflatedZipEntry, IOException> deflatedEntrySupplier) {
     this.entry = entry;
     this.owner = owner;
     this.inputStreamSupplier = inputStreamSupplier;
+    this.deflatedEntrySupplier = deflatedEntrySupplier;
   }
 
   public CustomZipEntry getEntry() {
@@ -48,4 +63,13 @@ public class JarEntrySupplier {
   public ThrowingSupplier<InputStream, IOException> getInputStreamSupplier() {
     return inputStreamSupplier;
   }
+
+  /**
+   * Supplies the already deflated contents of the entry, if it has any. The supplier may still
+   * return null, in which case the contents must be read from {@link #getInputStreamSupplier()}.
+   */
+  @Nullable
+  public ThrowingSupplier<DeflatedZipEntry, IOException> getDeflatedEntrySupplier() {
+    return deflatedEntrySupplier;
+  }
 }
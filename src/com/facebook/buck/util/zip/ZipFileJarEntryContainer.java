@@ -18,18 +18,28 @@ package com.facebook.buck.util.zip;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import javax.annotation.Nullable;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipFile;
 
 /** Provides all entries of a given zip or jar file, so they can be added to another jar. */
 class ZipFileJarEntryContainer implements JarEntryContainer {
+  private static final int COMPRESSION_LEVEL_FLAGS = (1 << 1) | (1 << 2);
+  // Copied entries are buffered in memory, so leave huge ones to be streamed.
+  private static final long MAX_COPIED_ENTRY_SIZE = 64 * 1024 * 1024;
+
   private final String owner;
   private final Path jarFilePath;
   @Nullable private JarFile jar;
+  // Opened only when compressed entries are copied, since JarFile does not expose raw contents.
+  @Nullable private ZipFile rawZip;
 
   public ZipFileJarEntryContainer(Path jarFilePath) {
     this.jarFilePath = jarFilePath;
@@ -46,9 +56,14 @@ class ZipFileJarEntryContainer implements JarEntryContainer {
   public Stream<JarEntrySupplier> stream() throws IOException {
     return getJarFile().stream()
         .map(
-            entry ->
-                new JarEntrySupplier(
-                    makeCustomEntry(entry), owner, () -> getJarFile().getInputStream(entry)));
+            entry -> {
+              CustomZipEntry customEntry = makeCustomEntry(entry);
+              return new JarEntrySupplier(
+                  customEntry,
+                  owner,
+                  () -> getJarFile().getInputStream(entry),
+                  () -> getDeflatedEntry(customEntry));
+            });
   }
 
   @Override
@@ -57,6 +72,54 @@ class ZipFileJarEntryContainer implements JarEntryContainer {
       jar.close();
       jar = null;
     }
+    if (rawZip != null) {
+      rawZip.close();
+      rawZip = null;
+    }
+  }
+
+  /**
+   * Returns the compressed contents of the entry as they are stored in this file, or null if they
+   * would not be deflated the same way when written, i.e. if the entry is stored, encrypted, or was
+   * compressed at a different level than {@code entry} asks for.
+   */
+  @Nullable
+  private DeflatedZipEntry getDeflatedEntry(CustomZipEntry entry) throws IOException {
+    if (!DeflatedZipEntry.isDeflated(entry)) {
+      return null;
+    }
+    Iterator<ZipArchiveEntry> rawEntries = getRawZip().getEntries(entry.getName()).iterator();
+    if (!rawEntries.hasNext()) {
+      return null;
+    }
+    ZipArchiveEntry rawEntry = rawEntries.next();
+    if (rawEntries.hasNext()) {
+      // Which of the duplicates JarFile returned is ambiguous, so don't guess.
+      return null;
+    }
+    int levelFlags = EntryAccounting.getCompressionLevelFlags(entry.getCompressionLevel());
+    if (rawEntry.getMethod() != ZipEntry.DEFLATED
+        || rawEntry.getGeneralPurposeBit().usesEncryption()
+        || (rawEntry.getRawFlag() & COMPRESSION_LEVEL_FLAGS) != levelFlags
+        || rawEntry.getCompressedSize() > MAX_COPIED_ENTRY_SIZE) {
+      return null;
+    }
+    try (InputStream compressedContents = getRawZip().getRawInputStream(rawEntry)) {
+      return DeflatedZipEntry.copy(
+          entry, compressedContents, rawEntry.getSize(), rawEntry.getCrc());
+    }
+  }
+
+  private synchronized ZipFile getRawZip() throws IOException {
+    if (rawZip == null) {
+      try {
+        rawZip = new ZipFile(jarFilePath.toFile());
+      } catch (IOException e) {
+        throw new IOException("Failed to process ZipFile " + owner, e);
+      }
+    }
+
+    return rawZip;
   }
 
   private JarFile getJarFile() throws IOException {
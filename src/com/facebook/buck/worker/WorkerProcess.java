@@ -35,8 +35,10 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashSet;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -50,6 +52,7 @@ public class WorkerProcess implements Closeable {
   private final ProjectFilesystem filesystem;
   private final Path tmpPath;
   private final Path stdErr;
+  private final boolean multiplexed;
   private final AtomicInteger currentMessageID = new AtomicInteger();
   private boolean handshakePerformed = false;
   private final ConcurrentHashMap<Integer, SettableFuture<Integer>> commandExitCodes =
@@ -78,8 +81,23 @@ public class WorkerProcess implements Closeable {
       ProjectFilesystem filesystem,
       Path stdErr,
       Path tmpPath) {
+    this(executor, processParams, filesystem, stdErr, tmpPath, false);
+  }
+
+  /**
+   * @param multiplexed Whether to handshake with {@link WorkerProcessProtocolOne}, which lets the
+   *     worker declare how many jobs it runs concurrently.
+   */
+  public WorkerProcess(
+      ProcessExecutor executor,
+      ProcessExecutorParams processParams,
+      ProjectFilesystem filesystem,
+      Path stdErr,
+      Path tmpPath,
+      boolean multiplexed) {
     this.executor = executor;
     this.stdErr = stdErr;
+    this.multiplexed = multiplexed;
     this.processParams =
         processParams.withRedirectError(ProcessBuilder.Redirect.to(stdErr.toFile()));
     this.filesystem = filesystem;
@@ -102,17 +120,19 @@ public class WorkerProcess implements Closeable {
         "Starting up process %d using command: '%s'",
         this.hashCode(), Joiner.on(' ').join(processParams.getCommand()));
     launchedProcess = executor.launchProcess(processParams);
+    Runnable onClose =
+        () -> {
+          if (launchedProcess != null) {
+            executor.destroyLaunchedProcess(launchedProcess);
+          }
+        };
+    Supplier<Boolean> isAlive = () -> launchedProcess != null && launchedProcess.isAlive();
     protocol =
-        new WorkerProcessProtocolZero.CommandSender(
-            launchedProcess.getStdin(),
-            launchedProcess.getStdout(),
-            stdErr,
-            () -> {
-              if (launchedProcess != null) {
-                executor.destroyLaunchedProcess(launchedProcess);
-              }
-            },
-            () -> launchedProcess != null && launchedProcess.isAlive());
+        multiplexed
+            ? new WorkerProcessProtocolOne.CommandSender(
+                launchedProcess.getStdin(), launchedProcess.getStdout(), stdErr, onClose, isAlive)
+            : new WorkerProcessProtocolZero.CommandSender(
+                launchedProcess.getStdin(), launchedProcess.getStdout(), stdErr, onClose, isAlive);
 
     LOG.debug("Handshaking with process %d", this.hashCode());
     protocol.handshake(currentMessageID.getAndIncrement());
@@ -120,6 +140,14 @@ public class WorkerProcess implements Closeable {
     readerThread.start();
   }
 
+  /**
+   * Returns the number of jobs the worker agreed to run concurrently during the handshake, or empty
+   * if it did not declare a limit.
+   */
+  public synchronized OptionalInt getMaxConcurrentJobs() {
+    return protocol == null ? OptionalInt.empty() : protocol.getMaxConcurrentCommands();
+  }
+
   public ListenableFuture<WorkerJobResult> submitJob(String jobArgs) throws IOException {
     int messageID = currentMessageID.getAndIncrement();
     Path argsPath = Paths.get(tmpPath.toString(), String.format("%d.args", messageID));
@@ -50,6 +50,12 @@ public interface WorkerProcessParams {
    */
   boolean isAsync();
 
+  /**
+   * Whether async processes handshake with {@link WorkerProcessProtocolOne}, so that each one runs
+   * as many tasks as it declares during the handshake, up to a max number of tasks in total.
+   */
+  boolean isMultiplexed();
+
   /**
    * Identifies the instance of the persisted worker process pool. Defines when worker process pool
    * should be invalidated.
@@ -65,8 +71,15 @@ public interface WorkerProcessParams {
       ImmutableMap<String, String> startupEnvironment,
       int maxWorkers,
       boolean isAsync,
+      boolean isMultiplexed,
       Optional<WorkerProcessIdentity> workerProcessIdentity) {
     return ImmutableWorkerProcessParams.of(
-        tempDir, startupCommand, startupEnvironment, maxWorkers, isAsync, workerProcessIdentity);
+        tempDir,
+        startupCommand,
+        startupEnvironment,
+        maxWorkers,
+        isAsync,
+        isMultiplexed,
+        workerProcessIdentity);
   }
 }
@@ -17,20 +17,39 @@
 package com.facebook.buck.worker;
 
 import com.facebook.buck.util.function.ThrowingSupplier;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.hash.HashCode;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Semaphore;
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
 
+/**
+ * A pool of worker processes which each run several jobs concurrently.
+ *
+ * <p>Jobs go to the live worker with the fewest jobs in flight that still has spare capacity, as
+ * declared by the worker during the handshake. A new worker is only started when all workers are
+ * at capacity, so a worker which does not declare a limit serves the whole pool on its own.
+ */
 public class WorkerProcessPoolAsync implements WorkerProcessPool {
 
   private final HashCode poolHash;
   private final int maxRequests;
   private final ThrowingSupplier<WorkerProcess, IOException> startWorkerProcess;
   private final Semaphore concurrencyLimiter;
-  @Nullable private WorkerProcess workerProcess;
+
+  @GuardedBy("this")
+  private final List<WorkerProcess> workerProcesses = new ArrayList<>();
+
+  @GuardedBy("this")
+  private final Map<WorkerProcess, Integer> jobsInFlight = new IdentityHashMap<>();
 
   public WorkerProcessPoolAsync(
       int maxRequests,
@@ -55,16 +74,22 @@ public class WorkerProcessPoolAsync implements WorkerProcessPool {
   @Override
   public ListenableFuture<WorkerJobResult> submitJob(String expandedJobArgs)
       throws IOException, InterruptedException {
-    synchronized (this) {
-      if (workerProcess == null || !workerProcess.isAlive()) {
-        workerProcess = startWorkerProcess.get();
-      }
-    }
-
     concurrencyLimiter.acquire();
     try {
-      ListenableFuture<WorkerJobResult> result = workerProcess.submitJob(expandedJobArgs);
-      result.addListener(concurrencyLimiter::release, MoreExecutors.directExecutor());
+      WorkerProcess workerProcess = acquireWorkerProcess();
+      ListenableFuture<WorkerJobResult> result;
+      try {
+        result = workerProcess.submitJob(expandedJobArgs);
+      } catch (Throwable t) {
+        releaseWorkerProcess(workerProcess);
+        throw t;
+      }
+      result.addListener(
+          () -> {
+            releaseWorkerProcess(workerProcess);
+            concurrencyLimiter.release();
+          },
+          MoreExecutors.directExecutor());
       return result;
     } catch (Throwable t) {
       concurrencyLimiter.release();
@@ -72,12 +97,49 @@ public class WorkerProcessPoolAsync implements WorkerProcessPool {
     }
   }
 
-  @Override
-  public void close() {
-    synchronized (this) {
-      if (workerProcess != null) {
+  private synchronized WorkerProcess acquireWorkerProcess() throws IOException {
+    // Close dead workers before dropping them, so that their streams and process handles are
+    // released.
+    for (Iterator<WorkerProcess> it = workerProcesses.iterator(); it.hasNext(); ) {
+      WorkerProcess workerProcess = it.next();
+      if (!workerProcess.isAlive()) {
         workerProcess.close();
+        jobsInFlight.remove(workerProcess);
+        it.remove();
       }
     }
+
+    @Nullable WorkerProcess leastLoaded = null;
+    int leastLoadedJobs = Integer.MAX_VALUE;
+    for (WorkerProcess workerProcess : workerProcesses) {
+      int jobs = jobsInFlight.getOrDefault(workerProcess, 0);
+      if (jobs < workerProcess.getMaxConcurrentJobs().orElse(Integer.MAX_VALUE)
+          && jobs < leastLoadedJobs) {
+        leastLoaded = workerProcess;
+        leastLoadedJobs = jobs;
+      }
+    }
+    if (leastLoaded == null) {
+      leastLoaded = startWorkerProcess.get();
+      workerProcesses.add(leastLoaded);
+    }
+    jobsInFlight.merge(leastLoaded, 1, Integer::sum);
+    return leastLoaded;
+  }
+
+  private synchronized void releaseWorkerProcess(WorkerProcess workerProcess) {
+    jobsInFlight.computeIfPresent(workerProcess, (process, jobs) -> jobs > 1 ? jobs - 1 : null);
+  }
+
+  @VisibleForTesting
+  synchronized int getWorkerProcessCount() {
+    return workerProcesses.size();
+  }
+
+  @Override
+  public synchronized void close() {
+    for (WorkerProcess workerProcess : workerProcesses) {
+      workerProcess.close();
+    }
   }
 }
@@ -126,7 +126,11 @@ public class WorkerProcessPoolFactory {
           Path tmpDir = workerTmpDir.resolve(Integer.toString(workerNumber.getAndIncrement()));
           filesystem.mkdirs(tmpDir);
           WorkerProcess process =
-              WorkerProcessPoolFactory.this.createWorkerProcess(processParams, context, tmpDir);
+              WorkerProcessPoolFactory.this.createWorkerProcess(
+                  processParams,
+                  context,
+                  tmpDir,
+                  paramsToUse.isAsync() && paramsToUse.isMultiplexed());
           process.ensureLaunchAndHandshake();
           return process;
         };
@@ -172,12 +176,18 @@ public class WorkerProcessPoolFactory {
     return ImmutableMap.copyOf(envVars);
   }
 
+  /**
+   * Creates a worker process. Multiplexed processes may declare how many jobs they run concurrently.
+   */
   @VisibleForTesting
   public WorkerProcess createWorkerProcess(
-      ProcessExecutorParams processParams, ExecutionContext context, Path tmpDir)
+      ProcessExecutorParams processParams,
+      ExecutionContext context,
+      Path tmpDir,
+      boolean multiplexed)
       throws IOException {
     Path stdErr = Files.createTempFile("buck-worker-", "-stderr.log");
     return new WorkerProcess(
-        context.getProcessExecutor(), processParams, filesystem, stdErr, tmpDir);
+        context.getProcessExecutor(), processParams, filesystem, stdErr, tmpDir, multiplexed);
   }
 }
@@ -18,6 +18,7 @@ package com.facebook.buck.worker;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.OptionalInt;
 
 public interface WorkerProcessProtocol {
   class CommandResponse {
@@ -45,6 +46,14 @@ public interface WorkerProcessProtocol {
 
     CommandResponse receiveNextCommandResponse() throws IOException;
 
+    /**
+     * Returns the number of commands the worker agreed to run concurrently during the handshake,
+     * or empty if it did not declare a limit.
+     */
+    default OptionalInt getMaxConcurrentCommands() {
+      return OptionalInt.empty();
+    }
+
     /** Instructs the CommandReceiver to shut itself down. */
     @Override
     void close() throws IOException;
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.worker;
+
+import com.facebook.buck.core.exceptions.HumanReadableException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.OptionalInt;
+import java.util.function.Supplier;
+
+/**
+ * Version 1 of the worker protocol: multiplexes several in-flight commands over a single worker
+ * process.
+ *
+ * <p>Commands and responses look exactly like in {@link WorkerProcessProtocolZero}, but the worker
+ * may run commands concurrently and respond in any order; responses are matched to commands by
+ * their {@code id}. During the handshake the worker can declare how many commands it is willing to
+ * run at once. A worker that answers the handshake with protocol version "0" is talked to as a
+ * version 0 worker.
+ */
+public class WorkerProcessProtocolOne {
+
+  static final String PROTOCOL_VERSION = "1";
+  private static final String CAPABILITY_MULTIPLEXING = "multiplexing";
+
+  public static class CommandSender extends WorkerProcessProtocolZero.CommandSender {
+    private OptionalInt maxConcurrentCommands = OptionalInt.empty();
+
+    public CommandSender(
+        OutputStream processStdin,
+        InputStream processStdout,
+        Path stdErr,
+        Runnable onClose,
+        Supplier<Boolean> isAlive) {
+      super(processStdin, processStdout, stdErr, onClose, isAlive);
+    }
+
+    @Override
+    public void handshake(int messageId) throws IOException {
+      sendHandshake(getProcessStdinWriter(), messageId);
+      maxConcurrentCommands = receiveHandshake(getProcessStdoutReader(), messageId, getStdErr());
+    }
+
+    @Override
+    public OptionalInt getMaxConcurrentCommands() {
+      return maxConcurrentCommands;
+    }
+  }
+
+  /*
+   Sends a message that looks like this:
+     [
+       {
+         id: 0,
+         type: 'handshake',
+         protocol_version: '1',
+         capabilities: ['multiplexing']
+       }
+  */
+  private static void sendHandshake(JsonWriter writer, int messageId) throws IOException {
+    writer.beginArray();
+    writer.beginObject();
+    writer.name("id").value(messageId);
+    writer.name("type").value(WorkerProcessProtocolZero.TYPE_HANDSHAKE);
+    writer.name("protocol_version").value(PROTOCOL_VERSION);
+    writer.name("capabilities").beginArray().value(CAPABILITY_MULTIPLEXING).endArray();
+    writer.endObject();
+    writer.flush();
+  }
+
+  /*
+   Expects a message that looks like this:
+     [
+       {
+         id: 0,
+         type: 'handshake',
+         protocol_version: '1',
+         capabilities: ['multiplexing'],
+         max_concurrent_jobs: 4
+       }
+
+   where max_concurrent_jobs is optional. Returns the declared limit, if any.
+  */
+  private static OptionalInt receiveHandshake(JsonReader reader, int messageId, Path stdErr)
+      throws IOException {
+    int id = -1;
+    String type = "";
+    String protocolVersion = "";
+    int maxConcurrentJobs = -1;
+
+    try {
+      reader.beginArray();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String property = reader.nextName();
+        if (property.equals("id")) {
+          id = reader.nextInt();
+        } else if (property.equals("type")) {
+          type = reader.nextString();
+        } else if (property.equals("protocol_version")) {
+          protocolVersion = reader.nextString();
+        } else if (property.equals("max_concurrent_jobs")) {
+          maxConcurrentJobs = reader.nextInt();
+        } else {
+          reader.skipValue();
+        }
+      }
+      reader.endObject();
+    } catch (IOException e) {
+      throw new HumanReadableException(
+          e,
+          "Error receiving handshake response from external process.\n"
+              + "Stderr from external process:\n%s",
+          WorkerProcessProtocolZero.getStdErrorOutput(stdErr));
+    }
+
+    if (id != messageId) {
+      throw new HumanReadableException(
+          String.format(
+              "Expected handshake response's \"id\" value to be \"%d\", got \"%d\" instead.",
+              messageId, id));
+    }
+    if (!type.equals(WorkerProcessProtocolZero.TYPE_HANDSHAKE)) {
+      throw new HumanReadableException(
+          String.format(
+              "Expected handshake response's \"type\" to be \"%s\", got \"%s\" instead.",
+              WorkerProcessProtocolZero.TYPE_HANDSHAKE, type));
+    }
+    if (protocolVersion.equals(WorkerProcessProtocolZero.PROTOCOL_VERSION)) {
+      return OptionalInt.empty();
+    }
+    if (!protocolVersion.equals(PROTOCOL_VERSION)) {
+      throw new HumanReadableException(
+          String.format(
+              "Expected handshake response's \"protocol_version\" to be one of "
+                  + "[\"%s\",\"%s\"], got \"%s\" instead.",
+              WorkerProcessProtocolZero.PROTOCOL_VERSION, PROTOCOL_VERSION, protocolVersion));
+    }
+    return maxConcurrentJobs > 0 ? OptionalInt.of(maxConcurrentJobs) : OptionalInt.empty();
+  }
+}
@@ -18,7 +18,6 @@ package com.facebook.buck.worker;
 
 import com.facebook.buck.core.exceptions.HumanReadableException;
 import com.facebook.buck.core.util.log.Logger;
-import com.google.common.annotations.VisibleForTesting;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 import java.io.BufferedReader;
@@ -59,16 +58,18 @@ public class WorkerProcessProtocolZero {
       this.isAlive = isAlive;
     }
 
-    @VisibleForTesting
     JsonReader getProcessStdoutReader() {
       return processStdoutReader;
     }
 
-    @VisibleForTesting
     JsonWriter getProcessStdinWriter() {
       return processStdinWriter;
     }
 
+    Path getStdErr() {
+      return stdErr;
+    }
+
     @Override
     public void handshake(int messageId) throws IOException {
       sendHandshake(processStdinWriter, messageId);
@@ -193,9 +194,9 @@ public class WorkerProcessProtocolZero {
     }
   }
 
-  private static final String TYPE_HANDSHAKE = "handshake";
+  static final String TYPE_HANDSHAKE = "handshake";
   private static final String TYPE_COMMAND = "command";
-  private static final String PROTOCOL_VERSION = "0";
+  static final String PROTOCOL_VERSION = "0";
   private static final String TYPE_RESULT = "result";
   private static final String TYPE_ERROR = "error";
 
@@ -289,7 +290,7 @@ public class WorkerProcessProtocolZero {
     }
   }
 
-  private static String getStdErrorOutput(Path stdErr) throws IOException {
+  static String getStdErrorOutput(Path stdErr) throws IOException {
     StringBuilder sb = new StringBuilder();
     try (InputStream inputStream = Files.newInputStream(stdErr);
         BufferedReader errorReader = new BufferedReader(new InputStreamReader(inputStream))) {
@@ -89,7 +89,9 @@ public class AdbHelperTest {
             .build(),
         () -> executionContext,
         true,
-        ImmutableList.of());
+        ImmutableList.of(),
+        false,
+        Optional.empty());
   }
 
   /** Verify that null is returned when no devices are present. */
@@ -408,7 +410,9 @@ public class AdbHelperTest {
             .build(),
         () -> testContext,
         true,
-        ImmutableList.of()) {
+        ImmutableList.of(),
+        false,
+        Optional.empty()) {
       @Override
       public ImmutableList<AndroidDevice> getDevices(boolean quiet) {
         return deviceList.stream()
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.android.apksig.ApkSignerEngine;
+import com.android.apksig.ApkVerifier;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.facebook.buck.testutil.integration.TestDataHelper;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class AlignedApkWriterTest {
+
+  @Rule public TemporaryPaths tmpFolder = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+  private Path apk;
+  private ExecutorService executor;
+
+  private static final String MANIFEST = "AndroidManifest.xml";
+
+  private static final ImmutableMap<String, String> CONTENTS =
+      ImmutableMap.of(
+          "classes.dex", "dex dex dex dex dex dex",
+          "resources.arsc", "odd",
+          "lib/x86/libfoo.so", "native code",
+          "assets/hello.txt", "hello hello hello hello");
+
+  @Before
+  public void setUp() {
+    filesystem = TestProjectFilesystems.createProjectFilesystem(tmpFolder.getRoot());
+    apk = tmpFolder.getRoot().resolve("app.apk");
+    executor = Executors.newFixedThreadPool(2);
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void uncompressedEntriesAreAligned() throws Exception {
+    try (AlignedApkWriter writer = new AlignedApkWriter(apk, Optional.empty(), executor)) {
+      addEntries(writer);
+      writer.finish();
+    }
+
+    assertEntriesMatch();
+    ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(apk)).order(ByteOrder.LITTLE_ENDIAN);
+    try (ZipFile zipFile = new ZipFile(apk.toFile())) {
+      assertEquals(ZipEntry.STORED, zipFile.getEntry("resources.arsc").getMethod());
+      assertEquals(ZipEntry.DEFLATED, zipFile.getEntry("classes.dex").getMethod());
+    }
+    assertEquals(0, getDataOffset(bytes, "resources.arsc") % 4);
+    assertEquals(0, getDataOffset(bytes, "lib/x86/libfoo.so") % 4096);
+  }
+
+  @Test
+  public void outputIsDeterministic() throws Exception {
+    try (AlignedApkWriter writer = new AlignedApkWriter(apk, Optional.empty(), executor)) {
+      addEntries(writer);
+      writer.finish();
+    }
+    byte[] first = Files.readAllBytes(apk);
+    try (AlignedApkWriter writer = new AlignedApkWriter(apk, Optional.empty(), executor)) {
+      addEntries(writer);
+      writer.finish();
+    }
+    assertArrayEquals(first, Files.readAllBytes(apk));
+  }
+
+  @Test
+  public void entriesArePreparedInlineWhenTheExecutorIsBusy() throws Exception {
+    try (AlignedApkWriter writer = new AlignedApkWriter(apk, Optional.empty(), task -> {})) {
+      addEntries(writer);
+      writer.finish();
+    }
+
+    assertEntriesMatch();
+  }
+
+  @Test
+  public void pendingEntriesAreBoundedByTheirSize() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicBoolean smallRead = new AtomicBoolean();
+    AtomicBoolean largeRead = new AtomicBoolean();
+    byte[] small = new byte[5];
+    byte[] large = new byte[20];
+
+    try (AlignedApkWriter writer = new AlignedApkWriter(apk, Optional.empty(), executor, 10)) {
+      // Within the bound, so this returns without waiting for the entry to be read.
+      writer.addEntry(
+          "small",
+          true,
+          small.length,
+          () -> {
+            Uninterruptibles.awaitUninterruptibly(release);
+            smallRead.set(true);
+            return small;
+          });
+      assertFalse(smallRead.get());
+      release.countDown();
+
+      // Over the bound, so everything pending is written before this returns.
+      writer.addEntry(
+          "large",
+          true,
+          large.length,
+          () -> {
+            largeRead.set(true);
+            return large;
+          });
+      assertTrue(smallRead.get());
+      assertTrue(largeRead.get());
+      writer.finish();
+    }
+
+    try (ZipFile zipFile = new ZipFile(apk.toFile())) {
+      assertEquals(20, zipFile.getEntry("large").getSize());
+    }
+  }
+
+  @Test
+  public void signedApksVerify() throws Exception {
+    Path testdata = TestDataHelper.getTestDataDirectory(this);
+    Files.copy(
+        testdata.resolve("ndk_toolchain/debug.keystore"),
+        tmpFolder.getRoot().resolve("debug.keystore"));
+    byte[] manifest;
+    try (ZipFile resources =
+        new ZipFile(testdata.resolve("../resources/testdata/aapt_dump/example.apk").toFile())) {
+      manifest = ByteStreams.toByteArray(resources.getInputStream(new ZipEntry(MANIFEST)));
+    }
+    KeystoreProperties keystoreProperties =
+        new KeystoreProperties(Paths.get("debug.keystore"), "android", "android", "my_alias");
+
+    try (ApkSignerEngine signer =
+            ApkSignerStep.createSignerEngine(filesystem, keystoreProperties, 1, true);
+        AlignedApkWriter writer = new AlignedApkWriter(apk, Optional.of(signer), executor)) {
+      writer.addEntry(MANIFEST, true, manifest.length, () -> manifest);
+      addEntries(writer);
+      writer.finish();
+    }
+
+    assertEntriesMatch();
+    ApkVerifier.Result result =
+        new ApkVerifier.Builder(apk.toFile())
+            .setMinCheckedPlatformVersion(1)
+            .setMaxCheckedPlatformVersion(28)
+            .build()
+            .verify();
+    assertTrue(result.getErrors().toString(), result.isVerified());
+    assertTrue(result.isVerifiedUsingV1Scheme());
+    assertTrue(result.isVerifiedUsingV2Scheme());
+  }
+
+  private void addEntries(AlignedApkWriter writer) throws Exception {
+    for (Map.Entry<String, String> entry : CONTENTS.entrySet()) {
+      boolean compress = entry.getKey().endsWith(".dex") || entry.getKey().endsWith(".txt");
+      byte[] contents = entry.getValue().getBytes(StandardCharsets.UTF_8);
+      writer.addEntry(entry.getKey(), compress, contents.length, () -> contents);
+    }
+  }
+
+  private void assertEntriesMatch() throws Exception {
+    try (ZipFile zipFile = new ZipFile(apk.toFile())) {
+      for (Map.Entry<String, String> entry : CONTENTS.entrySet()) {
+        try (InputStream input = zipFile.getInputStream(zipFile.getEntry(entry.getKey()))) {
+          assertEquals(
+              entry.getValue(), new String(ByteStreams.toByteArray(input), StandardCharsets.UTF_8));
+        }
+      }
+    }
+  }
+
+  /** Finds the data of an entry by scanning the local file headers. */
+  private static long getDataOffset(ByteBuffer bytes, String name) {
+    int offset = 0;
+    while (bytes.getInt(offset) == ZipEntry.LOCSIG) {
+      int nameLength = Short.toUnsignedInt(bytes.getShort(offset + ZipEntry.LOCNAM));
+      int extraLength = Short.toUnsignedInt(bytes.getShort(offset + ZipEntry.LOCEXT));
+      byte[] nameBytes = new byte[nameLength];
+      ((ByteBuffer) bytes.duplicate().position(offset + ZipEntry.LOCHDR)).get(nameBytes);
+      int dataOffset = offset + ZipEntry.LOCHDR + nameLength + extraLength;
+      if (name.equals(new String(nameBytes, StandardCharsets.UTF_8))) {
+        return dataOffset;
+      }
+      offset = dataOffset + bytes.getInt(offset + ZipEntry.LOCSIZ);
+    }
+    throw new AssertionError("No entry named " + name);
+  }
+}
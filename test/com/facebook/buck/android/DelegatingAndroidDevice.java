@@ -17,11 +17,15 @@
 package com.facebook.buck.android;
 
 import com.android.ddmlib.InstallException;
+import com.facebook.buck.android.agent.util.BlockPatch;
 import com.facebook.buck.android.exopackage.AndroidDevice;
+import com.facebook.buck.android.exopackage.BlockPatchTarget;
 import com.facebook.buck.android.exopackage.PackageInfo;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSortedSet;
 import java.io.File;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -108,4 +112,20 @@ public class DelegatingAndroidDevice implements AndroidDevice {
   public String getSerialNumber() {
     return delegate.getSerialNumber();
   }
+
+  @Override
+  public boolean supportsBlockPatches() {
+    return delegate.supportsBlockPatches();
+  }
+
+  @Override
+  public ImmutableMap<Path, BlockPatch.FileSignatures> getBlockSignatures(
+      Collection<Path> devicePaths, int blockSize) throws Exception {
+    return delegate.getBlockSignatures(devicePaths, blockSize);
+  }
+
+  @Override
+  public void applyBlockPatches(Collection<BlockPatchTarget> patches) throws Exception {
+    delegate.applyBlockPatches(patches);
+  }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.google.common.base.Strings;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DexMergeCacheTest {
+
+  @Rule public TemporaryFolder tmpDir = new TemporaryFolder();
+
+  private ProjectFilesystem filesystem;
+  private Path root;
+
+  @Before
+  public void setUp() {
+    filesystem = TestProjectFilesystems.createProjectFilesystem(tmpDir.getRoot().toPath());
+    root = Paths.get("merge_cache");
+  }
+
+  @Test
+  public void storeBelowMaximumSizeKeepsEverything() throws IOException {
+    DexMergeCache cache = new DexMergeCache(filesystem, root, 1000);
+    store(cache, "aa11", 1000);
+    store(cache, "bb22", 1000);
+    cache.trim();
+
+    assertTrue(cache.fetch("aa11", Paths.get("out/aa11/secondary.dex.jar")));
+    assertTrue(cache.fetch("bb22", Paths.get("out/bb22/secondary.dex.jar")));
+  }
+
+  @Test
+  public void leastRecentlyUsedEntriesAreEvicted() throws IOException {
+    DexMergeCache cache = new DexMergeCache(filesystem, root, 1000);
+    store(cache, "aa11", 1000);
+    store(cache, "bb22", 2000);
+    store(cache, "cc33", 3000);
+
+    // Using the oldest entry makes it the most recently used one.
+    assertTrue(cache.fetch("aa11", Paths.get("out/aa11/secondary.dex.jar")));
+    new DexMergeCache(filesystem, root, 100).trim();
+
+    assertTrue(cache.fetch("aa11", Paths.get("out/aa11/secondary.dex.jar")));
+    assertFalse(cache.fetch("bb22", Paths.get("out/bb22/secondary.dex.jar")));
+    assertFalse(cache.fetch("cc33", Paths.get("out/cc33/secondary.dex.jar")));
+  }
+
+  /** Stores a 40 byte merged dex under {@code key}, last used at {@code lastUsedMillis}. */
+  private void store(DexMergeCache cache, String key, long lastUsedMillis) throws IOException {
+    Path output = Paths.get("merged").resolve(key).resolve("secondary.dex.jar");
+    filesystem.mkdirs(output.getParent());
+    filesystem.writeContentsToPath(Strings.repeat("x", 40), output);
+    cache.store(key, output);
+    filesystem.setLastModifiedTime(
+        root.resolve(key.substring(0, 2)).resolve(key), FileTime.fromMillis(lastUsedMillis));
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.OptionalInt;
+import org.junit.Test;
+
+public class DexMergeMemorySemaphoreTest {
+  private static final long MB = 1024 * 1024;
+
+  @Test
+  public void estimatesAreBoundedByTheLimit() {
+    DexMergeMemorySemaphore semaphore = new DexMergeMemorySemaphore(100);
+    assertEquals(1, semaphore.estimateMemoryMb(10));
+    assertEquals(40, semaphore.estimateMemoryMb(10 * MB));
+    assertEquals(100, semaphore.estimateMemoryMb(1000 * MB));
+  }
+
+  @Test
+  public void mergesLargerThanTheLimitRunAlone() throws InterruptedException {
+    DexMergeMemorySemaphore semaphore = new DexMergeMemorySemaphore(100);
+    int reserved = semaphore.acquire(1000 * MB);
+    assertEquals(0, semaphore.availableMemoryMb());
+    semaphore.release(reserved);
+    assertEquals(100, semaphore.availableMemoryMb());
+  }
+
+  @Test
+  public void mergesWithTheSameLimitShareASemaphore() {
+    assertSame(
+        DexMergeMemorySemaphore.forLimit(OptionalInt.of(123)),
+        DexMergeMemorySemaphore.forLimit(OptionalInt.of(123)));
+  }
+}
@@ -33,13 +33,8 @@ import com.facebook.buck.core.sourcepath.FakeSourcePath;
 import com.facebook.buck.io.file.MorePaths;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
-import com.facebook.buck.jvm.java.ClasspathChecker;
 import com.facebook.buck.jvm.java.CompilerOutputPaths;
-import com.facebook.buck.jvm.java.CompilerParameters;
 import com.facebook.buck.jvm.java.ExtraClasspathProvider;
-import com.facebook.buck.jvm.java.JavacOptions;
-import com.facebook.buck.jvm.java.JavacPluginParams;
-import com.facebook.buck.jvm.java.JavacStep;
 import com.facebook.buck.jvm.java.JavacToJarStepFactory;
 import com.facebook.buck.step.Step;
 import com.facebook.buck.step.TestExecutionContext;
@@ -47,7 +42,6 @@ import com.facebook.buck.testutil.MoreAsserts;
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.ImmutableSortedSet;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
@@ -96,7 +90,7 @@ public class DummyRDotJavaTest {
 
     FakeBuildableContext buildableContext = new FakeBuildableContext();
     List<Step> steps = dummyRDotJava.getBuildSteps(FakeBuildContext.NOOP_CONTEXT, buildableContext);
-    assertEquals("DummyRDotJava returns an incorrect number of Steps.", 14, steps.size());
+    assertEquals("DummyRDotJava returns an incorrect number of Steps.", 10, steps.size());
 
     Path rDotJavaSrcFolder =
         DummyRDotJava.getRDotJavaSrcFolder(dummyRDotJava.getBuildTarget(), filesystem);
@@ -104,8 +98,6 @@ public class DummyRDotJavaTest {
         CompilerOutputPaths.getClassesDir(dummyRDotJava.getBuildTarget(), filesystem);
     Path rDotJavaOutputFolder =
         DummyRDotJava.getPathToOutputDir(dummyRDotJava.getBuildTarget(), filesystem);
-    Path rDotJavaAnnotationFolder =
-        CompilerOutputPaths.getAnnotationPath(filesystem, dummyRDotJava.getBuildTarget()).get();
 
     String rDotJavaOutputJar =
         MorePaths.pathWithPlatformSeparators(
@@ -113,45 +105,19 @@ public class DummyRDotJavaTest {
                 "%s/%s.jar",
                 rDotJavaOutputFolder,
                 dummyRDotJava.getBuildTarget().getShortNameAndFlavorPostfix()));
-    String genFolder =
-        BuildTargetPaths.getGenPath(filesystem, buildTarget, "%s").getParent().toString();
 
     List<String> sortedSymbolsFiles =
         Stream.of(resourceRule1, resourceRule2)
             .map(Object::toString)
             .collect(ImmutableList.toImmutableList());
-    ImmutableSortedSet<Path> javaSourceFiles =
-        ImmutableSortedSet.of(rDotJavaSrcFolder.resolve("com/facebook/R.java"));
 
     List<String> expectedStepDescriptions =
         new ImmutableList.Builder<String>()
             .addAll(makeCleanDirDescription(rDotJavaSrcFolder))
+            .addAll(makeCleanDirDescription(rDotJavaBinFolder))
             .add("android-res-merge " + Joiner.on(' ').join(sortedSymbolsFiles))
             .add("android-res-merge " + Joiner.on(' ').join(sortedSymbolsFiles))
-            .addAll(makeCleanDirDescription(rDotJavaBinFolder))
             .addAll(makeCleanDirDescription(rDotJavaOutputFolder))
-            .add(String.format("mkdir -p %s", genFolder))
-            .addAll(makeCleanDirDescription(rDotJavaAnnotationFolder))
-            .add(
-                new JavacStep(
-                        DEFAULT_JAVAC,
-                        JavacOptions.builder(ANDROID_JAVAC_OPTIONS)
-                            .setJavaAnnotationProcessorParams(JavacPluginParams.EMPTY)
-                            .build(),
-                        dummyRDotJava.getBuildTarget(),
-                        graphBuilder.getSourcePathResolver(),
-                        new FakeProjectFilesystem(),
-                        new ClasspathChecker(),
-                        CompilerParameters.builder()
-                            .setScratchPaths(
-                                dummyRDotJava.getBuildTarget(),
-                                dummyRDotJava.getProjectFilesystem())
-                            .setSourceFilePaths(javaSourceFiles)
-                            .setClasspathEntries(ImmutableSortedSet.of())
-                            .build(),
-                        null,
-                        null)
-                    .getDescription(TestExecutionContext.newInstance()))
             .add(String.format("jar cf %s  %s", rDotJavaOutputJar, rDotJavaBinFolder))
             .add(String.format("check_dummy_r_jar_not_empty %s", rDotJavaOutputJar))
             .build();
@@ -163,7 +129,7 @@ public class DummyRDotJavaTest {
         TestExecutionContext.newInstance());
 
     assertEquals(
-        ImmutableSet.of(rDotJavaBinFolder, Paths.get(rDotJavaOutputJar), rDotJavaAnnotationFolder),
+        ImmutableSet.of(rDotJavaBinFolder, Paths.get(rDotJavaOutputJar)),
         buildableContext.getRecordedArtifacts());
   }
 
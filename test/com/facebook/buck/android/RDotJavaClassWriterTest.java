@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.android.aapt.RDotTxtEntry;
+import com.facebook.buck.android.aapt.RDotTxtEntry.CustomDrawableType;
+import com.facebook.buck.android.aapt.RDotTxtEntry.IdType;
+import com.facebook.buck.android.aapt.RDotTxtEntry.RType;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableSortedSet;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.objectweb.asm.Opcodes;
+
+public class RDotJavaClassWriterTest {
+
+  @Rule public TemporaryPaths tmpFolder = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+  private final Path classesDir = Paths.get("classes");
+
+  @Before
+  public void setUp() {
+    filesystem = TestProjectFilesystems.createProjectFilesystem(tmpFolder.getRoot());
+  }
+
+  @Test
+  public void classFileVersionMatchesJavacTarget() {
+    assertEquals(Opcodes.V1_7, RDotJavaClassWriter.getClassFileVersion("7"));
+    assertEquals(Opcodes.V1_8, RDotJavaClassWriter.getClassFileVersion("1.8"));
+    assertEquals(Opcodes.V11, RDotJavaClassWriter.getClassFileVersion("11"));
+  }
+
+  @Test
+  public void writesNonFinalResourceIds() throws Exception {
+    new RDotJavaClassWriter(filesystem, classesDir, "R", false, Opcodes.V1_7)
+        .writeClasses(
+            "com.example",
+            ImmutableSortedSet.of(
+                new RDotTxtEntry(IdType.INT, RType.ID, "button", "0x7f010001"),
+                new RDotTxtEntry(IdType.INT, RType.STRING, "title", "0x7f020001"),
+                new RDotTxtEntry(
+                    IdType.INT_ARRAY, RType.STYLEABLE, "MyView", "{ 0x7f030001,0x1010000 }"),
+                new RDotTxtEntry(IdType.INT, RType.STYLEABLE, "MyView_title", "0")));
+
+    try (URLClassLoader loader = newClassLoader()) {
+      Field button = getField(loader, "com.example.R$id", "button");
+      assertFalse(Modifier.isFinal(button.getModifiers()));
+      assertEquals(0x7f010001, button.getInt(null));
+      assertEquals(0x7f020001, getField(loader, "com.example.R$string", "title").getInt(null));
+      assertArrayEquals(
+          new int[] {0x7f030001, 0x1010000},
+          (int[]) getField(loader, "com.example.R$styleable", "MyView").get(null));
+      assertEquals(0, getField(loader, "com.example.R$styleable", "MyView_title").getInt(null));
+    }
+  }
+
+  @Test
+  public void writesFinalResourceIdsAsConstants() throws Exception {
+    new RDotJavaClassWriter(filesystem, classesDir, "R2", true, Opcodes.V1_7)
+        .writeClasses(
+            "com.example",
+            ImmutableSortedSet.of(
+                new RDotTxtEntry(IdType.INT, RType.ID, "button", "0x7f010001"),
+                new RDotTxtEntry(
+                    IdType.INT, RType.DRAWABLE, "custom", "0x7f040001", CustomDrawableType.CUSTOM),
+                new RDotTxtEntry(IdType.INT, RType.DRAWABLE, "plain", "0x7f040002")));
+
+    try (URLClassLoader loader = newClassLoader()) {
+      Field button = getField(loader, "com.example.R2$id", "button");
+      assertTrue(Modifier.isFinal(button.getModifiers()));
+      assertEquals(0x7f010001, button.getInt(null));
+      assertArrayEquals(
+          new int[] {0x7f040001},
+          (int[]) getField(loader, "com.example.R2", "custom_drawables").get(null));
+      assertEquals(
+          "com.example.R2",
+          loader.loadClass("com.example.R2$drawable").getDeclaringClass().getName());
+    }
+  }
+
+  @Test
+  public void writesEmptyRClass() throws Exception {
+    new RDotJavaClassWriter(filesystem, classesDir, "R", false, Opcodes.V1_7)
+        .writeClasses("com.example", ImmutableSortedSet.of());
+
+    try (URLClassLoader loader = newClassLoader()) {
+      Class<?> rClass = loader.loadClass("com.example.R");
+      assertEquals(0, rClass.getDeclaredClasses().length);
+      rClass.getConstructor().newInstance();
+    }
+  }
+
+  private URLClassLoader newClassLoader() throws Exception {
+    return new URLClassLoader(
+        new URL[] {filesystem.resolve(classesDir).toUri().toURL()},
+        ClassLoader.getSystemClassLoader().getParent());
+  }
+
+  private static Field getField(ClassLoader loader, String className, String fieldName)
+      throws Exception {
+    return loader.loadClass(className).getField(fieldName);
+  }
+}
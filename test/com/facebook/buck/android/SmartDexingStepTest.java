@@ -18,6 +18,7 @@ package com.facebook.buck.android;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.android.SmartDexingStep.DxPseudoRule;
@@ -93,6 +94,7 @@ public class SmartDexingStepTest {
             DxStep.DX,
             null,
             false,
+            Optional.empty(),
             Optional.empty());
     assertFalse("'dummy' is not a matching input hash", rule.checkIsCached());
 
@@ -105,6 +107,145 @@ public class SmartDexingStepTest {
     assertTrue("Matching input hash should be considered cached", rule.checkIsCached());
   }
 
+  @Test
+  public void testDxPseudoRuleReusesOutputsMergedByOtherRules() throws Exception {
+    ProjectFilesystem filesystem =
+        TestProjectFilesystems.createProjectFilesystem(tmpDir.getRoot().toPath());
+    DexMergeCache mergeCache =
+        new DexMergeCache(filesystem, Paths.get("merge_cache"), Long.MAX_VALUE);
+    Path input = Paths.get("lib.dex.jar");
+    filesystem.writeContentsToPath("dex", input);
+    Sha1HashCode inputHash = Sha1HashCode.of(Strings.repeat("a", 40));
+
+    Path firstOutput = Paths.get("first/secondary-1.dex.jar");
+    DxPseudoRule first = createCachingRule(filesystem, mergeCache, input, inputHash, firstOutput);
+    assertFalse(first.checkIsCached());
+    filesystem.mkdirs(firstOutput.getParent());
+    filesystem.writeContentsToPath("merged", firstOutput);
+    filesystem.writeContentsToPath("meta", Paths.get("first/secondary-1.dex.jar.meta"));
+    mergeCache.store(first.getMergeCacheKey().get(), firstOutput);
+
+    Path secondOutput = Paths.get("second/secondary-1.dex.jar");
+    DxPseudoRule second = createCachingRule(filesystem, mergeCache, input, inputHash, secondOutput);
+    assertTrue("Outputs merged from the same inputs should be reused", second.checkIsCached());
+    assertEquals(Optional.of("merged"), filesystem.readFileIfItExists(secondOutput));
+    assertEquals(
+        Optional.of("meta"),
+        filesystem.readFileIfItExists(Paths.get("second/secondary-1.dex.jar.meta")));
+
+    DxPseudoRule changed =
+        createCachingRule(
+            filesystem,
+            mergeCache,
+            input,
+            Sha1HashCode.of(Strings.repeat("b", 40)),
+            Paths.get("third/secondary-1.dex.jar"));
+    assertFalse("Outputs of other inputs should not be reused", changed.checkIsCached());
+  }
+
+  @Test
+  public void testMergeCacheKeyDependsOnTheDexer() throws Exception {
+    ProjectFilesystem filesystem =
+        TestProjectFilesystems.createProjectFilesystem(tmpDir.getRoot().toPath());
+    DexMergeCache mergeCache =
+        new DexMergeCache(filesystem, Paths.get("merge_cache"), Long.MAX_VALUE);
+    Path input = Paths.get("lib.dex.jar");
+    Sha1HashCode inputHash = Sha1HashCode.of(Strings.repeat("a", 40));
+    Path output = Paths.get("secondary-1.dex.jar");
+    EnumSet<DxStep.Option> outOfProcessOptions = EnumSet.of(DxStep.Option.NO_OPTIMIZE);
+
+    DxPseudoRule d8 =
+        createCachingRule(
+            filesystem,
+            mergeCache,
+            input,
+            inputHash,
+            output,
+            DxStep.D8,
+            PreDexMerge.DX_MERGE_OPTIONS,
+            Paths.get("/usr/bin/dx"));
+    DxPseudoRule inProcessDx =
+        createCachingRule(
+            filesystem,
+            mergeCache,
+            input,
+            inputHash,
+            output,
+            DxStep.DX,
+            PreDexMerge.DX_MERGE_OPTIONS,
+            Paths.get("/usr/bin/dx"));
+    DxPseudoRule dx =
+        createCachingRule(
+            filesystem,
+            mergeCache,
+            input,
+            inputHash,
+            output,
+            DxStep.DX,
+            outOfProcessOptions,
+            Paths.get("/sdk/build-tools/28.0.3/dx"));
+    DxPseudoRule upgradedDx =
+        createCachingRule(
+            filesystem,
+            mergeCache,
+            input,
+            inputHash,
+            output,
+            DxStep.DX,
+            outOfProcessOptions,
+            Paths.get("/sdk/build-tools/29.0.2/dx"));
+    for (DxPseudoRule rule : ImmutableList.of(d8, inProcessDx, dx, upgradedDx)) {
+      assertFalse(rule.checkIsCached());
+    }
+
+    assertNotEquals(d8.getMergeCacheKey(), inProcessDx.getMergeCacheKey());
+    assertNotEquals(dx.getMergeCacheKey(), upgradedDx.getMergeCacheKey());
+  }
+
+  private DxPseudoRule createCachingRule(
+      ProjectFilesystem filesystem,
+      DexMergeCache mergeCache,
+      Path input,
+      Sha1HashCode inputHash,
+      Path output) {
+    return createCachingRule(
+        filesystem,
+        mergeCache,
+        input,
+        inputHash,
+        output,
+        DxStep.D8,
+        PreDexMerge.DX_MERGE_OPTIONS,
+        Paths.get("/usr/bin/dx"));
+  }
+
+  private DxPseudoRule createCachingRule(
+      ProjectFilesystem filesystem,
+      DexMergeCache mergeCache,
+      Path input,
+      Sha1HashCode inputHash,
+      Path output,
+      String dexTool,
+      EnumSet<DxStep.Option> dxOptions,
+      Path dxExecutable) {
+    return new DxPseudoRule(
+        createAndroidPlatformTarget(dxExecutable),
+        FakeBuildContext.NOOP_CONTEXT,
+        filesystem,
+        ImmutableMap.of(input, inputHash),
+        ImmutableSet.of(input),
+        output,
+        output.resolveSibling("hash"),
+        dxOptions,
+        XzStep.DEFAULT_COMPRESSION_LEVEL,
+        Optional.empty(),
+        dexTool,
+        null,
+        false,
+        Optional.empty(),
+        Optional.of(mergeCache));
+  }
+
   @Test
   public void testCreateDxStepForDxPseudoRuleWithXzOutput() {
     ProjectFilesystem filesystem = FakeProjectFilesystem.createJavaOnlyFilesystem();
@@ -374,6 +515,10 @@ public class SmartDexingStepTest {
   }
 
   private AndroidPlatformTarget createAndroidPlatformTarget() {
+    return createAndroidPlatformTarget(Paths.get("/usr/bin/dx"));
+  }
+
+  private AndroidPlatformTarget createAndroidPlatformTarget(Path dxExecutable) {
     return AndroidPlatformTarget.of(
         "android",
         Paths.get(""),
@@ -383,7 +528,7 @@ public class SmartDexingStepTest {
         Paths.get(""),
         Paths.get(""),
         Paths.get(""),
-        Paths.get("/usr/bin/dx"),
+        dxExecutable,
         Paths.get(""),
         Paths.get(""),
         Paths.get(""),
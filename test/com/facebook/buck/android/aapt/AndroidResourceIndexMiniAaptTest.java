@@ -32,6 +32,8 @@ import com.facebook.buck.event.DefaultBuckEventBus;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.ProjectFilesystemView;
 import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.step.StepExecutionResults;
+import com.facebook.buck.step.TestExecutionContext;
 import com.facebook.buck.testutil.TemporaryPaths;
 import com.facebook.buck.testutil.integration.ProjectWorkspace;
 import com.facebook.buck.testutil.integration.TestDataHelper;
@@ -295,4 +297,59 @@ public class AndroidResourceIndexMiniAaptTest {
                 Paths.get("sample_res/transition-v19/some_transition.xml"))),
         ((AndroidResourceIndexCollector) aapt.getResourceCollector()).getResourceIndex());
   }
+
+  @Test
+  public void testExecuteIndexesWholeResDirectory() throws Exception {
+    filesystem.mkdirs(Paths.get("sample_res/values"));
+    filesystem.mkdirs(Paths.get("sample_res/layout"));
+    filesystem.writeContentsToPath(
+        "<transitionSet/>", Paths.get("sample_res/transition-v19/some_transition.xml"));
+    filesystem.writeContentsToPath(
+        "<?xml version=\"1.0\" encoding=\"utf-8\"?>\n"
+            + "<resources>\n"
+            + "<string name=\"title\">Title</string>\n"
+            + "</resources>",
+        Paths.get("sample_res/values/strings.xml"));
+    filesystem.writeContentsToPath(
+        "<?xml version=\"1.0\" encoding=\"utf-8\"?>\n"
+            + "<LinearLayout>\n"
+            + "<TextView android:id=\"@+id/title_view\" android:text=\"@string/title\"/>\n"
+            + "</LinearLayout>",
+        Paths.get("sample_res/layout/main.xml"));
+    MiniAapt aapt =
+        new MiniAapt(
+            resolver,
+            filesystem,
+            FakeSourcePath.of(filesystem, "sample_res"),
+            Paths.get("android_resources.json"),
+            ImmutableSet.of(),
+            false,
+            MiniAapt.ResourceCollectionType.ANDROID_RESOURCE_INDEX);
+
+    assertEquals(
+        StepExecutionResults.SUCCESS, aapt.execute(TestExecutionContext.newInstance()));
+
+    Path layout = Paths.get("sample_res/layout/main.xml");
+    assertEquals(
+        ImmutableSet.of(
+            ImmutableAndroidResourceIndexEntry.of(
+                RType.DRAWABLE, "icon", 0, 0, Paths.get("sample_res/drawable/icon.png")),
+            ImmutableAndroidResourceIndexEntry.of(
+                RType.DRAWABLE,
+                "nine_patch",
+                0,
+                0,
+                Paths.get("sample_res/drawable-ldpi/nine_patch.9.png")),
+            ImmutableAndroidResourceIndexEntry.of(
+                RType.TRANSITION,
+                "some_transition",
+                0,
+                0,
+                Paths.get("sample_res/transition-v19/some_transition.xml")),
+            ImmutableAndroidResourceIndexEntry.of(RType.LAYOUT, "main", 0, 0, layout),
+            ImmutableAndroidResourceIndexEntry.of(RType.ID, "title_view", 2, 69, layout),
+            ImmutableAndroidResourceIndexEntry.of(
+                RType.STRING, "title", 2, 21, Paths.get("sample_res/values/strings.xml"))),
+        ((AndroidResourceIndexCollector) aapt.getResourceCollector()).getResourceIndex());
+  }
 }
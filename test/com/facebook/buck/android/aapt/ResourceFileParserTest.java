@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android.aapt;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import com.facebook.buck.android.aapt.MiniAapt.ResourceParseException;
+import com.facebook.buck.android.aapt.RDotTxtEntry.RType;
+import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
+import com.facebook.buck.util.xml.DocumentLocation;
+import com.google.common.cache.Cache;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashCode;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.junit.Test;
+
+public class ResourceFileParserTest {
+
+  private static final ImmutableList<String> VALUES =
+      ImmutableList.of(
+          "<?xml version=\"1.0\" encoding=\"utf-8\"?>",
+          "<resources>",
+          "  <string name=\"hello\">Hello</string>",
+          "  <declare-styleable name=\"MyView\">",
+          "    <attr name=\"title\"/>",
+          "    <attr name=\"android:gravity\"/>",
+          "  </declare-styleable>",
+          "</resources>");
+
+  private final FakeProjectFilesystem filesystem = new FakeProjectFilesystem();
+  private final Cache<HashCode, ResourceFileParser.ValuesFile> sharedValuesFiles =
+      ResourceFileParser.newSharedResults(1000);
+  private final Cache<HashCode, ResourceFileParser.XmlFile> sharedXmlFiles =
+      ResourceFileParser.newSharedResults(1000);
+
+  @Test
+  public void valuesFilesAreParsed() throws IOException, ResourceParseException {
+    Path valuesFile = Paths.get("res/values/strings.xml");
+    filesystem.writeLinesToPath(VALUES, valuesFile);
+
+    ResourceFileParser.ValuesFile parsed = newParser().parseValuesFile(filesystem, valuesFile);
+
+    assertEquals(2, parsed.resources.size());
+    ResourceFileParser.ValueResource string = parsed.resources.get(0);
+    assertEquals(RType.STRING, string.rType);
+    assertEquals("hello", string.name);
+    assertEquals(DocumentLocation.of(2, 23), string.location);
+    ResourceFileParser.ValueResource styleable = parsed.resources.get(1);
+    assertEquals(RType.STYLEABLE, styleable.rType);
+    assertEquals(ImmutableList.of("title", "android:gravity"), styleable.styleableAttrs);
+  }
+
+  @Test
+  public void resultsAreSharedAcrossParsersByContent() throws IOException, ResourceParseException {
+    Path first = Paths.get("lib1/res/values/strings.xml");
+    Path second = Paths.get("lib2/res/values/strings.xml");
+    filesystem.writeLinesToPath(VALUES, first);
+    filesystem.writeLinesToPath(VALUES, second);
+
+    ResourceFileParser.ValuesFile firstParsed = newParser().parseValuesFile(filesystem, first);
+    ResourceFileParser.ValuesFile secondParsed = newParser().parseValuesFile(filesystem, second);
+
+    assertSame(firstParsed, secondParsed);
+    assertEquals(1, sharedValuesFiles.size());
+  }
+
+  @Test
+  public void changedFilesAreParsedAgain() throws IOException, ResourceParseException {
+    Path layout = Paths.get("res/layout/main.xml");
+    filesystem.writeLinesToPath(
+        ImmutableList.of("<LinearLayout android:id=\"@+id/before\"/>"), layout);
+    ResourceFileParser.XmlFile before = newParser().parseXmlFile(filesystem, layout);
+
+    filesystem.writeLinesToPath(
+        ImmutableList.of("<LinearLayout android:id=\"@+id/after\"/>"), layout);
+    ResourceFileParser.XmlFile after = newParser().parseXmlFile(filesystem, layout);
+
+    assertNotSame(before, after);
+    assertEquals("after", after.idDefinitions.get(0).name);
+    assertEquals(2, sharedXmlFiles.size());
+  }
+
+  @Test
+  public void failuresAreNotShared() throws IOException {
+    ImmutableList<String> invalid =
+        ImmutableList.of("<resources>", "<string name=\"hello\">Hi</resources>");
+    Path first = Paths.get("lib1/res/values/strings.xml");
+    Path second = Paths.get("lib2/res/values/strings.xml");
+    filesystem.writeLinesToPath(invalid, first);
+    filesystem.writeLinesToPath(invalid, second);
+
+    assertParseFailure(first);
+    assertParseFailure(second);
+    assertEquals(0, sharedValuesFiles.size());
+  }
+
+  private void assertParseFailure(Path valuesFile) throws IOException {
+    try {
+      newParser().parseValuesFile(filesystem, valuesFile);
+      fail("Expected a parse failure for " + valuesFile);
+    } catch (ResourceParseException e) {
+      assertThat(e.getMessage(), containsString(valuesFile.toString()));
+    }
+  }
+
+  private ResourceFileParser newParser() {
+    return new ResourceFileParser(sharedValuesFiles, sharedXmlFiles);
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android.agent.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.primitives.Bytes;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BlockPatchTest {
+  private static final int BLOCK_SIZE = 1024;
+
+  @Rule public TemporaryFolder tmp = new TemporaryFolder();
+
+  @Test
+  public void changedByteOnlySendsItsBlock() throws IOException {
+    byte[] basis = randomBytes(256 * 1024, 0);
+    byte[] contents = basis.clone();
+    contents[100_000] ^= 1;
+
+    byte[] patch = createPatch(basis, contents);
+    assertTrue("patch size " + patch.length, patch.length < 2 * BLOCK_SIZE);
+    assertArrayEquals(contents, applyPatch(basis, patch));
+  }
+
+  @Test
+  public void insertedBytesAreFoundByRollingChecksum() throws IOException {
+    byte[] basis = randomBytes(256 * 1024, 1);
+    byte[] contents =
+        Bytes.concat(
+            Arrays.copyOf(basis, 5000),
+            randomBytes(37, 2),
+            Arrays.copyOfRange(basis, 5000, basis.length),
+            randomBytes(100, 3));
+
+    byte[] patch = createPatch(basis, contents);
+    assertTrue("patch size " + patch.length, patch.length < 3 * BLOCK_SIZE);
+    assertArrayEquals(contents, applyPatch(basis, patch));
+  }
+
+  @Test
+  public void unrelatedFilesAreSentInFull() throws IOException {
+    byte[] basis = randomBytes(64 * 1024, 4);
+    byte[] contents = randomBytes(64 * 1024, 5);
+
+    byte[] patch = createPatch(basis, contents);
+    assertTrue(patch.length > contents.length);
+    assertArrayEquals(contents, applyPatch(basis, patch));
+  }
+
+  @Test(expected = IOException.class)
+  public void patchesAppliedToTheWrongFileFail() throws IOException {
+    byte[] basis = randomBytes(64 * 1024, 6);
+    byte[] patch = createPatch(basis, basis);
+    applyPatch(randomBytes(64 * 1024, 7), patch);
+  }
+
+  @Test
+  public void signaturesSurviveTextFormat() throws IOException {
+    BlockPatch.FileSignatures signatures =
+        BlockPatch.computeSignatures(
+            new ByteArrayInputStream(randomBytes(10 * BLOCK_SIZE + 10, 8)), BLOCK_SIZE);
+    StringBuilder text = new StringBuilder();
+    BlockPatch.writeSignatures("/data/local/tmp/a b.apk", signatures, text);
+
+    Map<String, BlockPatch.FileSignatures> parsed = BlockPatch.parseSignatures(text.toString());
+    BlockPatch.FileSignatures copy = parsed.get("/data/local/tmp/a b.apk");
+    assertEquals(BLOCK_SIZE, copy.blockSize);
+    assertEquals(10, copy.blocks.size());
+    for (int i = 0; i < 10; i++) {
+      assertEquals(signatures.blocks.get(i).weakChecksum, copy.blocks.get(i).weakChecksum);
+      assertArrayEquals(signatures.blocks.get(i).strongChecksum, copy.blocks.get(i).strongChecksum);
+    }
+  }
+
+  private static byte[] createPatch(byte[] basis, byte[] contents) throws IOException {
+    return BlockPatch.createPatch(
+        contents, BlockPatch.computeSignatures(new ByteArrayInputStream(basis), BLOCK_SIZE));
+  }
+
+  private byte[] applyPatch(byte[] basis, byte[] patch) throws IOException {
+    File basisFile = tmp.newFile();
+    Files.write(basisFile.toPath(), basis);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    BlockPatch.applyPatch(basisFile, new ByteArrayInputStream(patch), out);
+    return out.toByteArray();
+  }
+
+  private static byte[] randomBytes(int size, long seed) {
+    byte[] bytes = new byte[size];
+    new Random(seed).nextBytes(bytes);
+    return bytes;
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android.dalvik;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import com.facebook.buck.jvm.java.classes.AbstractFileLike;
+import com.google.common.cache.Cache;
+import com.google.common.hash.HashCode;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Nullable;
+import org.junit.Test;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+public class DalvikStatsCacheTest {
+
+  @Test
+  public void statsAreSharedAcrossCachesByContent() {
+    Cache<HashCode, DalvikStatsTool.Stats> sharedStats = DalvikStatsCache.newSharedStats(1000);
+    byte[] classBytes = createClass("com/example/A", "value");
+
+    DalvikStatsTool.Stats first =
+        new DalvikStatsCache(sharedStats)
+            .getStats(new ClassFileLike("first.jar", "com/example/A.class", classBytes));
+    DalvikStatsTool.Stats second =
+        new DalvikStatsCache(sharedStats)
+            .getStats(new ClassFileLike("second.jar", "com/example/A.class", classBytes));
+
+    assertSame(first, second);
+    assertEquals(1, sharedStats.size());
+    assertEquals(1, first.fieldReferences.size());
+  }
+
+  @Test
+  public void changedClassesAreAnalyzedAgain() {
+    Cache<HashCode, DalvikStatsTool.Stats> sharedStats = DalvikStatsCache.newSharedStats(1000);
+    DalvikStatsCache cache = new DalvikStatsCache(sharedStats);
+
+    DalvikStatsTool.Stats before =
+        cache.getStats(
+            new ClassFileLike("lib.jar", "com/example/A.class", createClass("com/example/A", "a")));
+    DalvikStatsTool.Stats after =
+        cache.getStats(
+            new ClassFileLike("lib.jar", "com/example/A.class", createClass("com/example/A", "b")));
+
+    assertNotSame(before, after);
+    assertEquals(2, sharedStats.size());
+  }
+
+  @Test
+  public void precomputedStatsAreReused() throws IOException {
+    Cache<HashCode, DalvikStatsTool.Stats> sharedStats = DalvikStatsCache.newSharedStats(1000);
+    DalvikStatsCache cache = new DalvikStatsCache(sharedStats);
+    byte[] classBytes = createClass("com/example/A", "value");
+    List<Runnable> pending = new ArrayList<>();
+
+    cache.precompute(new ClassFileLike("lib.jar", "com/example/A.class", classBytes), pending::add);
+    cache.precompute(
+        new ClassFileLike("lib.jar", "META-INF/MANIFEST.MF", new byte[] {1, 2, 3}), pending::add);
+    assertEquals(1, pending.size());
+
+    // The analysis hasn't been run by the executor yet, so looking up the stats runs it, without
+    // reading the class again.
+    DalvikStatsTool.Stats stats =
+        cache.getStats(new ClassFileLike("lib.jar", "com/example/A.class", null));
+    assertEquals(1, stats.fieldReferences.size());
+    assertEquals(1, sharedStats.size());
+
+    pending.get(0).run();
+    assertSame(stats, cache.getStats(new ClassFileLike("lib.jar", "com/example/A.class", null)));
+  }
+
+  private static byte[] createClass(String name, String fieldName) {
+    ClassWriter writer = new ClassWriter(0);
+    writer.visit(Opcodes.V1_6, Opcodes.ACC_PUBLIC, name, null, "java/lang/Object", null);
+    writer.visitField(Opcodes.ACC_PUBLIC, fieldName, "I", null, null).visitEnd();
+    writer.visitEnd();
+    return writer.toByteArray();
+  }
+
+  private static class ClassFileLike extends AbstractFileLike {
+    private final Path container;
+    private final String relativePath;
+    @Nullable private final byte[] contents;
+
+    private ClassFileLike(String container, String relativePath, @Nullable byte[] contents) {
+      this.container = Paths.get(container);
+      this.relativePath = relativePath;
+      this.contents = contents;
+    }
+
+    @Override
+    public Path getContainer() {
+      return container;
+    }
+
+    @Override
+    public String getRelativePath() {
+      return relativePath;
+    }
+
+    @Override
+    public long getSize() {
+      return Objects.requireNonNull(contents).length;
+    }
+
+    @Override
+    public InputStream getInput() {
+      return new ByteArrayInputStream(Objects.requireNonNull(contents));
+    }
+  }
+}
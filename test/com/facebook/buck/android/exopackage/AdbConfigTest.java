@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android.exopackage;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.core.config.FakeBuckConfig;
+import com.facebook.buck.core.exceptions.HumanReadableException;
+import com.google.common.collect.ImmutableMap;
+import java.util.Optional;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class AdbConfigTest {
+  @Rule public ExpectedException thrown = ExpectedException.none();
+
+  private static AdbConfig makeAdbConfig(String pushBytesPerSecond) {
+    return AdbConfig.of(
+        FakeBuckConfig.builder()
+            .setSections(
+                ImmutableMap.of(
+                    "adb", ImmutableMap.of("push_bytes_per_second_per_device", pushBytesPerSecond)))
+            .build());
+  }
+
+  @Test
+  public void pushRateIsUnlimitedWhenUnset() {
+    assertEquals(
+        Optional.empty(),
+        AdbConfig.of(FakeBuckConfig.builder().build()).getPushBytesPerSecondPerDevice());
+  }
+
+  @Test
+  public void pushRateIsReadFromConfig() {
+    assertEquals(Optional.of(1024L), makeAdbConfig("1024").getPushBytesPerSecondPerDevice());
+  }
+
+  @Test
+  public void zeroPushRateIsRejected() {
+    thrown.expect(HumanReadableException.class);
+    thrown.expectMessage("push_bytes_per_second_per_device must be positive");
+    makeAdbConfig("0").getPushBytesPerSecondPerDevice();
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android.exopackage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ExopackageDeltaInstallerTest {
+  private static final Path DATA_ROOT = Paths.get("/data/local/tmp/exopackage/com.example");
+  private static final Path OLD_FILE = Paths.get("resources/old.apk");
+  private static final Path NEW_FILE = Paths.get("resources/new.apk");
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private TestAndroidDevice device;
+  private Path deviceRoot;
+  private Path localFile;
+  private byte[] newContents;
+
+  @Before
+  public void setUp() throws Exception {
+    deviceRoot = tmp.newFolder("device");
+    device = new TestAndroidDevice(apk -> null, deviceRoot, "serial", "armeabi-v7a");
+
+    byte[] oldContents = new byte[512 * 1024];
+    new Random(0).nextBytes(oldContents);
+    device.mkDirP(DATA_ROOT.resolve("resources").toString());
+    Files.write(deviceFile(OLD_FILE), oldContents);
+
+    newContents = oldContents.clone();
+    newContents[1234] ^= 1;
+    localFile = tmp.getRoot().resolve("new.apk");
+    Files.write(localFile, newContents);
+  }
+
+  @Test
+  public void changedFilesArePatchedFromTheirPreviousVersion() throws Exception {
+    device.setBlockPatchesSupported(true);
+
+    ImmutableMap<Path, Path> remaining = installPatches();
+
+    assertEquals(ImmutableMap.of(), remaining);
+    assertEquals(1, device.getPatchedFileCount());
+    assertArrayEquals(newContents, Files.readAllBytes(deviceFile(NEW_FILE)));
+    assertFalse(Files.exists(deviceFile(Paths.get("resources/new.apk.patch"))));
+  }
+
+  @Test
+  public void devicesWithoutPatchSupportGetFullFiles() throws Exception {
+    ImmutableMap<Path, Path> remaining = installPatches();
+
+    assertEquals(ImmutableMap.of(NEW_FILE, localFile), remaining);
+    assertEquals(0, device.getPatchedFileCount());
+  }
+
+  @Test
+  public void filesWithoutPreviousVersionGetFullFiles() throws Exception {
+    device.setBlockPatchesSupported(true);
+
+    ImmutableMap<Path, Path> remaining =
+        new ExopackageDeltaInstaller(device, DATA_ROOT)
+            .installPatches(
+                ExopackageInstaller.RESOURCES_TYPE,
+                ImmutableSortedSet.of(OLD_FILE),
+                ImmutableSet.of(OLD_FILE, NEW_FILE),
+                ImmutableMap.of(NEW_FILE, localFile));
+
+    assertEquals(ImmutableMap.of(NEW_FILE, localFile), remaining);
+    assertEquals(0, device.getPatchedFileCount());
+  }
+
+  private ImmutableMap<Path, Path> installPatches() throws Exception {
+    return new ExopackageDeltaInstaller(device, DATA_ROOT)
+        .installPatches(
+            ExopackageInstaller.RESOURCES_TYPE,
+            ImmutableSortedSet.of(OLD_FILE),
+            ImmutableSet.of(NEW_FILE),
+            ImmutableMap.of(NEW_FILE, localFile));
+  }
+
+  private Path deviceFile(Path file) {
+    return deviceRoot.resolve(DATA_ROOT.getRoot().relativize(DATA_ROOT)).resolve(file);
+  }
+}
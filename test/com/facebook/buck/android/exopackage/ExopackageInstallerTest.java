@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android.exopackage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import com.facebook.buck.core.exceptions.HumanReadableException;
+import com.google.common.util.concurrent.Futures;
+import java.io.IOException;
+import org.junit.Test;
+
+public class ExopackageInstallerTest {
+  @Test
+  public void prefetchedValueIsReturned() throws Exception {
+    assertEquals("value", ExopackageInstaller.getPrefetched(Futures.immediateFuture("value")));
+  }
+
+  @Test
+  public void prefetchCheckedExceptionsAreRethrownUnwrapped() throws Exception {
+    IOException failure = new IOException("unreadable");
+    try {
+      ExopackageInstaller.getPrefetched(Futures.immediateFailedFuture(failure));
+      fail("Expected an IOException.");
+    } catch (IOException e) {
+      assertSame(failure, e);
+    }
+  }
+
+  @Test
+  public void prefetchUncheckedExceptionsAreRethrownUnwrapped() throws Exception {
+    HumanReadableException failure = new HumanReadableException("no device");
+    try {
+      ExopackageInstaller.getPrefetched(Futures.immediateFailedFuture(failure));
+      fail("Expected a HumanReadableException.");
+    } catch (HumanReadableException e) {
+      assertSame(failure, e);
+    }
+  }
+}
@@ -21,22 +21,39 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import com.android.ddmlib.IDevice;
 import com.android.ddmlib.IShellOutputReceiver;
 import com.android.ddmlib.InstallException;
 import com.facebook.buck.android.TestDevice;
 import com.facebook.buck.event.BuckEventBusForTests;
+import com.facebook.buck.testutil.TemporaryPaths;
 import com.facebook.buck.testutil.TestConsole;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.RateLimiter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Rule;
 import org.junit.Test;
 
 public class RealAndroidDeviceTest {
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
   private TestDevice createDeviceForShellCommandTest(String output) {
     return new TestDevice() {
       @Override
@@ -215,4 +232,123 @@ public class RealAndroidDeviceTest {
     assertTrue(command.contains("--es extra1"));
     assertTrue(command.contains("value1"));
   }
+
+  @Test
+  public void chmodIsBatchedWithinTheAdbCommandLimit() throws Exception {
+    List<String> commands = new ArrayList<>();
+    TestDevice device =
+        new TestDevice() {
+          @Override
+          public void executeShellCommand(String command, IShellOutputReceiver receiver) {
+            commands.add(command);
+            receiver.addOutput(":0".getBytes(), 0, 2);
+          }
+        };
+    List<Path> paths = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      paths.add(Paths.get("/data/local/tmp/exopackage/com.example/secondary-dex/dex-" + i));
+    }
+
+    createAndroidDevice(device).chmod644(paths);
+
+    assertTrue(commands.size() > 1);
+    assertTrue(commands.size() < paths.size() / 5);
+    Set<String> chmodded = new HashSet<>();
+    for (String command : commands) {
+      assertTrue(command, command.length() <= RealAndroidDevice.MAX_ADB_COMMAND_SIZE);
+      assertTrue(command, command.startsWith("chmod 644 "));
+      String args = command.substring("chmod 644 ".length(), command.indexOf(" ; echo"));
+      chmodded.addAll(ImmutableList.copyOf(args.split(" ")));
+    }
+    for (Path path : paths) {
+      assertTrue(path.toString(), chmodded.contains(path.toString()));
+    }
+  }
+
+  @Test
+  public void patchedFilesAreMadeReadable() throws Exception {
+    List<String> commands = new ArrayList<>();
+    TestDevice device =
+        new TestDevice() {
+          @Override
+          public void executeShellCommand(String command, IShellOutputReceiver receiver) {
+            commands.add(command);
+            receiver.addOutput(":0".getBytes(), 0, 2);
+          }
+        };
+    Path dir = Paths.get("/data/local/tmp/exopackage/com.example/secondary-dex");
+
+    createAndroidDevice(device)
+        .applyBlockPatches(
+            new ExopackageAgent(false, "/data/app/agent.apk", "/data/app/lib"),
+            ImmutableList.of(
+                BlockPatchTarget.of(
+                    dir.resolve("dex-1-old"), dir.resolve("dex-1.patch"), dir.resolve("dex-1")),
+                BlockPatchTarget.of(
+                    dir.resolve("dex-2-old"), dir.resolve("dex-2.patch"), dir.resolve("dex-2"))));
+
+    assertEquals(2, commands.size());
+    assertTrue(commands.get(0), commands.get(0).contains("apply-block-patch "));
+    String chmod = "chmod 644 " + dir.resolve("dex-1") + " " + dir.resolve("dex-2");
+    assertTrue(commands.get(1), commands.get(1).startsWith(chmod));
+  }
+
+  @Test
+  public void multiInstallStreamsEachFileAfterItsHeader() throws Exception {
+    Path first = tmp.newFile("first");
+    Files.write(first, "abc".getBytes(StandardCharsets.UTF_8));
+    Path second = tmp.newFile("second");
+    Files.write(second, new byte[0]);
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+    createAndroidDevice(new TestDevice())
+        .multiInstallFilesToStream(
+            stream,
+            "test",
+            ImmutableMap.of(Paths.get("dir/first"), first, Paths.get("dir/second"), second));
+
+    assertEquals(
+        "000C 3 dir/first\nabc" + "000D 0 dir/second\n" + "000D 0 --complete\n",
+        new String(stream.toByteArray(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void copyExactlyFailsWhenTheSourceIsShorterThanAnnounced() {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try {
+      RealAndroidDevice.copyExactly(
+          new ByteArrayInputStream(new byte[10]), output, 20, Optional.empty(), "file");
+      fail("Expected an IOException.");
+    } catch (IOException e) {
+      assertTrue(e.getMessage(), e.getMessage().contains("expected 20 bytes but read 10"));
+    }
+  }
+
+  @Test
+  public void copyExactlyStopsAtTheAnnouncedSize() throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    RealAndroidDevice.copyExactly(
+        new ByteArrayInputStream(new byte[30]), output, 20, Optional.empty(), "file");
+
+    assertEquals(20, output.size());
+  }
+
+  @Test
+  public void pushesAreThrottledByTheRateLimiter() throws Exception {
+    int size = 256 * 1024;
+    RateLimiter rateLimiter = RateLimiter.create(1_000_000);
+    // The first acquire is free, so use up the burst before timing.
+    rateLimiter.acquire(1);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    long start = System.nanoTime();
+    RealAndroidDevice.copyExactly(
+        new ByteArrayInputStream(new byte[size]), output, size, Optional.of(rateLimiter), "file");
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    assertEquals(size, output.size());
+    // 256KB at 1MB/s is about 260ms; allow for the limiter granting the last chunk up front.
+    assertTrue(String.valueOf(elapsedMillis), elapsedMillis >= 150);
+  }
 }
@@ -19,6 +19,7 @@ package com.facebook.buck.android.exopackage;
 import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.android.agent.util.AgentUtil;
+import com.facebook.buck.android.agent.util.BlockPatch;
 import com.facebook.buck.core.exceptions.BuckUncheckedExecutionException;
 import com.facebook.buck.io.file.MostFiles;
 import com.google.common.base.Preconditions;
@@ -28,10 +29,13 @@ import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Ordering;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -50,6 +54,8 @@ public class TestAndroidDevice implements AndroidDevice {
   private final Path stateDirectory;
   private final String serial;
   private final ApkInfoReader apkInfoReader;
+  private boolean blockPatchesSupported = false;
+  private int patchedFileCount = 0;
 
   public Map<String, Path> getInstalledApks() throws Exception {
     return listDirRecursive(APK_INSTALL_DIR).stream()
@@ -246,6 +252,50 @@ public class TestAndroidDevice implements AndroidDevice {
     return serial;
   }
 
+  public void setBlockPatchesSupported(boolean blockPatchesSupported) {
+    this.blockPatchesSupported = blockPatchesSupported;
+  }
+
+  /** @return the number of files created by {@link #applyBlockPatches}. */
+  public int getPatchedFileCount() {
+    return patchedFileCount;
+  }
+
+  @Override
+  public boolean supportsBlockPatches() {
+    return blockPatchesSupported;
+  }
+
+  @Override
+  public ImmutableMap<Path, BlockPatch.FileSignatures> getBlockSignatures(
+      Collection<Path> devicePaths, int blockSize) throws Exception {
+    assertTrue(blockPatchesSupported);
+    ImmutableMap.Builder<Path, BlockPatch.FileSignatures> signatures = ImmutableMap.builder();
+    for (Path devicePath : devicePaths) {
+      Path path = resolve(devicePath);
+      if (path.toFile().isFile()) {
+        try (InputStream input = Files.newInputStream(path)) {
+          signatures.put(devicePath, BlockPatch.computeSignatures(input, blockSize));
+        }
+      }
+    }
+    return signatures.build();
+  }
+
+  @Override
+  public void applyBlockPatches(Collection<BlockPatchTarget> patches) throws Exception {
+    assertTrue(blockPatchesSupported);
+    for (BlockPatchTarget patch : patches) {
+      Path patchPath = resolve(patch.getPatchPath());
+      try (InputStream input = Files.newInputStream(patchPath);
+          OutputStream output = Files.newOutputStream(resolve(patch.getOutputPath()))) {
+        BlockPatch.applyPatch(resolve(patch.getBasisPath()).toFile(), input, output);
+      }
+      Files.delete(patchPath);
+      patchedFileCount++;
+    }
+  }
+
   private Path resolve(String path) {
     return resolve(Paths.get(path));
   }
@@ -29,10 +29,14 @@ import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableList;
 import com.google.common.io.ByteStreams;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -81,6 +85,57 @@ public class ResourceTableTest {
     }
   }
 
+  @Test
+  public void testBuffersMatchSerialization() throws Exception {
+    ResourceTable resourceTable = ResourceTable.get(ResChunk.wrap(readResourceTable()));
+    Map<Integer, Integer> counts = new HashMap<>();
+    for (ResTableTypeSpec spec : resourceTable.getPackage().getTypeSpecs()) {
+      counts.put(spec.getResourceType(), Math.min(spec.getEntryCount(), 1));
+    }
+
+    Path output = tmpFolder.getRoot().resolve("gathered.arsc");
+    for (ResourceTable table :
+        ImmutableList.of(resourceTable, ResourceTable.slice(resourceTable, counts))) {
+      try (FileChannel channel =
+          FileChannel.open(
+              output,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.WRITE,
+              StandardOpenOption.TRUNCATE_EXISTING)) {
+        table.writeTo(channel);
+      }
+      assertArrayEquals(table.serialize(), Files.readAllBytes(output));
+    }
+  }
+
+  @Test
+  public void testMappedTableIsPatchedWithoutModifyingTheFile() throws Exception {
+    byte[] data = readResourceTable();
+    Path arsc = tmpFolder.newFile("resources.arsc");
+    Files.write(arsc, data);
+
+    ResourceTable heapTable = ResourceTable.get(ResChunk.wrap(data.clone()));
+    heapTable.reassignIds(ReversingMapper.construct(heapTable));
+
+    ResourceTable mappedTable;
+    try (FileChannel channel =
+        FileChannel.open(arsc, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      ByteBuffer map = channel.map(FileChannel.MapMode.PRIVATE, 0, data.length);
+      map.order(ByteOrder.LITTLE_ENDIAN);
+      mappedTable = ResourceTable.get(map);
+    }
+    mappedTable.reassignIds(ReversingMapper.construct(mappedTable));
+
+    assertArrayEquals(heapTable.serialize(), mappedTable.serialize());
+    assertArrayEquals(data, Files.readAllBytes(arsc));
+  }
+
+  private byte[] readResourceTable() throws IOException {
+    try (ZipFile apkZip = new ZipFile(apkPath.toFile())) {
+      return ByteStreams.toByteArray(apkZip.getInputStream(apkZip.getEntry("resources.arsc")));
+    }
+  }
+
   @Test
   public void testAaptDumpResources() throws Exception {
     try (ZipFile apkZip = new ZipFile(apkPath.toFile())) {
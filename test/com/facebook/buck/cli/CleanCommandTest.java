@@ -83,6 +83,7 @@ public class CleanCommandTest {
     projectFilesystem.mkdirs(projectFilesystem.getBuckPaths().getGenDir());
     projectFilesystem.mkdirs(projectFilesystem.getBuckPaths().getTrashDir());
     projectFilesystem.mkdirs(projectFilesystem.getBuckPaths().getCacheDir());
+    projectFilesystem.mkdirs(projectFilesystem.getBuckPaths().getThinLTOCacheDir());
     // Create a "local" cache directory.
     for (DirCacheEntry dirCacheEntry : dirCacheEntries) {
       projectFilesystem.mkdirs(dirCacheEntry.getCacheDir());
@@ -97,6 +98,7 @@ public class CleanCommandTest {
     assertFalse(projectFilesystem.exists(projectFilesystem.getBuckPaths().getGenDir()));
     assertFalse(projectFilesystem.exists(projectFilesystem.getBuckPaths().getTrashDir()));
     assertFalse(projectFilesystem.exists(projectFilesystem.getBuckPaths().getCacheDir()));
+    assertFalse(projectFilesystem.exists(projectFilesystem.getBuckPaths().getThinLTOCacheDir()));
     for (DirCacheEntry dirCacheEntry : dirCacheEntries) {
       assertFalse(projectFilesystem.exists(dirCacheEntry.getCacheDir()));
     }
@@ -116,6 +118,7 @@ public class CleanCommandTest {
     projectFilesystem.mkdirs(projectFilesystem.getBuckPaths().getGenDir());
     projectFilesystem.mkdirs(projectFilesystem.getBuckPaths().getTrashDir());
     projectFilesystem.mkdirs(projectFilesystem.getBuckPaths().getCacheDir());
+    projectFilesystem.mkdirs(projectFilesystem.getBuckPaths().getThinLTOCacheDir());
     // Create a "local" cache directory.
     for (DirCacheEntry dirCacheEntry : dirCacheEntries) {
       projectFilesystem.mkdirs(dirCacheEntry.getCacheDir());
@@ -130,6 +133,7 @@ public class CleanCommandTest {
     assertFalse(projectFilesystem.exists(projectFilesystem.getBuckPaths().getGenDir()));
     assertFalse(projectFilesystem.exists(projectFilesystem.getBuckPaths().getTrashDir()));
     assertTrue(projectFilesystem.exists(projectFilesystem.getBuckPaths().getCacheDir()));
+    assertTrue(projectFilesystem.exists(projectFilesystem.getBuckPaths().getThinLTOCacheDir()));
     for (DirCacheEntry dirCacheEntry : dirCacheEntries) {
       assertTrue(projectFilesystem.exists(dirCacheEntry.getCacheDir()));
     }
@@ -18,24 +18,38 @@ package com.facebook.buck.cxx;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeTrue;
 
+import com.facebook.buck.core.build.buildable.context.FakeBuildableContext;
+import com.facebook.buck.core.build.context.BuildContext;
+import com.facebook.buck.core.build.context.FakeBuildContext;
 import com.facebook.buck.core.build.execution.context.ExecutionContext;
 import com.facebook.buck.core.config.FakeBuckConfig;
+import com.facebook.buck.core.exceptions.HumanReadableException;
+import com.facebook.buck.core.model.BuildTargetFactory;
 import com.facebook.buck.core.model.UnconfiguredTargetConfiguration;
+import com.facebook.buck.core.rules.ActionGraphBuilder;
 import com.facebook.buck.core.rules.BuildRuleResolver;
 import com.facebook.buck.core.rules.resolver.impl.TestActionGraphBuilder;
+import com.facebook.buck.core.sourcepath.PathSourcePath;
+import com.facebook.buck.core.toolchain.tool.Tool;
 import com.facebook.buck.cxx.config.CxxBuckConfig;
+import com.facebook.buck.cxx.toolchain.ArchiveContents;
 import com.facebook.buck.cxx.toolchain.Archiver;
 import com.facebook.buck.cxx.toolchain.CxxPlatform;
 import com.facebook.buck.cxx.toolchain.CxxPlatformUtils;
+import com.facebook.buck.cxx.toolchain.GnuArchiver;
 import com.facebook.buck.cxx.toolchain.objectfile.ObjectFileScrubbers;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.step.Step;
 import com.facebook.buck.step.TestExecutionContext;
 import com.facebook.buck.step.fs.FileScrubberStep;
 import com.facebook.buck.testutil.TemporaryPaths;
 import com.facebook.buck.testutil.TestConsole;
+import com.facebook.buck.testutil.integration.ProjectWorkspace;
+import com.facebook.buck.testutil.integration.TestDataHelper;
 import com.facebook.buck.util.ObjectFileCommonModificationDate;
 import com.facebook.buck.util.environment.Platform;
 import com.google.common.base.Preconditions;
@@ -276,6 +290,126 @@ public class ArchiveStepIntegrationTest {
     }
   }
 
+  @Test
+  public void nativeThinArchivesMatchArAndRanlib() throws IOException, InterruptedException {
+    assumeTrue(Platform.detect() == Platform.LINUX);
+    ProjectWorkspace workspace =
+        TestDataHelper.createProjectWorkspaceForScenario(this, "thin_archive", tmp);
+    workspace.setUp();
+    ProjectFilesystem filesystem = workspace.getProjectFileSystem();
+    CxxPlatform platform =
+        CxxPlatformUtils.build(new CxxBuckConfig(FakeBuckConfig.builder().build()));
+    BuildRuleResolver ruleResolver = new TestActionGraphBuilder();
+    Archiver archiver =
+        platform.getAr().resolve(ruleResolver, UnconfiguredTargetConfiguration.INSTANCE);
+    assumeTrue(archiver instanceof GnuArchiver);
+    Tool ranlib =
+        platform.getRanlib().get().resolve(ruleResolver, UnconfiguredTargetConfiguration.INSTANCE);
+
+    ImmutableList<Path> inputs =
+        ImmutableList.of(filesystem.getPath("objs/a.o"), filesystem.getPath("objs/b.o"));
+    Path expected = filesystem.getPath("out/libexpected.a");
+    Path actual = filesystem.getPath("out/libactual.a");
+    filesystem.mkdirs(expected.getParent());
+
+    // Build the archive with `ar` and `ranlib`, as the archive rule would.  The native writer
+    // already zeroes out dates and IDs, so compare against the archive from before scrubbing.
+    ExecutionContext executionContext = TestExecutionContext.newInstanceWithRealProcessExecutor();
+    ImmutableList<Step> steps =
+        ImmutableList.of(
+            new ArchiveStep(
+                filesystem,
+                archiver.getEnvironment(ruleResolver.getSourcePathResolver()),
+                archiver.getCommandPrefix(ruleResolver.getSourcePathResolver()),
+                ImmutableList.of(),
+                getArchiveOptions(true),
+                expected,
+                inputs,
+                archiver,
+                filesystem.getPath("scratchDir")),
+            new RanlibStep(
+                filesystem,
+                ranlib.getEnvironment(ruleResolver.getSourcePathResolver()),
+                ranlib.getCommandPrefix(ruleResolver.getSourcePathResolver()),
+                ImmutableList.of(),
+                expected));
+    for (Step step : steps) {
+      assertEquals(0, step.execute(executionContext).getExitCode());
+    }
+
+    assertEquals(
+        0, new ThinArchiveStep(filesystem, actual, inputs).execute(executionContext).getExitCode());
+
+    // The archives should be identical, including the symbol index.
+    assertThat(
+        Files.readAllBytes(filesystem.resolve(actual)),
+        Matchers.equalTo(Files.readAllBytes(filesystem.resolve(expected))));
+  }
+
+  @Test
+  public void nativeThinArchivesFallBackToArForMembersThatArentElf()
+      throws IOException, InterruptedException {
+    assumeTrue(Platform.detect() == Platform.LINUX);
+    ProjectWorkspace workspace =
+        TestDataHelper.createProjectWorkspaceForScenario(this, "thin_archive", tmp);
+    workspace.setUp();
+    ProjectFilesystem filesystem = workspace.getProjectFileSystem();
+    CxxPlatform platform =
+        CxxPlatformUtils.build(new CxxBuckConfig(FakeBuckConfig.builder().build()));
+    ActionGraphBuilder graphBuilder = new TestActionGraphBuilder();
+    Archiver archiver =
+        platform.getAr().resolve(graphBuilder, UnconfiguredTargetConfiguration.INSTANCE);
+    assumeTrue(archiver instanceof GnuArchiver);
+    Tool ranlib =
+        platform.getRanlib().get().resolve(graphBuilder, UnconfiguredTargetConfiguration.INSTANCE);
+
+    // LLVM bitcode, as produced for ThinLTO, which the native writer can't index.
+    Path bitcode = filesystem.getPath("objs/c.bc");
+    filesystem.writeBytesToPath(
+        new byte[] {'B', 'C', (byte) 0xC0, (byte) 0xDE, 0x35, 0x14, 0x00, 0x00}, bitcode);
+    ImmutableList<Path> inputs = ImmutableList.of(filesystem.getPath("objs/a.o"), bitcode);
+    ExecutionContext executionContext = TestExecutionContext.newInstanceWithRealProcessExecutor();
+
+    try {
+      new ThinArchiveStep(filesystem, filesystem.getPath("out/libnative.a"), inputs)
+          .execute(executionContext);
+      fail("the native writer should refuse to leave members out of the symbol index");
+    } catch (HumanReadableException e) {
+      assertThat(e.getMessage(), Matchers.containsString("c.bc"));
+    }
+
+    Archive archive =
+        new Archive(
+            BuildTargetFactory.newInstance("//foo:bar"),
+            filesystem,
+            graphBuilder,
+            archiver,
+            ImmutableList.of(),
+            Optional.of(ranlib),
+            ImmutableList.of(),
+            ArchiveContents.THIN,
+            "libbar.a",
+            inputs.stream()
+                .map(input -> PathSourcePath.of(filesystem, input))
+                .collect(ImmutableList.toImmutableList()),
+            /* cacheable */ true,
+            /* nativeThinArchives */ true);
+    BuildContext buildContext =
+        FakeBuildContext.withSourcePathResolver(graphBuilder.getSourcePathResolver());
+    for (Step step : archive.getBuildSteps(buildContext, new FakeBuildableContext())) {
+      assertEquals(0, step.execute(executionContext).getExitCode());
+    }
+
+    // `ar` wrote the archive, and `ranlib` indexed the ELF member.
+    Path output =
+        graphBuilder.getSourcePathResolver().getRelativePath(archive.getSourcePathToOutput());
+    byte[] contents = Files.readAllBytes(filesystem.resolve(output));
+    String text = new String(contents, StandardCharsets.ISO_8859_1);
+    assertThat(text, Matchers.startsWith("!<thin>\n/ "));
+    assertThat(text, Matchers.containsString("objs/c.bc/"));
+    assertThat(text, Matchers.containsString("foo\0"));
+  }
+
   private static ImmutableList<String> getArchiveOptions(boolean isThinArchive) {
     String options = isThinArchive ? "qcT" : "qc";
     return ImmutableList.of(options);
@@ -16,8 +16,10 @@
 
 package com.facebook.buck.cxx;
 
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertThat;
 
@@ -47,6 +49,7 @@ import com.facebook.buck.rules.args.StringArg;
 import com.facebook.buck.rules.keys.TestDefaultRuleKeyFactory;
 import com.facebook.buck.shell.Genrule;
 import com.facebook.buck.shell.GenruleBuilder;
+import com.facebook.buck.step.ConditionalStep;
 import com.facebook.buck.step.Step;
 import com.facebook.buck.step.TestExecutionContext;
 import com.facebook.buck.testutil.FakeFileHashCache;
@@ -213,6 +216,40 @@ public class ArchiveTest {
         ranlibStep.getDescription(TestExecutionContext.newInstance()), containsString("-bar"));
   }
 
+  @Test
+  public void nativeThinArchivesOnlyRunArAndRanlibAsAFallback() {
+    BuildRuleResolver resolver = new TestActionGraphBuilder();
+    BuildTarget target = BuildTargetFactory.newInstance("//foo:bar");
+    ProjectFilesystem projectFilesystem = new FakeProjectFilesystem();
+    Archive archive =
+        new Archive(
+            target,
+            projectFilesystem,
+            resolver,
+            DEFAULT_ARCHIVER,
+            ImmutableList.of(),
+            DEFAULT_RANLIB,
+            ImmutableList.of(),
+            ArchiveContents.THIN,
+            DEFAULT_OUTPUT_FILE_NAME,
+            ImmutableList.of(FakeSourcePath.of("simple.o")),
+            /* cacheable */ true,
+            /* nativeThinArchives */ true);
+
+    BuildContext buildContext =
+        FakeBuildContext.NOOP_CONTEXT.withSourcePathResolver(resolver.getSourcePathResolver());
+
+    // Which steps run depends on whether the native writer can index every member, which is only
+    // known once they've been built.
+    ImmutableList<Step> steps = archive.getBuildSteps(buildContext, new FakeBuildableContext());
+    assertFalse(FluentIterable.from(steps).filter(ThinArchiveStep.class).first().isPresent());
+    assertFalse(FluentIterable.from(steps).filter(ArchiveStep.class).first().isPresent());
+    assertFalse(FluentIterable.from(steps).filter(RanlibStep.class).first().isPresent());
+    assertThat(
+        FluentIterable.from(steps).filter(ConditionalStep.class).transform(Step::getShortName),
+        contains("thin_archive", "archive", "ranlib", "file-scrub"));
+  }
+
   @Test
   public void testThatBuildTargetSourcePathDepsAndPathsArePropagated() {
     ActionGraphBuilder graphBuilder = new TestActionGraphBuilder();
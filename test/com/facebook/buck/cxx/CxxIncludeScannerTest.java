@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.cxx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.facebook.buck.cxx.CxxIncludeScanner.Include;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class CxxIncludeScannerTest {
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private static String lines(String... lines) {
+    return Joiner.on('\n').join(lines);
+  }
+
+  @Test
+  public void parsesIncludeDirectives() {
+    assertEquals(
+        ImmutableList.of(
+            new Include("a.h", true),
+            new Include("b.h", false),
+            new Include("c.h", false),
+            new Include("d.h", true),
+            new Include("e.h", false)),
+        CxxIncludeScanner.parse(
+            lines(
+                "#include \"a.h\"",
+                "  #  include <b.h>",
+                "#include_next <c.h>",
+                "#import \"d.h\" // trailing comment",
+                "#ifdef _WIN32",
+                "#include <e.h>",
+                "#endif",
+                "int x = 1;")));
+  }
+
+  @Test
+  public void ignoresIncludesInCommentsAndStrings() {
+    assertEquals(
+        ImmutableList.of(new Include("real.h", true)),
+        CxxIncludeScanner.parse(
+            lines(
+                "// #include \"line.h\"",
+                "/* #include \"block.h\"",
+                "#include \"still_block.h\" */",
+                "const char *s = \"/*\";",
+                "#include \"real.h\"",
+                "// a comment continued \\",
+                "#include \"continued.h\"")));
+  }
+
+  @Test
+  public void joinsContinuedLines() {
+    assertEquals(
+        ImmutableList.of(new Include("a.h", true)),
+        CxxIncludeScanner.parse(lines("#include \\", "  \"a.h\"")));
+  }
+
+  @Test
+  public void parsesHasIncludeChecks() {
+    assertEquals(
+        ImmutableList.of(new Include("optional.h", false), new Include("other.h", true)),
+        CxxIncludeScanner.parse(
+            lines(
+                "#if __has_include(<optional.h>)",
+                "#elif defined(FOO) && __has_include_next ( \"other.h\" )",
+                "#endif")));
+  }
+
+  @Test
+  public void parsesComputedIncludes() {
+    assertEquals(
+        ImmutableList.of(Include.COMPUTED),
+        CxxIncludeScanner.parse(lines("#define HEADER <a.h>", "#include HEADER")));
+  }
+
+  @Test
+  public void scansTransitiveIncludesAcrossAllSearchPaths() throws IOException {
+    Path first = tmp.newFolder("first");
+    Path second = tmp.newFolder("second");
+    Path source = write("src/source.c", "#include \"local.h\"", "#include <lib/a.h>");
+    Path local = write("src/local.h", "#include <missing.h>");
+    Path firstA = write("first/lib/a.h", "#include \"b.h\"");
+    Path secondA = write("second/lib/a.h");
+    Path b = write("first/lib/b.h");
+    write("second/lib/unused.h");
+
+    Optional<ImmutableSet<Path>> includes =
+        new CxxIncludeScanner(16)
+            .scan(ImmutableList.of(source), ImmutableList.of(first, second));
+
+    assertEquals(
+        Optional.of(ImmutableSet.of(source, local, firstA, secondA, b)),
+        includes.map(ImmutableSet::copyOf));
+  }
+
+  @Test
+  public void computedIncludesFailTheScan() throws IOException {
+    Path directory = tmp.newFolder("include");
+    Path source = write("source.c", "#include <header.h>");
+    write("include/header.h", "#include HEADER");
+    CxxIncludeScanner scanner = new CxxIncludeScanner(16);
+
+    assertFalse(scanner.scan(ImmutableList.of(source), ImmutableList.of(directory)).isPresent());
+  }
+
+  @Test
+  public void includesAreCachedByContentHash() throws IOException {
+    Path first = write("first.h", "#include \"a.h\"");
+    Path second = write("second.h", "#include \"a.h\"");
+    CxxIncludeScanner scanner = new CxxIncludeScanner(16);
+
+    assertEquals(scanner.getIncludes(first), scanner.getIncludes(second));
+    assertEquals(1, scanner.getCacheSize());
+  }
+
+  private Path write(String path, String... lines) throws IOException {
+    Path file = tmp.getRoot().resolve(path);
+    Files.createDirectories(file.getParent());
+    Files.write(file, lines(lines).getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+}
@@ -169,6 +169,58 @@ public class CxxLinkTest {
     assertNotEquals(defaultRuleKey, flagsChange);
   }
 
+  @Test
+  public void thinLTOCacheArgsDoNotAffectRuleKey() {
+    SourcePathRuleFinder ruleFinder = new TestActionGraphBuilder();
+    BuildTarget target = BuildTargetFactory.newInstance("//foo:bar");
+    ProjectFilesystem projectFilesystem = new FakeProjectFilesystem();
+    DefaultRuleKeyFactory ruleKeyFactory =
+        new TestDefaultRuleKeyFactory(
+            FakeFileHashCache.createFromStrings(
+                ImmutableMap.of(
+                    "ld", Strings.repeat("0", 40),
+                    "a.o", Strings.repeat("a", 40),
+                    "b.o", Strings.repeat("b", 40),
+                    "libc.a", Strings.repeat("c", 40))),
+            ruleFinder);
+
+    RuleKey withoutCache =
+        ruleKeyFactory.build(
+            new CxxLink(
+                target,
+                projectFilesystem,
+                ruleFinder,
+                TestCellPathResolver.get(projectFilesystem),
+                DEFAULT_LINKER,
+                DEFAULT_OUTPUT,
+                ImmutableMap.of(),
+                DEFAULT_ARGS,
+                Optional.empty(),
+                Optional.empty(),
+                /* cacheable */ true,
+                /* thinLto */ true,
+                /* fatLto */ false));
+    RuleKey withCache =
+        ruleKeyFactory.build(
+            new CxxLink(
+                target,
+                projectFilesystem,
+                ruleFinder,
+                TestCellPathResolver.get(projectFilesystem),
+                DEFAULT_LINKER,
+                DEFAULT_OUTPUT,
+                ImmutableMap.of(),
+                DEFAULT_ARGS,
+                ImmutableList.copyOf(
+                    StringArg.from("-Xlinker", "--thinlto-cache-dir=buck-out/thinlto-cache")),
+                Optional.empty(),
+                Optional.empty(),
+                /* cacheable */ true,
+                /* thinLto */ true,
+                /* fatLto */ false));
+    assertEquals(withoutCache, withCache);
+  }
+
   @Test
   public void sanitizedPathsInFlagsDoNotAffectRuleKey() {
     SourcePathRuleFinder ruleFinder = new TestActionGraphBuilder();
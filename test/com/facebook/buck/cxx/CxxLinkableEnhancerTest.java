@@ -43,11 +43,15 @@ import com.facebook.buck.core.rules.resolver.impl.TestActionGraphBuilder;
 import com.facebook.buck.core.sourcepath.FakeSourcePath;
 import com.facebook.buck.core.sourcepath.SourcePath;
 import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
+import com.facebook.buck.core.toolchain.tool.impl.CommandTool;
+import com.facebook.buck.core.toolchain.toolprovider.impl.ConstantToolProvider;
 import com.facebook.buck.cxx.config.CxxBuckConfig;
 import com.facebook.buck.cxx.toolchain.CxxPlatform;
 import com.facebook.buck.cxx.toolchain.CxxPlatformUtils;
 import com.facebook.buck.cxx.toolchain.linker.Linker;
 import com.facebook.buck.cxx.toolchain.linker.Linker.LinkableDepType;
+import com.facebook.buck.cxx.toolchain.linker.LinkerProvider;
+import com.facebook.buck.cxx.toolchain.linker.impl.DefaultLinkerProvider;
 import com.facebook.buck.cxx.toolchain.nativelink.LegacyNativeLinkableGroup;
 import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkable;
 import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkableGroup;
@@ -526,6 +530,101 @@ public class CxxLinkableEnhancerTest {
         not(hasItem(sentinel)));
   }
 
+  @Test
+  public void thinLtoLinksShareTheThinLtoCache() {
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+    String cacheDir = filesystem.getBuckPaths().getThinLTOCacheDir().toString();
+
+    ImmutableList<String> darwinArgs =
+        createThinLtoLinkWithCache(LinkerProvider.Type.DARWIN, filesystem, ImmutableList.of());
+    assertThat(darwinArgs, hasConsecutiveItems("-cache_path_lto", "-Xlinker", cacheDir));
+    assertThat(darwinArgs, hasConsecutiveItems("-max_relative_cache_size_lto", "-Xlinker", "5"));
+
+    ImmutableList<String> lldArgs =
+        createThinLtoLinkWithCache(
+            LinkerProvider.Type.GNU, filesystem, ImmutableList.of("-fuse-ld=lld"));
+    assertThat(
+        lldArgs,
+        hasConsecutiveItems(
+            "-Xlinker",
+            "--thinlto-cache-dir=" + cacheDir,
+            "-Xlinker",
+            "--thinlto-cache-policy=cache_size=5%"));
+
+    // gold and bfd don't know lld's flags, but the LLVM plugin which they run takes the same
+    // settings.
+    for (ImmutableList<String> ldflags :
+        ImmutableList.of(ImmutableList.<String>of(), ImmutableList.of("-fuse-ld=gold"))) {
+      ImmutableList<String> pluginArgs =
+          createThinLtoLinkWithCache(LinkerProvider.Type.GNU, filesystem, ldflags);
+      assertThat(
+          pluginArgs,
+          hasConsecutiveItems(
+              "-Xlinker",
+              "-plugin-opt",
+              "-Xlinker",
+              "cache-dir=" + cacheDir,
+              "-Xlinker",
+              "-plugin-opt",
+              "-Xlinker",
+              "cache-policy=cache_size=5%"));
+      assertThat(pluginArgs, not(hasItem("--thinlto-cache-dir=" + cacheDir)));
+    }
+  }
+
+  private ImmutableList<String> createThinLtoLinkWithCache(
+      LinkerProvider.Type linkerType, ProjectFilesystem filesystem, ImmutableList<String> ldflags) {
+    CxxBuckConfig cxxBuckConfig =
+        new CxxBuckConfig(
+            FakeBuckConfig.builder()
+                .setSections(
+                    ImmutableMap.of(
+                        "cxx",
+                        ImmutableMap.of(
+                            "thinlto_cache", "true", "thinlto_cache_max_size_percent", "5")))
+                .build());
+    CxxPlatform cxxPlatform =
+        CxxPlatform.builder()
+            .from(CXX_PLATFORM)
+            .setLd(
+                new DefaultLinkerProvider(
+                    linkerType,
+                    new ConstantToolProvider(new CommandTool.Builder().build()),
+                    true))
+            .setLdflags(StringArg.from(ldflags))
+            .build();
+    ActionGraphBuilder graphBuilder = new TestActionGraphBuilder();
+    CxxLink cxxLink =
+        CxxLinkableEnhancer.createCxxLinkableBuildRule(
+            cxxBuckConfig,
+            cxxPlatform,
+            filesystem,
+            graphBuilder,
+            BuildTargetFactory.newInstance("//foo:bar"),
+            Linker.LinkType.EXECUTABLE,
+            Optional.empty(),
+            DEFAULT_OUTPUT,
+            ImmutableList.of(),
+            Linker.LinkableDepType.STATIC,
+            Optional.empty(),
+            CxxLinkOptions.of(/* thinLto */ true, /* fatLto */ false),
+            EMPTY_DEPS,
+            Optional.empty(),
+            Optional.empty(),
+            ImmutableSet.of(),
+            ImmutableSet.of(),
+            NativeLinkableInput.builder().setArgs(DEFAULT_INPUTS).build(),
+            Optional.empty(),
+            TestCellPathResolver.get(filesystem));
+    // The cache flags are kept apart from the args which make up the rule key.
+    ImmutableList<String> cacheArgs =
+        Arg.stringify(cxxLink.getThinLTOCacheArgs(), graphBuilder.getSourcePathResolver());
+    assertThat(
+        Arg.stringify(cxxLink.getArgs(), graphBuilder.getSourcePathResolver()),
+        not(hasItem(cacheArgs.get(3))));
+    return cacheArgs;
+  }
+
   @Test
   public void machOBundleWithBundleLoaderHasExpectedArgs() {
     ActionGraphBuilder graphBuilder = new TestActionGraphBuilder();
@@ -17,7 +17,10 @@
 package com.facebook.buck.cxx;
 
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.core.build.buildable.context.FakeBuildableContext;
 import com.facebook.buck.core.build.context.BuildContext;
@@ -30,10 +33,12 @@ import com.facebook.buck.core.rules.ActionGraphBuilder;
 import com.facebook.buck.core.rules.impl.FakeBuildRule;
 import com.facebook.buck.core.rules.resolver.impl.TestActionGraphBuilder;
 import com.facebook.buck.core.sourcepath.FakeSourcePath;
+import com.facebook.buck.cxx.toolchain.ClangCompiler;
 import com.facebook.buck.cxx.toolchain.Compiler;
 import com.facebook.buck.cxx.toolchain.CxxPlatformUtils;
 import com.facebook.buck.cxx.toolchain.GccPreprocessor;
 import com.facebook.buck.cxx.toolchain.Preprocessor;
+import com.facebook.buck.cxx.toolchain.ToolType;
 import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
 import com.facebook.buck.step.Step;
 import com.google.common.collect.ImmutableList;
@@ -88,7 +93,8 @@ public class CxxPrecompiledHeaderTest {
             CxxToolFlags.of(),
             FakeSourcePath.of("foo.h"),
             CxxSource.Type.C,
-            CxxPlatformUtils.DEFAULT_COMPILER_DEBUG_PATH_SANITIZER);
+            CxxPlatformUtils.DEFAULT_COMPILER_DEBUG_PATH_SANITIZER,
+            /* cacheable */ false);
     graphBuilder.addToIndex(precompiledHeader);
     BuildContext buildContext =
         FakeBuildContext.withSourcePathResolver(graphBuilder.getSourcePathResolver());
@@ -102,4 +108,84 @@ public class CxxPrecompiledHeaderTest {
         step.getCommand(),
         hasItem(CxxSource.Type.C.getPrecompiledHeaderLanguage().get()));
   }
+
+  @Test
+  public void cacheablePchIsGeneratedWithoutTimestamps() {
+    ActionGraphBuilder graphBuilder = new TestActionGraphBuilder();
+    Compiler compiler =
+        new ClangCompiler(
+            CxxPlatformUtils.DEFAULT_PLATFORM
+                .getCxx()
+                .resolve(graphBuilder, UnconfiguredTargetConfiguration.INSTANCE),
+            ToolType.CXX,
+            false);
+
+    CxxPrecompiledHeader uncached =
+        createPrecompiledHeader(graphBuilder, compiler, /* cacheable */ false);
+    assertFalse(uncached.isCacheable());
+    assertThat(
+        getGeneratePchCommand(graphBuilder, uncached), not(hasItem("-fno-pch-timestamp")));
+
+    ActionGraphBuilder cachedGraphBuilder = new TestActionGraphBuilder();
+    CxxPrecompiledHeader cached =
+        createPrecompiledHeader(cachedGraphBuilder, compiler, /* cacheable */ true);
+    assertTrue(cached.isCacheable());
+    assertThat(getGeneratePchCommand(cachedGraphBuilder, cached), hasItem("-fno-pch-timestamp"));
+  }
+
+  private static CxxPrecompiledHeader createPrecompiledHeader(
+      ActionGraphBuilder graphBuilder, Compiler compiler, boolean cacheable) {
+    BuildTarget target = BuildTargetFactory.newInstance("//foo:bar");
+    Preprocessor preprocessorSupportingPch =
+        new GccPreprocessor(
+            CxxPlatformUtils.DEFAULT_PLATFORM
+                .getCpp()
+                .resolve(graphBuilder, UnconfiguredTargetConfiguration.INSTANCE)) {
+          @Override
+          public boolean supportsPrecompiledHeaders() {
+            return true;
+          }
+        };
+    CxxPrecompiledHeader precompiledHeader =
+        new CxxPrecompiledHeader(
+            /* canPrecompile */ true,
+            target,
+            new FakeProjectFilesystem(),
+            ImmutableSortedSet.of(),
+            Paths.get("dir/foo.hash1.hash2.gch"),
+            new PreprocessorDelegate(
+                CxxPlatformUtils.DEFAULT_PLATFORM.getHeaderVerification(),
+                FakeSourcePath.of("./"),
+                preprocessorSupportingPch,
+                PreprocessorFlags.builder().build(),
+                CxxDescriptionEnhancer.frameworkPathToSearchPath(
+                    CxxPlatformUtils.DEFAULT_PLATFORM, graphBuilder.getSourcePathResolver()),
+                /* leadingIncludePaths */ Optional.empty(),
+                Optional.of(new FakeBuildRule(target.withFlavors(InternalFlavor.of("deps")))),
+                ImmutableSortedSet.of()),
+            new CompilerDelegate(
+                CxxPlatformUtils.DEFAULT_COMPILER_DEBUG_PATH_SANITIZER,
+                compiler,
+                CxxToolFlags.of(),
+                Optional.empty()),
+            CxxToolFlags.of(),
+            FakeSourcePath.of("foo.h"),
+            CxxSource.Type.C,
+            CxxPlatformUtils.DEFAULT_COMPILER_DEBUG_PATH_SANITIZER,
+            cacheable);
+    graphBuilder.addToIndex(precompiledHeader);
+    return precompiledHeader;
+  }
+
+  private static ImmutableList<String> getGeneratePchCommand(
+      ActionGraphBuilder graphBuilder, CxxPrecompiledHeader precompiledHeader) {
+    BuildContext buildContext =
+        FakeBuildContext.withSourcePathResolver(graphBuilder.getSourcePathResolver());
+    ImmutableList<Step> postBuildSteps =
+        precompiledHeader.getBuildSteps(buildContext, new FakeBuildableContext());
+    CxxPreprocessAndCompileStep step =
+        Iterables.getOnlyElement(
+            Iterables.filter(postBuildSteps, CxxPreprocessAndCompileStep.class));
+    return step.getCommand();
+  }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.cxx;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeThat;
+
+import com.facebook.buck.core.build.execution.context.ExecutionContext;
+import com.facebook.buck.core.model.BuildTargetFactory;
+import com.facebook.buck.core.model.UnconfiguredTargetConfiguration;
+import com.facebook.buck.core.rules.BuildRuleResolver;
+import com.facebook.buck.core.rules.resolver.impl.TestActionGraphBuilder;
+import com.facebook.buck.cxx.toolchain.Compiler;
+import com.facebook.buck.cxx.toolchain.CxxCompileServer;
+import com.facebook.buck.cxx.toolchain.CxxPlatformUtils;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.step.TestExecutionContext;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.facebook.buck.testutil.TestConsole;
+import com.facebook.buck.testutil.integration.TestDataHelper;
+import com.facebook.buck.util.DefaultProcessExecutor;
+import com.facebook.buck.util.ProcessExecutorParams;
+import com.facebook.buck.util.environment.Platform;
+import com.facebook.buck.worker.WorkerProcessPool;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class CxxPreprocessAndCompileStepTest {
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  @Test
+  public void compileServerJobSetsTheVariablesTheServerLacks() {
+    ProcessExecutorParams params =
+        ProcessExecutorParams.builder()
+            .setCommand(ImmutableList.of("cc", "-c", "a b.c"))
+            .setEnvironment(
+                ImmutableMap.of("TMPDIR", "/tmp/scratch", "PATH", "/bin", "PWD", "/root/x"))
+            .build();
+
+    assertEquals(
+        "env 'PWD=/root/x' 'TMPDIR=/tmp/scratch' cc -c 'a b.c'",
+        CxxPreprocessAndCompileStep.getCompileServerJob(
+            ImmutableMap.of("PATH", "/bin", "TMPDIR", "/tmp"), params));
+  }
+
+  @Test
+  public void compileServerRunsTheCompilerCommandWithItsEnvironment() throws Exception {
+    assumeThat(Platform.detect(), Matchers.not(Platform.WINDOWS));
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    BuildRuleResolver resolver = new TestActionGraphBuilder();
+    Compiler compiler =
+        CxxPlatformUtils.DEFAULT_PLATFORM
+            .getCc()
+            .resolve(resolver, UnconfiguredTargetConfiguration.INSTANCE);
+    Path server =
+        TestDataHelper.getTestDataDirectory(this).resolve("compile_server").resolve("server.sh");
+    Path scratch = Paths.get("scratch");
+    Files.createDirectories(filesystem.resolve(scratch));
+    CxxPreprocessAndCompileStep step =
+        new CxxPreprocessAndCompileStep(
+            filesystem,
+            CxxPreprocessAndCompileStep.Operation.COMPILE,
+            Paths.get("output.o"),
+            Optional.empty(),
+            Paths.get("input.c"),
+            CxxSource.Type.C,
+            new CxxPreprocessAndCompileStep.ToolCommand(
+                ImmutableList.of(
+                    "/bin/sh",
+                    "-c",
+                    "printf '%s\\n%s\\n' \"$TMPDIR\" \"$BUCK_BUILD_TARGET\" > compiled.txt",
+                    "sh"),
+                ImmutableList.of("-g"),
+                ImmutableMap.of()),
+            resolver.getSourcePathResolver(),
+            HeaderPathNormalizer.empty(),
+            CxxPlatformUtils.DEFAULT_COMPILER_DEBUG_PATH_SANITIZER,
+            scratch,
+            /* useArgfile */ false,
+            ImmutableList.of(),
+            compiler,
+            Optional.of(
+                ImmutableCxxLogInfo.of(
+                    Optional.of(BuildTargetFactory.newInstance("//foo:bar")),
+                    Optional.empty(),
+                    Optional.empty())),
+            Optional.of(new CxxCompileServer(ImmutableList.of(server.toString()), 1)));
+    ExecutionContext context =
+        TestExecutionContext.newBuilder()
+            .setProcessExecutor(new DefaultProcessExecutor(new TestConsole()))
+            .build();
+
+    try {
+      assertEquals(0, step.execute(context).getExitCode());
+    } finally {
+      context.getWorkerProcessPools().values().forEach(WorkerProcessPool::close);
+    }
+
+    assertThat(
+        filesystem.readLines(Paths.get("compiled.txt")),
+        Matchers.contains(filesystem.resolve(scratch).toString(), "//foo:bar"));
+  }
+}
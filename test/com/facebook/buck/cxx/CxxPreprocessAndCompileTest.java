@@ -17,11 +17,13 @@
 package com.facebook.buck.cxx;
 
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.core.build.context.BuildContext;
 import com.facebook.buck.core.build.context.FakeBuildContext;
@@ -34,6 +36,7 @@ import com.facebook.buck.core.model.impl.BuildTargetPaths;
 import com.facebook.buck.core.rulekey.RuleKey;
 import com.facebook.buck.core.rules.BuildRule;
 import com.facebook.buck.core.rules.SourcePathRuleFinder;
+import com.facebook.buck.core.rules.attr.SupportsPrunedRemoteInputs.PrunedInputs;
 import com.facebook.buck.core.rules.impl.FakeBuildRule;
 import com.facebook.buck.core.rules.resolver.impl.TestActionGraphBuilder;
 import com.facebook.buck.core.sourcepath.FakeSourcePath;
@@ -45,6 +48,7 @@ import com.facebook.buck.core.toolchain.tool.Tool;
 import com.facebook.buck.core.toolchain.tool.impl.CommandTool;
 import com.facebook.buck.core.toolchain.tool.impl.HashedFileTool;
 import com.facebook.buck.cxx.toolchain.Compiler;
+import com.facebook.buck.cxx.toolchain.CxxCompileServer;
 import com.facebook.buck.cxx.toolchain.CxxPlatformUtils;
 import com.facebook.buck.cxx.toolchain.DefaultCompiler;
 import com.facebook.buck.cxx.toolchain.GccCompiler;
@@ -52,6 +56,7 @@ import com.facebook.buck.cxx.toolchain.GccPreprocessor;
 import com.facebook.buck.cxx.toolchain.Preprocessor;
 import com.facebook.buck.cxx.toolchain.ToolType;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
 import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
 import com.facebook.buck.io.pathformat.PathFormatter;
 import com.facebook.buck.rules.args.AddsToRuleKeyFunction;
@@ -61,6 +66,7 @@ import com.facebook.buck.rules.keys.TestDefaultRuleKeyFactory;
 import com.facebook.buck.rules.modern.SerializationTestHelper;
 import com.facebook.buck.testutil.FakeFileHashCache;
 import com.facebook.buck.testutil.PathNormalizer;
+import com.facebook.buck.testutil.TemporaryPaths;
 import com.facebook.buck.util.json.ObjectMappers;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -79,6 +85,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.function.Supplier;
+import org.junit.Rule;
 import org.junit.Test;
 
 public class CxxPreprocessAndCompileTest {
@@ -127,6 +134,8 @@ public class CxxPreprocessAndCompileTest {
     }
   }
 
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
   private ProjectFilesystem projectFilesystem = new FakeProjectFilesystem();
 
   private Preprocessor DEFAULT_PREPROCESSOR =
@@ -768,7 +777,8 @@ public class CxxPreprocessAndCompileTest {
             CxxToolFlags.of(),
             FakeSourcePath.of("foo.h"),
             CxxSource.Type.C,
-            CxxPlatformUtils.DEFAULT_COMPILER_DEBUG_PATH_SANITIZER);
+            CxxPlatformUtils.DEFAULT_COMPILER_DEBUG_PATH_SANITIZER,
+            /* cacheable */ false);
 
     CxxPreprocessAndCompile.Impl cxxPreprocessAndCompile =
         new CxxPreprocessAndCompile.Impl(
@@ -808,4 +818,208 @@ public class CxxPreprocessAndCompileTest {
 
     assertEquals(originalStr, reconstructedSir);
   }
+
+  @Test
+  public void compileServerIsNotSerialized() throws IOException {
+    SourcePathRuleFinder ruleFinder = new TestActionGraphBuilder();
+    CompilerDelegate compilerDelegate =
+        new CompilerDelegate(
+            CxxPlatformUtils.DEFAULT_COMPILER_DEBUG_PATH_SANITIZER,
+            new GccCompiler(
+                new HashedFileTool(
+                    () ->
+                        PathSourcePath.of(
+                            projectFilesystem,
+                            PathNormalizer.toWindowsPathIfNeeded(Paths.get("repo/compiler")))),
+                ToolType.CXX,
+                false,
+                false),
+            CxxToolFlags.of(),
+            DEFAULT_USE_ARG_FILE,
+            Optional.of(new CxxCompileServer(ImmutableList.of("cc-server"), 2)));
+
+    CompilerDelegate reconstructed =
+        SerializationTestHelper.serializeAndDeserialize(
+            compilerDelegate,
+            CompilerDelegate.class,
+            ruleFinder,
+            TestCellPathResolver.get(projectFilesystem),
+            ruleFinder.getSourcePathResolver(),
+            new ToolchainProviderBuilder().build(),
+            cellPath -> projectFilesystem);
+
+    assertEquals(Optional.empty(), reconstructed.getCompileServer());
+  }
+
+  @Test
+  public void prunedRemoteInputsOnlyKeepReachableHeaders() throws IOException {
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    writeFile(
+        filesystem, "test.cpp", "#include <lib/a.h>\n#include <quoted.h>\n#include <joined.h>\n");
+    writeFile(filesystem, "include/lib/a.h", "#include \"b.h\"\n");
+    writeFile(filesystem, "include/lib/b.h", "");
+    writeFile(filesystem, "include/lib/unused.h", "");
+    writeFile(filesystem, "quoted/quoted.h", "");
+    writeFile(filesystem, "joined/joined.h", "");
+    writeFile(filesystem, "joined/forced_dep.h", "");
+    writeFile(filesystem, "forced.h", "#include <forced_dep.h>\n");
+
+    Optional<PrunedInputs> prunedInputs =
+        getPrunedRemoteInputs(
+            filesystem,
+            PreprocessorFlags.builder()
+                .addIncludes(
+                    CxxHeadersDir.of(
+                        CxxPreprocessables.IncludeType.SYSTEM,
+                        PathSourcePath.of(filesystem, Paths.get("include"))))
+                .setOtherFlags(
+                    CxxToolFlags.explicitBuilder()
+                        .addRuleFlags(
+                            StringArg.of("-iquote"),
+                            StringArg.of("quoted"),
+                            StringArg.of("-Ijoined"),
+                            StringArg.of("-include"),
+                            StringArg.of("forced.h"))
+                        .build())
+                .build());
+
+    assertTrue(prunedInputs.isPresent());
+    assertThat(prunedInputs.get().getPrunable(), hasItem(filesystem.resolve("include")));
+    assertThat(
+        prunedInputs.get().getKept(),
+        hasItems(
+            filesystem.resolve("include/lib/a.h"),
+            filesystem.resolve("include/lib/b.h"),
+            filesystem.resolve("quoted/quoted.h"),
+            filesystem.resolve("joined/joined.h"),
+            filesystem.resolve("joined/forced_dep.h")));
+    assertThat(
+        prunedInputs.get().getKept(), not(hasItem(filesystem.resolve("include/lib/unused.h"))));
+  }
+
+  @Test
+  public void prunedRemoteInputsFallBackOnUnsupportedFlags() throws IOException {
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    writeFile(filesystem, "test.cpp", "#include <a.h>\n");
+    writeFile(filesystem, "include/a.h", "");
+
+    assertEquals(
+        Optional.empty(),
+        getPrunedRemoteInputs(
+            filesystem,
+            PreprocessorFlags.builder()
+                .setOtherFlags(
+                    CxxToolFlags.explicitBuilder()
+                        .addRuleFlags(
+                            StringArg.of("-Iinclude"),
+                            StringArg.of("-ivfsoverlay"),
+                            StringArg.of("overlay.yaml"))
+                        .build())
+                .build()));
+  }
+
+  @Test
+  public void prunedRemoteInputsFallBackOnHeaderMaps() throws IOException {
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    writeFile(filesystem, "test.cpp", "#include <a.h>\n");
+    writeFile(filesystem, "headers.hmap", "");
+
+    assertEquals(
+        Optional.empty(),
+        getPrunedRemoteInputs(
+            filesystem,
+            PreprocessorFlags.builder()
+                .setOtherFlags(
+                    CxxToolFlags.explicitBuilder()
+                        .addRuleFlags(StringArg.of("-I"), StringArg.of("headers.hmap"))
+                        .build())
+                .build()));
+  }
+
+  @Test
+  public void prunedRemoteInputsFallBackOnComputedIncludes() throws IOException {
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    writeFile(filesystem, "test.cpp", "#include <a.h>\n");
+    writeFile(filesystem, "include/a.h", "#define HEADER <b.h>\n#include HEADER\n");
+    writeFile(filesystem, "include/b.h", "");
+
+    assertEquals(
+        Optional.empty(),
+        getPrunedRemoteInputs(
+            filesystem,
+            PreprocessorFlags.builder()
+                .addIncludes(
+                    CxxHeadersDir.of(
+                        CxxPreprocessables.IncludeType.LOCAL,
+                        PathSourcePath.of(filesystem, Paths.get("include"))))
+                .build()));
+  }
+
+  @Test
+  public void prunedRemoteInputsFallBackWhenNotPreprocessing() throws IOException {
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    writeFile(filesystem, "test.cpp", "");
+    SourcePathRuleFinder ruleFinder = new TestActionGraphBuilder();
+
+    CxxPreprocessAndCompile cxxCompile =
+        CxxPreprocessAndCompile.compile(
+            BuildTargetFactory.newInstance("//foo:bar"),
+            filesystem,
+            ruleFinder,
+            new CompilerDelegate(
+                CxxPlatformUtils.DEFAULT_COMPILER_DEBUG_PATH_SANITIZER,
+                new GccCompiler(
+                    new HashedFileTool(PathSourcePath.of(filesystem, Paths.get("compiler"))),
+                    ToolType.CXX,
+                    false),
+                CxxToolFlags.of(),
+                DEFAULT_USE_ARG_FILE),
+            DEFAULT_OUTPUT,
+            PathSourcePath.of(filesystem, Paths.get("test.cpp")),
+            DEFAULT_INPUT_TYPE,
+            CxxPlatformUtils.DEFAULT_COMPILER_DEBUG_PATH_SANITIZER);
+
+    assertEquals(
+        Optional.empty(), cxxCompile.getPrunedRemoteInputs(ruleFinder.getSourcePathResolver()));
+  }
+
+  private static void writeFile(ProjectFilesystem filesystem, String path, String contents)
+      throws IOException {
+    filesystem.createParentDirs(path);
+    filesystem.writeContentsToPath(contents, Paths.get(path));
+  }
+
+  private static Optional<PrunedInputs> getPrunedRemoteInputs(
+      ProjectFilesystem filesystem, PreprocessorFlags preprocessorFlags) throws IOException {
+    SourcePathRuleFinder ruleFinder = new TestActionGraphBuilder();
+    CxxPreprocessAndCompile cxxPreprocess =
+        CxxPreprocessAndCompile.preprocessAndCompile(
+            BuildTargetFactory.newInstance("//foo:bar"),
+            filesystem,
+            ruleFinder,
+            new PreprocessorDelegate(
+                CxxPlatformUtils.DEFAULT_PLATFORM.getHeaderVerification(),
+                PathSourcePath.of(filesystem, filesystem.getRootPath().getPath()),
+                new GccPreprocessor(
+                    new HashedFileTool(PathSourcePath.of(filesystem, Paths.get("preprocessor")))),
+                preprocessorFlags,
+                DEFAULT_FRAMEWORK_PATH_SEARCH_PATH_FUNCTION,
+                /* leadingIncludePaths */ Optional.empty(),
+                /* aggregatedDeps */ Optional.empty(),
+                ImmutableSortedSet.of()),
+            new CompilerDelegate(
+                CxxPlatformUtils.DEFAULT_COMPILER_DEBUG_PATH_SANITIZER,
+                new GccCompiler(
+                    new HashedFileTool(PathSourcePath.of(filesystem, Paths.get("compiler"))),
+                    ToolType.CXX,
+                    false),
+                CxxToolFlags.of(),
+                DEFAULT_USE_ARG_FILE),
+            DEFAULT_OUTPUT,
+            PathSourcePath.of(filesystem, Paths.get("test.cpp")),
+            DEFAULT_INPUT_TYPE,
+            Optional.empty(),
+            CxxPlatformUtils.DEFAULT_COMPILER_DEBUG_PATH_SANITIZER);
+    return cxxPreprocess.getPrunedRemoteInputs(ruleFinder.getSourcePathResolver());
+  }
 }
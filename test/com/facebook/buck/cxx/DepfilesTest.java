@@ -38,6 +38,7 @@ public class DepfilesTest {
         new Object[][] {
           {"output: input1 input2\n", "output", ImmutableList.of("input1", "input2")},
           {"output: input1 input2\r\n", "output", ImmutableList.of("input1", "input2")},
+          {"output: \u00fcnput1 input2\n", "output", ImmutableList.of("\u00fcnput1", "input2")},
           {
             "   output   :    input1    input2   \n", "output", ImmutableList.of("input1", "input2")
           },
@@ -108,7 +108,7 @@ public final class FakeCxxLibrary extends NoopBuildRuleWithDeclaredAndExtraDeps
       CxxPlatform cxxPlatform, ActionGraphBuilder graphBuilder) {
     return CxxPreprocessorInput.builder()
         .addIncludes(
-            ImmutableCxxSymlinkTreeHeaders.of(
+            CxxSymlinkTreeHeaders.of(
                 CxxPreprocessables.IncludeType.LOCAL,
                 DefaultBuildTargetSourcePath.of(publicHeaderSymlinkTreeTarget),
                 Either.ofRight(DefaultBuildTargetSourcePath.of(publicHeaderSymlinkTreeTarget)),
@@ -124,7 +124,7 @@ public final class FakeCxxLibrary extends NoopBuildRuleWithDeclaredAndExtraDeps
       CxxPlatform cxxPlatform, ActionGraphBuilder graphBuilder) {
     return CxxPreprocessorInput.builder()
         .addIncludes(
-            ImmutableCxxSymlinkTreeHeaders.of(
+            CxxSymlinkTreeHeaders.of(
                 CxxPreprocessables.IncludeType.LOCAL,
                 DefaultBuildTargetSourcePath.of(privateHeaderSymlinkTreeTarget),
                 Either.ofRight(DefaultBuildTargetSourcePath.of(privateHeaderSymlinkTreeTarget)),
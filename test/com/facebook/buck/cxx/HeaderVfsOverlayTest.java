@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.cxx;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.core.build.buildable.context.FakeBuildableContext;
+import com.facebook.buck.core.build.context.FakeBuildContext;
+import com.facebook.buck.core.build.execution.context.ExecutionContext;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.BuildTargetFactory;
+import com.facebook.buck.core.model.impl.BuildTargetPaths;
+import com.facebook.buck.core.rules.ActionGraphBuilder;
+import com.facebook.buck.core.rules.resolver.impl.TestActionGraphBuilder;
+import com.facebook.buck.core.sourcepath.PathSourcePath;
+import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
+import com.facebook.buck.core.toolchain.tool.impl.HashedFileTool;
+import com.facebook.buck.core.model.UnconfiguredTargetConfiguration;
+import com.facebook.buck.core.toolchain.toolprovider.impl.ConstantToolProvider;
+import com.facebook.buck.cxx.toolchain.ClangPreprocessor;
+import com.facebook.buck.cxx.toolchain.CxxPlatform;
+import com.facebook.buck.cxx.toolchain.CxxPlatformUtils;
+import com.facebook.buck.cxx.toolchain.CxxToolProvider;
+import com.facebook.buck.cxx.toolchain.HeaderMode;
+import com.facebook.buck.cxx.toolchain.HeaderSymlinkTree;
+import com.facebook.buck.cxx.toolchain.PreprocessorProvider;
+import com.facebook.buck.cxx.toolchain.ToolType;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.step.Step;
+import com.facebook.buck.step.TestExecutionContext;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.facebook.buck.util.json.ObjectMappers;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import org.hamcrest.Matchers;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class HeaderVfsOverlayTest {
+
+  @Rule public final TemporaryPaths tmpDir = new TemporaryPaths();
+
+  private ProjectFilesystem projectFilesystem;
+  private ActionGraphBuilder graphBuilder;
+  private SourcePathResolverAdapter pathResolver;
+  private HeaderSymlinkTree buildRule;
+  private Path header;
+
+  @Before
+  public void setUp() throws Exception {
+    projectFilesystem = TestProjectFilesystems.createProjectFilesystem(tmpDir.getRoot());
+    BuildTarget buildTarget = BuildTargetFactory.newInstance("//test:test");
+    header = tmpDir.newFile("header.h");
+    graphBuilder = new TestActionGraphBuilder();
+    pathResolver = graphBuilder.getSourcePathResolver();
+    buildRule =
+        CxxPreprocessables.createHeaderSymlinkTreeBuildRule(
+            buildTarget,
+            projectFilesystem,
+            BuildTargetPaths.getGenPath(projectFilesystem, buildTarget, "%s/symlink-tree-root"),
+            ImmutableMap.of(
+                Paths.get("lib/header.h"),
+                PathSourcePath.of(projectFilesystem, Paths.get("header.h"))),
+            HeaderMode.VFS_OVERLAY);
+    graphBuilder.addToIndex(buildRule);
+  }
+
+  @Test
+  public void overlayMapsHeadersWithoutCreatingLinks() throws Exception {
+    ExecutionContext executionContext = TestExecutionContext.newInstance();
+    for (Step step :
+        buildRule.getBuildSteps(
+            FakeBuildContext.withSourcePathResolver(pathResolver), new FakeBuildableContext())) {
+      assertTrue(step.execute(executionContext).isSuccess());
+    }
+
+    assertFalse(Files.exists(buildRule.getRoot().resolve("lib")));
+    Path overlay = pathResolver.getAbsolutePath(buildRule.getVfsOverlaySourcePath().get());
+    JsonNode directory =
+        ObjectMappers.READER
+            .readTree(new String(Files.readAllBytes(overlay), UTF_8))
+            .get("roots")
+            .get(0);
+    assertEquals(
+        projectFilesystem.resolve(buildRule.getRoot().resolve("lib")).toString(),
+        directory.get("name").asText());
+    assertEquals("header.h", directory.get("contents").get(0).get("name").asText());
+    assertEquals(
+        header.toString(), directory.get("contents").get(0).get("external-contents").asText());
+  }
+
+  @Test
+  public void overlayIsPassedBeforeIncludeRoots() {
+    CxxSymlinkTreeHeaders headers =
+        CxxSymlinkTreeHeaders.from(buildRule, CxxPreprocessables.IncludeType.SYSTEM);
+    Iterable<String> args =
+        CxxHeaders.getArgs(
+            ImmutableList.of(headers),
+            pathResolver,
+            Optional.empty(),
+            new ClangPreprocessor(
+                new HashedFileTool(
+                    () -> PathSourcePath.of(projectFilesystem, Paths.get("clang")))));
+
+    Path overlay = pathResolver.getAbsolutePath(buildRule.getVfsOverlaySourcePath().get());
+    assertThat(
+        args,
+        Matchers.contains(
+            "-ivfsoverlay", overlay.toString(), "-isystem", buildRule.getRoot().toString()));
+  }
+
+  @Test
+  public void overlaysAreOnlyUsedWhenEveryPreprocessorSupportsThem() {
+    CxxPlatform clangPlatform =
+        CxxPlatform.builder()
+            .from(CxxPlatformUtils.DEFAULT_PLATFORM)
+            .setHeaderMode(HeaderMode.VFS_OVERLAY)
+            .setCpp(clangPreprocessor(ToolType.CPP))
+            .setCxxpp(clangPreprocessor(ToolType.CXXPP))
+            .setAspp(clangPreprocessor(ToolType.ASPP))
+            .setCudapp(clangPreprocessor(ToolType.CUDAPP))
+            .setAsmpp(clangPreprocessor(ToolType.ASMPP))
+            .build();
+    assertEquals(
+        HeaderMode.VFS_OVERLAY,
+        CxxDescriptionEnhancer.getHeaderModeForPlatform(
+            graphBuilder, UnconfiguredTargetConfiguration.INSTANCE, clangPlatform, true));
+
+    // The assembler's preprocessor could not apply the overlay, so the default layout is used.
+    CxxPlatform gccAsppPlatform =
+        CxxPlatform.builder()
+            .from(clangPlatform)
+            .setAspp(CxxPlatformUtils.DEFAULT_PLATFORM.getAspp())
+            .build();
+    assertEquals(
+        HeaderMode.SYMLINK_TREE_WITH_HEADER_MAP,
+        CxxDescriptionEnhancer.getHeaderModeForPlatform(
+            graphBuilder, UnconfiguredTargetConfiguration.INSTANCE, gccAsppPlatform, true));
+  }
+
+  private PreprocessorProvider clangPreprocessor(ToolType toolType) {
+    return new PreprocessorProvider(
+        new ConstantToolProvider(
+            new HashedFileTool(() -> PathSourcePath.of(projectFilesystem, Paths.get("clang")))),
+        CxxToolProvider.Type.CLANG,
+        toolType);
+  }
+}
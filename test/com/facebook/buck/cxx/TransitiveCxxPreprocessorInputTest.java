@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.cxx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.BuildTargetFactory;
+import com.facebook.buck.rules.args.StringArg;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+public class TransitiveCxxPreprocessorInputTest {
+
+  private static final BuildTarget A = BuildTargetFactory.newInstance("//:a");
+  private static final BuildTarget B = BuildTargetFactory.newInstance("//:b");
+  private static final BuildTarget C = BuildTargetFactory.newInstance("//:c");
+  private static final BuildTarget D = BuildTargetFactory.newInstance("//:d");
+
+  @Test
+  public void sharedDepsAreOnlyIncludedOnce() {
+    TransitiveCxxPreprocessorInput d = node(D);
+    TransitiveCxxPreprocessorInput b = node(B, d);
+    TransitiveCxxPreprocessorInput c = node(C, d);
+    TransitiveCxxPreprocessorInput a = node(A, c, b);
+
+    assertEquals(ImmutableList.of(A, B, C, D), a.toMap().keySet().asList());
+    assertSame(d, b.getDeps().get(0));
+    assertSame(d, c.getDeps().get(0));
+  }
+
+  @Test
+  public void emptyNodesAreCollapsed() {
+    TransitiveCxxPreprocessorInput b = node(B);
+    assertSame(
+        TransitiveCxxPreprocessorInput.of(), TransitiveCxxPreprocessorInput.of(ImmutableMap.of()));
+    assertSame(
+        b,
+        TransitiveCxxPreprocessorInput.of(
+            ImmutableMap.of(), ImmutableList.of(b, TransitiveCxxPreprocessorInput.of())));
+  }
+
+  @Test
+  public void flattenKeepsNodeOrderAndSkipsSeenInputs() {
+    TransitiveCxxPreprocessorInput c = node(C);
+    TransitiveCxxPreprocessorInput d = node(D, c);
+    TransitiveCxxPreprocessorInput a = node(A);
+    TransitiveCxxPreprocessorInput b = node(B, c);
+
+    assertEquals(
+        ImmutableList.of(input(C), input(D), input(A), input(B)),
+        TransitiveCxxPreprocessorInput.flatten(ImmutableList.of(d, a, b)));
+  }
+
+  @Test
+  public void flattenedMapIsComputedOnce() {
+    TransitiveCxxPreprocessorInput a = node(A, node(B), node(C));
+
+    assertSame(a.toMap(), a.toMap());
+  }
+
+  @Test
+  public void flattenKeepsTheOrderOfLeaves() {
+    TransitiveCxxPreprocessorInput leaf =
+        TransitiveCxxPreprocessorInput.of(ImmutableMap.of(B, input(B), A, input(A)));
+
+    assertEquals(
+        ImmutableList.of(input(B), input(A)),
+        TransitiveCxxPreprocessorInput.flatten(ImmutableList.of(leaf)));
+  }
+
+  @Test
+  public void deepChainsDoNotOverflowTheStack() {
+    TransitiveCxxPreprocessorInput node = TransitiveCxxPreprocessorInput.of();
+    for (int i = 0; i < 20000; i++) {
+      node = node(BuildTargetFactory.newInstance("//:lib" + i), node);
+    }
+    assertEquals(20000, node.toMap().size());
+  }
+
+  private static TransitiveCxxPreprocessorInput node(
+      BuildTarget target, TransitiveCxxPreprocessorInput... deps) {
+    return TransitiveCxxPreprocessorInput.of(
+        ImmutableMap.of(target, input(target)), ImmutableList.copyOf(deps));
+  }
+
+  private static CxxPreprocessorInput input(BuildTarget target) {
+    return CxxPreprocessorInput.builder()
+        .putPreprocessorFlags(CxxSource.Type.C, StringArg.of("-D" + target.getShortName()))
+        .build();
+  }
+}
@@ -0,0 +1,26 @@
+#!/bin/bash
+
+# A minimal compile server: runs each job with a shell, one at a time.
+
+# Read in the handshake JSON.
+read -d "}" handshake_json
+# Extract the id value.
+handshake_id=$(echo "$handshake_json" | sed 's/.*"id":\([0-9]*\).*/\1/')
+# Send the handshake reply.
+printf "[{\"id\":%s, \"type\":\"handshake\", \"protocol_version\":\"0\", \"capabilities\": []}" "$handshake_id"
+
+while read -n1 -d ] next_char; do
+  if [ "," == "$next_char" ]; then
+    # Read in the job JSON.
+    read -d "}" job_json
+    # Extract the id value.
+    message_id=$(echo "$job_json" | sed 's/.*"id":\([0-9]*\).*/\1/')
+    # Extract the path to the file containing the job args.
+    args_path=$(echo "$job_json" | sed 's/.*"args_path":"\([^"]*\)",.*/\1/')
+    # The job is a shell command.
+    /bin/bash -c "$(cat "$args_path")" < /dev/null > /dev/null 2>&1
+    exit_code=$?
+    printf ",{\"id\":%s, \"type\":\"result\", \"exit_code\":%s}" "$message_id" "$exit_code"
+  fi
+done
+echo ]
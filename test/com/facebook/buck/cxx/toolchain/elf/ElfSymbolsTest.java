@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.cxx.toolchain.elf;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.facebook.buck.testutil.integration.ProjectWorkspace;
+import com.facebook.buck.testutil.integration.TestDataHelper;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.Matchers;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ElfSymbolsTest {
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private ProjectWorkspace workspace;
+
+  @Before
+  public void setUp() throws IOException {
+    workspace = TestDataHelper.createProjectWorkspaceForScenario(this, "samples", tmp);
+    workspace.setUp();
+  }
+
+  @Test
+  public void dynamicSymbols() throws IOException {
+    ElfSymbols symbols =
+        ElfSymbols.read(workspace.resolve("libfoo.so"), ElfSymbols.Table.DYNAMIC);
+    assertThat(
+        symbols.undefined,
+        Matchers.equalTo(
+            ImmutableSet.of("__gmon_start__", "_Jv_RegisterClasses", "__cxa_finalize")));
+    assertThat(
+        symbols.global,
+        Matchers.equalTo(
+            ImmutableSet.of("foo", "_end", "_edata", "__bss_start", "VERS_1.0", "_init", "_fini")));
+    assertThat(symbols.all, Matchers.hasSize(10));
+  }
+
+  @Test
+  public void staticSymbols() throws IOException {
+    ElfSymbols symbols = ElfSymbols.read(workspace.resolve("be32.o"), ElfSymbols.Table.STATIC);
+    assertThat(symbols.undefined, Matchers.equalTo(ImmutableSet.of("__aeabi_unwind_cpp_pr0")));
+    assertThat(symbols.global, Matchers.equalTo(ImmutableSet.of("main")));
+  }
+
+  @Test
+  public void missingTableHasNoSymbols() throws IOException {
+    ElfSymbols symbols = ElfSymbols.read(workspace.resolve("le64.o"), ElfSymbols.Table.DYNAMIC);
+    assertThat(symbols.all, Matchers.empty());
+  }
+
+  @Test
+  public void identicalFilesAreOnlyParsedOnce() throws IOException {
+    Path copy = workspace.resolve("copy.so");
+    Files.copy(workspace.resolve("libfoo.so"), copy);
+    ImmutableList<ElfSymbols> symbols =
+        ElfSymbols.readAll(
+            ImmutableList.of(workspace.resolve("libfoo.so"), copy), ElfSymbols.Table.DYNAMIC);
+    assertSame(symbols.get(0), symbols.get(1));
+  }
+
+  @Test
+  public void isElf() throws IOException {
+    assertTrue(ElfSymbols.isElf(workspace.resolve("le32.o")));
+    Path text = workspace.resolve("text.txt");
+    Files.write(text, "not an object file".getBytes());
+    assertFalse(ElfSymbols.isElf(text));
+  }
+}
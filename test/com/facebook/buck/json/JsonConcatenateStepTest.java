@@ -19,6 +19,7 @@ package com.facebook.buck.json;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
@@ -178,4 +179,40 @@ public class JsonConcatenateStepTest {
     assertThat(
         "3 bugs expected in " + mergedReport + " not found", bugs.size(), Matchers.equalTo(3));
   }
+
+  @Test
+  public void testMergeStreamsArrayContents() throws IOException {
+    Path padded = filesystem.resolve("padded");
+    Path empty = filesystem.resolve("empty");
+    Path plain = filesystem.resolve("plain");
+    filesystem.writeContentsToPath("\n \t[ {\"a\": \"[x]\"} ,{\"b\":2}\n]\r\n", padded);
+    filesystem.writeContentsToPath(" [\n\n ] ", empty);
+    filesystem.writeContentsToPath("[{\"c\":\"\u00fc\"}]", plain);
+    Path merged = filesystem.resolve("merged");
+
+    new JsonConcatenator(ImmutableSortedSet.of(empty, padded, plain), merged, filesystem)
+        .concatenate();
+
+    assertThat(
+        filesystem.readFileIfItExists(merged).get(),
+        Matchers.equalTo("[ {\"a\": \"[x]\"} ,{\"b\":2}\n,{\"c\":\"\u00fc\"}]"));
+    assertFalse(filesystem.exists(filesystem.resolve("merged.tmp")));
+  }
+
+  @Test
+  public void testMergeLeavesDestinationUntouchedOnError() throws IOException {
+    Path notAnArray = filesystem.resolve("notAnArray");
+    filesystem.writeContentsToPath("{\"a\":1}", notAnArray);
+    Path merged = filesystem.resolve("merged");
+    filesystem.writeContentsToPath("[]", merged);
+
+    try {
+      new JsonConcatenator(ImmutableSortedSet.of(notAnArray), merged, filesystem).concatenate();
+      fail("Expected an IOException");
+    } catch (IOException e) {
+      assertThat(e.getMessage(), Matchers.containsString("not a JSON array"));
+    }
+    assertThat(filesystem.readFileIfItExists(merged).get(), Matchers.equalTo("[]"));
+    assertFalse(filesystem.exists(filesystem.resolve("merged.tmp")));
+  }
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import com.facebook.buck.testutil.FakeFileHashCache;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.hash.HashCode;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ClasspathJarIndexCacheTest {
+
+  @Rule public TemporaryFolder temp = new TemporaryFolder();
+
+  private final Map<Path, HashCode> hashes = new HashMap<>();
+  private final FakeFileHashCache hashLoader = new FakeFileHashCache(hashes);
+
+  @Test
+  public void unchangedJarsAreShared() throws IOException {
+    Path jar = writeJar("lib.jar", "a/A.class", "a/b/B.class");
+    hashes.put(jar, HashCode.fromInt(1));
+    ClasspathJarIndexCache cache = new ClasspathJarIndexCache(10);
+
+    try (ClasspathJarIndexCache.JarIndex first = cache.acquire(jar, hashLoader);
+        ClasspathJarIndexCache.JarIndex second = cache.acquire(jar, hashLoader)) {
+      assertSame(first, second);
+      assertEquals(1, cache.size());
+    }
+  }
+
+  @Test
+  public void changedJarsAreReindexed() throws IOException {
+    Path jar = writeJar("lib.jar", "a/A.class");
+    hashes.put(jar, HashCode.fromInt(1));
+    ClasspathJarIndexCache cache = new ClasspathJarIndexCache(10);
+
+    try (ClasspathJarIndexCache.JarIndex first = cache.acquire(jar, hashLoader)) {
+      hashes.put(jar, HashCode.fromInt(2));
+      try (ClasspathJarIndexCache.JarIndex second = cache.acquire(jar, hashLoader)) {
+        assertNotSame(first, second);
+        assertEquals(2, cache.size());
+      }
+    }
+  }
+
+  @Test
+  public void entriesAreListedByPackage() throws IOException {
+    Path jar = writeJar("lib.jar", "a/A.class", "a/A$Inner.class", "a/b/B.class", "C.class");
+    hashes.put(jar, HashCode.fromInt(1));
+    ClasspathJarIndexCache cache = new ClasspathJarIndexCache(10);
+
+    try (ClasspathJarIndexCache.JarIndex index = cache.acquire(jar, hashLoader)) {
+      assertEquals(
+          ImmutableList.of("a/A$Inner.class", "a/A.class"),
+          entryNames(index.getEntries("a", false)));
+      assertEquals(
+          ImmutableList.of("a/A$Inner.class", "a/A.class", "a/b/B.class"),
+          entryNames(index.getEntries("a", true)));
+      assertEquals(ImmutableList.of("C.class"), entryNames(index.getEntries("", false)));
+    }
+  }
+
+  @Test
+  public void evictedJarsStayReadableUntilReleased() throws IOException {
+    Path first = writeJar("first.jar", "a/A.class");
+    Path second = writeJar("second.jar", "b/B.class");
+    hashes.put(first, HashCode.fromInt(1));
+    hashes.put(second, HashCode.fromInt(2));
+    ClasspathJarIndexCache cache = new ClasspathJarIndexCache(1);
+
+    try (ClasspathJarIndexCache.JarIndex firstIndex = cache.acquire(first, hashLoader)) {
+      cache.acquire(second, hashLoader).close();
+      assertEquals(1, cache.size());
+      firstIndex.getInputStream(firstIndex.getEntries("a", false).get(0)).close();
+    }
+  }
+
+  @Test
+  public void jarsWithoutHashesAreNotCached() throws IOException {
+    Path jar = writeJar("outside.jar", "a/A.class");
+    ClasspathJarIndexCache cache = new ClasspathJarIndexCache(10);
+
+    ClasspathJarIndexCache.JarIndex index = cache.acquire(jar, hashLoader);
+    assertEquals(0, cache.size());
+    ZipEntry entry = index.getEntries("a", false).get(0);
+    index.close();
+    try {
+      index.getInputStream(entry);
+      fail("Uncached jars should be closed once released.");
+    } catch (IllegalStateException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void fileManagerListsClasspathThroughCache() throws Exception {
+    Path first = writeJar("first.jar", "a/A.class", "a/b/B.class");
+    Path second = writeJar("second.jar", "a/A.class", "a/C.class");
+    hashes.put(first, HashCode.fromInt(1));
+    hashes.put(second, HashCode.fromInt(2));
+    ClasspathJarIndexCache cache = new ClasspathJarIndexCache(10);
+
+    StandardJavaFileManager standardFileManager =
+        ToolProvider.getSystemJavaCompiler().getStandardFileManager(null, null, null);
+    standardFileManager.setLocation(
+        StandardLocation.CLASS_PATH, ImmutableList.of(first.toFile(), second.toFile()));
+    try (JavaInMemoryFileManager fileManager =
+        new JavaInMemoryFileManager(
+            standardFileManager,
+            temp.getRoot().toPath().resolve("out.jar"),
+            RemoveClassesPatternsMatcher.EMPTY,
+            cache,
+            hashLoader)) {
+      List<JavaFileObject> files = new ArrayList<>();
+      fileManager
+          .list(
+              StandardLocation.CLASS_PATH, "a", Collections.singleton(JavaFileObject.Kind.CLASS), false)
+          .forEach(files::add);
+
+      assertEquals(3, files.size());
+      assertEquals(
+          ImmutableList.of("a.A", "a.A", "a.C"),
+          files.stream()
+              .map(file -> fileManager.inferBinaryName(StandardLocation.CLASS_PATH, file))
+              .collect(Collectors.toList()));
+      assertEquals(URI.create("jar:" + first.toUri() + "!/a/A.class"), files.get(0).toUri());
+      assertEquals(2, cache.size());
+    }
+  }
+
+  @Test
+  public void classpathEntryUrisPointAtJarsWithSpacesInTheirPath() throws Exception {
+    Files.createDirectories(temp.getRoot().toPath().resolve("with space"));
+    Path jar = writeJar("with space/first.jar", "a/A.class");
+    hashes.put(jar, HashCode.fromInt(1));
+
+    StandardJavaFileManager standardFileManager =
+        ToolProvider.getSystemJavaCompiler().getStandardFileManager(null, null, null);
+    standardFileManager.setLocation(StandardLocation.CLASS_PATH, ImmutableList.of(jar.toFile()));
+    try (JavaInMemoryFileManager fileManager =
+        new JavaInMemoryFileManager(
+            standardFileManager,
+            temp.getRoot().toPath().resolve("out.jar"),
+            RemoveClassesPatternsMatcher.EMPTY,
+            new ClasspathJarIndexCache(10),
+            hashLoader)) {
+      List<JavaFileObject> files = new ArrayList<>();
+      fileManager
+          .list(
+              StandardLocation.CLASS_PATH,
+              "a",
+              Collections.singleton(JavaFileObject.Kind.CLASS),
+              false)
+          .forEach(files::add);
+
+      assertEquals(1, files.size());
+      assertEquals(URI.create("jar:" + jar.toUri() + "!/a/A.class"), files.get(0).toUri());
+
+      ClassUsageTracker tracker = new ClassUsageTracker();
+      tracker.onFileRead(files.get(0));
+      assertEquals(
+          ImmutableSetMultimap.of(jar, Paths.get("a/A.class")), tracker.getClassUsageMap());
+    }
+  }
+
+  private static List<String> entryNames(List<ZipEntry> entries) {
+    return entries.stream().map(ZipEntry::getName).sorted().collect(Collectors.toList());
+  }
+
+  private Path writeJar(String name, String... entries) throws IOException {
+    Path jar = temp.getRoot().toPath().resolve(name);
+    try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+      for (String entry : entries) {
+        out.putNextEntry(new ZipEntry(entry));
+        out.write(new byte[] {(byte) 0xca, (byte) 0xfe});
+        out.closeEntry();
+      }
+    }
+    return jar;
+  }
+}
@@ -16,21 +16,29 @@
 
 package com.facebook.buck.jvm.java;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.util.zip.CustomZipEntry;
+import com.facebook.buck.util.zip.CustomZipOutputStream;
 import com.facebook.buck.util.zip.JarBuilder;
 import com.facebook.buck.util.zip.JarEntryContainer;
 import com.facebook.buck.util.zip.JarEntrySupplier;
 import com.facebook.buck.util.zip.ZipConstants;
+import com.facebook.buck.util.zip.ZipOutputStreams;
 import com.google.common.base.Charsets;
+import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
 import com.google.common.io.CharStreams;
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -39,12 +47,18 @@ import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.jar.Attributes;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
 import java.util.jar.Manifest;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
 import javax.annotation.Nullable;
 import org.hamcrest.Matchers;
 import org.junit.Rule;
@@ -286,6 +300,136 @@ public class JarBuilderTest {
     assertThat(entries.keySet(), Matchers.contains("After"));
   }
 
+  @Test
+  public void testParallelOutputIsIdenticalToSequentialOutput() throws IOException {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      for (boolean shouldHashEntries : new boolean[] {false, true}) {
+        File sequential = temporaryFolder.newFile();
+        File parallel = temporaryFolder.newFile();
+        createLargeJar(null, shouldHashEntries, sequential);
+        createLargeJar(executor, shouldHashEntries, parallel);
+
+        assertArrayEquals(
+            Files.readAllBytes(sequential.toPath()), Files.readAllBytes(parallel.toPath()));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testEntriesAreDeflatedInlineWhenTheExecutorIsBusy() throws IOException {
+    File sequential = temporaryFolder.newFile();
+    File busy = temporaryFolder.newFile();
+    createLargeJar(null, false, sequential);
+    // An executor which never gets to the tasks it's given, like a build executor busy with other
+    // work, must not stall the writer.
+    createLargeJar(task -> {}, false, busy);
+
+    assertArrayEquals(Files.readAllBytes(sequential.toPath()), Files.readAllBytes(busy.toPath()));
+  }
+
+  @Test
+  public void testCopiesCompressedEntriesFromInputJars() throws IOException {
+    // Compressed faster than JarBuilder would, but ZipOutputStream does not record the level.
+    File input = temporaryFolder.newFile();
+    String contents = Strings.repeat("The quick brown fox jumps over the lazy dog. ", 1000);
+    try (JarOutputStream out = new JarOutputStream(new FileOutputStream(input))) {
+      out.setLevel(Deflater.BEST_SPEED);
+      out.putNextEntry(new ZipEntry("com/example/A.txt"));
+      out.write(contents.getBytes(StandardCharsets.UTF_8));
+      out.closeEntry();
+    }
+
+    File copied = temporaryFolder.newFile();
+    new JarBuilder()
+        .setEntriesToJar(ImmutableList.of(input.toPath()))
+        .setShouldCopyCompressedEntries(true)
+        .createJarFile(copied.toPath());
+    File recompressed = temporaryFolder.newFile();
+    new JarBuilder()
+        .setEntriesToJar(ImmutableList.of(input.toPath()))
+        .createJarFile(recompressed.toPath());
+
+    byte[] inputBytes = readRawEntry(input, "com/example/A.txt");
+    assertArrayEquals(inputBytes, readRawEntry(copied, "com/example/A.txt"));
+    assertThat(
+        readRawEntry(recompressed, "com/example/A.txt"),
+        Matchers.not(Matchers.equalTo(inputBytes)));
+    try (JarFile jarFile = new JarFile(copied)) {
+      assertEquals(
+          contents,
+          CharStreams.toString(
+              new InputStreamReader(
+                  jarFile.getInputStream(jarFile.getEntry("com/example/A.txt")),
+                  StandardCharsets.UTF_8)));
+    }
+  }
+
+  @Test
+  public void testDoesNotCopyEntriesCompressedAtADifferentLevel() throws IOException {
+    File input = temporaryFolder.newFile();
+    String contents = Strings.repeat("The quick brown fox jumps over the lazy dog. ", 1000);
+    try (CustomZipOutputStream out = ZipOutputStreams.newOutputStream(input.toPath())) {
+      CustomZipEntry entry = new CustomZipEntry("com/example/A.txt");
+      entry.setCompressionLevel(Deflater.BEST_SPEED);
+      out.putNextEntry(entry);
+      out.write(contents.getBytes(StandardCharsets.UTF_8));
+      out.closeEntry();
+    }
+
+    File copied = temporaryFolder.newFile();
+    new JarBuilder()
+        .setEntriesToJar(ImmutableList.of(input.toPath()))
+        .setShouldCopyCompressedEntries(true)
+        .createJarFile(copied.toPath());
+    File recompressed = temporaryFolder.newFile();
+    new JarBuilder()
+        .setEntriesToJar(ImmutableList.of(input.toPath()))
+        .createJarFile(recompressed.toPath());
+
+    assertArrayEquals(
+        Files.readAllBytes(recompressed.toPath()), Files.readAllBytes(copied.toPath()));
+  }
+
+  private static byte[] readRawEntry(File zip, String name) throws IOException {
+    try (org.apache.commons.compress.archivers.zip.ZipFile zipFile =
+            new org.apache.commons.compress.archivers.zip.ZipFile(zip);
+        InputStream raw = zipFile.getRawInputStream(zipFile.getEntry(name))) {
+      return ByteStreams.toByteArray(raw);
+    }
+  }
+
+  private void createLargeJar(
+      @Nullable Executor executor, boolean shouldHashEntries, File output) throws IOException {
+    JarBuilder jarBuilder =
+        new JarBuilder()
+            .setShouldHashEntries(shouldHashEntries)
+            .setMainClass("com.example.0.Entry0")
+            .setDeflateExecutor(executor);
+    for (int i = 0; i < 100; i++) {
+      StringBuilder contents = new StringBuilder();
+      for (int line = 0; line < i * 50; line++) {
+        contents.append("line ").append(line * i).append('\n');
+      }
+      addEntry(
+          jarBuilder,
+          String.format("com/example/%d/Entry%d.class", i % 7, i),
+          contents.toString());
+    }
+    byte[] storedContents = "stored".getBytes(StandardCharsets.UTF_8);
+    CustomZipEntry stored = new CustomZipEntry("com/example/stored.txt");
+    stored.setCompressionLevel(0);
+    stored.setSize(storedContents.length);
+    stored.setCompressedSize(storedContents.length);
+    stored.setCrc(Hashing.crc32().hashBytes(storedContents).padToLong());
+    jarBuilder.addEntry(
+        new JarEntrySupplier(stored, "owner", () -> new ByteArrayInputStream(storedContents)));
+    addEntry(jarBuilder, "META-INF/services/com.example.Service", "com.example.Impl");
+    jarBuilder.createJarFile(output.toPath());
+  }
+
   private static class TestJarEntryContainer implements JarEntryContainer {
     @Nullable private Manifest manifest;
     private final List<JarEntrySupplier> suppliers = new ArrayList<>();
@@ -128,7 +128,8 @@ public class Jsr199JavacIntegrationTest {
             createProjectFilesystem(),
             executionContext.getProjectFilesystemFactory(),
             executionContext.getEnvironment(),
-            executionContext.getProcessExecutor());
+            executionContext.getProcessExecutor(),
+            Optional.empty());
 
     int exitCode =
         javac
@@ -183,7 +184,8 @@ public class Jsr199JavacIntegrationTest {
             createProjectFilesystem(),
             executionContext.getProjectFilesystemFactory(),
             executionContext.getEnvironment(),
-            executionContext.getProcessExecutor());
+            executionContext.getProcessExecutor(),
+            Optional.empty());
 
     int exitCode =
         javac
@@ -290,7 +292,8 @@ public class Jsr199JavacIntegrationTest {
             createProjectFilesystem(),
             executionContext.getProjectFilesystemFactory(),
             executionContext.getEnvironment(),
-            executionContext.getProcessExecutor());
+            executionContext.getProcessExecutor(),
+            Optional.empty());
 
     boolean caught = false;
 
@@ -383,7 +386,8 @@ public class Jsr199JavacIntegrationTest {
             createProjectFilesystem(),
             executionContext.getProjectFilesystemFactory(),
             executionContext.getEnvironment(),
-            executionContext.getProcessExecutor());
+            executionContext.getProcessExecutor(),
+            Optional.empty());
 
     Invocation buildInvocation =
         javac.newBuildInvocation(
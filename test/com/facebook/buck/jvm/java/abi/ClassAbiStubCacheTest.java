@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java.abi;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarInputStream;
+import javax.annotation.Nullable;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+public class ClassAbiStubCacheTest {
+  @Rule public TemporaryPaths temp = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+  private Path classes;
+
+  @Before
+  public void setUp() throws IOException {
+    filesystem = TestProjectFilesystems.createProjectFilesystem(temp.getRoot());
+    classes = temp.newFolder("classes");
+  }
+
+  @Test
+  public void cachedStubsMatchFreshlyGeneratedOnes() throws IOException {
+    writeClass("com/example/A", "a");
+    writeClass("com/example/B", "b");
+    ClassAbiStubCache cache = new ClassAbiStubCache(1024 * 1024);
+
+    Map<String, byte[]> uncached = stub(null, "uncached.jar");
+    Map<String, byte[]> firstRun = stub(cache, "first.jar");
+    Map<String, byte[]> secondRun = stub(cache, "second.jar");
+
+    assertEquals(uncached.keySet(), firstRun.keySet());
+    assertEquals(uncached.keySet(), secondRun.keySet());
+    for (String name : uncached.keySet()) {
+      assertArrayEquals(uncached.get(name), firstRun.get(name));
+      assertArrayEquals(uncached.get(name), secondRun.get(name));
+    }
+  }
+
+  @Test
+  public void onlyChangedClassesAreStubbedAgain() throws IOException {
+    writeClass("com/example/A", "a");
+    writeClass("com/example/B", "b");
+    ClassAbiStubCache cache = new ClassAbiStubCache(1024 * 1024);
+
+    stub(cache, "first.jar");
+    assertEquals(2, cache.size());
+
+    writeClass("com/example/B", "renamed");
+    Map<String, byte[]> stubs = stub(cache, "second.jar");
+    assertEquals(3, cache.size());
+
+    // Cache hits are used as they are, so pretending B is left out of the ABI drops it.
+    cache.put(
+        ClassAbiStubCache.hashClass(Files.readAllBytes(classes.resolve("com/example/B.class"))),
+        AbiGenerationMode.CLASS,
+        new byte[0]);
+    assertEquals(stubs.keySet().size() - 1, stub(cache, "third.jar").size());
+  }
+
+  private Map<String, byte[]> stub(@Nullable ClassAbiStubCache cache, String jarName)
+      throws IOException {
+    Path jar = temp.getRoot().resolve(jarName);
+    new StubJar(classes).setStubCache(cache).writeTo(filesystem, jar);
+
+    Map<String, byte[]> entries = new TreeMap<>();
+    try (JarInputStream in = new JarInputStream(Files.newInputStream(jar))) {
+      for (JarEntry entry = in.getNextJarEntry(); entry != null; entry = in.getNextJarEntry()) {
+        entries.put(entry.getName(), ByteStreams.toByteArray(in));
+      }
+    }
+    return entries;
+  }
+
+  private void writeClass(String name, String methodName) throws IOException {
+    ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+    writer.visit(
+        Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, name, null, "java/lang/Object", null);
+    writer.visitField(Opcodes.ACC_PRIVATE, "hidden", "I", null, null).visitEnd();
+    MethodVisitor method =
+        writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, methodName, "()I", null, null);
+    method.visitCode();
+    method.visitInsn(Opcodes.ICONST_1);
+    method.visitInsn(Opcodes.IRETURN);
+    method.visitMaxs(0, 0);
+    method.visitEnd();
+    writer.visitEnd();
+
+    Path classFile = classes.resolve(name + ".class");
+    Files.createDirectories(classFile.getParent());
+    Files.write(classFile, writer.toByteArray());
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.kotlin;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableList;
+import java.net.URL;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class KotlincCompilerPoolTest {
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private final AtomicInteger compilersCreated = new AtomicInteger();
+  private final AtomicBoolean memoryPressure = new AtomicBoolean(false);
+  private KotlincCompilerPool pool;
+  private ImmutableList<URL> classPath;
+  private ImmutableList<URL> otherClassPath;
+
+  @Before
+  public void setUp() throws Exception {
+    pool =
+        new KotlincCompilerPool(
+            1,
+            classLoader -> {
+              compilersCreated.incrementAndGet();
+              return new FakeCompiler(classLoader);
+            },
+            memoryPressure::get);
+    classPath = ImmutableList.of(tmp.newFolder("kotlinc1").toUri().toURL());
+    otherClassPath = ImmutableList.of(tmp.newFolder("kotlinc2").toUri().toURL());
+  }
+
+  @Test
+  public void returnedCompilersAreReused() throws Exception {
+    Object first;
+    try (KotlincCompilerPool.Lease lease = pool.acquire(classPath, 1)) {
+      first = lease.getCompiler();
+    }
+    try (KotlincCompilerPool.Lease lease = pool.acquire(classPath, 1)) {
+      assertSame(first, lease.getCompiler());
+    }
+    assertEquals(1, compilersCreated.get());
+  }
+
+  @Test
+  public void concurrentLeasesGetTheirOwnCompilers() throws Exception {
+    try (KotlincCompilerPool.Lease first = pool.acquire(classPath, 2);
+        KotlincCompilerPool.Lease second = pool.acquire(classPath, 2)) {
+      assertNotSame(first.getCompiler(), second.getCompiler());
+    }
+    try (KotlincCompilerPool.Lease first = pool.acquire(classPath, 2);
+        KotlincCompilerPool.Lease second = pool.acquire(classPath, 2)) {
+      assertEquals(2, compilersCreated.get());
+    }
+  }
+
+  @Test
+  public void idleCompilersAreBounded() throws Exception {
+    try (KotlincCompilerPool.Lease first = pool.acquire(classPath, 1);
+        KotlincCompilerPool.Lease second = pool.acquire(classPath, 1)) {
+      assertEquals(2, compilersCreated.get());
+    }
+    try (KotlincCompilerPool.Lease first = pool.acquire(classPath, 1);
+        KotlincCompilerPool.Lease second = pool.acquire(classPath, 1)) {
+      assertEquals(3, compilersCreated.get());
+    }
+  }
+
+  @Test
+  public void idleCompilersAreDroppedUnderMemoryPressure() throws Exception {
+    memoryPressure.set(true);
+    pool.acquire(classPath, 1).close();
+    memoryPressure.set(false);
+    pool.acquire(classPath, 1).close();
+    assertEquals(2, compilersCreated.get());
+  }
+
+  @Test
+  public void evictedClassPathsAreUnloadedOnceIdle() throws Exception {
+    ClassLoader classLoader;
+    try (KotlincCompilerPool.Lease lease = pool.acquire(classPath, 1)) {
+      classLoader = getClassLoader(lease);
+      // Only one class path is kept, so this evicts the first one while it is in use.
+      pool.acquire(otherClassPath, 1).close();
+      assertSame(classLoader, getClassLoader(lease));
+    }
+
+    try (KotlincCompilerPool.Lease lease = pool.acquire(classPath, 1)) {
+      assertNotSame(classLoader, getClassLoader(lease));
+    }
+    assertEquals(3, compilersCreated.get());
+  }
+
+  @Test
+  public void keepEnvironmentPropertyIsOnlySetWhileLeasesAreOpen() throws Exception {
+    String property = "kotlin.environment.keepalive";
+    String previous = System.getProperty(property);
+    System.clearProperty(property);
+    try {
+      try (KotlincCompilerPool.Lease lease = pool.acquire(classPath, 1)) {
+        assertNull(System.getProperty(property));
+      }
+      KotlincCompilerPool.Lease first = pool.acquire(classPath, 2, true);
+      try (KotlincCompilerPool.Lease second = pool.acquire(classPath, 2, true)) {
+        assertEquals("true", System.getProperty(property));
+        first.close();
+        // Still needed by the second lease.
+        assertEquals("true", System.getProperty(property));
+      }
+      assertNull(System.getProperty(property));
+    } finally {
+      if (previous != null) {
+        System.setProperty(property, previous);
+      }
+    }
+  }
+
+  private static ClassLoader getClassLoader(KotlincCompilerPool.Lease lease) {
+    return ((FakeCompiler) lease.getCompiler()).classLoader;
+  }
+
+  private static class FakeCompiler {
+    private final ClassLoader classLoader;
+
+    private FakeCompiler(ClassLoader classLoader) {
+      this.classLoader = classLoader;
+    }
+  }
+}
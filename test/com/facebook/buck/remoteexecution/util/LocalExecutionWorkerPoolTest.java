@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.remoteexecution.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeFalse;
+
+import com.facebook.buck.event.BuckEventBusForTests;
+import com.facebook.buck.remoteexecution.UploadDataSupplier;
+import com.facebook.buck.remoteexecution.grpc.GrpcProtocol;
+import com.facebook.buck.remoteexecution.interfaces.Protocol;
+import com.facebook.buck.remoteexecution.interfaces.Protocol.Digest;
+import com.facebook.buck.remoteexecution.proto.WorkerRequirements;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.facebook.buck.util.environment.Platform;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class LocalExecutionWorkerPoolTest {
+  @Rule public TemporaryPaths temporaryPaths = new TemporaryPaths();
+
+  private final Protocol protocol = new GrpcProtocol();
+  private LocalContentAddressedStorage storage;
+  private Path workDir;
+
+  @Before
+  public void setUp() throws Exception {
+    assumeFalse(Platform.detect() == Platform.WINDOWS);
+    Path cacheDir = temporaryPaths.newFolder("cache");
+    workDir = temporaryPaths.newFolder("work");
+    storage =
+        new LocalContentAddressedStorage(cacheDir, protocol, BuckEventBusForTests.newInstance());
+  }
+
+  @Test
+  public void runsActionsConcurrentlyInSeparateSandboxes() throws Exception {
+    int workerCount = 4;
+    try (LocalExecutionWorkerPool pool =
+        new LocalExecutionWorkerPool(
+            storage, workDir, protocol, BuckEventBusForTests.newInstance(), workerCount)) {
+      List<ListenableFuture<ActionRunner.ActionResult>> results = new ArrayList<>();
+      for (int i = 0; i < 2 * workerCount; i++) {
+        results.add(pool.execute(uploadAction("echo " + i)));
+      }
+
+      List<ActionRunner.ActionResult> actionResults = Futures.allAsList(results).get();
+      for (int i = 0; i < actionResults.size(); i++) {
+        assertEquals(0, actionResults.get(i).exitCode);
+        assertEquals(i + "\n", actionResults.get(i).stdout);
+      }
+
+      LocalExecutionWorkerPool.Stats stats = pool.getStats();
+      assertEquals(workerCount, stats.workerCount);
+      assertEquals(0, stats.queuedActions);
+      assertEquals(0, stats.runningActions);
+      assertEquals(2 * workerCount, stats.completedActions);
+      assertEquals(0, stats.failedActions);
+    }
+
+    // All sandboxes are cleaned up after execution.
+    try (Stream<Path> children = Files.list(workDir)) {
+      assertEquals(0, children.count());
+    }
+  }
+
+  @Test
+  public void runsActionsAtTheSameTime() throws Exception {
+    // Each action marks itself as started and then waits for all of the others to start too, so
+    // with fewer workers than actions they would time out waiting for each other.
+    int workerCount = 3;
+    Path barrier = temporaryPaths.newFolder("barrier");
+    try (LocalExecutionWorkerPool pool =
+        new LocalExecutionWorkerPool(
+            storage, workDir, protocol, BuckEventBusForTests.newInstance(), workerCount)) {
+      List<ListenableFuture<ActionRunner.ActionResult>> results = new ArrayList<>();
+      for (int i = 0; i < workerCount; i++) {
+        results.add(
+            pool.execute(
+                uploadAction(
+                    String.format(
+                        "touch '%1$s/%2$d'; n=0; "
+                            + "while [ $(ls '%1$s' | wc -l) -lt %3$d ] && [ $n -lt 300 ]; do "
+                            + "sleep 0.1; n=$((n+1)); done; "
+                            + "[ $(ls '%1$s' | wc -l) -ge %3$d ] && echo %2$d",
+                        barrier, i, workerCount))));
+      }
+
+      List<ActionRunner.ActionResult> actionResults = Futures.allAsList(results).get();
+      for (int i = 0; i < actionResults.size(); i++) {
+        assertEquals(0, actionResults.get(i).exitCode);
+        assertEquals(i + "\n", actionResults.get(i).stdout);
+      }
+    }
+  }
+
+  @Test
+  public void countsFailedActions() throws Exception {
+    try (LocalExecutionWorkerPool pool =
+        new LocalExecutionWorkerPool(
+            storage, workDir, protocol, BuckEventBusForTests.newInstance(), 1)) {
+      Digest missingAction = protocol.computeDigest("missing".getBytes(Charsets.UTF_8));
+      try {
+        pool.execute(missingAction).get();
+        fail("Executing an action which isn't in the storage should fail.");
+      } catch (ExecutionException e) {
+        // expected
+      }
+      assertEquals(1, pool.getStats().failedActions);
+      assertEquals(0, pool.getStats().completedActions);
+    }
+  }
+
+  private Digest uploadAction(String script) throws Exception {
+    Protocol.Command command =
+        protocol.newCommand(
+            ImmutableList.of("/bin/sh", "-c", script),
+            ImmutableSortedMap.of(),
+            ImmutableSet.of(),
+            WorkerRequirements.getDefaultInstance());
+    byte[] commandData = protocol.toByteArray(command);
+    Digest commandDigest = protocol.computeDigest(commandData);
+
+    Protocol.Directory root =
+        protocol.newDirectory(ImmutableList.of(), ImmutableList.of(), ImmutableList.of());
+    byte[] rootData = protocol.toByteArray(root);
+    Digest rootDigest = protocol.computeDigest(rootData);
+
+    byte[] actionData = protocol.toByteArray(protocol.newAction(commandDigest, rootDigest));
+    Digest actionDigest = protocol.computeDigest(actionData);
+
+    storage
+        .addMissing(
+            ImmutableList.of(
+                UploadDataSupplier.of(
+                    "command", commandDigest, () -> new ByteArrayInputStream(commandData)),
+                UploadDataSupplier.of(
+                    "root", rootDigest, () -> new ByteArrayInputStream(rootData)),
+                UploadDataSupplier.of(
+                    "action", actionDigest, () -> new ByteArrayInputStream(actionData))))
+        .get();
+    return actionDigest;
+  }
+}
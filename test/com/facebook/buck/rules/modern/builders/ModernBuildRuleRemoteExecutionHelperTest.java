@@ -16,6 +16,7 @@
 
 package com.facebook.buck.rules.modern.builders;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -30,14 +31,19 @@ import com.facebook.buck.core.rulekey.AddToRuleKey;
 import com.facebook.buck.core.rulekey.CustomFieldBehavior;
 import com.facebook.buck.core.rules.BuildRule;
 import com.facebook.buck.core.rules.SourcePathRuleFinder;
+import com.facebook.buck.core.rules.attr.SupportsPrunedRemoteInputs;
+import com.facebook.buck.core.rules.attr.SupportsPrunedRemoteInputs.PrunedInputs;
 import com.facebook.buck.core.rules.impl.AbstractBuildRuleResolver;
 import com.facebook.buck.core.rules.modern.annotations.CustomClassBehavior;
+import com.facebook.buck.core.sourcepath.PathSourcePath;
 import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.event.DefaultBuckEventBus;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
 import com.facebook.buck.remoteexecution.grpc.GrpcProtocol;
+import com.facebook.buck.remoteexecution.proto.WorkerRequirements;
 import com.facebook.buck.rules.modern.BuildCellRelativePathFactory;
 import com.facebook.buck.rules.modern.Buildable;
 import com.facebook.buck.rules.modern.ModernBuildRule;
@@ -52,7 +58,10 @@ import com.google.common.base.Verify;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.hash.HashCode;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Optional;
 import org.junit.Before;
 import org.junit.Rule;
@@ -212,4 +221,91 @@ public class ModernBuildRuleRemoteExecutionHelperTest {
   public void testBadCustomClassSerialization() {
     assertFalse(mbrHelper.supportsRemoteExecution(wrapAsRule(new CustomClassSerialization(1))));
   }
+
+  private static class PrunedRule extends ModernBuildRule<GoodBuildable>
+      implements SupportsPrunedRemoteInputs {
+    private final PrunedInputs prunedInputs;
+
+    PrunedRule(
+        ProjectFilesystem filesystem,
+        SourcePathRuleFinder ruleFinder,
+        GoodBuildable buildable,
+        PrunedInputs prunedInputs) {
+      super(BuildTargetFactory.newInstance("//:pruned"), filesystem, ruleFinder, buildable);
+      this.prunedInputs = prunedInputs;
+    }
+
+    @Override
+    public Optional<PrunedInputs> getPrunedRemoteInputs(SourcePathResolverAdapter pathResolver) {
+      return Optional.of(prunedInputs);
+    }
+  }
+
+  @Test
+  public void testPrunedInputs() throws IOException {
+    Path headers = tmp.newFolder("headers");
+    Files.write(headers.resolve("used.h"), new byte[10]);
+    Files.write(headers.resolve("unused.h"), new byte[1000]);
+    Files.write(tmp.getRoot().resolve("source.c"), new byte[100]);
+
+    GoodBuildable buildable = new GoodBuildable();
+    buildable.paths =
+        ImmutableList.of(
+            PathSourcePath.of(filesystem, Paths.get("headers")),
+            PathSourcePath.of(filesystem, Paths.get("source.c")));
+    PrunedRule rule =
+        new PrunedRule(
+            filesystem,
+            ruleFinder,
+            buildable,
+            new PrunedInputs(ImmutableSet.of(headers), ImmutableSet.of(headers.resolve("used.h"))));
+
+    ModernBuildRuleRemoteExecutionHelper pruningHelper =
+        new ModernBuildRuleRemoteExecutionHelper(
+            new DefaultBuckEventBus(FakeClock.doNotCare(), new BuildId("dontcare")),
+            new GrpcProtocol(),
+            ruleFinder,
+            new TestCellBuilder().setFilesystem(filesystem).build().getRootCell(),
+            new ConstantFileHashCache(),
+            ImmutableSet.of(),
+            /* pruneInputs */ true);
+
+    long allInputsSize = getTotalInputSize(mbrHelper, rule);
+    long prunedInputsSize = getTotalInputSize(pruningHelper, rule);
+    assertEquals(1000, allInputsSize - prunedInputsSize);
+  }
+
+  private static class ConstantFileHashCache implements FileHashCache {
+    @Override
+    public HashCode get(Path path) {
+      return HashCode.fromInt(0);
+    }
+
+    @Override
+    public long getSize(Path path) {
+      return 0;
+    }
+
+    @Override
+    public HashCode getForArchiveMember(Path relativeArchivePath, Path memberPath) {
+      return HashCode.fromInt(0);
+    }
+
+    @Override
+    public void invalidate(Path path) {}
+
+    @Override
+    public void invalidateAll() {}
+
+    @Override
+    public void set(Path path, HashCode hashCode) {}
+  }
+
+  private static long getTotalInputSize(
+      ModernBuildRuleRemoteExecutionHelper helper, ModernBuildRule<?> rule) throws IOException {
+    return helper
+        .prepareRemoteExecution(
+            rule, (digest, name) -> true, WorkerRequirements.getDefaultInstance())
+        .getTotalInputSize();
+  }
 }
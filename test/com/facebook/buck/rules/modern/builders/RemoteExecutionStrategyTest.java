@@ -348,6 +348,11 @@ public class RemoteExecutionStrategyTest {
     public ImmutableSet<PathMatcher> getIgnorePaths() {
       return ImmutableSet.of();
     }
+
+    @Override
+    public boolean shouldPruneInputs() {
+      return false;
+    }
   }
 
   private class TestRemoteExecutionHelper implements RemoteExecutionHelper {
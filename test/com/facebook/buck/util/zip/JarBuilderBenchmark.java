@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.util.zip;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures how {@link JarBuilder} scales with the number of threads of the executor it deflates
+ * entries on. A parallelism of 1 deflates them on the writing thread.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JarBuilderBenchmark {
+  @Param({"1", "2", "4", "8"})
+  private int parallelism;
+
+  @Param({"2000"})
+  private int entryCount;
+
+  @Param({"16384"})
+  private int entrySize;
+
+  private byte[][] contents;
+  private Path output;
+  @Nullable private ExecutorService executor;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    // Half random, half repetitive bytes so entries are neither incompressible nor trivial.
+    Random random = new Random(0);
+    contents = new byte[entryCount][];
+    for (int i = 0; i < entryCount; i++) {
+      byte[] bytes = new byte[entrySize];
+      random.nextBytes(bytes);
+      for (int j = entrySize / 2; j < entrySize; j++) {
+        bytes[j] = (byte) (j % 31);
+      }
+      contents[i] = bytes;
+    }
+    output = Files.createTempFile("jar-builder-benchmark", ".jar");
+    executor = parallelism > 1 ? Executors.newFixedThreadPool(parallelism) : null;
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+    Files.deleteIfExists(output);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int createJarFile() throws IOException {
+    JarBuilder jarBuilder = new JarBuilder().setDeflateExecutor(executor);
+    for (int i = 0; i < entryCount; i++) {
+      byte[] bytes = contents[i];
+      jarBuilder.addEntry(
+          new JarEntrySupplier(
+              new CustomZipEntry(String.format("com/example/%d/Entry%d.class", i % 50, i)),
+              "benchmark",
+              () -> new ByteArrayInputStream(bytes)));
+    }
+    return jarBuilder.createJarFile(output);
+  }
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    Main.main(new String[] {JarBuilderBenchmark.class.getName()});
+  }
+}
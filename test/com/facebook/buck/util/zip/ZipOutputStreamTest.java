@@ -39,6 +39,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.hash.Hashing;
 import com.google.common.io.ByteStreams;
 import com.google.common.io.Resources;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -126,6 +127,31 @@ public class ZipOutputStreamTest {
       assertArrayEquals(expected, seen);
     }
 
+    @Test
+    public void deflatedEntriesAreWrittenLikeAnyOtherEntry() throws IOException {
+      String packageName = getClass().getPackage().getName().replace('.', '/');
+      URL sample = Resources.getResource(packageName + "/macbeth.dat");
+      byte[] contents = Resources.toByteArray(sample);
+      File reference = File.createTempFile("reference", ".zip");
+
+      try (CustomZipOutputStream out = ZipOutputStreams.newOutputStream(output, mode);
+          CustomZipOutputStream ref =
+              ZipOutputStreams.newOutputStream(reference.toPath(), mode)) {
+        ZipEntry entry = new ZipEntry("macbeth.txt");
+        entry.setTime(System.currentTimeMillis());
+        out.writeDeflatedEntry(
+            DeflatedZipEntry.deflate(
+                entry, new ByteArrayInputStream(contents), /* hashContents */ false));
+        ref.putNextEntry(entry);
+        ref.write(contents);
+      }
+
+      assertArrayEquals(Files.readAllBytes(reference.toPath()), Files.readAllBytes(output));
+      try (ZipArchive zipArchive = new ZipArchive(output, /* forWriting */ false)) {
+        assertArrayEquals(contents, zipArchive.readFully("macbeth.txt"));
+      }
+    }
+
     @Test
     public void shouldBeAbleToAddTwoZeroLengthFiles() throws IOException {
       File reference = File.createTempFile("reference", ".zip");
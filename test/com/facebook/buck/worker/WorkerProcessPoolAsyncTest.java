@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.worker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
+import com.facebook.buck.util.FakeProcessExecutor;
+import com.facebook.buck.util.ProcessExecutorParams;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashCode;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import org.junit.Test;
+
+public class WorkerProcessPoolAsyncTest {
+
+  @Test
+  public void workersWithoutDeclaredLimitServeWholePool() throws Exception {
+    List<MultiplexedWorkerProcess> started = new ArrayList<>();
+    try (WorkerProcessPoolAsync pool = createPool(4, OptionalInt.empty(), started)) {
+      for (int i = 0; i < 4; i++) {
+        pool.submitJob("job");
+      }
+      assertEquals(1, pool.getWorkerProcessCount());
+      assertEquals(4, started.get(0).jobs.size());
+    }
+  }
+
+  @Test
+  public void jobsAreSpreadByPerWorkerCapacity() throws Exception {
+    List<MultiplexedWorkerProcess> started = new ArrayList<>();
+    try (WorkerProcessPoolAsync pool = createPool(6, OptionalInt.of(2), started)) {
+      for (int i = 0; i < 6; i++) {
+        pool.submitJob("job");
+      }
+      assertEquals(3, pool.getWorkerProcessCount());
+      for (MultiplexedWorkerProcess workerProcess : started) {
+        assertEquals(2, workerProcess.jobs.size());
+      }
+
+      // Finishing a job frees capacity on its worker instead of starting a new one.
+      started.get(1).jobs.get(0).set(WorkerJobResult.of(0, Optional.empty(), Optional.empty()));
+      pool.submitJob("job");
+      assertEquals(3, pool.getWorkerProcessCount());
+      assertEquals(3, started.get(1).jobs.size());
+    }
+  }
+
+  @Test
+  public void deadWorkersAreClosedBeforeBeingReplaced() throws Exception {
+    List<MultiplexedWorkerProcess> started = new ArrayList<>();
+    try (WorkerProcessPoolAsync pool = createPool(4, OptionalInt.empty(), started)) {
+      pool.submitJob("job");
+      started.get(0).alive = false;
+      pool.submitJob("job");
+      assertEquals(2, started.size());
+      assertEquals(1, pool.getWorkerProcessCount());
+      assertTrue(started.get(0).closed);
+    }
+  }
+
+  private static WorkerProcessPoolAsync createPool(
+      int maxRequests, OptionalInt maxConcurrentJobs, List<MultiplexedWorkerProcess> started) {
+    return new WorkerProcessPoolAsync(
+        maxRequests,
+        HashCode.fromInt(0),
+        () -> {
+          MultiplexedWorkerProcess workerProcess = new MultiplexedWorkerProcess(maxConcurrentJobs);
+          started.add(workerProcess);
+          return workerProcess;
+        });
+  }
+
+  private static class MultiplexedWorkerProcess extends WorkerProcess {
+    private final OptionalInt maxConcurrentJobs;
+    private final List<SettableFuture<WorkerJobResult>> jobs = new ArrayList<>();
+    private boolean alive = true;
+    private boolean closed = false;
+
+    MultiplexedWorkerProcess(OptionalInt maxConcurrentJobs) {
+      super(
+          new FakeProcessExecutor(),
+          ProcessExecutorParams.builder().setCommand(ImmutableList.of()).build(),
+          new FakeProjectFilesystem(),
+          Paths.get("stderr"),
+          Paths.get("tmp").toAbsolutePath().normalize(),
+          true);
+      this.maxConcurrentJobs = maxConcurrentJobs;
+    }
+
+    @Override
+    public boolean isAlive() {
+      return alive;
+    }
+
+    @Override
+    public synchronized OptionalInt getMaxConcurrentJobs() {
+      return maxConcurrentJobs;
+    }
+
+    @Override
+    public synchronized ListenableFuture<WorkerJobResult> submitJob(String jobArgs) {
+      SettableFuture<WorkerJobResult> job = SettableFuture.create();
+      jobs.add(job);
+      return job;
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.worker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import com.facebook.buck.core.exceptions.HumanReadableException;
+import com.facebook.buck.testutil.TemporaryPaths;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.OptionalInt;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+@SuppressWarnings("resource") // Closing alters the test data.
+public class WorkerProcessProtocolOneTest {
+
+  @Rule public TemporaryPaths temporaryPaths = new TemporaryPaths();
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void testSendHandshake() throws IOException {
+    ByteArrayOutputStream jsonSentToWorkerProcess = new ByteArrayOutputStream();
+    WorkerProcessProtocol.CommandSender protocol =
+        createProtocol(jsonSentToWorkerProcess, handshakeResponse(123, "1", ""));
+
+    protocol.handshake(123);
+    assertThat(
+        jsonSentToWorkerProcess.toString(),
+        Matchers.containsString(
+            "[{\"id\":123,\"type\":\"handshake\",\"protocol_version\":\"1\","
+                + "\"capabilities\":[\"multiplexing\"]}"));
+  }
+
+  @Test
+  public void testReceiveHandshakeWithMaxConcurrentJobs() throws IOException {
+    WorkerProcessProtocol.CommandSender protocol =
+        createProtocol(
+            new ByteArrayOutputStream(), handshakeResponse(123, "1", ",\"max_concurrent_jobs\":4"));
+
+    protocol.handshake(123);
+    assertEquals(OptionalInt.of(4), protocol.getMaxConcurrentCommands());
+  }
+
+  @Test
+  public void testReceiveHandshakeWithoutMaxConcurrentJobs() throws IOException {
+    WorkerProcessProtocol.CommandSender protocol =
+        createProtocol(new ByteArrayOutputStream(), handshakeResponse(123, "1", ""));
+
+    protocol.handshake(123);
+    assertEquals(OptionalInt.empty(), protocol.getMaxConcurrentCommands());
+  }
+
+  @Test
+  public void testVersionZeroWorkersAreAccepted() throws IOException {
+    WorkerProcessProtocol.CommandSender protocol =
+        createProtocol(
+            new ByteArrayOutputStream(), handshakeResponse(123, "0", ",\"max_concurrent_jobs\":4"));
+
+    protocol.handshake(123);
+    assertEquals(OptionalInt.empty(), protocol.getMaxConcurrentCommands());
+  }
+
+  @Test
+  public void testReceiveHandshakeWithUnknownVersion() throws IOException {
+    expectedException.expect(HumanReadableException.class);
+    expectedException.expectMessage(
+        "Expected handshake response's \"protocol_version\" to be one of [\"0\",\"1\"], "
+            + "got \"2\" instead.");
+
+    createProtocol(new ByteArrayOutputStream(), handshakeResponse(123, "2", "")).handshake(123);
+  }
+
+  @Test
+  public void testResponsesAreMatchedById() throws IOException {
+    WorkerProcessProtocol.CommandSender protocol =
+        createProtocol(
+            new ByteArrayOutputStream(),
+            inputStream(
+                "[{\"id\":0,\"type\":\"handshake\",\"protocol_version\":\"1\"}"
+                    + ",{\"id\":2,\"type\":\"result\",\"exit_code\":0}"
+                    + ",{\"id\":1,\"type\":\"result\",\"exit_code\":3}"));
+
+    protocol.handshake(0);
+    WorkerProcessProtocol.CommandResponse first = protocol.receiveNextCommandResponse();
+    WorkerProcessProtocol.CommandResponse second = protocol.receiveNextCommandResponse();
+    assertEquals(2, first.getCommandId());
+    assertEquals(0, first.getExitCode());
+    assertEquals(1, second.getCommandId());
+    assertEquals(3, second.getExitCode());
+  }
+
+  private WorkerProcessProtocol.CommandSender createProtocol(
+      ByteArrayOutputStream stdin, InputStream stdout) throws IOException {
+    Path stdErr = temporaryPaths.newFile();
+    return new WorkerProcessProtocolOne.CommandSender(stdin, stdout, stdErr, () -> {}, () -> true);
+  }
+
+  private static InputStream handshakeResponse(int id, String version, String extra) {
+    return inputStream(
+        String.format(
+            "[{\"id\":%d,\"type\":\"handshake\",\"protocol_version\":\"%s\","
+                + "\"capabilities\":[\"multiplexing\"]%s}",
+            id, version, extra));
+  }
+
+  private static InputStream inputStream(String s) {
+    return new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8));
+  }
+}